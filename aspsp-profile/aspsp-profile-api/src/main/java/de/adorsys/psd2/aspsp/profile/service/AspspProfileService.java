@@ -43,4 +43,13 @@ public interface AspspProfileService {
     List<ScaApproach> getScaApproaches(String instanceId);
 
     boolean isMultitenancyEnabled();
+
+    /**
+     * Reads version of ASPSP profile settings, which is changed each time the settings of any instance are modified
+     * (i.e. by profile reloading or profile update). The version is calculated from the content of the settings, so
+     * it is the same for equal settings in all instances of ASPSP profile.
+     *
+     * @return current version of the settings
+     */
+    long getProfileVersion();
 }
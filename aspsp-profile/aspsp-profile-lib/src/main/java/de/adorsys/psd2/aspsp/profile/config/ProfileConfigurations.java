@@ -20,20 +20,41 @@ package de.adorsys.psd2.aspsp.profile.config;
 
 import de.adorsys.psd2.aspsp.profile.exception.AspspProfileConfigurationNotFoundException;
 import de.adorsys.psd2.aspsp.profile.exception.InstanceIdIsMandatoryHeaderException;
-import lombok.AllArgsConstructor;
-import lombok.Data;
+import lombok.*;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.InitializingBean;
+import org.yaml.snakeyaml.DumperOptions;
+import org.yaml.snakeyaml.Yaml;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Data
 @AllArgsConstructor
 public class ProfileConfigurations implements InitializingBean {
+    private static final String VERSION_DIGEST_ALGORITHM = "SHA-256";
+
     private boolean multitenancyEnabled;
     private ProfileConfiguration singleConfiguration;
     private Map<String, ProfileConfiguration> instanceConfigurations;
 
+    @Getter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private final AtomicLong version = new AtomicLong();
+    @Getter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private final AtomicInteger settingsHash = new AtomicInteger();
+
     @Override
     public void afterPropertiesSet() {
         setDefaultProperties();
@@ -62,4 +83,42 @@ public class ProfileConfigurations implements InitializingBean {
         instanceConfigurations.clear();
         instanceConfigurations.putAll(newProfileConfiguration.getInstanceConfigurations());
     }
+
+    /**
+     * Returns version of the settings, which is calculated as a hash of the serialized content of all configurations.
+     * Therefore the version is the same for equal settings in all instances of the profile and after restart.
+     * As settings may be modified in place, the content is serialized again only if hash codes of configurations
+     * were changed.
+     *
+     * @return current version of the settings
+     */
+    public synchronized long getVersion() {
+        int currentSettingsHash = Objects.hash(multitenancyEnabled, singleConfiguration, instanceConfigurations);
+        if (version.get() == 0 || currentSettingsHash != settingsHash.get()) {
+            settingsHash.set(currentSettingsHash);
+            version.set(calculateContentHash());
+        }
+        return version.get();
+    }
+
+    private long calculateContentHash() {
+        Map<String, Object> content = new LinkedHashMap<>();
+        content.put("multitenancyEnabled", multitenancyEnabled);
+        content.put("singleConfiguration", singleConfiguration);
+        content.put("instanceConfigurations", new TreeMap<>(instanceConfigurations));
+
+        DumperOptions options = new DumperOptions();
+        options.setDefaultFlowStyle(DumperOptions.FlowStyle.FLOW);
+        String serializedContent = new Yaml(options).dump(content);
+
+        try {
+            byte[] digest = MessageDigest.getInstance(VERSION_DIGEST_ALGORITHM)
+                                .digest(serializedContent.getBytes(StandardCharsets.UTF_8));
+            // Zero is reserved for the unknown version
+            long contentHash = ByteBuffer.wrap(digest).getLong() & Long.MAX_VALUE;
+            return contentHash == 0 ? 1 : contentHash;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Digest algorithm " + VERSION_DIGEST_ALGORITHM + " is not available", e);
+        }
+    }
 }
@@ -133,4 +133,9 @@ public class AspspProfileServiceImpl implements AspspProfileService {
     public boolean isMultitenancyEnabled() {
         return profileConfigurations.isMultitenancyEnabled();
     }
+
+    @Override
+    public long getProfileVersion() {
+        return profileConfigurations.getVersion();
+    }
 }
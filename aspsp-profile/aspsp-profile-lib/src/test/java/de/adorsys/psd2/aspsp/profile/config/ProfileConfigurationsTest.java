@@ -0,0 +1,112 @@
+/*
+ * Copyright 2018-2024 adorsys GmbH & Co KG
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ *
+ * This project is also available under a separate commercial license. You can
+ * contact us at sales@adorsys.com.
+ */
+
+package de.adorsys.psd2.aspsp.profile.config;
+
+import de.adorsys.psd2.aspsp.profile.domain.common.CommonAspspProfileBankSetting;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class ProfileConfigurationsTest {
+
+    @Test
+    void getVersion_notChanged_sameVersion() {
+        // Given
+        ProfileConfigurations profileConfigurations = new ProfileConfigurations(false, buildProfileConfiguration(), new HashMap<>());
+
+        // When
+        long firstVersion = profileConfigurations.getVersion();
+        long secondVersion = profileConfigurations.getVersion();
+
+        // Then
+        assertEquals(firstVersion, secondVersion);
+    }
+
+    @Test
+    void getVersion_modifiedInPlace_versionChanged() {
+        // Given
+        ProfileConfigurations profileConfigurations = new ProfileConfigurations(false, buildProfileConfiguration(), new HashMap<>());
+        long initialVersion = profileConfigurations.getVersion();
+
+        // When
+        profileConfigurations.getSetting(null).getCommon().setTppSignatureRequired(true);
+
+        // Then
+        assertNotEquals(initialVersion, profileConfigurations.getVersion());
+    }
+
+    @Test
+    void getVersion_equalSettingsInDifferentInstances_sameVersion() {
+        // Given
+        Map<String, ProfileConfiguration> firstInstanceConfigurations = new HashMap<>();
+        firstInstanceConfigurations.put("bank1", buildProfileConfiguration());
+        firstInstanceConfigurations.put("bank2", buildProfileConfiguration());
+        ProfileConfigurations firstProfileConfigurations = new ProfileConfigurations(true, buildProfileConfiguration(), firstInstanceConfigurations);
+
+        Map<String, ProfileConfiguration> secondInstanceConfigurations = new HashMap<>();
+        secondInstanceConfigurations.put("bank2", buildProfileConfiguration());
+        secondInstanceConfigurations.put("bank1", buildProfileConfiguration());
+        ProfileConfigurations secondProfileConfigurations = new ProfileConfigurations(true, buildProfileConfiguration(), secondInstanceConfigurations);
+
+        // When
+        long firstVersion = firstProfileConfigurations.getVersion();
+        long secondVersion = secondProfileConfigurations.getVersion();
+
+        // Then
+        assertEquals(firstVersion, secondVersion);
+    }
+
+    @Test
+    void getVersion_modifiedAndReverted_initialVersion() {
+        // Given
+        ProfileConfigurations profileConfigurations = new ProfileConfigurations(false, buildProfileConfiguration(), new HashMap<>());
+        long initialVersion = profileConfigurations.getVersion();
+        profileConfigurations.getSetting(null).getCommon().setTppSignatureRequired(true);
+        profileConfigurations.getVersion();
+
+        // When
+        profileConfigurations.getSetting(null).getCommon().setTppSignatureRequired(false);
+
+        // Then
+        assertEquals(initialVersion, profileConfigurations.getVersion());
+    }
+
+    @Test
+    void getVersion_updatedWithEqualSettings_sameVersion() {
+        // Given
+        ProfileConfigurations profileConfigurations = new ProfileConfigurations(false, buildProfileConfiguration(), new HashMap<>());
+        long initialVersion = profileConfigurations.getVersion();
+
+        // When
+        profileConfigurations.updateSettings(new ProfileConfigurations(false, buildProfileConfiguration(), new HashMap<>()));
+
+        // Then
+        assertEquals(initialVersion, profileConfigurations.getVersion());
+    }
+
+    private ProfileConfiguration buildProfileConfiguration() {
+        ProfileConfiguration profileConfiguration = new ProfileConfiguration();
+        profileConfiguration.setSetting(new BankProfileSetting(null, null, null, null, new CommonAspspProfileBankSetting()));
+        return profileConfiguration;
+    }
+}
@@ -48,4 +48,13 @@ public class AspspProfileRemoteUrls {
     public String isMultitenancyEnabled() {
         return aspspProfileBaseUrl + "/aspsp-profile/multitenancy/enabled";
     }
+
+    /**
+     * Returns URL-string in order to get version of ASPSP profile settings
+     *
+     * @return String
+     */
+    public String getProfileVersion() {
+        return aspspProfileBaseUrl + "/aspsp-profile/version";
+    }
 }
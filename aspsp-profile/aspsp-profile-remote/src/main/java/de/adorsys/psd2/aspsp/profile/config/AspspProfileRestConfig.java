@@ -17,13 +17,16 @@
  */
 package de.adorsys.psd2.aspsp.profile.config;
 
+import de.adorsys.psd2.http.client.ClientHttpRequestFactories;
+import de.adorsys.psd2.http.client.ConnectionPoolMonitor;
+import de.adorsys.psd2.http.client.HttpClientSettings;
 import de.adorsys.psd2.logger.web.LoggingContextInterceptor;
 import lombok.RequiredArgsConstructor;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.client.ClientHttpRequestFactory;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.http.converter.xml.MappingJackson2XmlHttpMessageConverter;
 import org.springframework.web.client.RestTemplate;
 
@@ -37,19 +40,54 @@ public class AspspProfileRestConfig {
     @Value("${http-client.connection-timeout.ms:10000}")
     private int connectionTimeout;
 
+    @Value("${http-client.connection-pool.enabled:false}")
+    private boolean connectionPoolEnabled;
+    @Value("${http-client.connection-pool.max-total:100}")
+    private int connectionPoolMaxTotal;
+    @Value("${http-client.connection-pool.max-per-route:50}")
+    private int connectionPoolMaxPerRoute;
+    @Value("${http-client.connection-pool.idle-timeout.ms:30000}")
+    private long connectionPoolIdleTimeout;
+    @Value("${http-client.connection-pool.connection-request-timeout.ms:1000}")
+    private int connectionRequestTimeout;
+    @Value("${http-client.connection-pool.stats-interval.ms:60000}")
+    private long connectionPoolStatsInterval;
+
     @Bean(name = "aspspProfileRestTemplate")
     public RestTemplate aspspProfileRestTemplate() {
-        RestTemplate rest = new RestTemplate(clientHttpRequestFactory());
+        RestTemplate rest = new RestTemplate(aspspProfileClientHttpRequestFactory());
         rest.getMessageConverters().removeIf(m -> m.getClass().isAssignableFrom(MappingJackson2XmlHttpMessageConverter.class));
         rest.setErrorHandler(new AspspProfileRestErrorHandler());
         rest.getInterceptors().add(loggingContextInterceptor);
         return rest;
     }
 
-    private ClientHttpRequestFactory clientHttpRequestFactory() {
-        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
-        factory.setReadTimeout(readTimeout);
-        factory.setConnectTimeout(connectionTimeout);
-        return factory;
+    @Bean
+    public ClientHttpRequestFactory aspspProfileClientHttpRequestFactory() {
+        return ClientHttpRequestFactories.createRequestFactory(aspspProfileHttpClientSettings(), aspspProfileConnectionManager());
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public PoolingHttpClientConnectionManager aspspProfileConnectionManager() {
+        return ClientHttpRequestFactories.createConnectionManager(aspspProfileHttpClientSettings());
+    }
+
+    @Bean(destroyMethod = "close")
+    public ConnectionPoolMonitor aspspProfileConnectionPoolMonitor() {
+        return new ConnectionPoolMonitor(aspspProfileHttpClientSettings(), aspspProfileConnectionManager());
+    }
+
+    private HttpClientSettings aspspProfileHttpClientSettings() {
+        return HttpClientSettings.builder()
+                   .name("ASPSP profile")
+                   .readTimeoutMs(readTimeout)
+                   .connectionTimeoutMs(connectionTimeout)
+                   .connectionPoolEnabled(connectionPoolEnabled)
+                   .connectionPoolMaxTotal(connectionPoolMaxTotal)
+                   .connectionPoolMaxPerRoute(connectionPoolMaxPerRoute)
+                   .connectionPoolIdleTimeoutMs(connectionPoolIdleTimeout)
+                   .connectionRequestTimeoutMs(connectionRequestTimeout)
+                   .connectionPoolStatsIntervalMs(connectionPoolStatsInterval)
+                   .build();
     }
 }
@@ -62,4 +62,10 @@ public class AspspProfileServiceRemote implements AspspProfileService {
     public boolean isMultitenancyEnabled() {
         return BooleanUtils.isTrue(aspspProfileRestTemplate.getForObject(aspspProfileRemoteUrls.isMultitenancyEnabled(), Boolean.class));
     }
+
+    @Override
+    public long getProfileVersion() {
+        Long version = aspspProfileRestTemplate.getForObject(aspspProfileRemoteUrls.getProfileVersion(), Long.class);
+        return version == null ? 0 : version;
+    }
 }
@@ -28,6 +28,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -49,10 +50,21 @@ public class AspspProfileController {
     @GetMapping
     @Operation(description = "Reads ASPSP specific settings")
     @ApiResponse(responseCode = "200", description = "Ok", content = @Content(schema = @Schema(implementation = AspspSettings.class)))
+    @ApiResponse(responseCode = "304", description = "Not Modified")
     public ResponseEntity<AspspSettings> getAspspSettings(
-        @RequestHeader(value = "Instance-ID", required = false, defaultValue = DEFAULT_SERVICE_INSTANCE_ID) String instanceId
+        @RequestHeader(value = "Instance-ID", required = false, defaultValue = DEFAULT_SERVICE_INSTANCE_ID) String instanceId,
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) List<String> ifNoneMatch
     ) {
-        return new ResponseEntity<>(aspspProfileService.getAspspSettings(instanceId), HttpStatus.OK);
+        // Version is read before the settings, so that ETag never claims newer settings than the returned ones
+        String eTag = "\"" + aspspProfileService.getProfileVersion() + "\"";
+        if (isNotModified(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                       .eTag(eTag)
+                       .build();
+        }
+        return ResponseEntity.ok()
+                   .eTag(eTag)
+                   .body(aspspProfileService.getAspspSettings(instanceId));
     }
 
     @GetMapping(path = "/sca-approaches")
@@ -70,4 +82,19 @@ public class AspspProfileController {
     public ResponseEntity<Boolean> isMultitenancyEnabled() {
         return new ResponseEntity<>(aspspProfileService.isMultitenancyEnabled(), HttpStatus.OK);
     }
+
+    @GetMapping(path = "/version")
+    @Operation(description = "Reads version of ASPSP profile settings, which is changed on each settings modification")
+    @ApiResponse(responseCode = "200", description = "Ok", content = @Content(schema = @Schema(implementation = Long.class)))
+    public ResponseEntity<Long> getProfileVersion() {
+        return new ResponseEntity<>(aspspProfileService.getProfileVersion(), HttpStatus.OK);
+    }
+
+    private boolean isNotModified(List<String> ifNoneMatch, String eTag) {
+        return ifNoneMatch != null
+                   && ifNoneMatch.stream()
+                          .map(String::trim)
+                          .map(tag -> tag.startsWith("W/") ? tag.substring(2) : tag)
+                          .anyMatch(tag -> "*".equals(tag) || eTag.equals(tag));
+    }
 }
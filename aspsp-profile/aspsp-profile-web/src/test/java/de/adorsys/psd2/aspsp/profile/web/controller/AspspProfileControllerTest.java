@@ -33,6 +33,9 @@ import java.util.Collections;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -52,7 +55,7 @@ class AspspProfileControllerTest {
             .thenReturn(AspspSettingsBuilder.buildAspspSettings());
 
         //When:
-        ResponseEntity<AspspSettings> actualResponse = aspspProfileController.getAspspSettings("");
+        ResponseEntity<AspspSettings> actualResponse = aspspProfileController.getAspspSettings("", null);
 
         //Then:
         assertThat(actualResponse.getStatusCode()).isEqualTo(expectedStatusCode);
@@ -61,6 +64,63 @@ class AspspProfileControllerTest {
         assertThat(actualResponse.getBody()).isEqualTo(expectedSettings);
     }
 
+    @Test
+    void getAspspSettings_eTagContainsVersion() {
+        //Given:
+        when(aspspProfileService.getProfileVersion()).thenReturn(3L);
+        when(aspspProfileService.getAspspSettings(""))
+            .thenReturn(AspspSettingsBuilder.buildAspspSettings());
+
+        //When:
+        ResponseEntity<AspspSettings> actualResponse = aspspProfileController.getAspspSettings("", null);
+
+        //Then:
+        assertThat(actualResponse.getHeaders().getETag()).isEqualTo("\"3\"");
+    }
+
+    @Test
+    void getAspspSettings_eTagMatches_notModified() {
+        //Given:
+        when(aspspProfileService.getProfileVersion()).thenReturn(3L);
+
+        //When:
+        ResponseEntity<AspspSettings> actualResponse = aspspProfileController.getAspspSettings("", Collections.singletonList("\"3\""));
+
+        //Then:
+        assertThat(actualResponse.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(actualResponse.getHeaders().getETag()).isEqualTo("\"3\"");
+        assertThat(actualResponse.getBody()).isNull();
+        verify(aspspProfileService, never()).getAspspSettings(any());
+    }
+
+    @Test
+    void getAspspSettings_eTagNotMatches_settingsReturned() {
+        //Given:
+        when(aspspProfileService.getProfileVersion()).thenReturn(3L);
+        when(aspspProfileService.getAspspSettings(""))
+            .thenReturn(AspspSettingsBuilder.buildAspspSettings());
+
+        //When:
+        ResponseEntity<AspspSettings> actualResponse = aspspProfileController.getAspspSettings("", Collections.singletonList("\"2\""));
+
+        //Then:
+        assertThat(actualResponse.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(actualResponse.getBody()).isEqualTo(AspspSettingsBuilder.buildAspspSettings());
+    }
+
+    @Test
+    void getProfileVersion() {
+        //Given:
+        when(aspspProfileService.getProfileVersion()).thenReturn(3L);
+
+        //When:
+        ResponseEntity<Long> actualResponse = aspspProfileController.getProfileVersion();
+
+        //Then:
+        assertThat(actualResponse.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(actualResponse.getBody()).isEqualTo(3L);
+    }
+
     @Test
     void getScaApproach() {
         //Given:
@@ -16,6 +16,7 @@
  * contact us at sales@adorsys.com.
  */
 
+DELETE FROM consent_usage;
 DELETE FROM aspsp_account_access;
 DELETE FROM consent_psu_data;
 DELETE FROM consent;
@@ -19,30 +19,57 @@
 package de.adorsys.psd2.scheduler;
 
 import de.adorsys.psd2.consent.repository.ConsentJpaRepository;
+import de.adorsys.psd2.consent.service.AisConsentConfirmationExpirationService;
+import de.adorsys.psd2.xs2a.core.consent.ConsentStatus;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Pageable;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
 
 import static de.adorsys.psd2.xs2a.core.consent.ConsentStatus.RECEIVED;
 import static de.adorsys.psd2.xs2a.core.consent.ConsentStatus.VALID;
 
-
+/**
+ * Expires received and valid consents, which validity has ended or which were used as non-recurring consents before
+ * today. Only consents, which expiration deadline has been reached, are read.
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class ConsentScheduleTask {
+public class ConsentScheduleTask extends KeysetSchedulerTask<Long> {
+    static final String TASK_NAME = "consent-expiration";
+    private static final Set<ConsentStatus> EXPIRABLE_STATUSES = EnumSet.of(RECEIVED, VALID);
+
     private final ConsentJpaRepository consentJpaRepository;
+    private final AisConsentConfirmationExpirationService aisConsentConfirmationExpirationService;
+    private final SchedulerTaskRunner schedulerTaskRunner;
 
-    @Scheduled(cron = "${xs2a.cms.consent.cron.expression}")
-    @Transactional
+    @Scheduled(fixedDelayString = "${xs2a.cms.expiration-sweeper.fixed-delay.ms:60000}")
     public void checkConsentStatus() {
-        long start = System.currentTimeMillis();
-        log.info("Consent schedule task is run!");
-        consentJpaRepository.expireByConsentStatusIn(EnumSet.of(RECEIVED, VALID));
-        log.info("Consent schedule task completed in {}ms!", System.currentTimeMillis() - start);
+        schedulerTaskRunner.run(TASK_NAME, () -> {
+            log.debug("Consent schedule task is run!");
+            return execute();
+        });
+    }
+
+    @Override
+    protected List<Long> findChunk(Long lastId, Pageable pageable) {
+        return consentJpaRepository.findIdsByExpirationDeadlineReached(EXPIRABLE_STATUSES, LocalDate.now(), lastId, pageable);
+    }
+
+    @Override
+    protected Long getId(Long item) {
+        return item;
+    }
+
+    @Override
+    protected int processChunk(List<Long> chunk) {
+        return aisConsentConfirmationExpirationService.expireConsentsOnExpirationDeadline(chunk);
     }
 }
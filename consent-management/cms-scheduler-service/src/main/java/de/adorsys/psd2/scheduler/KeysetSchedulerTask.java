@@ -0,0 +1,133 @@
+/*
+ * Copyright 2018-2024 adorsys GmbH & Co KG
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ *
+ * This project is also available under a separate commercial license. You can
+ * contact us at sales@adorsys.com.
+ */
+
+package de.adorsys.psd2.scheduler;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Base class for scheduler tasks, processing big amounts of items chunk by chunk.
+ * <p>
+ * Items are iterated by ID (keyset pagination) instead of page numbers, so that items, changed by processing of the
+ * previous chunks, are never skipped and the database doesn't have to scan all the previous pages on every query.
+ *
+ * @param <T> type of the processed items
+ */
+public abstract class KeysetSchedulerTask<T> {
+    private static final long INITIAL_ID = 0L;
+
+    @Value("${xs2a.cms.scheduler.processing.page-size:100}")
+    protected int pageSize;
+
+    @Value("${xs2a.cms.scheduler.processing.parallelism:1}")
+    protected int parallelism;
+
+    /**
+     * Reads all items chunk by chunk with `findChunk` method and passes them to `processChunk` method.
+     * Chunks are processed by separate threads if parallelism is greater than one, while the next chunks are being read.
+     *
+     * @return amount of processed items
+     */
+    protected long execute() {
+        if (parallelism <= 1) {
+            LongAdder processed = new LongAdder();
+            forEachChunk(chunk -> processed.add(processChunk(chunk)));
+            return processed.sum();
+        }
+
+        // Bounded queue with caller-runs policy throttles reading when all the threads are busy
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(parallelism, parallelism, 0L, TimeUnit.MILLISECONDS,
+                                                             new ArrayBlockingQueue<>(parallelism),
+                                                             new CustomizableThreadFactory(getClass().getSimpleName() + "-"),
+                                                             new ThreadPoolExecutor.CallerRunsPolicy());
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            forEachChunk(chunk -> results.add(executor.submit(() -> processChunk(chunk))));
+            return sum(results);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Reads next chunk of items, ordered by ID
+     *
+     * @param lastId   ID of the last item from the previous chunk
+     * @param pageable size of the chunk
+     * @return items with IDs greater than the given one
+     */
+    protected abstract List<T> findChunk(Long lastId, Pageable pageable);
+
+    protected abstract Long getId(T item);
+
+    /**
+     * Processes one chunk of items
+     *
+     * @param chunk items to be processed
+     * @return amount of processed items
+     */
+    protected abstract int processChunk(List<T> chunk);
+
+    private void forEachChunk(Consumer<List<T>> chunkConsumer) {
+        for (List<T> chunk = nextChunk(INITIAL_ID); !chunk.isEmpty(); chunk = nextChunk(chunk)) {
+            chunkConsumer.accept(chunk);
+        }
+    }
+
+    private List<T> nextChunk(List<T> previousChunk) {
+        if (previousChunk.size() < pageSize) {
+            return List.of();
+        }
+        return nextChunk(getId(previousChunk.get(previousChunk.size() - 1)));
+    }
+
+    private List<T> nextChunk(Long lastId) {
+        return findChunk(lastId, PageRequest.of(0, pageSize));
+    }
+
+    private long sum(List<Future<Integer>> results) {
+        long processed = 0;
+        for (Future<Integer> result : results) {
+            try {
+                processed += result.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for processing of the chunks", e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw new IllegalStateException("Processing of the chunk has failed", e.getCause());
+            }
+        }
+        return processed;
+    }
+}
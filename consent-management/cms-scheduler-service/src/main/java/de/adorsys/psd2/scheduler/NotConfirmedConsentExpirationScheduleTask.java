@@ -25,39 +25,64 @@ import de.adorsys.psd2.xs2a.core.consent.ConsentStatus;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections4.CollectionUtils;
+import org.springframework.data.domain.Pageable;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.time.OffsetDateTime;
 import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Slf4j
 @RequiredArgsConstructor
 @Component
-public class NotConfirmedConsentExpirationScheduleTask {
+public class NotConfirmedConsentExpirationScheduleTask extends KeysetSchedulerTask<ConsentEntity> {
+    static final String TASK_NAME = "not-confirmed-consent-expiration";
+    private static final Set<ConsentStatus> NOT_CONFIRMED_STATUSES = EnumSet.of(ConsentStatus.RECEIVED, ConsentStatus.PARTIALLY_AUTHORISED);
+
     private final AisConsentConfirmationExpirationService aisConsentConfirmationExpirationService;
     private final ConsentJpaRepository consentJpaRepository;
+    private final SchedulerTaskRunner schedulerTaskRunner;
 
-    @Scheduled(cron = "${xs2a.cms.not-confirmed-consent-expiration.cron.expression}")
-    @Transactional
+    @Scheduled(fixedDelayString = "${xs2a.cms.expiration-sweeper.fixed-delay.ms:60000}")
     public void obsoleteNotConfirmedConsentIfExpired() {
-        long start = System.currentTimeMillis();
-        log.info("Not confirmed consent expiration schedule task is run!");
+        schedulerTaskRunner.run(TASK_NAME, () -> {
+            log.debug("Not confirmed consent expiration schedule task is run!");
+            return execute();
+        });
+    }
+
+    @Override
+    protected List<ConsentEntity> findChunk(Long lastId, Pageable pageable) {
+        return consentJpaRepository.findByConsentStatusInAndConfirmationDeadlineBeforeAndIdGreaterThanOrderByIdAsc(NOT_CONFIRMED_STATUSES, OffsetDateTime.now(),
+                                                                                                                  lastId, pageable);
+    }
 
-        List<String> expiredNotConfirmedConsentIds = consentJpaRepository.findByConsentStatusIn(EnumSet.of(ConsentStatus.RECEIVED, ConsentStatus.PARTIALLY_AUTHORISED))
-                                                     .stream()
-                                                     .filter(c -> !c.isSigningBasketBlocked())
-                                                     .filter(aisConsentConfirmationExpirationService::isConfirmationExpired)
-                                                     .map(ConsentEntity::getExternalId)
-                                                     .collect(Collectors.toList());
-        log.info("Found {} non confirmed consent items for expiration", expiredNotConfirmedConsentIds.size());
+    @Override
+    protected Long getId(ConsentEntity item) {
+        return item.getId();
+    }
+
+    @Override
+    protected int processChunk(List<ConsentEntity> chunk) {
+        Map<Boolean, List<ConsentEntity>> consentsByExpiration = chunk.stream()
+                                                                     .filter(c -> !c.isSigningBasketBlocked())
+                                                                     .collect(Collectors.partitioningBy(aisConsentConfirmationExpirationService::isConfirmationExpired));
+        List<String> expiredNotConfirmedConsentIds = consentsByExpiration.get(true).stream()
+                                                         .map(ConsentEntity::getExternalId)
+                                                         .collect(Collectors.toList());
+        log.debug("Found {} non confirmed consent items for expiration", expiredNotConfirmedConsentIds.size());
 
         if (CollectionUtils.isNotEmpty(expiredNotConfirmedConsentIds)) {
             aisConsentConfirmationExpirationService.updateConsentListOnConfirmationExpirationByExternalIds(expiredNotConfirmedConsentIds);
         }
-
-        log.info("Not confirmed consent expiration schedule task completed in {}ms!", System.currentTimeMillis() - start);
+        // Deadline has passed, but the confirmation period in ASPSP profile is longer, e.g. after it was changed
+        if (CollectionUtils.isNotEmpty(consentsByExpiration.get(false))) {
+            aisConsentConfirmationExpirationService.updateConfirmationDeadlines(consentsByExpiration.get(false));
+        }
+        return expiredNotConfirmedConsentIds.size();
     }
 }
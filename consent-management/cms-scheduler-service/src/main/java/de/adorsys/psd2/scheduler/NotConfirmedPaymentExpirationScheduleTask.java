@@ -28,42 +28,58 @@ import org.apache.commons.collections4.CollectionUtils;
 import org.springframework.data.domain.Pageable;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.time.OffsetDateTime;
 import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Slf4j
 @RequiredArgsConstructor
 @Component
-public class NotConfirmedPaymentExpirationScheduleTask extends PageableSchedulerTask {
+public class NotConfirmedPaymentExpirationScheduleTask extends KeysetSchedulerTask<PisCommonPaymentData> {
+    static final String TASK_NAME = "not-confirmed-payment-expiration";
+    private static final Set<TransactionStatus> NOT_CONFIRMED_STATUSES = EnumSet.of(TransactionStatus.RCVD, TransactionStatus.PATC);
+
     private final PisCommonPaymentConfirmationExpirationService pisCommonPaymentConfirmationExpirationService;
     private final PisCommonPaymentDataRepository paymentDataRepository;
+    private final SchedulerTaskRunner schedulerTaskRunner;
 
-    @Scheduled(cron = "${xs2a.cms.not-confirmed-payment-expiration.cron.expression}")
-    @Transactional
+    @Scheduled(fixedDelayString = "${xs2a.cms.expiration-sweeper.fixed-delay.ms:60000}")
     public void obsoleteNotConfirmedPaymentIfExpired() {
-        long start = System.currentTimeMillis();
-        log.info("Not confirmed payment expiration schedule task is run!");
+        schedulerTaskRunner.run(TASK_NAME, () -> {
+            log.debug("Not confirmed payment expiration schedule task is run!");
+            return execute();
+        });
+    }
 
-        Long totalItems = paymentDataRepository.countByTransactionStatusIn(EnumSet.of(TransactionStatus.RCVD, TransactionStatus.PATC));
-        log.debug("Found {} non confirmed payment items for expiration checking", totalItems);
+    @Override
+    protected List<PisCommonPaymentData> findChunk(Long lastId, Pageable pageable) {
+        return paymentDataRepository.findByTransactionStatusInAndConfirmationDeadlineBeforeAndIdGreaterThanOrderByIdAsc(NOT_CONFIRMED_STATUSES, OffsetDateTime.now(),
+                                                                                                                     lastId, pageable);
+    }
 
-        execute(totalItems);
-        log.info("Not confirmed payment expiration schedule task completed in {}ms!", System.currentTimeMillis() - start);
+    @Override
+    protected Long getId(PisCommonPaymentData item) {
+        return item.getId();
     }
 
     @Override
-    protected void executePageable(Pageable pageable) {
-        List<PisCommonPaymentData> expiredNotConfirmedPayments = paymentDataRepository.findByTransactionStatusIn(EnumSet.of(TransactionStatus.RCVD, TransactionStatus.PATC), pageable)
-                                                                     .stream()
-                                                                     .filter(p -> !p.isSigningBasketBlocked())
-                                                                     .filter(pisCommonPaymentConfirmationExpirationService::isConfirmationExpired)
-                                                                     .collect(Collectors.toList());
+    protected int processChunk(List<PisCommonPaymentData> chunk) {
+        Map<Boolean, List<PisCommonPaymentData>> paymentsByExpiration = chunk.stream()
+                                                                            .filter(p -> !p.isSigningBasketBlocked())
+                                                                            .collect(Collectors.partitioningBy(pisCommonPaymentConfirmationExpirationService::isConfirmationExpired));
+        List<PisCommonPaymentData> expiredNotConfirmedPayments = paymentsByExpiration.get(true);
 
         if (CollectionUtils.isNotEmpty(expiredNotConfirmedPayments)) {
             pisCommonPaymentConfirmationExpirationService.updatePaymentDataListOnConfirmationExpiration(expiredNotConfirmedPayments);
         }
+        // Deadline has passed, but the confirmation period in ASPSP profile is longer, e.g. after it was changed
+        if (CollectionUtils.isNotEmpty(paymentsByExpiration.get(false))) {
+            pisCommonPaymentConfirmationExpirationService.updateConfirmationDeadlines(paymentsByExpiration.get(false));
+        }
+        return expiredNotConfirmedPayments.size();
     }
 }
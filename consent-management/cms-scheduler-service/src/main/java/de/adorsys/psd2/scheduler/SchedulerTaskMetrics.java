@@ -0,0 +1,124 @@
+/*
+ * Copyright 2018-2024 adorsys GmbH & Co KG
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ *
+ * This project is also available under a separate commercial license. You can
+ * contact us at sales@adorsys.com.
+ */
+
+package de.adorsys.psd2.scheduler;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statistics of scheduler tasks, executed by this CMS instance
+ */
+@Component
+public class SchedulerTaskMetrics {
+    private final Map<String, TaskStatistics> statistics = new ConcurrentHashMap<>();
+
+    void recordSkipped(String taskName) {
+        getOrCreate(taskName).skippedCount.increment();
+    }
+
+    void recordRun(String taskName, boolean succeeded, long durationMs, long rowCount, long lagMs) {
+        TaskStatistics taskStatistics = getOrCreate(taskName);
+        taskStatistics.runCount.increment();
+        if (!succeeded) {
+            taskStatistics.failedCount.increment();
+        }
+        taskStatistics.totalRowCount.add(rowCount);
+        taskStatistics.lastDurationMs = durationMs;
+        taskStatistics.lastRowCount = rowCount;
+        taskStatistics.lastLagMs = lagMs;
+    }
+
+    public Optional<TaskStatistics> getStatistics(String taskName) {
+        return Optional.ofNullable(statistics.get(taskName));
+    }
+
+    public Map<String, TaskStatistics> getStatistics() {
+        return Collections.unmodifiableMap(statistics);
+    }
+
+    @Override
+    public String toString() {
+        return "SchedulerTaskMetrics" + statistics;
+    }
+
+    private TaskStatistics getOrCreate(String taskName) {
+        return statistics.computeIfAbsent(taskName, name -> new TaskStatistics());
+    }
+
+    public static class TaskStatistics {
+        private final LongAdder runCount = new LongAdder();
+        private final LongAdder skippedCount = new LongAdder();
+        private final LongAdder failedCount = new LongAdder();
+        private final LongAdder totalRowCount = new LongAdder();
+        private volatile long lastDurationMs;
+        private volatile long lastRowCount;
+        private volatile long lastLagMs = -1;
+
+        public long getRunCount() {
+            return runCount.sum();
+        }
+
+        /**
+         * @return amount of ticks, skipped because the lease of the task was held by another instance
+         */
+        public long getSkippedCount() {
+            return skippedCount.sum();
+        }
+
+        public long getFailedCount() {
+            return failedCount.sum();
+        }
+
+        public long getTotalRowCount() {
+            return totalRowCount.sum();
+        }
+
+        public long getLastDurationMs() {
+            return lastDurationMs;
+        }
+
+        public long getLastRowCount() {
+            return lastRowCount;
+        }
+
+        /**
+         * @return time between the previous successful completion of the task by any instance and the start of the
+         * last run in milliseconds, <code>-1</code> if unknown
+         */
+        public long getLastLagMs() {
+            return lastLagMs;
+        }
+
+        @Override
+        public String toString() {
+            return "{runs=" + getRunCount() +
+                       ", skipped=" + getSkippedCount() +
+                       ", failed=" + getFailedCount() +
+                       ", totalRows=" + getTotalRowCount() +
+                       ", lastDurationMs=" + getLastDurationMs() +
+                       ", lastRows=" + getLastRowCount() +
+                       ", lastLagMs=" + getLastLagMs() + "}";
+        }
+    }
+}
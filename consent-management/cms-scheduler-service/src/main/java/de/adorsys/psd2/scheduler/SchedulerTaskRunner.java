@@ -0,0 +1,128 @@
+/*
+ * Copyright 2018-2024 adorsys GmbH & Co KG
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ *
+ * This project is also available under a separate commercial license. You can
+ * contact us at sales@adorsys.com.
+ */
+
+package de.adorsys.psd2.scheduler;
+
+import de.adorsys.psd2.scheduler.lock.SchedulerLease;
+import de.adorsys.psd2.scheduler.lock.SchedulerLockService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.Nullable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+
+/**
+ * Runs scheduler tasks under the lease, shared by all CMS instances, so that each tick of a task is executed by only
+ * one instance, and collects statistics of the runs.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SchedulerTaskRunner {
+    private final SchedulerLockService schedulerLockService;
+    private final SchedulerTaskMetrics schedulerTaskMetrics;
+
+    @Value("${xs2a.cms.scheduler.lock.enabled:true}")
+    private boolean lockEnabled;
+
+    /**
+     * Runs the task if its lease can be taken by this instance, skips the tick otherwise.
+     * If the caller is transactional, the lease is released after completion of the transaction.
+     *
+     * @param taskName name of the task, identifying its lease
+     * @param task     task to be run, returning the amount of processed rows
+     */
+    public void run(String taskName, LongSupplier task) {
+        SchedulerLease lease = null;
+        if (lockEnabled) {
+            try {
+                Optional<SchedulerLease> acquiredLease = schedulerLockService.tryAcquire(taskName);
+                if (acquiredLease.isEmpty()) {
+                    log.info("Scheduler task [{}] is skipped: it is run by another instance", taskName);
+                    schedulerTaskMetrics.recordSkipped(taskName);
+                    return;
+                }
+                lease = acquiredLease.get();
+            } catch (DataIntegrityViolationException e) {
+                log.info("Scheduler task [{}] is skipped: its lease was created by another instance", taskName);
+                schedulerTaskMetrics.recordSkipped(taskName);
+                return;
+            } catch (DataAccessException | TransactionException e) {
+                log.warn("Lease of scheduler task [{}] couldn't be taken, task is run without it: {}", taskName, e.getMessage());
+            }
+        }
+
+        long start = System.currentTimeMillis();
+        long lagMs = getLagMs(lease);
+        long rowCount;
+        try {
+            rowCount = task.getAsLong();
+        } catch (RuntimeException e) {
+            complete(taskName, lease, false, start, 0, lagMs);
+            throw e;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            SchedulerLease transactionLease = lease;
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    complete(taskName, transactionLease, status == STATUS_COMMITTED, start, rowCount, lagMs);
+                }
+            });
+        } else {
+            complete(taskName, lease, true, start, rowCount, lagMs);
+        }
+    }
+
+    private void complete(String taskName, @Nullable SchedulerLease lease, boolean succeeded, long start, long rowCount, long lagMs) {
+        long durationMs = System.currentTimeMillis() - start;
+        schedulerTaskMetrics.recordRun(taskName, succeeded, durationMs, rowCount, lagMs);
+
+        if (succeeded) {
+            log.info("Scheduler task [{}] completed in {}ms, {} rows processed, lag {}ms", taskName, durationMs, rowCount, lagMs);
+        } else {
+            log.warn("Scheduler task [{}] failed after {}ms", taskName, durationMs);
+        }
+
+        if (lease != null) {
+            try {
+                schedulerLockService.release(lease, succeeded);
+            } catch (DataAccessException | TransactionException e) {
+                log.warn("Lease of scheduler task [{}] couldn't be released, it will expire on its own: {}", taskName, e.getMessage());
+            }
+        }
+    }
+
+    private long getLagMs(@Nullable SchedulerLease lease) {
+        if (lease == null || lease.getPreviousSuccessAt() == null) {
+            return -1;
+        }
+        return Duration.between(lease.getPreviousSuccessAt(), OffsetDateTime.now()).toMillis();
+    }
+}
@@ -19,6 +19,7 @@
 package de.adorsys.psd2.scheduler;
 
 import de.adorsys.psd2.consent.repository.TppStopListRepository;
+import de.adorsys.psd2.consent.service.TppStopListChangeNotifier;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -29,14 +30,20 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 @Component
 public class TppStopListScheduleTask {
+    static final String TASK_NAME = "tpp-stop-list-unblocking";
+
     private final TppStopListRepository tppStopListRepository;
+    private final TppStopListChangeNotifier tppStopListChangeNotifier;
+    private final SchedulerTaskRunner schedulerTaskRunner;
 
     @Scheduled(cron = "${xs2a.cms.stoplist.cron.expression}")
     @Transactional
     public void unblockTppIfBlockingExpired() {
-        long start = System.currentTimeMillis();
-        log.info("Tpp Stop List schedule task is run!");
-        tppStopListRepository.unblockExpiredBlockedTpp();
-        log.info("Tpp Stop List schedule task completed in {}ms!", System.currentTimeMillis() - start);
+        schedulerTaskRunner.run(TASK_NAME, () -> {
+            log.info("Tpp Stop List schedule task is run!");
+            int unblocked = tppStopListRepository.unblockExpiredBlockedTpp();
+            tppStopListChangeNotifier.notifyStopListChanged(null, null);
+            return unblocked;
+        });
     }
 }
@@ -16,26 +16,24 @@
  * contact us at sales@adorsys.com.
  */
 
-package de.adorsys.psd2.event.service;
+package de.adorsys.psd2.scheduler.lock;
 
-import org.springframework.context.annotation.Bean;
-import org.springframework.context.annotation.Configuration;
-import org.springframework.scheduling.annotation.EnableAsync;
-import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import lombok.Value;
+import org.jetbrains.annotations.Nullable;
 
-import java.util.concurrent.Executor;
-
-@Configuration
-@EnableAsync
-public class Xs2aEventAsyncConfig {
-
-    @Bean(name = "threadPoolTaskExecutor")
-    public Executor threadPoolTaskExecutor() {
-        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setQueueCapacity(500);
-        executor.setThreadNamePrefix("EventService-");
-        executor.initialize();
-        return executor;
-    }
+import java.time.OffsetDateTime;
 
+/**
+ * Lease of a scheduler task, taken by this CMS instance
+ */
+@Value
+public class SchedulerLease {
+    String name;
+    String lockedBy;
+    OffsetDateTime lockedAt;
+    /**
+     * Moment, the task was last successfully completed by any CMS instance, <code>null</code> if it never was
+     */
+    @Nullable
+    OffsetDateTime previousSuccessAt;
 }
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2018-2024 adorsys GmbH & Co KG
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ *
+ * This project is also available under a separate commercial license. You can
+ * contact us at sales@adorsys.com.
+ */
+
+package de.adorsys.psd2.scheduler.lock;
+
+import de.adorsys.psd2.consent.domain.SchedulerLockEntity;
+import de.adorsys.psd2.consent.repository.SchedulerLockRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Manages leases of scheduler tasks in the database, so that each task is executed by only one CMS instance at a time.
+ * Leases are taken and released in separate transactions, so that they become visible to other instances immediately.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SchedulerLockService {
+    private final SchedulerLockRepository schedulerLockRepository;
+    private final String instanceId = buildInstanceId();
+
+    @Value("${xs2a.cms.scheduler.lock.lock-at-most-for.ms:600000}")
+    private long lockAtMostForMs;
+
+    @Value("${xs2a.cms.scheduler.lock.lock-at-least-for.ms:5000}")
+    private long lockAtLeastForMs;
+
+    /**
+     * Tries to take the lease of the task. The lease expires after `lock-at-most-for` period, even if the instance
+     * holding it crashes and never releases it.
+     *
+     * @param name name of the scheduler task
+     * @return lease of the task or empty value if the lease is currently held by another instance
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Optional<SchedulerLease> tryAcquire(String name) {
+        OffsetDateTime now = OffsetDateTime.now();
+        OffsetDateTime lockedUntil = now.plus(lockAtMostForMs, ChronoUnit.MILLIS);
+
+        Optional<SchedulerLockEntity> lock = schedulerLockRepository.findById(name);
+        if (lock.isEmpty()) {
+            // Concurrent creation of the same lock by another instance fails on the primary key
+            schedulerLockRepository.save(new SchedulerLockEntity(name, lockedUntil, now, instanceId, null));
+            return Optional.of(new SchedulerLease(name, instanceId, now, null));
+        }
+
+        if (schedulerLockRepository.acquire(name, instanceId, now, lockedUntil) == 0) {
+            log.debug("Lease of scheduler task [{}] is held by [{}] until {}", name, lock.get().getLockedBy(), lock.get().getLockedUntil());
+            return Optional.empty();
+        }
+
+        return Optional.of(new SchedulerLease(name, instanceId, now, lock.get().getLastSuccessAt()));
+    }
+
+    /**
+     * Releases the lease of the task. The lease is held at least for `lock-at-least-for` period after being taken,
+     * so that instances with slightly shifted clocks don't execute the same tick of the task again.
+     *
+     * @param lease     lease to be released
+     * @param succeeded whether the task was completed successfully
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void release(SchedulerLease lease, boolean succeeded) {
+        OffsetDateTime now = OffsetDateTime.now();
+        OffsetDateTime lockedAtLeastUntil = lease.getLockedAt().plus(lockAtLeastForMs, ChronoUnit.MILLIS);
+        OffsetDateTime lockedUntil = now.isAfter(lockedAtLeastUntil) ? now : lockedAtLeastUntil;
+
+        if (succeeded) {
+            schedulerLockRepository.releaseSucceeded(lease.getName(), lease.getLockedBy(), lockedUntil, now);
+        } else {
+            schedulerLockRepository.release(lease.getName(), lease.getLockedBy(), lockedUntil);
+        }
+    }
+
+    private static String buildInstanceId() {
+        String hostName;
+        try {
+            hostName = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            hostName = "unknown";
+        }
+        return hostName + "-" + UUID.randomUUID();
+    }
+}
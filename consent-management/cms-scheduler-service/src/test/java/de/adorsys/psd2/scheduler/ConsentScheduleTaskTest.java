@@ -19,18 +19,28 @@
 package de.adorsys.psd2.scheduler;
 
 import de.adorsys.psd2.consent.repository.ConsentJpaRepository;
+import de.adorsys.psd2.consent.service.AisConsentConfirmationExpirationService;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.LocalDate;
+import java.util.Collections;
 import java.util.EnumSet;
+import java.util.List;
+import java.util.function.LongSupplier;
 
 import static de.adorsys.psd2.xs2a.core.consent.ConsentStatus.RECEIVED;
 import static de.adorsys.psd2.xs2a.core.consent.ConsentStatus.VALID;
-import static org.mockito.Mockito.times;
-import static org.mockito.Mockito.verify;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class ConsentScheduleTaskTest {
@@ -40,10 +50,44 @@ class ConsentScheduleTaskTest {
 
     @Mock
     private ConsentJpaRepository consentJpaRepository;
+    @Mock
+    private AisConsentConfirmationExpirationService aisConsentConfirmationExpirationService;
+    @Mock
+    private SchedulerTaskRunner schedulerTaskRunner;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(scheduleTask, "pageSize", 2);
+        doAnswer(invocation -> invocation.<LongSupplier>getArgument(1).getAsLong())
+            .when(schedulerTaskRunner).run(eq(ConsentScheduleTask.TASK_NAME), any(LongSupplier.class));
+    }
+
+    @Test
+    void checkConsentStatus_expirationDeadlineReached() {
+        // Given
+        when(consentJpaRepository.findIdsByExpirationDeadlineReached(eq(EnumSet.of(RECEIVED, VALID)), any(LocalDate.class), eq(0L), eq(PageRequest.of(0, 2))))
+            .thenReturn(List.of(1L, 4L));
+        when(consentJpaRepository.findIdsByExpirationDeadlineReached(eq(EnumSet.of(RECEIVED, VALID)), any(LocalDate.class), eq(4L), eq(PageRequest.of(0, 2))))
+            .thenReturn(List.of(6L));
+
+        // When
+        scheduleTask.checkConsentStatus();
+
+        // Then
+        verify(aisConsentConfirmationExpirationService).expireConsentsOnExpirationDeadline(List.of(1L, 4L));
+        verify(aisConsentConfirmationExpirationService).expireConsentsOnExpirationDeadline(List.of(6L));
+    }
 
     @Test
-    void checkConsentStatus_allConsentsExpired() {
+    void checkConsentStatus_noConsents() {
+        // Given
+        when(consentJpaRepository.findIdsByExpirationDeadlineReached(eq(EnumSet.of(RECEIVED, VALID)), any(LocalDate.class), eq(0L), eq(PageRequest.of(0, 2))))
+            .thenReturn(Collections.emptyList());
+
+        // When
         scheduleTask.checkConsentStatus();
-        verify(consentJpaRepository, times(1)).expireByConsentStatusIn(EnumSet.of(RECEIVED, VALID));
+
+        // Then
+        verify(aisConsentConfirmationExpirationService, never()).expireConsentsOnExpirationDeadline(anyList());
     }
 }
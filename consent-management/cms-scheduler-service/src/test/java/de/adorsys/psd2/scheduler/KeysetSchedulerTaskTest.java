@@ -0,0 +1,114 @@
+/*
+ * Copyright 2018-2024 adorsys GmbH & Co KG
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ *
+ * This project is also available under a separate commercial license. You can
+ * contact us at sales@adorsys.com.
+ */
+
+package de.adorsys.psd2.scheduler;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class KeysetSchedulerTaskTest {
+    private static final int PAGE_SIZE = 100;
+
+    private TestTask task;
+
+    @BeforeEach
+    void setUp() {
+        task = new TestTask();
+        ReflectionTestUtils.setField(task, "pageSize", PAGE_SIZE);
+    }
+
+    @Test
+    void execute_iteratesById() {
+        validateChunkQueries(List.of(0L), 0);
+        validateChunkQueries(List.of(0L), 1);
+        validateChunkQueries(List.of(0L, 100L), 100);
+        validateChunkQueries(List.of(0L, 100L), 101);
+        validateChunkQueries(List.of(0L, 100L, 200L, 300L), 350);
+    }
+
+    @Test
+    void execute_parallel() {
+        ReflectionTestUtils.setField(task, "parallelism", 4);
+        task.itemCount = 1050;
+
+        long processed = task.execute();
+
+        assertEquals(1050, processed);
+        assertEquals(11, task.requestedLastIds.size());
+        assertEquals(1050, task.processedIds.size());
+    }
+
+    @Test
+    void execute_parallel_failure() {
+        ReflectionTestUtils.setField(task, "parallelism", 2);
+        task.itemCount = 500;
+        task.failingId = 250L;
+
+        assertThrows(IllegalArgumentException.class, () -> task.execute());
+    }
+
+    private void validateChunkQueries(List<Long> expectedLastIds, long itemCount) {
+        task.itemCount = itemCount;
+        task.requestedLastIds.clear();
+
+        long processed = task.execute();
+
+        assertEquals(itemCount, processed);
+        assertEquals(expectedLastIds, task.requestedLastIds);
+    }
+
+    private static class TestTask extends KeysetSchedulerTask<Long> {
+        private final List<Long> requestedLastIds = new ArrayList<>();
+        private final List<Long> processedIds = Collections.synchronizedList(new ArrayList<>());
+        private long itemCount;
+        private Long failingId;
+
+        @Override
+        protected List<Long> findChunk(Long lastId, Pageable pageable) {
+            requestedLastIds.add(lastId);
+            return LongStream.rangeClosed(lastId + 1, Math.min(lastId + pageable.getPageSize(), itemCount))
+                       .boxed()
+                       .collect(Collectors.toList());
+        }
+
+        @Override
+        protected Long getId(Long item) {
+            return item;
+        }
+
+        @Override
+        protected int processChunk(List<Long> chunk) {
+            if (chunk.contains(failingId)) {
+                throw new IllegalArgumentException("Chunk can't be processed");
+            }
+            processedIds.addAll(chunk);
+            return chunk.size();
+        }
+    }
+}
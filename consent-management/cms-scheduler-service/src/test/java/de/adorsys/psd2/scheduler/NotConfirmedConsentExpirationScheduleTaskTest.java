@@ -22,6 +22,7 @@ import de.adorsys.psd2.consent.domain.consent.ConsentEntity;
 import de.adorsys.psd2.consent.repository.ConsentJpaRepository;
 import de.adorsys.psd2.consent.service.AisConsentConfirmationExpirationService;
 import de.adorsys.psd2.xs2a.core.consent.ConsentStatus;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
@@ -29,11 +30,15 @@ import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.EnumSet;
 import java.util.List;
+import java.util.function.LongSupplier;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
@@ -41,6 +46,7 @@ import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class NotConfirmedConsentExpirationScheduleTaskTest {
+    private static final EnumSet<ConsentStatus> NOT_CONFIRMED_STATUSES = EnumSet.of(ConsentStatus.RECEIVED, ConsentStatus.PARTIALLY_AUTHORISED);
 
     @InjectMocks
     private NotConfirmedConsentExpirationScheduleTask scheduleTask;
@@ -49,15 +55,25 @@ class NotConfirmedConsentExpirationScheduleTaskTest {
     private AisConsentConfirmationExpirationService aisConsentConfirmationExpirationService;
     @Mock
     private ConsentJpaRepository consentJpaRepository;
+    @Mock
+    private SchedulerTaskRunner schedulerTaskRunner;
 
     @Captor
     private ArgumentCaptor<ArrayList<String>> consentsCaptor;
 
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(scheduleTask, "pageSize", 100);
+        doAnswer(invocation -> invocation.<LongSupplier>getArgument(1).getAsLong())
+            .when(schedulerTaskRunner).run(eq(NotConfirmedConsentExpirationScheduleTask.TASK_NAME), any(LongSupplier.class));
+    }
+
     @Test
     void obsoleteNotConfirmedConsentIfExpired() {
         // Given
-        when(consentJpaRepository.findByConsentStatusIn(EnumSet.of(ConsentStatus.RECEIVED, ConsentStatus.PARTIALLY_AUTHORISED)))
-            .thenReturn(getTestConsentEntityList());
+        List<ConsentEntity> consents = getTestConsentEntityList();
+        when(consentJpaRepository.findByConsentStatusInAndConfirmationDeadlineBeforeAndIdGreaterThanOrderByIdAsc(eq(NOT_CONFIRMED_STATUSES), any(OffsetDateTime.class), eq(0L), eq(PageRequest.of(0, 100))))
+            .thenReturn(consents);
         when(aisConsentConfirmationExpirationService.isConfirmationExpired(any(ConsentEntity.class)))
             .thenReturn(true, false, true);
 
@@ -66,18 +82,46 @@ class NotConfirmedConsentExpirationScheduleTaskTest {
 
         // Then
         verify(consentJpaRepository, times(1))
-            .findByConsentStatusIn(EnumSet.of(ConsentStatus.RECEIVED, ConsentStatus.PARTIALLY_AUTHORISED));
+            .findByConsentStatusInAndConfirmationDeadlineBeforeAndIdGreaterThanOrderByIdAsc(any(), any(), any(), any());
         verify(aisConsentConfirmationExpirationService, times(2)).isConfirmationExpired(any(ConsentEntity.class));
         verify(aisConsentConfirmationExpirationService, times(1)).updateConsentListOnConfirmationExpirationByExternalIds(consentsCaptor.capture());
 
         assertEquals(1, consentsCaptor.getValue().size());
         assertEquals("first id", consentsCaptor.getValue().get(0));
+        verify(aisConsentConfirmationExpirationService, times(1)).updateConfirmationDeadlines(List.of(consents.get(1)));
+    }
+
+    @Test
+    void obsoleteNotConfirmedConsentIfExpired_severalChunks() {
+        // Given
+        ReflectionTestUtils.setField(scheduleTask, "pageSize", 3);
+        ConsentEntity lastEntity = new ConsentEntity();
+        lastEntity.setId(8L);
+        lastEntity.setExternalId("last id");
+
+        when(consentJpaRepository.findByConsentStatusInAndConfirmationDeadlineBeforeAndIdGreaterThanOrderByIdAsc(eq(NOT_CONFIRMED_STATUSES), any(OffsetDateTime.class), eq(0L), eq(PageRequest.of(0, 3))))
+            .thenReturn(getTestConsentEntityList());
+        when(consentJpaRepository.findByConsentStatusInAndConfirmationDeadlineBeforeAndIdGreaterThanOrderByIdAsc(eq(NOT_CONFIRMED_STATUSES), any(OffsetDateTime.class), eq(3L), eq(PageRequest.of(0, 3))))
+            .thenReturn(List.of(lastEntity));
+        when(aisConsentConfirmationExpirationService.isConfirmationExpired(any(ConsentEntity.class)))
+            .thenReturn(false, false, true);
+
+        // When
+        scheduleTask.obsoleteNotConfirmedConsentIfExpired();
+
+        // Then
+        verify(consentJpaRepository, times(2))
+            .findByConsentStatusInAndConfirmationDeadlineBeforeAndIdGreaterThanOrderByIdAsc(any(), any(), any(), any());
+        verify(aisConsentConfirmationExpirationService, times(1)).updateConsentListOnConfirmationExpirationByExternalIds(consentsCaptor.capture());
+
+        assertEquals(List.of("last id"), consentsCaptor.getValue());
+        verify(aisConsentConfirmationExpirationService, times(1)).updateConfirmationDeadlines(anyList());
     }
 
     @Test
     void obsoleteNotConfirmedConsentIfExpired_emptyList() {
         // Given
-        when(consentJpaRepository.findByConsentStatusIn(EnumSet.of(ConsentStatus.RECEIVED, ConsentStatus.PARTIALLY_AUTHORISED)))
+        when(consentJpaRepository.findByConsentStatusInAndConfirmationDeadlineBeforeAndIdGreaterThanOrderByIdAsc(eq(NOT_CONFIRMED_STATUSES), any(OffsetDateTime.class), eq(0L), eq(PageRequest.of(0, 100))))
             .thenReturn(Collections.emptyList());
 
         // When
@@ -85,19 +129,23 @@ class NotConfirmedConsentExpirationScheduleTaskTest {
 
         // Then
         verify(consentJpaRepository, times(1))
-            .findByConsentStatusIn(EnumSet.of(ConsentStatus.RECEIVED, ConsentStatus.PARTIALLY_AUTHORISED));
+            .findByConsentStatusInAndConfirmationDeadlineBeforeAndIdGreaterThanOrderByIdAsc(any(), any(), any(), any());
         verify(aisConsentConfirmationExpirationService, never()).isConfirmationExpired(any(ConsentEntity.class));
         verify(aisConsentConfirmationExpirationService, never()).updateConsentListOnConfirmationExpirationByExternalIds(anyList());
+        verify(aisConsentConfirmationExpirationService, never()).updateConfirmationDeadlines(anyList());
     }
 
     private List<ConsentEntity> getTestConsentEntityList() {
         ConsentEntity firstEntity = new ConsentEntity();
+        firstEntity.setId(1L);
         firstEntity.setExternalId("first id");
         firstEntity.setSigningBasketBlocked(false);
         ConsentEntity secondEntity = new ConsentEntity();
+        secondEntity.setId(2L);
         secondEntity.setExternalId("second id");
         secondEntity.setSigningBasketBlocked(false);
         ConsentEntity thirdEntity = new ConsentEntity();
+        thirdEntity.setId(3L);
         thirdEntity.setExternalId("third id");
         thirdEntity.setSigningBasketBlocked(true);
         return List.of(firstEntity, secondEntity, thirdEntity);
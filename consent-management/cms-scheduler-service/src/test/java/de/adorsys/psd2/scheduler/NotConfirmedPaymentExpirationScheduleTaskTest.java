@@ -31,13 +31,14 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.EnumSet;
 import java.util.List;
+import java.util.function.LongSupplier;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
@@ -46,6 +47,7 @@ import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class NotConfirmedPaymentExpirationScheduleTaskTest {
+    private static final EnumSet<TransactionStatus> NOT_CONFIRMED_STATUSES = EnumSet.of(TransactionStatus.RCVD, TransactionStatus.PATC);
 
     @InjectMocks
     private NotConfirmedPaymentExpirationScheduleTask scheduleTask;
@@ -54,6 +56,8 @@ class NotConfirmedPaymentExpirationScheduleTaskTest {
     private PisCommonPaymentConfirmationExpirationService pisCommonPaymentConfirmationExpirationService;
     @Mock
     private PisCommonPaymentDataRepository paymentDataRepository;
+    @Mock
+    private SchedulerTaskRunner schedulerTaskRunner;
 
     @Captor
     private ArgumentCaptor<ArrayList<PisCommonPaymentData>> commonPaymentDataCaptor;
@@ -61,18 +65,18 @@ class NotConfirmedPaymentExpirationScheduleTaskTest {
     @BeforeEach
     void setUp() {
         ReflectionTestUtils.setField(scheduleTask, "pageSize", 100);
+        doAnswer(invocation -> invocation.<LongSupplier>getArgument(1).getAsLong())
+            .when(schedulerTaskRunner).run(eq(NotConfirmedPaymentExpirationScheduleTask.TASK_NAME), any(LongSupplier.class));
     }
 
     @Test
     void obsoleteNotConfirmedPaymentIfExpired() {
         // Given
         List<PisCommonPaymentData> pisCommonPaymentDataList = new ArrayList<>();
-        pisCommonPaymentDataList.add(new PisCommonPaymentData());
-        pisCommonPaymentDataList.add(new PisCommonPaymentData());
+        pisCommonPaymentDataList.add(buildPayment(1L));
+        pisCommonPaymentDataList.add(buildPayment(2L));
 
-        when(paymentDataRepository.countByTransactionStatusIn(EnumSet.of(TransactionStatus.RCVD, TransactionStatus.PATC)))
-            .thenReturn(10L);
-        when(paymentDataRepository.findByTransactionStatusIn(EnumSet.of(TransactionStatus.RCVD, TransactionStatus.PATC), PageRequest.of(0, 100)))
+        when(paymentDataRepository.findByTransactionStatusInAndConfirmationDeadlineBeforeAndIdGreaterThanOrderByIdAsc(eq(NOT_CONFIRMED_STATUSES), any(OffsetDateTime.class), eq(0L), eq(PageRequest.of(0, 100))))
             .thenReturn(pisCommonPaymentDataList);
         when(pisCommonPaymentConfirmationExpirationService.isConfirmationExpired(any(PisCommonPaymentData.class)))
             .thenReturn(true, false);
@@ -84,11 +88,10 @@ class NotConfirmedPaymentExpirationScheduleTaskTest {
 
         // Then
         verify(paymentDataRepository, times(1))
-            .countByTransactionStatusIn(EnumSet.of(TransactionStatus.RCVD, TransactionStatus.PATC));
-        verify(paymentDataRepository, times(1))
-            .findByTransactionStatusIn(EnumSet.of(TransactionStatus.RCVD, TransactionStatus.PATC), PageRequest.of(0, 100));
+            .findByTransactionStatusInAndConfirmationDeadlineBeforeAndIdGreaterThanOrderByIdAsc(any(), any(), any(), any());
         verify(pisCommonPaymentConfirmationExpirationService, times(2)).isConfirmationExpired(any(PisCommonPaymentData.class));
         verify(pisCommonPaymentConfirmationExpirationService, times(1)).updatePaymentDataListOnConfirmationExpiration(anyList());
+        verify(pisCommonPaymentConfirmationExpirationService, times(1)).updateConfirmationDeadlines(List.of(pisCommonPaymentDataList.get(1)));
 
         assertEquals(1, commonPaymentDataCaptor.getValue().size());
     }
@@ -97,15 +100,13 @@ class NotConfirmedPaymentExpirationScheduleTaskTest {
     void obsoleteNotConfirmedPaymentIfExpiredAndSigningBasketBlocked() {
         // Given
         List<PisCommonPaymentData> pisCommonPaymentDataList = new ArrayList<>();
-        PisCommonPaymentData pisCommonPaymentData = new PisCommonPaymentData();
+        PisCommonPaymentData pisCommonPaymentData = buildPayment(1L);
         pisCommonPaymentData.setSigningBasketBlocked(true);
         pisCommonPaymentDataList.add(pisCommonPaymentData);
-        pisCommonPaymentDataList.add(new PisCommonPaymentData());
-        pisCommonPaymentDataList.add(new PisCommonPaymentData());
+        pisCommonPaymentDataList.add(buildPayment(2L));
+        pisCommonPaymentDataList.add(buildPayment(3L));
 
-        when(paymentDataRepository.countByTransactionStatusIn(EnumSet.of(TransactionStatus.RCVD, TransactionStatus.PATC)))
-            .thenReturn(10L);
-        when(paymentDataRepository.findByTransactionStatusIn(EnumSet.of(TransactionStatus.RCVD, TransactionStatus.PATC), PageRequest.of(0, 100)))
+        when(paymentDataRepository.findByTransactionStatusInAndConfirmationDeadlineBeforeAndIdGreaterThanOrderByIdAsc(eq(NOT_CONFIRMED_STATUSES), any(OffsetDateTime.class), eq(0L), eq(PageRequest.of(0, 100))))
             .thenReturn(pisCommonPaymentDataList);
         when(pisCommonPaymentConfirmationExpirationService.isConfirmationExpired(any(PisCommonPaymentData.class)))
             .thenReturn(true, false);
@@ -116,29 +117,59 @@ class NotConfirmedPaymentExpirationScheduleTaskTest {
         scheduleTask.obsoleteNotConfirmedPaymentIfExpired();
 
         // Then
-        verify(paymentDataRepository, times(1))
-            .countByTransactionStatusIn(EnumSet.of(TransactionStatus.RCVD, TransactionStatus.PATC));
-        verify(paymentDataRepository, times(1))
-            .findByTransactionStatusIn(EnumSet.of(TransactionStatus.RCVD, TransactionStatus.PATC), PageRequest.of(0, 100));
         verify(pisCommonPaymentConfirmationExpirationService, times(2)).isConfirmationExpired(any(PisCommonPaymentData.class));
         verify(pisCommonPaymentConfirmationExpirationService, times(1)).updatePaymentDataListOnConfirmationExpiration(anyList());
 
         assertEquals(1, commonPaymentDataCaptor.getValue().size());
     }
 
+    @Test
+    void obsoleteNotConfirmedPaymentIfExpired_severalChunks() {
+        // Given
+        ReflectionTestUtils.setField(scheduleTask, "pageSize", 2);
+        PisCommonPaymentData lastPayment = buildPayment(7L);
+
+        when(paymentDataRepository.findByTransactionStatusInAndConfirmationDeadlineBeforeAndIdGreaterThanOrderByIdAsc(eq(NOT_CONFIRMED_STATUSES), any(OffsetDateTime.class), eq(0L), eq(PageRequest.of(0, 2))))
+            .thenReturn(List.of(buildPayment(3L), buildPayment(5L)));
+        when(paymentDataRepository.findByTransactionStatusInAndConfirmationDeadlineBeforeAndIdGreaterThanOrderByIdAsc(eq(NOT_CONFIRMED_STATUSES), any(OffsetDateTime.class), eq(5L), eq(PageRequest.of(0, 2))))
+            .thenReturn(List.of(lastPayment));
+        when(pisCommonPaymentConfirmationExpirationService.isConfirmationExpired(any(PisCommonPaymentData.class)))
+            .thenReturn(false, false, true);
+        when(pisCommonPaymentConfirmationExpirationService.updatePaymentDataListOnConfirmationExpiration(commonPaymentDataCaptor.capture()))
+            .thenReturn(Collections.emptyList());
+
+        // When
+        scheduleTask.obsoleteNotConfirmedPaymentIfExpired();
+
+        // Then
+        verify(paymentDataRepository, times(2))
+            .findByTransactionStatusInAndConfirmationDeadlineBeforeAndIdGreaterThanOrderByIdAsc(any(), any(), any(), any());
+        verify(pisCommonPaymentConfirmationExpirationService, times(1)).updatePaymentDataListOnConfirmationExpiration(anyList());
+        verify(pisCommonPaymentConfirmationExpirationService, times(1)).updateConfirmationDeadlines(anyList());
+
+        assertEquals(List.of(lastPayment), commonPaymentDataCaptor.getValue());
+    }
+
     @Test
     void obsoleteNotConfirmedPaymentIfExpired_emptyList() {
         // Given
-        when(paymentDataRepository.countByTransactionStatusIn(EnumSet.of(TransactionStatus.RCVD, TransactionStatus.PATC)))
-            .thenReturn(0L);
+        when(paymentDataRepository.findByTransactionStatusInAndConfirmationDeadlineBeforeAndIdGreaterThanOrderByIdAsc(eq(NOT_CONFIRMED_STATUSES), any(OffsetDateTime.class), eq(0L), eq(PageRequest.of(0, 100))))
+            .thenReturn(Collections.emptyList());
 
         // When
         scheduleTask.obsoleteNotConfirmedPaymentIfExpired();
 
         // Then
-        verify(paymentDataRepository, times(1)).countByTransactionStatusIn(EnumSet.of(TransactionStatus.RCVD, TransactionStatus.PATC));
-        verify(paymentDataRepository, never()).findByTransactionStatusIn(anySet(), any(Pageable.class));
+        verify(paymentDataRepository, times(1))
+            .findByTransactionStatusInAndConfirmationDeadlineBeforeAndIdGreaterThanOrderByIdAsc(any(), any(), any(), any());
         verify(pisCommonPaymentConfirmationExpirationService, never()).isConfirmationExpired(any(PisCommonPaymentData.class));
         verify(pisCommonPaymentConfirmationExpirationService, never()).updatePaymentDataListOnConfirmationExpiration(anyList());
+        verify(pisCommonPaymentConfirmationExpirationService, never()).updateConfirmationDeadlines(anyList());
+    }
+
+    private PisCommonPaymentData buildPayment(Long id) {
+        PisCommonPaymentData pisCommonPaymentData = new PisCommonPaymentData();
+        pisCommonPaymentData.setId(id);
+        return pisCommonPaymentData;
     }
 }
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2018-2024 adorsys GmbH & Co KG
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ *
+ * This project is also available under a separate commercial license. You can
+ * contact us at sales@adorsys.com.
+ */
+
+package de.adorsys.psd2.scheduler;
+
+import de.adorsys.psd2.scheduler.lock.SchedulerLease;
+import de.adorsys.psd2.scheduler.lock.SchedulerLockService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.OffsetDateTime;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SchedulerTaskRunnerTest {
+    private static final String TASK_NAME = "test-task";
+    private static final SchedulerLease LEASE = new SchedulerLease(TASK_NAME, "instance", OffsetDateTime.now(), OffsetDateTime.now().minusHours(1));
+
+    @InjectMocks
+    private SchedulerTaskRunner schedulerTaskRunner;
+
+    @Mock
+    private SchedulerLockService schedulerLockService;
+    @Spy
+    private SchedulerTaskMetrics schedulerTaskMetrics = new SchedulerTaskMetrics();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(schedulerTaskRunner, "lockEnabled", true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void run_leaseAcquired() {
+        // Given
+        when(schedulerLockService.tryAcquire(TASK_NAME)).thenReturn(Optional.of(LEASE));
+
+        // When
+        schedulerTaskRunner.run(TASK_NAME, () -> 5);
+
+        // Then
+        verify(schedulerLockService).release(LEASE, true);
+        SchedulerTaskMetrics.TaskStatistics statistics = schedulerTaskMetrics.getStatistics(TASK_NAME).orElseThrow();
+        assertEquals(1, statistics.getRunCount());
+        assertEquals(5, statistics.getLastRowCount());
+        assertTrue(statistics.getLastLagMs() >= 3_600_000);
+    }
+
+    @Test
+    void run_leaseHeldByAnotherInstance() {
+        // Given
+        when(schedulerLockService.tryAcquire(TASK_NAME)).thenReturn(Optional.empty());
+        AtomicBoolean executed = new AtomicBoolean();
+
+        // When
+        schedulerTaskRunner.run(TASK_NAME, () -> {
+            executed.set(true);
+            return 0;
+        });
+
+        // Then
+        assertFalse(executed.get());
+        verify(schedulerLockService, never()).release(any(), anyBoolean());
+        assertEquals(1, schedulerTaskMetrics.getStatistics(TASK_NAME).orElseThrow().getSkippedCount());
+    }
+
+    @Test
+    void run_leaseCreatedConcurrently() {
+        // Given
+        when(schedulerLockService.tryAcquire(TASK_NAME)).thenThrow(new DataIntegrityViolationException("duplicate key"));
+
+        // When
+        schedulerTaskRunner.run(TASK_NAME, () -> {
+            throw new AssertionError("Task must not be executed");
+        });
+
+        // Then
+        assertEquals(1, schedulerTaskMetrics.getStatistics(TASK_NAME).orElseThrow().getSkippedCount());
+    }
+
+    @Test
+    void run_lockTableUnavailable_taskIsRunWithoutLease() {
+        // Given
+        when(schedulerLockService.tryAcquire(TASK_NAME)).thenThrow(new QueryTimeoutException("timeout"));
+
+        // When
+        schedulerTaskRunner.run(TASK_NAME, () -> 3);
+
+        // Then
+        verify(schedulerLockService, never()).release(any(), anyBoolean());
+        SchedulerTaskMetrics.TaskStatistics statistics = schedulerTaskMetrics.getStatistics(TASK_NAME).orElseThrow();
+        assertEquals(3, statistics.getTotalRowCount());
+        assertEquals(-1, statistics.getLastLagMs());
+    }
+
+    @Test
+    void run_lockDisabled() {
+        // Given
+        ReflectionTestUtils.setField(schedulerTaskRunner, "lockEnabled", false);
+
+        // When
+        schedulerTaskRunner.run(TASK_NAME, () -> 1);
+
+        // Then
+        verifyNoInteractions(schedulerLockService);
+        assertEquals(1, schedulerTaskMetrics.getStatistics(TASK_NAME).orElseThrow().getRunCount());
+    }
+
+    @Test
+    void run_taskFailed() {
+        // Given
+        when(schedulerLockService.tryAcquire(TASK_NAME)).thenReturn(Optional.of(LEASE));
+
+        // When
+        assertThrows(IllegalStateException.class, () -> schedulerTaskRunner.run(TASK_NAME, () -> {
+            throw new IllegalStateException("failure");
+        }));
+
+        // Then
+        verify(schedulerLockService).release(LEASE, false);
+        assertEquals(1, schedulerTaskMetrics.getStatistics(TASK_NAME).orElseThrow().getFailedCount());
+    }
+
+    @Test
+    void run_transactional_leaseReleasedAfterCompletion() {
+        // Given
+        when(schedulerLockService.tryAcquire(TASK_NAME)).thenReturn(Optional.of(LEASE));
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        schedulerTaskRunner.run(TASK_NAME, () -> 2);
+
+        // Then
+        verify(schedulerLockService, never()).release(any(), anyBoolean());
+
+        TransactionSynchronizationManager.getSynchronizations()
+            .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        verify(schedulerLockService).release(LEASE, false);
+    }
+}
@@ -19,12 +19,18 @@
 package de.adorsys.psd2.scheduler;
 
 import de.adorsys.psd2.consent.repository.TppStopListRepository;
+import de.adorsys.psd2.consent.service.TppStopListChangeNotifier;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.function.LongSupplier;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -36,10 +42,18 @@ class TppStopListScheduleTaskTest {
 
     @Mock
     private TppStopListRepository tppStopListRepository;
+    @Mock
+    private TppStopListChangeNotifier tppStopListChangeNotifier;
+    @Mock
+    private SchedulerTaskRunner schedulerTaskRunner;
 
     @Test
     void unblockTppIfBlockingExpired() {
+        doAnswer(invocation -> invocation.<LongSupplier>getArgument(1).getAsLong())
+            .when(schedulerTaskRunner).run(eq(TppStopListScheduleTask.TASK_NAME), any(LongSupplier.class));
+
         scheduleTask.unblockTppIfBlockingExpired();
         verify(tppStopListRepository, times(1)).unblockExpiredBlockedTpp();
+        verify(tppStopListChangeNotifier, times(1)).notifyStopListChanged(null, null);
     }
 }
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2018-2024 adorsys GmbH & Co KG
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ *
+ * This project is also available under a separate commercial license. You can
+ * contact us at sales@adorsys.com.
+ */
+
+package de.adorsys.psd2.scheduler.lock;
+
+import de.adorsys.psd2.consent.domain.SchedulerLockEntity;
+import de.adorsys.psd2.consent.repository.SchedulerLockRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.OffsetDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SchedulerLockServiceTest {
+    private static final String TASK_NAME = "test-task";
+    private static final long LOCK_AT_MOST_FOR_MS = 600_000;
+    private static final long LOCK_AT_LEAST_FOR_MS = 5_000;
+
+    @InjectMocks
+    private SchedulerLockService schedulerLockService;
+
+    @Mock
+    private SchedulerLockRepository schedulerLockRepository;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(schedulerLockService, "lockAtMostForMs", LOCK_AT_MOST_FOR_MS);
+        ReflectionTestUtils.setField(schedulerLockService, "lockAtLeastForMs", LOCK_AT_LEAST_FOR_MS);
+    }
+
+    @Test
+    void tryAcquire_newLock() {
+        // Given
+        when(schedulerLockRepository.findById(TASK_NAME)).thenReturn(Optional.empty());
+        ArgumentCaptor<SchedulerLockEntity> lockCaptor = ArgumentCaptor.forClass(SchedulerLockEntity.class);
+
+        // When
+        Optional<SchedulerLease> lease = schedulerLockService.tryAcquire(TASK_NAME);
+
+        // Then
+        assertTrue(lease.isPresent());
+        assertNull(lease.get().getPreviousSuccessAt());
+        verify(schedulerLockRepository).save(lockCaptor.capture());
+        SchedulerLockEntity lock = lockCaptor.getValue();
+        assertEquals(TASK_NAME, lock.getName());
+        assertEquals(lease.get().getLockedBy(), lock.getLockedBy());
+        assertEquals(lock.getLockedAt().plusNanos(LOCK_AT_MOST_FOR_MS * 1_000_000), lock.getLockedUntil());
+        verify(schedulerLockRepository, never()).acquire(anyString(), anyString(), any(), any());
+    }
+
+    @Test
+    void tryAcquire_existingLockFree() {
+        // Given
+        OffsetDateTime lastSuccessAt = OffsetDateTime.now().minusHours(1);
+        when(schedulerLockRepository.findById(TASK_NAME))
+            .thenReturn(Optional.of(new SchedulerLockEntity(TASK_NAME, lastSuccessAt, lastSuccessAt, "other", lastSuccessAt)));
+        when(schedulerLockRepository.acquire(eq(TASK_NAME), anyString(), any(), any())).thenReturn(1);
+
+        // When
+        Optional<SchedulerLease> lease = schedulerLockService.tryAcquire(TASK_NAME);
+
+        // Then
+        assertTrue(lease.isPresent());
+        assertEquals(lastSuccessAt, lease.get().getPreviousSuccessAt());
+        verify(schedulerLockRepository, never()).save(any());
+    }
+
+    @Test
+    void tryAcquire_existingLockHeld() {
+        // Given
+        OffsetDateTime now = OffsetDateTime.now();
+        when(schedulerLockRepository.findById(TASK_NAME))
+            .thenReturn(Optional.of(new SchedulerLockEntity(TASK_NAME, now.plusMinutes(5), now, "other", null)));
+        when(schedulerLockRepository.acquire(eq(TASK_NAME), anyString(), any(), any())).thenReturn(0);
+
+        // When
+        Optional<SchedulerLease> lease = schedulerLockService.tryAcquire(TASK_NAME);
+
+        // Then
+        assertTrue(lease.isEmpty());
+    }
+
+    @Test
+    void release_succeeded_heldAtLeastForMinimalPeriod() {
+        // Given
+        OffsetDateTime lockedAt = OffsetDateTime.now();
+        SchedulerLease lease = new SchedulerLease(TASK_NAME, "instance", lockedAt, null);
+
+        // When
+        schedulerLockService.release(lease, true);
+
+        // Then
+        verify(schedulerLockRepository).releaseSucceeded(eq(TASK_NAME), eq("instance"), eq(lockedAt.plusNanos(LOCK_AT_LEAST_FOR_MS * 1_000_000)), any());
+        verify(schedulerLockRepository, never()).release(anyString(), anyString(), any());
+    }
+
+    @Test
+    void release_failed() {
+        // Given
+        OffsetDateTime lockedAt = OffsetDateTime.now().minusMinutes(1);
+        SchedulerLease lease = new SchedulerLease(TASK_NAME, "instance", lockedAt, null);
+        ArgumentCaptor<OffsetDateTime> lockedUntilCaptor = ArgumentCaptor.forClass(OffsetDateTime.class);
+
+        // When
+        schedulerLockService.release(lease, false);
+
+        // Then
+        verify(schedulerLockRepository).release(eq(TASK_NAME), eq("instance"), lockedUntilCaptor.capture());
+        assertFalse(lockedUntilCaptor.getValue().isBefore(lockedAt.plusMinutes(1)));
+        verify(schedulerLockRepository, never()).releaseSucceeded(anyString(), anyString(), any(), any());
+    }
+}
@@ -141,6 +141,19 @@ class EventReportRepositoryImplIT {
         assertEquals(expectedEvent, updateToUTC(eventsForPeriod.get(0)));
     }
 
+    @Test
+    void getEventsForPeriodAfterId() {
+        List<ReportEvent> firstChunk = repository.getEventsForPeriodAfterId(START, END, INSTANCE_ID, null, 1);
+
+        assertEquals(1, firstChunk.size());
+        assertEquals(expectedEvent, updateToUTC(firstChunk.get(0)));
+
+        List<ReportEvent> secondChunk = repository.getEventsForPeriodAfterId(START, END, INSTANCE_ID, firstChunk.get(0).getId(), 20);
+
+        assertEquals(1, secondChunk.size());
+        assertEquals(expectedPaymentEvent, updateToUTC(secondChunk.get(0)));
+    }
+
     private ReportEvent updateToUTC(ReportEvent reportEvent) {
         reportEvent.setTimestamp(reportEvent.getTimestamp().withOffsetSameInstant(ZoneOffset.UTC));
         return reportEvent;
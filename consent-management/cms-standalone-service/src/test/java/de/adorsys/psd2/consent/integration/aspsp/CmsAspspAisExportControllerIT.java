@@ -56,6 +56,7 @@ import java.time.LocalTime;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.util.Collections;
+import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -115,9 +116,9 @@ class CmsAspspAisExportControllerIT {
 
         given(consentJpaRepository.findAll(any(Specification.class), any(Pageable.class)))
             .willReturn(new PageImpl<>(Collections.singletonList(consentEntity), PageRequest.of(0, 20), 1));
-        given(authorisationRepository.findAllByParentExternalIdAndType(consentEntity.getExternalId(), AuthorisationType.CONSENT))
-            .willReturn(Collections.emptyList());
-        given(aisConsentUsageRepository.findReadByConsentAndUsageDate(eq(consentEntity), any(LocalDate.class)))
+        given(authorisationRepository.findAllByParentExternalIdsGrouped(List.of(consentEntity.getExternalId()), AuthorisationType.CONSENT))
+            .willReturn(Collections.emptyMap());
+        given(aisConsentUsageRepository.findUsageCountersByConsentAndUsageDate(eq(consentEntity), any(LocalDate.class)))
             .willReturn(Collections.emptyList());
     }
 
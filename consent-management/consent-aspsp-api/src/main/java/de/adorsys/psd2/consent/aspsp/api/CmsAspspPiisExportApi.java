@@ -28,7 +28,10 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.util.Collection;
@@ -111,4 +114,82 @@ public interface CmsAspspPiisExportApi {
         @RequestParam(value = CmsConstant.QUERY.PAGE_INDEX, defaultValue = "0") Integer pageIndex,
         @Parameter(description = "Quantity of consents on one page", example = "20")
         @RequestParam(value = CmsConstant.QUERY.ITEMS_PER_PAGE, defaultValue = "20") Integer itemsPerPage);
+
+    @GetMapping(path = "/tpp/{tpp-id}/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(description = "Streams consents by given mandatory TPP ID, optional creation date, PSU ID Data and instance ID as newline-delimited JSON. Every line contains the token, that resumes the export after this line")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "OK"),
+        @ApiResponse(responseCode = "400", description = "Bad request")})
+    ResponseEntity<StreamingResponseBody> streamConsentsByTpp(
+        @Parameter(description = "TPP ID", required = true, example = "12345987")
+        @PathVariable("tpp-id") String tppId,
+        @Parameter(description = "Creation start date", example = "2010-01-01")
+        @RequestHeader(value = "start-date", required = false)
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate start,
+        @Parameter(description = "Creation end date", example = "2030-01-01")
+        @RequestHeader(value = "end-date", required = false)
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate end,
+        @Parameter(description = "Client ID of the PSU in the ASPSP client interface. Might be mandated in the ASPSP's" +
+            " documentation. Is not contained if an OAuth2 based authentication was performed in a pre-step or an OAuth2 based SCA was performed in an preceding AIS service in the same session.")
+        @RequestHeader(value = "psu-id", required = false) String psuId,
+        @Parameter(description = "Type of the PSU-ID, needed in scenarios where PSUs have several PSU-IDs as access possibility")
+        @RequestHeader(value = "psu-id-type", required = false) String psuIdType,
+        @Parameter(description = "Might be mandated in the ASPSP's documentation. Only used in a corporate context.")
+        @RequestHeader(value = "psu-corporate-id", required = false) String psuCorporateId,
+        @Parameter(description = "Might be mandated in the ASPSP's documentation. Only used in a corporate context.")
+        @RequestHeader(value = "psu-corporate-id-type", required = false) String psuCorporateIdType,
+        @Parameter(description = "ID of the particular service instance")
+        @RequestHeader(value = "instance-id", required = false) String instanceId,
+        @Parameter(description = "Token of the last received consent, the export starts from the beginning if omitted")
+        @RequestParam(value = CmsConstant.QUERY.CONTINUATION_TOKEN, required = false) String continuationToken,
+        @Parameter(description = "Quantity of consents, read from the database at once", example = "100")
+        @RequestParam(value = CmsConstant.QUERY.CHUNK_SIZE, defaultValue = "100") Integer chunkSize);
+
+    @GetMapping(path = "/psu/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(description = "Streams consents by given mandatory PSU ID Data, optional creation date and instance ID as newline-delimited JSON. Every line contains the token, that resumes the export after this line")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "OK"),
+        @ApiResponse(responseCode = "400", description = "Bad request")})
+    ResponseEntity<StreamingResponseBody> streamConsentsByPsu(
+        @Parameter(description = "Creation start date", example = "2010-01-01")
+        @RequestHeader(value = "start-date", required = false)
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate start,
+        @Parameter(description = "Creation end date", example = "2030-01-01")
+        @RequestHeader(value = "end-date", required = false)
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate end,
+        @Parameter(description = "Client ID of the PSU in the ASPSP client interface. Might be mandated in the ASPSP's documentation. Is not contained if an OAuth2 based authentication was performed in a pre-step or an OAuth2 based SCA was performed in an preceding AIS service in the same session.")
+        @RequestHeader(value = "psu-id", required = false) String psuId,
+        @Parameter(description = "Type of the PSU-ID, needed in scenarios where PSUs have several PSU-IDs as access possibility")
+        @RequestHeader(value = "psu-id-type", required = false) String psuIdType,
+        @Parameter(description = "Might be mandated in the ASPSP's documentation. Only used in a corporate context.")
+        @RequestHeader(value = "psu-corporate-id", required = false) String psuCorporateId,
+        @Parameter(description = "Might be mandated in the ASPSP's documentation. Only used in a corporate context.")
+        @RequestHeader(value = "psu-corporate-id-type", required = false) String psuCorporateIdType,
+        @Parameter(description = "ID of the particular service instance")
+        @RequestHeader(value = "instance-id", required = false) String instanceId,
+        @Parameter(description = "Token of the last received consent, the export starts from the beginning if omitted")
+        @RequestParam(value = CmsConstant.QUERY.CONTINUATION_TOKEN, required = false) String continuationToken,
+        @Parameter(description = "Quantity of consents, read from the database at once", example = "100")
+        @RequestParam(value = CmsConstant.QUERY.CHUNK_SIZE, defaultValue = "100") Integer chunkSize);
+
+    @GetMapping(path = "/account/{account-id}/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(description = "Streams consents by given mandatory ASPSP account ID, optional creation date and instance ID as newline-delimited JSON. Every line contains the token, that resumes the export after this line")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "OK"),
+        @ApiResponse(responseCode = "400", description = "Bad request")})
+    ResponseEntity<StreamingResponseBody> streamConsentsByAccountId(
+        @Parameter(description = "Bank specific account identifier", required = true, example = "11111-99999")
+        @PathVariable("account-id") String aspspAccountId,
+        @Parameter(description = "Creation start date", example = "2010-01-01")
+        @RequestHeader(value = "start-date", required = false)
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate start,
+        @Parameter(description = "Creation end date", example = "2030-01-01")
+        @RequestHeader(value = "end-date", required = false)
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate end,
+        @Parameter(description = "ID of the particular service instance")
+        @RequestHeader(value = "instance-id", required = false) String instanceId,
+        @Parameter(description = "Token of the last received consent, the export starts from the beginning if omitted")
+        @RequestParam(value = CmsConstant.QUERY.CONTINUATION_TOKEN, required = false) String continuationToken,
+        @Parameter(description = "Quantity of consents, read from the database at once", example = "100")
+        @RequestParam(value = CmsConstant.QUERY.CHUNK_SIZE, defaultValue = "100") Integer chunkSize);
 }
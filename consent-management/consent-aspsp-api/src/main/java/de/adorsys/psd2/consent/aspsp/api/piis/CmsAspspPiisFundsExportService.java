@@ -20,6 +20,7 @@ package de.adorsys.psd2.consent.aspsp.api.piis;
 
 
 import de.adorsys.psd2.consent.api.piis.v1.CmsPiisConsent;
+import de.adorsys.psd2.consent.aspsp.api.CmsExportRecord;
 import de.adorsys.psd2.consent.aspsp.api.PageData;
 import de.adorsys.psd2.consent.aspsp.api.TooManyResultsException;
 import de.adorsys.psd2.xs2a.core.psu.PsuIdData;
@@ -28,6 +29,7 @@ import org.jetbrains.annotations.Nullable;
 
 import java.time.LocalDate;
 import java.util.Collection;
+import java.util.List;
 
 
 @NotNull
@@ -101,4 +103,61 @@ public interface CmsAspspPiisFundsExportService {
                                                                    Integer pageIndex, Integer itemsPerPage
     );
 
+    /**
+     * Returns next chunk of consents by given criteria for streaming export.
+     * <p>
+     * Consents are ordered by their creation in the CMS, so the export can be resumed with the continuation token of the
+     * last received consent.
+     *
+     * @param tppAuthorisationNumber Mandatory TPP ID
+     * @param createDateFrom         Optional starting creation date criteria
+     * @param createDateTo           Optional ending creation date criteria
+     * @param psuIdData              Optional Psu information criteria
+     * @param instanceId             Optional id of particular service instance.
+     *                               If it's not provided, default value will be used instead.
+     * @param continuationToken      Optional token of the last exported consent, <code>null</code> starts from the beginning
+     * @param chunkSize              maximum quantity of consents in the chunk
+     * @return Consents following the continuation token, empty list if there are no more consents
+     * @throws IllegalArgumentException if the continuation token is malformed
+     */
+    List<CmsExportRecord<CmsPiisConsent>> exportConsentChunkByTpp(String tppAuthorisationNumber,
+                                                                  @Nullable LocalDate createDateFrom, @Nullable LocalDate createDateTo,
+                                                                  @Nullable PsuIdData psuIdData, @Nullable String instanceId,
+                                                                  @Nullable String continuationToken, int chunkSize);
+
+    /**
+     * Returns next chunk of consents by given criteria for streaming export.
+     *
+     * @param psuIdData         Mandatory Psu information criteria
+     * @param createDateFrom    Optional starting creation date criteria
+     * @param createDateTo      Optional ending creation date criteria
+     * @param instanceId        Optional id of particular service instance.
+     *                          If it's not provided, default value will be used instead.
+     * @param continuationToken Optional token of the last exported consent, <code>null</code> starts from the beginning
+     * @param chunkSize         maximum quantity of consents in the chunk
+     * @return Consents following the continuation token, empty list if there are no more consents
+     * @throws IllegalArgumentException if the continuation token is malformed
+     */
+    List<CmsExportRecord<CmsPiisConsent>> exportConsentChunkByPsu(PsuIdData psuIdData,
+                                                                  @Nullable LocalDate createDateFrom, @Nullable LocalDate createDateTo,
+                                                                  @Nullable String instanceId,
+                                                                  @Nullable String continuationToken, int chunkSize);
+
+    /**
+     * Returns next chunk of consents by given criteria for streaming export.
+     *
+     * @param aspspAccountId    Bank specific account identifier
+     * @param createDateFrom    Optional starting creation date criteria
+     * @param createDateTo      Optional ending creation date criteria
+     * @param instanceId        Optional id of particular service instance.
+     *                          If it's not provided, default value will be used instead.
+     * @param continuationToken Optional token of the last exported consent, <code>null</code> starts from the beginning
+     * @param chunkSize         maximum quantity of consents in the chunk
+     * @return Consents following the continuation token, empty list if there are no more consents
+     * @throws IllegalArgumentException if the continuation token is malformed
+     */
+    List<CmsExportRecord<CmsPiisConsent>> exportConsentChunkByAccountId(@NotNull String aspspAccountId,
+                                                                        @Nullable LocalDate createDateFrom, @Nullable LocalDate createDateTo,
+                                                                        @Nullable String instanceId,
+                                                                        @Nullable String continuationToken, int chunkSize);
 }
@@ -20,6 +20,7 @@ package de.adorsys.psd2.consent.aspsp.api.pis;
 
 
 import de.adorsys.psd2.consent.api.pis.CmsBasePaymentResponse;
+import de.adorsys.psd2.consent.aspsp.api.CmsExportRecord;
 import de.adorsys.psd2.consent.aspsp.api.PageData;
 import de.adorsys.psd2.consent.aspsp.api.TooManyResultsException;
 import de.adorsys.psd2.xs2a.core.psu.PsuIdData;
@@ -28,6 +29,7 @@ import org.jetbrains.annotations.Nullable;
 
 import java.time.LocalDate;
 import java.util.Collection;
+import java.util.List;
 
 
 @NotNull
@@ -90,4 +92,58 @@ public interface CmsAspspPisExportService {
                                                      @NotNull String instanceId,
                                                      Integer pageIndex, Integer itemsPerPage);
 
+    /**
+     * Returns next chunk of payments by given criteria for streaming export.
+     * <p>
+     * Payments are ordered by their creation in the CMS, so the export can be resumed with the continuation token of the
+     * last received payment.
+     *
+     * @param tppAuthorisationNumber Mandatory TPP ID
+     * @param createDateFrom         Optional starting creation date criteria
+     * @param createDateTo           Optional ending creation date criteria
+     * @param psuIdData              Optional Psu information criteria
+     * @param instanceId             Mandatory id of particular service instance
+     * @param continuationToken      Optional token of the last exported payment, <code>null</code> starts from the beginning
+     * @param chunkSize              maximum quantity of payments in the chunk
+     * @return Payments following the continuation token, empty list if there are no more payments
+     * @throws IllegalArgumentException if the continuation token is malformed
+     */
+    List<CmsExportRecord<CmsBasePaymentResponse>> exportPaymentChunkByTpp(String tppAuthorisationNumber,
+                                                                          @Nullable LocalDate createDateFrom, @Nullable LocalDate createDateTo,
+                                                                          @Nullable PsuIdData psuIdData, @NotNull String instanceId,
+                                                                          @Nullable String continuationToken, int chunkSize);
+
+    /**
+     * Returns next chunk of payments by given criteria for streaming export.
+     *
+     * @param psuIdData         Mandatory Psu information criteria
+     * @param createDateFrom    Optional starting creation date criteria
+     * @param createDateTo      Optional ending creation date criteria
+     * @param instanceId        Mandatory id of particular service instance
+     * @param continuationToken Optional token of the last exported payment, <code>null</code> starts from the beginning
+     * @param chunkSize         maximum quantity of payments in the chunk
+     * @return Payments following the continuation token, empty list if there are no more payments
+     * @throws IllegalArgumentException if the continuation token is malformed
+     */
+    List<CmsExportRecord<CmsBasePaymentResponse>> exportPaymentChunkByPsu(PsuIdData psuIdData,
+                                                                          @Nullable LocalDate createDateFrom, @Nullable LocalDate createDateTo,
+                                                                          @NotNull String instanceId,
+                                                                          @Nullable String continuationToken, int chunkSize);
+
+    /**
+     * Returns next chunk of payments by given criteria for streaming export.
+     *
+     * @param aspspAccountId    Bank specific account identifier
+     * @param createDateFrom    Optional starting creation date criteria
+     * @param createDateTo      Optional ending creation date criteria
+     * @param instanceId        Mandatory id of particular service instance
+     * @param continuationToken Optional token of the last exported payment, <code>null</code> starts from the beginning
+     * @param chunkSize         maximum quantity of payments in the chunk
+     * @return Payments following the continuation token, empty list if there are no more payments
+     * @throws IllegalArgumentException if the continuation token is malformed
+     */
+    List<CmsExportRecord<CmsBasePaymentResponse>> exportPaymentChunkByAccountId(@NotNull String aspspAccountId,
+                                                                                @Nullable LocalDate createDateFrom, @Nullable LocalDate createDateTo,
+                                                                                @NotNull String instanceId,
+                                                                                @Nullable String continuationToken, int chunkSize);
 }
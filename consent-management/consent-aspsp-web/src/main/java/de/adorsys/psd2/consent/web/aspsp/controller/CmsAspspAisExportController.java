@@ -22,13 +22,17 @@ import de.adorsys.psd2.consent.api.CmsPageInfo;
 import de.adorsys.psd2.consent.api.ResponseData;
 import de.adorsys.psd2.consent.api.ais.CmsAisAccountConsent;
 import de.adorsys.psd2.consent.aspsp.api.CmsAspspAisExportApi;
+import de.adorsys.psd2.consent.aspsp.api.CmsExportRecord;
 import de.adorsys.psd2.consent.aspsp.api.PageData;
 import de.adorsys.psd2.consent.aspsp.api.ais.CmsAspspAisExportService;
+import de.adorsys.psd2.consent.web.aspsp.stream.NdjsonExportStreamer;
 import de.adorsys.psd2.xs2a.core.pagination.data.PageRequestParameters;
 import de.adorsys.psd2.xs2a.core.psu.PsuIdData;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.util.Collection;
@@ -37,6 +41,7 @@ import java.util.Collection;
 @RequiredArgsConstructor
 public class CmsAspspAisExportController implements CmsAspspAisExportApi {
     private final CmsAspspAisExportService cmsAspspAisExportService;
+    private final NdjsonExportStreamer ndjsonExportStreamer;
 
     @Override
     public ResponseData<Collection<CmsAisAccountConsent>> getConsentsByTpp(String tppId, LocalDate start,
@@ -86,4 +91,38 @@ public class CmsAspspAisExportController implements CmsAspspAisExportApi {
             new CmsPageInfo(consents.getPage(), consents.getPageSize(), consents.getTotal()),
             HttpStatus.OK);
     }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> streamConsentsByTpp(String tppId, LocalDate start, LocalDate end,
+                                                                     String psuId, String psuIdType,
+                                                                     String psuCorporateId, String psuCorporateIdType,
+                                                                     String instanceId, String continuationToken,
+                                                                     Integer chunkSize, String additionalTppInfo) {
+        PsuIdData psuIdData = new PsuIdData(psuId, psuIdType, psuCorporateId, psuCorporateIdType, null);
+        return ndjsonExportStreamer.stream(
+            (token, size) -> cmsAspspAisExportService.exportConsentChunkByTpp(tppId, start, end, psuIdData, instanceId, additionalTppInfo, token, size),
+            CmsExportRecord::getContinuationToken, continuationToken, chunkSize);
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> streamConsentsByPsu(LocalDate start, LocalDate end,
+                                                                     String psuId, String psuIdType,
+                                                                     String psuCorporateId, String psuCorporateIdType,
+                                                                     String instanceId, String continuationToken,
+                                                                     Integer chunkSize, String additionalTppInfo) {
+        PsuIdData psuIdData = new PsuIdData(psuId, psuIdType, psuCorporateId, psuCorporateIdType, null);
+        return ndjsonExportStreamer.stream(
+            (token, size) -> cmsAspspAisExportService.exportConsentChunkByPsu(psuIdData, start, end, instanceId, additionalTppInfo, token, size),
+            CmsExportRecord::getContinuationToken, continuationToken, chunkSize);
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> streamConsentsByAccount(String aspspAccountId, LocalDate start,
+                                                                         LocalDate end, String instanceId,
+                                                                         String continuationToken, Integer chunkSize,
+                                                                         String additionalTppInfo) {
+        return ndjsonExportStreamer.stream(
+            (token, size) -> cmsAspspAisExportService.exportConsentChunkByAccountId(aspspAccountId, start, end, instanceId, additionalTppInfo, token, size),
+            CmsExportRecord::getContinuationToken, continuationToken, chunkSize);
+    }
 }
@@ -19,15 +19,18 @@
 package de.adorsys.psd2.consent.web.aspsp.controller;
 
 import de.adorsys.psd2.consent.aspsp.api.CmsAspspEventApi;
+import de.adorsys.psd2.consent.web.aspsp.stream.NdjsonExportStreamer;
 import de.adorsys.psd2.event.core.model.EventOrigin;
 import de.adorsys.psd2.event.core.model.EventType;
 import de.adorsys.psd2.event.service.AspspEventService;
 import de.adorsys.psd2.event.service.model.AspspEvent;
+import de.adorsys.psd2.event.service.model.AspspEventRecord;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.OffsetDateTime;
 import java.util.List;
@@ -37,6 +40,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class CmsAspspEventController implements CmsAspspEventApi {
     private final AspspEventService aspspEventService;
+    private final NdjsonExportStreamer ndjsonExportStreamer;
 
     @Override
     public ResponseEntity<List<AspspEvent>> getEventsForDates(OffsetDateTime start, OffsetDateTime end, String instanceId,
@@ -81,4 +85,12 @@ public class CmsAspspEventController implements CmsAspspEventApi {
         List<AspspEvent> events = aspspEventService.getEventsForPeriodAndEventOrigin(start, end, eventOriginValue, instanceId, pageIndex, itemsPerPage);
         return new ResponseEntity<>(events, HttpStatus.OK);
     }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> streamEventsForDates(OffsetDateTime start, OffsetDateTime end, String instanceId,
+                                                                      String continuationToken, Integer chunkSize) {
+        return ndjsonExportStreamer.stream(
+            (token, size) -> aspspEventService.getEventChunkForPeriod(start, end, instanceId, token, size),
+            AspspEventRecord::getContinuationToken, continuationToken, chunkSize);
+    }
 }
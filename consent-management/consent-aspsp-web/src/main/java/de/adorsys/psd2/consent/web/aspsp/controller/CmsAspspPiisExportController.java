@@ -22,12 +22,16 @@ import de.adorsys.psd2.consent.api.CmsPageInfo;
 import de.adorsys.psd2.consent.api.ResponseData;
 import de.adorsys.psd2.consent.api.piis.v1.CmsPiisConsent;
 import de.adorsys.psd2.consent.aspsp.api.CmsAspspPiisExportApi;
+import de.adorsys.psd2.consent.aspsp.api.CmsExportRecord;
 import de.adorsys.psd2.consent.aspsp.api.PageData;
 import de.adorsys.psd2.consent.aspsp.api.piis.CmsAspspPiisFundsExportService;
+import de.adorsys.psd2.consent.web.aspsp.stream.NdjsonExportStreamer;
 import de.adorsys.psd2.xs2a.core.psu.PsuIdData;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.util.Collection;
@@ -36,6 +40,7 @@ import java.util.Collection;
 @RequiredArgsConstructor
 public class CmsAspspPiisExportController implements CmsAspspPiisExportApi {
     private final CmsAspspPiisFundsExportService cmsAspspPiisExportService;
+    private final NdjsonExportStreamer ndjsonExportStreamer;
 
     @Override
     public ResponseData<Collection<CmsPiisConsent>> getConsentsByTpp(String tppId, LocalDate start,
@@ -75,4 +80,35 @@ public class CmsAspspPiisExportController implements CmsAspspPiisExportApi {
             new CmsPageInfo(consents.getPage(), consents.getPageSize(), consents.getTotal()),
             HttpStatus.OK);
     }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> streamConsentsByTpp(String tppId, LocalDate start, LocalDate end,
+                                                                     String psuId, String psuIdType,
+                                                                     String psuCorporateId, String psuCorporateIdType,
+                                                                     String instanceId, String continuationToken, Integer chunkSize) {
+        PsuIdData psuIdData = new PsuIdData(psuId, psuIdType, psuCorporateId, psuCorporateIdType, null);
+        return ndjsonExportStreamer.stream(
+            (token, size) -> cmsAspspPiisExportService.exportConsentChunkByTpp(tppId, start, end, psuIdData, instanceId, token, size),
+            CmsExportRecord::getContinuationToken, continuationToken, chunkSize);
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> streamConsentsByPsu(LocalDate start, LocalDate end,
+                                                                     String psuId, String psuIdType,
+                                                                     String psuCorporateId, String psuCorporateIdType,
+                                                                     String instanceId, String continuationToken, Integer chunkSize) {
+        PsuIdData psuIdData = new PsuIdData(psuId, psuIdType, psuCorporateId, psuCorporateIdType, null);
+        return ndjsonExportStreamer.stream(
+            (token, size) -> cmsAspspPiisExportService.exportConsentChunkByPsu(psuIdData, start, end, instanceId, token, size),
+            CmsExportRecord::getContinuationToken, continuationToken, chunkSize);
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> streamConsentsByAccountId(String aspspAccountId, LocalDate start,
+                                                                           LocalDate end, String instanceId,
+                                                                           String continuationToken, Integer chunkSize) {
+        return ndjsonExportStreamer.stream(
+            (token, size) -> cmsAspspPiisExportService.exportConsentChunkByAccountId(aspspAccountId, start, end, instanceId, token, size),
+            CmsExportRecord::getContinuationToken, continuationToken, chunkSize);
+    }
 }
@@ -22,12 +22,16 @@ import de.adorsys.psd2.consent.api.CmsPageInfo;
 import de.adorsys.psd2.consent.api.ResponseData;
 import de.adorsys.psd2.consent.api.pis.CmsBasePaymentResponse;
 import de.adorsys.psd2.consent.aspsp.api.CmsAspspPisExportApi;
+import de.adorsys.psd2.consent.aspsp.api.CmsExportRecord;
 import de.adorsys.psd2.consent.aspsp.api.PageData;
 import de.adorsys.psd2.consent.aspsp.api.pis.CmsAspspPisExportService;
+import de.adorsys.psd2.consent.web.aspsp.stream.NdjsonExportStreamer;
 import de.adorsys.psd2.xs2a.core.psu.PsuIdData;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.util.Collection;
@@ -36,6 +40,7 @@ import java.util.Collection;
 @RequiredArgsConstructor
 public class CmsAspspPisExportController implements CmsAspspPisExportApi {
     private final CmsAspspPisExportService cmsAspspPisExportService;
+    private final NdjsonExportStreamer ndjsonExportStreamer;
 
     @Override
     public ResponseData<Collection<CmsBasePaymentResponse>> getPaymentsByTpp(String tppId, LocalDate start, LocalDate end,
@@ -73,4 +78,35 @@ public class CmsAspspPisExportController implements CmsAspspPisExportApi {
             new CmsPageInfo(payments.getPage(), payments.getPageSize(), payments.getTotal()),
             HttpStatus.OK);
     }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> streamPaymentsByTpp(String tppId, LocalDate start, LocalDate end,
+                                                                     String psuId, String psuIdType,
+                                                                     String psuCorporateId, String psuCorporateIdType,
+                                                                     String instanceId, String continuationToken, Integer chunkSize) {
+        PsuIdData psuIdData = new PsuIdData(psuId, psuIdType, psuCorporateId, psuCorporateIdType, null);
+        return ndjsonExportStreamer.stream(
+            (token, size) -> cmsAspspPisExportService.exportPaymentChunkByTpp(tppId, start, end, psuIdData, instanceId, token, size),
+            CmsExportRecord::getContinuationToken, continuationToken, chunkSize);
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> streamPaymentsByPsu(LocalDate start, LocalDate end,
+                                                                     String psuId, String psuIdType,
+                                                                     String psuCorporateId, String psuCorporateIdType,
+                                                                     String instanceId, String continuationToken, Integer chunkSize) {
+        PsuIdData psuIdData = new PsuIdData(psuId, psuIdType, psuCorporateId, psuCorporateIdType, null);
+        return ndjsonExportStreamer.stream(
+            (token, size) -> cmsAspspPisExportService.exportPaymentChunkByPsu(psuIdData, start, end, instanceId, token, size),
+            CmsExportRecord::getContinuationToken, continuationToken, chunkSize);
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> streamPaymentsByAccountId(String aspspAccountId, LocalDate start,
+                                                                           LocalDate end, String instanceId,
+                                                                           String continuationToken, Integer chunkSize) {
+        return ndjsonExportStreamer.stream(
+            (token, size) -> cmsAspspPisExportService.exportPaymentChunkByAccountId(aspspAccountId, start, end, instanceId, token, size),
+            CmsExportRecord::getContinuationToken, continuationToken, chunkSize);
+    }
 }
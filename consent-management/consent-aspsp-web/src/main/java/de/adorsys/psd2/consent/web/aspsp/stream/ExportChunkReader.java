@@ -16,30 +16,26 @@
  * contact us at sales@adorsys.com.
  */
 
-package de.adorsys.psd2.scheduler;
+package de.adorsys.psd2.consent.web.aspsp.stream;
 
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
+import org.jetbrains.annotations.Nullable;
 
-public abstract class PageableSchedulerTask {
-
-    @Value("${xs2a.cms.scheduler.processing.page-size:100}")
-    protected int pageSize;
+import java.util.List;
 
+/**
+ * Reads a single chunk of a streaming export
+ *
+ * @param <T> type of exported records
+ */
+@FunctionalInterface
+public interface ExportChunkReader<T> {
     /**
-     * Based on amount of items calculates page count and executes `runPageable` method with {@link Pageable} parameter
+     * Reads records following the given continuation token
      *
-     * @param totalItems total items
+     * @param continuationToken token of the last record of the previous chunk, <code>null</code> for the first chunk
+     * @param chunkSize         maximum quantity of records in the chunk
+     * @return records of the chunk, empty list if there are no more records
+     * @throws IllegalArgumentException if the continuation token is malformed
      */
-    protected void execute(long totalItems) {
-        int totalPages = (int) ((totalItems + pageSize - 1) / pageSize);
-        for (int page = 0; page < totalPages; page++) {
-            Pageable pageable = PageRequest.of(page, pageSize);
-
-            executePageable(pageable);
-        }
-    }
-
-    protected abstract void executePageable(Pageable pageable);
+    List<T> read(@Nullable String continuationToken, int chunkSize);
 }
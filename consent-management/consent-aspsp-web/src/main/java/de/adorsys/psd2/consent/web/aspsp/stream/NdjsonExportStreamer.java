@@ -0,0 +1,151 @@
+/*
+ * Copyright 2018-2024 adorsys GmbH & Co KG
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ *
+ * This project is also available under a separate commercial license. You can
+ * contact us at sales@adorsys.com.
+ */
+
+package de.adorsys.psd2.consent.web.aspsp.stream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.Nullable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.function.Function;
+
+/**
+ * Writes streaming exports as newline-delimited JSON.
+ * <p>
+ * Records are read chunk by chunk and every chunk is written and flushed to the client before the next one is read,
+ * so memory consumption doesn't depend on the size of the export. Each chunk is read in its own short transaction.
+ * <p>
+ * Streaming runs as an asynchronous request, which timeout is set to the export timeout instead of the default
+ * asynchronous request timeout of the application, so that long exports are not interrupted.
+ */
+@Slf4j
+@Component
+public class NdjsonExportStreamer {
+    static final int DEFAULT_CHUNK_SIZE = 100;
+    static final int MAX_CHUNK_SIZE = 1000;
+    private static final String TIMEOUT_INTERCEPTOR_KEY = NdjsonExportStreamer.class.getName() + ".TIMEOUT";
+
+    private final ObjectMapper objectMapper;
+    private final long timeoutMs;
+
+    public NdjsonExportStreamer(ObjectMapper objectMapper,
+                                @Value("${xs2a.cms.export.stream.timeout.ms:3600000}") long timeoutMs) {
+        this.objectMapper = objectMapper;
+        this.timeoutMs = timeoutMs;
+    }
+
+    /**
+     * Creates response, streaming all records of the export.
+     * <p>
+     * The first chunk is read before the response is committed, so that malformed continuation token results in
+     * <code>400 Bad Request</code> instead of an interrupted stream.
+     *
+     * @param chunkReader       reads chunks of the export
+     * @param tokenExtractor    extracts continuation token from the record
+     * @param continuationToken optional token of the last record, received by the client
+     * @param chunkSize         optional quantity of records, read at once
+     * @param <T>               type of exported records
+     * @return response with the streaming body
+     */
+    public <T> ResponseEntity<StreamingResponseBody> stream(ExportChunkReader<T> chunkReader,
+                                                            Function<T, String> tokenExtractor,
+                                                            @Nullable String continuationToken,
+                                                            @Nullable Integer chunkSize) {
+        int actualChunkSize = chunkSize == null || chunkSize < 1
+                                  ? DEFAULT_CHUNK_SIZE
+                                  : Math.min(chunkSize, MAX_CHUNK_SIZE);
+
+        List<T> firstChunk;
+        try {
+            firstChunk = chunkReader.read(continuationToken, actualChunkSize);
+        } catch (IllegalArgumentException e) {
+            log.info("Export can't be started: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+
+        applyTimeout();
+        StreamingResponseBody body = outputStream -> writeChunks(outputStream, firstChunk, chunkReader, tokenExtractor, actualChunkSize);
+        return ResponseEntity.ok()
+                   .contentType(MediaType.APPLICATION_NDJSON)
+                   .body(body);
+    }
+
+    private void applyTimeout() {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (!(requestAttributes instanceof ServletRequestAttributes)) {
+            return;
+        }
+        // Timeout is set right before the asynchronous request is started, the default timeout is applied earlier
+        WebAsyncUtils.getAsyncManager(((ServletRequestAttributes) requestAttributes).getRequest())
+            .registerCallableInterceptor(TIMEOUT_INTERCEPTOR_KEY, new CallableProcessingInterceptor() {
+                @Override
+                public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+                    if (request instanceof AsyncWebRequest) {
+                        ((AsyncWebRequest) request).setTimeout(timeoutMs > 0 ? timeoutMs : -1);
+                    }
+                }
+            });
+    }
+
+    private <T> void writeChunks(OutputStream outputStream, List<T> firstChunk, ExportChunkReader<T> chunkReader,
+                                 Function<T, String> tokenExtractor, int chunkSize) throws IOException {
+        // Chunks are flushed as a whole, records of the chunk are buffered
+        ObjectWriter writer = objectMapper.writer()
+                                  .without(SerializationFeature.INDENT_OUTPUT)
+                                  .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (JsonGenerator generator = writer.createGenerator(outputStream)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            // Records are separated by line breaks only
+            generator.setRootValueSeparator(null);
+
+            List<T> chunk = firstChunk;
+            while (!chunk.isEmpty()) {
+                for (T exportRecord : chunk) {
+                    writer.writeValue(generator, exportRecord);
+                    generator.writeRaw('\n');
+                }
+                generator.flush();
+
+                // Short chunk means that there are no more records, so one query can be saved
+                chunk = chunk.size() < chunkSize
+                            ? Collections.emptyList()
+                            : chunkReader.read(tokenExtractor.apply(chunk.get(chunk.size() - 1)), chunkSize);
+            }
+        }
+    }
+}
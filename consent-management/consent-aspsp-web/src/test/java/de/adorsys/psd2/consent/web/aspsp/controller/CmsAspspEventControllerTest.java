@@ -19,10 +19,12 @@
 package de.adorsys.psd2.consent.web.aspsp.controller;
 
 import de.adorsys.psd2.consent.web.aspsp.config.ObjectMapperTestConfig;
+import de.adorsys.psd2.consent.web.aspsp.stream.NdjsonExportStreamer;
 import de.adorsys.psd2.event.core.model.EventOrigin;
 import de.adorsys.psd2.event.core.model.EventType;
 import de.adorsys.psd2.event.service.AspspEventService;
 import de.adorsys.psd2.event.service.model.AspspEvent;
+import de.adorsys.psd2.event.service.model.AspspEventRecord;
 import de.adorsys.xs2a.reader.JsonReader;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -33,15 +35,19 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import java.time.OffsetDateTime;
 import java.util.Collections;
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 class CmsAspspEventControllerTest {
@@ -53,6 +59,8 @@ class CmsAspspEventControllerTest {
     private static final String PAYMENT_ID = "paymentId";
     private static final String EVENT_LIST_PATH = "json/list-aspsp-event.json";
     private static final String GET_ASPSP_EVENT_LIST_URL = "/aspsp-api/v1/events/";
+    private static final String STREAM_ASPSP_EVENTS_URL = "/aspsp-api/v1/events/stream";
+    private static final String CONTINUATION_TOKEN = "continuation token";
     private static final String GET_ASPSP_EVENT_LIST_BY_CONSENT_ID_URL = "/aspsp-api/v1/events/consent/consentId";
     private static final String GET_ASPSP_EVENT_LIST_BY_PAYMENT_ID_URL = "/aspsp-api/v1/events/payment/paymentId";
     private static final String GET_ASPSP_EVENT_LIST_BY_EVENT_TYPE_URL = "/aspsp-api/v1/events/type/GET_SIGNING_BASKET_REQUEST_RECEIVED";
@@ -67,12 +75,13 @@ class CmsAspspEventControllerTest {
     private final HttpHeaders httpHeaders = new HttpHeaders();
     private MockMvc mockMvc;
     private List<AspspEvent> events;
+    private AspspEvent event;
 
     @BeforeEach
     void setUp() {
         ObjectMapperTestConfig objectMapperTestConfig = new ObjectMapperTestConfig();
 
-        AspspEvent event = jsonReader.getObjectFromFile("json/aspsp-event.json", AspspEvent.class);
+        event = jsonReader.getObjectFromFile("json/aspsp-event.json", AspspEvent.class);
         events = Collections.singletonList(event);
 
         httpHeaders.add("start-date", START);
@@ -80,7 +89,7 @@ class CmsAspspEventControllerTest {
 
         MockitoAnnotations.initMocks(this);
         mockMvc = MockMvcBuilders
-                      .standaloneSetup(new CmsAspspEventController(aspspEventService))
+                      .standaloneSetup(new CmsAspspEventController(aspspEventService, new NdjsonExportStreamer(objectMapperTestConfig.getXs2aObjectMapper(), 0)))
                       .setMessageConverters(new MappingJackson2HttpMessageConverter(objectMapperTestConfig.getXs2aObjectMapper()))
                       .build();
     }
@@ -101,6 +110,44 @@ class CmsAspspEventControllerTest {
         verify(aspspEventService, times(1)).getEventsForPeriod(OffsetDateTime.parse(START), OffsetDateTime.parse(END), INSTANCE_ID, 0, 20);
     }
 
+    @Test
+    void streamEventsForDates_success() throws Exception {
+        when(aspspEventService.getEventChunkForPeriod(OffsetDateTime.parse(START), OffsetDateTime.parse(END), INSTANCE_ID, null, 1))
+            .thenReturn(Collections.singletonList(new AspspEventRecord(CONTINUATION_TOKEN, event)));
+        when(aspspEventService.getEventChunkForPeriod(OffsetDateTime.parse(START), OffsetDateTime.parse(END), INSTANCE_ID, CONTINUATION_TOKEN, 1))
+            .thenReturn(Collections.emptyList());
+
+        MvcResult mvcResult = mockMvc.perform(get(STREAM_ASPSP_EVENTS_URL)
+                                                  .headers(httpHeaders)
+                                                  .header("instance-id", INSTANCE_ID)
+                                                  .param("chunkSize", "1"))
+                                  .andExpect(request().asyncStarted())
+                                  .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(mvcResult))
+                          .andExpect(status().is(HttpStatus.OK.value()))
+                          .andExpect(content().contentType(MediaType.APPLICATION_NDJSON_VALUE))
+                          .andReturn()
+                          .getResponse()
+                          .getContentAsString();
+
+        assertTrue(body.contains(CONTINUATION_TOKEN));
+
+        verify(aspspEventService, times(1)).getEventChunkForPeriod(OffsetDateTime.parse(START), OffsetDateTime.parse(END), INSTANCE_ID, CONTINUATION_TOKEN, 1);
+    }
+
+    @Test
+    void streamEventsForDates_malformedContinuationToken() throws Exception {
+        when(aspspEventService.getEventChunkForPeriod(OffsetDateTime.parse(START), OffsetDateTime.parse(END), INSTANCE_ID, CONTINUATION_TOKEN, 100))
+            .thenThrow(new IllegalArgumentException("Continuation token is malformed"));
+
+        mockMvc.perform(get(STREAM_ASPSP_EVENTS_URL)
+                            .headers(httpHeaders)
+                            .header("instance-id", INSTANCE_ID)
+                            .param("continuationToken", CONTINUATION_TOKEN))
+            .andExpect(status().is(HttpStatus.BAD_REQUEST.value()));
+    }
+
     @Test
     void getEventsForDatesAndConsentId_success() throws Exception {
         when(aspspEventService.getEventsForPeriodAndConsentId(OffsetDateTime.parse(START), OffsetDateTime.parse(END), CONSENT_ID, INSTANCE_ID, 0, 20))
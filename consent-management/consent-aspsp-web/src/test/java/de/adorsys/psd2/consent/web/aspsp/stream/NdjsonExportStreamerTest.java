@@ -0,0 +1,208 @@
+/*
+ * Copyright 2018-2024 adorsys GmbH & Co KG
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ *
+ * This project is also available under a separate commercial license. You can
+ * contact us at sales@adorsys.com.
+ */
+
+package de.adorsys.psd2.consent.web.aspsp.stream;
+
+import de.adorsys.psd2.consent.web.aspsp.config.ObjectMapperTestConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class NdjsonExportStreamerTest {
+    private static final String FIRST_TOKEN = "first";
+    private static final String SECOND_TOKEN = "second";
+    private static final String THIRD_TOKEN = "third";
+    private static final long EXPORT_TIMEOUT_MS = 60000;
+    private static final long DEFAULT_ASYNC_TIMEOUT_MS = 10;
+
+    private NdjsonExportStreamer ndjsonExportStreamer;
+    private List<String> requestedTokens;
+    private List<Integer> requestedChunkSizes;
+
+    @BeforeEach
+    void setUp() {
+        ndjsonExportStreamer = new NdjsonExportStreamer(new ObjectMapperTestConfig().getXs2aObjectMapper(), EXPORT_TIMEOUT_MS);
+        requestedTokens = new ArrayList<>();
+        requestedChunkSizes = new ArrayList<>();
+    }
+
+    @Test
+    void stream_writesAllChunksAsLines() throws IOException {
+        // Given
+        Map<String, List<TestRecord>> chunks = Map.of(
+            "", List.of(new TestRecord(FIRST_TOKEN), new TestRecord(SECOND_TOKEN)),
+            SECOND_TOKEN, List.of(new TestRecord(THIRD_TOKEN))
+        );
+
+        // When
+        ResponseEntity<StreamingResponseBody> response =
+            ndjsonExportStreamer.stream((token, size) -> readChunk(chunks, token, size), TestRecord::getContinuationToken, null, 2);
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(MediaType.APPLICATION_NDJSON, response.getHeaders().getContentType());
+        assertEquals("{\"continuationToken\":\"first\"}\n" +
+                         "{\"continuationToken\":\"second\"}\n" +
+                         "{\"continuationToken\":\"third\"}\n",
+                     writeBody(response));
+        // Third chunk isn't read, as the second one is shorter than requested
+        assertEquals(List.of("", SECOND_TOKEN), requestedTokens);
+    }
+
+    @Test
+    void stream_emptyExport() throws IOException {
+        // When
+        ResponseEntity<StreamingResponseBody> response =
+            ndjsonExportStreamer.stream((token, size) -> readChunk(Collections.emptyMap(), token, size), TestRecord::getContinuationToken, null, null);
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("", writeBody(response));
+        assertEquals(Collections.singletonList(NdjsonExportStreamer.DEFAULT_CHUNK_SIZE), requestedChunkSizes);
+    }
+
+    @Test
+    void stream_chunkSizeIsLimited() {
+        // When
+        ndjsonExportStreamer.stream((token, size) -> readChunk(Collections.emptyMap(), token, size), TestRecord::getContinuationToken,
+                                    null, NdjsonExportStreamer.MAX_CHUNK_SIZE + 1);
+        ndjsonExportStreamer.stream((token, size) -> readChunk(Collections.emptyMap(), token, size), TestRecord::getContinuationToken,
+                                    null, 0);
+
+        // Then
+        assertEquals(List.of(NdjsonExportStreamer.MAX_CHUNK_SIZE, NdjsonExportStreamer.DEFAULT_CHUNK_SIZE), requestedChunkSizes);
+    }
+
+    @Test
+    void stream_malformedContinuationToken() {
+        // When
+        ResponseEntity<StreamingResponseBody> response =
+            ndjsonExportStreamer.stream((token, size) -> {
+                throw new IllegalArgumentException("Continuation token is malformed");
+            }, TestRecord::getContinuationToken, "malformed", 10);
+
+        // Then
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertNull(response.getBody());
+    }
+
+    @Test
+    void stream_multipleChunks_exportTimeoutOverridesDefaultTimeout() throws Exception {
+        // Given
+        Map<String, List<TestRecord>> chunks = Map.of(
+            "", List.of(new TestRecord(FIRST_TOKEN)),
+            FIRST_TOKEN, List.of(new TestRecord(SECOND_TOKEN)),
+            SECOND_TOKEN, List.of(new TestRecord(THIRD_TOKEN))
+        );
+        // Each chunk takes longer than the whole default asynchronous request timeout
+        ExportChunkReader<TestRecord> slowChunkReader = (token, size) -> {
+            sleep(DEFAULT_ASYNC_TIMEOUT_MS * 3);
+            return readChunk(chunks, token, size);
+        };
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new TestExportController(ndjsonExportStreamer, slowChunkReader))
+                              .setAsyncRequestTimeout(DEFAULT_ASYNC_TIMEOUT_MS)
+                              .build();
+
+        // When
+        MvcResult mvcResult = mockMvc.perform(get("/export"))
+                                  .andExpect(request().asyncStarted())
+                                  .andReturn();
+
+        // Then
+        assertEquals(EXPORT_TIMEOUT_MS, mvcResult.getRequest().getAsyncContext().getTimeout());
+        mockMvc.perform(asyncDispatch(mvcResult))
+            .andExpect(status().isOk())
+            .andExpect(content().string("{\"continuationToken\":\"first\"}\n" +
+                                            "{\"continuationToken\":\"second\"}\n" +
+                                            "{\"continuationToken\":\"third\"}\n"));
+        assertEquals(List.of("", FIRST_TOKEN, SECOND_TOKEN, THIRD_TOKEN), requestedTokens);
+    }
+
+    private List<TestRecord> readChunk(Map<String, List<TestRecord>> chunks, String token, int chunkSize) {
+        String actualToken = token == null ? "" : token;
+        requestedTokens.add(actualToken);
+        requestedChunkSizes.add(chunkSize);
+        return chunks.getOrDefault(actualToken, Collections.emptyList());
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private String writeBody(ResponseEntity<StreamingResponseBody> response) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        response.getBody().writeTo(outputStream);
+        return outputStream.toString(StandardCharsets.UTF_8);
+    }
+
+    @RestController
+    static class TestExportController {
+        private final NdjsonExportStreamer ndjsonExportStreamer;
+        private final ExportChunkReader<TestRecord> chunkReader;
+
+        TestExportController(NdjsonExportStreamer ndjsonExportStreamer, ExportChunkReader<TestRecord> chunkReader) {
+            this.ndjsonExportStreamer = ndjsonExportStreamer;
+            this.chunkReader = chunkReader;
+        }
+
+        @GetMapping("/export")
+        public ResponseEntity<StreamingResponseBody> export() {
+            return ndjsonExportStreamer.stream(chunkReader, TestRecord::getContinuationToken, null, 1);
+        }
+    }
+
+    public static class TestRecord {
+        private final String continuationToken;
+
+        TestRecord(String continuationToken) {
+            this.continuationToken = continuationToken;
+        }
+
+        public String getContinuationToken() {
+            return continuationToken;
+        }
+    }
+}
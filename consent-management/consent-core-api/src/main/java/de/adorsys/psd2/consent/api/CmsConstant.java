@@ -47,5 +47,7 @@ public class CmsConstant {
         public static final String ADDITIONAL_TPP_INFO = "additionalTppInfo";
         public static final String STATUS = "status";
         public static final String ACCOUNT_NUMBER = "accountNumber";
+        public static final String CONTINUATION_TOKEN = "continuationToken";
+        public static final String CHUNK_SIZE = "chunkSize";
     }
 }
@@ -22,6 +22,7 @@ import de.adorsys.psd2.consent.repository.CryptoAlgorithmRepository;
 import de.adorsys.psd2.consent.service.security.provider.CryptoInstanceFactory;
 import de.adorsys.psd2.consent.service.security.provider.CryptoProvider;
 import de.adorsys.psd2.consent.service.security.provider.CryptoProviderHolder;
+import de.adorsys.psd2.consent.service.security.provider.DerivedKeyCache;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Value;
@@ -42,16 +43,24 @@ public class CryptoConfig {
     @Value("${xs2a.cms.encryption.defaultProvider.idProvider:psGLvQpt9Q}")
     private String defaultIdProviderId;
 
+    @Value("${xs2a.cms.encryption.key-cache.max-size:1000}")
+    private int derivedKeyCacheMaxSize;
+
+    @Value("${xs2a.cms.encryption.key-cache.ttl-seconds:3600}")
+    private long derivedKeyCacheTtlSeconds;
+
     @Bean
     public CryptoProviderHolder initCryptoProviders(CryptoAlgorithmRepository cryptoAlgorithmRepository) {
         Map<String, CryptoProvider> providerMap = getInitializedProviderMap(cryptoAlgorithmRepository);
-        CryptoProviderHolder cryptoProviderHolder = new CryptoProviderHolder(providerMap, defaultDataProviderId, defaultIdProviderId);
+        DerivedKeyCache derivedKeyCache = new DerivedKeyCache(derivedKeyCacheMaxSize, derivedKeyCacheTtlSeconds);
+        CryptoProviderHolder cryptoProviderHolder = new CryptoProviderHolder(providerMap, defaultDataProviderId, defaultIdProviderId, derivedKeyCache);
 
         validateDefaultProviders(cryptoProviderHolder.getDefaultDataProvider(), cryptoProviderHolder.getDefaultIdProvider());
 
         log.info("Crypto providers are initialized: {}", cryptoProviderHolder.getInitializedProviders());
         log.info("Provider for Data encryption by default: {}", cryptoProviderHolder.getDefaultDataProvider());
         log.info("Provider for ID encryption by default: {}", cryptoProviderHolder.getDefaultIdProvider());
+        log.info("Derived key cache: {}", derivedKeyCache);
 
         return cryptoProviderHolder;
     }
@@ -29,7 +29,7 @@ import javax.persistence.*;
 public class AdditionalPsuData {
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "additional_psu_data_generator")
-    @SequenceGenerator(name = "additional_psu_data_generator", sequenceName = "additional_psu_data_id_seq", allocationSize = 1)
+    @SequenceGenerator(name = "additional_psu_data_generator", sequenceName = "additional_psu_data_id_seq", allocationSize = 50)
     private Long id;
     @Column
     private String psuIpPort;
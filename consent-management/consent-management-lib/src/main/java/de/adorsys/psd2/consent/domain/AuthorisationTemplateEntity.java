@@ -20,11 +20,13 @@ package de.adorsys.psd2.consent.domain;
 
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
 
 import javax.persistence.*;
 
 @Data
 @Entity(name = "authorisation_template")
+@BatchSize(size = 100)
 @NoArgsConstructor
 public class AuthorisationTemplateEntity {
 
@@ -32,7 +34,7 @@ public class AuthorisationTemplateEntity {
     @Column(name = "authorisation_template_id")
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "authorisation_template_generator")
     @SequenceGenerator(name = "authorisation_template_generator", sequenceName = "authorisation_template_id_seq",
-        allocationSize = 1)
+        allocationSize = 50)
     private Long id;
 
     @Column(name = "redirect_uri")
@@ -41,7 +41,7 @@ public class TppAccountAccess {
     @Id
     @Column(name = "id")
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "account_access_generator")
-    @SequenceGenerator(name = "account_access_generator", sequenceName = "account_access_seq", allocationSize = 1)
+    @SequenceGenerator(name = "account_access_generator", sequenceName = "account_access_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(cascade = CascadeType.ALL)
@@ -32,26 +32,31 @@ import de.adorsys.psd2.xs2a.core.consent.ConsentType;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import org.apache.commons.collections4.CollectionUtils;
+import org.hibernate.annotations.BatchSize;
 
 import javax.persistence.*;
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 
 @Data
 @Entity(name = "consent")
 @EqualsAndHashCode(callSuper = true)
 public class ConsentEntity extends InstanceDependableEntity implements Authorisable {
+    private static final Set<ConsentStatus> NOT_CONFIRMED_STATUSES = EnumSet.of(ConsentStatus.RECEIVED, ConsentStatus.PARTIALLY_AUTHORISED);
+    private static final Set<ConsentStatus> EXPIRABLE_STATUSES = EnumSet.of(ConsentStatus.RECEIVED, ConsentStatus.VALID);
 
     @Id
     @Column(name = "consent_id")
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "consent_generator")
     @SequenceGenerator(name = "consent_generator", sequenceName = "consent_id_seq",
-        allocationSize = 1)
+        allocationSize = 50)
     private Long id;
 
     @Column(name = "external_id", nullable = false)
@@ -93,6 +98,20 @@ public class ConsentEntity extends InstanceDependableEntity implements Authorisa
     @Column(name = "last_action_date")
     private LocalDate lastActionDate;
 
+    /**
+     * Moment, after which not confirmed consent is checked for confirmation expiration by the scheduler.
+     * Is cleared as soon as the consent leaves not confirmed statuses.
+     */
+    @Column(name = "confirmation_deadline")
+    private OffsetDateTime confirmationDeadline;
+
+    /**
+     * First day, on which received or valid consent is checked for expiration by the scheduler.
+     * Is cleared as soon as the consent leaves received and valid statuses.
+     */
+    @Column(name = "expiration_deadline")
+    private LocalDate expirationDeadline;
+
     @Column(name = "request_date_time", nullable = false)
     private OffsetDateTime requestDateTime;
 
@@ -110,18 +129,22 @@ public class ConsentEntity extends InstanceDependableEntity implements Authorisa
     @JoinColumn(name = "consent_tpp_information_id", nullable = false)
     private ConsentTppInformationEntity tppInformation = new ConsentTppInformationEntity();
 
+    @BatchSize(size = 100)
     @OneToMany(cascade = CascadeType.ALL)
     @JoinTable(name = "consent_psu_data",
         joinColumns = @JoinColumn(name = "consent_id"),
         inverseJoinColumns = @JoinColumn(name = "psu_data_id"))
     private List<PsuData> psuDataList = new ArrayList<>();
 
+    @BatchSize(size = 100)
     @OneToMany(mappedBy = "consent", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<AisConsentUsage> usages = new ArrayList<>();
 
+    @BatchSize(size = 100)
     @OneToMany(mappedBy = "consent", cascade = CascadeType.PERSIST)
     private List<TppAccountAccess> tppAccountAccesses = new ArrayList<>();
 
+    @BatchSize(size = 100)
     @OneToMany(mappedBy = "consent", cascade = CascadeType.MERGE)
     private List<AspspAccountAccess> aspspAccountAccesses = new ArrayList<>();
 
@@ -152,6 +175,7 @@ public class ConsentEntity extends InstanceDependableEntity implements Authorisa
         if (previousConsentStatus != consentStatus) {
             statusChangeTimestamp = OffsetDateTime.now();
         }
+        updateExpiryDeadlines();
     }
 
     @PrePersist
@@ -159,10 +183,66 @@ public class ConsentEntity extends InstanceDependableEntity implements Authorisa
         if (Objects.isNull(statusChangeTimestamp)) {
             statusChangeTimestamp = creationTimestamp;
         }
+        updateExpiryDeadlines();
+    }
+
+    /**
+     * Sets confirmation deadline to the moment, when confirmation of the consent expires
+     *
+     * @param expirationPeriodMs period in milliseconds, the consent has to be confirmed within
+     */
+    public void resetConfirmationDeadline(long expirationPeriodMs) {
+        confirmationDeadline = creationTimestamp.plus(expirationPeriodMs, ChronoUnit.MILLIS);
+    }
+
+    /**
+     * Sets expiration deadline to the day after the last day of validity of the consent or, for used non-recurring
+     * consent, to the day after its first usage
+     */
+    public void resetExpirationDeadline() {
+        expirationDeadline = validUntil == null ? null : validUntil.plusDays(1);
+        if (!recurringIndicator) {
+            usages.stream()
+                .map(AisConsentUsage::getUsageDate)
+                .min(Comparator.naturalOrder())
+                .ifPresent(this::updateExpirationDeadlineOnUsage);
+        }
+    }
+
+    /**
+     * Moves expiration deadline of non-recurring consent to the day after the given usage, as such consent can only be
+     * used within one day
+     *
+     * @param usageDate date of the usage
+     */
+    public void updateExpirationDeadlineOnUsage(LocalDate usageDate) {
+        LocalDate usageDeadline = usageDate.plusDays(1);
+        if (!recurringIndicator && (expirationDeadline == null || usageDeadline.isBefore(expirationDeadline))) {
+            expirationDeadline = usageDeadline;
+        }
+    }
+
+    /**
+     * Keeps deadlines in line with the status of the consent. Deadlines may be earlier than the actual expiration of the
+     * consent (e.g. after its validity was prolonged): the scheduler checks the consent once the deadline has passed
+     * and moves the deadline if the consent is not expired yet.
+     */
+    private void updateExpiryDeadlines() {
+        if (!NOT_CONFIRMED_STATUSES.contains(consentStatus)) {
+            confirmationDeadline = null;
+        } else if (confirmationDeadline == null) {
+            confirmationDeadline = creationTimestamp;
+        }
+
+        if (!EXPIRABLE_STATUSES.contains(consentStatus)) {
+            expirationDeadline = null;
+        } else if (validUntil != null && (expirationDeadline == null || validUntil.isBefore(expirationDeadline))) {
+            expirationDeadline = validUntil.plusDays(1);
+        }
     }
 
     public boolean isConfirmationExpired(long expirationPeriodMs) {
-        if (EnumSet.of(ConsentStatus.RECEIVED, ConsentStatus.PARTIALLY_AUTHORISED).contains(consentStatus)) {
+        if (NOT_CONFIRMED_STATUSES.contains(consentStatus)) {
             return creationTimestamp.plus(expirationPeriodMs, ChronoUnit.MILLIS)
                        .isBefore(OffsetDateTime.now());
         }
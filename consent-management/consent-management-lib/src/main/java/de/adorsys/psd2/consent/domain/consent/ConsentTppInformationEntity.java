@@ -23,6 +23,7 @@ import de.adorsys.psd2.consent.domain.TppInfoEntity;
 import de.adorsys.psd2.xs2a.core.profile.NotificationSupportedMode;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Data;
+import org.hibernate.annotations.BatchSize;
 
 import javax.persistence.*;
 import java.util.List;
@@ -30,12 +31,13 @@ import java.util.Objects;
 
 @Data
 @Entity(name = "consent_tpp_information")
+@BatchSize(size = 100)
 @Schema(description = "Consent tpp information", name = "ConsentTppInformationEntity")
 public class ConsentTppInformationEntity {
     @Id
     @Column(name = "consent_tpp_information_id")
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "consent_tpp_information_generator")
-    @SequenceGenerator(name = "consent_tpp_information_generator", sequenceName = "consent_tpp_info_id_seq", allocationSize = 1)
+    @SequenceGenerator(name = "consent_tpp_information_generator", sequenceName = "consent_tpp_info_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "tpp_redirect_preferred", nullable = false)
@@ -26,6 +26,7 @@ import de.adorsys.psd2.xs2a.core.profile.NotificationSupportedMode;
 import de.adorsys.psd2.xs2a.core.profile.PaymentType;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
+import org.hibernate.annotations.BatchSize;
 
 import javax.persistence.*;
 import java.time.OffsetDateTime;
@@ -34,14 +35,17 @@ import java.util.ArrayList;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 
 @Data
 @EqualsAndHashCode
 @Entity(name = "pis_common_payment")
 public class PisCommonPaymentData extends InstanceDependableEntity implements Authorisable {
+    private static final Set<TransactionStatus> NOT_CONFIRMED_STATUSES = EnumSet.of(TransactionStatus.RCVD, TransactionStatus.PATC);
+
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "pis_common_payment_generator")
-    @SequenceGenerator(name = "pis_common_payment_generator", sequenceName = "pis_common_payment_id_seq", allocationSize = 1)
+    @SequenceGenerator(name = "pis_common_payment_generator", sequenceName = "pis_common_payment_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "payment_id", nullable = false)
@@ -66,6 +70,7 @@ public class PisCommonPaymentData extends InstanceDependableEntity implements Au
     @Column(name = "payment")
     private byte[] payment;
 
+    @BatchSize(size = 100)
     @OneToMany(cascade = CascadeType.ALL)
     @JoinTable(name = "pis_common_payment_psu_data",
         joinColumns = @JoinColumn(name = "pis_common_payment_id"),
@@ -83,12 +88,14 @@ public class PisCommonPaymentData extends InstanceDependableEntity implements Au
     @Column(name = "tpp_ntfc_uri")
     private String tppNotificationUri;
 
+    @BatchSize(size = 100)
     @ElementCollection
     @CollectionTable(name = "payment_tpp_ntfc", joinColumns = @JoinColumn(name = "id"))
     @Column(name = "notification_mode", nullable = false)
     @Enumerated(value = EnumType.STRING)
     private List<NotificationSupportedMode> tppNotificationContentPreferred;
 
+    @BatchSize(size = 100)
     @OneToMany(mappedBy = "paymentData",
         cascade = CascadeType.ALL,
         orphanRemoval = true)
@@ -106,6 +113,13 @@ public class PisCommonPaymentData extends InstanceDependableEntity implements Au
     @Column(name = "status_change_timestamp")
     private OffsetDateTime statusChangeTimestamp;
 
+    /**
+     * Moment, after which not confirmed payment is checked for confirmation expiration by the scheduler.
+     * Is cleared as soon as the payment leaves not confirmed statuses.
+     */
+    @Column(name = "confirmation_deadline")
+    private OffsetDateTime confirmationDeadline;
+
     @Column(name = "int_req_id")
     private String internalRequestId;
 
@@ -137,6 +151,7 @@ public class PisCommonPaymentData extends InstanceDependableEntity implements Au
         if (previousTransactionStatus != transactionStatus) {
             statusChangeTimestamp = OffsetDateTime.now();
         }
+        updateConfirmationDeadline();
     }
 
     @PrePersist
@@ -144,6 +159,28 @@ public class PisCommonPaymentData extends InstanceDependableEntity implements Au
         if (Objects.isNull(statusChangeTimestamp)) {
             statusChangeTimestamp = creationTimestamp;
         }
+        updateConfirmationDeadline();
+    }
+
+    /**
+     * Sets confirmation deadline to the moment, when confirmation of the payment expires
+     *
+     * @param expirationPeriodMs period in milliseconds, the payment has to be confirmed within
+     */
+    public void resetConfirmationDeadline(long expirationPeriodMs) {
+        confirmationDeadline = creationTimestamp.plus(expirationPeriodMs, ChronoUnit.MILLIS);
+    }
+
+    /**
+     * Keeps confirmation deadline in line with the status of the payment. Payment without deadline is checked by the
+     * scheduler right away, which sets the deadline according to ASPSP profile.
+     */
+    private void updateConfirmationDeadline() {
+        if (!isNotConfirmed()) {
+            confirmationDeadline = null;
+        } else if (confirmationDeadline == null) {
+            confirmationDeadline = creationTimestamp;
+        }
     }
 
     public boolean isConfirmationExpired(long expirationPeriodMs) {
@@ -156,7 +193,7 @@ public class PisCommonPaymentData extends InstanceDependableEntity implements Au
     }
 
     private boolean isNotConfirmed() {
-        return EnumSet.of(TransactionStatus.RCVD, TransactionStatus.PATC).contains(transactionStatus);
+        return NOT_CONFIRMED_STATUSES.contains(transactionStatus);
     }
 
     public boolean isFinalised() {
@@ -20,22 +20,62 @@ package de.adorsys.psd2.consent.repository;
 
 import de.adorsys.psd2.consent.domain.account.AisConsentUsage;
 import de.adorsys.psd2.consent.domain.consent.ConsentEntity;
-import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 
-import javax.persistence.LockModeType;
 import java.time.LocalDate;
 import java.util.List;
-import java.util.Optional;
 
 public interface AisConsentUsageRepository extends CrudRepository<AisConsentUsage, Long> {
-    @Lock(value = LockModeType.OPTIMISTIC_FORCE_INCREMENT)
-    Optional<AisConsentUsage> findWriteByConsentAndUsageDateAndRequestUri(ConsentEntity aisConsent, LocalDate usageDate, String requestUri);
+    /**
+     * Atomically increments usage counter of given consent, date and request URI in the database, without loading
+     * the row into the persistence context. The counter is incremented only while it is below the given limit.
+     *
+     * @return number of updated rows, <code>0</code> if there is no usage row yet or the limit is already reached
+     */
+    @Query(
+        "UPDATE consent_usage u " +
+            "SET u.usage = u.usage + 1, u.version = u.version + 1, " +
+            "u.resourceId = :resourceId, u.transactionId = :transactionId " +
+            "WHERE u.consent = :consent AND u.usageDate = :usageDate AND u.requestUri = :requestUri " +
+            "AND u.usage < :frequencyPerDay"
+    )
+    @Modifying(flushAutomatically = true)
+    int incrementUsage(@Param("consent") ConsentEntity consent,
+                       @Param("usageDate") LocalDate usageDate,
+                       @Param("requestUri") String requestUri,
+                       @Param("resourceId") String resourceId,
+                       @Param("transactionId") String transactionId,
+                       @Param("frequencyPerDay") int frequencyPerDay);
 
-    @Lock(value = LockModeType.OPTIMISTIC)
-    List<AisConsentUsage> findReadByConsentAndUsageDate(ConsentEntity aisConsent, LocalDate usageDate);
+    @Query(
+        "UPDATE consent_usage u " +
+            "SET u.usage = 0, u.version = u.version + 1 " +
+            "WHERE u.consent = :consent AND u.usageDate = :usageDate"
+    )
+    @Modifying(flushAutomatically = true)
+    int resetUsage(@Param("consent") ConsentEntity consent,
+                   @Param("usageDate") LocalDate usageDate);
+
+    @Query(
+        "SELECT u.requestUri AS requestUri, u.usage AS usage " +
+            "FROM consent_usage u " +
+            "WHERE u.consent = :consent AND u.usageDate = :usageDate"
+    )
+    List<UsageCounter> findUsageCountersByConsentAndUsageDate(@Param("consent") ConsentEntity consent,
+                                                              @Param("usageDate") LocalDate usageDate);
+
+    boolean existsByConsentAndUsageDateAndRequestUri(ConsentEntity consent, LocalDate usageDate, String requestUri);
 
     int countByConsentIdAndResourceId(Long consentId, String resourceId);
 
     int countByConsentIdAndRequestUri(Long consentId, String requestUri);
+
+    interface UsageCounter {
+        String getRequestUri();
+
+        int getUsage();
+    }
 }
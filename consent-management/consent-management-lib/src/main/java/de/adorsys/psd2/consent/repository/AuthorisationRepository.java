@@ -20,6 +20,7 @@ package de.adorsys.psd2.consent.repository;
 
 import de.adorsys.psd2.consent.domain.AuthorisationEntity;
 import de.adorsys.psd2.xs2a.core.authorisation.AuthorisationType;
+import org.apache.commons.collections4.ListUtils;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Modifying;
@@ -27,11 +28,16 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 public interface AuthorisationRepository extends CrudRepository<AuthorisationEntity, Long>, JpaSpecificationExecutor<AuthorisationEntity> {
+    int PARENT_BATCH_SIZE = 500;
 
     Optional<AuthorisationEntity> findByExternalId(String externalId);
 
@@ -45,6 +51,29 @@ public interface AuthorisationRepository extends CrudRepository<AuthorisationEnt
                                                                AuthorisationType authorisationType,
                                                                Pageable pageable);
 
+    List<AuthorisationEntity> findAllByParentExternalIdInAndType(Collection<String> parentExternalIds,
+                                                                 AuthorisationType authorisationType);
+
+    /**
+     * Loads authorisations of all given parents with one query per {@value #PARENT_BATCH_SIZE} parents instead of
+     * one query per parent.
+     *
+     * @param parentExternalIds external IDs of consents or payments
+     * @param authorisationType type of the authorisations
+     * @return authorisations, grouped by external ID of their parent. Parents without authorisations are absent.
+     */
+    default Map<String, List<AuthorisationEntity>> findAllByParentExternalIdsGrouped(Collection<String> parentExternalIds,
+                                                                                      AuthorisationType authorisationType) {
+        List<String> distinctIds = parentExternalIds.stream()
+                                       .filter(Objects::nonNull)
+                                       .distinct()
+                                       .collect(Collectors.toList());
+
+        return ListUtils.partition(distinctIds, PARENT_BATCH_SIZE).stream()
+                   .flatMap(ids -> findAllByParentExternalIdInAndType(ids, authorisationType).stream())
+                   .collect(Collectors.groupingBy(AuthorisationEntity::getParentExternalId));
+    }
+
     List<AuthorisationEntity> findAllByParentExternalIdAndTypeIn(String parentExternalId,
                                                                  Set<AuthorisationType> authorisationTypes);
 
@@ -19,15 +19,19 @@
 package de.adorsys.psd2.consent.repository;
 
 import de.adorsys.psd2.consent.domain.consent.ConsentEntity;
+import de.adorsys.psd2.consent.repository.projection.ConsentStatusProjection;
 import de.adorsys.psd2.xs2a.core.consent.ConsentStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.query.Param;
 
+import javax.persistence.LockModeType;
+import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -39,6 +43,37 @@ public interface ConsentJpaRepository extends CrudRepository<ConsentEntity, Long
 
     List<ConsentEntity> findByConsentStatusIn(Set<ConsentStatus> statuses);
 
+    /**
+     * Gets next chunk of consents with given statuses, which confirmation deadline has passed, ordered by ID. Is used
+     * for keyset iteration over the consents, so that consents, changed by processing of the previous chunk, are
+     * neither skipped nor read twice.
+     *
+     * @param statuses consent statuses
+     * @param now      current moment
+     * @param lastId   ID of the last consent from the previous chunk
+     * @param pageable size of the chunk
+     * @return list of consents with ID greater than the given one
+     */
+    List<ConsentEntity> findByConsentStatusInAndConfirmationDeadlineBeforeAndIdGreaterThanOrderByIdAsc(Set<ConsentStatus> statuses, OffsetDateTime now,
+                                                                                                       Long lastId, Pageable pageable);
+
+    /**
+     * Gets IDs of the next chunk of consents with given statuses, which expiration deadline has been reached
+     *
+     * @param consentStatuses consent statuses
+     * @param today           current date
+     * @param lastId          ID of the last consent from the previous chunk
+     * @param pageable        size of the chunk
+     * @return ordered list of consent IDs greater than the given one
+     */
+    @Query(
+        "select c.id from consent c " +
+            "where c.consentStatus in :consentStatuses and c.expirationDeadline <= :today and c.id > :lastId " +
+            "order by c.id"
+    )
+    List<Long> findIdsByExpirationDeadlineReached(@Param("consentStatuses") Set<ConsentStatus> consentStatuses, @Param("today") LocalDate today,
+                                                  @Param("lastId") Long lastId, Pageable pageable);
+
     Long countByConsentStatusIn(Set<ConsentStatus> statuses);
 
     @Query(
@@ -49,23 +84,42 @@ public interface ConsentJpaRepository extends CrudRepository<ConsentEntity, Long
     )
     Optional<ConsentEntity> findByExternalId(@Param("externalId") String externalId);
 
+    /**
+     * Reads status of the consent together with the fields, needed to check its expiration, without loading the consent
+     * entity and its associations into the persistence context
+     *
+     * @param externalId external ID of the consent
+     * @return status of the consent or empty optional if there is no such consent
+     */
+    @Query(
+        "select c.consentStatus as consentStatus, c.consentType as consentType, c.creationTimestamp as creationTimestamp, " +
+            "c.validUntil as validUntil, c.recurringIndicator as recurringIndicator, c.instanceId as instanceId, " +
+            "(select min(u.usageDate) from consent_usage u where u.consent = c) as firstUsageDate " +
+            "from consent c where c.externalId = :externalId"
+    )
+    Optional<ConsentStatusProjection> findStatusByExternalId(@Param("externalId") String externalId);
+
     List<ConsentEntity> findAllByExternalIdIn(List<String> externalIds);
 
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c from consent c where c.id = :id")
+    Optional<ConsentEntity> findLockedById(@Param("id") Long id);
+
     @Query(
         "UPDATE consent " +
-            "SET consentStatus = 'EXPIRED', expireDate = CURRENT_TIMESTAMP " +
-            "WHERE consentStatus IN :consentStatuses AND validUntil < CURRENT_DATE"
+            "SET consentStatus = 'REJECTED', lastActionDate = CURRENT_TIMESTAMP, confirmationDeadline = NULL, expirationDeadline = NULL " +
+            "WHERE externalId IN :ids"
     )
     @Modifying
-    void expireByConsentStatusIn(@Param("consentStatuses") Set<ConsentStatus> consentStatuses);
+    void expireConsentsByIds(@Param("ids") List<String> ids);
 
     @Query(
         "UPDATE consent " +
-            "SET consentStatus = 'REJECTED', lastActionDate = CURRENT_TIMESTAMP " +
-            "WHERE externalId IN :ids"
+            "SET confirmationDeadline = :confirmationDeadline " +
+            "WHERE id = :id"
     )
     @Modifying
-    void expireConsentsByIds(@Param("ids") List<String> ids);
+    void updateConfirmationDeadline(@Param("id") Long id, @Param("confirmationDeadline") OffsetDateTime confirmationDeadline);
 
     @Query(
         "select c from consent c " +
@@ -82,16 +136,6 @@ public interface ConsentJpaRepository extends CrudRepository<ConsentEntity, Long
                                                           @Param("newConsentId") String newConsentId,
                                                           @Param("consentStatuses") Set<ConsentStatus> consentStatuses);
 
-    @Query(
-        "UPDATE consent " +
-            "SET consentStatus = 'EXPIRED', expireDate = CURRENT_TIMESTAMP " +
-            "WHERE recurringIndicator = false " +
-            "AND consentStatus IN :consentStatuses " +
-            "AND id IN (SELECT cu.consent.id FROM consent_usage cu WHERE cu.usageDate < CURRENT_DATE)"
-    )
-    @Modifying
-    void expireUsedNonRecurringConsents(@Param("consentStatuses") Set<ConsentStatus> consentStatuses);
-
     @Query(
         value = "select * from {h-schema}consent c " +
                     "join " +
@@ -19,11 +19,16 @@
 package de.adorsys.psd2.consent.repository;
 
 import de.adorsys.psd2.consent.domain.payment.PisCommonPaymentData;
+import de.adorsys.psd2.consent.repository.projection.PaymentStatusProjection;
 import de.adorsys.psd2.xs2a.core.pis.TransactionStatus;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -33,6 +38,19 @@ public interface PisCommonPaymentDataRepository extends CrudRepository<PisCommon
 
     Optional<PisCommonPaymentData> findByPaymentId(String paymentId);
 
+    /**
+     * Reads status of the payment together with the fields, needed to check its expiration, without loading the payment
+     * entity into the persistence context
+     *
+     * @param paymentId external ID of the payment
+     * @return status of the payment or empty optional if there is no such payment
+     */
+    @Query(
+        "select p.transactionStatus as transactionStatus, p.creationTimestamp as creationTimestamp, p.instanceId as instanceId " +
+            "from pis_common_payment p where p.paymentId = :paymentId"
+    )
+    Optional<PaymentStatusProjection> findStatusByPaymentId(@Param("paymentId") String paymentId);
+
     /**
      * Gets payment list by payment ids. Uses in signing basket plugin (don't remove).
      *
@@ -41,7 +59,25 @@ public interface PisCommonPaymentDataRepository extends CrudRepository<PisCommon
      */
     List<PisCommonPaymentData> findAllByPaymentIdIn(List<String> externalIds);
 
-    Long countByTransactionStatusIn(Set<TransactionStatus> statuses);
+    /**
+     * Gets next chunk of payments with given statuses, which confirmation deadline has passed, ordered by ID. Is used
+     * for keyset iteration over the payments, so that payments, changed by processing of the previous chunk, are
+     * neither skipped nor read twice.
+     *
+     * @param statuses transaction statuses of the payments
+     * @param now      current moment
+     * @param lastId   ID of the last payment from the previous chunk
+     * @param pageable size of the chunk
+     * @return list of payments with ID greater than the given one
+     */
+    List<PisCommonPaymentData> findByTransactionStatusInAndConfirmationDeadlineBeforeAndIdGreaterThanOrderByIdAsc(Set<TransactionStatus> statuses, OffsetDateTime now,
+                                                                                                                  Long lastId, Pageable pageable);
 
-    List<PisCommonPaymentData> findByTransactionStatusIn(Set<TransactionStatus> statuses, Pageable pageable);
+    @Query(
+        "UPDATE pis_common_payment " +
+            "SET confirmationDeadline = :confirmationDeadline " +
+            "WHERE id = :id"
+    )
+    @Modifying
+    void updateConfirmationDeadline(@Param("id") Long id, @Param("confirmationDeadline") OffsetDateTime confirmationDeadline);
 }
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2018-2024 adorsys GmbH & Co KG
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ *
+ * This project is also available under a separate commercial license. You can
+ * contact us at sales@adorsys.com.
+ */
+
+package de.adorsys.psd2.consent.repository;
+
+import de.adorsys.psd2.consent.domain.SchedulerLockEntity;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+
+import java.time.OffsetDateTime;
+
+public interface SchedulerLockRepository extends CrudRepository<SchedulerLockEntity, String> {
+
+    /**
+     * Takes over the lease of the task if it is not held by any other instance at the given moment
+     *
+     * @param name        name of the scheduler task
+     * @param lockedBy    ID of the instance, taking the lease
+     * @param now         current moment
+     * @param lockedUntil moment, the lease will expire at if it's not released earlier
+     * @return amount of updated rows, <code>1</code> if the lease was taken, <code>0</code> otherwise
+     */
+    @Query(
+        "UPDATE scheduler_lock " +
+            "SET lockedUntil = :lockedUntil, lockedAt = :now, lockedBy = :lockedBy " +
+            "WHERE name = :name AND lockedUntil <= :now"
+    )
+    @Modifying
+    int acquire(@Param("name") String name,
+                @Param("lockedBy") String lockedBy,
+                @Param("now") OffsetDateTime now,
+                @Param("lockedUntil") OffsetDateTime lockedUntil);
+
+    @Query(
+        "UPDATE scheduler_lock " +
+            "SET lockedUntil = :lockedUntil " +
+            "WHERE name = :name AND lockedBy = :lockedBy"
+    )
+    @Modifying
+    int release(@Param("name") String name,
+                @Param("lockedBy") String lockedBy,
+                @Param("lockedUntil") OffsetDateTime lockedUntil);
+
+    @Query(
+        "UPDATE scheduler_lock " +
+            "SET lockedUntil = :lockedUntil, lastSuccessAt = :lastSuccessAt " +
+            "WHERE name = :name AND lockedBy = :lockedBy"
+    )
+    @Modifying
+    int releaseSucceeded(@Param("name") String name,
+                         @Param("lockedBy") String lockedBy,
+                         @Param("lockedUntil") OffsetDateTime lockedUntil,
+                         @Param("lastSuccessAt") OffsetDateTime lastSuccessAt);
+}
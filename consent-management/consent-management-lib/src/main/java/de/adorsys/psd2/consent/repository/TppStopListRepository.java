@@ -19,22 +19,26 @@
 package de.adorsys.psd2.consent.repository;
 
 import de.adorsys.psd2.consent.domain.TppStopListEntity;
+import de.adorsys.psd2.xs2a.core.tpp.TppStatus;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface TppStopListRepository extends CrudRepository<TppStopListEntity, Long> {
 
     Optional<TppStopListEntity> findByTppAuthorisationNumberAndInstanceId(@NotNull String tppAuthorisationNumber, @NotNull String instanceId);
 
+    List<TppStopListEntity> findAllByInstanceIdAndStatus(@NotNull String instanceId, @NotNull TppStatus status);
+
     @Query(
         "UPDATE tpp_stop_list " +
             "SET status = 'ENABLED', blockingExpirationTimestamp = NULL " +
             "WHERE status = 'BLOCKED' AND blockingExpirationTimestamp < CURRENT_TIMESTAMP"
     )
     @Modifying
-    void unblockExpiredBlockedTpp();
+    int unblockExpiredBlockedTpp();
 }
@@ -33,13 +33,19 @@ import de.adorsys.psd2.xs2a.core.consent.ConsentStatus;
 import de.adorsys.psd2.xs2a.core.consent.ConsentType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.Nullable;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import static de.adorsys.psd2.xs2a.core.consent.ConsentStatus.*;
 
@@ -55,22 +61,23 @@ public class AisConsentRepositoryImpl implements AisConsentVerifyingRepository {
     @Override
     @Transactional(rollbackFor = WrongChecksumException.class)
     public ConsentEntity verifyAndSave(ConsentEntity entity) throws WrongChecksumException {
-        return verifyAndSaveInternal(entity);
+        return verifyAndSaveInternal(new ConsentVerificationContext(List.of(entity)).snapshot(entity));
     }
 
     @Override
     @Transactional(rollbackFor = WrongChecksumException.class)
     public ConsentEntity verifyAndUpdate(ConsentEntity entity) throws WrongChecksumException {
-        return verifyAndUpdateInternal(entity);
+        return verifyAndUpdateInternal(new ConsentVerificationContext(List.of(entity)).snapshot(entity));
     }
 
     @Override
     @Transactional(rollbackFor = WrongChecksumException.class)
     public List<ConsentEntity> verifyAndSaveAll(List<ConsentEntity> consents) throws WrongChecksumException {
         List<ConsentEntity> consentList = new ArrayList<>();
+        ConsentVerificationContext context = new ConsentVerificationContext(consents);
 
         for (ConsentEntity entity : consents) {
-            ConsentEntity consent = verifyAndSaveInternal(entity);
+            ConsentEntity consent = verifyAndSaveInternal(context.snapshot(entity));
             consentList.add(consent);
         }
         return consentList;
@@ -83,18 +90,19 @@ public class AisConsentRepositoryImpl implements AisConsentVerifyingRepository {
                    .filter(c -> !c.getConsentStatus().isFinalisedStatus());
     }
 
-    private ConsentEntity verifyAndSaveInternal(ConsentEntity consentEntity) throws WrongChecksumException {
+    private ConsentEntity verifyAndSaveInternal(ConsentSnapshot snapshot) throws WrongChecksumException {
+        ConsentEntity consentEntity = snapshot.getEntity();
         Optional<ChecksumCalculatingService> calculatingServiceOptional = calculatingFactory.getServiceByChecksum(consentEntity.getChecksum(), ConsentType.AIS);
 
         if (calculatingServiceOptional.isPresent()) {
             ChecksumCalculatingService calculatingService = calculatingServiceOptional.get();
 
-            if (!isAisConsentChecksumCorrect(consentEntity, calculatingService)) {
+            if (!isAisConsentChecksumCorrect(snapshot, calculatingService, null)) {
                 throw new WrongChecksumException();
             }
 
-            if (wasStatusSwitchedToValid(consentEntity)) {
-                byte[] newChecksum = calculatingService.calculateChecksumForConsent(mapToAisConsent(consentEntity));
+            if (wasStatusSwitchedToValid(snapshot)) {
+                byte[] newChecksum = calculatingService.calculateChecksumForConsent(snapshot.getAisConsent());
                 consentEntity.setChecksum(newChecksum);
             }
         }
@@ -102,18 +110,23 @@ public class AisConsentRepositoryImpl implements AisConsentVerifyingRepository {
         return aisConsentRepository.save(consentEntity);
     }
 
-    private ConsentEntity verifyAndUpdateInternal(ConsentEntity entity) throws WrongChecksumException {
+    private ConsentEntity verifyAndUpdateInternal(ConsentSnapshot snapshot) throws WrongChecksumException {
+        ConsentEntity entity = snapshot.getEntity();
         Optional<ChecksumCalculatingService> calculatingServiceOptional = calculatingFactory.getServiceByChecksum(entity.getChecksum(), ConsentType.AIS);
 
         if (calculatingServiceOptional.isPresent()) {
             ChecksumCalculatingService calculatingService = calculatingServiceOptional.get();
 
-            if (!isAisConsentChecksumCorrect(entity, calculatingService)) {
+            // New checksum is calculated before the verification, as unchanged checksum doesn't need to be verified
+            byte[] newChecksum = entity.getConsentStatus() == VALID
+                                     ? calculatingService.calculateChecksumForConsent(snapshot.getAisConsent())
+                                     : null;
+
+            if (!isAisConsentChecksumCorrect(snapshot, calculatingService, newChecksum)) {
                 throw new WrongChecksumException();
             }
 
             if (entity.getConsentStatus() == VALID) {
-                byte[] newChecksum = calculatingService.calculateChecksumForConsent(mapToAisConsent(entity));
                 entity.setChecksum(newChecksum);
             }
         }
@@ -121,46 +134,103 @@ public class AisConsentRepositoryImpl implements AisConsentVerifyingRepository {
         return aisConsentRepository.save(entity);
     }
 
-    private boolean isAisConsentChecksumCorrect(ConsentEntity entity, ChecksumCalculatingService calculatingService) {
+    private boolean isAisConsentChecksumCorrect(ConsentSnapshot snapshot, ChecksumCalculatingService calculatingService,
+                                                @Nullable byte[] newChecksum) {
+        ConsentEntity entity = snapshot.getEntity();
         byte[] checksumFromDb = entity.getChecksum();
 
         if (checksumFromDb != null
-                && wasStatusHoldBefore(entity)
-                && !calculatingService.verifyConsentWithChecksum(mapToAisConsent(entity), checksumFromDb)) {
+                && wasStatusHoldBefore(snapshot)
+                && !Arrays.equals(checksumFromDb, newChecksum)
+                && !calculatingService.verifyConsentWithChecksum(snapshot.getAisConsent(), checksumFromDb)) {
             log.warn("AIS consent checksum verification failed! AIS consent ID: [{}]. Contact ASPSP for details.", entity.getExternalId());
             return false;
         }
         return true;
     }
 
-    private boolean wasStatusSwitchedToValid(ConsentEntity entity) {
-        return entity.getConsentStatus() == VALID
-                   && EnumSet.of(RECEIVED, PARTIALLY_AUTHORISED).contains(getPreviousConsentStatus(entity));
+    private boolean wasStatusSwitchedToValid(ConsentSnapshot snapshot) {
+        return snapshot.getEntity().getConsentStatus() == VALID
+                   && EnumSet.of(RECEIVED, PARTIALLY_AUTHORISED).contains(snapshot.getPreviousConsentStatus());
     }
 
-    private boolean wasStatusHoldBefore(ConsentEntity entity) {
-        return getPreviousConsentStatus(entity) == VALID
-                   || isFinalisedStatus(entity);
+    private boolean wasStatusHoldBefore(ConsentSnapshot snapshot) {
+        ConsentStatus previousConsentStatus = snapshot.getPreviousConsentStatus();
+        return previousConsentStatus == VALID
+                   || previousConsentStatus != null && previousConsentStatus.isFinalisedStatus();
     }
 
-    private AisConsent mapToAisConsent(ConsentEntity entity) {
-        List<AuthorisationEntity> authorisationEntityList =
-            authorisationRepository.findAllByParentExternalIdAndType(entity.getExternalId(), AuthorisationType.CONSENT);
+    /**
+     * Data of the consents, processed by one repository call. Previous statuses and authorisations of all consents
+     * are loaded with one query each on first access, so that consents without checksum don't cause any query.
+     */
+    private class ConsentVerificationContext {
+        private final List<String> consentIds;
+        private Map<String, ConsentStatus> previousStatusesByConsentId;
+        private Map<String, List<AuthorisationEntity>> authorisationsByConsentId;
+
+        private ConsentVerificationContext(List<ConsentEntity> consents) {
+            this.consentIds = consents.stream()
+                                  .map(ConsentEntity::getExternalId)
+                                  .collect(Collectors.toList());
+        }
+
+        private ConsentSnapshot snapshot(ConsentEntity consent) {
+            return new ConsentSnapshot(consent, this);
+        }
+
+        @Nullable
+        private ConsentStatus getPreviousConsentStatus(ConsentEntity consent) {
+            if (previousStatusesByConsentId == null) {
+                previousStatusesByConsentId = new HashMap<>();
+                aisConsentRepository.findAllByExternalIdIn(consentIds)
+                    .forEach(c -> previousStatusesByConsentId.put(c.getExternalId(), c.getConsentStatus()));
+            }
+            return previousStatusesByConsentId.get(consent.getExternalId());
+        }
 
-        return aisConsentMapper.mapToAisConsent(entity, authorisationEntityList);
+        private List<AuthorisationEntity> getAuthorisations(ConsentEntity consent) {
+            if (authorisationsByConsentId == null) {
+                authorisationsByConsentId = authorisationRepository.findAllByParentExternalIdsGrouped(consentIds, AuthorisationType.CONSENT);
+            }
+            return authorisationsByConsentId.getOrDefault(consent.getExternalId(), Collections.emptyList());
+        }
     }
 
-    private ConsentStatus getPreviousConsentStatus(ConsentEntity entity) {
-        Optional<ConsentEntity> optionalConsentStatus = aisConsentRepository.findByExternalId(entity.getExternalId());
+    /**
+     * Consent being verified along with the data, loaded for its verification. The data is loaded on first access
+     * and reused through the whole verification.
+     */
+    private class ConsentSnapshot {
+        private final ConsentEntity entity;
+        private final ConsentVerificationContext context;
+        private boolean previousConsentStatusLoaded;
+        private ConsentStatus previousConsentStatus;
+        private AisConsent aisConsent;
+
+        private ConsentSnapshot(ConsentEntity entity, ConsentVerificationContext context) {
+            this.entity = entity;
+            this.context = context;
+        }
 
-        return optionalConsentStatus
-                   .map(ConsentEntity::getConsentStatus)
-                   .orElse(null);
+        private ConsentEntity getEntity() {
+            return entity;
+        }
 
-    }
+        @Nullable
+        private ConsentStatus getPreviousConsentStatus() {
+            if (!previousConsentStatusLoaded) {
+                previousConsentStatus = context.getPreviousConsentStatus(entity);
+                previousConsentStatusLoaded = true;
+            }
+            return previousConsentStatus;
+        }
 
-    private boolean isFinalisedStatus(ConsentEntity entity) {
-        ConsentStatus previousConsentStatus = getPreviousConsentStatus(entity);
-        return previousConsentStatus != null && previousConsentStatus.isFinalisedStatus();
+        private AisConsent getAisConsent() {
+            if (aisConsent == null) {
+                aisConsent = aisConsentMapper.mapToAisConsent(entity, context.getAuthorisations(entity));
+            }
+            return aisConsent;
+        }
     }
 }
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2018-2024 adorsys GmbH & Co KG
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ *
+ * This project is also available under a separate commercial license. You can
+ * contact us at sales@adorsys.com.
+ */
+
+package de.adorsys.psd2.consent.repository.impl;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Reads entities, matching given specification, in chunks ordered by their IDs.
+ * <p>
+ * Every chunk starts right after the ID of the last entity of the previous chunk instead of skipping the rows of all
+ * previous pages, so reading a chunk costs the same regardless of its position and no total count is queried.
+ */
+@Component
+public class KeysetSpecificationReader {
+    private static final String ID_ATTRIBUTE = "id";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Returns entities with IDs greater than the given one, ordered by ID
+     *
+     * @param entityClass   class of the entity, that has numeric <code>id</code> attribute
+     * @param specification optional filtering criteria
+     * @param lastId        ID of the last entity of the previous chunk, <code>null</code> to start from the beginning
+     * @param limit         maximum quantity of entities in the chunk
+     * @param <T>           type of the entity
+     * @return chunk of entities, empty list if there are no more entities
+     */
+    public <T> List<T> findChunk(@NotNull Class<T> entityClass, @Nullable Specification<T> specification,
+                                 @Nullable Long lastId, int limit) {
+        List<Long> ids = findChunkIds(entityClass, specification, lastId, limit);
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<T> query = criteriaBuilder.createQuery(entityClass);
+        Root<T> root = query.from(entityClass);
+        Path<Long> id = root.get(ID_ATTRIBUTE);
+        query.where(id.in(ids))
+            .orderBy(criteriaBuilder.asc(id));
+        return entityManager.createQuery(query).getResultList();
+    }
+
+    // IDs are selected separately, as joins of the specification may return the same entity several times,
+    // which would make chunks shorter than the limit
+    private <T> List<Long> findChunkIds(Class<T> entityClass, @Nullable Specification<T> specification,
+                                        @Nullable Long lastId, int limit) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = criteriaBuilder.createQuery(Long.class);
+        Root<T> root = query.from(entityClass);
+        Path<Long> id = root.get(ID_ATTRIBUTE);
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (specification != null) {
+            Predicate predicate = specification.toPredicate(root, query, criteriaBuilder);
+            if (predicate != null) {
+                predicates.add(predicate);
+            }
+        }
+        if (lastId != null) {
+            predicates.add(criteriaBuilder.greaterThan(id, lastId));
+        }
+
+        // Specifications may define their own ordering, which is replaced here by the ordering by the key
+        query.select(id)
+            .distinct(true)
+            .where(predicates.toArray(new Predicate[0]))
+            .orderBy(criteriaBuilder.asc(id));
+        return entityManager.createQuery(query)
+                   .setMaxResults(limit)
+                   .getResultList();
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2018-2024 adorsys GmbH & Co KG
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ *
+ * This project is also available under a separate commercial license. You can
+ * contact us at sales@adorsys.com.
+ */
+
+package de.adorsys.psd2.consent.repository.projection;
+
+import de.adorsys.psd2.xs2a.core.consent.ConsentStatus;
+import de.adorsys.psd2.xs2a.core.consent.ConsentType;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.EnumSet;
+
+/**
+ * Status and expiration related fields of the consent, read without loading the consent entity and its associations.
+ * <p>
+ * Expiration checks mirror the ones in {@link de.adorsys.psd2.consent.domain.consent.ConsentEntity}, with the usages of
+ * the consent being reduced to the date of the earliest one.
+ */
+public interface ConsentStatusProjection {
+    ConsentStatus getConsentStatus();
+
+    String getConsentType();
+
+    OffsetDateTime getCreationTimestamp();
+
+    LocalDate getValidUntil();
+
+    boolean isRecurringIndicator();
+
+    String getInstanceId();
+
+    /**
+     * @return date of the earliest usage of the consent or <code>null</code> if the consent was never used
+     */
+    LocalDate getFirstUsageDate();
+
+    default boolean isConfirmationExpired(long expirationPeriodMs) {
+        if (EnumSet.of(ConsentStatus.RECEIVED, ConsentStatus.PARTIALLY_AUTHORISED).contains(getConsentStatus())) {
+            return getCreationTimestamp().plus(expirationPeriodMs, ChronoUnit.MILLIS)
+                       .isBefore(OffsetDateTime.now());
+        }
+
+        return false;
+    }
+
+    default boolean shouldConsentBeExpired() {
+        if (ConsentType.getByValue(getConsentType()) == ConsentType.PIIS_TPP) {
+            return false;
+        }
+
+        LocalDate today = LocalDate.now();
+        boolean nonRecurringAlreadyUsed = !isRecurringIndicator()
+                                              && getFirstUsageDate() != null
+                                              && getFirstUsageDate().isBefore(today);
+        return !getConsentStatus().isFinalisedStatus()
+                   && (today.compareTo(getValidUntil()) > 0 || nonRecurringAlreadyUsed);
+    }
+}
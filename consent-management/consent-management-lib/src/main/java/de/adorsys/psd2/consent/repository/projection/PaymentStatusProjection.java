@@ -0,0 +1,47 @@
+/*
+ * Copyright 2018-2024 adorsys GmbH & Co KG
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ *
+ * This project is also available under a separate commercial license. You can
+ * contact us at sales@adorsys.com.
+ */
+
+package de.adorsys.psd2.consent.repository.projection;
+
+import de.adorsys.psd2.xs2a.core.pis.TransactionStatus;
+
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.EnumSet;
+
+/**
+ * Status and expiration related fields of the common payment, read without loading the payment entity.
+ * <p>
+ * Expiration checks mirror the ones in {@link de.adorsys.psd2.consent.domain.payment.PisCommonPaymentData}.
+ */
+public interface PaymentStatusProjection {
+    TransactionStatus getTransactionStatus();
+
+    OffsetDateTime getCreationTimestamp();
+
+    String getInstanceId();
+
+    default boolean isConfirmationExpired(long expirationPeriodMs) {
+        if (EnumSet.of(TransactionStatus.RCVD, TransactionStatus.PATC).contains(getTransactionStatus())) {
+            return getCreationTimestamp().plus(expirationPeriodMs, ChronoUnit.MILLIS)
+                       .isBefore(OffsetDateTime.now());
+        }
+
+        return false;
+    }
+}
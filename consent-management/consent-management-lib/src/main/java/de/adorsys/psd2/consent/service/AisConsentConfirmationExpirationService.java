@@ -28,4 +28,20 @@ public interface AisConsentConfirmationExpirationService extends ConfirmationExp
     List<ConsentEntity> updateConsentListOnConfirmationExpiration(List<ConsentEntity> consents);
 
     void updateConsentListOnConfirmationExpirationByExternalIds(List<String> externalIds);
+
+    /**
+     * Moves confirmation deadline of the consents, which confirmation hasn't expired yet, according to ASPSP profile
+     *
+     * @param consents not confirmed consents
+     */
+    void updateConfirmationDeadlines(List<ConsentEntity> consents);
+
+    /**
+     * Expires consents, which validity has ended or which were used as non-recurring consents before today.
+     * Expiration deadline of other consents is moved to the day they actually expire.
+     *
+     * @param consentIds IDs of the consents, which expiration deadline has been reached
+     * @return amount of expired consents
+     */
+    int expireConsentsOnExpirationDeadline(List<Long> consentIds);
 }
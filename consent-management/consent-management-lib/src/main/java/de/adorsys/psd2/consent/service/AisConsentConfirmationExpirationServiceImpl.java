@@ -33,16 +33,21 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class AisConsentConfirmationExpirationServiceImpl implements AisConsentConfirmationExpirationService {
+    private static final Set<ConsentStatus> EXPIRABLE_STATUSES = EnumSet.of(ConsentStatus.RECEIVED, ConsentStatus.VALID);
+
     private final ConsentJpaRepository consentJpaRepository;
     private final AuthorisationRepository authorisationRepository;
     private final AspspProfileService aspspProfileService;
+    private final StatusCache statusCache;
 
     @Transactional
     @Override
@@ -59,14 +64,14 @@ public class AisConsentConfirmationExpirationServiceImpl implements AisConsentCo
         if (consent == null) {
             return false;
         }
-        long expirationPeriodMs = aspspProfileService.getAspspSettings(consent.getInstanceId()).getAis().getConsentTypes().getNotConfirmedConsentExpirationTimeMs();
-        return consent.isConfirmationExpired(expirationPeriodMs);
+        return consent.isConfirmationExpired(getExpirationPeriodMs(consent));
     }
 
     @Transactional
     @Override
     public ConsentEntity expireConsent(ConsentEntity consent) {
         LocalDate now = LocalDate.now();
+        statusCache.evictConsentStatus(consent.getExternalId());
         consent.setConsentStatus(ConsentStatus.EXPIRED);
         consent.setExpireDate(now);
         consent.setLastActionDate(now);
@@ -82,16 +87,52 @@ public class AisConsentConfirmationExpirationServiceImpl implements AisConsentCo
     @Transactional
     @Override
     public void updateConsentListOnConfirmationExpirationByExternalIds(List<String> externalIds) {
+        externalIds.forEach(statusCache::evictConsentStatus);
         consentJpaRepository.expireConsentsByIds(externalIds);
         authorisationRepository.updateAuthorisationByConsentIds(externalIds);
     }
 
+    @Transactional
+    @Override
+    public void updateConfirmationDeadlines(List<ConsentEntity> consents) {
+        consents.forEach(consent -> {
+            consent.resetConfirmationDeadline(getExpirationPeriodMs(consent));
+            consentJpaRepository.updateConfirmationDeadline(consent.getId(), consent.getConfirmationDeadline());
+        });
+    }
+
+    @Transactional
+    @Override
+    public int expireConsentsOnExpirationDeadline(List<Long> consentIds) {
+        LocalDate now = LocalDate.now();
+        int expiredCount = 0;
+        for (ConsentEntity consent : consentJpaRepository.findAllById(consentIds)) {
+            if (!EXPIRABLE_STATUSES.contains(consent.getConsentStatus())) {
+                continue;
+            }
+            boolean expiredByDate = consent.getValidUntil() != null && consent.isExpiredByDate();
+            if (expiredByDate || consent.isNonReccuringAlreadyUsed()) {
+                statusCache.evictConsentStatus(consent.getExternalId());
+                consent.setConsentStatus(ConsentStatus.EXPIRED);
+                consent.setExpireDate(now);
+                expiredCount++;
+            } else {
+                consent.resetExpirationDeadline();
+            }
+        }
+        return expiredCount;
+    }
+
     @Transactional
     @Override
     public List<ConsentEntity> updateConsentListOnConfirmationExpiration(List<ConsentEntity> consents) {
         return IterableUtils.toList(consentJpaRepository.saveAll(obsoleteConsentList(consents)));
     }
 
+    private long getExpirationPeriodMs(ConsentEntity consent) {
+        return aspspProfileService.getAspspSettings(consent.getInstanceId()).getAis().getConsentTypes().getNotConfirmedConsentExpirationTimeMs();
+    }
+
     private List<ConsentEntity> obsoleteConsentList(List<ConsentEntity> consents) {
         return consents.stream()
                    .map(this::obsoleteConsent)
@@ -99,6 +140,7 @@ public class AisConsentConfirmationExpirationServiceImpl implements AisConsentCo
     }
 
     private ConsentEntity obsoleteConsent(ConsentEntity consent) {
+        statusCache.evictConsentStatus(consent.getExternalId());
         consent.setConsentStatus(ConsentStatus.REJECTED);
         List<AuthorisationEntity> authorisations = authorisationRepository.findAllByParentExternalIdAndType(consent.getExternalId(), AuthorisationType.CONSENT);
         authorisations.forEach(auth -> auth.setScaStatus(ScaStatus.FAILED));
@@ -63,6 +63,7 @@ public class AisConsentServiceInternal implements AisConsentService {
     private final AuthorisationRepository authorisationRepository;
     private final AisConsentConfirmationExpirationService aisConsentConfirmationExpirationService;
     private final AisConsentUsageService aisConsentUsageService;
+    private final StatusCache statusCache;
     private final OneOffConsentExpirationService oneOffConsentExpirationService;
     private final CmsConsentMapper cmsConsentMapper;
     private final AccessMapper accessMapper;
@@ -148,12 +149,16 @@ public class AisConsentServiceInternal implements AisConsentService {
         if (!request.isUpdateUsage()) {
             return;
         }
-        aisConsentUsageService.incrementUsage(consent, request);
+        if (!aisConsentUsageService.incrementUsage(consent, request)) {
+            log.info("Consent ID [{}], request URI [{}]. Usage isn't counted, because frequencyPerDay limit is already reached",
+                     consent.getExternalId(), request.getRequestUri());
+        }
 
         CmsConsent cmsConsent = mapToCmsConsent(consent);
 
         if (!consent.isRecurringIndicator() && consent.getFrequencyPerDay() == 1
                 && oneOffConsentExpirationService.isConsentExpired(cmsConsent, consent.getId())) {
+            statusCache.evictConsentStatus(consent.getExternalId());
             consent.setConsentStatus(EXPIRED);
         }
 
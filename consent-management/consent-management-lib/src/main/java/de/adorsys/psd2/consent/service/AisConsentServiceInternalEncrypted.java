@@ -20,10 +20,15 @@ package de.adorsys.psd2.consent.service;
 
 import de.adorsys.psd2.consent.api.CmsResponse;
 import de.adorsys.psd2.consent.api.WrongChecksumException;
+import de.adorsys.psd2.consent.api.ais.AisConsentAccessResponse;
 import de.adorsys.psd2.consent.api.ais.AisConsentActionRequest;
 import de.adorsys.psd2.consent.api.ais.CmsConsent;
 import de.adorsys.psd2.consent.api.service.AisConsentService;
 import de.adorsys.psd2.consent.api.service.AisConsentServiceEncrypted;
+import de.adorsys.psd2.consent.api.service.ConsentService;
+import de.adorsys.psd2.consent.domain.AspspConsentDataEntity;
+import de.adorsys.psd2.consent.repository.AspspConsentDataRepository;
+import de.adorsys.psd2.consent.service.security.DecryptedData;
 import de.adorsys.psd2.consent.service.security.SecurityDataService;
 import de.adorsys.psd2.core.data.AccountAccess;
 import lombok.RequiredArgsConstructor;
@@ -42,6 +47,41 @@ import static de.adorsys.psd2.consent.api.CmsError.TECHNICAL_ERROR;
 public class AisConsentServiceInternalEncrypted implements AisConsentServiceEncrypted {
     private final SecurityDataService securityDataService;
     private final AisConsentService aisConsentService;
+    private final ConsentService consentService;
+    private final AspspConsentDataRepository aspspConsentDataRepository;
+
+    @Override
+    @Transactional
+    public CmsResponse<AisConsentAccessResponse> getConsentAccess(String encryptedConsentId) {
+        Optional<String> decryptIdOptional = securityDataService.decryptId(encryptedConsentId);
+
+        if (decryptIdOptional.isEmpty()) {
+            log.info("Encrypted Consent ID: [{}]. Get consent access failed, couldn't decrypt consent id", encryptedConsentId);
+            return CmsResponse.<AisConsentAccessResponse>builder()
+                       .error(TECHNICAL_ERROR)
+                       .build();
+        }
+
+        String consentId = decryptIdOptional.get();
+        CmsResponse<CmsConsent> consentResponse = consentService.getConsentById(consentId);
+
+        if (consentResponse.hasError()) {
+            return CmsResponse.<AisConsentAccessResponse>builder()
+                       .error(consentResponse.getError())
+                       .build();
+        }
+
+        // ASPSP consent data is read with already decrypted ID, sparing the second ID decryption of AspspDataService
+        byte[] aspspConsentData = aspspConsentDataRepository.findByConsentId(consentId)
+                                      .map(AspspConsentDataEntity::getData)
+                                      .flatMap(data -> securityDataService.decryptConsentData(encryptedConsentId, data))
+                                      .map(DecryptedData::getData)
+                                      .orElse(null);
+
+        return CmsResponse.<AisConsentAccessResponse>builder()
+                   .payload(new AisConsentAccessResponse(consentResponse.getPayload(), aspspConsentData))
+                   .build();
+    }
 
     @Override
     @Transactional(rollbackFor = WrongChecksumException.class)
@@ -22,51 +22,89 @@ import de.adorsys.psd2.consent.api.ais.AisConsentActionRequest;
 import de.adorsys.psd2.consent.domain.account.AisConsentUsage;
 import de.adorsys.psd2.consent.domain.consent.ConsentEntity;
 import de.adorsys.psd2.consent.repository.AisConsentUsageRepository;
+import de.adorsys.psd2.consent.repository.ConsentJpaRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+/**
+ * Maintains daily usage counters of AIS consents.
+ * <p>
+ * Counters are changed with atomic UPDATE statements in the database, so parallel requests to the same consent don't
+ * conflict on the version of the usage row and no increments are lost. The increment is conditional on the counter
+ * being below <code>frequencyPerDay</code> of the consent, so the counter never exceeds the limit. The first usage of
+ * a request URI on a given day creates the row while holding a lock on the consent row, so concurrent requests can't
+ * create duplicate rows either.
+ */
 @Service
 @RequiredArgsConstructor
 public class AisConsentUsageService {
     private final AisConsentUsageRepository aisConsentUsageRepository;
+    private final ConsentJpaRepository consentJpaRepository;
 
+    /**
+     * Increments today's usage counter of the request URI of given consent
+     *
+     * @param consent consent, which was used
+     * @param request action request, containing the request URI
+     * @return <code>true</code> if the usage was counted, <code>false</code> if the <code>frequencyPerDay</code>
+     * limit of the consent was already reached
+     */
     @Transactional
-    public void incrementUsage(ConsentEntity consent, AisConsentActionRequest request) {
-        AisConsentUsage aisConsentUsage = getUsage(consent, request.getRequestUri());
-        int usage = aisConsentUsage.getUsage();
-        aisConsentUsage.setUsage(++usage);
+    public boolean incrementUsage(ConsentEntity consent, AisConsentActionRequest request) {
+        LocalDate usageDate = LocalDate.now();
+        if (incrementExistingUsage(consent, usageDate, request)) {
+            return true;
+        }
+        if (isUsageLimitReached(consent, usageDate, request)) {
+            return false;
+        }
+
+        // Row might have been created by a concurrent request, that held the lock on the consent before us
+        consentJpaRepository.findLockedById(consent.getId());
+        if (incrementExistingUsage(consent, usageDate, request)) {
+            return true;
+        }
+        if (isUsageLimitReached(consent, usageDate, request) || consent.getFrequencyPerDay() < 1) {
+            return false;
+        }
+
+        AisConsentUsage aisConsentUsage = new AisConsentUsage(consent, request.getRequestUri());
+        aisConsentUsage.setUsageDate(usageDate);
+        aisConsentUsage.setUsage(1);
         aisConsentUsage.setResourceId(request.getResourceId());
         aisConsentUsage.setTransactionId(request.getTransactionId());
+        consent.addUsage(aisConsentUsage);
+        consent.updateExpirationDeadlineOnUsage(usageDate);
         aisConsentUsageRepository.save(aisConsentUsage);
+        return true;
     }
 
     @Transactional
     public void resetUsage(ConsentEntity consent) {
-        List<AisConsentUsage> aisConsentUsageList = aisConsentUsageRepository.findReadByConsentAndUsageDate(consent, LocalDate.now());
-        aisConsentUsageList.forEach(acu -> acu.setUsage(0));
-        aisConsentUsageRepository.saveAll(aisConsentUsageList);
+        aisConsentUsageRepository.resetUsage(consent, LocalDate.now());
     }
 
     @Transactional
     public Map<String, Integer> getUsageCounterMap(ConsentEntity consent) {
-        return aisConsentUsageRepository.findReadByConsentAndUsageDate(consent, LocalDate.now())
+        return aisConsentUsageRepository.findUsageCountersByConsentAndUsageDate(consent, LocalDate.now())
                    .stream()
-                   .collect(Collectors.toMap(AisConsentUsage::getRequestUri,
+                   .collect(Collectors.toMap(AisConsentUsageRepository.UsageCounter::getRequestUri,
                                              u -> Math.max(consent.getFrequencyPerDay() - u.getUsage(), 0)));
     }
 
-    private AisConsentUsage getUsage(ConsentEntity consent, String requestUri) {
-        return aisConsentUsageRepository.findWriteByConsentAndUsageDateAndRequestUri(consent, LocalDate.now(), requestUri)
-                   .orElseGet(() -> {
-                       AisConsentUsage usage = new AisConsentUsage(consent, requestUri);
-                       consent.addUsage(usage);
-                       return usage;
-                   });
+    private boolean incrementExistingUsage(ConsentEntity consent, LocalDate usageDate, AisConsentActionRequest request) {
+        return aisConsentUsageRepository.incrementUsage(consent, usageDate, request.getRequestUri(),
+                                                        request.getResourceId(), request.getTransactionId(),
+                                                        consent.getFrequencyPerDay()) > 0;
+    }
+
+    // Existing row, that wasn't incremented, has already reached the limit
+    private boolean isUsageLimitReached(ConsentEntity consent, LocalDate usageDate, AisConsentActionRequest request) {
+        return aisConsentUsageRepository.existsByConsentAndUsageDateAndRequestUri(consent, usageDate, request.getRequestUri());
     }
 }
@@ -39,6 +39,7 @@ import java.util.Optional;
 public class CommonPaymentDataService {
     private final PisCommonPaymentDataRepository pisCommonPaymentDataRepository;
     private final PisCommonPaymentDataSpecification pisCommonPaymentDataSpecification;
+    private final StatusCache statusCache;
 
     public Optional<PisCommonPaymentData> getPisCommonPaymentData(String paymentId, @Nullable String instanceId) {
         Specification<PisCommonPaymentData> specification = Optional.ofNullable(instanceId)
@@ -50,6 +51,7 @@ public class CommonPaymentDataService {
 
     @Transactional
     public boolean updateStatusInPaymentData(PisCommonPaymentData paymentData, TransactionStatus status) {
+        statusCache.evictPaymentStatus(paymentData.getPaymentId());
         paymentData.setTransactionStatus(status);
         if (status == TransactionStatus.PATC) {
             paymentData.setMultilevelScaRequired(true);
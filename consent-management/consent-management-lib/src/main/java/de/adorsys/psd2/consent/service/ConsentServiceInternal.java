@@ -18,6 +18,7 @@
 
 package de.adorsys.psd2.consent.service;
 
+import de.adorsys.psd2.aspsp.profile.domain.ais.ConsentTypeSetting;
 import de.adorsys.psd2.aspsp.profile.service.AspspProfileService;
 import de.adorsys.psd2.consent.api.CmsResponse;
 import de.adorsys.psd2.consent.api.WrongChecksumException;
@@ -32,6 +33,7 @@ import de.adorsys.psd2.consent.repository.AisConsentVerifyingRepository;
 import de.adorsys.psd2.consent.repository.AuthorisationRepository;
 import de.adorsys.psd2.consent.repository.ConsentJpaRepository;
 import de.adorsys.psd2.consent.repository.TppInfoRepository;
+import de.adorsys.psd2.consent.repository.projection.ConsentStatusProjection;
 import de.adorsys.psd2.consent.service.mapper.CmsConsentMapper;
 import de.adorsys.psd2.consent.service.mapper.PsuDataMapper;
 import de.adorsys.psd2.consent.service.psu.CmsPsuService;
@@ -73,6 +75,7 @@ public class ConsentServiceInternal implements ConsentService {
     private final AisConsentUsageService aisConsentUsageService;
     private final CmsConsentMapper cmsConsentMapper;
     private final AspspProfileService aspspProfileService;
+    private final StatusCache statusCache;
 
     /**
      * Creates consent.
@@ -115,6 +118,9 @@ public class ConsentServiceInternal implements ConsentService {
 
     /**
      * Reads status of consent by ID.
+     * <p>
+     * The status is read without loading the consent entity. The consent is loaded and updated only if it has expired
+     * and the status has to be changed.
      *
      * @param consentId ID of consent
      * @return ConsentStatus
@@ -122,10 +128,13 @@ public class ConsentServiceInternal implements ConsentService {
     @Override
     @Transactional
     public CmsResponse<ConsentStatus> getConsentStatusById(String consentId) {
-        Optional<ConsentStatus> consentStatusOptional = consentJpaRepository.findByExternalId(consentId)
-                                                            .map(aisConsentConfirmationExpirationService::checkAndUpdateOnConfirmationExpiration)
-                                                            .map(this::checkAndUpdateOnExpiration)
-                                                            .map(ConsentEntity::getConsentStatus);
+        Optional<ConsentStatus> consentStatusOptional = statusCache.getConsentStatus(consentId);
+        if (consentStatusOptional.isEmpty()) {
+            consentStatusOptional = consentJpaRepository.findStatusByExternalId(consentId)
+                                        .flatMap(c -> readConsentStatus(consentId, c));
+            consentStatusOptional.ifPresent(s -> statusCache.putConsentStatus(consentId, s));
+        }
+
         if (consentStatusOptional.isPresent()) {
             return CmsResponse.<ConsentStatus>builder()
                        .payload(consentStatusOptional.get())
@@ -355,12 +364,25 @@ public class ConsentServiceInternal implements ConsentService {
         return consent;
     }
 
+    private Optional<ConsentStatus> readConsentStatus(String consentId, ConsentStatusProjection consentStatus) {
+        long expirationPeriodMs = aspspProfileService.getAspspSettings(consentStatus.getInstanceId()).getAis().getConsentTypes().getNotConfirmedConsentExpirationTimeMs();
+        if (!consentStatus.isConfirmationExpired(expirationPeriodMs) && !consentStatus.shouldConsentBeExpired()) {
+            return Optional.of(consentStatus.getConsentStatus());
+        }
+
+        return consentJpaRepository.findByExternalId(consentId)
+                   .map(aisConsentConfirmationExpirationService::checkAndUpdateOnConfirmationExpiration)
+                   .map(this::checkAndUpdateOnExpiration)
+                   .map(ConsentEntity::getConsentStatus);
+    }
+
     private Optional<ConsentEntity> getActualAisConsent(String consentId) {
         return consentJpaRepository.findByExternalId(consentId)
                    .filter(c -> !c.getConsentStatus().isFinalisedStatus());
     }
 
     private boolean setStatusAndSaveConsent(ConsentEntity consent, ConsentStatus status) throws WrongChecksumException {
+        statusCache.evictConsentStatus(consent.getExternalId());
         consent.setLastActionDate(LocalDate.now());
         consent.setConsentStatus(status);
 
@@ -371,16 +393,19 @@ public class ConsentServiceInternal implements ConsentService {
     }
 
     private void updateStatus(ConsentEntity aisConsent) {
+        statusCache.evictConsentStatus(aisConsent.getExternalId());
         aisConsent.setConsentStatus(aisConsent.getConsentStatus() == RECEIVED || aisConsent.getConsentStatus() == PARTIALLY_AUTHORISED
                                         ? REJECTED
                                         : TERMINATED_BY_TPP);
     }
 
     private ConsentEntity adjustConsentEntity(ConsentEntity consentEntity, ConsentType consentType) {
+        ConsentTypeSetting consentTypeSetting = aspspProfileService.getAspspSettings(consentEntity.getInstanceId()).getAis().getConsentTypes();
         if (ConsentType.AIS == consentType) {
-            int lifetime = aspspProfileService.getAspspSettings(consentEntity.getInstanceId()).getAis().getConsentTypes().getMaxConsentValidityDays();
+            int lifetime = consentTypeSetting.getMaxConsentValidityDays();
             consentEntity.setValidUntil(adjustValidUntilDate(consentEntity.getValidUntil(), lifetime));
         }
+        consentEntity.resetConfirmationDeadline(consentTypeSetting.getNotConfirmedConsentExpirationTimeMs());
 
         return consentEntity;
     }
@@ -26,7 +26,12 @@ import lombok.RequiredArgsConstructor;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.stereotype.Service;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -36,23 +41,37 @@ public class EventServiceEncryptedImpl implements Xs2aEventServiceEncrypted {
 
     @Override
     public void recordEvent(@NotNull EventBO event) {
-        String decryptedConsentId = decryptId(event.getConsentId());
-        String decryptedPaymentId = decryptId(event.getPaymentId());
-
-        EventBO decryptedEvent = EventBO.builder()
-                                     .timestamp(event.getTimestamp())
-                                     .consentId(decryptedConsentId)
-                                     .paymentId(decryptedPaymentId)
-                                     .payload(event.getPayload())
-                                     .eventOrigin(event.getEventOrigin())
-                                     .eventType(event.getEventType())
-                                     .psuIdData(event.getPsuIdData())
-                                     .tppAuthorisationNumber(event.getTppAuthorisationNumber())
-                                     .xRequestId(event.getXRequestId())
-                                     .internalRequestId(event.getInternalRequestId())
-                                     .instanceId(event.getInstanceId())
-                                     .build();
-        eventService.recordEvent(decryptedEvent);
+        eventService.recordEvent(decryptEvent(event, this::decryptId));
+    }
+
+    @Override
+    public void recordEvents(@NotNull List<EventBO> events) {
+        // Events of the same consent or payment share encrypted IDs, so every distinct ID is decrypted only once
+        Map<String, Optional<String>> decryptedIds = new HashMap<>();
+        Function<String, String> batchDecryption = id -> Optional.ofNullable(id)
+                                                             .flatMap(i -> decryptedIds.computeIfAbsent(i, securityDataService::decryptId))
+                                                             .orElse(null);
+
+        List<EventBO> decryptedEvents = events.stream()
+                                            .map(event -> decryptEvent(event, batchDecryption))
+                                            .collect(Collectors.toList());
+        eventService.recordEvents(decryptedEvents);
+    }
+
+    private EventBO decryptEvent(EventBO event, Function<String, String> idDecryption) {
+        return EventBO.builder()
+                   .timestamp(event.getTimestamp())
+                   .consentId(idDecryption.apply(event.getConsentId()))
+                   .paymentId(idDecryption.apply(event.getPaymentId()))
+                   .payload(event.getPayload())
+                   .eventOrigin(event.getEventOrigin())
+                   .eventType(event.getEventType())
+                   .psuIdData(event.getPsuIdData())
+                   .tppAuthorisationNumber(event.getTppAuthorisationNumber())
+                   .xRequestId(event.getXRequestId())
+                   .internalRequestId(event.getInternalRequestId())
+                   .instanceId(event.getInstanceId())
+                   .build();
     }
 
     private String decryptId(String id) {
@@ -24,4 +24,11 @@ import java.util.List;
 
 public interface PisCommonPaymentConfirmationExpirationService extends ConfirmationExpirationService<PisCommonPaymentData> {
     List<PisCommonPaymentData> updatePaymentDataListOnConfirmationExpiration(List<PisCommonPaymentData> pisCommonPaymentDataList);
+
+    /**
+     * Moves confirmation deadline of the payments, which confirmation hasn't expired yet, according to ASPSP profile
+     *
+     * @param pisCommonPaymentDataList not confirmed payments
+     */
+    void updateConfirmationDeadlines(List<PisCommonPaymentData> pisCommonPaymentDataList);
 }
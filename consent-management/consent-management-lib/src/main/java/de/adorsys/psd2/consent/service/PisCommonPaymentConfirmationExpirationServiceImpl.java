@@ -42,6 +42,7 @@ public class PisCommonPaymentConfirmationExpirationServiceImpl implements PisCom
     private final PisCommonPaymentDataRepository pisCommonPaymentDataRepository;
     private final AuthorisationRepository authorisationRepository;
     private final AspspProfileService aspspProfileService;
+    private final StatusCache statusCache;
 
     @Transactional
     @Override
@@ -49,6 +50,15 @@ public class PisCommonPaymentConfirmationExpirationServiceImpl implements PisCom
         return IterableUtils.toList(pisCommonPaymentDataRepository.saveAll(obsoletePaymentDataList(pisCommonPaymentDataList)));
     }
 
+    @Transactional
+    @Override
+    public void updateConfirmationDeadlines(List<PisCommonPaymentData> pisCommonPaymentDataList) {
+        pisCommonPaymentDataList.forEach(pisCommonPaymentData -> {
+            pisCommonPaymentData.resetConfirmationDeadline(getExpirationPeriodMs(pisCommonPaymentData));
+            pisCommonPaymentDataRepository.updateConfirmationDeadline(pisCommonPaymentData.getId(), pisCommonPaymentData.getConfirmationDeadline());
+        });
+    }
+
     private void failAuthorisation(AuthorisationEntity authorisation) {
         authorisation.setScaStatus(ScaStatus.FAILED);
         authorisation.setRedirectUrlExpirationTimestamp(OffsetDateTime.now());
@@ -63,6 +73,7 @@ public class PisCommonPaymentConfirmationExpirationServiceImpl implements PisCom
     private PisCommonPaymentData obsoletePaymentData(PisCommonPaymentData pisCommonPaymentData) {
         pisCommonPaymentData.setTransactionStatus(TransactionStatus.RJCT);
         String paymentId = pisCommonPaymentData.getExternalId();
+        statusCache.evictPaymentStatus(paymentId);
         List<AuthorisationEntity> authorisations =
             authorisationRepository.findAllByParentExternalIdAndTypeIn(paymentId, EnumSet.of(AuthorisationType.PIS_CREATION, AuthorisationType.PIS_CANCELLATION));
         authorisations.forEach(auth -> auth.setScaStatus(ScaStatus.FAILED));
@@ -85,8 +96,11 @@ public class PisCommonPaymentConfirmationExpirationServiceImpl implements PisCom
         if (pisCommonPaymentData == null) {
             return false;
         }
-        long expirationPeriodMs = aspspProfileService.getAspspSettings(pisCommonPaymentData.getInstanceId()).getPis().getNotConfirmedPaymentExpirationTimeMs();
-        return pisCommonPaymentData.isConfirmationExpired(expirationPeriodMs);
+        return pisCommonPaymentData.isConfirmationExpired(getExpirationPeriodMs(pisCommonPaymentData));
+    }
+
+    private long getExpirationPeriodMs(PisCommonPaymentData pisCommonPaymentData) {
+        return aspspProfileService.getAspspSettings(pisCommonPaymentData.getInstanceId()).getPis().getNotConfirmedPaymentExpirationTimeMs();
     }
 
     @Transactional
@@ -94,6 +108,7 @@ public class PisCommonPaymentConfirmationExpirationServiceImpl implements PisCom
     public PisCommonPaymentData updateOnConfirmationExpiration(PisCommonPaymentData pisCommonPaymentData) {
         pisCommonPaymentData.setTransactionStatus(TransactionStatus.RJCT);
         String paymentId = pisCommonPaymentData.getExternalId();
+        statusCache.evictPaymentStatus(paymentId);
         List<AuthorisationEntity> authorisations =
             authorisationRepository.findAllByParentExternalIdAndTypeIn(paymentId, EnumSet.of(AuthorisationType.PIS_CREATION, AuthorisationType.PIS_CANCELLATION));
         authorisations.forEach(this::failAuthorisation);
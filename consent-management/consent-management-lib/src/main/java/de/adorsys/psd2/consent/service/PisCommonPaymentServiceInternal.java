@@ -18,6 +18,7 @@
 
 package de.adorsys.psd2.consent.service;
 
+import de.adorsys.psd2.aspsp.profile.service.AspspProfileService;
 import de.adorsys.psd2.consent.api.CmsResponse;
 import de.adorsys.psd2.consent.api.pis.CreatePisCommonPaymentResponse;
 import de.adorsys.psd2.consent.api.pis.PisCommonPaymentResponse;
@@ -30,6 +31,7 @@ import de.adorsys.psd2.consent.repository.AuthorisationRepository;
 import de.adorsys.psd2.consent.repository.PisCommonPaymentDataRepository;
 import de.adorsys.psd2.consent.repository.PisPaymentDataRepository;
 import de.adorsys.psd2.consent.repository.TppInfoRepository;
+import de.adorsys.psd2.consent.repository.projection.PaymentStatusProjection;
 import de.adorsys.psd2.consent.service.mapper.PisCommonPaymentMapper;
 import de.adorsys.psd2.consent.service.mapper.PsuDataMapper;
 import de.adorsys.psd2.xs2a.core.authorisation.AuthorisationType;
@@ -62,6 +64,8 @@ public class PisCommonPaymentServiceInternal implements PisCommonPaymentService
     private final PisCommonPaymentConfirmationExpirationService pisCommonPaymentConfirmationExpirationService;
     private final CorePaymentsConvertService corePaymentsConvertService;
     private final AuthorisationRepository authorisationRepository;
+    private final AspspProfileService aspspProfileService;
+    private final StatusCache statusCache;
 
     /**
      * Creates new pis common payment with full information about payment
@@ -75,6 +79,8 @@ public class PisCommonPaymentServiceInternal implements PisCommonPaymentService
         PisCommonPaymentData commonPaymentData = pisCommonPaymentMapper.mapToPisCommonPaymentData(request);
         tppInfoRepository.findByAuthorisationNumber(request.getTppInfo().getAuthorisationNumber())
             .ifPresent(commonPaymentData::setTppInfo);
+        long expirationPeriodMs = aspspProfileService.getAspspSettings(commonPaymentData.getInstanceId()).getPis().getNotConfirmedPaymentExpirationTimeMs();
+        commonPaymentData.resetConfirmationDeadline(expirationPeriodMs);
 
         PisCommonPaymentData saved = pisCommonPaymentDataRepository.save(commonPaymentData);
 
@@ -93,6 +99,9 @@ public class PisCommonPaymentServiceInternal implements PisCommonPaymentService
 
     /**
      * Retrieves common payment status from pis common payment by payment identifier
+     * <p>
+     * The status is read without loading the payment entity. The payment is loaded and updated only if its confirmation
+     * has expired and the status has to be changed.
      *
      * @param paymentId String representation of pis payment identifier
      * @return Information about the status of a common payment
@@ -100,9 +109,12 @@ public class PisCommonPaymentServiceInternal implements PisCommonPaymentService
     @Override
     @Transactional
     public CmsResponse<TransactionStatus> getPisCommonPaymentStatusById(String paymentId) {
-        Optional<TransactionStatus> statusOptional = pisCommonPaymentDataRepository.findByPaymentId(paymentId)
-                                                         .map(pisCommonPaymentConfirmationExpirationService::checkAndUpdateOnConfirmationExpiration)
-                                                         .map(PisCommonPaymentData::getTransactionStatus);
+        Optional<TransactionStatus> statusOptional = statusCache.getPaymentStatus(paymentId);
+        if (statusOptional.isEmpty()) {
+            statusOptional = pisCommonPaymentDataRepository.findStatusByPaymentId(paymentId)
+                                 .flatMap(p -> readPaymentStatus(paymentId, p));
+            statusOptional.ifPresent(s -> statusCache.putPaymentStatus(paymentId, s));
+        }
 
         if (statusOptional.isPresent()) {
             return CmsResponse.<TransactionStatus>builder()
@@ -243,7 +255,19 @@ public class PisCommonPaymentServiceInternal implements PisCommonPaymentService
                    .build();
     }
 
+    private Optional<TransactionStatus> readPaymentStatus(String paymentId, PaymentStatusProjection paymentStatus) {
+        long expirationPeriodMs = aspspProfileService.getAspspSettings(paymentStatus.getInstanceId()).getPis().getNotConfirmedPaymentExpirationTimeMs();
+        if (!paymentStatus.isConfirmationExpired(expirationPeriodMs)) {
+            return Optional.of(paymentStatus.getTransactionStatus());
+        }
+
+        return pisCommonPaymentDataRepository.findByPaymentId(paymentId)
+                   .map(pisCommonPaymentConfirmationExpirationService::checkAndUpdateOnConfirmationExpiration)
+                   .map(PisCommonPaymentData::getTransactionStatus);
+    }
+
     private PisCommonPaymentData setStatusAndSaveCommonPaymentData(PisCommonPaymentData commonPaymentData, TransactionStatus status) {
+        statusCache.evictPaymentStatus(commonPaymentData.getPaymentId());
         commonPaymentData.setTransactionStatus(status);
         return pisCommonPaymentDataRepository.save(commonPaymentData);
     }
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2018-2024 adorsys GmbH & Co KG
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ *
+ * This project is also available under a separate commercial license. You can
+ * contact us at sales@adorsys.com.
+ */
+
+package de.adorsys.psd2.consent.service;
+
+import de.adorsys.psd2.consent.service.security.ExpiringLruCache;
+import de.adorsys.psd2.xs2a.core.consent.ConsentStatus;
+import de.adorsys.psd2.xs2a.core.pis.TransactionStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+
+/**
+ * Short-lived in-memory cache of payment and consent statuses, stored by their external IDs.
+ * <p>
+ * Allows to answer repeated status polling by TPP without querying the database. Statuses are evicted by the CMS
+ * services, changing them, both immediately and after the completion of the changing transaction, so that status read
+ * concurrently with the change is not kept in the cache. Changes, made bypassing these services (i.e. by another CMS
+ * instance), become visible after the time to live of the entry, so it should be kept short. The cache is disabled by
+ * default.
+ */
+@Slf4j
+@Component
+public class StatusCache {
+    private final boolean enabled;
+    private final ExpiringLruCache<TransactionStatus> paymentStatuses;
+    private final ExpiringLruCache<ConsentStatus> consentStatuses;
+
+    public StatusCache(@Value("${xs2a.cms.status-cache.enabled:false}") boolean enabled,
+                       @Value("${xs2a.cms.status-cache.max-size:10000}") int maxSize,
+                       @Value("${xs2a.cms.status-cache.ttl-seconds:5}") long ttlSeconds) {
+        this.enabled = enabled;
+        this.paymentStatuses = new ExpiringLruCache<>(enabled ? maxSize : 0, ttlSeconds);
+        this.consentStatuses = new ExpiringLruCache<>(enabled ? maxSize : 0, ttlSeconds);
+        log.info("Status cache enabled: {}, payment statuses: {}, consent statuses: {}", enabled, paymentStatuses, consentStatuses);
+    }
+
+    /**
+     * Creates cache that doesn't store any statuses
+     *
+     * @return disabled status cache
+     */
+    public static StatusCache disabled() {
+        return new StatusCache(false, 0, 0);
+    }
+
+    public Optional<TransactionStatus> getPaymentStatus(String paymentId) {
+        return enabled ? paymentStatuses.get(paymentId) : Optional.empty();
+    }
+
+    public void putPaymentStatus(String paymentId, TransactionStatus status) {
+        if (enabled) {
+            paymentStatuses.put(paymentId, status);
+        }
+    }
+
+    /**
+     * Removes cached status of the payment, that is being changed
+     *
+     * @param paymentId external ID of the payment
+     */
+    public void evictPaymentStatus(String paymentId) {
+        if (enabled) {
+            evict(paymentStatuses, paymentId);
+        }
+    }
+
+    public Optional<ConsentStatus> getConsentStatus(String consentId) {
+        return enabled ? consentStatuses.get(consentId) : Optional.empty();
+    }
+
+    public void putConsentStatus(String consentId, ConsentStatus status) {
+        if (enabled) {
+            consentStatuses.put(consentId, status);
+        }
+    }
+
+    /**
+     * Removes cached status of the consent, that is being changed
+     *
+     * @param consentId external ID of the consent
+     */
+    public void evictConsentStatus(String consentId) {
+        if (enabled) {
+            evict(consentStatuses, consentId);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public String toString() {
+        return "StatusCache{payments=" + paymentStatuses + ", consents=" + consentStatuses + "}";
+    }
+
+    private void evict(ExpiringLruCache<?> cache, String id) {
+        cache.remove(id);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.remove(id);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2018-2024 adorsys GmbH & Co KG
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ *
+ * This project is also available under a separate commercial license. You can
+ * contact us at sales@adorsys.com.
+ */
+
+package de.adorsys.psd2.consent.service;
+
+import de.adorsys.psd2.xs2a.core.tpp.TppStopListChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.Nullable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Publishes {@link TppStopListChangedEvent}, so that local copies of the TPP stop list (i.e. in embedded XS2A) can be
+ * invalidated. Inside of a transaction the event is published only after the commit, as listeners may read the stop
+ * list again right away.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TppStopListChangeNotifier {
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    /**
+     * Notifies about the change of the TPP stop list
+     *
+     * @param tppAuthorisationNumber authorisation number of the changed TPP, <code>null</code> if several TPPs may have been changed
+     * @param instanceId             instance ID of the changed TPP, <code>null</code> if several instances may have been changed
+     */
+    public void notifyStopListChanged(@Nullable String tppAuthorisationNumber, @Nullable String instanceId) {
+        TppStopListChangedEvent event = new TppStopListChangedEvent(tppAuthorisationNumber, instanceId);
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(event);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publish(event);
+            }
+        });
+    }
+
+    private void publish(TppStopListChangedEvent event) {
+        log.debug("TPP stop list has been changed: {}", event);
+        applicationEventPublisher.publishEvent(event);
+    }
+}
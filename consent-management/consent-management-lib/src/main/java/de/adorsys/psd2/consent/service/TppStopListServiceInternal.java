@@ -22,26 +22,32 @@ import de.adorsys.psd2.consent.api.CmsResponse;
 import de.adorsys.psd2.consent.api.service.TppStopListService;
 import de.adorsys.psd2.consent.domain.TppStopListEntity;
 import de.adorsys.psd2.consent.repository.TppStopListRepository;
+import de.adorsys.psd2.consent.service.mapper.TppStopListMapper;
+import de.adorsys.psd2.xs2a.core.tpp.TppStatus;
+import de.adorsys.psd2.xs2a.core.tpp.TppStopListRecord;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class TppStopListServiceInternal implements TppStopListService {
     private final TppStopListRepository tppStopListRepository;
+    private final TppStopListMapper tppStopListMapper;
 
     @Value("${xs2a.cms.service.instance-id:UNDEFINED}")
     private String serviceInstanceId;
 
     @Override
     public CmsResponse<Boolean> checkIfTppBlocked(String tppAuthorisationNumber, String instanceId) {
-        String requestedInstanceId = StringUtils.isBlank(instanceId) ? serviceInstanceId : instanceId;
+        String requestedInstanceId = getRequestedInstanceId(instanceId);
         Optional<TppStopListEntity> stopListEntityOptional = tppStopListRepository.findByTppAuthorisationNumberAndInstanceId(tppAuthorisationNumber,
                                                                                                                              requestedInstanceId);
 
@@ -58,4 +64,19 @@ public class TppStopListServiceInternal implements TppStopListService {
                    .payload(blocked)
                    .build();
     }
+
+    @Override
+    public CmsResponse<List<TppStopListRecord>> getBlockedTpps(String instanceId) {
+        List<TppStopListRecord> blockedTpps = tppStopListRepository.findAllByInstanceIdAndStatus(getRequestedInstanceId(instanceId), TppStatus.BLOCKED).stream()
+                                                  .map(tppStopListMapper::mapToTppStopListRecord)
+                                                  .collect(Collectors.toList());
+
+        return CmsResponse.<List<TppStopListRecord>>builder()
+                   .payload(blockedTpps)
+                   .build();
+    }
+
+    private String getRequestedInstanceId(String instanceId) {
+        return StringUtils.isBlank(instanceId) ? serviceInstanceId : instanceId;
+    }
 }
@@ -19,12 +19,14 @@
 package de.adorsys.psd2.consent.service.aspsp;
 
 import de.adorsys.psd2.consent.api.ais.CmsAisAccountConsent;
+import de.adorsys.psd2.consent.aspsp.api.CmsExportRecord;
 import de.adorsys.psd2.consent.aspsp.api.PageData;
 import de.adorsys.psd2.consent.aspsp.api.ais.CmsAspspAisExportService;
 import de.adorsys.psd2.consent.domain.AuthorisationEntity;
 import de.adorsys.psd2.consent.domain.consent.ConsentEntity;
 import de.adorsys.psd2.consent.repository.AuthorisationRepository;
 import de.adorsys.psd2.consent.repository.ConsentJpaRepository;
+import de.adorsys.psd2.consent.repository.impl.KeysetSpecificationReader;
 import de.adorsys.psd2.consent.repository.specification.AisConsentSpecification;
 import de.adorsys.psd2.consent.service.mapper.AisConsentMapper;
 import de.adorsys.psd2.consent.service.psu.util.PageRequestBuilder;
@@ -49,19 +51,24 @@ import java.time.ZoneOffset;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class CmsAspspAisExportServiceInternal implements CmsAspspAisExportService {
+    private static final String EXPORT_SCOPE = "ais";
+
     private final AisConsentSpecification aisConsentSpecification;
     private final ConsentJpaRepository consentJpaRepository;
     private final AisConsentMapper aisConsentMapper;
     private final AuthorisationRepository authorisationRepository;
     private final PageRequestBuilder pageRequestBuilder;
+    private final KeysetSpecificationReader keysetSpecificationReader;
 
     @Override
     public PageData<Collection<CmsAisAccountConsent>> exportConsentsByTpp(String tppAuthorisationNumber,
@@ -130,18 +137,85 @@ public class CmsAspspAisExportServiceInternal implements CmsAspspAisExportServic
         return mapToPageData(consentEntityPage);
     }
 
+    @Override
+    public List<CmsExportRecord<CmsAisAccountConsent>> exportConsentChunkByTpp(String tppAuthorisationNumber,
+                                                                               @Nullable LocalDate createDateFrom, @Nullable LocalDate createDateTo,
+                                                                               @Nullable PsuIdData psuIdData, @NotNull String instanceId,
+                                                                               @Nullable String additionalTppInfo,
+                                                                               @Nullable String continuationToken, int chunkSize) {
+        Long lastId = ExportContinuationToken.decode(EXPORT_SCOPE, continuationToken);
+        if (StringUtils.isBlank(tppAuthorisationNumber) || StringUtils.isBlank(instanceId)) {
+            log.info("TPP ID: [{}], InstanceId: [{}]. Stream consents by TPP: Some of these two values are empty", tppAuthorisationNumber, instanceId);
+            return Collections.emptyList();
+        }
+
+        return mapToExportRecords(keysetSpecificationReader.findChunk(
+            ConsentEntity.class,
+            aisConsentSpecification.byTppIdAndCreationPeriodAndPsuIdDataAndInstanceId(tppAuthorisationNumber, createDateFrom, createDateTo, psuIdData, instanceId, additionalTppInfo),
+            lastId, chunkSize));
+    }
+
+    @Override
+    public List<CmsExportRecord<CmsAisAccountConsent>> exportConsentChunkByPsu(PsuIdData psuIdData,
+                                                                               @Nullable LocalDate createDateFrom, @Nullable LocalDate createDateTo,
+                                                                               @NotNull String instanceId,
+                                                                               @Nullable String additionalTppInfo,
+                                                                               @Nullable String continuationToken, int chunkSize) {
+        Long lastId = ExportContinuationToken.decode(EXPORT_SCOPE, continuationToken);
+        if (psuIdData == null || psuIdData.isEmpty() || StringUtils.isBlank(instanceId)) {
+            log.info("InstanceId: [{}]. Stream consents by Psu failed, psuIdData or instanceId is empty or null.",
+                     instanceId);
+            return Collections.emptyList();
+        }
+
+        return mapToExportRecords(keysetSpecificationReader.findChunk(
+            ConsentEntity.class,
+            aisConsentSpecification.byPsuIdDataAndCreationPeriodAndInstanceIdAndAdditionalTppInfo(psuIdData, createDateFrom, createDateTo, instanceId, additionalTppInfo),
+            lastId, chunkSize));
+    }
+
+    @Override
+    public List<CmsExportRecord<CmsAisAccountConsent>> exportConsentChunkByAccountId(@NotNull String aspspAccountId,
+                                                                                     @Nullable LocalDate createDateFrom, @Nullable LocalDate createDateTo,
+                                                                                     @NotNull String instanceId,
+                                                                                     @Nullable String additionalTppInfo,
+                                                                                     @Nullable String continuationToken, int chunkSize) {
+        Long lastId = ExportContinuationToken.decode(EXPORT_SCOPE, continuationToken);
+        if (StringUtils.isBlank(aspspAccountId) || StringUtils.isBlank(instanceId)) {
+            log.info("InstanceId: [{}], aspspAccountId: [{}]. Stream consents by accountId failed, aspspAccountId or instanceId is empty or null.",
+                     instanceId, aspspAccountId);
+            return Collections.emptyList();
+        }
+
+        return mapToExportRecords(keysetSpecificationReader.findChunk(
+            ConsentEntity.class,
+            aisConsentSpecification.byAspspAccountIdAndCreationPeriodAndInstanceIdAndAdditionalTppInfo(aspspAccountId, createDateFrom, createDateTo, instanceId, additionalTppInfo),
+            lastId, chunkSize));
+    }
+
     private PageData<Collection<CmsAisAccountConsent>> mapToPageData(Page<ConsentEntity> entities) {
-        return new PageData<>(entities.stream()
-                                  .map(this::mapToCmsAisAccountConsentWithAuthorisations)
-                                  .collect(Collectors.toList()),
+        return new PageData<>(mapToCmsAisAccountConsents(entities.getContent()),
                               entities.getPageable().getPageNumber(),
                               entities.getPageable().getPageSize(),
                               entities.getTotalElements());
     }
 
-    private CmsAisAccountConsent mapToCmsAisAccountConsentWithAuthorisations(ConsentEntity aisConsentEntity) {
-        List<AuthorisationEntity> authorisations =
-            authorisationRepository.findAllByParentExternalIdAndType(aisConsentEntity.getExternalId(), AuthorisationType.CONSENT);
-        return aisConsentMapper.mapToCmsAisAccountConsent(aisConsentEntity, authorisations);
+    private List<CmsExportRecord<CmsAisAccountConsent>> mapToExportRecords(List<ConsentEntity> entities) {
+        List<CmsAisAccountConsent> consents = mapToCmsAisAccountConsents(entities);
+        return IntStream.range(0, entities.size())
+                   .mapToObj(i -> new CmsExportRecord<>(ExportContinuationToken.encode(EXPORT_SCOPE, entities.get(i).getId()), consents.get(i)))
+                   .collect(Collectors.toList());
+    }
+
+    private List<CmsAisAccountConsent> mapToCmsAisAccountConsents(List<ConsentEntity> entities) {
+        Map<String, List<AuthorisationEntity>> authorisationsByConsentId =
+            authorisationRepository.findAllByParentExternalIdsGrouped(entities.stream()
+                                                                          .map(ConsentEntity::getExternalId)
+                                                                          .collect(Collectors.toList()),
+                                                                      AuthorisationType.CONSENT);
+
+        return entities.stream()
+                   .map(entity -> aisConsentMapper.mapToCmsAisAccountConsent(entity, authorisationsByConsentId.getOrDefault(entity.getExternalId(), Collections.emptyList())))
+                   .collect(Collectors.toList());
     }
 }
@@ -19,10 +19,12 @@
 package de.adorsys.psd2.consent.service.aspsp;
 
 import de.adorsys.psd2.consent.api.piis.v1.CmsPiisConsent;
+import de.adorsys.psd2.consent.aspsp.api.CmsExportRecord;
 import de.adorsys.psd2.consent.aspsp.api.PageData;
 import de.adorsys.psd2.consent.aspsp.api.piis.CmsAspspPiisFundsExportService;
 import de.adorsys.psd2.consent.domain.consent.ConsentEntity;
 import de.adorsys.psd2.consent.repository.ConsentJpaRepository;
+import de.adorsys.psd2.consent.repository.impl.KeysetSpecificationReader;
 import de.adorsys.psd2.consent.repository.specification.PiisConsentEntitySpecification;
 import de.adorsys.psd2.consent.service.mapper.PiisConsentMapper;
 import de.adorsys.psd2.consent.service.psu.util.PageRequestBuilder;
@@ -39,6 +41,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -47,11 +50,13 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class CmsAspspPiisFundsExportServiceInternal implements CmsAspspPiisFundsExportService {
     private static final String DEFAULT_SERVICE_INSTANCE_ID = "UNDEFINED";
+    private static final String EXPORT_SCOPE = "piis";
 
     private final ConsentJpaRepository consentJpaRepository;
     private final PiisConsentEntitySpecification piisConsentEntitySpecification;
     private final PiisConsentMapper piisConsentMapper;
     private final PageRequestBuilder pageRequestBuilder;
+    private final KeysetSpecificationReader keysetSpecificationReader;
 
     @Override
     @Transactional
@@ -106,6 +111,61 @@ public class CmsAspspPiisFundsExportServiceInternal implements CmsAspspPiisFunds
             pageRequestBuilder.getPageable(pageIndex, itemsPerPage)));
     }
 
+    @Override
+    public List<CmsExportRecord<CmsPiisConsent>> exportConsentChunkByTpp(String tppAuthorisationNumber,
+                                                                         @Nullable LocalDate createDateFrom, @Nullable LocalDate createDateTo,
+                                                                         @Nullable PsuIdData psuIdData, @Nullable String instanceId,
+                                                                         @Nullable String continuationToken, int chunkSize) {
+        Long lastId = ExportContinuationToken.decode(EXPORT_SCOPE, continuationToken);
+        if (StringUtils.isBlank(tppAuthorisationNumber)) {
+            log.info("TPP ID: [{}], instanceId: [{}]. Stream consents by TPP failed, TPP ID is empty or null.",
+                     tppAuthorisationNumber, instanceId);
+            return Collections.emptyList();
+        }
+
+        String actualInstanceId = StringUtils.defaultIfEmpty(instanceId, DEFAULT_SERVICE_INSTANCE_ID);
+        return mapToExportRecords(keysetSpecificationReader.findChunk(
+            ConsentEntity.class,
+            piisConsentEntitySpecification.byTppIdAndCreationPeriodAndPsuIdDataAndInstanceId(tppAuthorisationNumber, createDateFrom, createDateTo, psuIdData, actualInstanceId, null),
+            lastId, chunkSize));
+    }
+
+    @Override
+    public List<CmsExportRecord<CmsPiisConsent>> exportConsentChunkByPsu(PsuIdData psuIdData,
+                                                                         @Nullable LocalDate createDateFrom, @Nullable LocalDate createDateTo,
+                                                                         @Nullable String instanceId,
+                                                                         @Nullable String continuationToken, int chunkSize) {
+        Long lastId = ExportContinuationToken.decode(EXPORT_SCOPE, continuationToken);
+        if (psuIdData == null || psuIdData.isEmpty()) {
+            log.info("InstanceId: [{}]. Stream consents by psu failed, psuIdData is empty or null.", instanceId);
+            return Collections.emptyList();
+        }
+
+        String actualInstanceId = StringUtils.defaultIfEmpty(instanceId, DEFAULT_SERVICE_INSTANCE_ID);
+        return mapToExportRecords(keysetSpecificationReader.findChunk(
+            ConsentEntity.class,
+            piisConsentEntitySpecification.byPsuIdDataAndCreationPeriodAndInstanceIdAndAdditionalTppInfo(psuIdData, createDateFrom, createDateTo, actualInstanceId, null),
+            lastId, chunkSize));
+    }
+
+    @Override
+    public List<CmsExportRecord<CmsPiisConsent>> exportConsentChunkByAccountId(@NotNull String aspspAccountId,
+                                                                               @Nullable LocalDate createDateFrom, @Nullable LocalDate createDateTo,
+                                                                               @Nullable String instanceId,
+                                                                               @Nullable String continuationToken, int chunkSize) {
+        Long lastId = ExportContinuationToken.decode(EXPORT_SCOPE, continuationToken);
+        if (StringUtils.isBlank(aspspAccountId)) {
+            log.info("InstanceId: [{}]. Stream consents by accountId failed, aspspAccountId is empty or null.", instanceId);
+            return Collections.emptyList();
+        }
+
+        String actualInstanceId = StringUtils.defaultIfEmpty(instanceId, DEFAULT_SERVICE_INSTANCE_ID);
+        return mapToExportRecords(keysetSpecificationReader.findChunk(
+            ConsentEntity.class,
+            piisConsentEntitySpecification.byAspspAccountIdAndCreationPeriodAndInstanceIdAndAdditionalTppInfo(aspspAccountId, createDateFrom, createDateTo, actualInstanceId, null),
+            lastId, chunkSize));
+    }
+
     private PageData<Collection<CmsPiisConsent>> mapToPageData(Page<ConsentEntity> entities) {
         return new PageData<>(entities
                                   .stream()
@@ -115,4 +175,11 @@ public class CmsAspspPiisFundsExportServiceInternal implements CmsAspspPiisFunds
                               entities.getPageable().getPageSize(),
                               entities.getTotalElements());
     }
+
+    private List<CmsExportRecord<CmsPiisConsent>> mapToExportRecords(List<ConsentEntity> entities) {
+        return entities.stream()
+                   .map(entity -> new CmsExportRecord<>(ExportContinuationToken.encode(EXPORT_SCOPE, entity.getId()),
+                                                        piisConsentMapper.mapToCmsPiisConsent(entity)))
+                   .collect(Collectors.toList());
+    }
 }
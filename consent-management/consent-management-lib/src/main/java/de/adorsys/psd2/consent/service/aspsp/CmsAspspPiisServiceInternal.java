@@ -28,6 +28,7 @@ import de.adorsys.psd2.consent.repository.AspspAccountAccessRepository;
 import de.adorsys.psd2.consent.repository.ConsentJpaRepository;
 import de.adorsys.psd2.consent.repository.TppInfoRepository;
 import de.adorsys.psd2.consent.repository.specification.PiisConsentEntitySpecification;
+import de.adorsys.psd2.consent.service.StatusCache;
 import de.adorsys.psd2.consent.service.mapper.PiisConsentMapper;
 import de.adorsys.psd2.consent.service.psu.util.PageRequestBuilder;
 import de.adorsys.psd2.xs2a.core.consent.ConsentStatus;
@@ -62,6 +63,7 @@ public class CmsAspspPiisServiceInternal implements CmsAspspPiisService {
     private final PiisConsentMapper piisConsentMapper;
     private final PageRequestBuilder pageRequestBuilder;
     private final AspspAccountAccessRepository aspspAccountAccessRepository;
+    private final StatusCache statusCache;
 
     @Override
     @Transactional
@@ -133,6 +135,7 @@ public class CmsAspspPiisServiceInternal implements CmsAspspPiisService {
     }
 
     private void changeStatusAndLastActionDate(ConsentEntity consentEntity, ConsentStatus consentStatus) {
+        statusCache.evictConsentStatus(consentEntity.getExternalId());
         consentEntity.setLastActionDate(LocalDate.now());
         consentEntity.setConsentStatus(consentStatus);
     }
@@ -19,10 +19,12 @@
 package de.adorsys.psd2.consent.service.aspsp;
 
 import de.adorsys.psd2.consent.api.pis.CmsBasePaymentResponse;
+import de.adorsys.psd2.consent.aspsp.api.CmsExportRecord;
 import de.adorsys.psd2.consent.aspsp.api.PageData;
 import de.adorsys.psd2.consent.aspsp.api.pis.CmsAspspPisExportService;
 import de.adorsys.psd2.consent.domain.payment.PisCommonPaymentData;
 import de.adorsys.psd2.consent.repository.PisCommonPaymentDataRepository;
+import de.adorsys.psd2.consent.repository.impl.KeysetSpecificationReader;
 import de.adorsys.psd2.consent.repository.specification.PisCommonPaymentDataSpecification;
 import de.adorsys.psd2.consent.service.mapper.CmsPsuPisMapper;
 import de.adorsys.psd2.consent.service.psu.util.PageRequestBuilder;
@@ -39,6 +41,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -46,10 +49,13 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class CmsAspspPisExportServiceInternal implements CmsAspspPisExportService {
+    private static final String EXPORT_SCOPE = "pis";
+
     private final PisCommonPaymentDataSpecification pisCommonPaymentDataSpecification;
     private final PisCommonPaymentDataRepository pisCommonPaymentDataRepository;
     private final CmsPsuPisMapper cmsPsuPisMapper;
     private final PageRequestBuilder pageRequestBuilder;
+    private final KeysetSpecificationReader keysetSpecificationReader;
 
 
     @Override
@@ -97,6 +103,60 @@ public class CmsAspspPisExportServiceInternal implements CmsAspspPisExportServic
             pageRequestBuilder.getPageable(pageIndex, itemsPerPage)));
     }
 
+    @Override
+    public List<CmsExportRecord<CmsBasePaymentResponse>> exportPaymentChunkByTpp(String tppAuthorisationNumber,
+                                                                                 @Nullable LocalDate createDateFrom, @Nullable LocalDate createDateTo,
+                                                                                 @Nullable PsuIdData psuIdData, @NotNull String instanceId,
+                                                                                 @Nullable String continuationToken, int chunkSize) {
+        Long lastId = ExportContinuationToken.decode(EXPORT_SCOPE, continuationToken);
+        if (StringUtils.isBlank(tppAuthorisationNumber) || StringUtils.isBlank(instanceId)) {
+            log.info("InstanceId: [{}], TPP ID: [{}]. Stream payments by TPP failed, TPP ID or instanceId is empty or null.", instanceId,
+                     tppAuthorisationNumber);
+            return Collections.emptyList();
+        }
+
+        return mapToExportRecords(keysetSpecificationReader.findChunk(
+            PisCommonPaymentData.class,
+            pisCommonPaymentDataSpecification.byTppIdAndCreationPeriodAndPsuIdDataAndInstanceId(tppAuthorisationNumber, createDateFrom, createDateTo, psuIdData, instanceId),
+            lastId, chunkSize));
+    }
+
+    @Override
+    public List<CmsExportRecord<CmsBasePaymentResponse>> exportPaymentChunkByPsu(PsuIdData psuIdData,
+                                                                                 @Nullable LocalDate createDateFrom, @Nullable LocalDate createDateTo,
+                                                                                 @NotNull String instanceId,
+                                                                                 @Nullable String continuationToken, int chunkSize) {
+        Long lastId = ExportContinuationToken.decode(EXPORT_SCOPE, continuationToken);
+        if (psuIdData == null || psuIdData.isEmpty() || StringUtils.isBlank(instanceId)) {
+            log.info("InstanceId: [{}]. Stream payments by psu failed, psuIdData or instanceId is empty or null.",
+                     instanceId);
+            return Collections.emptyList();
+        }
+
+        return mapToExportRecords(keysetSpecificationReader.findChunk(
+            PisCommonPaymentData.class,
+            pisCommonPaymentDataSpecification.byPsuIdDataAndCreationPeriodAndInstanceId(psuIdData, createDateFrom, createDateTo, instanceId),
+            lastId, chunkSize));
+    }
+
+    @Override
+    public List<CmsExportRecord<CmsBasePaymentResponse>> exportPaymentChunkByAccountId(@NotNull String aspspAccountId,
+                                                                                       @Nullable LocalDate createDateFrom, @Nullable LocalDate createDateTo,
+                                                                                       @NotNull String instanceId,
+                                                                                       @Nullable String continuationToken, int chunkSize) {
+        Long lastId = ExportContinuationToken.decode(EXPORT_SCOPE, continuationToken);
+        if (StringUtils.isBlank(aspspAccountId) || StringUtils.isBlank(instanceId)) {
+            log.info("InstanceId: [{}], aspspAccountId: [{}]. Stream payments by accountId failed, aspspAccountId or instanceId is empty or null.",
+                     instanceId, aspspAccountId);
+            return Collections.emptyList();
+        }
+
+        return mapToExportRecords(keysetSpecificationReader.findChunk(
+            PisCommonPaymentData.class,
+            pisCommonPaymentDataSpecification.byAspspAccountIdAndCreationPeriodAndInstanceId(aspspAccountId, createDateFrom, createDateTo, instanceId),
+            lastId, chunkSize));
+    }
+
     private PageData<Collection<CmsBasePaymentResponse>> mapToPageData(Page<PisCommonPaymentData> entities) {
         return new PageData<>(entities
                                   .stream()
@@ -106,4 +166,11 @@ public class CmsAspspPisExportServiceInternal implements CmsAspspPisExportServic
                               entities.getPageable().getPageSize(),
                               entities.getTotalElements());
     }
+
+    private List<CmsExportRecord<CmsBasePaymentResponse>> mapToExportRecords(List<PisCommonPaymentData> entities) {
+        return entities.stream()
+                   .map(entity -> new CmsExportRecord<>(ExportContinuationToken.encode(EXPORT_SCOPE, entity.getId()),
+                                                        cmsPsuPisMapper.mapPaymentDataToCmsPayment(entity)))
+                   .collect(Collectors.toList());
+    }
 }
@@ -22,6 +22,7 @@ import de.adorsys.psd2.consent.aspsp.api.psu.CmsAspspPsuAccountService;
 import de.adorsys.psd2.consent.domain.consent.ConsentEntity;
 import de.adorsys.psd2.consent.repository.ConsentJpaRepository;
 import de.adorsys.psd2.consent.repository.specification.ConsentSpecification;
+import de.adorsys.psd2.consent.service.StatusCache;
 import de.adorsys.psd2.xs2a.core.consent.ConsentStatus;
 import de.adorsys.psd2.xs2a.core.psu.PsuIdData;
 import lombok.RequiredArgsConstructor;
@@ -40,6 +41,7 @@ import java.util.stream.Collectors;
 public class CmsAspspPsuAccountServiceInternal implements CmsAspspPsuAccountService {
     private final ConsentSpecification consentSpecification;
     private final ConsentJpaRepository consentJpaRepository;
+    private final StatusCache statusCache;
 
     @Override
     @Transactional
@@ -59,6 +61,7 @@ public class CmsAspspPsuAccountServiceInternal implements CmsAspspPsuAccountServ
         }
 
         filteredConsents.forEach(cst -> {
+            statusCache.evictConsentStatus(cst.getExternalId());
             cst.setLastActionDate(LocalDate.now());
             cst.setConsentStatus(ConsentStatus.REVOKED_BY_PSU);
         });
@@ -23,6 +23,7 @@ import de.adorsys.psd2.consent.domain.TppInfoEntity;
 import de.adorsys.psd2.consent.domain.TppStopListEntity;
 import de.adorsys.psd2.consent.repository.TppInfoRepository;
 import de.adorsys.psd2.consent.repository.TppStopListRepository;
+import de.adorsys.psd2.consent.service.TppStopListChangeNotifier;
 import de.adorsys.psd2.consent.service.mapper.TppInfoMapper;
 import de.adorsys.psd2.consent.service.mapper.TppStopListMapper;
 import de.adorsys.psd2.xs2a.core.tpp.TppInfo;
@@ -44,6 +45,7 @@ public class CmsAspspTppServiceInternal implements CmsAspspTppService {
     private final TppStopListMapper tppStopListMapper;
     private final TppInfoRepository tppInfoRepository;
     private final TppInfoMapper tppInfoMapper;
+    private final TppStopListChangeNotifier tppStopListChangeNotifier;
 
     @NotNull
     @Override
@@ -68,6 +70,7 @@ public class CmsAspspTppServiceInternal implements CmsAspspTppService {
         if (stopListEntityOptional.isEmpty()) {
             stopListRepository.save(entityToBeBlocked);
         }
+        tppStopListChangeNotifier.notifyStopListChanged(tppAuthorisationNumber, instanceId);
         return true;
     }
 
@@ -79,6 +82,7 @@ public class CmsAspspTppServiceInternal implements CmsAspspTppService {
         if (stopListEntityOptional.isPresent()) {
             TppStopListEntity entityToBeUnblocked = stopListEntityOptional.get();
             entityToBeUnblocked.unblock();
+            tppStopListChangeNotifier.notifyStopListChanged(tppAuthorisationNumber, instanceId);
         }
         return true;
     }
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2018-2024 adorsys GmbH & Co KG
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ *
+ * This project is also available under a separate commercial license. You can
+ * contact us at sales@adorsys.com.
+ */
+
+package de.adorsys.psd2.consent.service.aspsp;
+
+import org.apache.commons.lang3.StringUtils;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Encodes the position of a streaming export into an opaque URL-safe token and back.
+ * <p>
+ * The token contains the scope of the export, so that a token of one export can't be used to resume another one.
+ */
+final class ExportContinuationToken {
+    private static final String SEPARATOR = ":";
+
+    private ExportContinuationToken() {
+    }
+
+    static String encode(@NotNull String scope, @NotNull Long lastId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                   .encodeToString((scope + SEPARATOR + lastId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes the ID of the last exported entity from the token
+     *
+     * @param scope             scope of the export
+     * @param continuationToken token, previously returned by {@link #encode(String, Long)}
+     * @return ID of the last exported entity, <code>null</code> if no token was given
+     * @throws IllegalArgumentException if the token is malformed or was issued by another export
+     */
+    static @Nullable Long decode(@NotNull String scope, @Nullable String continuationToken) {
+        if (StringUtils.isBlank(continuationToken)) {
+            return null;
+        }
+
+        String decoded = new String(Base64.getUrlDecoder().decode(continuationToken), StandardCharsets.UTF_8);
+        String prefix = scope + SEPARATOR;
+        if (!decoded.startsWith(prefix)) {
+            throw new IllegalArgumentException("Continuation token is not issued by the " + scope + " export");
+        }
+
+        try {
+            return Long.valueOf(decoded.substring(prefix.length()));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Continuation token is malformed", e);
+        }
+    }
+}
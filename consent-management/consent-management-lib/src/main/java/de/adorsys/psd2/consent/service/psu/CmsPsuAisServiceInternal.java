@@ -40,6 +40,7 @@ import de.adorsys.psd2.consent.repository.specification.AisConsentSpecification;
 import de.adorsys.psd2.consent.repository.specification.AuthorisationSpecification;
 import de.adorsys.psd2.consent.service.AisConsentConfirmationExpirationService;
 import de.adorsys.psd2.consent.service.AisConsentUsageService;
+import de.adorsys.psd2.consent.service.StatusCache;
 import de.adorsys.psd2.consent.service.authorisation.CmsConsentAuthorisationServiceInternal;
 import de.adorsys.psd2.consent.service.mapper.AccessMapper;
 import de.adorsys.psd2.consent.service.mapper.AisConsentMapper;
@@ -102,6 +103,7 @@ public class CmsPsuAisServiceInternal implements CmsPsuAisService {
     private final CmsPsuConsentServiceInternal cmsPsuConsentServiceInternal;
     private final PageRequestBuilder pageRequestBuilder;
     private final AspspAccountAccessRepository aspspAccountAccessRepository;
+    private final StatusCache statusCache;
 
     @Override
     @Transactional
@@ -366,6 +368,7 @@ public class CmsPsuAisServiceInternal implements CmsPsuAisService {
         if (status == PARTIALLY_AUTHORISED) {
             consent.setMultilevelScaRequired(true);
         }
+        statusCache.evictConsentStatus(consent.getExternalId());
         consent.setLastActionDate(LocalDate.now());
         consent.setConsentStatus(status);
 
@@ -26,6 +26,7 @@ import de.adorsys.psd2.consent.psu.api.CmsPsuConfirmationOfFundsAuthorisation;
 import de.adorsys.psd2.consent.psu.api.CmsPsuConfirmationOfFundsService;
 import de.adorsys.psd2.consent.repository.ConsentJpaRepository;
 import de.adorsys.psd2.consent.repository.specification.ConfirmationOfFundsConsentSpecification;
+import de.adorsys.psd2.consent.service.StatusCache;
 import de.adorsys.psd2.consent.service.authorisation.CmsConsentAuthorisationServiceInternal;
 import de.adorsys.psd2.consent.service.mapper.CmsConfirmationOfFundsMapper;
 import de.adorsys.psd2.consent.service.mapper.CmsPsuAuthorisationMapper;
@@ -55,6 +56,7 @@ public class CmsPsuConfirmationOfFundsServiceInternal implements CmsPsuConfirmat
     private final CmsConfirmationOfFundsMapper consentMapper;
     private final CmsPsuConsentServiceInternal cmsPsuConsentServiceInternal;
     private final CmsPsuAuthorisationMapper cmsPsuAuthorisationMapper;
+    private final StatusCache statusCache;
 
     @Override
     @Transactional
@@ -135,6 +137,7 @@ public class CmsPsuConfirmationOfFundsServiceInternal implements CmsPsuConfirmat
         }
 
         ConsentEntity consentEntity = consentEntityOptional.get();
+        statusCache.evictConsentStatus(consentId);
         consentEntity.setConsentStatus(status);
         return true;
     }
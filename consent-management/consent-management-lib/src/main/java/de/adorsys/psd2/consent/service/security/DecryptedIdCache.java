@@ -0,0 +1,101 @@
+/*
+ * Copyright 2018-2024 adorsys GmbH & Co KG
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ *
+ * This project is also available under a separate commercial license. You can
+ * contact us at sales@adorsys.com.
+ */
+
+package de.adorsys.psd2.consent.service.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * In-memory cache of decrypted composite IDs, stored by encrypted external IDs.
+ * <p>
+ * Allows to skip Base64 decoding and decryption of the same consent or payment ID, that is repeatedly received by the CMS
+ * (i.e. during status polling by TPP). The cache is disabled by default and can be turned on and sized via configuration.
+ */
+@Slf4j
+@Component
+public class DecryptedIdCache {
+    private final boolean enabled;
+    private final ExpiringLruCache<String> cache;
+
+    public DecryptedIdCache(@Value("${xs2a.cms.encryption.id-cache.enabled:false}") boolean enabled,
+                            @Value("${xs2a.cms.encryption.id-cache.max-size:10000}") int maxSize,
+                            @Value("${xs2a.cms.encryption.id-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.enabled = enabled;
+        this.cache = new ExpiringLruCache<>(enabled ? maxSize : 0, ttlSeconds);
+        log.info("Decrypted ID cache enabled: {}, settings: {}", enabled, cache);
+    }
+
+    /**
+     * Creates cache that doesn't store any IDs
+     *
+     * @return disabled decrypted ID cache
+     */
+    public static DecryptedIdCache disabled() {
+        return new DecryptedIdCache(false, 0, 0);
+    }
+
+    /**
+     * Returns decrypted composite ID, previously stored for given encrypted ID
+     *
+     * @param encryptedId encrypted external ID
+     * @return decrypted composite ID or empty optional if there is no cached value
+     */
+    public Optional<String> get(String encryptedId) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        return cache.get(encryptedId);
+    }
+
+    /**
+     * Stores decrypted composite ID for given encrypted ID
+     *
+     * @param encryptedId         encrypted external ID
+     * @param decryptedCompositeId decrypted composite ID
+     */
+    public void put(String encryptedId, String decryptedCompositeId) {
+        if (enabled) {
+            cache.put(encryptedId, decryptedCompositeId);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public long getHitCount() {
+        return cache.getHitCount();
+    }
+
+    public long getMissCount() {
+        return cache.getMissCount();
+    }
+
+    public long getEvictionCount() {
+        return cache.getEvictionCount();
+    }
+
+    @Override
+    public String toString() {
+        return "DecryptedIdCache" + cache;
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2018-2024 adorsys GmbH & Co KG
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ *
+ * This project is also available under a separate commercial license. You can
+ * contact us at sales@adorsys.com.
+ */
+
+package de.adorsys.psd2.consent.service.security;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe in-memory cache with least recently used eviction and fixed time to live of the entries.
+ * <p>
+ * Counts hits, misses and evictions, so that cache efficiency can be monitored. Cache with maximum size or time to live
+ * of zero doesn't store any values.
+ *
+ * @param <V> type of cached values
+ */
+public class ExpiringLruCache<V> {
+    private final int maxSize;
+    private final long ttlMillis;
+    private final Map<String, CachedValue<V>> cache;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    /**
+     * Creates new cache
+     *
+     * @param maxSize    maximum amount of values to be stored
+     * @param ttlSeconds time to live of a single value in seconds
+     */
+    public ExpiringLruCache(int maxSize, long ttlSeconds) {
+        this.maxSize = Math.max(maxSize, 0);
+        this.ttlMillis = Math.max(ttlSeconds, 0) * 1000;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedValue<V>> eldest) {
+                boolean evict = size() > ExpiringLruCache.this.maxSize;
+                if (evict) {
+                    evictionCount.increment();
+                }
+                return evict;
+            }
+        };
+    }
+
+    /**
+     * Returns value that is stored by given key and not yet expired
+     *
+     * @param key key of the value
+     * @return cached value or empty optional if there is no such value
+     */
+    public Optional<V> get(String key) {
+        long now = System.currentTimeMillis();
+        synchronized (cache) {
+            CachedValue<V> cachedValue = cache.get(key);
+            if (cachedValue != null) {
+                if (now < cachedValue.expiresAt) {
+                    hitCount.increment();
+                    return Optional.of(cachedValue.value);
+                }
+                cache.remove(key);
+            }
+        }
+        missCount.increment();
+        return Optional.empty();
+    }
+
+    /**
+     * Stores value by given key, replacing previous value if present
+     *
+     * @param key   key of the value
+     * @param value value to be cached
+     */
+    public void put(String key, V value) {
+        if (!isEnabled()) {
+            return;
+        }
+        long expiresAt = System.currentTimeMillis() + ttlMillis;
+        synchronized (cache) {
+            cache.put(key, new CachedValue<>(value, expiresAt));
+        }
+    }
+
+    /**
+     * Removes value, stored by given key, if present
+     *
+     * @param key key of the value
+     */
+    public void remove(String key) {
+        synchronized (cache) {
+            cache.remove(key);
+        }
+    }
+
+    public boolean isEnabled() {
+        return maxSize > 0 && ttlMillis > 0;
+    }
+
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    public void clear() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "{maxSize=" + maxSize
+                   + ", ttlMillis=" + ttlMillis
+                   + ", size=" + size()
+                   + ", hits=" + getHitCount()
+                   + ", misses=" + getMissCount()
+                   + ", evictions=" + getEvictionCount() + "}";
+    }
+
+    private static final class CachedValue<V> {
+        private final V value;
+        private final long expiresAt;
+
+        private CachedValue(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
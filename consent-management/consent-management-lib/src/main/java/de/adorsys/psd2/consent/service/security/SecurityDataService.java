@@ -41,11 +41,17 @@ public class SecurityDataService {
     private String serverKey;
 
     private final CryptoProviderHolder cryptoProviderHolder;
+    private final DecryptedIdCache decryptedIdCache;
     private final SecureRandom random = new SecureRandom();
 
-    @Autowired
     public SecurityDataService(Environment environment, CryptoProviderHolder cryptoProviderHolder) {
+        this(environment, cryptoProviderHolder, DecryptedIdCache.disabled());
+    }
+
+    @Autowired
+    public SecurityDataService(Environment environment, CryptoProviderHolder cryptoProviderHolder, DecryptedIdCache decryptedIdCache) {
         this.cryptoProviderHolder = cryptoProviderHolder;
+        this.decryptedIdCache = decryptedIdCache;
         serverKey = environment.getProperty("server_key");
         if (StringUtils.isBlank(serverKey)) {
             log.info("The 'server_key' missing - must be specified at CMS start");
@@ -74,6 +80,9 @@ public class SecurityDataService {
 
         if (encryptedId.isEmpty()) {
             log.info("ID: [{}]. Couldn't encrypt ID", originalId);
+        } else {
+            // Newly created IDs are usually requested by TPP right away, e.g. for status polling
+            decryptedIdCache.put(encryptedId.get(), compositeConsentId);
         }
 
         return encryptedId;
@@ -151,6 +160,17 @@ public class SecurityDataService {
     }
 
     private Optional<String> decryptCompositeId(String encryptedId) {
+        Optional<String> cachedCompositeId = decryptedIdCache.get(encryptedId);
+        if (cachedCompositeId.isPresent()) {
+            return cachedCompositeId;
+        }
+
+        Optional<String> compositeId = decryptCompositeIdWithProvider(encryptedId);
+        compositeId.ifPresent(cmpid -> decryptedIdCache.put(encryptedId, cmpid));
+        return compositeId;
+    }
+
+    private Optional<String> decryptCompositeIdWithProvider(String encryptedId) {
         String encryptedCompositeId = encryptedId.substring(0, encryptedId.indexOf(SEPARATOR));
 
         byte[] bytesCompositeId = decode64(encryptedCompositeId);
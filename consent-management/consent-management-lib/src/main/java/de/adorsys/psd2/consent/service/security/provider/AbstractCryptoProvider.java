@@ -18,23 +18,33 @@
 
 package de.adorsys.psd2.consent.service.security.provider;
 
-import lombok.AllArgsConstructor;
-
 import javax.crypto.SecretKey;
 import javax.crypto.SecretKeyFactory;
 import javax.crypto.spec.PBEKeySpec;
 import javax.crypto.spec.SecretKeySpec;
+import java.security.GeneralSecurityException;
 import java.security.NoSuchAlgorithmException;
 import java.security.spec.InvalidKeySpecException;
 
-@AllArgsConstructor
 public abstract class AbstractCryptoProvider {
     private final int keyLength;
     private final int hashIterations;
     private final String skfAlgorithm;
     private final String cryptoProviderId;
+    private DerivedKeyCache derivedKeyCache = DerivedKeyCache.disabled();
+
+    protected AbstractCryptoProvider(int keyLength, int hashIterations, String skfAlgorithm, String cryptoProviderId) {
+        this.keyLength = keyLength;
+        this.hashIterations = hashIterations;
+        this.skfAlgorithm = skfAlgorithm;
+        this.cryptoProviderId = cryptoProviderId;
+    }
 
-    protected SecretKey getSecretKey(String password) throws InvalidKeySpecException, NoSuchAlgorithmException {
+    protected SecretKey getSecretKey(String password) throws GeneralSecurityException {
+        return derivedKeyCache.getOrDerive(cryptoProviderId, password, this::deriveSecretKey);
+    }
+
+    private SecretKey deriveSecretKey(String password) throws InvalidKeySpecException, NoSuchAlgorithmException {
         byte[] salt = new byte[16];
         PBEKeySpec keySpec = new PBEKeySpec(password.toCharArray(), salt, hashIterations, keyLength);
         try {
@@ -49,4 +59,13 @@ public abstract class AbstractCryptoProvider {
     public String getCryptoProviderId() {
         return cryptoProviderId;
     }
+
+    /**
+     * Sets cache for the keys, derived by this provider
+     *
+     * @param derivedKeyCache cache to be used for derived keys
+     */
+    public void setDerivedKeyCache(DerivedKeyCache derivedKeyCache) {
+        this.derivedKeyCache = derivedKeyCache;
+    }
 }
@@ -30,11 +30,23 @@ public class CryptoProviderHolder {
     private final Map<String, CryptoProvider> initializedProviders;
     private final CryptoProvider defaultDataProvider;
     private final CryptoProvider defaultIdProvider;
+    private final DerivedKeyCache derivedKeyCache;
 
     public CryptoProviderHolder(Map<String, CryptoProvider> initializedProviders, String defaultDataProviderId, String defaultIdProviderId) {
+        this(initializedProviders, defaultDataProviderId, defaultIdProviderId, DerivedKeyCache.disabled());
+    }
+
+    public CryptoProviderHolder(Map<String, CryptoProvider> initializedProviders, String defaultDataProviderId, String defaultIdProviderId,
+                                DerivedKeyCache derivedKeyCache) {
         this.initializedProviders = initializedProviders;
         this.defaultDataProvider = initializedProviders.get(defaultDataProviderId);
         this.defaultIdProvider = initializedProviders.get(defaultIdProviderId);
+        this.derivedKeyCache = derivedKeyCache;
+
+        initializedProviders.values().stream()
+            .filter(AbstractCryptoProvider.class::isInstance)
+            .map(AbstractCryptoProvider.class::cast)
+            .forEach(provider -> provider.setDerivedKeyCache(derivedKeyCache));
     }
 
     /**
@@ -65,4 +77,13 @@ public class CryptoProviderHolder {
     public Optional<CryptoProvider> getProviderById(String cryptoProviderId) {
         return Optional.ofNullable(initializedProviders.get(cryptoProviderId));
     }
+
+    /**
+     * Returns cache of the keys, derived by initialized crypto providers, along with its hit and miss statistics
+     *
+     * @return Derived key cache
+     */
+    public DerivedKeyCache getDerivedKeyCache() {
+        return derivedKeyCache;
+    }
 }
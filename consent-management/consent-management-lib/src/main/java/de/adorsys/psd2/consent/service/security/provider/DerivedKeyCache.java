@@ -0,0 +1,128 @@
+/*
+ * Copyright 2018-2024 adorsys GmbH & Co KG
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ *
+ * This project is also available under a separate commercial license. You can
+ * contact us at sales@adorsys.com.
+ */
+
+package de.adorsys.psd2.consent.service.security.provider;
+
+import de.adorsys.psd2.consent.service.security.ExpiringLruCache;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * Bounded cache for secret keys, derived from passwords by crypto providers.
+ * <p>
+ * Keys are stored by crypto provider ID and SHA-256 fingerprint of the password, so raw passwords are never kept in
+ * memory by the cache. Entries are evicted when the cache exceeds its maximum size or when their time to live expires.
+ * Cache with maximum size of zero is disabled and derives the key on every call.
+ */
+public class DerivedKeyCache {
+    private static final String FINGERPRINT_ALGORITHM = "SHA-256";
+    private static final String KEY_SEPARATOR = ":";
+
+    private final ExpiringLruCache<SecretKey> cache;
+
+    /**
+     * Creates new derived key cache
+     *
+     * @param maxSize    maximum amount of derived keys to be stored, <code>0</code> disables the cache
+     * @param ttlSeconds time to live of a single derived key in seconds
+     */
+    public DerivedKeyCache(int maxSize, long ttlSeconds) {
+        this.cache = new ExpiringLruCache<>(maxSize, ttlSeconds);
+    }
+
+    /**
+     * Creates cache that doesn't store any keys
+     *
+     * @return disabled derived key cache
+     */
+    public static DerivedKeyCache disabled() {
+        return new DerivedKeyCache(0, 0);
+    }
+
+    /**
+     * Returns derived key from the cache or derives it with given function and puts it into the cache
+     *
+     * @param cryptoProviderId ID of the crypto provider, deriving the key
+     * @param password         password the key is derived from
+     * @param keyDerivation    function, performing the actual key derivation
+     * @return derived secret key
+     * @throws GeneralSecurityException if the key couldn't be derived
+     */
+    public SecretKey getOrDerive(String cryptoProviderId, String password, KeyDerivation keyDerivation) throws GeneralSecurityException {
+        if (!isEnabled()) {
+            return keyDerivation.derive(password);
+        }
+
+        String cacheKey = cryptoProviderId + KEY_SEPARATOR + fingerprint(password);
+        Optional<SecretKey> cachedKey = cache.get(cacheKey);
+        if (cachedKey.isPresent()) {
+            return cachedKey.get();
+        }
+
+        // Key stretching is done outside of the cache lock in order not to block concurrent lookups
+        SecretKey secretKey = keyDerivation.derive(password);
+        cache.put(cacheKey, secretKey);
+        return secretKey;
+    }
+
+    public boolean isEnabled() {
+        return cache.isEnabled();
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    public void clear() {
+        cache.clear();
+    }
+
+    public long getHitCount() {
+        return cache.getHitCount();
+    }
+
+    public long getMissCount() {
+        return cache.getMissCount();
+    }
+
+    public long getEvictionCount() {
+        return cache.getEvictionCount();
+    }
+
+    @Override
+    public String toString() {
+        return "DerivedKeyCache" + cache;
+    }
+
+    private String fingerprint(String password) throws NoSuchAlgorithmException {
+        MessageDigest messageDigest = MessageDigest.getInstance(FINGERPRINT_ALGORITHM);
+        byte[] digest = messageDigest.digest(password.getBytes(StandardCharsets.UTF_8));
+        return Base64.getEncoder().encodeToString(digest);
+    }
+
+    @FunctionalInterface
+    public interface KeyDerivation {
+        SecretKey derive(String password) throws GeneralSecurityException;
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2018-2024 adorsys GmbH & Co KG
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ *
+ * This project is also available under a separate commercial license. You can
+ * contact us at sales@adorsys.com.
+ */
+
+package de.adorsys.psd2.consent.repository;
+
+import de.adorsys.psd2.consent.domain.AuthorisationEntity;
+import de.adorsys.psd2.xs2a.core.authorisation.AuthorisationType;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class AuthorisationRepositoryTest {
+    private static final String PARENT_ID_1 = "parent id 1";
+    private static final String PARENT_ID_2 = "parent id 2";
+
+    private final AuthorisationRepository authorisationRepository = mock(AuthorisationRepository.class, CALLS_REAL_METHODS);
+
+    @Test
+    void findAllByParentExternalIdsGrouped_groupsByParent() {
+        // Given
+        AuthorisationEntity first = buildAuthorisation(PARENT_ID_1);
+        AuthorisationEntity second = buildAuthorisation(PARENT_ID_1);
+        AuthorisationEntity third = buildAuthorisation(PARENT_ID_2);
+        doReturn(List.of(first, second, third))
+            .when(authorisationRepository).findAllByParentExternalIdInAndType(List.of(PARENT_ID_1, PARENT_ID_2), AuthorisationType.CONSENT);
+
+        // When
+        Map<String, List<AuthorisationEntity>> actual =
+            authorisationRepository.findAllByParentExternalIdsGrouped(Arrays.asList(PARENT_ID_1, null, PARENT_ID_2, PARENT_ID_1), AuthorisationType.CONSENT);
+
+        // Then
+        assertEquals(Map.of(PARENT_ID_1, List.of(first, second), PARENT_ID_2, List.of(third)), actual);
+    }
+
+    @Test
+    void findAllByParentExternalIdsGrouped_partitionsLargeInput() {
+        // Given
+        List<String> parentIds = IntStream.range(0, AuthorisationRepository.PARENT_BATCH_SIZE * 2 + 1)
+                                     .mapToObj(String::valueOf)
+                                     .collect(Collectors.toList());
+        doReturn(List.of())
+            .when(authorisationRepository).findAllByParentExternalIdInAndType(anyCollection(), eq(AuthorisationType.CONSENT));
+
+        // When
+        Map<String, List<AuthorisationEntity>> actual =
+            authorisationRepository.findAllByParentExternalIdsGrouped(parentIds, AuthorisationType.CONSENT);
+
+        // Then
+        assertTrue(actual.isEmpty());
+        verify(authorisationRepository, times(3)).findAllByParentExternalIdInAndType(anyCollection(), eq(AuthorisationType.CONSENT));
+    }
+
+    private AuthorisationEntity buildAuthorisation(String parentId) {
+        AuthorisationEntity authorisationEntity = new AuthorisationEntity();
+        authorisationEntity.setParentExternalId(parentId);
+        return authorisationEntity;
+    }
+}
@@ -26,6 +26,7 @@ import de.adorsys.psd2.consent.service.mapper.AisConsentMapper;
 import de.adorsys.psd2.consent.service.sha.ChecksumCalculatingFactory;
 import de.adorsys.psd2.consent.service.sha.ChecksumCalculatingService;
 import de.adorsys.psd2.core.data.ais.AisConsent;
+import de.adorsys.psd2.xs2a.core.authorisation.AuthorisationType;
 import de.adorsys.psd2.xs2a.core.consent.ConsentStatus;
 import de.adorsys.psd2.xs2a.core.consent.ConsentType;
 import de.adorsys.xs2a.reader.JsonReader;
@@ -79,8 +80,8 @@ class AisConsentRepositoryImplTest {
         when(calculatingFactory.getServiceByChecksum(any(), eq(ConsentType.AIS)))
             .thenReturn(Optional.of(checksumCalculatingService));
         ConsentEntity previousConsentEntity = buildConsentEntity(ConsentStatus.RECEIVED);
-        when(aisConsentRepository.findByExternalId(consentEntity.getExternalId()))
-            .thenReturn(Optional.of(previousConsentEntity));
+        when(aisConsentRepository.findAllByExternalIdIn(List.of(consentEntity.getExternalId())))
+            .thenReturn(List.of(previousConsentEntity));
         when(aisConsentRepository.save(consentEntity))
             .thenReturn(consentEntity);
 
@@ -99,8 +100,8 @@ class AisConsentRepositoryImplTest {
             .thenReturn(Optional.of(checksumCalculatingService));
         when(aisConsentMapper.mapToAisConsent(eq(consentEntity), any()))
             .thenReturn(aisConsent);
-        when(aisConsentRepository.findByExternalId(consentEntity.getExternalId()))
-            .thenReturn(Optional.of(consentEntity));
+        when(aisConsentRepository.findAllByExternalIdIn(List.of(consentEntity.getExternalId())))
+            .thenReturn(List.of(consentEntity));
         when(checksumCalculatingService.verifyConsentWithChecksum(aisConsent, CHECKSUM))
             .thenReturn(false);
 
@@ -121,8 +122,8 @@ class AisConsentRepositoryImplTest {
             .thenReturn(Optional.of(checksumCalculatingService));
         when(aisConsentMapper.mapToAisConsent(eq(consentEntity), any()))
             .thenReturn(aisConsent);
-        when(aisConsentRepository.findByExternalId(consentEntity.getExternalId()))
-            .thenReturn(Optional.of(consentEntity));
+        when(aisConsentRepository.findAllByExternalIdIn(List.of(consentEntity.getExternalId())))
+            .thenReturn(List.of(consentEntity));
         when(checksumCalculatingService.verifyConsentWithChecksum(aisConsent, CHECKSUM))
             .thenReturn(false);
 
@@ -142,8 +143,8 @@ class AisConsentRepositoryImplTest {
             .thenReturn(Optional.of(checksumCalculatingService));
         when(aisConsentMapper.mapToAisConsent(eq(consentEntity), any()))
             .thenReturn(aisConsent);
-        when(aisConsentRepository.findByExternalId(consentEntity.getExternalId()))
-            .thenReturn(Optional.of(consentEntity));
+        when(aisConsentRepository.findAllByExternalIdIn(List.of(consentEntity.getExternalId())))
+            .thenReturn(List.of(consentEntity));
         when(checksumCalculatingService.verifyConsentWithChecksum(aisConsent, CHECKSUM))
             .thenReturn(true);
         when(aisConsentRepository.save(consentEntity))
@@ -166,8 +167,8 @@ class AisConsentRepositoryImplTest {
             .thenReturn(Optional.of(checksumCalculatingService));
         when(aisConsentMapper.mapToAisConsent(eq(consentEntity), any()))
             .thenReturn(aisConsent);
-        when(aisConsentRepository.findByExternalId(consentEntity.getExternalId()))
-            .thenReturn(Optional.of(consentEntity));
+        when(aisConsentRepository.findAllByExternalIdIn(List.of(consentEntity.getExternalId())))
+            .thenReturn(List.of(consentEntity));
         when(checksumCalculatingService.verifyConsentWithChecksum(aisConsent, CHECKSUM))
             .thenReturn(true);
         when(aisConsentRepository.save(consentEntity))
@@ -190,8 +191,8 @@ class AisConsentRepositoryImplTest {
             .thenReturn(Optional.of(checksumCalculatingService));
         when(aisConsentMapper.mapToAisConsent(eq(consentEntity), any()))
             .thenReturn(aisConsent);
-        when(aisConsentRepository.findByExternalId(consentEntity.getExternalId()))
-            .thenReturn(Optional.of(consentEntity));
+        when(aisConsentRepository.findAllByExternalIdIn(List.of(consentEntity.getExternalId())))
+            .thenReturn(List.of(consentEntity));
         when(checksumCalculatingService.verifyConsentWithChecksum(aisConsent, CHECKSUM))
             .thenReturn(false);
 
@@ -213,8 +214,8 @@ class AisConsentRepositoryImplTest {
             .thenReturn(true);
         when(aisConsentRepository.save(consentEntity))
             .thenReturn(consentEntity);
-        when(aisConsentRepository.findByExternalId(consentEntity.getExternalId()))
-            .thenReturn(Optional.of(consentEntity));
+        when(aisConsentRepository.findAllByExternalIdIn(List.of(consentEntity.getExternalId())))
+            .thenReturn(List.of(consentEntity));
         when(aisConsentMapper.mapToAisConsent(eq(consentEntity), any()))
             .thenReturn(aisConsent);
 
@@ -229,6 +230,65 @@ class AisConsentRepositoryImplTest {
         verify(aisConsentRepository, times(1)).save(consentEntity);
     }
 
+    @Test
+    void verifyAndUpdate_unchangedChecksum_verificationSkipped() throws WrongChecksumException {
+        // Given
+        when(calculatingFactory.getServiceByChecksum(any(), eq(ConsentType.AIS)))
+            .thenReturn(Optional.of(checksumCalculatingService));
+        when(aisConsentMapper.mapToAisConsent(eq(consentEntity), any()))
+            .thenReturn(aisConsent);
+        when(aisConsentRepository.findAllByExternalIdIn(List.of(consentEntity.getExternalId())))
+            .thenReturn(List.of(consentEntity));
+        when(checksumCalculatingService.calculateChecksumForConsent(aisConsent))
+            .thenReturn(CHECKSUM);
+        when(aisConsentRepository.save(consentEntity))
+            .thenReturn(consentEntity);
+
+        consentEntity.setChecksum(CHECKSUM);
+
+        // When
+        ConsentEntity actualResult = aisConsentVerifyingRepository.verifyAndUpdate(consentEntity);
+
+        // Then
+        assertEquals(consentEntity, actualResult);
+        verify(checksumCalculatingService, never()).verifyConsentWithChecksum(any(), any());
+        verify(aisConsentMapper, times(1)).mapToAisConsent(eq(consentEntity), any());
+        verify(aisConsentRepository, never()).findByExternalId(any());
+    }
+
+    @Test
+    void verifyAndSaveAll_multipleConsents_dataLoadedOnce() throws WrongChecksumException {
+        // Given
+        ConsentEntity secondConsentEntity = buildConsentEntity(ConsentStatus.VALID);
+        secondConsentEntity.setExternalId("second consent ID");
+        List<String> consentIds = List.of(consentEntity.getExternalId(), secondConsentEntity.getExternalId());
+
+        when(calculatingFactory.getServiceByChecksum(any(), eq(ConsentType.AIS)))
+            .thenReturn(Optional.of(checksumCalculatingService));
+        when(aisConsentRepository.findAllByExternalIdIn(consentIds))
+            .thenReturn(List.of(consentEntity, secondConsentEntity));
+        when(aisConsentMapper.mapToAisConsent(any(), any()))
+            .thenReturn(aisConsent);
+        when(checksumCalculatingService.verifyConsentWithChecksum(aisConsent, CHECKSUM))
+            .thenReturn(true);
+        when(aisConsentRepository.save(any()))
+            .thenAnswer(invocation -> invocation.getArgument(0));
+
+        consentEntity.setChecksum(CHECKSUM);
+        secondConsentEntity.setChecksum(CHECKSUM);
+        List<ConsentEntity> consents = List.of(consentEntity, secondConsentEntity);
+
+        // When
+        List<ConsentEntity> actualResult = aisConsentVerifyingRepository.verifyAndSaveAll(consents);
+
+        // Then
+        assertEquals(consents, actualResult);
+        verify(aisConsentRepository, times(1)).findAllByExternalIdIn(consentIds);
+        verify(authorisationRepository, times(1)).findAllByParentExternalIdsGrouped(consentIds, AuthorisationType.CONSENT);
+        verify(aisConsentRepository, never()).findByExternalId(any());
+        verify(aisConsentMapper, times(2)).mapToAisConsent(any(), any());
+    }
+
     @Test
     void getActualAisConsent_success() {
         // Given
@@ -57,6 +57,8 @@ class AisConsentConfirmationExpirationServiceTest {
     private AuthorisationRepository authorisationRepository;
     @Mock
     private AspspProfileService aspspProfileService;
+    @Mock
+    private StatusCache statusCache;
 
     @Test
     void expireConsent() {
@@ -140,6 +142,50 @@ class AisConsentConfirmationExpirationServiceTest {
         verify(authorisationRepository, times(1)).updateAuthorisationByConsentIds(EXTERNAL_IDS);
     }
 
+    @Test
+    void updateConfirmationDeadlines() {
+        // Given
+        ConsentEntity consent = buildConsent();
+        consent.setId(1L);
+        when(aspspProfileService.getAspspSettings(consent.getInstanceId())).thenReturn(buildAspspSettings(86400L));
+
+        // When
+        expirationService.updateConfirmationDeadlines(List.of(consent));
+
+        // Then
+        assertEquals(consent.getCreationTimestamp().plusNanos(86_400_000_000L), consent.getConfirmationDeadline());
+        verify(consentJpaRepository).updateConfirmationDeadline(1L, consent.getConfirmationDeadline());
+    }
+
+    @Test
+    void expireConsentsOnExpirationDeadline() {
+        // Given
+        ConsentEntity expiredConsent = buildConsent();
+        expiredConsent.setExternalId("expired id");
+        expiredConsent.setConsentStatus(ConsentStatus.VALID);
+        expiredConsent.setValidUntil(TODAY.minusDays(1));
+        ConsentEntity prolongedConsent = buildConsent();
+        prolongedConsent.setConsentStatus(ConsentStatus.VALID);
+        prolongedConsent.setRecurringIndicator(true);
+        prolongedConsent.setExpirationDeadline(TODAY);
+        ConsentEntity rejectedConsent = buildConsent();
+        rejectedConsent.setConsentStatus(ConsentStatus.REJECTED);
+        rejectedConsent.setValidUntil(TODAY.minusDays(1));
+        when(consentJpaRepository.findAllById(List.of(1L, 2L, 3L))).thenReturn(List.of(expiredConsent, prolongedConsent, rejectedConsent));
+
+        // When
+        int actual = expirationService.expireConsentsOnExpirationDeadline(List.of(1L, 2L, 3L));
+
+        // Then
+        assertEquals(1, actual);
+        assertEquals(ConsentStatus.EXPIRED, expiredConsent.getConsentStatus());
+        assertEquals(TODAY, expiredConsent.getExpireDate());
+        verify(statusCache).evictConsentStatus("expired id");
+        assertEquals(ConsentStatus.VALID, prolongedConsent.getConsentStatus());
+        assertEquals(TOMORROW.plusDays(1), prolongedConsent.getExpirationDeadline());
+        assertEquals(ConsentStatus.REJECTED, rejectedConsent.getConsentStatus());
+    }
+
     @Test
     void isConfirmationExpired_nullInput() {
         //When
@@ -23,9 +23,14 @@ import de.adorsys.psd2.consent.api.ActionStatus;
 import de.adorsys.psd2.consent.api.CmsError;
 import de.adorsys.psd2.consent.api.CmsResponse;
 import de.adorsys.psd2.consent.api.WrongChecksumException;
+import de.adorsys.psd2.consent.api.ais.AisConsentAccessResponse;
 import de.adorsys.psd2.consent.api.ais.AisConsentActionRequest;
 import de.adorsys.psd2.consent.api.ais.CmsConsent;
 import de.adorsys.psd2.consent.api.service.AisConsentService;
+import de.adorsys.psd2.consent.api.service.ConsentService;
+import de.adorsys.psd2.consent.domain.AspspConsentDataEntity;
+import de.adorsys.psd2.consent.repository.AspspConsentDataRepository;
+import de.adorsys.psd2.consent.service.security.DecryptedData;
 import de.adorsys.psd2.consent.service.security.SecurityDataService;
 import de.adorsys.psd2.core.data.AccountAccess;
 import de.adorsys.psd2.xs2a.core.profile.AdditionalInformationAccess;
@@ -38,7 +43,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.util.Collections;
 import java.util.Optional;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
@@ -47,6 +54,8 @@ class AisConsentServiceInternalEncryptedTest {
     private static final String ENCRYPTED_CONSENT_ID = "DfLtDOgo1tTK6WQlHlb-TMPL2pkxRlhZ4feMa5F4tOWwNN45XLNAVfWwoZUKlQwb_=_bS6p6XvTWI";
     private static final String UNDECRYPTABLE_CONSENT_ID = "0000000000TK6WQlHlb-TMPL2pkxRlhZ4feMa5F4tOWwNN45XLNAVfWwoZUKlQwb_=_bS6p6XvTWI";
     private static final String DECRYPTED_CONSENT_ID = "255574b2-f115-4f3c-8d77-c1897749c060";
+    private static final byte[] ENCRYPTED_ASPSP_CONSENT_DATA = "encrypted data".getBytes();
+    private static final byte[] ASPSP_CONSENT_DATA = "data".getBytes();
 
     @InjectMocks
     private AisConsentServiceInternalEncrypted aisConsentServiceInternalEncrypted;
@@ -54,6 +63,10 @@ class AisConsentServiceInternalEncryptedTest {
     private AisConsentService aisConsentService;
     @Mock
     private SecurityDataService securityDataService;
+    @Mock
+    private ConsentService consentService;
+    @Mock
+    private AspspConsentDataRepository aspspConsentDataRepository;
 
     @Test
     void checkConsentAndSaveActionLog_success() throws WrongChecksumException {
@@ -138,6 +151,79 @@ class AisConsentServiceInternalEncryptedTest {
         verify(aisConsentService, never()).updateAspspAccountAccess(any(), any());
     }
 
+    @Test
+    void getConsentAccess_success() {
+        // Given
+        CmsConsent cmsConsent = buildCmsConsent();
+        AspspConsentDataEntity aspspConsentDataEntity = new AspspConsentDataEntity(DECRYPTED_CONSENT_ID);
+        aspspConsentDataEntity.setData(ENCRYPTED_ASPSP_CONSENT_DATA);
+        when(securityDataService.decryptId(ENCRYPTED_CONSENT_ID)).thenReturn(Optional.of(DECRYPTED_CONSENT_ID));
+        when(consentService.getConsentById(DECRYPTED_CONSENT_ID))
+            .thenReturn(CmsResponse.<CmsConsent>builder()
+                            .payload(cmsConsent)
+                            .build());
+        when(aspspConsentDataRepository.findByConsentId(DECRYPTED_CONSENT_ID)).thenReturn(Optional.of(aspspConsentDataEntity));
+        when(securityDataService.decryptConsentData(ENCRYPTED_CONSENT_ID, ENCRYPTED_ASPSP_CONSENT_DATA))
+            .thenReturn(Optional.of(new DecryptedData(ASPSP_CONSENT_DATA)));
+
+        // When
+        CmsResponse<AisConsentAccessResponse> actual = aisConsentServiceInternalEncrypted.getConsentAccess(ENCRYPTED_CONSENT_ID);
+
+        // Then
+        assertTrue(actual.isSuccessful());
+        assertEquals(cmsConsent, actual.getPayload().getConsent());
+        assertArrayEquals(ASPSP_CONSENT_DATA, actual.getPayload().getAspspConsentData());
+        verify(securityDataService, times(1)).decryptId(ENCRYPTED_CONSENT_ID);
+    }
+
+    @Test
+    void getConsentAccess_noAspspConsentData() {
+        // Given
+        when(securityDataService.decryptId(ENCRYPTED_CONSENT_ID)).thenReturn(Optional.of(DECRYPTED_CONSENT_ID));
+        when(consentService.getConsentById(DECRYPTED_CONSENT_ID))
+            .thenReturn(CmsResponse.<CmsConsent>builder()
+                            .payload(buildCmsConsent())
+                            .build());
+        when(aspspConsentDataRepository.findByConsentId(DECRYPTED_CONSENT_ID)).thenReturn(Optional.empty());
+
+        // When
+        CmsResponse<AisConsentAccessResponse> actual = aisConsentServiceInternalEncrypted.getConsentAccess(ENCRYPTED_CONSENT_ID);
+
+        // Then
+        assertTrue(actual.isSuccessful());
+        assertNull(actual.getPayload().getAspspConsentData());
+        verify(securityDataService, never()).decryptConsentData(any(), any());
+    }
+
+    @Test
+    void getConsentAccess_consentNotFound() {
+        // Given
+        when(securityDataService.decryptId(ENCRYPTED_CONSENT_ID)).thenReturn(Optional.of(DECRYPTED_CONSENT_ID));
+        when(consentService.getConsentById(DECRYPTED_CONSENT_ID))
+            .thenReturn(CmsResponse.<CmsConsent>builder()
+                            .error(CmsError.LOGICAL_ERROR)
+                            .build());
+
+        // When
+        CmsResponse<AisConsentAccessResponse> actual = aisConsentServiceInternalEncrypted.getConsentAccess(ENCRYPTED_CONSENT_ID);
+
+        // Then
+        assertTrue(actual.hasError());
+        assertEquals(CmsError.LOGICAL_ERROR, actual.getError());
+        verify(aspspConsentDataRepository, never()).findByConsentId(any());
+    }
+
+    @Test
+    void getConsentAccess_decryptionFailed() {
+        // When
+        CmsResponse<AisConsentAccessResponse> actual = aisConsentServiceInternalEncrypted.getConsentAccess(UNDECRYPTABLE_CONSENT_ID);
+
+        // Then
+        assertTrue(actual.hasError());
+        assertEquals(CmsError.TECHNICAL_ERROR, actual.getError());
+        verify(consentService, never()).getConsentById(any());
+    }
+
     private CmsConsent buildCmsConsent() {
         CmsConsent cmsConsent = new CmsConsent();
         cmsConsent.setId(DECRYPTED_CONSENT_ID);
@@ -78,6 +78,8 @@ class AisConsentServiceInternalTest {
     private AccessMapper accessMapper;
     @Mock
     private AccountAccessUpdater accountAccessUpdater;
+    @Mock
+    private StatusCache statusCache;
 
     @InjectMocks
     private AisConsentServiceInternal aisConsentServiceInternal;
@@ -165,6 +167,7 @@ class AisConsentServiceInternalTest {
         verify(aisConsentRepository).verifyAndSave(consentEntityCaptor.capture());
         ConsentEntity capturedConsentEntity = consentEntityCaptor.getValue();
         assertEquals(ConsentStatus.EXPIRED, capturedConsentEntity.getConsentStatus());
+        verify(statusCache).evictConsentStatus(consentEntity.getExternalId());
     }
 
     @Test
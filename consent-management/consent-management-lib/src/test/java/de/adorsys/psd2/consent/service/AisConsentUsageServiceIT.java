@@ -0,0 +1,185 @@
+/*
+ * Copyright 2018-2024 adorsys GmbH & Co KG
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ *
+ * This project is also available under a separate commercial license. You can
+ * contact us at sales@adorsys.com.
+ */
+
+package de.adorsys.psd2.consent.service;
+
+import de.adorsys.psd2.consent.api.ActionStatus;
+import de.adorsys.psd2.consent.api.ais.AisConsentActionRequest;
+import de.adorsys.psd2.consent.domain.TppInfoEntity;
+import de.adorsys.psd2.consent.domain.consent.ConsentEntity;
+import de.adorsys.psd2.consent.repository.AisConsentUsageRepository;
+import de.adorsys.psd2.consent.repository.ConsentJpaRepository;
+import de.adorsys.psd2.consent.repository.TppInfoRepository;
+import de.adorsys.psd2.integration.test.BaseTest;
+import de.adorsys.psd2.integration.test.TestDBConfiguration;
+import de.adorsys.psd2.xs2a.core.consent.ConsentType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@ActiveProfiles("integration-test")
+@EnableJpaRepositories("de.adorsys.psd2.consent.repository")
+@ExtendWith(SpringExtension.class)
+@SpringBootTest
+@ContextConfiguration(classes = {TestDBConfiguration.class, AisConsentUsageService.class},
+    initializers = {AisConsentUsageServiceIT.Initializer.class})
+class AisConsentUsageServiceIT extends BaseTest {
+    private static final String REQUEST_URI = "/v1/accounts";
+    private static final int THREADS = 8;
+    private static final int INCREMENTS_PER_THREAD = 25;
+
+    @Autowired
+    private AisConsentUsageService aisConsentUsageService;
+    @Autowired
+    private AisConsentUsageRepository aisConsentUsageRepository;
+    @Autowired
+    private ConsentJpaRepository consentJpaRepository;
+    @Autowired
+    private TppInfoRepository tppInfoRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private Long consentId;
+
+    @BeforeEach
+    void setUp() {
+        clearData();
+        transactionTemplate = new TransactionTemplate(transactionManager);
+
+        TppInfoEntity tppInfo = tppInfoRepository.save(
+            jsonReader.getObjectFromFile("json/specification/tpp-info-entity.json", TppInfoEntity.class));
+
+        ConsentEntity consentEntity = jsonReader.getObjectFromFile("json/specification/consent-entity.json", ConsentEntity.class);
+        consentEntity.setConsentType(ConsentType.AIS.getName());
+        consentEntity.setFrequencyPerDay(THREADS * INCREMENTS_PER_THREAD + 5);
+        consentEntity.getTppInformation().setTppInfo(tppInfo);
+        consentEntity.getAspspAccountAccesses().get(0).setConsent(consentEntity);
+        consentId = consentJpaRepository.save(consentEntity).getId();
+    }
+
+    @Test
+    void incrementUsage_parallelRequests_noLostIncrements() throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executorService.submit(() -> {
+                    start.await();
+                    for (int j = 0; j < INCREMENTS_PER_THREAD; j++) {
+                        incrementUsage(REQUEST_URI);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(1, TimeUnit.MINUTES);
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        assertEquals(1, aisConsentUsageRepository.countByConsentIdAndRequestUri(consentId, REQUEST_URI));
+        Map<String, Integer> usageCounterMap = getUsageCounterMap();
+        assertEquals(5, usageCounterMap.get(REQUEST_URI));
+    }
+
+    @Test
+    void incrementUsage_parallelRequestsAtLimit_limitNotExceeded() throws Exception {
+        int frequencyPerDay = 3;
+        transactionTemplate.executeWithoutResult(status -> getConsent().setFrequencyPerDay(frequencyPerDay));
+
+        ExecutorService executorService = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executorService.submit(() -> {
+                    start.await();
+                    return incrementUsage(REQUEST_URI);
+                }));
+            }
+            start.countDown();
+            int countedUsages = 0;
+            for (Future<Boolean> future : futures) {
+                if (future.get(1, TimeUnit.MINUTES)) {
+                    countedUsages++;
+                }
+            }
+            assertEquals(frequencyPerDay, countedUsages);
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        Map<String, Integer> usageCounterMap = getUsageCounterMap();
+        assertEquals(0, usageCounterMap.get(REQUEST_URI));
+        assertEquals(frequencyPerDay, aisConsentUsageRepository.findUsageCountersByConsentAndUsageDate(getConsent(), LocalDate.now())
+                                          .get(0).getUsage());
+    }
+
+    @Test
+    void resetUsage() {
+        incrementUsage(REQUEST_URI);
+        incrementUsage(REQUEST_URI);
+        incrementUsage("/v1/accounts/account-id/transactions");
+
+        transactionTemplate.executeWithoutResult(status -> aisConsentUsageService.resetUsage(getConsent()));
+
+        Map<String, Integer> usageCounterMap = getUsageCounterMap();
+        int frequencyPerDay = THREADS * INCREMENTS_PER_THREAD + 5;
+        assertEquals(2, usageCounterMap.size());
+        assertEquals(frequencyPerDay, usageCounterMap.get(REQUEST_URI));
+        assertEquals(frequencyPerDay, usageCounterMap.get("/v1/accounts/account-id/transactions"));
+    }
+
+    private boolean incrementUsage(String requestUri) {
+        AisConsentActionRequest request = new AisConsentActionRequest("tppId", "consentId", ActionStatus.SUCCESS,
+                                                                      requestUri, true, "resourceId", null);
+        return Boolean.TRUE.equals(transactionTemplate.execute(status -> aisConsentUsageService.incrementUsage(getConsent(), request)));
+    }
+
+    private Map<String, Integer> getUsageCounterMap() {
+        return transactionTemplate.execute(status -> aisConsentUsageService.getUsageCounterMap(getConsent()));
+    }
+
+    private ConsentEntity getConsent() {
+        return consentJpaRepository.findById(consentId).orElseThrow();
+    }
+}
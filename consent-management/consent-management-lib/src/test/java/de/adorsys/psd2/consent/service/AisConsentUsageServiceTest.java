@@ -16,6 +16,7 @@
  * contact us at sales@adorsys.com.
  */
 
+
 package de.adorsys.psd2.consent.service;
 
 import de.adorsys.psd2.consent.api.ActionStatus;
@@ -23,9 +24,11 @@ import de.adorsys.psd2.consent.api.ais.AisConsentActionRequest;
 import de.adorsys.psd2.consent.domain.account.AisConsentUsage;
 import de.adorsys.psd2.consent.domain.consent.ConsentEntity;
 import de.adorsys.psd2.consent.repository.AisConsentUsageRepository;
+import de.adorsys.psd2.consent.repository.ConsentJpaRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -37,70 +40,118 @@ import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class AisConsentUsageServiceTest {
+    private static final Long CONSENT_ID = 1L;
+    private static final String REQUEST_URI = "requestUri";
+    private static final String RESOURCE_ID = "resourceId";
+    private static final String TRANSACTION_ID = "transactionId";
+    private static final int FREQUENCY_PER_DAY = 4;
+
     @InjectMocks
     private AisConsentUsageService aisConsentUsageService;
     @Mock
     private AisConsentUsageRepository aisConsentUsageRepository;
+    @Mock
+    private ConsentJpaRepository consentJpaRepository;
+
+    private final AisConsentActionRequest aisConsentActionRequest = new AisConsentActionRequest("tppId", "consentId", ActionStatus.SUCCESS, REQUEST_URI, true, RESOURCE_ID, TRANSACTION_ID);
 
     @Test
-    void incrementUsage_getUsageFromRepository() {
+    void incrementUsage_existingUsage() {
         //Given
-        ConsentEntity consentEntity = new ConsentEntity();
-        int initialUsage = 5;
-        AisConsentActionRequest aisConsentActionRequest = new AisConsentActionRequest("tppId", "consentId", ActionStatus.SUCCESS, "requestUri", true, "resourceId", "transactionId");
-        ArgumentCaptor<AisConsentUsage> argumentCaptor = ArgumentCaptor.forClass(AisConsentUsage.class);
-        AisConsentUsage aisConsentUsage = new AisConsentUsage();
-        aisConsentUsage.setUsage(initialUsage);
-        when(aisConsentUsageRepository.findWriteByConsentAndUsageDateAndRequestUri(eq(consentEntity), any(LocalDate.class), eq(aisConsentActionRequest.getRequestUri()))).thenReturn(Optional.of(aisConsentUsage));
+        ConsentEntity consentEntity = buildConsentEntity();
+        when(aisConsentUsageRepository.incrementUsage(eq(consentEntity), any(LocalDate.class), eq(REQUEST_URI), eq(RESOURCE_ID), eq(TRANSACTION_ID), eq(FREQUENCY_PER_DAY))).thenReturn(1);
+        //When
+        boolean counted = aisConsentUsageService.incrementUsage(consentEntity, aisConsentActionRequest);
+        //Then
+        assertTrue(counted);
+        verify(consentJpaRepository, never()).findLockedById(any());
+        verify(aisConsentUsageRepository, never()).save(any());
+    }
+
+    @Test
+    void incrementUsage_limitReached() {
+        //Given
+        ConsentEntity consentEntity = buildConsentEntity();
+        when(aisConsentUsageRepository.incrementUsage(eq(consentEntity), any(LocalDate.class), eq(REQUEST_URI), eq(RESOURCE_ID), eq(TRANSACTION_ID), eq(FREQUENCY_PER_DAY))).thenReturn(0);
+        when(aisConsentUsageRepository.existsByConsentAndUsageDateAndRequestUri(eq(consentEntity), any(LocalDate.class), eq(REQUEST_URI))).thenReturn(true);
+        //When
+        boolean counted = aisConsentUsageService.incrementUsage(consentEntity, aisConsentActionRequest);
+        //Then
+        assertFalse(counted);
+        verify(consentJpaRepository, never()).findLockedById(any());
+        verify(aisConsentUsageRepository, never()).save(any());
+    }
+
+    @Test
+    void incrementUsage_limitReachedByConcurrentRequest() {
+        //Given
+        ConsentEntity consentEntity = buildConsentEntity();
+        when(aisConsentUsageRepository.incrementUsage(eq(consentEntity), any(LocalDate.class), eq(REQUEST_URI), eq(RESOURCE_ID), eq(TRANSACTION_ID), eq(FREQUENCY_PER_DAY))).thenReturn(0);
+        when(aisConsentUsageRepository.existsByConsentAndUsageDateAndRequestUri(eq(consentEntity), any(LocalDate.class), eq(REQUEST_URI))).thenReturn(false, true);
+        when(consentJpaRepository.findLockedById(CONSENT_ID)).thenReturn(Optional.of(consentEntity));
+        //When
+        boolean counted = aisConsentUsageService.incrementUsage(consentEntity, aisConsentActionRequest);
+        //Then
+        assertFalse(counted);
+        verify(aisConsentUsageRepository, never()).save(any());
+    }
+
+    @Test
+    void incrementUsage_createdByConcurrentRequest() {
+        //Given
+        ConsentEntity consentEntity = buildConsentEntity();
+        when(aisConsentUsageRepository.incrementUsage(eq(consentEntity), any(LocalDate.class), eq(REQUEST_URI), eq(RESOURCE_ID), eq(TRANSACTION_ID), eq(FREQUENCY_PER_DAY)))
+            .thenReturn(0, 1);
+        when(consentJpaRepository.findLockedById(CONSENT_ID)).thenReturn(Optional.of(consentEntity));
         //When
         aisConsentUsageService.incrementUsage(consentEntity, aisConsentActionRequest);
         //Then
-        verify(aisConsentUsageRepository).save(argumentCaptor.capture());
-        AisConsentUsage aisConsentUsageCaptured = argumentCaptor.getValue();
-        assertEquals(++initialUsage, aisConsentUsageCaptured.getUsage());
-        assertEquals(aisConsentActionRequest.getResourceId(), aisConsentUsageCaptured.getResourceId());
-        assertEquals(aisConsentActionRequest.getTransactionId(), aisConsentUsageCaptured.getTransactionId());
+        InOrder inOrder = inOrder(aisConsentUsageRepository, consentJpaRepository);
+        inOrder.verify(aisConsentUsageRepository).incrementUsage(eq(consentEntity), any(LocalDate.class), eq(REQUEST_URI), eq(RESOURCE_ID), eq(TRANSACTION_ID), eq(FREQUENCY_PER_DAY));
+        inOrder.verify(consentJpaRepository).findLockedById(CONSENT_ID);
+        inOrder.verify(aisConsentUsageRepository).incrementUsage(eq(consentEntity), any(LocalDate.class), eq(REQUEST_URI), eq(RESOURCE_ID), eq(TRANSACTION_ID), eq(FREQUENCY_PER_DAY));
+        verify(aisConsentUsageRepository, never()).save(any());
     }
 
     @Test
     void incrementUsage_noUsageInRepository() {
         //Given
-        ConsentEntity consentEntity = new ConsentEntity();
-        AisConsentActionRequest aisConsentActionRequest = new AisConsentActionRequest("tppId", "consentId", ActionStatus.SUCCESS, "requestUri", true, "resourceId", "transactionId");
+        ConsentEntity consentEntity = buildConsentEntity();
         ArgumentCaptor<AisConsentUsage> argumentCaptor = ArgumentCaptor.forClass(AisConsentUsage.class);
-        when(aisConsentUsageRepository.findWriteByConsentAndUsageDateAndRequestUri(eq(consentEntity), any(LocalDate.class), eq(aisConsentActionRequest.getRequestUri()))).thenReturn(Optional.empty());
+        when(aisConsentUsageRepository.incrementUsage(eq(consentEntity), any(LocalDate.class), eq(REQUEST_URI), eq(RESOURCE_ID), eq(TRANSACTION_ID), eq(FREQUENCY_PER_DAY))).thenReturn(0);
+        when(consentJpaRepository.findLockedById(CONSENT_ID)).thenReturn(Optional.of(consentEntity));
         //When
-        aisConsentUsageService.incrementUsage(consentEntity, aisConsentActionRequest);
+        boolean counted = aisConsentUsageService.incrementUsage(consentEntity, aisConsentActionRequest);
         //Then
+        assertTrue(counted);
         verify(aisConsentUsageRepository).save(argumentCaptor.capture());
         AisConsentUsage aisConsentUsageCaptured = argumentCaptor.getValue();
         assertEquals(1, aisConsentUsageCaptured.getUsage());
-        assertEquals(aisConsentActionRequest.getResourceId(), aisConsentUsageCaptured.getResourceId());
-        assertEquals(aisConsentActionRequest.getTransactionId(), aisConsentUsageCaptured.getTransactionId());
+        assertEquals(REQUEST_URI, aisConsentUsageCaptured.getRequestUri());
+        assertEquals(RESOURCE_ID, aisConsentUsageCaptured.getResourceId());
+        assertEquals(TRANSACTION_ID, aisConsentUsageCaptured.getTransactionId());
+        assertEquals(1, consentEntity.getUsages().size());
+        assertSame(aisConsentUsageCaptured, consentEntity.getUsages().get(0));
+        assertEquals(LocalDate.now().plusDays(1), consentEntity.getExpirationDeadline());
     }
 
     @Test
     void resetUsage() {
         //Given
-        @SuppressWarnings("unchecked")
-        ArgumentCaptor<List<AisConsentUsage>> argumentCaptor = ArgumentCaptor.forClass(List.class);
         ConsentEntity consentEntity = new ConsentEntity();
-        List<AisConsentUsage> aisConsentUsageList = Arrays.asList(buildAisConsentUsage(5), buildAisConsentUsage(8), buildAisConsentUsage(10));
-        when(aisConsentUsageRepository.findReadByConsentAndUsageDate(eq(consentEntity), any(LocalDate.class))).thenReturn(aisConsentUsageList);
         //When
         aisConsentUsageService.resetUsage(consentEntity);
         //Then
-        verify(aisConsentUsageRepository).saveAll(argumentCaptor.capture());
-        List<AisConsentUsage> aisConsentUsageListCaptured = argumentCaptor.getValue();
-        assertEquals(aisConsentUsageList.size(), aisConsentUsageListCaptured.size());
-        assertEquals(aisConsentUsageList.size(), aisConsentUsageListCaptured.stream().map(AisConsentUsage::getUsage).filter(usage -> usage == 0).count());
+        verify(aisConsentUsageRepository).resetUsage(eq(consentEntity), any(LocalDate.class));
     }
 
     @Test
@@ -109,24 +160,45 @@ class AisConsentUsageServiceTest {
         int frequencyPerDay = 30;
         ConsentEntity consentEntity = new ConsentEntity();
         consentEntity.setFrequencyPerDay(frequencyPerDay);
-        List<AisConsentUsage> aisConsentUsageList = Arrays.asList(buildAisConsentUsage(5, "uri_1"), buildAisConsentUsage(8, "uri_2"), buildAisConsentUsage(10, "uri_3"));
-        when(aisConsentUsageRepository.findReadByConsentAndUsageDate(eq(consentEntity), any(LocalDate.class))).thenReturn(aisConsentUsageList);
+        List<AisConsentUsageRepository.UsageCounter> usageCounters = Arrays.asList(buildUsageCounter(5, "uri_1"), buildUsageCounter(8, "uri_2"), buildUsageCounter(10, "uri_3"));
+        when(aisConsentUsageRepository.findUsageCountersByConsentAndUsageDate(eq(consentEntity), any(LocalDate.class))).thenReturn(usageCounters);
         //When
         Map<String, Integer> usageCounterMap = aisConsentUsageService.getUsageCounterMap(consentEntity);
         //Then
-        aisConsentUsageList.forEach(aisConsentUsage -> assertEquals(frequencyPerDay - aisConsentUsage.getUsage(), usageCounterMap.get(aisConsentUsage.getRequestUri())));
+        usageCounters.forEach(usageCounter -> assertEquals(frequencyPerDay - usageCounter.getUsage(), usageCounterMap.get(usageCounter.getRequestUri())));
     }
 
-    private AisConsentUsage buildAisConsentUsage(int usage) {
-        AisConsentUsage aisConsentUsage = new AisConsentUsage();
-        aisConsentUsage.setUsage(usage);
-        return aisConsentUsage;
+    @Test
+    void getUsageCounterMap_usageExceedsFrequency() {
+        //Given
+        ConsentEntity consentEntity = new ConsentEntity();
+        consentEntity.setFrequencyPerDay(4);
+        when(aisConsentUsageRepository.findUsageCountersByConsentAndUsageDate(eq(consentEntity), any(LocalDate.class)))
+            .thenReturn(List.of(buildUsageCounter(6, "uri_1")));
+        //When
+        Map<String, Integer> usageCounterMap = aisConsentUsageService.getUsageCounterMap(consentEntity);
+        //Then
+        assertEquals(0, usageCounterMap.get("uri_1"));
     }
 
-    private AisConsentUsage buildAisConsentUsage(int usage, String requestUri) {
-        AisConsentUsage aisConsentUsage = new AisConsentUsage();
-        aisConsentUsage.setUsage(usage);
-        aisConsentUsage.setRequestUri(requestUri);
-        return aisConsentUsage;
+    private ConsentEntity buildConsentEntity() {
+        ConsentEntity consentEntity = new ConsentEntity();
+        consentEntity.setId(CONSENT_ID);
+        consentEntity.setFrequencyPerDay(FREQUENCY_PER_DAY);
+        return consentEntity;
+    }
+
+    private AisConsentUsageRepository.UsageCounter buildUsageCounter(int usage, String requestUri) {
+        return new AisConsentUsageRepository.UsageCounter() {
+            @Override
+            public String getRequestUri() {
+                return requestUri;
+            }
+
+            @Override
+            public int getUsage() {
+                return usage;
+            }
+        };
     }
 }
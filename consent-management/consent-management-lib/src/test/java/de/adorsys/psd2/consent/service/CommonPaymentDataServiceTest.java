@@ -51,6 +51,8 @@ class CommonPaymentDataServiceTest {
     private PisCommonPaymentDataRepository pisCommonPaymentDataRepository;
     @Mock
     private PisCommonPaymentDataSpecification pisCommonPaymentDataSpecification;
+    @Mock
+    private StatusCache statusCache;
 
     @Test
     void getPisCommonPaymentData() {
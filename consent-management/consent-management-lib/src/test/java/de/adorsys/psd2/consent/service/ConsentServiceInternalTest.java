@@ -39,11 +39,13 @@ import de.adorsys.psd2.consent.repository.AisConsentVerifyingRepository;
 import de.adorsys.psd2.consent.repository.AuthorisationRepository;
 import de.adorsys.psd2.consent.repository.ConsentJpaRepository;
 import de.adorsys.psd2.consent.repository.TppInfoRepository;
+import de.adorsys.psd2.consent.repository.projection.ConsentStatusProjection;
 import de.adorsys.psd2.consent.service.mapper.CmsConsentMapper;
 import de.adorsys.psd2.consent.service.mapper.PsuDataMapper;
 import de.adorsys.psd2.consent.service.psu.CmsPsuService;
 import de.adorsys.psd2.xs2a.core.authorisation.AuthorisationType;
 import de.adorsys.psd2.xs2a.core.consent.ConsentStatus;
+import de.adorsys.psd2.xs2a.core.consent.ConsentType;
 import de.adorsys.psd2.xs2a.core.consent.TerminateOldConsentsRequest;
 import de.adorsys.psd2.xs2a.core.psu.PsuIdData;
 import de.adorsys.psd2.xs2a.core.sca.ScaStatus;
@@ -57,6 +59,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
+import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.EnumSet;
@@ -116,6 +119,8 @@ class ConsentServiceInternalTest {
     private AuthorisationRepository authorisationRepository;
     @Mock
     private AspspProfileService aspspProfileService;
+    @Mock
+    private StatusCache statusCache;
 
     @BeforeEach
     void setUp() {
@@ -323,6 +328,7 @@ class ConsentServiceInternalTest {
         verify(aisConsentVerifyingRepository).verifyAndSave(consentEntityCaptor.capture());
         ConsentEntity capturedConsentEntity = consentEntityCaptor.getValue();
         assertEquals(adjustedValidUntil, capturedConsentEntity.getValidUntil());
+        assertEquals(capturedConsentEntity.getCreationTimestamp().plusNanos(1_000_000), capturedConsentEntity.getConfirmationDeadline());
     }
 
     @Test
@@ -418,6 +424,7 @@ class ConsentServiceInternalTest {
         // Then
         assertTrue(result.isSuccessful());
         assertEquals(Boolean.FALSE, result.getPayload());
+        verify(statusCache).evictConsentStatus(nonFinalisedConsent.getExternalId());
     }
 
     @Test
@@ -662,11 +669,45 @@ class ConsentServiceInternalTest {
         verify(consentJpaRepository, never()).save(any(ConsentEntity.class));
     }
 
+    @Test
+    void getConsentStatusById_withValidConsent_shouldNotLoadConsent() {
+        // Given
+        when(consentJpaRepository.findStatusByExternalId(EXTERNAL_CONSENT_ID))
+            .thenReturn(Optional.of(buildConsentStatus(ConsentStatus.VALID, true, null)));
+        when(aspspProfileService.getAspspSettings(INSTANCE_ID)).thenReturn(aspspSettings);
+
+        // When
+        CmsResponse<ConsentStatus> actual = consentServiceInternal.getConsentStatusById(EXTERNAL_CONSENT_ID);
+
+        // Then
+        assertTrue(actual.isSuccessful());
+        assertEquals(ConsentStatus.VALID, actual.getPayload());
+        verify(consentJpaRepository, never()).findByExternalId(any());
+        verify(statusCache).putConsentStatus(EXTERNAL_CONSENT_ID, ConsentStatus.VALID);
+    }
+
+    @Test
+    void getConsentStatusById_cachedStatus_shouldNotQueryDatabase() {
+        // Given
+        when(statusCache.getConsentStatus(EXTERNAL_CONSENT_ID)).thenReturn(Optional.of(ConsentStatus.VALID));
+
+        // When
+        CmsResponse<ConsentStatus> actual = consentServiceInternal.getConsentStatusById(EXTERNAL_CONSENT_ID);
+
+        // Then
+        assertTrue(actual.isSuccessful());
+        assertEquals(ConsentStatus.VALID, actual.getPayload());
+        verifyNoInteractions(consentJpaRepository);
+    }
+
     @Test
     void getConsentStatusById_withValidUsedNonRecurringConsent_shouldExpireConsent() {
         // Given
         ConsentEntity consent = buildUsedNonRecurringConsent();
 
+        when(consentJpaRepository.findStatusByExternalId(EXTERNAL_CONSENT_ID))
+            .thenReturn(Optional.of(buildConsentStatus(ConsentStatus.VALID, false, LocalDate.of(2019, 6, 3))));
+        when(aspspProfileService.getAspspSettings(INSTANCE_ID)).thenReturn(aspspSettings);
         when(consentJpaRepository.findByExternalId(EXTERNAL_CONSENT_ID))
             .thenReturn(Optional.of(consent));
         when(aisConsentConfirmationExpirationService.checkAndUpdateOnConfirmationExpiration(consent))
@@ -684,7 +725,7 @@ class ConsentServiceInternalTest {
     @Test
     void getConsentStatusById_noEntity_shouldReturnLogicalError() {
         // Given
-        when(consentJpaRepository.findByExternalId(EXTERNAL_CONSENT_ID))
+        when(consentJpaRepository.findStatusByExternalId(EXTERNAL_CONSENT_ID))
             .thenReturn(Optional.empty());
 
         // When
@@ -699,6 +740,45 @@ class ConsentServiceInternalTest {
         assertEquals(CmsError.LOGICAL_ERROR, actual.getError());
     }
 
+    private ConsentStatusProjection buildConsentStatus(ConsentStatus consentStatus, boolean recurringIndicator, LocalDate firstUsageDate) {
+        return new ConsentStatusProjection() {
+            @Override
+            public ConsentStatus getConsentStatus() {
+                return consentStatus;
+            }
+
+            @Override
+            public String getConsentType() {
+                return ConsentType.AIS.getName();
+            }
+
+            @Override
+            public OffsetDateTime getCreationTimestamp() {
+                return OffsetDateTime.now();
+            }
+
+            @Override
+            public LocalDate getValidUntil() {
+                return VALID_UNTIL;
+            }
+
+            @Override
+            public boolean isRecurringIndicator() {
+                return recurringIndicator;
+            }
+
+            @Override
+            public String getInstanceId() {
+                return INSTANCE_ID;
+            }
+
+            @Override
+            public LocalDate getFirstUsageDate() {
+                return firstUsageDate;
+            }
+        };
+    }
+
     private ConsentEntity buildUsedNonRecurringConsent() {
         ConsentEntity consent = buildConsentEntity(EXTERNAL_CONSENT_ID);
 
@@ -30,6 +30,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.Arrays;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -125,6 +126,21 @@ class EventServiceEncryptedImplTest {
         assertEquals(decryptedEvent, argumentCaptor.getValue());
     }
 
+    @Test
+    void recordEvents_idsDecryptedOnce() {
+        // Given
+        when(securityDataService.decryptId(ENCRYPTED_PAYMENT_ID)).thenReturn(Optional.of(DECRYPTED_PAYMENT_ID));
+        when(securityDataService.decryptId(ENCRYPTED_CONSENT_ID)).thenReturn(Optional.of(DECRYPTED_CONSENT_ID));
+
+        // When
+        eventServiceEncryptedImpl.recordEvents(Arrays.asList(event, event, buildEvent()));
+
+        // Then
+        verify(securityDataService, times(1)).decryptId(ENCRYPTED_CONSENT_ID);
+        verify(securityDataService, times(1)).decryptId(ENCRYPTED_PAYMENT_ID);
+        verify(eventService, times(1)).recordEvents(Arrays.asList(decryptedEvent, decryptedEvent, buildEvent()));
+    }
+
     private EventBO buildEvent() {
         return buildEvent(null, null);
     }
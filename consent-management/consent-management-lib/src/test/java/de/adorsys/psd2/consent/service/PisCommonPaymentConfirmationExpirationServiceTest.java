@@ -59,6 +59,8 @@ class PisCommonPaymentConfirmationExpirationServiceTest {
     private AspspProfileService aspspProfileService;
     @Mock
     private AspspSettings aspspSettings;
+    @Mock
+    private StatusCache statusCache;
 
     @Test
     void checkAndUpdateOnConfirmationExpiration_confirmationIsExpired() {
@@ -174,6 +176,21 @@ class PisCommonPaymentConfirmationExpirationServiceTest {
         verify(pisCommonPaymentDataRepository).saveAll(Collections.singletonList(pisCommonPaymentData));
     }
 
+    @Test
+    void updateConfirmationDeadlines() {
+        PisCommonPaymentData pisCommonPaymentData = new PisCommonPaymentData();
+        pisCommonPaymentData.setId(1L);
+        pisCommonPaymentData.setTransactionStatus(TransactionStatus.RCVD);
+
+        when(aspspProfileService.getAspspSettings(pisCommonPaymentData.getInstanceId())).thenReturn(aspspSettings);
+        when(aspspSettings.getPis()).thenReturn(getPisAspspProfileSetting(1000L));
+
+        service.updateConfirmationDeadlines(Collections.singletonList(pisCommonPaymentData));
+
+        assertEquals(pisCommonPaymentData.getCreationTimestamp().plusSeconds(1), pisCommonPaymentData.getConfirmationDeadline());
+        verify(pisCommonPaymentDataRepository).updateConfirmationDeadline(1L, pisCommonPaymentData.getConfirmationDeadline());
+    }
+
     @NotNull
     private PisAspspProfileSetting getPisAspspProfileSetting(long notConfirmedPaymentExpirationTimeMs) {
         return new PisAspspProfileSetting(new HashMap<>(), 0, notConfirmedPaymentExpirationTimeMs,
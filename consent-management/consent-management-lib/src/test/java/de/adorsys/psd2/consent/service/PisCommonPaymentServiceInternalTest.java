@@ -18,6 +18,9 @@
 
 package de.adorsys.psd2.consent.service;
 
+import de.adorsys.psd2.aspsp.profile.domain.AspspSettings;
+import de.adorsys.psd2.aspsp.profile.domain.pis.PisAspspProfileSetting;
+import de.adorsys.psd2.aspsp.profile.service.AspspProfileService;
 import de.adorsys.psd2.consent.api.CmsError;
 import de.adorsys.psd2.consent.api.CmsResponse;
 import de.adorsys.psd2.consent.api.pis.PisCommonPaymentResponse;
@@ -32,6 +35,7 @@ import de.adorsys.psd2.consent.repository.AuthorisationRepository;
 import de.adorsys.psd2.consent.repository.PisCommonPaymentDataRepository;
 import de.adorsys.psd2.consent.repository.PisPaymentDataRepository;
 import de.adorsys.psd2.consent.repository.TppInfoRepository;
+import de.adorsys.psd2.consent.repository.projection.PaymentStatusProjection;
 import de.adorsys.psd2.consent.service.mapper.PisCommonPaymentMapper;
 import de.adorsys.psd2.consent.service.mapper.PsuDataMapper;
 import de.adorsys.psd2.xs2a.core.authorisation.AuthorisationType;
@@ -48,6 +52,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.OffsetDateTime;
 import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -74,9 +79,16 @@ class PisCommonPaymentServiceInternalTest {
     private CorePaymentsConvertService corePaymentsConvertService;
     @Mock
     private AuthorisationRepository authorisationRepository;
+    @Mock
+    private AspspProfileService aspspProfileService;
+    @Mock
+    private AspspSettings aspspSettings;
+    @Mock
+    private StatusCache statusCache;
 
     private PisCommonPaymentData pisCommonPaymentData;
     private static final String PAYMENT_ID = "5bbde955ca10e8e4035a10c2";
+    private static final String INSTANCE_ID = "UNDEFINED";
     private static final JsonReader jsonReader = new JsonReader();
 
     @BeforeEach
@@ -104,6 +116,8 @@ class PisCommonPaymentServiceInternalTest {
         when(pisCommonPaymentMapper.mapToPisCommonPaymentData(pisPaymentInfo))
             .thenReturn(pisCommonPaymentData);
         when(pisCommonPaymentDataRepository.save(pisCommonPaymentData)).thenReturn(pisCommonPaymentData);
+        when(aspspProfileService.getAspspSettings(pisCommonPaymentData.getInstanceId())).thenReturn(aspspSettings);
+        when(aspspSettings.getPis()).thenReturn(buildPisAspspProfileSetting(86400000L));
 
         // When
         pisCommonPaymentService.createCommonPayment(pisPaymentInfo);
@@ -111,6 +125,7 @@ class PisCommonPaymentServiceInternalTest {
         // Then
         verify(pisCommonPaymentDataRepository).save(argument.capture());
         assertEquals(roles, argument.getValue().getTppInfo().getTppRoles());
+        assertEquals(pisCommonPaymentData.getCreationTimestamp().plusDays(1), argument.getValue().getConfirmationDeadline());
     }
 
     @Test
@@ -142,9 +157,10 @@ class PisCommonPaymentServiceInternalTest {
     @Test
     void getPisCommonPaymentStatusById_success() {
         // Given
-        when(pisCommonPaymentDataRepository.findByPaymentId(PAYMENT_ID)).thenReturn(Optional.of(pisCommonPaymentData));
-        when(pisCommonPaymentConfirmationExpirationService.checkAndUpdateOnConfirmationExpiration(pisCommonPaymentData))
-            .thenReturn(pisCommonPaymentData);
+        when(pisCommonPaymentDataRepository.findStatusByPaymentId(PAYMENT_ID))
+            .thenReturn(Optional.of(buildPaymentStatus(TransactionStatus.RCVD, OffsetDateTime.now())));
+        when(aspspProfileService.getAspspSettings(INSTANCE_ID)).thenReturn(aspspSettings);
+        when(aspspSettings.getPis()).thenReturn(buildPisAspspProfileSetting(86400000L));
 
         // When
         CmsResponse<TransactionStatus> actual = pisCommonPaymentService.getPisCommonPaymentStatusById(PAYMENT_ID);
@@ -152,14 +168,50 @@ class PisCommonPaymentServiceInternalTest {
         // Then
         assertTrue(actual.isSuccessful());
         assertEquals(TransactionStatus.RCVD, actual.getPayload());
+        verify(pisCommonPaymentDataRepository, never()).findByPaymentId(any());
+        verify(statusCache).putPaymentStatus(PAYMENT_ID, TransactionStatus.RCVD);
     }
 
     @Test
-    void getPisCommonPaymentStatusById_logicalError() {
+    void getPisCommonPaymentStatusById_cachedStatus() {
+        // Given
+        when(statusCache.getPaymentStatus(PAYMENT_ID)).thenReturn(Optional.of(TransactionStatus.ACSP));
+
+        // When
+        CmsResponse<TransactionStatus> actual = pisCommonPaymentService.getPisCommonPaymentStatusById(PAYMENT_ID);
+
+        // Then
+        assertTrue(actual.isSuccessful());
+        assertEquals(TransactionStatus.ACSP, actual.getPayload());
+        verifyNoInteractions(pisCommonPaymentDataRepository);
+    }
+
+    @Test
+    void getPisCommonPaymentStatusById_confirmationExpired() {
         // Given
+        when(pisCommonPaymentDataRepository.findStatusByPaymentId(PAYMENT_ID))
+            .thenReturn(Optional.of(buildPaymentStatus(TransactionStatus.RCVD, OffsetDateTime.now().minusSeconds(100))));
+        when(aspspProfileService.getAspspSettings(INSTANCE_ID)).thenReturn(aspspSettings);
+        when(aspspSettings.getPis()).thenReturn(buildPisAspspProfileSetting(10L));
         when(pisCommonPaymentDataRepository.findByPaymentId(PAYMENT_ID)).thenReturn(Optional.of(pisCommonPaymentData));
+        PisCommonPaymentData rejectedPayment = buildPisCommonPaymentData();
+        rejectedPayment.setTransactionStatus(TransactionStatus.RJCT);
         when(pisCommonPaymentConfirmationExpirationService.checkAndUpdateOnConfirmationExpiration(pisCommonPaymentData))
-            .thenReturn(null);
+            .thenReturn(rejectedPayment);
+
+        // When
+        CmsResponse<TransactionStatus> actual = pisCommonPaymentService.getPisCommonPaymentStatusById(PAYMENT_ID);
+
+        // Then
+        assertTrue(actual.isSuccessful());
+        assertEquals(TransactionStatus.RJCT, actual.getPayload());
+        verify(statusCache).putPaymentStatus(PAYMENT_ID, TransactionStatus.RJCT);
+    }
+
+    @Test
+    void getPisCommonPaymentStatusById_logicalError() {
+        // Given
+        when(pisCommonPaymentDataRepository.findStatusByPaymentId(PAYMENT_ID)).thenReturn(Optional.empty());
 
         // When
         CmsResponse<TransactionStatus> actual = pisCommonPaymentService.getPisCommonPaymentStatusById(PAYMENT_ID);
@@ -167,6 +219,7 @@ class PisCommonPaymentServiceInternalTest {
         // Then
         assertTrue(actual.hasError());
         assertEquals(CmsError.LOGICAL_ERROR, actual.getError());
+        verify(statusCache, never()).putPaymentStatus(any(), any());
     }
 
     @Test
@@ -222,6 +275,7 @@ class PisCommonPaymentServiceInternalTest {
         assertEquals(TransactionStatus.RCVD, pisCommonPaymentData.getTransactionStatus());
 
         verify(pisCommonPaymentDataRepository).save(pisCommonPaymentData);
+        verify(statusCache).evictPaymentStatus(pisCommonPaymentData.getPaymentId());
     }
 
     @Test
@@ -304,6 +358,30 @@ class PisCommonPaymentServiceInternalTest {
         return pisCommonPaymentData;
     }
 
+    private PaymentStatusProjection buildPaymentStatus(TransactionStatus transactionStatus, OffsetDateTime creationTimestamp) {
+        return new PaymentStatusProjection() {
+            @Override
+            public TransactionStatus getTransactionStatus() {
+                return transactionStatus;
+            }
+
+            @Override
+            public OffsetDateTime getCreationTimestamp() {
+                return creationTimestamp;
+            }
+
+            @Override
+            public String getInstanceId() {
+                return INSTANCE_ID;
+            }
+        };
+    }
+
+    private PisAspspProfileSetting buildPisAspspProfileSetting(long notConfirmedPaymentExpirationTimeMs) {
+        return new PisAspspProfileSetting(new HashMap<>(), 0, notConfirmedPaymentExpirationTimeMs,
+                                          true, null, "", null, false);
+    }
+
     private List<AuthorisationEntity> buildAuthorisations() {
         AuthorisationEntity pisAuthorization = new AuthorisationEntity();
         pisAuthorization.setType(AuthorisationType.PIS_CREATION);
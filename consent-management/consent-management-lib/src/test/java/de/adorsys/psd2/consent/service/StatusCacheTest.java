@@ -0,0 +1,99 @@
+/*
+ * Copyright 2018-2024 adorsys GmbH & Co KG
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ *
+ * This project is also available under a separate commercial license. You can
+ * contact us at sales@adorsys.com.
+ */
+
+package de.adorsys.psd2.consent.service;
+
+import de.adorsys.psd2.xs2a.core.consent.ConsentStatus;
+import de.adorsys.psd2.xs2a.core.pis.TransactionStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StatusCacheTest {
+    private static final String PAYMENT_ID = "payment id";
+    private static final String CONSENT_ID = "consent id";
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void getPaymentStatus_putStatus_cached() {
+        // Given
+        StatusCache statusCache = new StatusCache(true, 10, 60);
+        statusCache.putPaymentStatus(PAYMENT_ID, TransactionStatus.ACSP);
+
+        // When
+        Optional<TransactionStatus> actual = statusCache.getPaymentStatus(PAYMENT_ID);
+
+        // Then
+        assertEquals(Optional.of(TransactionStatus.ACSP), actual);
+        assertEquals(Optional.empty(), statusCache.getConsentStatus(PAYMENT_ID));
+    }
+
+    @Test
+    void getConsentStatus_evicted_notCached() {
+        // Given
+        StatusCache statusCache = new StatusCache(true, 10, 60);
+        statusCache.putConsentStatus(CONSENT_ID, ConsentStatus.VALID);
+
+        // When
+        statusCache.evictConsentStatus(CONSENT_ID);
+
+        // Then
+        assertEquals(Optional.empty(), statusCache.getConsentStatus(CONSENT_ID));
+    }
+
+    @Test
+    void evictPaymentStatus_activeTransaction_evictedAgainAfterCompletion() {
+        // Given
+        StatusCache statusCache = new StatusCache(true, 10, 60);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        statusCache.evictPaymentStatus(PAYMENT_ID);
+        statusCache.putPaymentStatus(PAYMENT_ID, TransactionStatus.RCVD);
+        TransactionSynchronizationManager.getSynchronizations()
+            .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        // Then
+        assertEquals(Optional.empty(), statusCache.getPaymentStatus(PAYMENT_ID));
+    }
+
+    @Test
+    void getPaymentStatus_disabledCache_notCached() {
+        // Given
+        StatusCache statusCache = StatusCache.disabled();
+        statusCache.putPaymentStatus(PAYMENT_ID, TransactionStatus.ACSP);
+
+        // When
+        Optional<TransactionStatus> actual = statusCache.getPaymentStatus(PAYMENT_ID);
+
+        // Then
+        assertFalse(statusCache.isEnabled());
+        assertEquals(Optional.empty(), actual);
+    }
+}
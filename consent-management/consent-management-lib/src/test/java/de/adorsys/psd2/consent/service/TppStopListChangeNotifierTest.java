@@ -0,0 +1,78 @@
+/*
+ * Copyright 2018-2024 adorsys GmbH & Co KG
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ *
+ * This project is also available under a separate commercial license. You can
+ * contact us at sales@adorsys.com.
+ */
+
+package de.adorsys.psd2.consent.service;
+
+import de.adorsys.psd2.xs2a.core.tpp.TppStopListChangedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TppStopListChangeNotifierTest {
+    private static final String AUTHORISATION_NUMBER = "authorisation number";
+    private static final String INSTANCE_ID = "instance id";
+
+    @InjectMocks
+    private TppStopListChangeNotifier tppStopListChangeNotifier;
+
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void notifyStopListChanged_withoutTransaction_publishesImmediately() {
+        tppStopListChangeNotifier.notifyStopListChanged(AUTHORISATION_NUMBER, INSTANCE_ID);
+
+        verify(applicationEventPublisher).publishEvent(new TppStopListChangedEvent(AUTHORISATION_NUMBER, INSTANCE_ID));
+    }
+
+    @Test
+    void notifyStopListChanged_insideTransaction_publishesAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        tppStopListChangeNotifier.notifyStopListChanged(AUTHORISATION_NUMBER, INSTANCE_ID);
+
+        verify(applicationEventPublisher, never()).publishEvent(any(Object.class));
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        assertEquals(1, synchronizations.size());
+        synchronizations.get(0).afterCommit();
+
+        verify(applicationEventPublisher).publishEvent(new TppStopListChangedEvent(AUTHORISATION_NUMBER, INSTANCE_ID));
+    }
+}
@@ -21,14 +21,20 @@ package de.adorsys.psd2.consent.service;
 import de.adorsys.psd2.consent.api.CmsResponse;
 import de.adorsys.psd2.consent.domain.TppStopListEntity;
 import de.adorsys.psd2.consent.repository.TppStopListRepository;
+import de.adorsys.psd2.consent.service.mapper.TppStopListMapper;
+import de.adorsys.psd2.xs2a.core.tpp.TppStatus;
+import de.adorsys.psd2.xs2a.core.tpp.TppStopListRecord;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.when;
@@ -45,6 +51,9 @@ class TppStopListServiceInternalTest {
     @Mock
     private TppStopListRepository tppStopListRepository;
 
+    @Mock
+    private TppStopListMapper tppStopListMapper;
+
     @Mock
     private TppStopListEntity tppStopListEntity;
 
@@ -89,5 +98,18 @@ class TppStopListServiceInternalTest {
 
         assertTrue(isTppBlocked.getPayload());
     }
-}
 
+    @Test
+    void getBlockedTpps() {
+        TppStopListRecord tppStopListRecord = new TppStopListRecord();
+        when(tppStopListRepository.findAllByInstanceIdAndStatus(INSTANCE_ID, TppStatus.BLOCKED))
+            .thenReturn(Collections.singletonList(tppStopListEntity));
+        when(tppStopListMapper.mapToTppStopListRecord(tppStopListEntity))
+            .thenReturn(tppStopListRecord);
+
+        CmsResponse<List<TppStopListRecord>> blockedTpps = tppStopListService.getBlockedTpps(INSTANCE_ID);
+
+        assertTrue(blockedTpps.isSuccessful());
+        assertEquals(Collections.singletonList(tppStopListRecord), blockedTpps.getPayload());
+    }
+}
@@ -20,11 +20,13 @@ package de.adorsys.psd2.consent.service.aspsp;
 
 import de.adorsys.psd2.consent.api.ais.AdditionalTppInfo;
 import de.adorsys.psd2.consent.api.ais.CmsAisAccountConsent;
+import de.adorsys.psd2.consent.aspsp.api.CmsExportRecord;
 import de.adorsys.psd2.consent.aspsp.api.PageData;
 import de.adorsys.psd2.consent.domain.AuthorisationEntity;
 import de.adorsys.psd2.consent.domain.consent.ConsentEntity;
 import de.adorsys.psd2.consent.repository.AuthorisationRepository;
 import de.adorsys.psd2.consent.repository.ConsentJpaRepository;
+import de.adorsys.psd2.consent.repository.impl.KeysetSpecificationReader;
 import de.adorsys.psd2.consent.repository.specification.AisConsentSpecification;
 import de.adorsys.psd2.consent.service.mapper.AisConsentMapper;
 import de.adorsys.psd2.consent.service.psu.util.PageRequestBuilder;
@@ -52,9 +54,11 @@ import java.time.ZoneOffset;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
@@ -75,6 +79,8 @@ class CmsAspspAisExportServiceInternalTest {
     private static final String WRONG_ASPSP_ACCOUNT_ID = "00000000aa-n2131-13nw";
     private static final OffsetDateTime CREATION_DATE_TIME = OffsetDateTime.now();
     private static final OffsetDateTime STATUS_CHANGE_DATE_TIME = OffsetDateTime.now();
+    private static final Long CONSENT_ID = 42L;
+    private static final int CHUNK_SIZE = 10;
 
     private PsuIdData psuIdData;
     private PsuIdData wrongPsuIdData;
@@ -91,6 +97,8 @@ class CmsAspspAisExportServiceInternalTest {
     private AisConsentMapper aisConsentMapper;
     @Mock
     private AuthorisationRepository authorisationRepository;
+    @Mock
+    private KeysetSpecificationReader keysetSpecificationReader;
     @Spy
     private PageRequestBuilder pageRequestBuilder = new PageRequestBuilder();
 
@@ -119,8 +127,8 @@ class CmsAspspAisExportServiceInternalTest {
         CmsAisAccountConsent expectedConsent = buildAisAccountConsent();
 
         List<AuthorisationEntity> authorisations = Collections.singletonList(new AuthorisationEntity());
-        when(authorisationRepository.findAllByParentExternalIdAndType(EXTERNAL_CONSENT_ID, AuthorisationType.CONSENT))
-            .thenReturn(authorisations);
+        when(authorisationRepository.findAllByParentExternalIdsGrouped(List.of(EXTERNAL_CONSENT_ID), AuthorisationType.CONSENT))
+            .thenReturn(Map.of(EXTERNAL_CONSENT_ID, authorisations));
         when(aisConsentMapper.mapToCmsAisAccountConsent(consentEntity, authorisations))
             .thenReturn(buildAisAccountConsent());
 
@@ -159,8 +167,8 @@ class CmsAspspAisExportServiceInternalTest {
         CmsAisAccountConsent expectedConsent = buildAisAccountConsent();
 
         List<AuthorisationEntity> authorisations = Collections.singletonList(new AuthorisationEntity());
-        when(authorisationRepository.findAllByParentExternalIdAndType(EXTERNAL_CONSENT_ID, AuthorisationType.CONSENT))
-            .thenReturn(authorisations);
+        when(authorisationRepository.findAllByParentExternalIdsGrouped(List.of(EXTERNAL_CONSENT_ID), AuthorisationType.CONSENT))
+            .thenReturn(Map.of(EXTERNAL_CONSENT_ID, authorisations));
         when(aisConsentMapper.mapToCmsAisAccountConsent(consentEntity, authorisations))
             .thenReturn(buildAisAccountConsent());
 
@@ -238,8 +246,8 @@ class CmsAspspAisExportServiceInternalTest {
         CmsAisAccountConsent expectedConsent = buildAisAccountConsent();
 
         List<AuthorisationEntity> authorisations = Collections.singletonList(new AuthorisationEntity());
-        when(authorisationRepository.findAllByParentExternalIdAndType(EXTERNAL_CONSENT_ID, AuthorisationType.CONSENT))
-            .thenReturn(authorisations);
+        when(authorisationRepository.findAllByParentExternalIdsGrouped(List.of(EXTERNAL_CONSENT_ID), AuthorisationType.CONSENT))
+            .thenReturn(Map.of(EXTERNAL_CONSENT_ID, authorisations));
         when(aisConsentMapper.mapToCmsAisAccountConsent(consentEntity, authorisations))
             .thenReturn(buildAisAccountConsent());
 
@@ -275,8 +283,8 @@ class CmsAspspAisExportServiceInternalTest {
         CmsAisAccountConsent expectedConsent = buildAisAccountConsent();
 
         List<AuthorisationEntity> authorisations = Collections.singletonList(new AuthorisationEntity());
-        when(authorisationRepository.findAllByParentExternalIdAndType(EXTERNAL_CONSENT_ID, AuthorisationType.CONSENT))
-            .thenReturn(authorisations);
+        when(authorisationRepository.findAllByParentExternalIdsGrouped(List.of(EXTERNAL_CONSENT_ID), AuthorisationType.CONSENT))
+            .thenReturn(Map.of(EXTERNAL_CONSENT_ID, authorisations));
         when(aisConsentMapper.mapToCmsAisAccountConsent(consentEntity, authorisations))
             .thenReturn(buildAisAccountConsent());
 
@@ -362,8 +370,8 @@ class CmsAspspAisExportServiceInternalTest {
                                                                   DEFAULT_SERVICE_INSTANCE_ID, Pageable.unpaged(), AdditionalTppInfo.NONE))
             .thenReturn(new PageImpl<>(Collections.singletonList(consentEntity), PageRequest.of(PAGE_INDEX, ITEMS_PER_PAGE), 1));
         List<AuthorisationEntity> authorisations = Collections.singletonList(new AuthorisationEntity());
-        when(authorisationRepository.findAllByParentExternalIdAndType(EXTERNAL_CONSENT_ID, AuthorisationType.CONSENT))
-            .thenReturn(authorisations);
+        when(authorisationRepository.findAllByParentExternalIdsGrouped(List.of(EXTERNAL_CONSENT_ID), AuthorisationType.CONSENT))
+            .thenReturn(Map.of(EXTERNAL_CONSENT_ID, authorisations));
 
         when(aisConsentMapper.mapToCmsAisAccountConsent(consentEntity, authorisations))
             .thenReturn(buildAisAccountConsent());
@@ -411,6 +419,83 @@ class CmsAspspAisExportServiceInternalTest {
         assertTrue(aisConsents.getData().isEmpty());
     }
 
+    @Test
+    void exportConsentChunkByTpp_success() {
+        // Given
+        ConsentEntity consentEntity = buildConsentEntity();
+        consentEntity.setId(CONSENT_ID);
+        Specification<ConsentEntity> specification = (root, criteriaQuery, criteriaBuilder) -> null;
+        when(aisConsentSpecification.byTppIdAndCreationPeriodAndPsuIdDataAndInstanceId(TPP_AUTHORISATION_NUMBER, CREATION_DATE_FROM, CREATION_DATE_TO,
+                                                                                       psuIdData, DEFAULT_SERVICE_INSTANCE_ID, AdditionalTppInfo.NONE))
+            .thenReturn(specification);
+        when(keysetSpecificationReader.findChunk(ConsentEntity.class, specification, null, CHUNK_SIZE))
+            .thenReturn(Collections.singletonList(consentEntity));
+        List<AuthorisationEntity> authorisations = Collections.singletonList(new AuthorisationEntity());
+        when(authorisationRepository.findAllByParentExternalIdsGrouped(List.of(EXTERNAL_CONSENT_ID), AuthorisationType.CONSENT))
+            .thenReturn(Map.of(EXTERNAL_CONSENT_ID, authorisations));
+        CmsAisAccountConsent expectedConsent = buildAisAccountConsent();
+        when(aisConsentMapper.mapToCmsAisAccountConsent(consentEntity, authorisations))
+            .thenReturn(expectedConsent);
+
+        // When
+        List<CmsExportRecord<CmsAisAccountConsent>> records =
+            cmsAspspAisExportServiceInternal.exportConsentChunkByTpp(TPP_AUTHORISATION_NUMBER, CREATION_DATE_FROM, CREATION_DATE_TO,
+                                                                     psuIdData, DEFAULT_SERVICE_INSTANCE_ID, AdditionalTppInfo.NONE,
+                                                                     null, CHUNK_SIZE);
+
+        // Then
+        assertEquals(1, records.size());
+        assertEquals(expectedConsent, records.get(0).getData());
+        assertEquals(CONSENT_ID, ExportContinuationToken.decode("ais", records.get(0).getContinuationToken()));
+    }
+
+    @Test
+    void exportConsentChunkByTpp_resumesAfterContinuationToken() {
+        // Given
+        Specification<ConsentEntity> specification = (root, criteriaQuery, criteriaBuilder) -> null;
+        when(aisConsentSpecification.byTppIdAndCreationPeriodAndPsuIdDataAndInstanceId(TPP_AUTHORISATION_NUMBER, CREATION_DATE_FROM, CREATION_DATE_TO,
+                                                                                       psuIdData, DEFAULT_SERVICE_INSTANCE_ID, AdditionalTppInfo.NONE))
+            .thenReturn(specification);
+        when(keysetSpecificationReader.findChunk(ConsentEntity.class, specification, CONSENT_ID, CHUNK_SIZE))
+            .thenReturn(Collections.emptyList());
+
+        // When
+        List<CmsExportRecord<CmsAisAccountConsent>> records =
+            cmsAspspAisExportServiceInternal.exportConsentChunkByTpp(TPP_AUTHORISATION_NUMBER, CREATION_DATE_FROM, CREATION_DATE_TO,
+                                                                     psuIdData, DEFAULT_SERVICE_INSTANCE_ID, AdditionalTppInfo.NONE,
+                                                                     ExportContinuationToken.encode("ais", CONSENT_ID), CHUNK_SIZE);
+
+        // Then
+        assertTrue(records.isEmpty());
+        verifyNoInteractions(aisConsentMapper);
+    }
+
+    @Test
+    void exportConsentChunkByTpp_continuationTokenOfAnotherExport() {
+        // Given
+        String paymentToken = ExportContinuationToken.encode("pis", CONSENT_ID);
+
+        // Then
+        assertThrows(IllegalArgumentException.class,
+                     () -> cmsAspspAisExportServiceInternal.exportConsentChunkByTpp(TPP_AUTHORISATION_NUMBER, CREATION_DATE_FROM, CREATION_DATE_TO,
+                                                                                    psuIdData, DEFAULT_SERVICE_INSTANCE_ID, AdditionalTppInfo.NONE,
+                                                                                    paymentToken, CHUNK_SIZE));
+        verifyNoInteractions(keysetSpecificationReader);
+    }
+
+    @Test
+    void exportConsentChunkByPsu_emptyPsuIdData() {
+        // When
+        List<CmsExportRecord<CmsAisAccountConsent>> records =
+            cmsAspspAisExportServiceInternal.exportConsentChunkByPsu(null, CREATION_DATE_FROM, CREATION_DATE_TO,
+                                                                     DEFAULT_SERVICE_INSTANCE_ID, AdditionalTppInfo.NONE,
+                                                                     null, CHUNK_SIZE);
+
+        // Then
+        assertTrue(records.isEmpty());
+        verifyNoInteractions(keysetSpecificationReader);
+    }
+
     private PsuIdData buildPsuIdData(String psuId) {
         return new PsuIdData(psuId, null, null, null, null);
     }
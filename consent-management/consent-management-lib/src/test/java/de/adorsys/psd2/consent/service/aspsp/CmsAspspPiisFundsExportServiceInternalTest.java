@@ -19,10 +19,12 @@
 package de.adorsys.psd2.consent.service.aspsp;
 
 import de.adorsys.psd2.consent.api.piis.v1.CmsPiisConsent;
+import de.adorsys.psd2.consent.aspsp.api.CmsExportRecord;
 import de.adorsys.psd2.consent.aspsp.api.PageData;
 import de.adorsys.psd2.consent.domain.PsuData;
 import de.adorsys.psd2.consent.domain.consent.ConsentEntity;
 import de.adorsys.psd2.consent.repository.ConsentJpaRepository;
+import de.adorsys.psd2.consent.repository.impl.KeysetSpecificationReader;
 import de.adorsys.psd2.consent.repository.specification.PiisConsentEntitySpecification;
 import de.adorsys.psd2.consent.service.mapper.PiisConsentMapper;
 import de.adorsys.psd2.consent.service.psu.util.PageRequestBuilder;
@@ -44,8 +46,11 @@ import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
@@ -66,6 +71,8 @@ class CmsAspspPiisFundsExportServiceInternalTest {
     private static final int ITEMS_PER_PAGE = 60;
     private static final int TOTAL = 300;
     private static final Pageable PAGE_REQUEST = PageRequest.of(PAGE_INDEX, ITEMS_PER_PAGE);
+    private static final Long CONSENT_ID = 42L;
+    private static final int CHUNK_SIZE = 10;
 
     private static final OffsetDateTime CREATION_TIMESTAMP =
         OffsetDateTime.of(2019, 2, 4, 12, 0, 0, 0, ZoneOffset.UTC);
@@ -80,6 +87,8 @@ class CmsAspspPiisFundsExportServiceInternalTest {
     private PiisConsentMapper piisConsentMapper;
     @Mock
     private PageRequestBuilder pageRequestBuilder;
+    @Mock
+    private KeysetSpecificationReader keysetSpecificationReader;
 
     private PsuIdData psuIdData;
     private PsuIdData wrongPsuIdData;
@@ -435,6 +444,44 @@ class CmsAspspPiisFundsExportServiceInternalTest {
             .byAspspAccountIdAndCreationPeriodAndInstanceIdAndAdditionalTppInfo(any(), any(), any(), any(), any());
     }
 
+    @Test
+    void exportConsentChunkByTpp_success_withDefaultInstanceId() {
+        // Given
+        Specification<ConsentEntity> specification = (root, criteriaQuery, criteriaBuilder) -> null;
+        when(piisConsentEntitySpecification.byTppIdAndCreationPeriodAndPsuIdDataAndInstanceId(TPP_AUTHORISATION_NUMBER, CREATION_DATE_FROM,
+                                                                                              CREATION_DATE_TO, psuIdData,
+                                                                                              DEFAULT_SERVICE_INSTANCE_ID, null))
+            .thenReturn(specification);
+        ConsentEntity consentEntity = buildPiisConsentEntity();
+        consentEntity.setId(CONSENT_ID);
+        when(keysetSpecificationReader.findChunk(ConsentEntity.class, specification, null, CHUNK_SIZE))
+            .thenReturn(Collections.singletonList(consentEntity));
+        CmsPiisConsent cmsPiisConsent = buildCmsPiisConsent();
+        when(piisConsentMapper.mapToCmsPiisConsent(consentEntity)).thenReturn(cmsPiisConsent);
+
+        // When
+        List<CmsExportRecord<CmsPiisConsent>> records =
+            cmsAspspPiisFundsExportServiceInternal.exportConsentChunkByTpp(TPP_AUTHORISATION_NUMBER, CREATION_DATE_FROM, CREATION_DATE_TO,
+                                                                           psuIdData, null, null, CHUNK_SIZE);
+
+        // Then
+        assertEquals(1, records.size());
+        assertEquals(cmsPiisConsent, records.get(0).getData());
+        assertEquals(CONSENT_ID, ExportContinuationToken.decode("piis", records.get(0).getContinuationToken()));
+    }
+
+    @Test
+    void exportConsentChunkByAccountId_continuationTokenOfAnotherExport() {
+        // Given
+        String aisToken = ExportContinuationToken.encode("ais", CONSENT_ID);
+
+        // Then
+        assertThrows(IllegalArgumentException.class,
+                     () -> cmsAspspPiisFundsExportServiceInternal.exportConsentChunkByAccountId(ASPSP_ACCOUNT_ID, CREATION_DATE_FROM, CREATION_DATE_TO,
+                                                                                                SERVICE_INSTANCE_ID, aisToken, CHUNK_SIZE));
+        verifyNoInteractions(keysetSpecificationReader);
+    }
+
     private ConsentEntity buildPiisConsentEntity() {
         ConsentEntity piisConsentEntity = new ConsentEntity();
         piisConsentEntity.setPsuDataList(Collections.singletonList(buildPsuData()));
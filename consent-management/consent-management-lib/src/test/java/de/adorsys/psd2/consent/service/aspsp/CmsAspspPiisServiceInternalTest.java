@@ -30,6 +30,7 @@ import de.adorsys.psd2.consent.repository.AspspAccountAccessRepository;
 import de.adorsys.psd2.consent.repository.ConsentJpaRepository;
 import de.adorsys.psd2.consent.repository.TppInfoRepository;
 import de.adorsys.psd2.consent.repository.specification.PiisConsentEntitySpecification;
+import de.adorsys.psd2.consent.service.StatusCache;
 import de.adorsys.psd2.consent.service.mapper.PiisConsentMapper;
 import de.adorsys.psd2.consent.service.psu.util.PageRequestBuilder;
 import de.adorsys.psd2.core.mapper.ConsentDataMapper;
@@ -97,6 +98,8 @@ class CmsAspspPiisServiceInternalTest {
     private PiisConsentEntitySpecification piisConsentEntitySpecification;
     @Mock
     private AspspAccountAccessRepository aspspAccountAccessRepository;
+    @Mock
+    private StatusCache statusCache;
     @Spy
     private PageRequestBuilder pageRequestBuilder = new PageRequestBuilder();
     @InjectMocks
@@ -411,6 +414,7 @@ class CmsAspspPiisServiceInternalTest {
         assertTrue(actual);
         verify(piisConsentEntitySpecification, times(1))
             .byConsentIdAndInstanceId(CONSENT_EXTERNAL_ID, DEFAULT_SERVICE_INSTANCE_ID);
+        verify(statusCache).evictConsentStatus(CONSENT_EXTERNAL_ID);
     }
 
     @Test
@@ -20,11 +20,13 @@ package de.adorsys.psd2.consent.service.aspsp;
 
 import de.adorsys.psd2.consent.api.pis.CmsBasePaymentResponse;
 import de.adorsys.psd2.consent.api.pis.CmsSinglePayment;
+import de.adorsys.psd2.consent.aspsp.api.CmsExportRecord;
 import de.adorsys.psd2.consent.aspsp.api.PageData;
 import de.adorsys.psd2.consent.domain.PsuData;
 import de.adorsys.psd2.consent.domain.payment.PisCommonPaymentData;
 import de.adorsys.psd2.consent.domain.payment.PisPaymentData;
 import de.adorsys.psd2.consent.repository.PisCommonPaymentDataRepository;
+import de.adorsys.psd2.consent.repository.impl.KeysetSpecificationReader;
 import de.adorsys.psd2.consent.repository.specification.PisCommonPaymentDataSpecification;
 import de.adorsys.psd2.consent.service.mapper.CmsPsuPisMapper;
 import de.adorsys.psd2.consent.service.psu.util.PageRequestBuilder;
@@ -52,7 +54,9 @@ import java.util.Collections;
 import java.util.Currency;
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
@@ -73,6 +77,8 @@ class CmsAspspPisExportServiceInternalTest {
 
     private static final String PAYMENT_ID = "payment id";
     private static final String PAYMENT_PRODUCT = "sepa-credit-transfers";
+    private static final Long PAYMENT_DATA_ID = 42L;
+    private static final int CHUNK_SIZE = 10;
 
     private PsuIdData psuIdData;
     private PsuIdData wrongPsuIdData;
@@ -85,6 +91,8 @@ class CmsAspspPisExportServiceInternalTest {
     private PisCommonPaymentDataRepository pisCommonPaymentDataRepository;
     @Mock
     private CmsPsuPisMapper cmsPsuPisMapper;
+    @Mock
+    private KeysetSpecificationReader keysetSpecificationReader;
     @Spy
     private PageRequestBuilder pageRequestBuilder = new PageRequestBuilder();
 
@@ -385,6 +393,53 @@ class CmsAspspPisExportServiceInternalTest {
             .byPsuIdDataAndCreationPeriodAndInstanceId(any(), any(), any(), any());
     }
 
+    @Test
+    void exportPaymentChunkByAccountId_success() {
+        // Given
+        Specification<PisCommonPaymentData> specification = (root, criteriaQuery, criteriaBuilder) -> null;
+        when(pisCommonPaymentDataSpecification.byAspspAccountIdAndCreationPeriodAndInstanceId(ASPSP_ACCOUNT_ID, CREATION_DATE_FROM,
+                                                                                               CREATION_DATE_TO, DEFAULT_SERVICE_INSTANCE_ID))
+            .thenReturn(specification);
+        PisCommonPaymentData paymentData = buildPisCommonPaymentData();
+        paymentData.setId(PAYMENT_DATA_ID);
+        when(keysetSpecificationReader.findChunk(PisCommonPaymentData.class, specification, PAYMENT_DATA_ID, CHUNK_SIZE))
+            .thenReturn(Collections.singletonList(paymentData));
+        CmsBasePaymentResponse expectedPayment = buildCmsBasePaymentResponse();
+        when(cmsPsuPisMapper.mapPaymentDataToCmsPayment(paymentData))
+            .thenReturn(expectedPayment);
+
+        // When
+        List<CmsExportRecord<CmsBasePaymentResponse>> records =
+            cmsAspspPisExportServiceInternal.exportPaymentChunkByAccountId(ASPSP_ACCOUNT_ID, CREATION_DATE_FROM, CREATION_DATE_TO,
+                                                                           DEFAULT_SERVICE_INSTANCE_ID,
+                                                                           ExportContinuationToken.encode("pis", PAYMENT_DATA_ID), CHUNK_SIZE);
+
+        // Then
+        assertEquals(1, records.size());
+        assertEquals(expectedPayment, records.get(0).getData());
+        assertEquals(PAYMENT_DATA_ID, ExportContinuationToken.decode("pis", records.get(0).getContinuationToken()));
+    }
+
+    @Test
+    void exportPaymentChunkByTpp_emptyTpp() {
+        // When
+        List<CmsExportRecord<CmsBasePaymentResponse>> records =
+            cmsAspspPisExportServiceInternal.exportPaymentChunkByTpp(null, CREATION_DATE_FROM, CREATION_DATE_TO, psuIdData,
+                                                                     DEFAULT_SERVICE_INSTANCE_ID, null, CHUNK_SIZE);
+
+        // Then
+        assertTrue(records.isEmpty());
+        verifyNoInteractions(keysetSpecificationReader);
+    }
+
+    @Test
+    void exportPaymentChunkByPsu_malformedContinuationToken() {
+        assertThrows(IllegalArgumentException.class,
+                     () -> cmsAspspPisExportServiceInternal.exportPaymentChunkByPsu(psuIdData, CREATION_DATE_FROM, CREATION_DATE_TO,
+                                                                                    DEFAULT_SERVICE_INSTANCE_ID, "not a token", CHUNK_SIZE));
+        verifyNoInteractions(keysetSpecificationReader);
+    }
+
     private PsuIdData buildPsuIdData(String psuId) {
         return new PsuIdData(psuId, null, null, null, null);
     }
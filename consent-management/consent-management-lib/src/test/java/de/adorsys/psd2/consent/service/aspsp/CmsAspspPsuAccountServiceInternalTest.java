@@ -21,6 +21,8 @@ package de.adorsys.psd2.consent.service.aspsp;
 import de.adorsys.psd2.consent.domain.consent.ConsentEntity;
 import de.adorsys.psd2.consent.repository.ConsentJpaRepository;
 import de.adorsys.psd2.consent.repository.specification.ConsentSpecification;
+import de.adorsys.psd2.consent.service.StatusCache;
+import de.adorsys.psd2.xs2a.core.consent.ConsentStatus;
 import de.adorsys.psd2.xs2a.core.psu.PsuIdData;
 import de.adorsys.xs2a.reader.JsonReader;
 import org.junit.jupiter.api.BeforeEach;
@@ -34,6 +36,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -57,6 +60,8 @@ class CmsAspspPsuAccountServiceInternalTest {
     private ConsentSpecification consentSpecification;
     @Mock
     private ConsentJpaRepository consentJpaRepository;
+    @Mock
+    private StatusCache statusCache;
 
     @BeforeEach
     void setUp() {
@@ -109,6 +114,26 @@ class CmsAspspPsuAccountServiceInternalTest {
         assertTrue(actualResult);
     }
 
+    @Test
+    void revokeAllConsents_cachedStatusesEvicted() {
+        // given
+        when(consentSpecification.byPsuIdDataAndAspspAccountIdAndInstanceId(PSU_ID_DATA, ASPSP_ACCOUNT_ID, INSTANCE_ID))
+            .thenReturn((root, criteriaQuery, criteriaBuilder) -> null);
+        ConsentEntity finalisedConsent = jsonReader.getObjectFromFile("json/service/aspsp/consent-entity-finalised.json", ConsentEntity.class);
+        when(consentJpaRepository.findAll((any()))).thenReturn(Arrays.asList(aisConsent, piisConsentEntity, finalisedConsent));
+
+        // when
+        boolean actualResult = cmsAspspPsuAccountServiceInternal.revokeAllConsents(ASPSP_ACCOUNT_ID, PSU_ID_DATA, INSTANCE_ID);
+
+        //then
+        assertTrue(actualResult);
+        assertEquals(ConsentStatus.REVOKED_BY_PSU, aisConsent.getConsentStatus());
+        assertEquals(ConsentStatus.REVOKED_BY_PSU, piisConsentEntity.getConsentStatus());
+        verify(statusCache).evictConsentStatus(aisConsent.getExternalId());
+        verify(statusCache).evictConsentStatus(piisConsentEntity.getExternalId());
+        verifyNoMoreInteractions(statusCache);
+    }
+
     @Test
     void revokeAllConsents_NoConsents() {
         // given
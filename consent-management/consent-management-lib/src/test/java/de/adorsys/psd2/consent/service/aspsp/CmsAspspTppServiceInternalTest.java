@@ -22,6 +22,7 @@ import de.adorsys.psd2.consent.domain.TppInfoEntity;
 import de.adorsys.psd2.consent.domain.TppStopListEntity;
 import de.adorsys.psd2.consent.repository.TppInfoRepository;
 import de.adorsys.psd2.consent.repository.TppStopListRepository;
+import de.adorsys.psd2.consent.service.TppStopListChangeNotifier;
 import de.adorsys.psd2.consent.service.mapper.TppInfoMapper;
 import de.adorsys.psd2.consent.service.mapper.TppStopListMapper;
 import de.adorsys.psd2.xs2a.core.tpp.TppInfo;
@@ -56,6 +57,8 @@ class CmsAspspTppServiceInternalTest {
     private TppInfoRepository tppInfoRepository;
     @Mock
     private TppInfoMapper tppInfoMapper;
+    @Mock
+    private TppStopListChangeNotifier tppStopListChangeNotifier;
 
     @Mock
     private TppStopListEntity tppStopListEntity;
@@ -101,6 +104,7 @@ class CmsAspspTppServiceInternalTest {
         boolean isBlocked = cmsAspspTppService.blockTpp(AUTHORISATION_NUMBER, INSTANCE_ID, BLOCKING_DURATION);
 
         assertTrue(isBlocked);
+        verify(tppStopListChangeNotifier).notifyStopListChanged(AUTHORISATION_NUMBER, INSTANCE_ID);
     }
 
     @Test
@@ -122,6 +126,7 @@ class CmsAspspTppServiceInternalTest {
 
         assertTrue(isUnblocked);
         verify(stopListRepository, never()).save(any(TppStopListEntity.class));
+        verify(tppStopListChangeNotifier, never()).notifyStopListChanged(any(), any());
     }
 
     @Test
@@ -135,6 +140,7 @@ class CmsAspspTppServiceInternalTest {
         boolean isUnblocked = cmsAspspTppService.unblockTpp(AUTHORISATION_NUMBER, INSTANCE_ID);
 
         assertTrue(isUnblocked);
+        verify(tppStopListChangeNotifier).notifyStopListChanged(AUTHORISATION_NUMBER, INSTANCE_ID);
     }
 
     @Test
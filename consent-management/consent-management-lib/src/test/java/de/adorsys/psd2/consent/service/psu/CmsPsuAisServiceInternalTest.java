@@ -43,6 +43,7 @@ import de.adorsys.psd2.consent.repository.specification.AisConsentSpecification;
 import de.adorsys.psd2.consent.repository.specification.AuthorisationSpecification;
 import de.adorsys.psd2.consent.service.AisConsentConfirmationExpirationService;
 import de.adorsys.psd2.consent.service.AisConsentUsageService;
+import de.adorsys.psd2.consent.service.StatusCache;
 import de.adorsys.psd2.consent.service.authorisation.CmsConsentAuthorisationServiceInternal;
 import de.adorsys.psd2.consent.service.mapper.AccessMapper;
 import de.adorsys.psd2.consent.service.mapper.AisConsentMapper;
@@ -150,6 +151,8 @@ class CmsPsuAisServiceInternalTest {
     private PsuDataUpdater psuDataUpdater;
     @Mock
     private PageRequestBuilder pageRequestBuilder;
+    @Mock
+    private StatusCache statusCache;
 
     private ConsentEntity consentEntity;
     private List<ConsentEntity> consentEntityList;
@@ -25,6 +25,7 @@ import de.adorsys.psd2.consent.domain.consent.ConsentEntity;
 import de.adorsys.psd2.consent.psu.api.CmsPsuConfirmationOfFundsAuthorisation;
 import de.adorsys.psd2.consent.repository.ConsentJpaRepository;
 import de.adorsys.psd2.consent.repository.specification.ConfirmationOfFundsConsentSpecification;
+import de.adorsys.psd2.consent.service.StatusCache;
 import de.adorsys.psd2.consent.service.authorisation.CmsConsentAuthorisationServiceInternal;
 import de.adorsys.psd2.consent.service.mapper.AuthorisationTemplateMapperImpl;
 import de.adorsys.psd2.consent.service.mapper.CmsConfirmationOfFundsMapper;
@@ -81,6 +82,8 @@ class CmsPsuConfirmationOfFundsServiceInternalTest {
     private CmsPsuAuthorisationMapper cmsPsuAuthorisationMapper;
     @Mock
     private CmsPsuConfirmationOfFundsAuthorisation cmsPsuConfirmationOfFundsAuthorisation;
+    @Mock
+    private StatusCache statusCache;
 
     private CmsConfirmationOfFundsMapper confirmationOfFundsMapper;
 
@@ -102,7 +105,7 @@ class CmsPsuConfirmationOfFundsServiceInternalTest {
                                                                      new ConsentDataMapper());
         cmsPsuConfirmationOfFundsServiceInternal = new CmsPsuConfirmationOfFundsServiceInternal(consentJpaRepository, consentAuthorisationService,
                                                                                                 confirmationOfFundsConsentSpecification, confirmationOfFundsMapper,
-                                                                                                cmsPsuConsentServiceInternal, cmsPsuAuthorisationMapper);
+                                                                                                cmsPsuConsentServiceInternal, cmsPsuAuthorisationMapper, statusCache);
     }
 
     @Test
@@ -23,6 +23,7 @@ import de.adorsys.psd2.consent.domain.PsuData;
 import de.adorsys.psd2.consent.domain.consent.ConsentEntity;
 import de.adorsys.psd2.consent.repository.ConsentJpaRepository;
 import de.adorsys.psd2.consent.repository.specification.PiisConsentEntitySpecification;
+import de.adorsys.psd2.consent.service.StatusCache;
 import de.adorsys.psd2.consent.service.mapper.PiisConsentMapper;
 import de.adorsys.psd2.consent.service.mapper.PsuDataMapper;
 import de.adorsys.psd2.consent.service.psu.util.PageRequestBuilder;
@@ -78,6 +79,8 @@ class CmsPsuPiisServiceInternalTest {
     private PageRequestBuilder pageRequestBuilder;
     @Mock
     private Specification specification;
+    @Mock
+    private StatusCache statusCache;
 
     private JsonReader jsonReader = new JsonReader();
 
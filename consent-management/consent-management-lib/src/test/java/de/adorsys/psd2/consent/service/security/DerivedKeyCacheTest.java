@@ -0,0 +1,127 @@
+/*
+ * Copyright 2018-2024 adorsys GmbH & Co KG
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ *
+ * This project is also available under a separate commercial license. You can
+ * contact us at sales@adorsys.com.
+ */
+
+package de.adorsys.psd2.consent.service.security;
+
+import de.adorsys.psd2.consent.service.security.provider.CryptoProvider;
+import de.adorsys.psd2.consent.service.security.provider.CryptoProviderHolder;
+import de.adorsys.psd2.consent.service.security.provider.DerivedKeyCache;
+import de.adorsys.psd2.consent.service.security.provider.jwe.JweCryptoProviderImpl;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.security.GeneralSecurityException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DerivedKeyCacheTest {
+    private static final String PROVIDER_ID = "gQ8wkMeo93";
+    private static final String PASSWORD = "server key";
+    private static final String ANOTHER_PASSWORD = "consent key";
+
+    private final AtomicInteger derivationCount = new AtomicInteger();
+
+    @Test
+    void getOrDerive_samePassword_derivedOnce() throws GeneralSecurityException {
+        // Given
+        DerivedKeyCache derivedKeyCache = new DerivedKeyCache(10, 60);
+
+        // When
+        SecretKey first = derivedKeyCache.getOrDerive(PROVIDER_ID, PASSWORD, this::derive);
+        SecretKey second = derivedKeyCache.getOrDerive(PROVIDER_ID, PASSWORD, this::derive);
+
+        // Then
+        assertSame(first, second);
+        assertEquals(1, derivationCount.get());
+        assertEquals(1, derivedKeyCache.getHitCount());
+        assertEquals(1, derivedKeyCache.getMissCount());
+    }
+
+    @Test
+    void getOrDerive_differentProviders_derivedSeparately() throws GeneralSecurityException {
+        // Given
+        DerivedKeyCache derivedKeyCache = new DerivedKeyCache(10, 60);
+
+        // When
+        derivedKeyCache.getOrDerive(PROVIDER_ID, PASSWORD, this::derive);
+        derivedKeyCache.getOrDerive("another provider", PASSWORD, this::derive);
+
+        // Then
+        assertEquals(2, derivationCount.get());
+        assertEquals(2, derivedKeyCache.size());
+    }
+
+    @Test
+    void getOrDerive_maxSizeExceeded_leastRecentlyUsedEvicted() throws GeneralSecurityException {
+        // Given
+        DerivedKeyCache derivedKeyCache = new DerivedKeyCache(1, 60);
+
+        // When
+        derivedKeyCache.getOrDerive(PROVIDER_ID, PASSWORD, this::derive);
+        derivedKeyCache.getOrDerive(PROVIDER_ID, ANOTHER_PASSWORD, this::derive);
+        derivedKeyCache.getOrDerive(PROVIDER_ID, PASSWORD, this::derive);
+
+        // Then
+        assertEquals(3, derivationCount.get());
+        assertEquals(1, derivedKeyCache.size());
+        assertEquals(2, derivedKeyCache.getEvictionCount());
+    }
+
+    @Test
+    void getOrDerive_disabled_alwaysDerived() throws GeneralSecurityException {
+        // Given
+        DerivedKeyCache derivedKeyCache = DerivedKeyCache.disabled();
+
+        // When
+        derivedKeyCache.getOrDerive(PROVIDER_ID, PASSWORD, this::derive);
+        derivedKeyCache.getOrDerive(PROVIDER_ID, PASSWORD, this::derive);
+
+        // Then
+        assertFalse(derivedKeyCache.isEnabled());
+        assertEquals(2, derivationCount.get());
+        assertEquals(0, derivedKeyCache.size());
+    }
+
+    @Test
+    void cryptoProviderHolder_wiresCacheIntoProviders() {
+        // Given
+        DerivedKeyCache derivedKeyCache = new DerivedKeyCache(10, 60);
+        CryptoProvider jweCryptoProvider = new JweCryptoProviderImpl(PROVIDER_ID, 256, 32, "PBKDF2WithHmacSHA256");
+        CryptoProviderHolder cryptoProviderHolder = new CryptoProviderHolder(Map.of(PROVIDER_ID, jweCryptoProvider), PROVIDER_ID, PROVIDER_ID, derivedKeyCache);
+        byte[] data = "secret data should be encrypted".getBytes();
+
+        // When
+        Optional<EncryptedData> encryptedData = cryptoProviderHolder.getDefaultDataProvider().encryptData(data, PASSWORD);
+        Optional<DecryptedData> decryptedData = encryptedData.flatMap(ed -> jweCryptoProvider.decryptData(ed.getData(), PASSWORD));
+
+        // Then
+        assertTrue(decryptedData.isPresent());
+        assertArrayEquals(data, decryptedData.get().getData());
+        assertEquals(1, derivedKeyCache.getMissCount());
+        assertEquals(1, derivedKeyCache.getHitCount());
+    }
+
+    private SecretKey derive(String password) {
+        derivationCount.incrementAndGet();
+        return new SecretKeySpec(password.getBytes(), "AES");
+    }
+}
@@ -33,8 +33,8 @@ import java.util.Base64;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class SecurityDataServiceTest {
@@ -131,6 +131,39 @@ class SecurityDataServiceTest {
         assertEquals(CONSENT_ID, actual.get());
     }
 
+    @Test
+    void getConsentId_Success_cachedDecryptedId() {
+        // Given
+        SecurityDataService cachingSecurityDataService = new SecurityDataService(environment, cryptoProviderHolder, new DecryptedIdCache(true, 10, 60));
+        when(cryptoProviderHolder.getProviderById(CRYPTO_PROVIDER_ID)).thenReturn(Optional.of(CRYPTO_PROVIDER));
+        String encrypted = getEncryptedConsentId(CRYPTO_PROVIDER_ID);
+
+        // When
+        Optional<String> first = cachingSecurityDataService.decryptId(encrypted);
+        Optional<String> second = cachingSecurityDataService.decryptId(encrypted);
+
+        // Then
+        assertEquals(Optional.of(CONSENT_ID), first);
+        assertEquals(Optional.of(CONSENT_ID), second);
+        verify(cryptoProviderHolder, times(1)).getProviderById(CRYPTO_PROVIDER_ID);
+    }
+
+    @Test
+    void getConsentId_Success_encryptedIdCachedOnEncryption() {
+        // Given
+        SecurityDataService cachingSecurityDataService = new SecurityDataService(environment, cryptoProviderHolder, new DecryptedIdCache(true, 10, 60));
+        when(cryptoProviderHolder.getDefaultIdProvider()).thenReturn(CRYPTO_PROVIDER);
+        when(cryptoProviderHolder.getDefaultDataProvider()).thenReturn(CRYPTO_PROVIDER);
+        String encrypted = cachingSecurityDataService.encryptId(CONSENT_ID).orElseThrow();
+
+        // When
+        Optional<String> actual = cachingSecurityDataService.decryptId(encrypted);
+
+        // Then
+        assertEquals(Optional.of(CONSENT_ID), actual);
+        verify(cryptoProviderHolder, never()).getProviderById(any());
+    }
+
     @Test
     void getConsentId_Failure_WrongExternalIdFormat() {
         // When
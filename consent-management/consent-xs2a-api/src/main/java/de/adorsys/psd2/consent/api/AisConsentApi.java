@@ -18,11 +18,14 @@
 
 package de.adorsys.psd2.consent.api;
 
+import de.adorsys.psd2.consent.api.ais.AisConsentAccessResponse;
 import de.adorsys.psd2.consent.api.ais.AisConsentActionRequest;
 import de.adorsys.psd2.consent.api.config.InternalCmsXs2aApiTagName;
 import de.adorsys.psd2.core.data.AccountAccess;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -50,4 +53,16 @@ public interface AisConsentApi {
             required = true)
         @PathVariable("encrypted-consent-id") String encryptedConsentId,
         @RequestBody AccountAccess request);
+
+    @GetMapping(path = "/{encrypted-consent-id}/access-data")
+    @Operation(description = "Read consent by ID together with its ASPSP consent data")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "OK", content = @Content(schema = @Schema(implementation = AisConsentAccessResponse.class))),
+        @ApiResponse(responseCode = "404", description = "Not Found")})
+    ResponseEntity<AisConsentAccessResponse> getConsentAccess(
+        @Parameter(name = "encrypted-consent-id",
+            description = "Encrypted consent ID",
+            example = "bf489af6-a2cb-4b75-b71d-d66d58b934d7",
+            required = true)
+        @PathVariable("encrypted-consent-id") String encryptedConsentId);
 }
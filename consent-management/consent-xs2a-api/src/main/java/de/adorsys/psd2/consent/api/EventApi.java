@@ -29,6 +29,8 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 
+import java.util.List;
+
 @RequestMapping(path = "api/v1/events")
 @Tag(name = InternalCmsXs2aApiTagName.EVENTS, description = "Provides access to the consent management system for Events")
 public interface EventApi {
@@ -39,4 +41,11 @@ public interface EventApi {
         @ApiResponse(responseCode = "200", description = "OK"),
         @ApiResponse(responseCode = "400", description = "Bad Request")})
     ResponseEntity<Void> recordEvent(@RequestBody EventBO event);
+
+    @PostMapping(path = "/bulk")
+    @Operation(description = "Creates several new events at once")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "OK"),
+        @ApiResponse(responseCode = "400", description = "Bad Request")})
+    ResponseEntity<Void> recordEvents(@RequestBody List<EventBO> events);
 }
@@ -20,6 +20,7 @@ package de.adorsys.psd2.consent.api;
 
 import de.adorsys.psd2.consent.api.config.InternalCmsXs2aApiTagName;
 import de.adorsys.psd2.xs2a.core.tpp.TppInfo;
+import de.adorsys.psd2.xs2a.core.tpp.TppStopListRecord;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -27,6 +28,8 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RequestMapping(path = "api/v1/tpp")
 @Tag(name = InternalCmsXs2aApiTagName.TPP, description = "Provides access to the TPP")
 public interface TppApi {
@@ -44,4 +47,11 @@ public interface TppApi {
         @RequestHeader(value = "tpp-authorisation-number") String tppAuthorisationNumber,
         @Parameter(description = "ID of the particular service instance")
         @RequestHeader(value = "instance-id", required = false, defaultValue = "") String instanceId);
+
+    @GetMapping(path = "/stop-list/blocked")
+    @Operation(description = "Returns all blocked TPPs of the instance")
+    @ApiResponse(responseCode = "200", description = "OK")
+    ResponseEntity<List<TppStopListRecord>> getBlockedTpps(
+        @Parameter(description = "ID of the particular service instance")
+        @RequestHeader(value = "instance-id", required = false, defaultValue = "") String instanceId);
 }
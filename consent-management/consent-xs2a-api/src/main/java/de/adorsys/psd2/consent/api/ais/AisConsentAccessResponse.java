@@ -0,0 +1,38 @@
+/*
+ * Copyright 2018-2024 adorsys GmbH & Co KG
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ *
+ * This project is also available under a separate commercial license. You can
+ * contact us at sales@adorsys.com.
+ */
+
+package de.adorsys.psd2.consent.api.ais;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Everything XS2A needs from CMS to serve an AIS read request: the consent itself and decrypted ASPSP consent data,
+ * linked to it
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AisConsentAccessResponse {
+    private CmsConsent consent;
+    /**
+     * Decrypted ASPSP consent data, <code>null</code> if there is no data stored for the consent
+     */
+    private byte[] aspspConsentData;
+}
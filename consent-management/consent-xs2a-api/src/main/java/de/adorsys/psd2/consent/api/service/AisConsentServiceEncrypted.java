@@ -18,6 +18,9 @@
 
 package de.adorsys.psd2.consent.api.service;
 
+import de.adorsys.psd2.consent.api.CmsResponse;
+import de.adorsys.psd2.consent.api.ais.AisConsentAccessResponse;
+
 /**
  * AisConsentService with enabled encryption and decryption
  *
@@ -25,4 +28,14 @@ package de.adorsys.psd2.consent.api.service;
  * @see AisConsentService
  */
 public interface AisConsentServiceEncrypted extends AisConsentServiceBase {
+
+    /**
+     * Reads AIS consent together with its ASPSP consent data in one call, so that AIS read requests don't have to
+     * request them from CMS separately. Action log for the request is expected to be saved afterwards via
+     * {@link #checkConsentAndSaveActionLog(de.adorsys.psd2.consent.api.ais.AisConsentActionRequest)}.
+     *
+     * @param encryptedConsentId encrypted ID of the consent
+     * @return consent with decrypted ASPSP consent data or error, if the consent couldn't be found
+     */
+    CmsResponse<AisConsentAccessResponse> getConsentAccess(String encryptedConsentId);
 }
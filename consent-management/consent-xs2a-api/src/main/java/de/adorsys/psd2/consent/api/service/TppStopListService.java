@@ -19,6 +19,9 @@
 package de.adorsys.psd2.consent.api.service;
 
 import de.adorsys.psd2.consent.api.CmsResponse;
+import de.adorsys.psd2.xs2a.core.tpp.TppStopListRecord;
+
+import java.util.List;
 
 public interface TppStopListService {
 
@@ -30,4 +33,12 @@ public interface TppStopListService {
      * @return <code>true</code> if TPP is found and has status BLOCKED, <code>false</code> if TPP is not found or its status is not BLOCKED
      */
     CmsResponse<Boolean> checkIfTppBlocked(String tppAuthorisationNumber, String instanceId);
+
+    /**
+     * Returns all TPPs, that have status BLOCKED in given instance.
+     *
+     * @param instanceId instance ID
+     * @return list of stop list records with status BLOCKED, including the ones with expired blocking that weren't unblocked yet
+     */
+    CmsResponse<List<TppStopListRecord>> getBlockedTpps(String instanceId);
 }
@@ -43,4 +43,13 @@ public class AisConsentRemoteUrls {
     public String updateAisAccountAccess() {
         return consentServiceBaseUrl + "/ais/consent/{consent-id}/access";
     }
+
+    /**
+     * Returns URL-string to CMS endpoint that gets consent together with its ASPSP consent data
+     *
+     * @return String
+     */
+    public String getConsentAccess() {
+        return consentServiceBaseUrl + "/ais/consent/{consent-id}/access-data";
+    }
 }
@@ -18,13 +18,16 @@
 
 package de.adorsys.psd2.consent.config;
 
+import de.adorsys.psd2.http.client.ClientHttpRequestFactories;
+import de.adorsys.psd2.http.client.ConnectionPoolMonitor;
+import de.adorsys.psd2.http.client.HttpClientSettings;
 import de.adorsys.psd2.logger.web.LoggingContextInterceptor;
 import lombok.RequiredArgsConstructor;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.client.ClientHttpRequestFactory;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.http.converter.xml.MappingJackson2XmlHttpMessageConverter;
 import org.springframework.web.client.RestTemplate;
 
@@ -38,19 +41,54 @@ public class ConsentRestConfig {
     @Value("${xs2a.rest-consent-config.connection-timeout.ms:10000}")
     private int connectionTimeout;
 
+    @Value("${xs2a.rest-consent-config.connection-pool.enabled:false}")
+    private boolean connectionPoolEnabled;
+    @Value("${xs2a.rest-consent-config.connection-pool.max-total:100}")
+    private int connectionPoolMaxTotal;
+    @Value("${xs2a.rest-consent-config.connection-pool.max-per-route:50}")
+    private int connectionPoolMaxPerRoute;
+    @Value("${xs2a.rest-consent-config.connection-pool.idle-timeout.ms:30000}")
+    private long connectionPoolIdleTimeout;
+    @Value("${xs2a.rest-consent-config.connection-pool.connection-request-timeout.ms:1000}")
+    private int connectionRequestTimeout;
+    @Value("${xs2a.rest-consent-config.connection-pool.stats-interval.ms:60000}")
+    private long connectionPoolStatsInterval;
+
     @Bean
     public RestTemplate consentRestTemplate() {
-        RestTemplate rest = new RestTemplate(clientHttpRequestFactory());
+        RestTemplate rest = new RestTemplate(consentClientHttpRequestFactory());
         rest.getMessageConverters().removeIf(m -> m.getClass().isAssignableFrom(MappingJackson2XmlHttpMessageConverter.class));
         rest.setErrorHandler(new ConsentRestErrorHandler());
         rest.getInterceptors().add(loggingContextInterceptor);
         return rest;
     }
 
-    private ClientHttpRequestFactory clientHttpRequestFactory() {
-        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
-        factory.setReadTimeout(readTimeout);
-        factory.setConnectTimeout(connectionTimeout);
-        return factory;
+    @Bean
+    public ClientHttpRequestFactory consentClientHttpRequestFactory() {
+        return ClientHttpRequestFactories.createRequestFactory(consentHttpClientSettings(), consentConnectionManager());
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public PoolingHttpClientConnectionManager consentConnectionManager() {
+        return ClientHttpRequestFactories.createConnectionManager(consentHttpClientSettings());
+    }
+
+    @Bean(destroyMethod = "close")
+    public ConnectionPoolMonitor consentConnectionPoolMonitor() {
+        return new ConnectionPoolMonitor(consentHttpClientSettings(), consentConnectionManager());
+    }
+
+    private HttpClientSettings consentHttpClientSettings() {
+        return HttpClientSettings.builder()
+                   .name("CMS")
+                   .readTimeoutMs(readTimeout)
+                   .connectionTimeoutMs(connectionTimeout)
+                   .connectionPoolEnabled(connectionPoolEnabled)
+                   .connectionPoolMaxTotal(connectionPoolMaxTotal)
+                   .connectionPoolMaxPerRoute(connectionPoolMaxPerRoute)
+                   .connectionPoolIdleTimeoutMs(connectionPoolIdleTimeout)
+                   .connectionRequestTimeoutMs(connectionRequestTimeout)
+                   .connectionPoolStatsIntervalMs(connectionPoolStatsInterval)
+                   .build();
     }
 }
@@ -34,4 +34,13 @@ public class TppStopListRemoteUrls {
     public String checkIfTppBlocked() {
         return consentServiceBaseUrl + "/tpp/stop-list";
     }
+
+    /**
+     * Returns URL-string to CMS endpoint that gets all blocked TPPs
+     *
+     * @return String
+     */
+    public String getBlockedTpps() {
+        return consentServiceBaseUrl + "/tpp/stop-list/blocked";
+    }
 }
@@ -19,6 +19,7 @@
 package de.adorsys.psd2.consent.service;
 
 import de.adorsys.psd2.consent.api.CmsResponse;
+import de.adorsys.psd2.consent.api.ais.AisConsentAccessResponse;
 import de.adorsys.psd2.consent.api.ais.AisConsentActionRequest;
 import de.adorsys.psd2.consent.api.ais.CmsConsent;
 import de.adorsys.psd2.consent.api.ais.UpdateAisConsentResponse;
@@ -83,4 +84,24 @@ public class AisConsentServiceRemote implements AisConsentServiceEncrypted {
                    .error(TECHNICAL_ERROR)
                    .build();
     }
+
+    @Override
+    public CmsResponse<AisConsentAccessResponse> getConsentAccess(String encryptedConsentId) {
+        try {
+            AisConsentAccessResponse response = consentRestTemplate.getForEntity(remoteAisConsentUrls.getConsentAccess(),
+                                                                                 AisConsentAccessResponse.class, encryptedConsentId).getBody();
+            if (response != null) {
+                return CmsResponse.<AisConsentAccessResponse>builder()
+                           .payload(response)
+                           .build();
+            }
+        } catch (CmsRestException cmsRestException) {
+            log.info("Couldn't get consent access by consent ID {}, HTTP response status: {}",
+                     encryptedConsentId, cmsRestException.getHttpStatus());
+        }
+
+        return CmsResponse.<AisConsentAccessResponse>builder()
+                   .error(TECHNICAL_ERROR)
+                   .build();
+    }
 }
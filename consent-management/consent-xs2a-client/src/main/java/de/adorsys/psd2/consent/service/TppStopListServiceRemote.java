@@ -21,6 +21,7 @@ package de.adorsys.psd2.consent.service;
 import de.adorsys.psd2.consent.api.CmsResponse;
 import de.adorsys.psd2.consent.api.service.TppStopListService;
 import de.adorsys.psd2.consent.config.TppStopListRemoteUrls;
+import de.adorsys.psd2.xs2a.core.tpp.TppStopListRecord;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.HttpEntity;
@@ -32,6 +33,11 @@ import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
 @Service
 @RequiredArgsConstructor
 public class TppStopListServiceRemote implements TppStopListService {
@@ -57,4 +63,18 @@ public class TppStopListServiceRemote implements TppStopListService {
                    .payload(body)
                    .build();
     }
+
+    @Override
+    public CmsResponse<List<TppStopListRecord>> getBlockedTpps(String instanceId) {
+        MultiValueMap<String, String> headers = new LinkedMultiValueMap<>();
+        headers.add(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE);
+        headers.add(INSTANCE, instanceId);
+
+        TppStopListRecord[] body = consentRestTemplate.exchange(tppStopListRemoteUrls.getBlockedTpps(), HttpMethod.GET, new HttpEntity<>(headers), TppStopListRecord[].class)
+                                       .getBody();
+
+        return CmsResponse.<List<TppStopListRecord>>builder()
+                   .payload(Optional.ofNullable(body).map(Arrays::asList).orElseGet(Collections::emptyList))
+                   .build();
+    }
 }
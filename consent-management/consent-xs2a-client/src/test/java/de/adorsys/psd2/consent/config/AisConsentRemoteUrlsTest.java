@@ -46,4 +46,10 @@ class AisConsentRemoteUrlsTest {
         assertEquals("http://base.url/ais/consent/{consent-id}/access",
                      aisConsentRemoteUrls.updateAisAccountAccess());
     }
+
+    @Test
+    void getConsentAccess() {
+        assertEquals("http://base.url/ais/consent/{consent-id}/access-data",
+                     aisConsentRemoteUrls.getConsentAccess());
+    }
 }
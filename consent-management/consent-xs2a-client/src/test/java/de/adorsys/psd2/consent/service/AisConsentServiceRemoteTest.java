@@ -21,6 +21,7 @@ package de.adorsys.psd2.consent.service;
 import de.adorsys.psd2.consent.api.ActionStatus;
 import de.adorsys.psd2.consent.api.CmsError;
 import de.adorsys.psd2.consent.api.CmsResponse;
+import de.adorsys.psd2.consent.api.ais.AisConsentAccessResponse;
 import de.adorsys.psd2.consent.api.ais.AisConsentActionRequest;
 import de.adorsys.psd2.consent.api.ais.CmsConsent;
 import de.adorsys.psd2.consent.api.ais.UpdateAisConsentResponse;
@@ -123,6 +124,31 @@ class AisConsentServiceRemoteTest {
         assertEquals(CmsError.TECHNICAL_ERROR, response.getError());
     }
 
+    @Test
+    void getConsentAccess() {
+        when(aisConsentRemoteUrls.getConsentAccess()).thenReturn(URL);
+        AisConsentAccessResponse consentAccess = new AisConsentAccessResponse(new CmsConsent(), new byte[]{1, 2});
+        when(consentRestTemplate.getForEntity(URL, AisConsentAccessResponse.class, CONSENT_ID))
+            .thenReturn(ResponseEntity.ok(consentAccess));
+
+        CmsResponse<AisConsentAccessResponse> response = aisConsentServiceRemote.getConsentAccess(CONSENT_ID);
+
+        assertTrue(response.isSuccessful());
+        assertEquals(consentAccess, response.getPayload());
+    }
+
+    @Test
+    void getConsentAccess_cmsRestException() {
+        when(aisConsentRemoteUrls.getConsentAccess()).thenReturn(URL);
+        when(consentRestTemplate.getForEntity(URL, AisConsentAccessResponse.class, CONSENT_ID))
+            .thenThrow(CmsRestException.class);
+
+        CmsResponse<AisConsentAccessResponse> response = aisConsentServiceRemote.getConsentAccess(CONSENT_ID);
+
+        assertTrue(response.hasError());
+        assertEquals(CmsError.TECHNICAL_ERROR, response.getError());
+    }
+
     private AccountAccess buildEmptyAccountAccess() {
         return new AccountAccess(Collections.emptyList(), Collections.emptyList(), Collections.emptyList(), buildEmptyAdditionalInformationAccess());
     }
@@ -22,6 +22,7 @@ import de.adorsys.psd2.consent.api.AisConsentApi;
 import de.adorsys.psd2.consent.api.CmsError;
 import de.adorsys.psd2.consent.api.CmsResponse;
 import de.adorsys.psd2.consent.api.WrongChecksumException;
+import de.adorsys.psd2.consent.api.ais.AisConsentAccessResponse;
 import de.adorsys.psd2.consent.api.ais.AisConsentActionRequest;
 import de.adorsys.psd2.consent.api.ais.CmsConsent;
 import de.adorsys.psd2.consent.api.ais.UpdateAisConsentResponse;
@@ -65,4 +66,15 @@ public class AisConsentController implements AisConsentApi {
 
         return new ResponseEntity<>(new UpdateAisConsentResponse(response.getPayload()), HttpStatus.OK);
     }
+
+    @Override
+    public ResponseEntity<AisConsentAccessResponse> getConsentAccess(String encryptedConsentId) {
+        CmsResponse<AisConsentAccessResponse> response = aisConsentService.getConsentAccess(encryptedConsentId);
+
+        if (response.hasError()) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+
+        return new ResponseEntity<>(response.getPayload(), HttpStatus.OK);
+    }
 }
@@ -25,6 +25,8 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
 @RestController
 @RequiredArgsConstructor
 public class EventController implements EventApi {
@@ -36,4 +38,11 @@ public class EventController implements EventApi {
 
          return ResponseEntity.ok().build();
     }
+
+    @Override
+    public ResponseEntity<Void> recordEvents(List<EventBO> events) {
+        eventService.recordEvents(events);
+
+        return ResponseEntity.ok().build();
+    }
 }
@@ -23,11 +23,15 @@ import de.adorsys.psd2.consent.api.TppApi;
 import de.adorsys.psd2.consent.api.service.TppService;
 import de.adorsys.psd2.consent.api.service.TppStopListService;
 import de.adorsys.psd2.xs2a.core.tpp.TppInfo;
+import de.adorsys.psd2.xs2a.core.tpp.TppStopListRecord;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.Collections;
+import java.util.List;
+
 @RestController
 @RequiredArgsConstructor
 public class TppController implements TppApi {
@@ -45,4 +49,10 @@ public class TppController implements TppApi {
         CmsResponse<Boolean> response = tppStopListService.checkIfTppBlocked(tppAuthorisationNumber, instanceId);
         return new ResponseEntity<>(response.isSuccessful() && response.getPayload(), HttpStatus.OK);
     }
+
+    @Override
+    public ResponseEntity<List<TppStopListRecord>> getBlockedTpps(String instanceId) {
+        CmsResponse<List<TppStopListRecord>> response = tppStopListService.getBlockedTpps(instanceId);
+        return new ResponseEntity<>(response.isSuccessful() ? response.getPayload() : Collections.emptyList(), HttpStatus.OK);
+    }
 }
@@ -22,6 +22,7 @@ import com.fasterxml.jackson.databind.SerializationFeature;
 import de.adorsys.psd2.consent.api.CmsError;
 import de.adorsys.psd2.consent.api.CmsResponse;
 import de.adorsys.psd2.consent.api.WrongChecksumException;
+import de.adorsys.psd2.consent.api.ais.AisConsentAccessResponse;
 import de.adorsys.psd2.consent.api.ais.AisConsentActionRequest;
 import de.adorsys.psd2.consent.api.ais.CmsConsent;
 import de.adorsys.psd2.consent.api.ais.UpdateAisConsentResponse;
@@ -53,6 +54,9 @@ class AisConsentControllerTest {
     private static final String UPDATE_ACCOUNT_ACCESS_ENDPOINT = UriComponentsBuilder.fromPath("/api/v1/ais/consent/{encrypted-consent-id}/access")
                                                                      .buildAndExpand(ENCRYPTED_CONSENT_ID)
                                                                      .toUriString();
+    private static final String GET_CONSENT_ACCESS_ENDPOINT = UriComponentsBuilder.fromPath("/api/v1/ais/consent/{encrypted-consent-id}/access-data")
+                                                                  .buildAndExpand(ENCRYPTED_CONSENT_ID)
+                                                                  .toUriString();
     private static final JsonReader JSON_READER = new JsonReader();
     private static final AisConsentActionRequest AIS_CONSENT_ACTION_REQUEST = JSON_READER.getObjectFromFile("json/controller/ais-consent-action-request.json", AisConsentActionRequest.class);
     private static final AccountAccess ACCOUNT_ACCESS = JSON_READER.getObjectFromFile("json/controller/account-access.json", AccountAccess.class);
@@ -145,6 +149,32 @@ class AisConsentControllerTest {
             .andExpect(content().json(JSON_READER.writeValueAsString(cmsResponse.getError())));
     }
 
+    @Test
+    void getConsentAccess_Success() throws Exception {
+        //Given
+        CmsConsent cmsConsent = JSON_READER.getObjectFromFile("json/controller/cms-consent.json", CmsConsent.class);
+        AisConsentAccessResponse consentAccess = new AisConsentAccessResponse(cmsConsent, "data".getBytes());
+        when(aisConsentServiceEncrypted.getConsentAccess(ENCRYPTED_CONSENT_ID))
+            .thenReturn(CmsResponse.<AisConsentAccessResponse>builder().payload(consentAccess).build());
+        //When
+        mockMvc.perform(MockMvcRequestBuilders.get(GET_CONSENT_ACCESS_ENDPOINT))
+            //Then
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(content().json(JSON_READER.writeValueAsString(consentAccess)));
+    }
+
+    @Test
+    void getConsentAccess_NotFound() throws Exception {
+        //Given
+        when(aisConsentServiceEncrypted.getConsentAccess(ENCRYPTED_CONSENT_ID))
+            .thenReturn(CmsResponse.<AisConsentAccessResponse>builder().error(CmsError.LOGICAL_ERROR).build());
+        //When
+        mockMvc.perform(MockMvcRequestBuilders.get(GET_CONSENT_ACCESS_ENDPOINT))
+            //Then
+            .andExpect(status().isNotFound());
+    }
+
     private Xs2aObjectMapper getXs2aObjectMapper() {
         Xs2aObjectMapper xs2aObjectMapper = new Xs2aObjectMapper();
         xs2aObjectMapper.findAndRegisterModules();
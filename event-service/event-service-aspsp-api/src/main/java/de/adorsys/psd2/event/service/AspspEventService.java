@@ -21,6 +21,7 @@ package de.adorsys.psd2.event.service;
 import de.adorsys.psd2.event.core.model.EventOrigin;
 import de.adorsys.psd2.event.core.model.EventType;
 import de.adorsys.psd2.event.service.model.AspspEvent;
+import de.adorsys.psd2.event.service.model.AspspEventRecord;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -91,4 +92,21 @@ public interface AspspEventService {
      */
     List<AspspEvent> getEventsForPeriodAndEventOrigin(@NotNull OffsetDateTime start, @NotNull OffsetDateTime end, @NotNull EventOrigin eventOrigin, @Nullable String instanceId,
                                                       @Nullable Integer pageIndex, @Nullable Integer itemsPerPage);
+
+    /**
+     * Returns next chunk of Event objects, recorded in given time period, for streaming export.
+     * <p>
+     * Events are ordered by their recording in the CMS, so the export can be resumed with the continuation token of the
+     * last received event.
+     *
+     * @param start             First date of the period
+     * @param end               Last date of the period
+     * @param instanceId        The id of particular service instance
+     * @param continuationToken Token of the last exported event, <code>null</code> starts from the beginning
+     * @param chunkSize         Maximum quantity of events in the chunk
+     * @return Events following the continuation token, empty list if there are no more events
+     * @throws IllegalArgumentException if the continuation token is malformed
+     */
+    List<AspspEventRecord> getEventChunkForPeriod(@NotNull OffsetDateTime start, @NotNull OffsetDateTime end, @Nullable String instanceId,
+                                                  @Nullable String continuationToken, int chunkSize);
 }
@@ -24,6 +24,7 @@ import de.adorsys.psd2.event.persist.EventReportRepository;
 import de.adorsys.psd2.event.persist.model.ReportEvent;
 import de.adorsys.psd2.event.service.mapper.AspspEventMapper;
 import de.adorsys.psd2.event.service.model.AspspEvent;
+import de.adorsys.psd2.event.service.model.AspspEventRecord;
 import lombok.RequiredArgsConstructor;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -31,6 +32,7 @@ import org.springframework.stereotype.Service;
 
 import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -72,4 +74,13 @@ public class AspspEventServiceImpl implements AspspEventService {
         List<ReportEvent> result = eventReportRepository.getEventsForPeriodAndEventOrigin(start, end, eventOrigin, instanceId, pageIndex, itemsPerPage);
         return eventBOMapper.toAspspEventList(result);
     }
+
+    @Override
+    public List<AspspEventRecord> getEventChunkForPeriod(@NotNull OffsetDateTime start, @NotNull OffsetDateTime end, @Nullable String instanceId,
+                                                         @Nullable String continuationToken, int chunkSize) {
+        Long lastEventId = EventContinuationToken.decode(continuationToken);
+        return eventReportRepository.getEventsForPeriodAfterId(start, end, instanceId, lastEventId, chunkSize).stream()
+                   .map(event -> new AspspEventRecord(EventContinuationToken.encode(event.getId()), eventBOMapper.toAspspEvent(event)))
+                   .collect(Collectors.toList());
+    }
 }
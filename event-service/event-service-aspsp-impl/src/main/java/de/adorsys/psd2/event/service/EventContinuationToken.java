@@ -0,0 +1,64 @@
+/*
+ * Copyright 2018-2024 adorsys GmbH & Co KG
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ *
+ * This project is also available under a separate commercial license. You can
+ * contact us at sales@adorsys.com.
+ */
+
+package de.adorsys.psd2.event.service;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Encodes the position of the streaming event export into an opaque URL-safe token and back.
+ */
+final class EventContinuationToken {
+    private static final String PREFIX = "event:";
+
+    private EventContinuationToken() {
+    }
+
+    static String encode(@NotNull Long eventId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                   .encodeToString((PREFIX + eventId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes the ID of the last exported event from the token
+     *
+     * @param continuationToken token, previously returned by {@link #encode(Long)}
+     * @return ID of the last exported event, <code>null</code> if no token was given
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    static @Nullable Long decode(@Nullable String continuationToken) {
+        if (continuationToken == null || continuationToken.isBlank()) {
+            return null;
+        }
+
+        String decoded = new String(Base64.getUrlDecoder().decode(continuationToken), StandardCharsets.UTF_8);
+        if (!decoded.startsWith(PREFIX)) {
+            throw new IllegalArgumentException("Continuation token is not issued by the event export");
+        }
+
+        try {
+            return Long.valueOf(decoded.substring(PREFIX.length()));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Continuation token is malformed", e);
+        }
+    }
+}
@@ -21,7 +21,10 @@ package de.adorsys.psd2.event.service;
 import de.adorsys.psd2.event.core.model.EventOrigin;
 import de.adorsys.psd2.event.core.model.EventType;
 import de.adorsys.psd2.event.persist.EventReportRepository;
+import de.adorsys.psd2.event.persist.model.ReportEvent;
 import de.adorsys.psd2.event.service.mapper.AspspEventMapper;
+import de.adorsys.psd2.event.service.model.AspspEvent;
+import de.adorsys.psd2.event.service.model.AspspEventRecord;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mapstruct.factory.Mappers;
@@ -32,7 +35,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.OffsetDateTime;
 import java.util.Collections;
+import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -42,6 +47,8 @@ class AspspEventServiceImplTest {
     private static final String INSTANCE_ID = "3de76f19-1df7-44d8-b760-ca972d2f945c";
     private static final String CONSENT_ID = "fa6e687b-1ac9-4b1a-9c74-357c35c82ba1";
     private static final String PAYMENT_ID = "j-t4XyLJTzQkonfSTnyxIMc";
+    private static final Long EVENT_ID = 42L;
+    private static final int CHUNK_SIZE = 100;
 
     @InjectMocks
     private AspspEventServiceImpl aspspEventService;
@@ -95,4 +102,32 @@ class AspspEventServiceImplTest {
 
         verify(eventReportRepository, times(1)).getEventsForPeriodAndEventType(START, END, EventType.CREATE_AIS_CONSENT_REQUEST_RECEIVED, INSTANCE_ID, null, null);
     }
+
+    @Test
+    void getEventChunkForPeriod_continuationTokenPointsToLastEvent() {
+        ReportEvent reportEvent = new ReportEvent();
+        reportEvent.setId(EVENT_ID);
+        AspspEvent aspspEvent = AspspEvent.builder().consentId(CONSENT_ID).build();
+        when(eventReportRepository.getEventsForPeriodAfterId(START, END, INSTANCE_ID, null, CHUNK_SIZE)).thenReturn(List.of(reportEvent));
+        doReturn(aspspEvent).when(mapper).toAspspEvent(reportEvent);
+
+        List<AspspEventRecord> firstChunk = aspspEventService.getEventChunkForPeriod(START, END, INSTANCE_ID, null, CHUNK_SIZE);
+
+        assertEquals(1, firstChunk.size());
+        assertEquals(aspspEvent, firstChunk.get(0).getData());
+
+        when(eventReportRepository.getEventsForPeriodAfterId(START, END, INSTANCE_ID, EVENT_ID, CHUNK_SIZE)).thenReturn(Collections.emptyList());
+
+        List<AspspEventRecord> secondChunk = aspspEventService.getEventChunkForPeriod(START, END, INSTANCE_ID, firstChunk.get(0).getContinuationToken(), CHUNK_SIZE);
+
+        assertTrue(secondChunk.isEmpty());
+    }
+
+    @Test
+    void getEventChunkForPeriod_malformedContinuationToken() {
+        assertThrows(IllegalArgumentException.class,
+                     () -> aspspEventService.getEventChunkForPeriod(START, END, INSTANCE_ID, "not a token", CHUNK_SIZE));
+
+        verifyNoInteractions(eventReportRepository);
+    }
 }
@@ -34,6 +34,12 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.JoinType;
+import javax.persistence.criteria.Root;
 import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -42,11 +48,18 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class EventReportRepositoryImpl implements EventReportRepository {
+    private static final String ID_ATTRIBUTE = "id";
+    private static final String CONSENT_ATTRIBUTE = "consent";
+    private static final String PAYMENT_ATTRIBUTE = "payment";
+
     private final EventReportDBMapper eventReportDBMapper;
     private final EventReportJPARepository eventJpaRepository;
     private final EventSpecification eventSpecification;
     private final EventPageRequestBuilder pageRequestBuilder;
 
+    @PersistenceContext
+    private EntityManager entityManager;
+
     @Override
     public List<ReportEvent> getEventsForPeriod(@NotNull OffsetDateTime start, @NotNull OffsetDateTime end, @Nullable String instanceId,
                                                 @Nullable Integer pageIndex, @Nullable Integer itemsPerPage) {
@@ -96,4 +109,25 @@ public class EventReportRepositoryImpl implements EventReportRepository {
                                             .collect(Collectors.toList());
         return eventReportDBMapper.mapToAspspReportEvents(events);
     }
+
+    @Override
+    public List<ReportEvent> getEventsForPeriodAfterId(@NotNull OffsetDateTime start, @NotNull OffsetDateTime end, @Nullable String instanceId,
+                                                       @Nullable Long lastEventId, int limit) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<EventReportEntity> query = criteriaBuilder.createQuery(EventReportEntity.class);
+        Root<EventReportEntity> root = query.from(EventReportEntity.class);
+        // Consent and payment are to-one associations, so fetching them doesn't multiply rows and the limit stays exact
+        root.fetch(CONSENT_ATTRIBUTE, JoinType.LEFT);
+        root.fetch(PAYMENT_ATTRIBUTE, JoinType.LEFT);
+        query.where(eventSpecification.byPeriodAndInstanceIdAfterId(start, end, instanceId, lastEventId).toPredicate(root, query, criteriaBuilder));
+        // Specification orders events by timestamp, but keyset pagination requires ordering by the key
+        query.orderBy(criteriaBuilder.asc(root.get(ID_ATTRIBUTE)));
+
+        return entityManager.createQuery(query)
+                   .setMaxResults(limit)
+                   .getResultList()
+                   .stream()
+                   .map(eventReportDBMapper::mapToReportEvent)
+                   .collect(Collectors.toList());
+    }
 }
@@ -19,6 +19,7 @@
 package de.adorsys.psd2.report.entity;
 
 import lombok.Data;
+import org.hibernate.annotations.BatchSize;
 
 import javax.persistence.*;
 import java.io.Serializable;
@@ -33,13 +34,14 @@ public class EventConsentEntity implements EventPsuDataList, Serializable {
     @Column(name = "consent_id")
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "consent_generator")
     @SequenceGenerator(name = "consent_generator", sequenceName = "consent_id_seq",
-        allocationSize = 1)
+        allocationSize = 50)
     private Long id;
 
     @Column(name = "external_id", nullable = false)
     private String externalId;
 
     @OneToMany(cascade = CascadeType.ALL)
+    @BatchSize(size = 100)
     @JoinTable(name = "consent_psu_data",
         joinColumns = @JoinColumn(name = "consent_id"),
         inverseJoinColumns = @JoinColumn(name = "psu_data_id"))
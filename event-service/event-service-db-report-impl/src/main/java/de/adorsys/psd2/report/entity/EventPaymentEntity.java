@@ -19,6 +19,7 @@
 package de.adorsys.psd2.report.entity;
 
 import lombok.Data;
+import org.hibernate.annotations.BatchSize;
 
 import javax.persistence.*;
 import java.io.Serializable;
@@ -31,13 +32,14 @@ import java.util.List;
 public class EventPaymentEntity implements EventPsuDataList, Serializable {
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "pis_common_payment_generator")
-    @SequenceGenerator(name = "pis_common_payment_generator", sequenceName = "pis_common_payment_id_seq", allocationSize = 1)
+    @SequenceGenerator(name = "pis_common_payment_generator", sequenceName = "pis_common_payment_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "payment_id", nullable = false)
     private String paymentId;
 
     @OneToMany(cascade = CascadeType.ALL)
+    @BatchSize(size = 100)
     @JoinTable(name = "pis_common_payment_psu_data",
         joinColumns = @JoinColumn(name = "pis_common_payment_id"),
         inverseJoinColumns = @JoinColumn(name = "psu_data_id"))
@@ -38,6 +38,7 @@ import java.util.Optional;
 
 @Service
 public class EventSpecification {
+    private static final String ID_ATTRIBUTE = "id";
     private static final String TIMESTAMP_ATTRIBUTE = "timestamp";
     private static final String INSTANCE_ID_ATTRIBUTE = "instanceId";
     private static final String CONSENT_ID_ATTRIBUTE = "externalId";
@@ -70,6 +71,21 @@ public class EventSpecification {
         };
     }
 
+    public Specification<EventReportEntity> byPeriodAndInstanceIdAfterId(OffsetDateTime start, OffsetDateTime end, String instanceId, Long lastEventId) {
+        return Optional.of(byPeriod(start, end))
+                   .map(s -> s.and(byInstanceId(instanceId)))
+                   .map(s -> s.and(byIdGreaterThan(lastEventId)))
+                   .orElse(null);
+    }
+
+    private Specification<EventReportEntity> byIdGreaterThan(@Nullable Long lastEventId) {
+        if (lastEventId == null) {
+            return null;
+        }
+
+        return (root, query, cb) -> cb.greaterThan(root.get(ID_ATTRIBUTE), lastEventId);
+    }
+
     protected Specification<EventReportEntity> byInstanceId(@Nullable String instanceId) {
         return EventEntityAttributeSpecificationProvider.provideSpecificationForEntityAttribute(INSTANCE_ID_ATTRIBUTE, instanceId);
     }
@@ -87,4 +87,17 @@ public interface EventReportRepository {
      */
     List<ReportEvent> getEventsForPeriodAndEventOrigin(@NotNull OffsetDateTime start, @NotNull OffsetDateTime end, @NotNull EventOrigin eventOrigin, @Nullable String instanceId,
                                                        @Nullable Integer pageIndex, @Nullable Integer itemsPerPage);
+
+    /**
+     * Returns a list of Event objects, recorded in given time period after the event with given ID, ordered by event ID
+     *
+     * @param start       First date of the period
+     * @param end         Last date of the period
+     * @param instanceId  The id of particular service instance
+     * @param lastEventId ID of the last event, returned by the previous call, <code>null</code> to start from the first event
+     * @param limit       Maximum quantity of returned events
+     * @return List of Event objects, recorded in given time period after the event with given ID
+     */
+    List<ReportEvent> getEventsForPeriodAfterId(@NotNull OffsetDateTime start, @NotNull OffsetDateTime end, @Nullable String instanceId,
+                                                @Nullable Long lastEventId, int limit);
 }
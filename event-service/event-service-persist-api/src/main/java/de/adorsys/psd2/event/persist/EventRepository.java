@@ -20,6 +20,9 @@ package de.adorsys.psd2.event.persist;
 
 import de.adorsys.psd2.event.persist.model.EventPO;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
 public interface EventRepository {
 
     /**
@@ -27,4 +30,16 @@ public interface EventRepository {
      * @return identifier of saved event
      */
     Long save(EventPO eventPO);
+
+    /**
+     * Saves several events at once. Implementations should save the events in one batch, if the storage supports it.
+     *
+     * @param eventPOs list of {@link EventPO} objects for saving
+     * @return identifiers of saved events in the same order
+     */
+    default List<Long> saveAll(List<EventPO> eventPOs) {
+        return eventPOs.stream()
+                   .map(this::save)
+                   .collect(Collectors.toList());
+    }
 }
@@ -26,6 +26,9 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -40,4 +43,16 @@ public class EventRepositoryImpl implements EventRepository {
         eventRepository.save(entity);
         return entity.getId();
     }
+
+    @Override
+    @Transactional
+    public List<Long> saveAll(List<EventPO> eventPOs) {
+        List<EventEntity> entities = eventPOs.stream()
+                                         .map(eventDBMapper::toEventEntity)
+                                         .collect(Collectors.toList());
+        eventRepository.saveAll(entities);
+        return entities.stream()
+                   .map(EventEntity::getId)
+                   .collect(Collectors.toList());
+    }
 }
@@ -0,0 +1,355 @@
+/*
+ * Copyright 2018-2024 adorsys GmbH & Co KG
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ *
+ * This project is also available under a separate commercial license. You can
+ * contact us at sales@adorsys.com.
+ */
+
+package de.adorsys.psd2.event.rest.client;
+
+import de.adorsys.psd2.event.service.model.EventBO;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.http.conn.ConnectTimeoutException;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientResponseException;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.ConnectException;
+import java.net.NoRouteToHostException;
+import java.net.SocketTimeoutException;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Sends events to CMS asynchronously in batches via the bulk event endpoint.
+ * <p>
+ * Loss and durability policy:
+ * <ul>
+ *     <li>events are kept in memory only, so buffered events are lost if the application is terminated abnormally;</li>
+ *     <li>when the buffer is full, the oldest buffered event is dropped;</li>
+ *     <li>batch is retried only if the request certainly didn't reach CMS: the connection couldn't be established or
+ *     CMS rejected the request with 408, 429 or 503 status. It is retried up to the maximum amount of retries with
+ *     exponentially growing delay, starting with the flush interval, new events are buffered meanwhile; after that the
+ *     batch is dropped;</li>
+ *     <li>batch is dropped without retries on any other failure, e.g. read timeout or other error status, as CMS might
+ *     have saved it already;</li>
+ *     <li>on shutdown buffered events are sent within the shutdown timeout, the rest is dropped;</li>
+ *     <li>CMS confirms the batch only after it is saved, so confirmed events are not lost.</li>
+ * </ul>
+ * Delivery is at-least-once for retried batches: CMS doesn't deduplicate events, so a batch is saved twice if a proxy
+ * in front of CMS returns 503 after the batch was forwarded. Other batches are delivered at most once.
+ * Dropped events are logged and counted.
+ * <p>
+ * Mapped diagnostic context of the request is captured together with each event. While the batch is sent, the context
+ * of its first event is set on the sender thread, so that the request to CMS and the log lines of the sender carry the
+ * request IDs. Every event contains its own request IDs as well.
+ */
+@Slf4j
+@Component
+public class BufferedEventSender implements SmartLifecycle {
+    private static final String WORKER_THREAD_NAME = "EventService-sender";
+    // Message of SocketTimeoutException, thrown by HttpURLConnection on connect timeout, unlike read timeout
+    private static final String CONNECT_TIMED_OUT_MESSAGE = "connect timed out";
+
+    private final RestTemplate consentRestTemplate;
+    private final EventRemoteUrls eventRemoteUrls;
+    private final boolean enabled;
+    private final BlockingQueue<BufferedEvent> buffer;
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private final int maxRetries;
+    private final long maxRetryDelayMs;
+    private final long shutdownTimeoutMs;
+
+    private final LongAdder bufferedCount = new LongAdder();
+    private final LongAdder sentCount = new LongAdder();
+    private final LongAdder droppedCount = new LongAdder();
+    private final LongAdder failedSendCount = new LongAdder();
+
+    private volatile boolean running;
+    private volatile long stopDeadline;
+    private Thread worker;
+
+    public BufferedEventSender(@Qualifier("consentRestTemplate") RestTemplate consentRestTemplate,
+                               EventRemoteUrls eventRemoteUrls,
+                               @Value("${xs2a.event.rest-client.buffer.enabled:false}") boolean enabled,
+                               @Value("${xs2a.event.rest-client.buffer.capacity:10000}") int capacity,
+                               @Value("${xs2a.event.rest-client.buffer.batch-size:100}") int batchSize,
+                               @Value("${xs2a.event.rest-client.buffer.flush-interval.ms:500}") long flushIntervalMs,
+                               @Value("${xs2a.event.rest-client.buffer.shutdown-timeout.ms:10000}") long shutdownTimeoutMs,
+                               @Value("${xs2a.event.rest-client.buffer.max-retries:5}") int maxRetries,
+                               @Value("${xs2a.event.rest-client.buffer.max-retry-delay.ms:30000}") long maxRetryDelayMs) {
+        this.consentRestTemplate = consentRestTemplate;
+        this.eventRemoteUrls = eventRemoteUrls;
+        this.enabled = enabled;
+        this.buffer = new ArrayBlockingQueue<>(Math.max(capacity, 1));
+        this.batchSize = batchSize;
+        this.flushIntervalMs = flushIntervalMs;
+        this.shutdownTimeoutMs = shutdownTimeoutMs;
+        this.maxRetries = Math.max(maxRetries, 0);
+        this.maxRetryDelayMs = Math.max(maxRetryDelayMs, flushIntervalMs);
+    }
+
+    /**
+     * Puts the event into the buffer
+     *
+     * @param event event to be sent
+     * @return <code>true</code> if the event was buffered, <code>false</code> if buffering is disabled or the sender
+     * isn't running, so that the event should be sent by the caller
+     */
+    public boolean offer(@NotNull EventBO event) {
+        if (!running) {
+            return false;
+        }
+
+        BufferedEvent bufferedEvent = new BufferedEvent(event, MDC.getCopyOfContextMap());
+        while (!buffer.offer(bufferedEvent)) {
+            BufferedEvent dropped = buffer.poll();
+            if (dropped != null) {
+                droppedCount.increment();
+                log.warn("Event buffer is full, event {} of request {} is dropped", dropped.getEvent().getEventType(), dropped.getEvent().getXRequestId());
+            }
+        }
+        bufferedCount.increment();
+        return true;
+    }
+
+    /**
+     * Sends the events to CMS in one request
+     *
+     * @param events events to be sent
+     */
+    public void send(@NotNull List<EventBO> events) {
+        consentRestTemplate.postForEntity(eventRemoteUrls.createEvents(), events, Void.class);
+    }
+
+    @Override
+    public boolean isAutoStartup() {
+        return enabled;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (!enabled || running) {
+            return;
+        }
+        running = true;
+        worker = new Thread(this::processEvents, WORKER_THREAD_NAME);
+        worker.setDaemon(true);
+        worker.start();
+        log.info("Buffered event sender started");
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        stopDeadline = System.currentTimeMillis() + shutdownTimeoutMs;
+        running = false;
+        try {
+            worker.join(shutdownTimeoutMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        int remaining = buffer.size();
+        buffer.clear();
+        if (remaining > 0) {
+            droppedCount.add(remaining);
+            log.warn("{} events couldn't be sent to CMS within shutdown timeout and are lost", remaining);
+        }
+        log.info("Buffered event sender stopped: {}", this);
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    public int getQueueDepth() {
+        return buffer.size();
+    }
+
+    public long getBufferedCount() {
+        return bufferedCount.sum();
+    }
+
+    public long getSentCount() {
+        return sentCount.sum();
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    public long getFailedSendCount() {
+        return failedSendCount.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "BufferedEventSender{queueDepth=" + getQueueDepth() +
+                   ", buffered=" + getBufferedCount() +
+                   ", sent=" + getSentCount() +
+                   ", dropped=" + getDroppedCount() +
+                   ", failedSends=" + getFailedSendCount() + "}";
+    }
+
+    private void processEvents() {
+        List<BufferedEvent> batch = new ArrayList<>(batchSize);
+        while (running || !buffer.isEmpty()) {
+            try {
+                collectBatch(batch);
+                if (!batch.isEmpty()) {
+                    sendBatch(batch);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void collectBatch(List<BufferedEvent> batch) throws InterruptedException {
+        BufferedEvent first = buffer.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+
+        long flushAt = System.currentTimeMillis() + flushIntervalMs;
+        while (batch.size() < batchSize) {
+            buffer.drainTo(batch, batchSize - batch.size());
+            long remainingMs = flushAt - System.currentTimeMillis();
+            if (batch.size() >= batchSize || remainingMs <= 0 || !running) {
+                return;
+            }
+            BufferedEvent next = buffer.poll(remainingMs, TimeUnit.MILLISECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void sendBatch(List<BufferedEvent> batch) throws InterruptedException {
+        List<EventBO> events = batch.stream()
+                                   .map(BufferedEvent::getEvent)
+                                   .collect(Collectors.toList());
+        Map<String, String> contextMap = batch.get(0).getContextMap();
+        if (contextMap != null) {
+            MDC.setContextMap(contextMap);
+        }
+        try {
+            sendWithRetry(events);
+        } finally {
+            MDC.clear();
+        }
+    }
+
+    private void sendWithRetry(List<EventBO> events) throws InterruptedException {
+        long retryDelayMs = flushIntervalMs;
+        for (int attempt = 0; ; attempt++) {
+            try {
+                send(events);
+                sentCount.add(events.size());
+                return;
+            } catch (RestClientResponseException e) {
+                failedSendCount.increment();
+                if (!isRetryable(e)) {
+                    drop(events, "were rejected by CMS with status " + e.getRawStatusCode());
+                    return;
+                }
+                log.warn("Batch of {} events couldn't be sent to CMS: {}", events.size(), e.getMessage());
+            } catch (RuntimeException e) {
+                failedSendCount.increment();
+                if (!isConnectionFailure(e)) {
+                    drop(events, "might have been received by CMS, but weren't confirmed (" + e.getMessage() + "), so aren't retried");
+                    return;
+                }
+                log.warn("Batch of {} events couldn't be sent to CMS: {}", events.size(), e.getMessage());
+            }
+
+            if (attempt >= maxRetries) {
+                drop(events, "couldn't be sent to CMS after " + (attempt + 1) + " attempts");
+                return;
+            }
+            long sleepMs = retryDelayMs;
+            if (!running) {
+                sleepMs = Math.min(sleepMs, stopDeadline - System.currentTimeMillis());
+                if (sleepMs <= 0) {
+                    drop(events, "couldn't be sent to CMS before shutdown");
+                    return;
+                }
+            }
+            TimeUnit.MILLISECONDS.sleep(sleepMs);
+            retryDelayMs = Math.min(retryDelayMs * 2, maxRetryDelayMs);
+        }
+    }
+
+    private boolean isRetryable(RestClientResponseException e) {
+        int status = e.getRawStatusCode();
+        return status == HttpStatus.REQUEST_TIMEOUT.value()
+                   || status == HttpStatus.TOO_MANY_REQUESTS.value()
+                   || status == HttpStatus.SERVICE_UNAVAILABLE.value();
+    }
+
+    private boolean isConnectionFailure(RuntimeException e) {
+        if (!(e instanceof ResourceAccessException)) {
+            return false;
+        }
+        Throwable cause = e.getCause();
+        return cause instanceof ConnectException
+                   || cause instanceof NoRouteToHostException
+                   || cause instanceof UnknownHostException
+                   || cause instanceof ConnectTimeoutException
+                   || cause instanceof SocketTimeoutException && CONNECT_TIMED_OUT_MESSAGE.equals(cause.getMessage());
+    }
+
+    private void drop(List<EventBO> events, String reason) {
+        droppedCount.add(events.size());
+        List<UUID> requestIds = events.stream()
+                                      .map(EventBO::getXRequestId)
+                                      .distinct()
+                                      .collect(Collectors.toList());
+        log.warn("{} events of requests {} {} and are lost", events.size(), requestIds, reason);
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class BufferedEvent {
+        private final EventBO event;
+        private final Map<String, String> contextMap;
+    }
+}
@@ -27,6 +27,8 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.List;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -34,10 +36,21 @@ public class EventServiceRestClientImpl implements Xs2aEventServiceEncrypted {
     @Qualifier("consentRestTemplate")
     private final RestTemplate consentRestTemplate;
     private final EventRemoteUrls eventRemoteUrls;
+    private final BufferedEventSender bufferedEventSender;
 
     @Override
     public void recordEvent(@NotNull EventBO event) {
+        if (bufferedEventSender.offer(event)) {
+            return;
+        }
+
         log.info("Event recording...");
         consentRestTemplate.postForEntity(eventRemoteUrls.createEvent(), event, Void.class);
     }
+
+    @Override
+    public void recordEvents(@NotNull List<EventBO> events) {
+        log.info("Recording of {} events...", events.size());
+        bufferedEventSender.send(events);
+    }
 }
@@ -0,0 +1,246 @@
+/*
+ * Copyright 2018-2024 adorsys GmbH & Co KG
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ *
+ * This project is also available under a separate commercial license. You can
+ * contact us at sales@adorsys.com.
+ */
+
+package de.adorsys.psd2.event.rest.client;
+
+import de.adorsys.psd2.event.service.model.EventBO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.MDC;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BufferedEventSenderTest {
+    private static final String BULK_URL = "bulk-url";
+    private static final long TIMEOUT_MS = 2000;
+    private static final String X_REQUEST_ID_KEY = "x-request-id";
+    private static final String X_REQUEST_ID = "0d7f200e-09b4-46f5-85bd-f4ea89fccace";
+
+    @Mock
+    private RestTemplate consentRestTemplate;
+    @Mock
+    private EventRemoteUrls eventRemoteUrls;
+
+    private BufferedEventSender sender;
+
+    @AfterEach
+    void tearDown() {
+        if (sender != null) {
+            sender.stop();
+        }
+    }
+
+    @Test
+    void offer_disabled() {
+        sender = buildSender(false, 10);
+        sender.start();
+
+        assertFalse(sender.isRunning());
+        assertFalse(sender.offer(EventBO.builder().build()));
+    }
+
+    @Test
+    void offer_sendsBatches() {
+        sender = buildSender(true, 10);
+        when(eventRemoteUrls.createEvents()).thenReturn(BULK_URL);
+        when(consentRestTemplate.postForEntity(eq(BULK_URL), anyList(), eq(Void.class))).thenReturn(ResponseEntity.ok().build());
+        sender.start();
+
+        for (int i = 0; i < 7; i++) {
+            assertTrue(sender.offer(EventBO.builder().build()));
+        }
+        sender.stop();
+
+        verify(consentRestTemplate, atLeast(2)).postForEntity(eq(BULK_URL), argThat(events -> ((List<?>) events).size() <= 5), eq(Void.class));
+        assertEquals(7, sender.getSentCount());
+        assertEquals(0, sender.getDroppedCount());
+    }
+
+    @Test
+    void offer_sendFailed_retried() {
+        sender = buildSender(true, 10);
+        when(eventRemoteUrls.createEvents()).thenReturn(BULK_URL);
+        when(consentRestTemplate.postForEntity(eq(BULK_URL), anyList(), eq(Void.class)))
+            .thenThrow(new ResourceAccessException("CMS unavailable", new ConnectException("Connection refused")))
+            .thenReturn(ResponseEntity.ok().build());
+        sender.start();
+
+        sender.offer(EventBO.builder().build());
+
+        verify(consentRestTemplate, timeout(TIMEOUT_MS).times(2)).postForEntity(eq(BULK_URL), anyList(), eq(Void.class));
+        assertEquals(1, sender.getFailedSendCount());
+    }
+
+    @Test
+    void offer_sendFailed_retriesBounded() {
+        sender = buildSender(true, 10);
+        when(eventRemoteUrls.createEvents()).thenReturn(BULK_URL);
+        when(consentRestTemplate.postForEntity(eq(BULK_URL), anyList(), eq(Void.class))).thenThrow(new ResourceAccessException("CMS unavailable", new ConnectException("Connection refused")));
+        sender.start();
+
+        sender.offer(EventBO.builder().build());
+
+        verify(consentRestTemplate, timeout(TIMEOUT_MS).times(3)).postForEntity(eq(BULK_URL), anyList(), eq(Void.class));
+        verify(consentRestTemplate, after(500).times(3)).postForEntity(eq(BULK_URL), anyList(), eq(Void.class));
+        assertEquals(3, sender.getFailedSendCount());
+        assertEquals(1, sender.getDroppedCount());
+        assertEquals(0, sender.getSentCount());
+    }
+
+    @Test
+    void offer_rejectedByCms_droppedWithoutRetry() {
+        sender = buildSender(true, 10);
+        when(eventRemoteUrls.createEvents()).thenReturn(BULK_URL);
+        when(consentRestTemplate.postForEntity(eq(BULK_URL), anyList(), eq(Void.class)))
+            .thenThrow(new HttpClientErrorException(HttpStatus.BAD_REQUEST))
+            .thenReturn(ResponseEntity.ok().build());
+        sender.start();
+
+        sender.offer(EventBO.builder().build());
+        verify(consentRestTemplate, timeout(TIMEOUT_MS)).postForEntity(eq(BULK_URL), anyList(), eq(Void.class));
+        sender.offer(EventBO.builder().build());
+        sender.stop();
+
+        verify(consentRestTemplate, times(2)).postForEntity(eq(BULK_URL), anyList(), eq(Void.class));
+        assertEquals(1, sender.getDroppedCount());
+        assertEquals(1, sender.getSentCount());
+    }
+
+    @Test
+    void offer_serviceUnavailable_retried() {
+        sender = buildSender(true, 10);
+        when(eventRemoteUrls.createEvents()).thenReturn(BULK_URL);
+        when(consentRestTemplate.postForEntity(eq(BULK_URL), anyList(), eq(Void.class)))
+            .thenThrow(new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE))
+            .thenReturn(ResponseEntity.ok().build());
+        sender.start();
+
+        sender.offer(EventBO.builder().build());
+
+        verify(consentRestTemplate, timeout(TIMEOUT_MS).times(2)).postForEntity(eq(BULK_URL), anyList(), eq(Void.class));
+        assertEquals(1, sender.getFailedSendCount());
+    }
+
+    @Test
+    void offer_serverError_droppedWithoutRetry() {
+        sender = buildSender(true, 10);
+        when(eventRemoteUrls.createEvents()).thenReturn(BULK_URL);
+        when(consentRestTemplate.postForEntity(eq(BULK_URL), anyList(), eq(Void.class)))
+            .thenThrow(new HttpServerErrorException(HttpStatus.INTERNAL_SERVER_ERROR));
+        sender.start();
+
+        sender.offer(EventBO.builder().build());
+        sender.stop();
+
+        verify(consentRestTemplate, times(1)).postForEntity(eq(BULK_URL), anyList(), eq(Void.class));
+        assertEquals(1, sender.getDroppedCount());
+    }
+
+    @Test
+    void offer_readTimeout_droppedWithoutRetry() {
+        sender = buildSender(true, 10);
+        when(eventRemoteUrls.createEvents()).thenReturn(BULK_URL);
+        when(consentRestTemplate.postForEntity(eq(BULK_URL), anyList(), eq(Void.class)))
+            .thenThrow(new ResourceAccessException("I/O error", new SocketTimeoutException("Read timed out")));
+        sender.start();
+
+        sender.offer(EventBO.builder().build());
+        sender.stop();
+
+        verify(consentRestTemplate, times(1)).postForEntity(eq(BULK_URL), anyList(), eq(Void.class));
+        assertEquals(1, sender.getFailedSendCount());
+        assertEquals(1, sender.getDroppedCount());
+        assertEquals(0, sender.getSentCount());
+    }
+
+    @Test
+    void offer_errorMappedByErrorHandler_droppedWithoutRetry() {
+        sender = buildSender(true, 10);
+        when(eventRemoteUrls.createEvents()).thenReturn(BULK_URL);
+        when(consentRestTemplate.postForEntity(eq(BULK_URL), anyList(), eq(Void.class)))
+            .thenThrow(new IllegalStateException("CMS error"));
+        sender.start();
+
+        sender.offer(EventBO.builder().build());
+        sender.stop();
+
+        verify(consentRestTemplate, times(1)).postForEntity(eq(BULK_URL), anyList(), eq(Void.class));
+        assertEquals(1, sender.getDroppedCount());
+    }
+
+    @Test
+    void offer_sentWithRequestContext() {
+        sender = buildSender(true, 10);
+        AtomicReference<String> sentRequestId = new AtomicReference<>();
+        when(eventRemoteUrls.createEvents()).thenReturn(BULK_URL);
+        when(consentRestTemplate.postForEntity(eq(BULK_URL), anyList(), eq(Void.class))).thenAnswer(invocation -> {
+            sentRequestId.set(MDC.get(X_REQUEST_ID_KEY));
+            return ResponseEntity.ok().build();
+        });
+        sender.start();
+
+        MDC.put(X_REQUEST_ID_KEY, X_REQUEST_ID);
+        try {
+            sender.offer(EventBO.builder().build());
+        } finally {
+            MDC.clear();
+        }
+        sender.stop();
+
+        assertEquals(X_REQUEST_ID, sentRequestId.get());
+        assertEquals(1, sender.getSentCount());
+    }
+
+    @Test
+    void offer_bufferFull_oldestDropped() {
+        sender = buildSender(true, 2);
+        when(eventRemoteUrls.createEvents()).thenReturn(BULK_URL);
+        when(consentRestTemplate.postForEntity(eq(BULK_URL), anyList(), eq(Void.class))).thenThrow(new ResourceAccessException("CMS unavailable", new ConnectException("Connection refused")));
+        sender.start();
+        sender.offer(EventBO.builder().build());
+        verify(consentRestTemplate, timeout(TIMEOUT_MS)).postForEntity(eq(BULK_URL), anyList(), eq(Void.class));
+
+        for (int i = 0; i < 4; i++) {
+            sender.offer(EventBO.builder().build());
+        }
+
+        assertEquals(2, sender.getQueueDepth());
+        assertEquals(2, sender.getDroppedCount());
+    }
+
+    private BufferedEventSender buildSender(boolean enabled, int capacity) {
+        return new BufferedEventSender(consentRestTemplate, eventRemoteUrls, enabled, capacity, 5, 50, 200, 2, 100);
+    }
+}
@@ -37,4 +37,9 @@ class EventRemoteUrlsTest {
     void createEvent() {
         assertEquals("base.url/events/", eventRemoteUrls.createEvent());
     }
+
+    @Test
+    void createEvents() {
+        assertEquals("base.url/events/bulk", eventRemoteUrls.createEvents());
+    }
 }
@@ -27,6 +27,12 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.Collections;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -41,6 +47,8 @@ class EventServiceRestClientImplTest {
     @Mock
     private EventRemoteUrls eventRemoteUrls;
     @Mock
+    private BufferedEventSender bufferedEventSender;
+    @Mock
     private ResponseEntity<Void> responseEntity;
 
     @Test
@@ -55,4 +63,23 @@ class EventServiceRestClientImplTest {
         verify(eventRemoteUrls, times(1)).createEvent();
         verify(consentRestTemplate, times(1)).postForEntity(CREATE_URL, event, Void.class);
     }
+
+    @Test
+    void recordEvent_buffered() {
+        EventBO event = EventBO.builder().build();
+        when(bufferedEventSender.offer(event)).thenReturn(true);
+
+        eventServiceRestClient.recordEvent(event);
+
+        verify(consentRestTemplate, never()).postForEntity(anyString(), any(), eq(Void.class));
+    }
+
+    @Test
+    void recordEvents() {
+        List<EventBO> events = Collections.singletonList(EventBO.builder().build());
+
+        eventServiceRestClient.recordEvents(events);
+
+        verify(bufferedEventSender, times(1)).send(events);
+    }
 }
@@ -21,6 +21,8 @@ package de.adorsys.psd2.event.service;
 import de.adorsys.psd2.event.service.model.EventBO;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.List;
+
 public interface Xs2aEventServiceBase {
     /**
      * Records new Event in the CMS
@@ -28,4 +30,13 @@ public interface Xs2aEventServiceBase {
      * @param event Event to be recorded
      */
     void recordEvent(@NotNull EventBO event);
+
+    /**
+     * Records several Events in the CMS at once
+     *
+     * @param events Events to be recorded
+     */
+    default void recordEvents(@NotNull List<EventBO> events) {
+        events.forEach(this::recordEvent);
+    }
 }
@@ -1,45 +0,0 @@
-/*
- * Copyright 2018-2024 adorsys GmbH & Co KG
- *
- * This program is free software: you can redistribute it and/or modify it
- * under the terms of the GNU Affero General Public License as published
- * by the Free Software Foundation, either version 3 of the License, or (at
- * your option) any later version. This program is distributed in the hope that
- * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
- * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
- * See the GNU Affero General Public License for more details.
- *
- * You should have received a copy of the GNU Affero General Public License
- * along with this program. If not, see https://www.gnu.org/licenses/.
- *
- * This project is also available under a separate commercial license. You can
- * contact us at sales@adorsys.com.
- */
-
-package de.adorsys.psd2.event.service;
-
-import de.adorsys.psd2.event.persist.EventRepository;
-import de.adorsys.psd2.event.persist.model.EventPO;
-import de.adorsys.psd2.event.service.mapper.Xs2aEventBOMapper;
-import de.adorsys.psd2.event.service.model.EventBO;
-import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
-import org.jetbrains.annotations.NotNull;
-import org.springframework.scheduling.annotation.Async;
-import org.springframework.stereotype.Service;
-
-@Slf4j
-@Service
-@RequiredArgsConstructor
-public class Xs2aEventAsyncServiceImpl {
-
-    private final EventRepository eventRepository;
-    private final Xs2aEventBOMapper eventBOMapper;
-
-    @Async("threadPoolTaskExecutor")
-    public void recordEventAsync(@NotNull EventBO eventBO) {
-        EventPO eventPO = eventBOMapper.toEventPO(eventBO);
-        eventRepository.save(eventPO);
-    }
-
-}
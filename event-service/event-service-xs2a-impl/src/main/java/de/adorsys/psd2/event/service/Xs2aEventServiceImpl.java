@@ -19,17 +19,30 @@
 package de.adorsys.psd2.event.service;
 
 import de.adorsys.psd2.event.service.model.EventBO;
+import de.adorsys.psd2.event.service.pipeline.EventRecordingPipeline;
 import lombok.RequiredArgsConstructor;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 public class Xs2aEventServiceImpl implements Xs2aEventService {
-    private final Xs2aEventAsyncServiceImpl xs2aEventAsyncService;
+    private final EventRecordingPipeline eventRecordingPipeline;
 
     @Override
     public void recordEvent(@NotNull EventBO eventBO) {
-        xs2aEventAsyncService.recordEventAsync(eventBO);
+        eventRecordingPipeline.record(eventBO);
+    }
+
+    /**
+     * Saves the events right away in one batch, bypassing the buffer, so that the caller knows that they are stored
+     *
+     * @param events events to be recorded
+     */
+    @Override
+    public void recordEvents(@NotNull List<EventBO> events) {
+        eventRecordingPipeline.saveNow(events);
     }
 }
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2018-2024 adorsys GmbH & Co KG
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ *
+ * This project is also available under a separate commercial license. You can
+ * contact us at sales@adorsys.com.
+ */
+
+package de.adorsys.psd2.event.service.pipeline;
+
+/**
+ * Defines what happens with the new event, when the buffer of {@link EventRecordingPipeline} is full
+ */
+public enum EventOverflowPolicy {
+    /**
+     * Recording thread waits for the free space in the buffer up to the configured timeout, after that the event is dropped
+     */
+    BLOCK,
+    /**
+     * The event is saved right away by the recording thread, so no events are lost when the buffer is full
+     */
+    CALLER_RUNS,
+    /**
+     * The oldest event in the buffer is dropped to free the space for the new one
+     */
+    DROP_OLDEST,
+    /**
+     * The event is appended to the local spill file and is saved later, when the buffer is drained
+     */
+    SPILL
+}
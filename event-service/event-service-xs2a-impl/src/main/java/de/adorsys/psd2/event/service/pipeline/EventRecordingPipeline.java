@@ -0,0 +1,388 @@
+/*
+ * Copyright 2018-2024 adorsys GmbH & Co KG
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ *
+ * This project is also available under a separate commercial license. You can
+ * contact us at sales@adorsys.com.
+ */
+
+package de.adorsys.psd2.event.service.pipeline;
+
+import de.adorsys.psd2.event.persist.EventRepository;
+import de.adorsys.psd2.event.persist.model.EventPO;
+import de.adorsys.psd2.event.service.mapper.Xs2aEventBOMapper;
+import de.adorsys.psd2.event.service.model.EventBO;
+import de.adorsys.psd2.mapper.Xs2aObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Records events asynchronously in batches.
+ * <p>
+ * Events are put into a bounded ring buffer and are saved by a single worker thread in batches, that are flushed when
+ * the batch size is reached or when the flush interval since the first event of the batch is elapsed. When the buffer
+ * is full, the event is handled according to the configured {@link EventOverflowPolicy}. On shutdown the buffer is
+ * drained within the shutdown timeout, events left after that are spilled (with {@link EventOverflowPolicy#SPILL}) or
+ * lost.
+ */
+@Slf4j
+@Component
+public class EventRecordingPipeline implements SmartLifecycle {
+    private static final String WORKER_THREAD_NAME = "EventService-pipeline";
+
+    private final EventRepository eventRepository;
+    private final Xs2aEventBOMapper eventBOMapper;
+    private final BlockingQueue<QueuedEvent> buffer;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final long blockTimeoutMs;
+    private final long shutdownTimeoutMs;
+    private final EventOverflowPolicy overflowPolicy;
+    private final EventSpillFile spillFile;
+
+    private final LongAdder recordedCount = new LongAdder();
+    private final LongAdder savedCount = new LongAdder();
+    private final LongAdder droppedCount = new LongAdder();
+    private final LongAdder spilledCount = new LongAdder();
+    private final LongAdder failedCount = new LongAdder();
+    private final LongAdder batchCount = new LongAdder();
+    private final LongAdder totalLatencyMs = new LongAdder();
+    private final LongAccumulator maxLatencyMs = new LongAccumulator(Long::max, 0);
+    private final LongAccumulator maxBatchSize = new LongAccumulator(Long::max, 0);
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public EventRecordingPipeline(EventRepository eventRepository,
+                                  Xs2aEventBOMapper eventBOMapper,
+                                  Xs2aObjectMapper xs2aObjectMapper,
+                                  @Value("${xs2a.event.pipeline.capacity:10000}") int capacity,
+                                  @Value("${xs2a.event.pipeline.batch-size:100}") int batchSize,
+                                  @Value("${xs2a.event.pipeline.flush-interval.ms:200}") long flushIntervalMs,
+                                  @Value("${xs2a.event.pipeline.overflow-policy:CALLER_RUNS}") EventOverflowPolicy overflowPolicy,
+                                  @Value("${xs2a.event.pipeline.block-timeout.ms:50}") long blockTimeoutMs,
+                                  @Value("${xs2a.event.pipeline.spill-file:${java.io.tmpdir}/xs2a-events.spill}") String spillFilePath,
+                                  @Value("${xs2a.event.pipeline.shutdown-timeout.ms:10000}") long shutdownTimeoutMs) {
+        this.eventRepository = eventRepository;
+        this.eventBOMapper = eventBOMapper;
+        this.buffer = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+        this.overflowPolicy = overflowPolicy;
+        this.blockTimeoutMs = blockTimeoutMs;
+        this.shutdownTimeoutMs = shutdownTimeoutMs;
+        this.spillFile = overflowPolicy == EventOverflowPolicy.SPILL
+                             ? new EventSpillFile(Paths.get(spillFilePath), xs2aObjectMapper)
+                             : null;
+    }
+
+    /**
+     * Puts the event into the buffer. If the pipeline isn't running, the event is saved right away.
+     *
+     * @param eventBO event to be recorded
+     */
+    public void record(@NotNull EventBO eventBO) {
+        recordedCount.increment();
+        QueuedEvent queuedEvent = new QueuedEvent(eventBO, System.nanoTime());
+
+        if (!running) {
+            save(Collections.singletonList(queuedEvent));
+            return;
+        }
+        if (buffer.offer(queuedEvent)) {
+            return;
+        }
+
+        switch (overflowPolicy) {
+            case BLOCK:
+                offerBlocking(queuedEvent);
+                break;
+            case CALLER_RUNS:
+                save(Collections.singletonList(queuedEvent));
+                break;
+            case SPILL:
+                spill(Collections.singletonList(queuedEvent));
+                break;
+            case DROP_OLDEST:
+            default:
+                offerDroppingOldest(queuedEvent);
+        }
+    }
+
+    /**
+     * Saves the events right away in one batch, bypassing the buffer
+     *
+     * @param eventBOs events to be saved
+     * @throws RuntimeException if the events couldn't be saved
+     */
+    public void saveNow(@NotNull List<EventBO> eventBOs) {
+        if (eventBOs.isEmpty()) {
+            return;
+        }
+        recordedCount.add(eventBOs.size());
+        List<EventPO> eventPOs = eventBOs.stream()
+                                     .map(eventBOMapper::toEventPO)
+                                     .collect(Collectors.toList());
+        try {
+            eventRepository.saveAll(eventPOs);
+        } catch (RuntimeException e) {
+            failedCount.add(eventPOs.size());
+            throw e;
+        }
+        savedCount.add(eventPOs.size());
+        batchCount.increment();
+        maxBatchSize.accumulate(eventPOs.size());
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        worker = new Thread(this::processEvents, WORKER_THREAD_NAME);
+        worker.setDaemon(true);
+        worker.start();
+        log.info("Event recording pipeline started with overflow policy {}", overflowPolicy);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        try {
+            worker.join(shutdownTimeoutMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        List<QueuedEvent> remaining = new ArrayList<>();
+        buffer.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            if (spillFile != null) {
+                spill(remaining);
+            } else {
+                droppedCount.add(remaining.size());
+                log.warn("{} events couldn't be saved within shutdown timeout and are lost", remaining.size());
+            }
+        }
+        log.info("Event recording pipeline stopped: {}", this);
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    public int getQueueDepth() {
+        return buffer.size();
+    }
+
+    public long getRecordedCount() {
+        return recordedCount.sum();
+    }
+
+    public long getSavedCount() {
+        return savedCount.sum();
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    public long getSpilledCount() {
+        return spilledCount.sum();
+    }
+
+    public long getFailedCount() {
+        return failedCount.sum();
+    }
+
+    public long getBatchCount() {
+        return batchCount.sum();
+    }
+
+    public long getMaxBatchSize() {
+        return maxBatchSize.get();
+    }
+
+    public double getAverageBatchSize() {
+        long batches = getBatchCount();
+        return batches == 0 ? 0 : (double) getSavedCount() / batches;
+    }
+
+    public long getMaxLatencyMs() {
+        return maxLatencyMs.get();
+    }
+
+    public double getAverageLatencyMs() {
+        long saved = getSavedCount();
+        return saved == 0 ? 0 : (double) totalLatencyMs.sum() / saved;
+    }
+
+    @Override
+    public String toString() {
+        return "EventRecordingPipeline{queueDepth=" + getQueueDepth() +
+                   ", recorded=" + getRecordedCount() +
+                   ", saved=" + getSavedCount() +
+                   ", dropped=" + getDroppedCount() +
+                   ", spilled=" + getSpilledCount() +
+                   ", failed=" + getFailedCount() +
+                   ", batches=" + getBatchCount() +
+                   ", maxBatchSize=" + getMaxBatchSize() +
+                   ", averageLatencyMs=" + getAverageLatencyMs() +
+                   ", maxLatencyMs=" + getMaxLatencyMs() + "}";
+    }
+
+    private void processEvents() {
+        List<QueuedEvent> batch = new ArrayList<>(batchSize);
+        while (running || !buffer.isEmpty()) {
+            try {
+                collectBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            try {
+                if (batch.isEmpty()) {
+                    replaySpilledEvents();
+                } else {
+                    save(batch);
+                }
+            } catch (RuntimeException e) {
+                log.error("Events couldn't be processed: {}", e.getMessage());
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void collectBatch(List<QueuedEvent> batch) throws InterruptedException {
+        QueuedEvent first = buffer.poll(flushIntervalNanos, TimeUnit.NANOSECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+
+        long flushAt = System.nanoTime() + flushIntervalNanos;
+        while (batch.size() < batchSize) {
+            buffer.drainTo(batch, batchSize - batch.size());
+            long remainingNanos = flushAt - System.nanoTime();
+            if (batch.size() >= batchSize || remainingNanos <= 0) {
+                return;
+            }
+            QueuedEvent next = buffer.poll(remainingNanos, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void save(List<QueuedEvent> batch) {
+        List<EventPO> eventPOs = toEventPOs(batch);
+        try {
+            eventRepository.saveAll(eventPOs);
+        } catch (RuntimeException e) {
+            failedCount.add(batch.size());
+            log.error("Batch of {} events couldn't be saved: {}", batch.size(), e.getMessage());
+            if (spillFile != null && spillFile.append(eventPOs)) {
+                spilledCount.add(eventPOs.size());
+            }
+            return;
+        }
+
+        savedCount.add(batch.size());
+        batchCount.increment();
+        maxBatchSize.accumulate(batch.size());
+        long now = System.nanoTime();
+        for (QueuedEvent queuedEvent : batch) {
+            long latencyMs = TimeUnit.NANOSECONDS.toMillis(now - queuedEvent.enqueuedAtNanos);
+            totalLatencyMs.add(latencyMs);
+            maxLatencyMs.accumulate(latencyMs);
+        }
+    }
+
+    private void replaySpilledEvents() {
+        if (spillFile == null || !running || !spillFile.hasEvents()) {
+            return;
+        }
+        int replayed = spillFile.replay(batchSize, eventRepository::saveAll);
+        if (replayed > 0) {
+            log.info("{} spilled events were saved", replayed);
+        }
+    }
+
+    private void offerBlocking(QueuedEvent queuedEvent) {
+        try {
+            if (buffer.offer(queuedEvent, blockTimeoutMs, TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        droppedCount.increment();
+        log.warn("Event buffer is full, event {} of request {} is dropped", queuedEvent.eventBO.getEventType(), queuedEvent.eventBO.getXRequestId());
+    }
+
+    private void offerDroppingOldest(QueuedEvent queuedEvent) {
+        while (!buffer.offer(queuedEvent)) {
+            QueuedEvent dropped = buffer.poll();
+            if (dropped != null) {
+                droppedCount.increment();
+                log.warn("Event buffer is full, event {} of request {} is dropped", dropped.eventBO.getEventType(), dropped.eventBO.getXRequestId());
+            }
+        }
+    }
+
+    private void spill(List<QueuedEvent> queuedEvents) {
+        if (spillFile.append(toEventPOs(queuedEvents))) {
+            spilledCount.add(queuedEvents.size());
+        } else {
+            droppedCount.add(queuedEvents.size());
+        }
+    }
+
+    private List<EventPO> toEventPOs(List<QueuedEvent> queuedEvents) {
+        return queuedEvents.stream()
+                   .map(e -> eventBOMapper.toEventPO(e.eventBO))
+                   .collect(Collectors.toList());
+    }
+
+    private static final class QueuedEvent {
+        private final EventBO eventBO;
+        private final long enqueuedAtNanos;
+
+        private QueuedEvent(EventBO eventBO, long enqueuedAtNanos) {
+            this.eventBO = eventBO;
+            this.enqueuedAtNanos = enqueuedAtNanos;
+        }
+    }
+}
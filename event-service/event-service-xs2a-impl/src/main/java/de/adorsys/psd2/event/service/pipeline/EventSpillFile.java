@@ -0,0 +1,184 @@
+/*
+ * Copyright 2018-2024 adorsys GmbH & Co KG
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ *
+ * This project is also available under a separate commercial license. You can
+ * contact us at sales@adorsys.com.
+ */
+
+package de.adorsys.psd2.event.service.pipeline;
+
+import de.adorsys.psd2.event.persist.model.EventPO;
+import de.adorsys.psd2.mapper.Xs2aObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Local file for events, that couldn't be put into the buffer of {@link EventRecordingPipeline} or couldn't be saved.
+ * <p>
+ * Events are stored as JSON lines. On replay the file is moved aside first, so that new events can be spilled while
+ * the old ones are being saved. Events, that couldn't be saved during the replay, are kept for the next one.
+ */
+@Slf4j
+public class EventSpillFile {
+    private static final String REPLAY_SUFFIX = ".replay";
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private final Path spillPath;
+    private final Path replayPath;
+    private final Xs2aObjectMapper xs2aObjectMapper;
+    private final Object lock = new Object();
+
+    public EventSpillFile(Path spillPath, Xs2aObjectMapper xs2aObjectMapper) {
+        this.spillPath = spillPath;
+        this.replayPath = spillPath.resolveSibling(spillPath.getFileName() + REPLAY_SUFFIX);
+        this.xs2aObjectMapper = xs2aObjectMapper;
+    }
+
+    /**
+     * Appends events to the spill file
+     *
+     * @param events events to be stored
+     * @return <code>true</code> if the events were written, <code>false</code> otherwise
+     */
+    public boolean append(List<EventPO> events) {
+        synchronized (lock) {
+            try (BufferedWriter writer = Files.newBufferedWriter(spillPath, StandardCharsets.UTF_8,
+                                                                 StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                for (EventPO event : events) {
+                    writer.write(xs2aObjectMapper.writeValueAsString(event));
+                    writer.newLine();
+                }
+                return true;
+            } catch (IOException e) {
+                log.error("Events couldn't be written to spill file {}: {}", spillPath, e.getMessage());
+                return false;
+            }
+        }
+    }
+
+    public boolean hasEvents() {
+        return Files.exists(replayPath) || Files.exists(spillPath);
+    }
+
+    /**
+     * Reads spilled events in chunks and passes them to the given consumer. If the consumer fails, the current chunk and
+     * all remaining events are kept in the file.
+     *
+     * @param chunkSize maximum amount of events passed to the consumer at once
+     * @param consumer  consumer, saving the events
+     * @return amount of successfully consumed events
+     */
+    public int replay(int chunkSize, Consumer<List<EventPO>> consumer) {
+        synchronized (lock) {
+            try {
+                if (!Files.exists(replayPath)) {
+                    if (!Files.exists(spillPath)) {
+                        return 0;
+                    }
+                    Files.move(spillPath, replayPath, StandardCopyOption.ATOMIC_MOVE);
+                }
+            } catch (IOException e) {
+                log.error("Spill file {} couldn't be prepared for replay: {}", spillPath, e.getMessage());
+                return 0;
+            }
+        }
+
+        int consumed = 0;
+        boolean completed = true;
+        Path remainingPath = replayPath.resolveSibling(replayPath.getFileName() + TEMP_SUFFIX);
+        try (BufferedReader reader = Files.newBufferedReader(replayPath, StandardCharsets.UTF_8)) {
+            List<String> lines = new ArrayList<>(chunkSize);
+            String line;
+            while (completed && (line = reader.readLine()) != null) {
+                if (!line.isEmpty()) {
+                    lines.add(line);
+                }
+                if (lines.size() >= chunkSize) {
+                    completed = consumeChunk(lines, consumer, reader, remainingPath);
+                    consumed += completed ? lines.size() : 0;
+                    lines.clear();
+                }
+            }
+            if (completed && !lines.isEmpty()) {
+                completed = consumeChunk(lines, consumer, reader, remainingPath);
+                consumed += completed ? lines.size() : 0;
+            }
+        } catch (IOException e) {
+            log.error("Spill file {} couldn't be replayed: {}", replayPath, e.getMessage());
+            return consumed;
+        }
+
+        try {
+            if (completed) {
+                Files.deleteIfExists(replayPath);
+            } else {
+                Files.move(remainingPath, replayPath, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            log.error("Replayed spill file {} couldn't be updated: {}", replayPath, e.getMessage());
+        }
+        return consumed;
+    }
+
+    private boolean consumeChunk(List<String> lines, Consumer<List<EventPO>> consumer, BufferedReader reader, Path remainingPath) throws IOException {
+        if (consume(lines, consumer)) {
+            return true;
+        }
+        writeRemaining(lines, reader, remainingPath);
+        return false;
+    }
+
+    private boolean consume(List<String> lines, Consumer<List<EventPO>> consumer) {
+        List<EventPO> events = new ArrayList<>(lines.size());
+        for (String line : lines) {
+            try {
+                events.add(xs2aObjectMapper.readValue(line, EventPO.class));
+            } catch (IOException e) {
+                log.error("Spilled event couldn't be read and is skipped: {}", e.getMessage());
+            }
+        }
+        try {
+            consumer.accept(events);
+            return true;
+        } catch (RuntimeException e) {
+            log.error("Spilled events couldn't be saved: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private void writeRemaining(List<String> lines, BufferedReader reader, Path remainingPath) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(remainingPath, StandardCharsets.UTF_8)) {
+            for (String line : lines) {
+                writer.write(line);
+                writer.newLine();
+            }
+            String line;
+            while ((line = reader.readLine()) != null) {
+                writer.write(line);
+                writer.newLine();
+            }
+        }
+    }
+}
@@ -19,6 +19,7 @@
 package de.adorsys.psd2.event.service;
 
 import de.adorsys.psd2.event.service.model.EventBO;
+import de.adorsys.psd2.event.service.pipeline.EventRecordingPipeline;
 import de.adorsys.xs2a.reader.JsonReader;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -26,6 +27,9 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.Collections;
+import java.util.List;
+
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -37,7 +41,7 @@ class Xs2aEventServiceImplTest {
     private Xs2aEventServiceImpl xs2aEventService;
 
     @Mock
-    private Xs2aEventAsyncServiceImpl xs2aEventAsyncService;
+    private EventRecordingPipeline eventRecordingPipeline;
 
     private JsonReader jsonReader = new JsonReader();
 
@@ -47,6 +51,15 @@ class Xs2aEventServiceImplTest {
 
         xs2aEventService.recordEvent(eventBO);
 
-        verify(xs2aEventAsyncService, times(1)).recordEventAsync(any(EventBO.class));
+        verify(eventRecordingPipeline, times(1)).record(any(EventBO.class));
+    }
+
+    @Test
+    void recordEvents() {
+        List<EventBO> events = Collections.singletonList(jsonReader.getObjectFromFile("json/event-po.json", EventBO.class));
+
+        xs2aEventService.recordEvents(events);
+
+        verify(eventRecordingPipeline, times(1)).saveNow(events);
     }
 }
@@ -0,0 +1,188 @@
+/*
+ * Copyright 2018-2024 adorsys GmbH & Co KG
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ *
+ * This project is also available under a separate commercial license. You can
+ * contact us at sales@adorsys.com.
+ */
+
+package de.adorsys.psd2.event.service.pipeline;
+
+import de.adorsys.psd2.event.core.model.EventType;
+import de.adorsys.psd2.event.persist.EventRepository;
+import de.adorsys.psd2.event.persist.model.EventPO;
+import de.adorsys.psd2.event.service.mapper.Xs2aEventBOMapper;
+import de.adorsys.psd2.event.service.model.EventBO;
+import de.adorsys.psd2.mapper.Xs2aObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EventRecordingPipelineTest {
+    private static final long TIMEOUT_MS = 2000;
+    private static final long WORKER_DELAY_MS = 500;
+
+    @Mock
+    private EventRepository eventRepository;
+    @Mock
+    private Xs2aEventBOMapper eventBOMapper;
+
+    @TempDir
+    Path tempDir;
+
+    private EventRecordingPipeline pipeline;
+
+    @AfterEach
+    void tearDown() {
+        if (pipeline != null) {
+            pipeline.stop();
+        }
+    }
+
+    @Test
+    void record_notRunning_savesImmediately() {
+        pipeline = buildPipeline(10, 5, EventOverflowPolicy.DROP_OLDEST);
+        when(eventBOMapper.toEventPO(any(EventBO.class))).thenReturn(new EventPO());
+
+        pipeline.record(buildEvent());
+
+        verify(eventRepository).saveAll(anyList());
+        assertEquals(1, pipeline.getSavedCount());
+    }
+
+    @Test
+    void record_running_savesInBatches() {
+        pipeline = buildPipeline(100, 5, EventOverflowPolicy.DROP_OLDEST);
+        when(eventBOMapper.toEventPO(any(EventBO.class))).thenReturn(new EventPO());
+        pipeline.start();
+
+        for (int i = 0; i < 12; i++) {
+            pipeline.record(buildEvent());
+        }
+        pipeline.stop();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<EventPO>> captor = ArgumentCaptor.forClass(List.class);
+        verify(eventRepository, atLeast(3)).saveAll(captor.capture());
+        assertTrue(captor.getAllValues().stream().allMatch(batch -> batch.size() <= 5));
+        assertEquals(12, pipeline.getSavedCount());
+        assertEquals(5, pipeline.getMaxBatchSize());
+        assertEquals(0, pipeline.getQueueDepth());
+    }
+
+    @Test
+    void saveNow_savesInOneBatch() {
+        pipeline = buildPipeline(10, 5, EventOverflowPolicy.DROP_OLDEST);
+        when(eventBOMapper.toEventPO(any(EventBO.class))).thenReturn(new EventPO());
+
+        pipeline.saveNow(Arrays.asList(buildEvent(), buildEvent(), buildEvent()));
+
+        verify(eventRepository, times(1)).saveAll(argThat(events -> events.size() == 3));
+        assertEquals(3, pipeline.getSavedCount());
+        assertEquals(0, pipeline.getQueueDepth());
+    }
+
+    @Test
+    void saveNow_failed_exceptionPropagated() {
+        pipeline = buildPipeline(10, 5, EventOverflowPolicy.DROP_OLDEST);
+        when(eventBOMapper.toEventPO(any(EventBO.class))).thenReturn(new EventPO());
+        when(eventRepository.saveAll(anyList())).thenThrow(new IllegalStateException("database unavailable"));
+        List<EventBO> events = Collections.singletonList(buildEvent());
+
+        assertThrows(IllegalStateException.class, () -> pipeline.saveNow(events));
+        assertEquals(1, pipeline.getFailedCount());
+    }
+
+    @Test
+    void record_bufferFull_dropOldest() {
+        pipeline = buildPipeline(2, 5, EventOverflowPolicy.DROP_OLDEST);
+        pipeline.start();
+        blockWorker();
+
+        for (int i = 0; i < 5; i++) {
+            pipeline.record(buildEvent());
+        }
+
+        assertEquals(2, pipeline.getQueueDepth());
+        assertTrue(pipeline.getDroppedCount() >= 2);
+    }
+
+    @Test
+    void record_bufferFull_callerRuns() {
+        pipeline = buildPipeline(2, 5, EventOverflowPolicy.CALLER_RUNS);
+        pipeline.start();
+        blockWorker();
+
+        for (int i = 0; i < 5; i++) {
+            pipeline.record(buildEvent());
+        }
+
+        assertEquals(2, pipeline.getQueueDepth());
+        assertEquals(0, pipeline.getDroppedCount());
+        assertTrue(pipeline.getSavedCount() >= 3);
+    }
+
+    @Test
+    void record_bufferFull_spill() throws Exception {
+        pipeline = buildPipeline(2, 5, EventOverflowPolicy.SPILL);
+        pipeline.start();
+        blockWorker();
+
+        for (int i = 0; i < 5; i++) {
+            pipeline.record(buildEvent());
+        }
+
+        assertTrue(pipeline.getSpilledCount() >= 2);
+        assertEquals(0, pipeline.getDroppedCount());
+        assertTrue(Files.exists(tempDir.resolve("events.spill")));
+    }
+
+    private void blockWorker() {
+        // Worker is kept busy with the first event, so that further events stay in the buffer
+        when(eventBOMapper.toEventPO(any(EventBO.class))).thenAnswer(invocation -> {
+            Thread.sleep(WORKER_DELAY_MS);
+            return new EventPO();
+        }).thenReturn(new EventPO());
+        pipeline.record(buildEvent());
+        verify(eventBOMapper, timeout(TIMEOUT_MS)).toEventPO(any(EventBO.class));
+    }
+
+    private EventRecordingPipeline buildPipeline(int capacity, int batchSize, EventOverflowPolicy overflowPolicy) {
+        return new EventRecordingPipeline(eventRepository, eventBOMapper, new Xs2aObjectMapper(),
+                                          capacity, batchSize, 50, overflowPolicy, 10,
+                                          tempDir.resolve("events.spill").toString(), TIMEOUT_MS);
+    }
+
+    private EventBO buildEvent() {
+        return EventBO.builder()
+                   .eventType(EventType.PAYMENT_INITIATION_REQUEST_RECEIVED)
+                   .build();
+    }
+}
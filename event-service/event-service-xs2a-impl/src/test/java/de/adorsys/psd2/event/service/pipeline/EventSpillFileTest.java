@@ -0,0 +1,89 @@
+/*
+ * Copyright 2018-2024 adorsys GmbH & Co KG
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ *
+ * This project is also available under a separate commercial license. You can
+ * contact us at sales@adorsys.com.
+ */
+
+package de.adorsys.psd2.event.service.pipeline;
+
+import de.adorsys.psd2.event.persist.model.EventPO;
+import de.adorsys.psd2.mapper.Xs2aObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventSpillFileTest {
+    @TempDir
+    Path tempDir;
+
+    private EventSpillFile spillFile;
+
+    @BeforeEach
+    void setUp() {
+        spillFile = new EventSpillFile(tempDir.resolve("events.spill"), new Xs2aObjectMapper());
+    }
+
+    @Test
+    void replay_allEventsConsumed() {
+        assertTrue(spillFile.append(Arrays.asList(buildEvent("1"), buildEvent("2"), buildEvent("3"))));
+        List<List<EventPO>> chunks = new ArrayList<>();
+
+        int replayed = spillFile.replay(2, chunks::add);
+
+        assertEquals(3, replayed);
+        assertEquals(2, chunks.size());
+        assertEquals("1", chunks.get(0).get(0).getConsentId());
+        assertEquals("3", chunks.get(1).get(0).getConsentId());
+        assertFalse(spillFile.hasEvents());
+    }
+
+    @Test
+    void replay_consumerFails_remainingEventsKept() {
+        spillFile.append(Arrays.asList(buildEvent("1"), buildEvent("2"), buildEvent("3")));
+
+        int replayed = spillFile.replay(2, events -> {
+            if (events.size() == 1) {
+                throw new IllegalStateException("storage unavailable");
+            }
+        });
+
+        assertEquals(2, replayed);
+        assertTrue(spillFile.hasEvents());
+
+        List<EventPO> remaining = new ArrayList<>();
+        assertEquals(1, spillFile.replay(10, remaining::addAll));
+        assertEquals("3", remaining.get(0).getConsentId());
+        assertFalse(spillFile.hasEvents());
+    }
+
+    @Test
+    void replay_noFile() {
+        assertFalse(spillFile.hasEvents());
+        assertEquals(0, spillFile.replay(10, events -> fail("No events expected")));
+    }
+
+    private EventPO buildEvent(String consentId) {
+        EventPO eventPO = new EventPO();
+        eventPO.setConsentId(consentId);
+        return eventPO;
+    }
+}
@@ -0,0 +1,229 @@
+/*
+ * Copyright 2018-2024 adorsys GmbH & Co KG
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ *
+ * This project is also available under a separate commercial license. You can
+ * contact us at sales@adorsys.com.
+ */
+
+package de.adorsys.psd2.validator.certificate.util;
+
+import com.nimbusds.jose.util.X509CertUtils;
+import de.adorsys.psd2.validator.signature.service.SignatureKey;
+import no.difi.certvalidator.api.CertificateValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.cert.X509Certificate;
+import java.util.Base64;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded cache for data, extracted from TPP certificates.
+ * <p>
+ * Entries are stored by SHA-256 fingerprint of the encoded certificate, so parsing of the same certificate is done only
+ * once. Least recently used entries are evicted when the cache exceeds its maximum size, entries of expired certificates
+ * are evicted on access and are never put into the cache. Cache with maximum size of zero is disabled and parses
+ * the certificate on every call.
+ */
+public class CertificateCache {
+    private static final String FINGERPRINT_ALGORITHM = "SHA-256";
+
+    private final int maxSize;
+    private final Map<String, CacheEntry<TppCertificateData>> tppCertificateDataEntries;
+    private final Map<String, CacheEntry<SignatureKey>> signatureKeyEntries;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    /**
+     * Creates new certificate cache
+     *
+     * @param maxSize maximum amount of entries of each kind to be stored, <code>0</code> disables the cache
+     */
+    public CertificateCache(int maxSize) {
+        this.maxSize = Math.max(maxSize, 0);
+        this.tppCertificateDataEntries = createEntries();
+        this.signatureKeyEntries = createEntries();
+    }
+
+    /**
+     * Creates cache that doesn't store any certificate data
+     *
+     * @return disabled certificate cache
+     */
+    public static CertificateCache disabled() {
+        return new CertificateCache(0);
+    }
+
+    /**
+     * Returns TPP data, extracted from the given QWAC certificate
+     *
+     * @param encodedCert encoded certificate
+     * @return TPP certificate data, that can be safely modified by the caller
+     * @throws CertificateValidationException if the certificate couldn't be parsed
+     * @see CertificateExtractorUtil#extract(String)
+     */
+    public TppCertificateData extractTppCertificateData(String encodedCert) throws CertificateValidationException {
+        if (!isEnabled() || encodedCert == null) {
+            return CertificateExtractorUtil.extract(encodedCert);
+        }
+
+        String fingerprint = fingerprint(encodedCert);
+        Optional<TppCertificateData> cachedData = get(tppCertificateDataEntries, fingerprint);
+        if (cachedData.isPresent()) {
+            return new TppCertificateData(cachedData.get());
+        }
+
+        TppCertificateData tppCertificateData = CertificateExtractorUtil.extract(encodedCert);
+        put(tppCertificateDataEntries, fingerprint, new TppCertificateData(tppCertificateData), tppCertificateData.getNotAfter());
+        return tppCertificateData;
+    }
+
+    /**
+     * Returns public key and key ID of the given TPP signature certificate
+     *
+     * @param encodedCert encoded certificate, possibly not normalised
+     * @return signature key, if the certificate could be parsed
+     */
+    public Optional<SignatureKey> getSignatureKey(String encodedCert) {
+        if (!isEnabled() || encodedCert == null) {
+            return parseSignatureKey(encodedCert);
+        }
+
+        String fingerprint = fingerprint(encodedCert);
+        Optional<SignatureKey> cachedKey = get(signatureKeyEntries, fingerprint);
+        if (cachedKey.isPresent()) {
+            return cachedKey;
+        }
+
+        Optional<SignatureKey> signatureKey = parseSignatureKey(encodedCert);
+        signatureKey.ifPresent(key -> put(signatureKeyEntries, fingerprint, key, key.getNotAfter()));
+        return signatureKey;
+    }
+
+    public boolean isEnabled() {
+        return maxSize > 0;
+    }
+
+    public int size() {
+        synchronized (this) {
+            return tppCertificateDataEntries.size() + signatureKeyEntries.size();
+        }
+    }
+
+    public void clear() {
+        synchronized (this) {
+            tppCertificateDataEntries.clear();
+            signatureKeyEntries.clear();
+        }
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "CertificateCache{maxSize=" + maxSize + ", size=" + size() + ", hits=" + getHitCount()
+                   + ", misses=" + getMissCount() + ", evictions=" + getEvictionCount() + "}";
+    }
+
+    private Optional<SignatureKey> parseSignatureKey(String encodedCert) {
+        X509Certificate certificate = X509CertUtils.parse(CertificateUtils.normalizeCertificate(encodedCert));
+        return Optional.ofNullable(certificate)
+                   .map(SignatureKey::fromCertificate);
+    }
+
+    private <V> Optional<V> get(Map<String, CacheEntry<V>> entries, String fingerprint) {
+        synchronized (this) {
+            CacheEntry<V> entry = entries.get(fingerprint);
+            if (entry == null) {
+                missCount.increment();
+                return Optional.empty();
+            }
+
+            if (entry.isExpired()) {
+                entries.remove(fingerprint);
+                evictionCount.increment();
+                missCount.increment();
+                return Optional.empty();
+            }
+
+            hitCount.increment();
+            return Optional.of(entry.value);
+        }
+    }
+
+    private <V> void put(Map<String, CacheEntry<V>> entries, String fingerprint, V value, Date notAfter) {
+        CacheEntry<V> entry = new CacheEntry<>(value, notAfter);
+        if (entry.isExpired()) {
+            return;
+        }
+
+        synchronized (this) {
+            entries.put(fingerprint, entry);
+        }
+    }
+
+    private <V> Map<String, CacheEntry<V>> createEntries() {
+        return new LinkedHashMap<String, CacheEntry<V>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CacheEntry<V>> eldest) {
+                boolean remove = size() > maxSize;
+                if (remove) {
+                    evictionCount.increment();
+                }
+                return remove;
+            }
+        };
+    }
+
+    private String fingerprint(String encodedCert) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance(FINGERPRINT_ALGORITHM);
+            byte[] digest = messageDigest.digest(encodedCert.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("No such hashing algorithm: " + FINGERPRINT_ALGORITHM, e);
+        }
+    }
+
+    private static class CacheEntry<V> {
+        private final V value;
+        private final long notAfterMillis;
+
+        CacheEntry(V value, Date notAfter) {
+            this.value = value;
+            this.notAfterMillis = notAfter != null ? notAfter.getTime() : 0;
+        }
+
+        boolean isExpired() {
+            return System.currentTimeMillis() > notAfterMillis;
+        }
+    }
+}
@@ -19,12 +19,14 @@
 package de.adorsys.psd2.validator.certificate.util;
 
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 
 @Data
+@NoArgsConstructor
 public class TppCertificateData {
     private String pspAuthorisationNumber;
     private List<String> pspRoles;
@@ -39,4 +41,20 @@ public class TppCertificateData {
     private String issuerCN;
     private Date notAfter;
     private List<String> dnsList = new ArrayList<>();
+
+    public TppCertificateData(TppCertificateData source) {
+        this.pspAuthorisationNumber = source.pspAuthorisationNumber;
+        this.pspRoles = source.pspRoles != null ? new ArrayList<>(source.pspRoles) : null;
+        this.name = source.name;
+        this.pspAuthorityName = source.pspAuthorityName;
+        this.pspAuthorityId = source.pspAuthorityId;
+        this.country = source.country;
+        this.organisation = source.organisation;
+        this.organisationUnit = source.organisationUnit;
+        this.city = source.city;
+        this.state = source.state;
+        this.issuerCN = source.issuerCN;
+        this.notAfter = source.notAfter != null ? new Date(source.notAfter.getTime()) : null;
+        this.dnsList = source.dnsList != null ? new ArrayList<>(source.dnsList) : null;
+    }
 }
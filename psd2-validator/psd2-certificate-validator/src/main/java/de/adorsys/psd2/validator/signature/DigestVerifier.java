@@ -30,4 +30,14 @@ public interface DigestVerifier {
      * @return <code>true</code> if digest header is compliant with message body. <code>false</code> otherwise.
      */
     boolean verify(@NonNull String digestHeader, @NonNull String body);
+
+    /**
+     * Verifies digest header value compliance with raw bytes of the message body.
+     * Digest is calculated over the exact bytes, received from the client, without any charset or line endings conversion.
+     *
+     * @param digestHeader Request header which contains a Hash of the message body.
+     * @param body Raw message body from request
+     * @return <code>true</code> if digest header is compliant with message body. <code>false</code> otherwise.
+     */
+    boolean verify(@NonNull String digestHeader, @NonNull byte[] body);
 }
@@ -25,27 +25,30 @@ import de.adorsys.psd2.validator.signature.service.algorithm.HashingAlgorithm;
 import org.apache.commons.lang3.StringUtils;
 
 import java.util.Optional;
+import java.util.function.Supplier;
 
 public class DigestVerifierImpl implements DigestVerifier {
     @Override
     public boolean verify(String digestFromRequest, String body) {
+        return verify(digestFromRequest, () -> Digest.builder().requestBody(body));
+    }
+
+    @Override
+    public boolean verify(String digestFromRequest, byte[] body) {
+        return verify(digestFromRequest, () -> Digest.builder().requestBody(body));
+    }
+
+    private boolean verify(String digestFromRequest, Supplier<Digest.DigestBuilder> digestBuilder) {
         if (StringUtils.isBlank(digestFromRequest)) {
             return false;
         }
 
         return handleHashAlgorithm(digestFromRequest)
-                   .map(alg -> buildDigest(body, alg))
+                   .map(alg -> digestBuilder.get().hashingAlgorithm(alg).build())
                    .map(dg -> digestFromRequest.equals(dg.getHeaderValue()))
                    .orElse(false);
     }
 
-    private Digest buildDigest(String requestBody, HashingAlgorithm algorithm) {
-        return Digest.builder()
-                   .requestBody(requestBody)
-                   .hashingAlgorithm(algorithm)
-                   .build();
-    }
-
     private Optional<HashingAlgorithm> handleHashAlgorithm(String digestFromRequest) {
         String[] digestContent = digestFromRequest.split(CertificateConstants.EQUALS_SIGN_SEPARATOR);
         if (digestContent.length < 2) {
@@ -19,35 +19,42 @@
 package de.adorsys.psd2.validator.signature.impl;
 
 
-import com.nimbusds.jose.util.X509CertUtils;
-import de.adorsys.psd2.validator.certificate.util.CertificateUtils;
+import de.adorsys.psd2.validator.certificate.util.CertificateCache;
 import de.adorsys.psd2.validator.signature.SignatureVerifier;
-import de.adorsys.psd2.validator.signature.service.CertificateConstants;
 import de.adorsys.psd2.validator.signature.service.RequestHeaders;
+import de.adorsys.psd2.validator.signature.service.SignatureKey;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.tomitribe.auth.signatures.Signature;
 import org.tomitribe.auth.signatures.Verifier;
 
-import java.security.cert.X509Certificate;
 import java.util.Map;
+import java.util.Optional;
 
 @Slf4j
 public class SignatureVerifierImpl implements SignatureVerifier {
 
+    private final CertificateCache certificateCache;
+
+    public SignatureVerifierImpl() {
+        this(CertificateCache.disabled());
+    }
+
+    public SignatureVerifierImpl(CertificateCache certificateCache) {
+        this.certificateCache = certificateCache;
+    }
+
     @Override
     public boolean verify(String signature, String tppEncodedCert, Map<String, String> headers, String method, String url) {
-        X509Certificate certificate = X509CertUtils.parse(
-            CertificateUtils.normalizeCertificate(tppEncodedCert)
-        );
+        Optional<SignatureKey> signatureKey = certificateCache.getSignatureKey(tppEncodedCert);
 
-        if (certificate == null) {
+        if (!signatureKey.isPresent()) {
             log.warn("TPP Certificate couldn't be parsed!");
             return false;
         }
 
         Signature signatureData = Signature.fromString(signature);
-        if (!isKeyIdValid(certificate, signatureData.getKeyId())) {
+        if (!StringUtils.equals(signatureData.getKeyId(), signatureKey.get().getKeyId())) {
             log.warn("Key ID is invalid!");
             return false;
         }
@@ -55,7 +62,7 @@ public class SignatureVerifierImpl implements SignatureVerifier {
         Map<String, String> headersMap = RequestHeaders.fromMap(headers).toMap();
 
         try {
-            Verifier verifier = new Verifier(certificate.getPublicKey(), signatureData);
+            Verifier verifier = new Verifier(signatureKey.get().getPublicKey(), signatureData);
             return verifier.verify(method, url, headersMap);
 
         } catch (Exception e) {
@@ -63,21 +70,4 @@ public class SignatureVerifierImpl implements SignatureVerifier {
             return false;
         }
     }
-
-    private boolean isKeyIdValid(X509Certificate certificate, String keyId) {
-        return StringUtils.equals(keyId, getKeyIdFromCertificate(certificate));
-    }
-
-    private String getKeyIdFromCertificate(X509Certificate certificate) {
-        return CertificateConstants.CERTIFICATE_SERIAL_NUMBER_ATTRIBUTE
-                   + CertificateConstants.EQUALS_SIGN_SEPARATOR
-                   + certificate.getSerialNumber().toString(16) // toString(16) is used to provide hexadecimal coding as mentioned in specification
-                   + CertificateConstants.COMMA_SEPARATOR
-                   + CertificateConstants.CERTIFICATION_AUTHORITY_ATTRIBUTE
-                   + CertificateConstants.EQUALS_SIGN_SEPARATOR
-                   + certificate.getIssuerX500Principal()
-                         .getName()
-                         .replace(CertificateConstants.SPACE_SEPARATOR, CertificateConstants.HEXADECIMAL_SPACE_SEPARATOR)
-                         .replace("\n", "");
-    }
 }
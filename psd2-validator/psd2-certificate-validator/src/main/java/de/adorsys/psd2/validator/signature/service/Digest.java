@@ -20,6 +20,7 @@ package de.adorsys.psd2.validator.signature.service;
 
 import de.adorsys.psd2.validator.signature.service.algorithm.EncodingAlgorithm;
 import de.adorsys.psd2.validator.signature.service.algorithm.HashingAlgorithm;
+import de.adorsys.psd2.validator.signature.service.algorithm.hashing.HashingService;
 
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
@@ -47,6 +48,7 @@ public class Digest {
         private static final String EQUALS_SIGN_SEPARATOR = "=";
 
         private String requestBody;
+        private byte[] rawRequestBody;
         private HashingAlgorithm hashingAlgorithm = HashingAlgorithm.SHA256;
         private EncodingAlgorithm encodingAlgorithm = EncodingAlgorithm.BASE64;
         private Charset charset = StandardCharsets.UTF_8;
@@ -59,6 +61,16 @@ public class Digest {
             return this;
         }
 
+        /**
+         * @param rawRequestBody Raw bytes of the request body. If set, digest is calculated over these exact bytes and
+         *                       string request body and charset are ignored.
+         * @return prepared DigestBuilder with raw request body
+         */
+        public DigestBuilder requestBody(byte[] rawRequestBody) {
+            this.rawRequestBody = rawRequestBody;
+            return this;
+        }
+
         /**
          * @param hashingAlgorithm The only hash algorithms that may be used to calculate the Digest within the context of this specification are SHA-256 and SHA-512 as defined in [RFC5843].
          * @return prepared DigestBuilder with hashingAlgorithm
@@ -83,8 +95,10 @@ public class Digest {
         }
 
         public Digest build() {
-            byte[] digestBytes = hashingAlgorithm.getHashingService()
-                                         .hash(requestBody, charset);
+            HashingService hashingService = hashingAlgorithm.getHashingService();
+            byte[] digestBytes = rawRequestBody != null
+                                     ? hashingService.hash(rawRequestBody)
+                                     : hashingService.hash(requestBody, charset);
 
             String digestEncoded = encodingAlgorithm.getEncodingService()
                                            .encode(digestBytes);
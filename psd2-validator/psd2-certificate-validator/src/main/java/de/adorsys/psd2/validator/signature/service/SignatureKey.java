@@ -0,0 +1,52 @@
+/*
+ * Copyright 2018-2024 adorsys GmbH & Co KG
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ *
+ * This project is also available under a separate commercial license. You can
+ * contact us at sales@adorsys.com.
+ */
+
+package de.adorsys.psd2.validator.signature.service;
+
+import lombok.Value;
+
+import java.security.PublicKey;
+import java.security.cert.X509Certificate;
+import java.util.Date;
+
+/**
+ * Data of TPP signature certificate, needed for verification of request signatures
+ */
+@Value
+public class SignatureKey {
+    PublicKey publicKey;
+    String keyId;
+    Date notAfter;
+
+    public static SignatureKey fromCertificate(X509Certificate certificate) {
+        return new SignatureKey(certificate.getPublicKey(), buildKeyId(certificate), certificate.getNotAfter());
+    }
+
+    private static String buildKeyId(X509Certificate certificate) {
+        return CertificateConstants.CERTIFICATE_SERIAL_NUMBER_ATTRIBUTE
+                   + CertificateConstants.EQUALS_SIGN_SEPARATOR
+                   + certificate.getSerialNumber().toString(16) // toString(16) is used to provide hexadecimal coding as mentioned in specification
+                   + CertificateConstants.COMMA_SEPARATOR
+                   + CertificateConstants.CERTIFICATION_AUTHORITY_ATTRIBUTE
+                   + CertificateConstants.EQUALS_SIGN_SEPARATOR
+                   + certificate.getIssuerX500Principal()
+                         .getName()
+                         .replace(CertificateConstants.SPACE_SEPARATOR, CertificateConstants.HEXADECIMAL_SPACE_SEPARATOR)
+                         .replace("\n", "");
+    }
+}
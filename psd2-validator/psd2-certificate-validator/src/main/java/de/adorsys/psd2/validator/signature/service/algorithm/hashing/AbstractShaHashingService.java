@@ -28,9 +28,14 @@ public abstract class AbstractShaHashingService implements HashingService {
 
     @Override
     public byte[] hash(String data, Charset charset) {
+        return hash(data.getBytes(charset));
+    }
+
+    @Override
+    public byte[] hash(byte[] data) {
         try {
             return MessageDigest.getInstance(getAlgorithm().getAlgorithmName())
-                           .digest(data.getBytes(charset));
+                           .digest(data);
         } catch (NoSuchAlgorithmException e) {
             throw new IllegalArgumentException("No such hashing algorithm: " + getAlgorithm().getAlgorithmName());
         }
@@ -22,4 +22,6 @@ import java.nio.charset.Charset;
 
 public interface HashingService {
     byte[] hash(String data, Charset charset);
+
+    byte[] hash(byte[] data);
 }
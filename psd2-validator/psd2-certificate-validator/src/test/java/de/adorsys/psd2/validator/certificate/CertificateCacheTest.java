@@ -0,0 +1,133 @@
+/*
+ * Copyright 2018-2024 adorsys GmbH & Co KG
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ *
+ * This project is also available under a separate commercial license. You can
+ * contact us at sales@adorsys.com.
+ */
+
+package de.adorsys.psd2.validator.certificate;
+
+import de.adorsys.psd2.validator.certificate.util.CertificateCache;
+import de.adorsys.psd2.validator.certificate.util.CertificateUtils;
+import de.adorsys.psd2.validator.certificate.util.TppCertificateData;
+import de.adorsys.psd2.validator.signature.service.SignatureKey;
+import no.difi.certvalidator.api.CertificateValidationException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CertificateCacheTest {
+    private static final String VALID_CERTIFICATE = "-----BEGIN CERTIFICATE-----MIIFNjCCAx6gAwIBAgIERd3y8TANBgkqhkiG9w0BAQsFADB4MQswCQYDVQQGEwJERTEQMA4GA1UECAwHQkFWQVJJQTESMBAGA1UEBwwJTnVyZW1iZXJnMSIwIAYDVQQKDBlUcnVzdCBTZXJ2aWNlIFByb3ZpZGVyIEFHMR8wHQYDVQQLDBZJbmZvcm1hdGlvbiBUZWNobm9sb2d5MB4XDTIwMDMwNTEzMzk1MFoXDTMwMDMwMzAwMDAwMFowgcExITAfBgNVBAoMGEZpY3Rpb25hbCBDb3Jwb3JhdGlvbiBBRzElMCMGCgmSJomT8ixkARkWFXB1YmxpYy5jb3Jwb3JhdGlvbi5kZTEfMB0GA1UECwwWSW5mb3JtYXRpb24gVGVjaG5vbG9neTEQMA4GA1UEBhMHR2VybWFueTEPMA0GA1UECAwGQmF5ZXJuMRIwEAYDVQQHDAlOdXJlbWJlcmcxHTAbBgNVBGEMFFBTRERFLUZBS0VOQ0EtODdCMkFDMIIBIjANBgkqhkiG9w0BAQEFAAOCAQ8AMIIBCgKCAQEAsHAdLWn7pEAlD5daEjKv7hE4FW+vMJRrA/Bw2M/Zsu8VFfW1ARmbTgTy7rGLFBK/Y2SToEj60+5GEkCgCvi+vI/Bdykk8XqjpVsJjTW67np1b2Av8F61zvCnn2UOxBtXBHCzR1j2yz2om1IMYieGu/cDTWLNkbuoGSnj0dq4CbHp2f8ch++goffqLRXr642j8cVlqZYsapB8y+Z8IydbtNBd/XAmRTAprmdRv9B4PC7P+lIYX8QbXw77f+9/2Kty7oVHtjle+GnTR8wH5nCiMQsA9V564/34lKwuEkzuryV1HzitQ/X7FSZoiSQRTxbxjVO+xdzI3hjF2FZjVvkqywIDAQABo34wfDB6BggrBgEFBQcBAwRuMGwGBgQAgZgnAjBiMDkwEQYHBACBmCcBAwwGUFNQX0FJMBEGBwQAgZgnAQIMBlBTUF9QSTARBgcEAIGYJwEEDAZQU1BfSUMMGVRydXN0IFNlcnZpY2UgUHJvdmlkZXIgQUcMCkRFLUZBS0VOQ0EwDQYJKoZIhvcNAQELBQADggIBACKUQc3O3TOFG8tWk4sQd3f9SGlOcBOMekSXCxRgskcYkjhWW4+EN1FYzlGuXPfq1yngKaM3ss9yCDVep0MFa4hDJ/hzSSD5upExzwWDkUa97AHCjZd39W6kLaCMAc5vTbR9r7zBvMKBcAmhZ9mWCvrvbHUOURv5yBfrrEk4AM1Vakf5l+fWP4JhA779+7JlwpQRpy5dgqROwKQ2L634d2osgXUV4CkqhSUQ5LcYI4uBFyKnM0pyGaNYdKhBC95J0y5GYa7NpKJNZXf+clTbe33gCt2SFSOMa7CV5NYpnohS201uNd/ffWLzGtFBnHLNpX8qTfFc16mtIcJo6Iiof2CYgfYAyJByBC1gZHf1wAtfQzAn6JcEaJzmehXKKl9x7X62aaGan7l+MblUT65Gd+Yed+rXLF6svefbrcIbZwt/W+v1fbfnip9QEFPV3VLjg0vk9Y30ftZCcFRSHLD3mdxcVEtmVxDDxyzDUwXF7J/mi4RQhZBb3OtwwEIWC2zUaycNMZWJRI+RqfLvanlDFFMoYeSZKTFf8jS/PPcfpKOAiTGu21iuuv+gYxh/rgjW419w26ya+Q3jabaz3E9Im/opSU5sQ9W92ALA14J9VZs6v8BVmqKTB5APKfeTYoXg9MjP9fjVM/hP26kIgQVs5Bz15ov8uQlQC+OTO+2y5ozs-----END CERTIFICATE-----";
+
+    @Test
+    void extractTppCertificateData_shouldParseCertificateOnce() throws CertificateValidationException {
+        // Given
+        CertificateCache certificateCache = new CertificateCache(10);
+
+        // When
+        TppCertificateData firstResult = certificateCache.extractTppCertificateData(VALID_CERTIFICATE);
+        TppCertificateData secondResult = certificateCache.extractTppCertificateData(VALID_CERTIFICATE);
+
+        // Then
+        assertEquals(firstResult, secondResult);
+        assertNotSame(firstResult, secondResult);
+        assertEquals(1, certificateCache.getMissCount());
+        assertEquals(1, certificateCache.getHitCount());
+    }
+
+    @Test
+    void extractTppCertificateData_modifiedResult_shouldNotAffectCache() throws CertificateValidationException {
+        // Given
+        CertificateCache certificateCache = new CertificateCache(10);
+        TppCertificateData firstResult = certificateCache.extractTppCertificateData(VALID_CERTIFICATE);
+        int rolesSize = firstResult.getPspRoles().size();
+
+        // When
+        firstResult.getPspRoles().clear();
+        TppCertificateData secondResult = certificateCache.extractTppCertificateData(VALID_CERTIFICATE);
+
+        // Then
+        assertEquals(rolesSize, secondResult.getPspRoles().size());
+    }
+
+    @Test
+    void extractTppCertificateData_expiredCertificate_shouldNotBeCached() throws CertificateValidationException {
+        // Given
+        CertificateCache certificateCache = new CertificateCache(10);
+        String expiredCertificate = CertificateUtils.getCertificateByName("certificateValid.crt");
+
+        // When
+        certificateCache.extractTppCertificateData(expiredCertificate);
+        certificateCache.extractTppCertificateData(expiredCertificate);
+
+        // Then
+        assertEquals(0, certificateCache.size());
+        assertEquals(2, certificateCache.getMissCount());
+    }
+
+    @Test
+    void extractTppCertificateData_invalidCertificate_shouldThrowException() {
+        CertificateCache certificateCache = new CertificateCache(10);
+
+        assertThrows(CertificateValidationException.class, () -> certificateCache.extractTppCertificateData("invalid certificate"));
+        assertEquals(0, certificateCache.size());
+    }
+
+    @Test
+    void getSignatureKey_shouldReturnCachedKey() {
+        // Given
+        CertificateCache certificateCache = new CertificateCache(10);
+
+        // When
+        Optional<SignatureKey> firstResult = certificateCache.getSignatureKey(VALID_CERTIFICATE);
+        Optional<SignatureKey> secondResult = certificateCache.getSignatureKey(VALID_CERTIFICATE);
+
+        // Then
+        assertTrue(firstResult.isPresent());
+        assertSame(firstResult.get(), secondResult.get());
+        assertTrue(firstResult.get().getKeyId().startsWith("SN="));
+        assertEquals(1, certificateCache.getHitCount());
+    }
+
+    @Test
+    void getSignatureKey_maxSizeExceeded_shouldEvictEntry() {
+        // Given
+        CertificateCache certificateCache = new CertificateCache(1);
+        certificateCache.getSignatureKey(VALID_CERTIFICATE);
+
+        // When
+        certificateCache.getSignatureKey(CertificateUtils.normalizeCertificate(VALID_CERTIFICATE) + "\n");
+
+        // Then
+        assertEquals(1, certificateCache.size());
+        assertEquals(1, certificateCache.getEvictionCount());
+    }
+
+    @Test
+    void disabledCache_shouldNotStoreEntries() throws CertificateValidationException {
+        // Given
+        CertificateCache certificateCache = CertificateCache.disabled();
+
+        // When
+        certificateCache.extractTppCertificateData(VALID_CERTIFICATE);
+        Optional<SignatureKey> signatureKey = certificateCache.getSignatureKey(VALID_CERTIFICATE);
+
+        // Then
+        assertTrue(signatureKey.isPresent());
+        assertEquals(0, certificateCache.size());
+        assertEquals(0, certificateCache.getMissCount());
+    }
+}
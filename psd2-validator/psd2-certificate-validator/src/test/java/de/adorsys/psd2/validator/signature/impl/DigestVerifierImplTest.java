@@ -22,6 +22,8 @@ import de.adorsys.xs2a.reader.JsonReader;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.nio.charset.StandardCharsets;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 class DigestVerifierImplTest {
@@ -83,6 +85,36 @@ class DigestVerifierImplTest {
         assertThat(actualResult).isFalse();
     }
 
+    @Test
+    void verify_rawBody_success() {
+        // when
+        boolean actualResult = digestVerifier.verify(CORRECT_DIGEST, getBody().getBytes(StandardCharsets.UTF_8));
+
+        // then
+        assertThat(actualResult).isTrue();
+    }
+
+    @Test
+    void verify_rawBody_differentLineEndings() {
+        // given
+        byte[] body = (getBody() + "\r\n").getBytes(StandardCharsets.UTF_8);
+
+        // when
+        boolean actualResult = digestVerifier.verify(CORRECT_DIGEST, body);
+
+        // then
+        assertThat(actualResult).isFalse();
+    }
+
+    @Test
+    void verify_rawBody_wrongDigest() {
+        // when
+        boolean actualResult = digestVerifier.verify(WRONG_DIGEST, getBody().getBytes(StandardCharsets.UTF_8));
+
+        // then
+        assertThat(actualResult).isFalse();
+    }
+
     private String getBody() {
         return jsonReader.getStringFromFile("json/payment_request.json");
     }
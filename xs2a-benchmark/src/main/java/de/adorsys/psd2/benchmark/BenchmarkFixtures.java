@@ -0,0 +1,145 @@
+/*
+ * Copyright 2018-2024 adorsys GmbH & Co KG
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ *
+ * This project is also available under a separate commercial license. You can
+ * contact us at sales@adorsys.com.
+ */
+
+package de.adorsys.psd2.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import de.adorsys.psd2.core.data.AccountAccess;
+import de.adorsys.psd2.core.data.ais.AisConsent;
+import de.adorsys.psd2.core.data.ais.AisConsentData;
+import de.adorsys.psd2.mapper.Xs2aObjectMapper;
+import de.adorsys.psd2.xs2a.core.profile.AccountReference;
+import de.adorsys.psd2.xs2a.core.profile.AccountReferenceType;
+import de.adorsys.psd2.xs2a.core.profile.AdditionalInformationAccess;
+import org.apache.commons.io.IOUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Currency;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Fixtures, shared by the benchmarks.
+ * <p>
+ * Payment bodies and TPP signature data are read from the classpath, consents and bulk payments are generated with
+ * the given amount of accounts and payments in order to reproduce the sizes of the production data.
+ */
+public final class BenchmarkFixtures {
+    private static final String BANK_CODE = "50010517";
+    private static final Currency EUR = Currency.getInstance("EUR");
+    private static final BigInteger IBAN_MODULUS = BigInteger.valueOf(97);
+    private static final Xs2aObjectMapper OBJECT_MAPPER = new Xs2aObjectMapper();
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * Reads fixture from the classpath
+     *
+     * @param path path to the fixture, relative to the classpath root
+     * @return content of the fixture in UTF-8
+     */
+    public static String readFixture(String path) {
+        try (InputStream inputStream = BenchmarkFixtures.class.getClassLoader().getResourceAsStream(path)) {
+            if (inputStream == null) {
+                throw new IllegalArgumentException("Fixture not found: " + path);
+            }
+            return IOUtils.toString(inputStream, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Builds body of the bulk payment initiation request with given amount of payments
+     *
+     * @param paymentCount amount of payments in the bulk
+     * @return JSON body of the request
+     */
+    public static String bulkPaymentBody(int paymentCount) {
+        try {
+            ObjectNode bulkPayment = (ObjectNode) OBJECT_MAPPER.readTree(readFixture("fixture/payment/bulk-payment.json"));
+            JsonNode paymentTemplate = bulkPayment.get("payments").get(0);
+
+            ArrayNode payments = OBJECT_MAPPER.createArrayNode();
+            for (int i = 0; i < paymentCount; i++) {
+                ObjectNode payment = paymentTemplate.deepCopy();
+                payment.put("endToEndIdentification", "WBG-" + (100000000 + i));
+                payment.with("creditorAccount").put("iban", iban(i));
+                payments.add(payment);
+            }
+            bulkPayment.set("payments", payments);
+
+            return OBJECT_MAPPER.writeValueAsString(bulkPayment);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Builds valid recurring AIS consent with dedicated accesses to given amount of accounts
+     *
+     * @param accountCount amount of accounts in the consent
+     * @return AIS consent
+     */
+    public static AisConsent aisConsent(int accountCount) {
+        List<AccountReference> tppReferences = new ArrayList<>(accountCount);
+        List<AccountReference> aspspReferences = new ArrayList<>(accountCount);
+        for (int i = 0; i < accountCount; i++) {
+            String iban = iban(i);
+            tppReferences.add(new AccountReference(AccountReferenceType.IBAN, iban, EUR));
+            aspspReferences.add(new AccountReference(AccountReferenceType.IBAN, iban, EUR, "resource-" + i, "aspsp-account-" + i));
+        }
+
+        AisConsent aisConsent = new AisConsent();
+        aisConsent.setConsentData(AisConsentData.buildDefaultAisConsentData());
+        aisConsent.setRecurringIndicator(true);
+        aisConsent.setFrequencyPerDay(4);
+        aisConsent.setValidUntil(LocalDate.now().plusDays(90));
+        aisConsent.setTppAccountAccesses(accountAccess(tppReferences));
+        aisConsent.setAspspAccountAccesses(accountAccess(aspspReferences));
+        return aisConsent;
+    }
+
+    /**
+     * Generates German IBAN with valid check digits
+     *
+     * @param accountNumber number of the account within the bank
+     * @return IBAN
+     */
+    public static String iban(int accountNumber) {
+        String bban = BANK_CODE + String.format(Locale.ROOT, "%010d", accountNumber);
+        // Check digits according to ISO 7064 MOD 97-10, 'D' = 13, 'E' = 14
+        int checkDigits = 98 - new BigInteger(bban + "131400").mod(IBAN_MODULUS).intValue();
+        return String.format(Locale.ROOT, "DE%02d%s", checkDigits, bban);
+    }
+
+    private static AccountAccess accountAccess(List<AccountReference> references) {
+        return new AccountAccess(references, references, references,
+                                 new AdditionalInformationAccess(Collections.emptyList(), Collections.emptyList()));
+    }
+}
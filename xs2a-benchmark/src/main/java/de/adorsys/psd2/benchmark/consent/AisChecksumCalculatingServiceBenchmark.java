@@ -0,0 +1,68 @@
+/*
+ * Copyright 2018-2024 adorsys GmbH & Co KG
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ *
+ * This project is also available under a separate commercial license. You can
+ * contact us at sales@adorsys.com.
+ */
+
+package de.adorsys.psd2.benchmark.consent;
+
+import de.adorsys.psd2.benchmark.BenchmarkFixtures;
+import de.adorsys.psd2.consent.service.sha.ChecksumCalculatingService;
+import de.adorsys.psd2.consent.service.sha.impl.AisChecksumCalculatingServiceV5;
+import de.adorsys.psd2.core.data.ais.AisConsent;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Calculation and verification of AIS consent checksums, performed on each update of valid AIS consent
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AisChecksumCalculatingServiceBenchmark {
+    @Param({"1", "10", "50"})
+    public int accountCount;
+
+    private final ChecksumCalculatingService checksumCalculatingService = new AisChecksumCalculatingServiceV5();
+    private AisConsent aisConsent;
+    private byte[] checksum;
+
+    @Setup
+    public void setUp() {
+        aisConsent = BenchmarkFixtures.aisConsent(accountCount);
+        checksum = checksumCalculatingService.calculateChecksumForConsent(aisConsent);
+    }
+
+    @Benchmark
+    public byte[] calculateChecksum() {
+        return checksumCalculatingService.calculateChecksumForConsent(aisConsent);
+    }
+
+    @Benchmark
+    public boolean verifyChecksum() {
+        return checksumCalculatingService.verifyConsentWithChecksum(aisConsent, checksum);
+    }
+
+    @TearDown
+    public void checkVerification() {
+        if (!verifyChecksum()) {
+            throw new IllegalStateException("Checksum of unchanged consent couldn't be verified");
+        }
+    }
+}
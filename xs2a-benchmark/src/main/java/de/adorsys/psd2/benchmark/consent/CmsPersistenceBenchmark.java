@@ -0,0 +1,219 @@
+/*
+ * Copyright 2018-2024 adorsys GmbH & Co KG
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ *
+ * This project is also available under a separate commercial license. You can
+ * contact us at sales@adorsys.com.
+ */
+
+package de.adorsys.psd2.benchmark.consent;
+
+import de.adorsys.psd2.benchmark.BenchmarkFixtures;
+import de.adorsys.psd2.consent.api.TypeAccess;
+import de.adorsys.psd2.consent.domain.AccountReferenceEntity;
+import de.adorsys.psd2.consent.domain.AuthorisationTemplateEntity;
+import de.adorsys.psd2.consent.domain.PsuData;
+import de.adorsys.psd2.consent.domain.TppInfoEntity;
+import de.adorsys.psd2.consent.domain.account.TppAccountAccess;
+import de.adorsys.psd2.consent.domain.consent.ConsentEntity;
+import de.adorsys.psd2.consent.domain.payment.PisCommonPaymentData;
+import de.adorsys.psd2.consent.domain.payment.PisPaymentData;
+import de.adorsys.psd2.consent.repository.ConsentJpaRepository;
+import de.adorsys.psd2.consent.repository.PisCommonPaymentDataRepository;
+import de.adorsys.psd2.xs2a.core.consent.ConsentStatus;
+import de.adorsys.psd2.xs2a.core.consent.ConsentType;
+import de.adorsys.psd2.xs2a.core.pis.InternalPaymentStatus;
+import de.adorsys.psd2.xs2a.core.pis.TransactionStatus;
+import de.adorsys.psd2.xs2a.core.profile.AccountReferenceType;
+import de.adorsys.psd2.xs2a.core.profile.PaymentType;
+import de.adorsys.psd2.xs2a.core.tpp.TppRole;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Creation of AIS consents with account accesses and of bulk payments in CMS database, including allocation of IDs for
+ * all inserted rows.
+ * <p>
+ * PostgreSQL is started with Testcontainers, unless JDBC URL is given with <code>benchmark.cms.jdbc-url</code> system
+ * property (and credentials with <code>benchmark.cms.username</code> and <code>benchmark.cms.password</code>).
+ * The schema is created by CMS Liquibase migrations. Effect of pooled ID allocation is measured by running the benchmark
+ * against trees with and without it, effect of JDBC batching by the <code>jdbcBatchSize</code> parameter.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CmsPersistenceBenchmark {
+    private static final String POSTGRES_IMAGE = "postgres:11";
+    private static final Currency EUR = Currency.getInstance("EUR");
+
+    @Param({"10", "100"})
+    public int rowCount;
+
+    @Param({"0", "100"})
+    public int jdbcBatchSize;
+
+    private PostgreSQLContainer<?> postgreSQLContainer;
+    private ConfigurableApplicationContext applicationContext;
+    private ConsentJpaRepository consentJpaRepository;
+    private PisCommonPaymentDataRepository pisCommonPaymentDataRepository;
+
+    @Setup
+    public void setUp() {
+        Map<String, Object> properties = new HashMap<>();
+        String jdbcUrl = System.getProperty("benchmark.cms.jdbc-url");
+        if (jdbcUrl == null) {
+            postgreSQLContainer = new PostgreSQLContainer<>(POSTGRES_IMAGE);
+            postgreSQLContainer.start();
+            properties.put("spring.datasource.url", postgreSQLContainer.getJdbcUrl() + "&reWriteBatchedInserts=true");
+            properties.put("spring.datasource.username", postgreSQLContainer.getUsername());
+            properties.put("spring.datasource.password", postgreSQLContainer.getPassword());
+        } else {
+            properties.put("spring.datasource.url", jdbcUrl);
+            properties.put("spring.datasource.username", System.getProperty("benchmark.cms.username"));
+            properties.put("spring.datasource.password", System.getProperty("benchmark.cms.password"));
+        }
+        properties.put("spring.liquibase.change-log", "classpath:master.xml");
+        properties.put("spring.liquibase.drop-first", true);
+        properties.put("spring.jpa.properties.hibernate.jdbc.batch_size", jdbcBatchSize);
+        properties.put("spring.jpa.properties.hibernate.order_inserts", true);
+        properties.put("spring.jpa.properties.hibernate.order_updates", true);
+
+        applicationContext = new SpringApplicationBuilder(PersistenceConfiguration.class)
+                                 .web(WebApplicationType.NONE)
+                                 .properties(properties)
+                                 .run();
+        consentJpaRepository = applicationContext.getBean(ConsentJpaRepository.class);
+        pisCommonPaymentDataRepository = applicationContext.getBean(PisCommonPaymentDataRepository.class);
+    }
+
+    @Benchmark
+    public ConsentEntity createAisConsent() {
+        return consentJpaRepository.save(aisConsent(rowCount));
+    }
+
+    @Benchmark
+    public PisCommonPaymentData createBulkPayment() {
+        return pisCommonPaymentDataRepository.save(bulkPayment(rowCount));
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (applicationContext != null) {
+            applicationContext.close();
+        }
+        if (postgreSQLContainer != null) {
+            postgreSQLContainer.stop();
+        }
+    }
+
+    private ConsentEntity aisConsent(int accountCount) {
+        ConsentEntity consent = new ConsentEntity();
+        consent.setExternalId(UUID.randomUUID().toString());
+        consent.setConsentStatus(ConsentStatus.RECEIVED);
+        consent.setConsentType(ConsentType.AIS.getName());
+        consent.setFrequencyPerDay(4);
+        consent.setRecurringIndicator(true);
+        consent.setValidUntil(LocalDate.now().plusDays(90));
+        consent.setRequestDateTime(OffsetDateTime.now());
+        consent.getTppInformation().setTppInfo(tppInfo());
+        consent.setPsuDataList(new ArrayList<>(Collections.singletonList(psuData())));
+
+        List<TppAccountAccess> accountAccesses = new ArrayList<>();
+        for (int i = 0; i < accountCount; i++) {
+            String iban = BenchmarkFixtures.iban(i);
+            accountAccesses.add(new TppAccountAccess(null, consent, iban, TypeAccess.ACCOUNT, AccountReferenceType.IBAN, EUR));
+            accountAccesses.add(new TppAccountAccess(null, consent, iban, TypeAccess.BALANCE, AccountReferenceType.IBAN, EUR));
+        }
+        consent.setTppAccountAccesses(accountAccesses);
+        return consent;
+    }
+
+    private PisCommonPaymentData bulkPayment(int paymentCount) {
+        PisCommonPaymentData commonPayment = new PisCommonPaymentData();
+        String paymentId = UUID.randomUUID().toString();
+        commonPayment.setPaymentId(paymentId);
+        commonPayment.setPaymentType(PaymentType.BULK);
+        commonPayment.setPaymentProduct("sepa-credit-transfers");
+        commonPayment.setTransactionStatus(TransactionStatus.RCVD);
+        commonPayment.setInternalPaymentStatus(InternalPaymentStatus.INITIATED);
+        commonPayment.setTppInfo(tppInfo());
+        commonPayment.setAuthorisationTemplate(new AuthorisationTemplateEntity());
+        commonPayment.setPsuDataList(new ArrayList<>(Collections.singletonList(psuData())));
+
+        AccountReferenceEntity debtorAccount = accountReference(0);
+        List<PisPaymentData> payments = new ArrayList<>();
+        for (int i = 0; i < paymentCount; i++) {
+            PisPaymentData payment = new PisPaymentData();
+            payment.setPaymentId(paymentId);
+            payment.setEndToEndIdentification("E2E-" + i);
+            payment.setDebtorAccount(debtorAccount);
+            payment.setCreditorAccount(accountReference(i + 1));
+            payment.setCreditorName("Creditor " + i);
+            payment.setCurrency(EUR);
+            payment.setAmount(BigDecimal.valueOf(100 + i));
+            payment.setRemittanceInformationUnstructured("Invoice " + i);
+            payment.setPaymentData(commonPayment);
+            payments.add(payment);
+        }
+        commonPayment.setPayments(payments);
+        return commonPayment;
+    }
+
+    private TppInfoEntity tppInfo() {
+        TppInfoEntity tppInfo = new TppInfoEntity();
+        tppInfo.setAuthorisationNumber("PSDDE-FAKENCA-87B2AC");
+        tppInfo.setTppName("Benchmark TPP");
+        tppInfo.setTppRoles(new ArrayList<>(List.of(TppRole.AISP, TppRole.PISP)));
+        return tppInfo;
+    }
+
+    private PsuData psuData() {
+        return new PsuData("PSU-ID", null, null, null, "127.0.0.1");
+    }
+
+    private AccountReferenceEntity accountReference(int accountNumber) {
+        AccountReferenceEntity accountReference = new AccountReferenceEntity();
+        accountReference.setIban(BenchmarkFixtures.iban(accountNumber));
+        accountReference.setCurrency(EUR);
+        return accountReference;
+    }
+
+    @Configuration
+    @EnableAutoConfiguration
+    @EntityScan("de.adorsys.psd2.consent.domain")
+    @EnableJpaRepositories("de.adorsys.psd2.consent.repository")
+    static class PersistenceConfiguration {
+    }
+}
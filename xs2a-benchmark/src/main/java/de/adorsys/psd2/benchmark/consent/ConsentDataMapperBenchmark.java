@@ -0,0 +1,83 @@
+/*
+ * Copyright 2018-2024 adorsys GmbH & Co KG
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ *
+ * This project is also available under a separate commercial license. You can
+ * contact us at sales@adorsys.com.
+ */
+
+package de.adorsys.psd2.benchmark.consent;
+
+import de.adorsys.psd2.core.data.ais.AisConsentData;
+import de.adorsys.psd2.core.data.piis.PiisConsentData;
+import de.adorsys.psd2.core.mapper.ConsentDataMapper;
+import de.adorsys.psd2.xs2a.core.ais.AccountAccessType;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialisation and deserialisation of consent data, stored as byte array in consent entities
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConsentDataMapperBenchmark {
+    private final ConsentDataMapper consentDataMapper = new ConsentDataMapper();
+
+    private AisConsentData aisConsentData;
+    private PiisConsentData piisConsentData;
+    private byte[] aisConsentDataBytes;
+    private byte[] piisConsentDataBytes;
+
+    @Setup
+    public void setUp() {
+        aisConsentData = new AisConsentData(AccountAccessType.ALL_ACCOUNTS, null, null, false);
+        piisConsentData = new PiisConsentData("1234567891234", LocalDate.now().plusYears(3),
+                                              "MyMerchant Loyalty Card", "Your contract Number 1234 with MyMerchant is completed with the registration with your bank.");
+
+        aisConsentDataBytes = consentDataMapper.getBytesFromConsentData(aisConsentData);
+        piisConsentDataBytes = consentDataMapper.getBytesFromConsentData(piisConsentData);
+    }
+
+    @Benchmark
+    public byte[] serialiseAisConsentData() {
+        return consentDataMapper.getBytesFromConsentData(aisConsentData);
+    }
+
+    @Benchmark
+    public AisConsentData deserialiseAisConsentData() {
+        return consentDataMapper.mapToAisConsentData(aisConsentDataBytes);
+    }
+
+    @Benchmark
+    public byte[] serialisePiisConsentData() {
+        return consentDataMapper.getBytesFromConsentData(piisConsentData);
+    }
+
+    @Benchmark
+    public PiisConsentData deserialisePiisConsentData() {
+        return consentDataMapper.mapToPiisConsentData(piisConsentDataBytes);
+    }
+
+    @TearDown
+    public void checkMapping() {
+        if (!aisConsentData.equals(deserialiseAisConsentData()) || !piisConsentData.equals(deserialisePiisConsentData())) {
+            throw new IllegalStateException("Deserialised consent data differs from the original one");
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2018-2024 adorsys GmbH & Co KG
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ *
+ * This project is also available under a separate commercial license. You can
+ * contact us at sales@adorsys.com.
+ */
+
+package de.adorsys.psd2.benchmark.consent;
+
+import de.adorsys.psd2.consent.service.security.DecryptedData;
+import de.adorsys.psd2.consent.service.security.EncryptedData;
+import de.adorsys.psd2.consent.service.security.provider.CryptoProvider;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encryption and decryption with the crypto providers, used for external IDs and ASPSP consent data.
+ * <p>
+ * Payload of 64 bytes corresponds to composite consent ID, payload of 2048 bytes - to typical ASPSP consent data.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CryptoProviderBenchmark {
+    private static final String PASSWORD = "Some secret key";
+
+    @Param({CryptoProviders.JWE_GCM_1024, CryptoProviders.AES_ECB_1024, CryptoProviders.JWE_GCM_65536, CryptoProviders.AES_ECB_65536})
+    public String cryptoProviderId;
+
+    @Param({"64", "2048"})
+    public int payloadSize;
+
+    @Param({"false", "true"})
+    public boolean derivedKeyCacheEnabled;
+
+    private CryptoProvider cryptoProvider;
+    private byte[] payload;
+    private byte[] encryptedPayload;
+
+    @Setup
+    public void setUp() {
+        cryptoProvider = CryptoProviders.holder(derivedKeyCacheEnabled)
+                             .getProviderById(cryptoProviderId)
+                             .orElseThrow(() -> new IllegalStateException("Unknown crypto provider: " + cryptoProviderId));
+
+        payload = new byte[payloadSize];
+        Arrays.fill(payload, (byte) 'a');
+        encryptedPayload = cryptoProvider.encryptData(payload, PASSWORD)
+                               .map(EncryptedData::getData)
+                               .orElseThrow(() -> new IllegalStateException("Payload couldn't be encrypted"));
+    }
+
+    @Benchmark
+    public Optional<EncryptedData> encrypt() {
+        return cryptoProvider.encryptData(payload, PASSWORD);
+    }
+
+    @Benchmark
+    public Optional<DecryptedData> decrypt() {
+        return cryptoProvider.decryptData(encryptedPayload, PASSWORD);
+    }
+
+    @Benchmark
+    public Optional<DecryptedData> roundTrip() {
+        return cryptoProvider.encryptData(payload, PASSWORD)
+                   .flatMap(encrypted -> cryptoProvider.decryptData(encrypted.getData(), PASSWORD));
+    }
+
+    @TearDown
+    public void checkRoundTrip() {
+        byte[] decrypted = roundTrip().map(DecryptedData::getData).orElse(null);
+        if (!Arrays.equals(payload, decrypted)) {
+            throw new IllegalStateException("Round trip result differs from the payload: "
+                                                + (decrypted == null ? null : new String(decrypted, StandardCharsets.UTF_8)));
+        }
+    }
+}
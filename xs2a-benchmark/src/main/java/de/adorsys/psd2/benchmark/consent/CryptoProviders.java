@@ -0,0 +1,64 @@
+/*
+ * Copyright 2018-2024 adorsys GmbH & Co KG
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ *
+ * This project is also available under a separate commercial license. You can
+ * contact us at sales@adorsys.com.
+ */
+
+package de.adorsys.psd2.benchmark.consent;
+
+import de.adorsys.psd2.consent.service.security.provider.CryptoInstanceFactory;
+import de.adorsys.psd2.consent.service.security.provider.CryptoProvider;
+import de.adorsys.psd2.consent.service.security.provider.CryptoProviderHolder;
+import de.adorsys.psd2.consent.service.security.provider.DerivedKeyCache;
+import de.adorsys.psd2.consent.service.security.provider.aes.AesEcbInstanceFactoryImpl;
+import de.adorsys.psd2.consent.service.security.provider.jwe.JweGsmInstanceFactoryImpl;
+
+import java.util.Map;
+
+/**
+ * Crypto providers, initialised the same way as from the <code>crypto_algorithm</code> table of CMS database
+ */
+final class CryptoProviders {
+    static final String JWE_GCM_1024 = "JcHZwvJMuc";
+    static final String JWE_GCM_65536 = "gQ8wkMeo93";
+    static final String AES_ECB_1024 = "psGLvQpt9Q";
+    static final String AES_ECB_65536 = "bS6p6XvTWI";
+
+    static final String DEFAULT_DATA_PROVIDER = JWE_GCM_1024;
+    static final String DEFAULT_ID_PROVIDER = AES_ECB_1024;
+
+    // Same values as in CryptoConfig
+    private static final int DERIVED_KEY_CACHE_MAX_SIZE = 1000;
+    private static final long DERIVED_KEY_CACHE_TTL_SECONDS = 3600;
+
+    private static final CryptoInstanceFactory JWE_FACTORY = new JweGsmInstanceFactoryImpl();
+    private static final CryptoInstanceFactory AES_FACTORY = new AesEcbInstanceFactoryImpl();
+
+    private CryptoProviders() {
+    }
+
+    static CryptoProviderHolder holder(boolean derivedKeyCacheEnabled) {
+        Map<String, CryptoProvider> providers = Map.of(
+            JWE_GCM_1024, JWE_FACTORY.initProvider(JWE_GCM_1024, "JWE/GCM/256_#_6_#_256_#_1024_#_PBKDF2WithHmacSHA256"),
+            JWE_GCM_65536, JWE_FACTORY.initProvider(JWE_GCM_65536, "JWE/GCM/256_#_3_#_256_#_65536_#_PBKDF2WithHmacSHA256"),
+            AES_ECB_1024, AES_FACTORY.initProvider(AES_ECB_1024, "AES/ECB/PKCS5Padding_#_5_#_256_#_1024_#_PBKDF2WithHmacSHA256"),
+            AES_ECB_65536, AES_FACTORY.initProvider(AES_ECB_65536, "AES/ECB/PKCS5Padding_#_2_#_256_#_65536_#_PBKDF2WithHmacSHA256"));
+
+        DerivedKeyCache derivedKeyCache = derivedKeyCacheEnabled
+                                              ? new DerivedKeyCache(DERIVED_KEY_CACHE_MAX_SIZE, DERIVED_KEY_CACHE_TTL_SECONDS)
+                                              : DerivedKeyCache.disabled();
+        return new CryptoProviderHolder(providers, DEFAULT_DATA_PROVIDER, DEFAULT_ID_PROVIDER, derivedKeyCache);
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2018-2024 adorsys GmbH & Co KG
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ *
+ * This project is also available under a separate commercial license. You can
+ * contact us at sales@adorsys.com.
+ */
+
+package de.adorsys.psd2.benchmark.consent;
+
+import de.adorsys.psd2.consent.service.security.DecryptedData;
+import de.adorsys.psd2.consent.service.security.DecryptedIdCache;
+import de.adorsys.psd2.consent.service.security.EncryptedData;
+import de.adorsys.psd2.consent.service.security.SecurityDataService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encryption and decryption of external IDs and ASPSP consent data with default crypto providers of CMS
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SecurityDataServiceBenchmark {
+    private static final String SERVER_KEY = "Some secret key";
+    private static final int ASPSP_CONSENT_DATA_SIZE = 2048;
+    // Same values as defaults in DecryptedIdCache
+    private static final int DECRYPTED_ID_CACHE_MAX_SIZE = 10_000;
+    private static final long DECRYPTED_ID_CACHE_TTL_SECONDS = 300;
+
+    @Param({"false", "true"})
+    public boolean derivedKeyCacheEnabled;
+
+    @Param({"false", "true"})
+    public boolean decryptedIdCacheEnabled;
+
+    private SecurityDataService securityDataService;
+    private String originalId;
+    private String encryptedId;
+    private byte[] aspspConsentData;
+    private byte[] encryptedAspspConsentData;
+
+    @Setup
+    public void setUp() {
+        MockEnvironment environment = new MockEnvironment().withProperty("server_key", SERVER_KEY);
+        DecryptedIdCache decryptedIdCache = new DecryptedIdCache(decryptedIdCacheEnabled, DECRYPTED_ID_CACHE_MAX_SIZE, DECRYPTED_ID_CACHE_TTL_SECONDS);
+        securityDataService = new SecurityDataService(environment, CryptoProviders.holder(derivedKeyCacheEnabled), decryptedIdCache);
+
+        originalId = UUID.randomUUID().toString();
+        encryptedId = securityDataService.encryptId(originalId)
+                          .orElseThrow(() -> new IllegalStateException("ID couldn't be encrypted"));
+
+        aspspConsentData = new byte[ASPSP_CONSENT_DATA_SIZE];
+        Arrays.fill(aspspConsentData, (byte) 'a');
+        encryptedAspspConsentData = securityDataService.encryptConsentData(encryptedId, aspspConsentData)
+                                        .map(EncryptedData::getData)
+                                        .orElseThrow(() -> new IllegalStateException("ASPSP consent data couldn't be encrypted"));
+    }
+
+    @Benchmark
+    public Optional<String> encryptId() {
+        return securityDataService.encryptId(originalId);
+    }
+
+    @Benchmark
+    public Optional<String> decryptId() {
+        return securityDataService.decryptId(encryptedId);
+    }
+
+    @Benchmark
+    public Optional<EncryptedData> encryptConsentData() {
+        return securityDataService.encryptConsentData(encryptedId, aspspConsentData);
+    }
+
+    @Benchmark
+    public Optional<DecryptedData> decryptConsentData() {
+        return securityDataService.decryptConsentData(encryptedId, encryptedAspspConsentData);
+    }
+
+    @TearDown
+    public void checkDecryptedId() {
+        if (!decryptId().filter(originalId::equals).isPresent()) {
+            throw new IllegalStateException("Decrypted ID differs from the original one");
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2018-2024 adorsys GmbH & Co KG
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ *
+ * This project is also available under a separate commercial license. You can
+ * contact us at sales@adorsys.com.
+ */
+
+package de.adorsys.psd2.benchmark.validator;
+
+import de.adorsys.psd2.benchmark.BenchmarkFixtures;
+import de.adorsys.psd2.validator.signature.DigestVerifier;
+import de.adorsys.psd2.validator.signature.impl.DigestVerifierImpl;
+import de.adorsys.psd2.validator.signature.service.Digest;
+import de.adorsys.psd2.validator.signature.service.algorithm.HashingAlgorithm;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Verification of the digest header of signed requests against single and bulk payment initiation bodies
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DigestVerifierBenchmark {
+    @Param({"SHA-256", "SHA-512"})
+    public String hashingAlgorithm;
+
+    @Param({"0", "10", "100"})
+    public int bulkPaymentCount;
+
+    private final DigestVerifier digestVerifier = new DigestVerifierImpl();
+    private String body;
+    private byte[] rawBody;
+    private String digest;
+
+    @Setup
+    public void setUp() {
+        body = bulkPaymentCount == 0
+                   ? BenchmarkFixtures.readFixture("fixture/payment/single-payment.json")
+                   : BenchmarkFixtures.bulkPaymentBody(bulkPaymentCount);
+        rawBody = body.getBytes(StandardCharsets.UTF_8);
+
+        HashingAlgorithm algorithm = HashingAlgorithm.fromValue(hashingAlgorithm)
+                                         .orElseThrow(() -> new IllegalStateException("Unknown hashing algorithm: " + hashingAlgorithm));
+        digest = Digest.builder()
+                     .requestBody(rawBody)
+                     .hashingAlgorithm(algorithm)
+                     .build()
+                     .getHeaderValue();
+    }
+
+    @Benchmark
+    public boolean verifyStringBody() {
+        return digestVerifier.verify(digest, body);
+    }
+
+    @Benchmark
+    public boolean verifyRawBody() {
+        return digestVerifier.verify(digest, rawBody);
+    }
+
+    @TearDown
+    public void checkVerification() {
+        if (!verifyStringBody() || !verifyRawBody()) {
+            throw new IllegalStateException("Digest of the body couldn't be verified");
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2018-2024 adorsys GmbH & Co KG
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ *
+ * This project is also available under a separate commercial license. You can
+ * contact us at sales@adorsys.com.
+ */
+
+package de.adorsys.psd2.benchmark.validator;
+
+import de.adorsys.psd2.benchmark.BenchmarkFixtures;
+import de.adorsys.psd2.validator.certificate.util.CertificateCache;
+import de.adorsys.psd2.validator.signature.SignatureVerifier;
+import de.adorsys.psd2.validator.signature.impl.SignatureVerifierImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Verification of TPP signature of the request with signature certificate, passed in the request header
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SignatureVerifierBenchmark {
+    private static final String METHOD = "POST";
+    private static final String URL = "/request-uri/example";
+
+    // 1000 is the default size of certificate cache in XS2A
+    @Param({"0", "1000"})
+    public int certificateCacheSize;
+
+    private SignatureVerifier signatureVerifier;
+    private String signature;
+    private String certificate;
+    private Map<String, String> headers;
+
+    @Setup
+    public void setUp() {
+        signatureVerifier = new SignatureVerifierImpl(new CertificateCache(certificateCacheSize));
+        signature = BenchmarkFixtures.readFixture("fixture/signature/correct_signature.txt");
+        certificate = BenchmarkFixtures.readFixture("fixture/signature/tpp_signature_certificate.txt");
+
+        headers = new HashMap<>();
+        headers.put("accept", "application/json");
+        headers.put("psu-ip-address", "1.1.1.1");
+        headers.put("psu-id", "anton.brueckner");
+        headers.put("x-request-id", "2f77a125-aa7a-45c0-b414-cea25a116035");
+        headers.put("signature", signature);
+        headers.put("digest", "SHA-256=cE4iyBDKyP5qdfUyHuB4eZf5iqA5pSAjTzl8l89Oh20=");
+        headers.put("date", "Sun, 06 Aug 2019 15:02:37 GMT");
+        headers.put("tpp-signature-certificate", certificate);
+        headers.put("tpp-redirect-uri", "http://bank.de.com/redirect-uri");
+    }
+
+    @Benchmark
+    public boolean verify() {
+        return signatureVerifier.verify(signature, certificate, headers, METHOD, URL);
+    }
+
+    @TearDown
+    public void checkVerification() {
+        if (!verify()) {
+            throw new IllegalStateException("Signature of the request couldn't be verified");
+        }
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2018-2024 adorsys GmbH & Co KG
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ *
+ * This project is also available under a separate commercial license. You can
+ * contact us at sales@adorsys.com.
+ */
+
+package de.adorsys.psd2.benchmark.xs2a;
+
+import de.adorsys.psd2.benchmark.BenchmarkFixtures;
+import de.adorsys.psd2.mapper.Xs2aObjectMapper;
+import de.adorsys.psd2.xs2a.core.error.ErrorType;
+import de.adorsys.psd2.xs2a.core.error.MessageError;
+import de.adorsys.psd2.xs2a.service.mapper.psd2.ServiceTypeToErrorTypeMapper;
+import de.adorsys.psd2.xs2a.service.profile.AspspProfileServiceWrapper;
+import de.adorsys.psd2.xs2a.web.mapper.ChargeBearerMapper;
+import de.adorsys.psd2.xs2a.web.mapper.PurposeCodeMapper;
+import de.adorsys.psd2.xs2a.web.mapper.RemittanceMapper;
+import de.adorsys.psd2.xs2a.web.validator.ErrorBuildingService;
+import de.adorsys.psd2.xs2a.web.validator.body.AmountValidator;
+import de.adorsys.psd2.xs2a.web.validator.body.FieldLengthValidator;
+import de.adorsys.psd2.xs2a.web.validator.body.IbanValidator;
+import de.adorsys.psd2.xs2a.web.validator.body.payment.handler.config.DefaultPaymentValidationConfigImpl;
+import de.adorsys.psd2.xs2a.web.validator.body.payment.handler.config.PaymentValidationConfig;
+import de.adorsys.psd2.xs2a.web.validator.body.payment.handler.service.CustomPaymentValidationService;
+import de.adorsys.psd2.xs2a.web.validator.body.payment.handler.type.BulkPaymentTypeValidatorImpl;
+import de.adorsys.psd2.xs2a.web.validator.body.payment.handler.type.PaymentTypeValidator;
+import de.adorsys.psd2.xs2a.web.validator.body.payment.handler.type.PeriodicPaymentTypeValidatorImpl;
+import de.adorsys.psd2.xs2a.web.validator.body.payment.handler.type.SinglePaymentTypeValidatorImpl;
+import de.adorsys.psd2.xs2a.web.validator.body.payment.mapper.PaymentMapper;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validation of payment initiation bodies by the payment type validators with default validation config.
+ * <p>
+ * Bodies are parsed in advance, the same way as they are passed to the validators by
+ * <code>DefaultPaymentBodyFieldsValidatorImpl</code>.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PaymentTypeValidatorBenchmark {
+    private final Xs2aObjectMapper xs2aObjectMapper = new Xs2aObjectMapper();
+    private final PaymentValidationConfig validationConfig = new DefaultPaymentValidationConfigImpl();
+
+    private PaymentTypeValidator singlePaymentTypeValidator;
+    private PaymentTypeValidator periodicPaymentTypeValidator;
+    private PaymentTypeValidator bulkPaymentTypeValidator;
+    private Object singlePaymentBody;
+    private Object periodicPaymentBody;
+
+    @State(Scope.Benchmark)
+    public static class BulkPaymentBody {
+        @Param({"1", "10", "100"})
+        public int paymentCount;
+
+        private Object body;
+
+        @Setup
+        public void setUp() throws IOException {
+            body = new Xs2aObjectMapper().readValue(BenchmarkFixtures.bulkPaymentBody(paymentCount), Object.class);
+        }
+    }
+
+    @Setup
+    public void setUp() throws IOException {
+        ErrorBuildingService errorBuildingService = new ErrorBuildingService(null, new ServiceTypeToErrorTypeMapper(), null, xs2aObjectMapper);
+        AspspProfileServiceWrapper aspspProfileServiceWrapper = new DefaultAspspProfileServiceWrapper();
+        PaymentMapper paymentMapper = new PaymentMapper(xs2aObjectMapper, Mappers.getMapper(PurposeCodeMapper.class),
+                                                        Mappers.getMapper(RemittanceMapper.class), Mappers.getMapper(ChargeBearerMapper.class));
+        AmountValidator amountValidator = new AmountValidator(errorBuildingService);
+        IbanValidator ibanValidator = new IbanValidator(aspspProfileServiceWrapper, errorBuildingService);
+        CustomPaymentValidationService customPaymentValidationService = new CustomPaymentValidationService();
+        FieldLengthValidator fieldLengthValidator = new FieldLengthValidator(errorBuildingService);
+
+        singlePaymentTypeValidator = new SinglePaymentTypeValidatorImpl(errorBuildingService, xs2aObjectMapper, paymentMapper, amountValidator,
+                                                                        ibanValidator, customPaymentValidationService, fieldLengthValidator,
+                                                                        aspspProfileServiceWrapper);
+        periodicPaymentTypeValidator = new PeriodicPaymentTypeValidatorImpl(errorBuildingService, xs2aObjectMapper, paymentMapper, amountValidator,
+                                                                            ibanValidator, customPaymentValidationService, fieldLengthValidator,
+                                                                            aspspProfileServiceWrapper);
+        bulkPaymentTypeValidator = new BulkPaymentTypeValidatorImpl(errorBuildingService, xs2aObjectMapper, paymentMapper, amountValidator,
+                                                                    ibanValidator, customPaymentValidationService, fieldLengthValidator,
+                                                                    aspspProfileServiceWrapper);
+
+        singlePaymentBody = xs2aObjectMapper.readValue(BenchmarkFixtures.readFixture("fixture/payment/single-payment.json"), Object.class);
+        periodicPaymentBody = xs2aObjectMapper.readValue(BenchmarkFixtures.readFixture("fixture/payment/periodic-payment.json"), Object.class);
+    }
+
+    @Benchmark
+    public MessageError validateSinglePayment() {
+        return singlePaymentTypeValidator.validate(singlePaymentBody, new MessageError(ErrorType.PIS_400), validationConfig);
+    }
+
+    @Benchmark
+    public MessageError validatePeriodicPayment() {
+        return periodicPaymentTypeValidator.validate(periodicPaymentBody, new MessageError(ErrorType.PIS_400), validationConfig);
+    }
+
+    @Benchmark
+    public MessageError validateBulkPayment(BulkPaymentBody bulkPaymentBody) {
+        return bulkPaymentTypeValidator.validate(bulkPaymentBody.body, new MessageError(ErrorType.PIS_400), validationConfig);
+    }
+
+    /**
+     * ASPSP profile with default settings, that doesn't require ASPSP profile service
+     */
+    private static class DefaultAspspProfileServiceWrapper extends AspspProfileServiceWrapper {
+        DefaultAspspProfileServiceWrapper() {
+            super(null, null);
+        }
+
+        @Override
+        public boolean isIbanValidationDisabled() {
+            return false;
+        }
+
+        @Override
+        public boolean isDebtorAccountOptionalInInitialRequest() {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2018-2024 adorsys GmbH & Co KG
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ *
+ * This project is also available under a separate commercial license. You can
+ * contact us at sales@adorsys.com.
+ */
+
+package de.adorsys.psd2.benchmark.xs2a;
+
+import de.adorsys.psd2.xs2a.config.Xs2aEndpointPathConstant;
+import de.adorsys.psd2.xs2a.web.Xs2aEndpointChecker;
+import de.adorsys.psd2.xs2a.web.request.RequestPathResolver;
+import de.adorsys.psd2.xs2a.web.request.Xs2aRoute;
+import de.adorsys.psd2.xs2a.web.request.Xs2aRouteMatcher;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Classification of incoming requests, performed by the filters of XS2A for each request.
+ * <p>
+ * <code>antPathMatcher</code> reproduces the former classification by matching the request path against all
+ * endpoint patterns and serves as a baseline for the route matcher.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class Xs2aEndpointCheckerBenchmark {
+    private static final String CONTEXT_PATH = "/xs2a";
+    private static final String ROUTE_ATTRIBUTE = Xs2aRoute.class.getName();
+    private static final String[] XS2A_ENDPOINT_PATHS = Xs2aEndpointPathConstant.getAllXs2aEndpointPaths();
+
+    @Param({"/v1/accounts/3dc3d5b3-7023-4848-9853-f5400a64e80f/transactions",
+        "/v1/payments/sepa-credit-transfers/1234-wertiq-983/authorisations/123auth456",
+        "/v2/consents/confirmation-of-funds/5eb1a3a2-f2b7-4a4c-a41c-a5ed3f5f5c6b/status",
+        "/api/v1/pis/common-payments"})
+    public String requestPath;
+
+    private final Xs2aEndpointChecker xs2aEndpointChecker = new Xs2aEndpointChecker(new RequestPathResolver());
+    private final Xs2aRouteMatcher xs2aRouteMatcher = Xs2aRouteMatcher.forXs2aEndpoints();
+    private final AntPathMatcher antPathMatcher = new AntPathMatcher();
+
+    private MockHttpServletRequest request;
+    private String requestUri;
+
+    @Setup
+    public void setUp() {
+        requestUri = CONTEXT_PATH + requestPath;
+        request = new MockHttpServletRequest("GET", requestUri);
+        request.setContextPath(CONTEXT_PATH);
+    }
+
+    @Benchmark
+    public boolean isXs2aEndpoint() {
+        request.removeAttribute(ROUTE_ATTRIBUTE);
+        return xs2aEndpointChecker.isXs2aEndpoint(request);
+    }
+
+    @Benchmark
+    public boolean isXs2aEndpointResolvedBefore() {
+        return xs2aEndpointChecker.isXs2aEndpoint(request);
+    }
+
+    @Benchmark
+    public Xs2aRoute routeMatcher() {
+        return xs2aRouteMatcher.match(requestUri, requestPath);
+    }
+
+    @Benchmark
+    public String antPathMatcher() {
+        for (String pattern : XS2A_ENDPOINT_PATHS) {
+            if (antPathMatcher.match(pattern, requestPath)) {
+                return pattern;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2018-2024 adorsys GmbH & Co KG
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ *
+ * This project is also available under a separate commercial license. You can
+ * contact us at sales@adorsys.com.
+ */
+
+package de.adorsys.psd2.benchmark.xs2a;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import de.adorsys.psd2.benchmark.BenchmarkFixtures;
+import de.adorsys.psd2.mapper.JsonFieldQuery;
+import de.adorsys.psd2.mapper.JsonFieldValues;
+import de.adorsys.psd2.mapper.Xs2aObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Extraction of the raw payment body fields, validated by <code>PaymentBodyValidatorImpl</code>, from bulk payment
+ * bodies: lookup in the JSON tree compared to one streaming pass with {@link Xs2aObjectMapper#extractFields}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class Xs2aObjectMapperBenchmark {
+    private static final String[] FIELD_NAMES = {"requestedExecutionDate", "requestedExecutionTime", "batchBookingPreferred"};
+    private static final String[] NESTED_FIELD_NAMES = {"currency", "chargeBearer"};
+    private static final JsonFieldQuery QUERY = JsonFieldQuery.fields(FIELD_NAMES)
+                                                    .withNestedFields(NESTED_FIELD_NAMES);
+
+    private final Xs2aObjectMapper xs2aObjectMapper = new Xs2aObjectMapper();
+
+    @Param({"1", "10", "100"})
+    public int paymentCount;
+
+    private byte[] body;
+
+    @Setup
+    public void setUp() {
+        body = BenchmarkFixtures.bulkPaymentBody(paymentCount).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public void readTree(Blackhole blackhole) throws IOException {
+        JsonNode jsonTree = xs2aObjectMapper.readTree(body);
+        for (String fieldName : FIELD_NAMES) {
+            blackhole.consume(jsonTree.get(fieldName));
+        }
+        for (String fieldName : NESTED_FIELD_NAMES) {
+            blackhole.consume(jsonTree.findValuesAsText(fieldName));
+        }
+    }
+
+    @Benchmark
+    public void extractFields(Blackhole blackhole) throws IOException {
+        JsonFieldValues fieldValues = xs2aObjectMapper.extractFields(body, QUERY);
+        for (String fieldName : NESTED_FIELD_NAMES) {
+            blackhole.consume(fieldValues.getNestedValues(fieldName));
+        }
+        blackhole.consume(fieldValues);
+    }
+}
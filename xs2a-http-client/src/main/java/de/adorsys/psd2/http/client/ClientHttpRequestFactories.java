@@ -0,0 +1,92 @@
+/*
+ * Copyright 2018-2024 adorsys GmbH & Co KG
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ *
+ * This project is also available under a separate commercial license. You can
+ * contact us at sales@adorsys.com.
+ */
+
+package de.adorsys.psd2.http.client;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Creates request factories for REST templates, either opening a new connection per call or using pooled keep-alive
+ * connections of Apache HttpClient.
+ */
+@Slf4j
+public final class ClientHttpRequestFactories {
+    private ClientHttpRequestFactories() {
+    }
+
+    /**
+     * Creates connection manager with the pool limits from given settings.
+     * The caller is responsible for shutting it down.
+     *
+     * @param settings HTTP client settings
+     * @return pooling connection manager
+     */
+    public static PoolingHttpClientConnectionManager createConnectionManager(HttpClientSettings settings) {
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(settings.getConnectionPoolMaxTotal());
+        connectionManager.setDefaultMaxPerRoute(settings.getConnectionPoolMaxPerRoute());
+        return connectionManager;
+    }
+
+    /**
+     * Creates request factory: pooled one on top of given connection manager if the connection pool is enabled,
+     * simple one otherwise.
+     *
+     * @param settings          HTTP client settings
+     * @param connectionManager connection manager to be used by pooled request factory
+     * @return request factory
+     */
+    public static ClientHttpRequestFactory createRequestFactory(HttpClientSettings settings,
+                                                                PoolingHttpClientConnectionManager connectionManager) {
+        if (settings.isConnectionPoolEnabled()) {
+            return createPooledRequestFactory(settings, connectionManager);
+        }
+
+        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
+        factory.setReadTimeout(settings.getReadTimeoutMs());
+        factory.setConnectTimeout(settings.getConnectionTimeoutMs());
+        return factory;
+    }
+
+    private static ClientHttpRequestFactory createPooledRequestFactory(HttpClientSettings settings,
+                                                                       PoolingHttpClientConnectionManager connectionManager) {
+        CloseableHttpClient httpClient = HttpClientBuilder.create()
+                                             .setConnectionManager(connectionManager)
+                                             .evictExpiredConnections()
+                                             .evictIdleConnections(settings.getConnectionPoolIdleTimeoutMs(), TimeUnit.MILLISECONDS)
+                                             .disableCookieManagement()
+                                             .build();
+
+        HttpComponentsClientHttpRequestFactory factory = new HttpComponentsClientHttpRequestFactory(httpClient);
+        factory.setReadTimeout(settings.getReadTimeoutMs());
+        factory.setConnectTimeout(settings.getConnectionTimeoutMs());
+        factory.setConnectionRequestTimeout(settings.getConnectionRequestTimeoutMs());
+
+        log.info("{} connection pool is enabled: max total {}, max per route {}", settings.getName(),
+                 connectionManager.getMaxTotal(), connectionManager.getDefaultMaxPerRoute());
+        return factory;
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2018-2024 adorsys GmbH & Co KG
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ *
+ * This project is also available under a separate commercial license. You can
+ * contact us at sales@adorsys.com.
+ */
+
+package de.adorsys.psd2.http.client;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Exposes statistics of the HTTP connection pool and logs them periodically from a background thread,
+ * as reading them locks the whole pool and should not be done on every request.
+ */
+@Slf4j
+public class ConnectionPoolMonitor implements AutoCloseable {
+    private final String name;
+    private final PoolingHttpClientConnectionManager connectionManager;
+    private final ScheduledExecutorService scheduler;
+
+    public ConnectionPoolMonitor(HttpClientSettings settings, PoolingHttpClientConnectionManager connectionManager) {
+        this.name = settings.getName();
+        this.connectionManager = connectionManager;
+
+        long intervalMs = settings.getConnectionPoolStatsIntervalMs();
+        if (settings.isConnectionPoolEnabled() && intervalMs > 0) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r, name + " connection pool monitor");
+                thread.setDaemon(true);
+                return thread;
+            });
+            scheduler.scheduleAtFixedRate(this::logStats, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+        } else {
+            scheduler = null;
+        }
+    }
+
+    /**
+     * Returns current statistics of the whole connection pool
+     *
+     * @return leased, pending, available and max connections of the pool
+     */
+    public PoolStats getTotalStats() {
+        return connectionManager.getTotalStats();
+    }
+
+    @Override
+    public void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    void logStats() {
+        PoolStats totalStats = getTotalStats();
+        if (totalStats.getPending() > 0) {
+            log.warn("{} connection pool is exhausted: {}", name, totalStats);
+        } else {
+            log.debug("{} connection pool: {}", name, totalStats);
+        }
+    }
+}
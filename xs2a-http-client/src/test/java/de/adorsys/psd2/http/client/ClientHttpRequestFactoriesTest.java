@@ -0,0 +1,106 @@
+/*
+ * Copyright 2018-2024 adorsys GmbH & Co KG
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ *
+ * This project is also available under a separate commercial license. You can
+ * contact us at sales@adorsys.com.
+ */
+
+package de.adorsys.psd2.http.client;
+
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ClientHttpRequestFactoriesTest {
+    private static final int READ_TIMEOUT = 10000;
+    private static final int CONNECTION_TIMEOUT = 1000;
+    private static final int CONNECTION_REQUEST_TIMEOUT = 500;
+    private static final int MAX_TOTAL = 20;
+    private static final int MAX_PER_ROUTE = 5;
+
+    private PoolingHttpClientConnectionManager connectionManager;
+
+    @AfterEach
+    void tearDown() {
+        if (connectionManager != null) {
+            connectionManager.shutdown();
+        }
+    }
+
+    @Test
+    void createConnectionManager_poolLimitsApplied() {
+        // When
+        connectionManager = ClientHttpRequestFactories.createConnectionManager(buildSettings(true));
+
+        // Then
+        assertEquals(MAX_TOTAL, connectionManager.getMaxTotal());
+        assertEquals(MAX_PER_ROUTE, connectionManager.getDefaultMaxPerRoute());
+    }
+
+    @Test
+    void createRequestFactory_poolDisabled_simpleFactory() {
+        // Given
+        HttpClientSettings settings = buildSettings(false);
+        connectionManager = ClientHttpRequestFactories.createConnectionManager(settings);
+
+        // When
+        ClientHttpRequestFactory actual = ClientHttpRequestFactories.createRequestFactory(settings, connectionManager);
+
+        // Then
+        assertTrue(actual instanceof SimpleClientHttpRequestFactory);
+        assertEquals(READ_TIMEOUT, ReflectionTestUtils.getField(actual, "readTimeout"));
+        assertEquals(CONNECTION_TIMEOUT, ReflectionTestUtils.getField(actual, "connectTimeout"));
+    }
+
+    @Test
+    void createRequestFactory_poolEnabled_pooledFactory() throws Exception {
+        // Given
+        HttpClientSettings settings = buildSettings(true);
+        connectionManager = ClientHttpRequestFactories.createConnectionManager(settings);
+
+        // When
+        ClientHttpRequestFactory actual = ClientHttpRequestFactories.createRequestFactory(settings, connectionManager);
+
+        // Then
+        assertTrue(actual instanceof HttpComponentsClientHttpRequestFactory);
+        RequestConfig requestConfig = (RequestConfig) ReflectionTestUtils.getField(actual, "requestConfig");
+        assertEquals(READ_TIMEOUT, requestConfig.getSocketTimeout());
+        assertEquals(CONNECTION_TIMEOUT, requestConfig.getConnectTimeout());
+        assertEquals(CONNECTION_REQUEST_TIMEOUT, requestConfig.getConnectionRequestTimeout());
+        assertEquals(connectionManager, ReflectionTestUtils.getField(((HttpComponentsClientHttpRequestFactory) actual).getHttpClient(), "connManager"));
+
+        ((HttpComponentsClientHttpRequestFactory) actual).destroy();
+    }
+
+    private HttpClientSettings buildSettings(boolean connectionPoolEnabled) {
+        return HttpClientSettings.builder()
+                   .name("Test")
+                   .readTimeoutMs(READ_TIMEOUT)
+                   .connectionTimeoutMs(CONNECTION_TIMEOUT)
+                   .connectionPoolEnabled(connectionPoolEnabled)
+                   .connectionPoolMaxTotal(MAX_TOTAL)
+                   .connectionPoolMaxPerRoute(MAX_PER_ROUTE)
+                   .connectionPoolIdleTimeoutMs(30000)
+                   .connectionRequestTimeoutMs(CONNECTION_REQUEST_TIMEOUT)
+                   .build();
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2018-2024 adorsys GmbH & Co KG
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ *
+ * This project is also available under a separate commercial license. You can
+ * contact us at sales@adorsys.com.
+ */
+
+package de.adorsys.psd2.http.client;
+
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ConnectionPoolMonitorTest {
+    private static final PoolStats POOL_STATS = new PoolStats(1, 0, 2, 10);
+
+    @Mock
+    private PoolingHttpClientConnectionManager connectionManager;
+
+    @Test
+    void getTotalStats() {
+        // Given
+        when(connectionManager.getTotalStats()).thenReturn(POOL_STATS);
+
+        try (ConnectionPoolMonitor monitor = new ConnectionPoolMonitor(buildSettings(true, 0), connectionManager)) {
+            // When
+            PoolStats actual = monitor.getTotalStats();
+
+            // Then
+            assertEquals(POOL_STATS, actual);
+        }
+    }
+
+    @Test
+    void statsSampledPeriodically() {
+        // Given
+        when(connectionManager.getTotalStats()).thenReturn(POOL_STATS);
+
+        // When
+        try (ConnectionPoolMonitor ignored = new ConnectionPoolMonitor(buildSettings(true, 10), connectionManager)) {
+            // Then
+            verify(connectionManager, timeout(1000).atLeast(2)).getTotalStats();
+        }
+    }
+
+    @Test
+    void poolDisabled_statsNotSampled() throws InterruptedException {
+        // When
+        try (ConnectionPoolMonitor ignored = new ConnectionPoolMonitor(buildSettings(false, 10), connectionManager)) {
+            Thread.sleep(50);
+        }
+
+        // Then
+        verifyNoInteractions(connectionManager);
+    }
+
+    private HttpClientSettings buildSettings(boolean connectionPoolEnabled, long statsIntervalMs) {
+        return HttpClientSettings.builder()
+                   .name("Test")
+                   .connectionPoolEnabled(connectionPoolEnabled)
+                   .connectionPoolStatsIntervalMs(statsIntervalMs)
+                   .build();
+    }
+}
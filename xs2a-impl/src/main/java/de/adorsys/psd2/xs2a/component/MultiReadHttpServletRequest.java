@@ -30,7 +30,7 @@ import java.io.*;
  * This class decorates incoming HttpServletRequest, caches its body and is used by spring framework further
  */
 public class MultiReadHttpServletRequest extends HttpServletRequestWrapper {
-    private ByteArrayOutputStream cachedBytes;
+    private byte[] cachedBody;
 
     public MultiReadHttpServletRequest(HttpServletRequest request) {
         super(request);
@@ -38,11 +38,7 @@ public class MultiReadHttpServletRequest extends HttpServletRequestWrapper {
 
     @Override
     public ServletInputStream getInputStream() throws IOException {
-        if (cachedBytes == null) {
-            cacheInputStream();
-        }
-
-        return new CachedServletInputStream();
+        return new CachedServletInputStream(getCachedBody());
     }
 
     @Override
@@ -50,16 +46,26 @@ public class MultiReadHttpServletRequest extends HttpServletRequestWrapper {
         return new BufferedReader(new InputStreamReader(getInputStream()));
     }
 
-    private void cacheInputStream() throws IOException {
-        cachedBytes = new ByteArrayOutputStream();
-        IOUtils.copy(super.getInputStream(), cachedBytes);
+    /**
+     * Returns body of the request, reading it from the original request on the first call.
+     * Returned array is shared between all readers of the body and must not be modified.
+     *
+     * @return cached request body
+     * @throws IOException if the body couldn't be read from the original request
+     */
+    public byte[] getCachedBody() throws IOException {
+        if (cachedBody == null) {
+            cachedBody = IOUtils.toByteArray(super.getInputStream());
+        }
+
+        return cachedBody;
     }
 
-    private class CachedServletInputStream extends ServletInputStream {
+    private static class CachedServletInputStream extends ServletInputStream {
         private final ByteArrayInputStream input;
 
-        public CachedServletInputStream() {
-            input = new ByteArrayInputStream(cachedBytes.toByteArray());
+        public CachedServletInputStream(byte[] body) {
+            input = new ByteArrayInputStream(body);
         }
 
         @Override
@@ -67,6 +73,11 @@ public class MultiReadHttpServletRequest extends HttpServletRequestWrapper {
             return input.read();
         }
 
+        @Override
+        public int read(byte[] b, int off, int len) {
+            return input.read(b, off, len);
+        }
+
 		@Override
 		public boolean isFinished() {
 			return false;
@@ -16,16 +16,28 @@
  * contact us at sales@adorsys.com.
  */
 
+
 package de.adorsys.psd2.xs2a.component;
 
+import org.apache.commons.io.IOUtils;
 import org.springframework.web.util.ContentCachingResponseWrapper;
 
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
 import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.PrintWriter;
 
 /**
  * HttpServletResponse wrapper that allows response content to be stored and retrieved
+ * <p>
+ * Content caching can be disabled for responses with potentially large bodies (i.e. file downloads). In this mode the
+ * content is written directly to the original response and only its size is recorded.
  */
 public class MultiReadHttpServletResponse extends ContentCachingResponseWrapper {
+    private boolean contentCachingDisabled;
+    private CountingServletOutputStream streamingOutputStream;
+
     /**
      * Create a new ContentCachingResponseWrapper for the given servlet response.
      *
@@ -43,4 +55,164 @@ public class MultiReadHttpServletResponse extends ContentCachingResponseWrapper
     public byte[] getCachedContent() {
         return this.getContentAsByteArray();
     }
+
+    /**
+     * Returns the beginning of cached response content without copying the whole content
+     *
+     * @param maxLength maximum amount of bytes to be returned
+     * @return first <code>maxLength</code> bytes of cached response or the whole response if it is shorter
+     * @throws IOException if cached content couldn't be read
+     */
+    public byte[] getCachedContent(int maxLength) throws IOException {
+        byte[] slice = new byte[Math.min(getContentSize(), Math.max(maxLength, 0))];
+        IOUtils.readFully(getContentInputStream(), slice);
+        return slice;
+    }
+
+    /**
+     * Switches the response to streaming mode, in which the content is written directly to the original response
+     * without being cached
+     *
+     * @throws IllegalStateException if some content has already been cached
+     */
+    public void disableContentCaching() {
+        if (getContentSize() > 0) {
+            throw new IllegalStateException("Content caching can't be disabled, as response content has already been cached");
+        }
+
+        contentCachingDisabled = true;
+    }
+
+    public boolean isContentCachingDisabled() {
+        return contentCachingDisabled;
+    }
+
+    /**
+     * Returns the amount of bytes, written to the response in streaming mode
+     *
+     * @return size of the streamed content in bytes
+     */
+    public long getStreamedContentSize() {
+        return streamingOutputStream == null
+                   ? 0
+                   : streamingOutputStream.getByteCount();
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        if (!contentCachingDisabled) {
+            return super.getOutputStream();
+        }
+
+        if (streamingOutputStream == null) {
+            streamingOutputStream = new CountingServletOutputStream(getResponse().getOutputStream());
+        }
+        return streamingOutputStream;
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        return contentCachingDisabled
+                   ? getResponse().getWriter()
+                   : super.getWriter();
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        if (contentCachingDisabled) {
+            getResponse().flushBuffer();
+        } else {
+            super.flushBuffer();
+        }
+    }
+
+    @Override
+    public void setContentLength(int len) {
+        if (contentCachingDisabled) {
+            getResponse().setContentLength(len);
+        } else {
+            super.setContentLength(len);
+        }
+    }
+
+    @Override
+    public void setContentLengthLong(long len) {
+        if (contentCachingDisabled) {
+            getResponse().setContentLengthLong(len);
+        } else {
+            super.setContentLengthLong(len);
+        }
+    }
+
+    @Override
+    public void setBufferSize(int size) {
+        if (contentCachingDisabled) {
+            getResponse().setBufferSize(size);
+        } else {
+            super.setBufferSize(size);
+        }
+    }
+
+    @Override
+    public void resetBuffer() {
+        if (contentCachingDisabled) {
+            getResponse().resetBuffer();
+        } else {
+            super.resetBuffer();
+        }
+    }
+
+    @Override
+    public void reset() {
+        if (contentCachingDisabled) {
+            getResponse().reset();
+        } else {
+            super.reset();
+        }
+    }
+
+    private static class CountingServletOutputStream extends ServletOutputStream {
+        private final ServletOutputStream outputStream;
+        private long byteCount;
+
+        private CountingServletOutputStream(ServletOutputStream outputStream) {
+            this.outputStream = outputStream;
+        }
+
+        private long getByteCount() {
+            return byteCount;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            outputStream.write(b);
+            byteCount++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            outputStream.write(b, off, len);
+            byteCount += len;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            outputStream.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            outputStream.close();
+        }
+
+        @Override
+        public boolean isReady() {
+            return outputStream.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            outputStream.setWriteListener(writeListener);
+        }
+    }
 }
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2018-2024 adorsys GmbH & Co KG
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ *
+ * This project is also available under a separate commercial license. You can
+ * contact us at sales@adorsys.com.
+ */
+
+package de.adorsys.psd2.xs2a.component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.adorsys.psd2.mapper.JsonFieldQuery;
+import de.adorsys.psd2.mapper.JsonFieldValues;
+import de.adorsys.psd2.mapper.Xs2aObjectMapper;
+import org.apache.commons.io.IOUtils;
+
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletRequestWrapper;
+import javax.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * Body of the current request, shared by filters, validators and mappers within the request.
+ * <p>
+ * Raw bytes are taken once from the cache of {@link MultiReadHttpServletRequest}, JSON field values and typed
+ * representations of the body are built lazily on the first access and reused afterwards, including failed parsing
+ * attempts. Field values, extracted for some query, are reused for every query they cover.
+ * Instance is bound to the request as an attribute, so it lives exactly as long as the request itself.
+ */
+public class ParsedRequestBody {
+    private static final String REQUEST_ATTRIBUTE = ParsedRequestBody.class.getName();
+
+    private final byte[] rawBody;
+    private final List<JsonFieldValues> fieldValues = new ArrayList<>();
+    private IOException fieldValuesException;
+    private final Map<Class<?>, Object> typedBodies = new HashMap<>();
+    private final Map<Class<?>, IOException> typedBodyExceptions = new HashMap<>();
+
+    ParsedRequestBody(byte[] rawBody) {
+        this.rawBody = rawBody;
+    }
+
+    /**
+     * Returns body bound to the given request or reads the body and binds it to the request
+     *
+     * @param request current HTTP request
+     * @return body of the request
+     * @throws IOException if the body couldn't be read from the request
+     */
+    public static ParsedRequestBody fromRequest(HttpServletRequest request) throws IOException {
+        Optional<ParsedRequestBody> boundBody = findInRequest(request);
+        if (boundBody.isPresent()) {
+            return boundBody.get();
+        }
+
+        ParsedRequestBody parsedRequestBody = new ParsedRequestBody(readBody(request));
+        request.setAttribute(REQUEST_ATTRIBUTE, parsedRequestBody);
+        return parsedRequestBody;
+    }
+
+    /**
+     * Returns body bound to the given request without reading the request
+     *
+     * @param request current HTTP request
+     * @return body of the request, if it has already been read by some other component
+     */
+    public static Optional<ParsedRequestBody> findInRequest(HttpServletRequest request) {
+        Object attribute = request.getAttribute(REQUEST_ATTRIBUTE);
+        return attribute instanceof ParsedRequestBody
+                   ? Optional.of((ParsedRequestBody) attribute)
+                   : Optional.empty();
+    }
+
+    /**
+     * Returns raw body of the request. Returned array is shared and must not be modified.
+     *
+     * @return raw request body
+     */
+    public byte[] getRawBody() {
+        return rawBody;
+    }
+
+    /**
+     * Checks whether given bytes represent this request body
+     *
+     * @param body bytes to be checked
+     * @return <code>true</code> if given bytes are equal to the request body, <code>false</code> otherwise
+     */
+    public boolean hasSameContent(byte[] body) {
+        return rawBody == body || Arrays.equals(rawBody, body);
+    }
+
+    /**
+     * Returns values of the JSON fields of the body, extracting them in one pass over the body unless values covering
+     * given query have already been extracted
+     *
+     * @param objectMapper mapper used for parsing
+     * @param query        fields to be extracted
+     * @return values of the fields
+     * @throws IOException if the body is not a valid JSON
+     */
+    public JsonFieldValues getFieldValues(Xs2aObjectMapper objectMapper, JsonFieldQuery query) throws IOException {
+        if (fieldValuesException != null) {
+            throw fieldValuesException;
+        }
+
+        for (JsonFieldValues values : fieldValues) {
+            if (values.getQuery().covers(query)) {
+                return values;
+            }
+        }
+
+        try {
+            JsonFieldValues values = objectMapper.extractFields(rawBody, query);
+            fieldValues.add(values);
+            return values;
+        } catch (IOException e) {
+            fieldValuesException = e;
+            throw e;
+        }
+    }
+
+    /**
+     * Returns body mapped to the instance of given class, mapping it on the first call for this class
+     *
+     * @param objectMapper mapper used for parsing
+     * @param clazz        target class
+     * @param <T>          type of the target class
+     * @return typed representation of the body
+     * @throws IOException if the body couldn't be mapped to the given class
+     */
+    public <T> T getTypedBody(ObjectMapper objectMapper, Class<T> clazz) throws IOException {
+        IOException typedBodyException = typedBodyExceptions.get(clazz);
+        if (typedBodyException != null) {
+            throw typedBodyException;
+        }
+
+        Object typedBody = typedBodies.get(clazz);
+        if (typedBody == null) {
+            try {
+                typedBody = objectMapper.readValue(rawBody, clazz);
+            } catch (IOException e) {
+                typedBodyExceptions.put(clazz, e);
+                throw e;
+            }
+            typedBodies.put(clazz, typedBody);
+        }
+
+        return clazz.cast(typedBody);
+    }
+
+    private static byte[] readBody(HttpServletRequest request) throws IOException {
+        ServletRequest current = request;
+        while (current instanceof ServletRequestWrapper) {
+            if (current instanceof MultiReadHttpServletRequest) {
+                return ((MultiReadHttpServletRequest) current).getCachedBody();
+            }
+            current = ((ServletRequestWrapper) current).getRequest();
+        }
+
+        return IOUtils.toByteArray(request.getInputStream());
+    }
+}
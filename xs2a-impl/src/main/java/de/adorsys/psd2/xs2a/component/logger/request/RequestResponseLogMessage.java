@@ -23,9 +23,7 @@ import de.adorsys.psd2.xs2a.component.MultiReadHttpServletResponse;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.Value;
-import org.apache.commons.io.IOUtils;
 import org.jetbrains.annotations.NotNull;
-import org.jetbrains.annotations.Nullable;
 import org.springframework.web.util.WebUtils;
 
 import javax.servlet.http.HttpServletRequest;
@@ -36,13 +34,21 @@ import java.util.*;
 import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
+/**
+ * Message for the request-log
+ * <p>
+ * Message keeps request payload and response body as byte slices, limited by the maximum payload size of the
+ * {@link RequestResponseLogPolicy}, and is rendered into text only when it is written into the log.
+ */
 @Value
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 public class RequestResponseLogMessage {
-    String message;
+    List<LogParam> logParams;
+    boolean truncated;
 
     /**
-     * Creates new {@link RequestResponseLogMessage} builder from given request and response
+     * Creates new {@link RequestResponseLogMessage} builder from given request and response, logging all headers and
+     * full payloads
      *
      * @param request  information about the request
      * @param response information about the response
@@ -50,7 +56,54 @@ public class RequestResponseLogMessage {
      */
     public static RequestResponseLogMessageBuilder builder(@NotNull HttpServletRequest request,
                                                            @NotNull HttpServletResponse response) {
-        return new RequestResponseLogMessageBuilder(request, response);
+        return builder(request, response, RequestResponseLogPolicy.unrestricted());
+    }
+
+    /**
+     * Creates new {@link RequestResponseLogMessage} builder from given request and response
+     *
+     * @param request  information about the request
+     * @param response information about the response
+     * @param policy   policy defining logged headers and maximum payload size
+     * @return new builder
+     */
+    public static RequestResponseLogMessageBuilder builder(@NotNull HttpServletRequest request,
+                                                           @NotNull HttpServletResponse response,
+                                                           @NotNull RequestResponseLogPolicy policy) {
+        return new RequestResponseLogMessageBuilder(request, response, policy);
+    }
+
+    /**
+     * Renders the text of the message, decoding payload slices
+     *
+     * @return text of the message
+     */
+    public String getMessage() {
+        return logParams.stream()
+                   .map(p -> p.getName() + ": [" + p.getText() + "]")
+                   .collect(Collectors.joining(", "));
+    }
+
+    @Value
+    static class LogParam {
+        String name;
+        String value;
+        byte[] bytes;
+        int length;
+
+        static LogParam ofText(String name, String value) {
+            return new LogParam(name, value, null, 0);
+        }
+
+        static LogParam ofBytes(String name, byte[] bytes, int length) {
+            return new LogParam(name, null, bytes, length);
+        }
+
+        String getText() {
+            return value != null
+                       ? value
+                       : new String(bytes, 0, length, StandardCharsets.UTF_8);
+        }
     }
 
     public static class RequestResponseLogMessageBuilder {
@@ -58,19 +111,25 @@ public class RequestResponseLogMessage {
         private static final String REQUEST_HEADERS = "requestHeaders";
         private static final String RESPONSE_HEADERS = "responseHeaders";
         private static final String PAYLOAD = "requestPayload";
+        private static final String PAYLOAD_SIZE = "requestPayloadSize";
         private static final String RESPONSE_STATUS = "responseStatus";
         private static final String RESPONSE_BODY = "responseBody";
+        private static final String RESPONSE_BODY_SIZE = "responseBodySize";
         private static final String MULTIPART_FORM_DATA = "multipart/form-data";
         private static final String MULTIPART_VALUES_SEPARATOR = "&";
         private static final String QUERY_SEPARATOR = "?";
 
-        private final Map<String, String> logParams = new LinkedHashMap<>();
+        private final List<LogParam> logParams = new ArrayList<>();
         private final HttpServletRequest request;
         private final HttpServletResponse response;
+        private final RequestResponseLogPolicy policy;
+        private boolean truncated;
 
-        private RequestResponseLogMessageBuilder(HttpServletRequest request, HttpServletResponse response) {
+        private RequestResponseLogMessageBuilder(HttpServletRequest request, HttpServletResponse response,
+                                                 RequestResponseLogPolicy policy) {
             this.request = request;
             this.response = response;
+            this.policy = policy;
         }
 
         /**
@@ -80,12 +139,12 @@ public class RequestResponseLogMessage {
          */
         public RequestResponseLogMessageBuilder withRequestUri() {
             String uri = extractUri(request);
-            logParams.put(URI, uri);
+            logParams.add(LogParam.ofText(URI, uri));
             return this;
         }
 
         /**
-         * Adds request headers to the log message
+         * Adds allow-listed request headers to the log message
          *
          * @return builder
          */
@@ -93,7 +152,7 @@ public class RequestResponseLogMessage {
             Enumeration<String> headerNames = request.getHeaderNames();
             if (headerNames != null) {
                 String requestHeadersMessage = extractHeaders(Collections.list(headerNames), request::getHeader);
-                logParams.put(REQUEST_HEADERS, requestHeadersMessage);
+                logParams.add(LogParam.ofText(REQUEST_HEADERS, requestHeadersMessage));
             }
 
             return this;
@@ -104,21 +163,16 @@ public class RequestResponseLogMessage {
          * <p>
          * Payload is extracted either from request parameters (in case of multipart message) or from the request body.
          * No message will be added to the log if payload doesn't exist in the current request or if it couldn't be
-         * extracted.
+         * extracted. Payload exceeding the maximum payload size is truncated and its full size is added to the log.
          *
          * @return builder
          */
         public RequestResponseLogMessageBuilder withRequestPayload() {
-            String payload;
             String contentType = request.getContentType();
             if (contentType != null && contentType.contains(MULTIPART_FORM_DATA)) {
-                payload = extractRequestParametersPayload(request);
+                addRequestParametersPayload(request);
             } else {
-                payload = extractRequestBody(request);
-            }
-
-            if (payload != null) {
-                logParams.put(PAYLOAD, payload);
+                addRequestBody(request);
             }
 
             return this;
@@ -130,18 +184,18 @@ public class RequestResponseLogMessage {
          * @return builder
          */
         public RequestResponseLogMessageBuilder withResponseStatus() {
-            logParams.put(RESPONSE_STATUS, String.valueOf(response.getStatus()));
+            logParams.add(LogParam.ofText(RESPONSE_STATUS, String.valueOf(response.getStatus())));
             return this;
         }
 
         /**
-         * Adds response headers to the log message
+         * Adds allow-listed response headers to the log message
          *
          * @return builder
          */
         public RequestResponseLogMessageBuilder withResponseHeaders() {
             String responseHeadersMessage = extractHeaders(response.getHeaderNames(), response::getHeader);
-            logParams.put(RESPONSE_HEADERS, responseHeadersMessage);
+            logParams.add(LogParam.ofText(RESPONSE_HEADERS, responseHeadersMessage));
             return this;
         }
 
@@ -149,14 +203,38 @@ public class RequestResponseLogMessage {
          * Adds response body to the log message
          * <p>
          * No message will be added to the log if body isn't present in the response or if it couldn't be
-         * extracted.
+         * extracted. For streamed responses (i.e. transaction downloads) only the size of the body is added. Body
+         * exceeding the maximum payload size is truncated and its full size is added to the log.
          *
          * @return builder
          */
         public RequestResponseLogMessageBuilder withResponseBody() {
-            String body = extractResponseBody(response);
-            if (body != null) {
-                logParams.put(RESPONSE_BODY, body);
+            MultiReadHttpServletResponse wrapper =
+                WebUtils.getNativeResponse(response, MultiReadHttpServletResponse.class);
+            if (wrapper == null) {
+                return this;
+            }
+
+            if (wrapper.isContentCachingDisabled()) {
+                logParams.add(LogParam.ofText(RESPONSE_BODY_SIZE, String.valueOf(wrapper.getStreamedContentSize())));
+                return this;
+            }
+
+            int maxPayloadSize = policy.getMaxPayloadSize();
+            int contentSize = wrapper.getContentSize();
+            if (maxPayloadSize == 0 || contentSize <= maxPayloadSize) {
+                byte[] body = wrapper.getCachedContent();
+                logParams.add(LogParam.ofBytes(RESPONSE_BODY, body, body.length));
+                return this;
+            }
+
+            try {
+                // Response content is copied to the original response after the request is completed, so only the
+                // logged slice of it is kept
+                byte[] slice = wrapper.getCachedContent(maxPayloadSize);
+                addTruncatedBytes(RESPONSE_BODY, RESPONSE_BODY_SIZE, slice, contentSize);
+            } catch (IOException e) {
+                // Body couldn't be extracted and is skipped
             }
 
             return this;
@@ -168,12 +246,7 @@ public class RequestResponseLogMessage {
          * @return new instance of {@link RequestResponseLogMessage}
          */
         public RequestResponseLogMessage build() {
-            String logMessage = logParams.entrySet()
-                                    .stream()
-                                    .map(e -> e.getKey() + ": [" + e.getValue() + "]")
-                                    .collect(Collectors.joining(", "));
-
-            return new RequestResponseLogMessage(logMessage);
+            return new RequestResponseLogMessage(Collections.unmodifiableList(new ArrayList<>(logParams)), truncated);
         }
 
         private String extractUri(HttpServletRequest request) {
@@ -186,53 +259,92 @@ public class RequestResponseLogMessage {
             return uri;
         }
 
-        @Nullable
-        private String extractRequestBody(HttpServletRequest request) {
+        private void addRequestBody(HttpServletRequest request) {
             MultiReadHttpServletRequest wrapper =
                 WebUtils.getNativeRequest(request, MultiReadHttpServletRequest.class);
-            if (wrapper != null) {
-                try {
-                    byte[] requestBytes = IOUtils.toByteArray(wrapper.getInputStream());
-                    return extractBody(requestBytes);
-                } catch (IOException e) {
-                    return null;
-                }
+            if (wrapper == null) {
+                return;
+            }
+
+            byte[] body;
+            try {
+                body = wrapper.getCachedBody();
+            } catch (IOException e) {
+                return;
             }
 
-            return null;
+            int maxPayloadSize = policy.getMaxPayloadSize();
+            if (maxPayloadSize == 0 || body.length <= maxPayloadSize) {
+                // Cached body is never modified, so it is shared with the log message instead of being copied
+                logParams.add(LogParam.ofBytes(PAYLOAD, body, body.length));
+            } else {
+                addTruncatedBytes(PAYLOAD, PAYLOAD_SIZE, Arrays.copyOf(body, maxPayloadSize), body.length);
+            }
         }
 
-        private String extractRequestParametersPayload(HttpServletRequest request) {
+        private void addRequestParametersPayload(HttpServletRequest request) {
             Map<String, String[]> requestParams = request.getParameterMap();
 
-            return requestParams.entrySet()
-                       .stream()
-                       .map(e -> e.getKey() + "=" + String.join(MULTIPART_VALUES_SEPARATOR, e.getValue()))
-                       .collect(Collectors.joining(MULTIPART_VALUES_SEPARATOR));
-        }
+            String payload = requestParams.entrySet()
+                                 .stream()
+                                 .map(e -> e.getKey() + "=" + String.join(MULTIPART_VALUES_SEPARATOR, e.getValue()))
+                                 .collect(Collectors.joining(MULTIPART_VALUES_SEPARATOR));
 
-        @Nullable
-        private String extractResponseBody(HttpServletResponse response) {
-            MultiReadHttpServletResponse wrapper =
-                WebUtils.getNativeResponse(response, MultiReadHttpServletResponse.class);
+            int maxPayloadSize = policy.getMaxPayloadSize();
+            if (maxPayloadSize == 0) {
+                logParams.add(LogParam.ofText(PAYLOAD, payload));
+                return;
+            }
 
-            if (wrapper != null) {
-                byte[] cachedContent = wrapper.getCachedContent();
-                return extractBody(cachedContent);
+            // Limit is applied to UTF-8 bytes, same as for request and response bodies
+            byte[] payloadBytes = payload.getBytes(StandardCharsets.UTF_8);
+            if (payloadBytes.length <= maxPayloadSize) {
+                logParams.add(LogParam.ofText(PAYLOAD, payload));
+            } else {
+                addTruncatedBytes(PAYLOAD, PAYLOAD_SIZE, Arrays.copyOf(payloadBytes, maxPayloadSize), payloadBytes.length);
             }
+        }
 
-            return null;
+        private void addTruncatedBytes(String name, String sizeName, byte[] slice, long fullSize) {
+            truncated = true;
+            logParams.add(LogParam.ofBytes(name, slice, completeUtf8Length(slice)));
+            logParams.add(LogParam.ofText(sizeName, String.valueOf(fullSize)));
         }
 
         private String extractHeaders(Collection<String> headerNames, UnaryOperator<String> headerValueExtractor) {
             return headerNames
                        .stream()
+                       .filter(policy::isHeaderLogged)
                        .map(header -> header + ": " + headerValueExtractor.apply(header))
                        .collect(Collectors.joining(", "));
         }
 
-        private String extractBody(byte[] body) {
-            return new String(body, StandardCharsets.UTF_8);
+        /**
+         * Returns length of the slice without the trailing incomplete UTF-8 character, that could be cut by truncation
+         */
+        private static int completeUtf8Length(byte[] slice) {
+            int leadIndex = slice.length - 1;
+            int continuationBytes = 0;
+            while (leadIndex >= 0 && (slice[leadIndex] & 0xC0) == 0x80 && continuationBytes < 3) {
+                leadIndex--;
+                continuationBytes++;
+            }
+            if (leadIndex < 0) {
+                return slice.length;
+            }
+
+            int lead = slice[leadIndex] & 0xFF;
+            int expectedBytes;
+            if (lead >= 0xF0) {
+                expectedBytes = 4;
+            } else if (lead >= 0xE0) {
+                expectedBytes = 3;
+            } else if (lead >= 0xC0) {
+                expectedBytes = 2;
+            } else {
+                expectedBytes = 1;
+            }
+            return continuationBytes + 1 < expectedBytes ? leadIndex : slice.length;
         }
     }
 }
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2018-2024 adorsys GmbH & Co KG
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ *
+ * This project is also available under a separate commercial license. You can
+ * contact us at sales@adorsys.com.
+ */
+
+package de.adorsys.psd2.xs2a.component.logger.request;
+
+import org.apache.commons.lang3.StringUtils;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+import org.springframework.web.util.UrlPathHelper;
+
+import javax.servlet.http.HttpServletRequest;
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Decides which requests are written into the request-log and which parts of them are logged
+ * <p>
+ * Requests are sampled with the rate of the first endpoint pattern matching the request path or with the default rate,
+ * if no pattern matches. Only allow-listed headers are logged, empty allow-list logs all headers. Request payload and
+ * response body are truncated to the maximum payload size.
+ */
+@Component
+public class RequestResponseLogPolicy {
+    private static final String LIST_SEPARATOR = ",";
+    private static final String ENDPOINT_RATE_SEPARATOR = "=";
+
+    private final PathMatcher pathMatcher = new AntPathMatcher();
+    private final UrlPathHelper urlPathHelper = new UrlPathHelper();
+    private final int maxPayloadSize;
+    private final Set<String> headerAllowList;
+    private final double defaultSamplingRate;
+    private final Map<String, Double> endpointSamplingRates;
+
+    private final LongAdder sampledOutCount = new LongAdder();
+
+    public RequestResponseLogPolicy(@Value("${xs2a.request-log.max-payload-size:16384}") int maxPayloadSize,
+                                    @Value("${xs2a.request-log.header-allow-list:}") String headerAllowList,
+                                    @Value("${xs2a.request-log.sampling.default-rate:1.0}") double defaultSamplingRate,
+                                    @Value("${xs2a.request-log.sampling.endpoint-rates:}") String endpointSamplingRates) {
+        this.maxPayloadSize = maxPayloadSize;
+        this.headerAllowList = Arrays.stream(headerAllowList.split(LIST_SEPARATOR))
+                                   .map(String::trim)
+                                   .filter(StringUtils::isNotEmpty)
+                                   .map(header -> header.toLowerCase(Locale.ROOT))
+                                   .collect(Collectors.toSet());
+        this.defaultSamplingRate = defaultSamplingRate;
+        this.endpointSamplingRates = parseEndpointSamplingRates(endpointSamplingRates);
+    }
+
+    /**
+     * Creates policy that logs every request with all headers and full payloads
+     *
+     * @return policy without any restrictions
+     */
+    public static RequestResponseLogPolicy unrestricted() {
+        return new RequestResponseLogPolicy(0, "", 1.0, "");
+    }
+
+    /**
+     * Checks whether given request should be written into the request-log
+     *
+     * @param request current request
+     * @return <code>true</code> if the request is sampled, <code>false</code> if it should be skipped
+     */
+    public boolean isSampled(@NotNull HttpServletRequest request) {
+        double samplingRate = getSamplingRate(urlPathHelper.getPathWithinApplication(request));
+        boolean sampled = samplingRate >= 1.0
+                              || samplingRate > 0 && ThreadLocalRandom.current().nextDouble() < samplingRate;
+        if (!sampled) {
+            sampledOutCount.increment();
+        }
+        return sampled;
+    }
+
+    /**
+     * Checks whether header with given name should be written into the request-log
+     *
+     * @param headerName case-insensitive name of the header
+     * @return <code>true</code> if the header is allow-listed or the allow-list is empty
+     */
+    public boolean isHeaderLogged(@NotNull String headerName) {
+        return headerAllowList.isEmpty() || headerAllowList.contains(headerName.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Returns maximum size of logged request payload and response body in bytes
+     *
+     * @return maximum payload size, <code>0</code> if payloads are logged in full
+     */
+    public int getMaxPayloadSize() {
+        return Math.max(maxPayloadSize, 0);
+    }
+
+    public long getSampledOutCount() {
+        return sampledOutCount.sum();
+    }
+
+    private double getSamplingRate(String path) {
+        return endpointSamplingRates.entrySet()
+                   .stream()
+                   .filter(e -> pathMatcher.match(e.getKey(), path))
+                   .map(Map.Entry::getValue)
+                   .findFirst()
+                   .orElse(defaultSamplingRate);
+    }
+
+    private Map<String, Double> parseEndpointSamplingRates(String endpointSamplingRates) {
+        Map<String, Double> rates = new LinkedHashMap<>();
+        for (String endpointRate : endpointSamplingRates.split(LIST_SEPARATOR)) {
+            if (StringUtils.isBlank(endpointRate)) {
+                continue;
+            }
+            int separatorIndex = endpointRate.lastIndexOf(ENDPOINT_RATE_SEPARATOR);
+            if (separatorIndex < 0) {
+                throw new IllegalArgumentException("Invalid request-log endpoint sampling rate: " + endpointRate);
+            }
+            rates.put(endpointRate.substring(0, separatorIndex).trim(),
+                      Double.parseDouble(endpointRate.substring(separatorIndex + 1).trim()));
+        }
+        return rates;
+    }
+}
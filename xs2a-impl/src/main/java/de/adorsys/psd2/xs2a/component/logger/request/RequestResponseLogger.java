@@ -18,25 +18,211 @@
 
 package de.adorsys.psd2.xs2a.component.logger.request;
 
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
 import org.springframework.stereotype.Service;
 
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Writes messages into the request-log
+ * <p>
+ * If asynchronous logging is enabled, messages are put into a bounded buffer and written by a background thread, so
+ * that rendering of request payloads and response bodies doesn't delay the response. When the buffer is full, the
+ * oldest buffered message is dropped. Messages, that couldn't be written within the shutdown timeout, are dropped as
+ * well. Dropped and truncated messages are counted. Messages dropped due to the full buffer are reported by the
+ * background thread at most once per poll interval, so that the request threads don't log anything when overloaded.
+ * <p>
+ * Mapped diagnostic context of the request is captured together with the message and is restored by the background
+ * thread while the message is written, so that log lines still contain the IDs of the request.
+ */
 @Slf4j(topic = "request-log")
 @Service
-public class RequestResponseLogger {
+public class RequestResponseLogger implements SmartLifecycle {
+    private static final Logger internalLog = LoggerFactory.getLogger(RequestResponseLogger.class);
+    private static final String WORKER_THREAD_NAME = "RequestLog-writer";
+    private static final long POLL_INTERVAL_MS = 500;
+
+    private final boolean asyncEnabled;
+    private final BlockingQueue<BufferedLogMessage> buffer;
+    private final long shutdownTimeoutMs;
+
+    private final LongAdder loggedCount = new LongAdder();
+    private final LongAdder droppedCount = new LongAdder();
+    private final LongAdder truncatedCount = new LongAdder();
+    private final LongAdder unreportedDroppedCount = new LongAdder();
+
+    private volatile boolean running;
+    private Thread worker;
+    private long lastDropReportTime;
+
+    public RequestResponseLogger(@Value("${xs2a.request-log.async.enabled:false}") boolean asyncEnabled,
+                                 @Value("${xs2a.request-log.async.capacity:10000}") int capacity,
+                                 @Value("${xs2a.request-log.async.shutdown-timeout.ms:5000}") long shutdownTimeoutMs) {
+        this.asyncEnabled = asyncEnabled;
+        this.buffer = new ArrayBlockingQueue<>(Math.max(capacity, 1));
+        this.shutdownTimeoutMs = shutdownTimeoutMs;
+    }
+
     /**
      * Logs given message into the request-log
+     * <p>
+     * Message is written immediately if asynchronous logging is disabled or the writer isn't running.
      *
      * @param logMessage message to be logged
      */
     public void logMessage(RequestResponseLogMessage logMessage) {
-        getLogger().info(logMessage.getMessage());
+        if (logMessage.isTruncated()) {
+            truncatedCount.increment();
+        }
+
+        if (!running) {
+            write(logMessage);
+            return;
+        }
+
+        BufferedLogMessage bufferedLogMessage = new BufferedLogMessage(logMessage, MDC.getCopyOfContextMap());
+        while (!buffer.offer(bufferedLogMessage)) {
+            if (buffer.poll() != null) {
+                droppedCount.increment();
+                unreportedDroppedCount.increment();
+            }
+        }
+    }
+
+    @Override
+    public boolean isAutoStartup() {
+        return asyncEnabled;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (!asyncEnabled || running) {
+            return;
+        }
+        running = true;
+        worker = new Thread(this::processMessages, WORKER_THREAD_NAME);
+        worker.setDaemon(true);
+        worker.start();
+        internalLog.info("Asynchronous request-log writer started");
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        try {
+            worker.join(shutdownTimeoutMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        int remaining = buffer.size();
+        buffer.clear();
+        if (remaining > 0) {
+            droppedCount.add(remaining);
+            internalLog.warn("{} request-log messages couldn't be written within shutdown timeout and are lost", remaining);
+        }
+        internalLog.info("Asynchronous request-log writer stopped: {}", this);
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    public int getQueueDepth() {
+        return buffer.size();
+    }
+
+    public long getLoggedCount() {
+        return loggedCount.sum();
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    public long getTruncatedCount() {
+        return truncatedCount.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "RequestResponseLogger{queueDepth=" + getQueueDepth() +
+                   ", logged=" + getLoggedCount() +
+                   ", dropped=" + getDroppedCount() +
+                   ", truncated=" + getTruncatedCount() + "}";
     }
 
     @NotNull
     Logger getLogger() {
         return log;
     }
+
+    private void processMessages() {
+        while (running || !buffer.isEmpty()) {
+            try {
+                BufferedLogMessage bufferedLogMessage = buffer.poll(POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+                if (bufferedLogMessage != null) {
+                    write(bufferedLogMessage);
+                }
+                reportDroppedMessages();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                internalLog.warn("Request-log message couldn't be written: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void reportDroppedMessages() {
+        long now = System.currentTimeMillis();
+        if (now - lastDropReportTime < POLL_INTERVAL_MS) {
+            return;
+        }
+        long dropped = unreportedDroppedCount.sumThenReset();
+        if (dropped > 0) {
+            lastDropReportTime = now;
+            internalLog.warn("Request-log buffer is full, {} oldest messages were dropped", dropped);
+        }
+    }
+
+    private void write(BufferedLogMessage bufferedLogMessage) {
+        Map<String, String> contextMap = bufferedLogMessage.getContextMap();
+        if (contextMap != null) {
+            MDC.setContextMap(contextMap);
+        }
+        try {
+            write(bufferedLogMessage.getLogMessage());
+        } finally {
+            MDC.clear();
+        }
+    }
+
+    private void write(RequestResponseLogMessage logMessage) {
+        getLogger().info(logMessage.getMessage());
+        loggedCount.increment();
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class BufferedLogMessage {
+        private final RequestResponseLogMessage logMessage;
+        private final Map<String, String> contextMap;
+    }
 }
@@ -18,14 +18,15 @@
 
 package de.adorsys.psd2.xs2a.config;
 
-import de.adorsys.psd2.consent.api.service.TppStopListService;
 import de.adorsys.psd2.logger.context.LoggingContextService;
 import de.adorsys.psd2.mapper.Xs2aObjectMapper;
+import de.adorsys.psd2.validator.certificate.util.CertificateCache;
 import de.adorsys.psd2.validator.signature.DigestVerifier;
 import de.adorsys.psd2.validator.signature.SignatureVerifier;
 import de.adorsys.psd2.validator.signature.impl.DigestVerifierImpl;
 import de.adorsys.psd2.validator.signature.impl.SignatureVerifierImpl;
 import de.adorsys.psd2.xs2a.component.PaymentTypeEnumConverter;
+import de.adorsys.psd2.xs2a.component.logger.request.RequestResponseLogPolicy;
 import de.adorsys.psd2.xs2a.component.logger.request.RequestResponseLogger;
 import de.adorsys.psd2.xs2a.config.converter.MappingJackson2TextMessageConverter;
 import de.adorsys.psd2.xs2a.domain.InternalRequestIdHolder;
@@ -33,6 +34,7 @@ import de.adorsys.psd2.xs2a.domain.RedirectIdHolder;
 import de.adorsys.psd2.xs2a.domain.ScaApproachHolder;
 import de.adorsys.psd2.xs2a.service.RedirectIdService;
 import de.adorsys.psd2.xs2a.service.TppService;
+import de.adorsys.psd2.xs2a.service.TppStopListCache;
 import de.adorsys.psd2.xs2a.service.discovery.ServiceTypeDiscoveryService;
 import de.adorsys.psd2.xs2a.service.mapper.psd2.ErrorMapperContainer;
 import de.adorsys.psd2.xs2a.service.mapper.psd2.ServiceTypeToErrorTypeMapper;
@@ -45,6 +47,7 @@ import de.adorsys.psd2.xs2a.web.interceptor.validator.PaymentParametersValidatio
 import de.adorsys.psd2.xs2a.web.interceptor.validator.RequestValidationInterceptor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.EnableAspectJAutoProxy;
@@ -71,7 +74,7 @@ public class WebConfig implements WebMvcConfigurer {
     @Qualifier("xs2aCorsConfigProperties")
     private final CorsConfigurationProperties corsConfigurationProperties;
     private final TppService tppService;
-    private final TppStopListService tppStopListService;
+    private final TppStopListCache tppStopListCache;
     private final ServiceTypeDiscoveryService serviceTypeDiscoveryService;
     private final ServiceTypeToErrorTypeMapper errorTypeMapper;
     private final ErrorMapperContainer errorMapperContainer;
@@ -79,6 +82,7 @@ public class WebConfig implements WebMvcConfigurer {
     private final RequestValidationInterceptor requestValidationInterceptor;
     private final RedirectIdService redirectIdService;
     private final RequestResponseLogger requestResponseLogger;
+    private final RequestResponseLogPolicy requestResponseLogPolicy;
     private final LoggingContextService loggingContextService;
     private final PathParameterExtractor pathParameterExtractor;
     private final Xs2aRestExceptionHandler xs2aRestExceptionHandler;
@@ -104,8 +108,8 @@ public class WebConfig implements WebMvcConfigurer {
         registry.addInterceptor(new FundsConfirmationLoggingInterceptor(tppService)).addPathPatterns(FUNDS_CONFIRMATION_PATH);
         registry.addInterceptor(new PaymentLoggingInterceptor(tppService, redirectIdService, loggingContextService, pathParameterExtractor)).addPathPatterns(SINGLE_PAYMENTS_PATH, BULK_PAYMENTS_PATH, PERIODIC_PAYMENTS_PATH);
         registry.addInterceptor(new SigningBasketLoggingInterceptor(tppService, redirectIdService, pathParameterExtractor)).addPathPatterns(SIGNING_BASKETS_PATH);
-        registry.addInterceptor(new RequestResponseLoggingInterceptor(requestResponseLogger)).addPathPatterns(getAllXs2aEndpointPaths());
-        registry.addInterceptor(new TppStopListInterceptor(errorMapperContainer, tppService, tppStopListService, serviceTypeDiscoveryService, errorTypeMapper, xs2aObjectMapper))
+        registry.addInterceptor(new RequestResponseLoggingInterceptor(requestResponseLogger, requestResponseLogPolicy)).addPathPatterns(getAllXs2aEndpointPaths());
+        registry.addInterceptor(new TppStopListInterceptor(errorMapperContainer, tppService, tppStopListCache, serviceTypeDiscoveryService, errorTypeMapper, xs2aObjectMapper))
             .addPathPatterns(getAllXs2aEndpointPaths());
 
         // This interceptor cannot use some definite path from constants, as payment services have nothing common in
@@ -173,7 +177,12 @@ public class WebConfig implements WebMvcConfigurer {
     }
 
     @Bean
-    public SignatureVerifier signatureVerifier() {
-        return new SignatureVerifierImpl();
+    public CertificateCache certificateCache(@Value("${xs2a.certificate-cache.max-size:1000}") int maxSize) {
+        return new CertificateCache(maxSize);
+    }
+
+    @Bean
+    public SignatureVerifier signatureVerifier(CertificateCache certificateCache) {
+        return new SignatureVerifierImpl(certificateCache);
     }
 }
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2018-2024 adorsys GmbH & Co KG
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ *
+ * This project is also available under a separate commercial license. You can
+ * contact us at sales@adorsys.com.
+ */
+
+package de.adorsys.psd2.xs2a.service;
+
+import de.adorsys.psd2.consent.api.CmsResponse;
+import de.adorsys.psd2.consent.api.service.TppStopListService;
+import de.adorsys.psd2.xs2a.core.tpp.TppStopListChangedEvent;
+import de.adorsys.psd2.xs2a.core.tpp.TppStopListRecord;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.BooleanUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.OffsetDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Local snapshots of the TPP stop list, stored by instance ID.
+ * <p>
+ * Snapshot contains all blocked TPPs of the instance and is reused until refresh interval is elapsed, so that checking
+ * the TPP doesn't require any calls to CMS. Blocking expiration timestamp is checked locally on each call. Snapshots are
+ * dropped on {@link TppStopListChangedEvent}, which is published by CMS running in the same application, otherwise
+ * the changes become visible after the refresh interval. Refresh interval of zero disables the cache, so that CMS is
+ * asked on each call.
+ */
+@Slf4j
+@Component
+public class TppStopListCache {
+    private final TppStopListService tppStopListService;
+    private final long refreshIntervalMs;
+    private final Map<String, StopListSnapshot> snapshots = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final LongAdder loadCount = new LongAdder();
+    private final LongAdder invalidationCount = new LongAdder();
+
+    public TppStopListCache(TppStopListService tppStopListService,
+                            @Value("${xs2a.tpp-stop-list.cache.refresh-interval.ms:0}") long refreshIntervalMs) {
+        this.tppStopListService = tppStopListService;
+        this.refreshIntervalMs = refreshIntervalMs;
+    }
+
+    /**
+     * Checks if TPP is blocked in given instance
+     *
+     * @param tppAuthorisationNumber authorisation number of the TPP
+     * @param instanceId             ID of the instance
+     * @return <code>true</code> if TPP is blocked and its blocking hasn't expired yet, <code>false</code> otherwise
+     */
+    public boolean isTppBlocked(String tppAuthorisationNumber, String instanceId) {
+        if (!isEnabled()) {
+            return checkInCms(tppAuthorisationNumber, instanceId);
+        }
+
+        StopListSnapshot snapshot = getSnapshot(instanceId);
+        if (snapshot == null) {
+            return checkInCms(tppAuthorisationNumber, instanceId);
+        }
+        return snapshot.isBlocked(tppAuthorisationNumber, OffsetDateTime.now());
+    }
+
+    /**
+     * Drops all snapshots, so that the stop list is read from CMS on next call.
+     * <p>
+     * Instance ID from the event is not used, as blank instance ID of the request is resolved to the default one only
+     * by CMS.
+     *
+     * @param event stop list change event
+     */
+    @EventListener
+    public void onTppStopListChanged(TppStopListChangedEvent event) {
+        log.debug("Dropping TPP stop list snapshots due to {}", event);
+        invalidationCount.increment();
+        evictAll();
+    }
+
+    public boolean isEnabled() {
+        return refreshIntervalMs > 0;
+    }
+
+    public void evictAll() {
+        generation.incrementAndGet();
+        snapshots.clear();
+    }
+
+    public long getLoadCount() {
+        return loadCount.sum();
+    }
+
+    public long getInvalidationCount() {
+        return invalidationCount.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "TppStopListCache{refreshIntervalMs=" + refreshIntervalMs +
+                   ", snapshots=" + snapshots.size() +
+                   ", loads=" + getLoadCount() +
+                   ", invalidations=" + getInvalidationCount() + "}";
+    }
+
+    private StopListSnapshot getSnapshot(String instanceId) {
+        String key = StringUtils.defaultString(instanceId);
+        long now = System.currentTimeMillis();
+
+        StopListSnapshot snapshot = snapshots.get(key);
+        if (snapshot != null && now < snapshot.expiresAt) {
+            return snapshot;
+        }
+
+        // Generation is read before loading, so that snapshots loaded concurrently with invalidation are not stored
+        long loadGeneration = generation.get();
+        CmsResponse<List<TppStopListRecord>> cmsResponse = tppStopListService.getBlockedTpps(instanceId);
+        loadCount.increment();
+        if (cmsResponse.hasError() || cmsResponse.getPayload() == null) {
+            log.info("Instance ID: [{}]. TPP stop list couldn't be loaded", key);
+            snapshots.remove(key);
+            return null;
+        }
+
+        snapshot = new StopListSnapshot(cmsResponse.getPayload(), now + refreshIntervalMs);
+        if (generation.get() == loadGeneration) {
+            snapshots.put(key, snapshot);
+        }
+        return snapshot;
+    }
+
+    private boolean checkInCms(String tppAuthorisationNumber, String instanceId) {
+        CmsResponse<Boolean> cmsResponse = tppStopListService.checkIfTppBlocked(tppAuthorisationNumber, instanceId);
+        return cmsResponse.isSuccessful() && BooleanUtils.isTrue(cmsResponse.getPayload());
+    }
+
+    private static final class StopListSnapshot {
+        private final Map<String, TppStopListRecord> blockedTpps = new HashMap<>();
+        private final long expiresAt;
+
+        private StopListSnapshot(List<TppStopListRecord> records, long expiresAt) {
+            records.forEach(r -> blockedTpps.put(r.getTppAuthorisationNumber(), r));
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isBlocked(String tppAuthorisationNumber, OffsetDateTime now) {
+            TppStopListRecord tppStopListRecord = blockedTpps.get(tppAuthorisationNumber);
+            if (tppStopListRecord == null) {
+                return false;
+            }
+            OffsetDateTime blockingExpirationTimestamp = tppStopListRecord.getBlockingExpirationTimestamp();
+            return blockingExpirationTimestamp == null || blockingExpirationTimestamp.isAfter(now);
+        }
+    }
+}
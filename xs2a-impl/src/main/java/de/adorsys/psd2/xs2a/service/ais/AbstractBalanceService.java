@@ -25,6 +25,7 @@ import de.adorsys.psd2.xs2a.core.domain.TppMessageInformation;
 import de.adorsys.psd2.xs2a.core.service.validator.ValidationResult;
 import de.adorsys.psd2.xs2a.domain.ResponseObject;
 import de.adorsys.psd2.xs2a.domain.account.Xs2aBalancesReport;
+import de.adorsys.psd2.xs2a.domain.consent.Xs2aAisConsentAccess;
 import de.adorsys.psd2.xs2a.service.event.Xs2aEventService;
 import de.adorsys.psd2.xs2a.spi.domain.account.SpiAccountBalance;
 import de.adorsys.psd2.xs2a.spi.domain.response.SpiResponse;
@@ -55,9 +56,9 @@ public abstract class AbstractBalanceService {
     public ResponseObject<Xs2aBalancesReport> getBalancesReport(String consentId, String accountId, String requestUri) {
         xs2aEventService.recordConsentTppRequest(consentId, getEventType());
 
-        Optional<AisConsent> aisConsentOptional = accountServicesHolder.getAccountConsentById(consentId);
+        Optional<Xs2aAisConsentAccess> consentAccessOptional = accountServicesHolder.getAccountConsentAccess(consentId);
 
-        if (aisConsentOptional.isEmpty()) {
+        if (consentAccessOptional.isEmpty()) {
             log.info("Account-ID [{}], Consent-ID [{}]. Get balances report failed. Account consent not found by ID",
                      accountId, consentId);
             return ResponseObject.<Xs2aBalancesReport>builder()
@@ -65,7 +66,8 @@ public abstract class AbstractBalanceService {
                        .build();
         }
 
-        AisConsent aisConsent = aisConsentOptional.get();
+        Xs2aAisConsentAccess consentAccess = consentAccessOptional.get();
+        AisConsent aisConsent = consentAccess.getAisConsent();
 
         ValidationResult validationResult = getValidationResultForCommonAccountBalanceRequest(accountId, requestUri, aisConsent);
 
@@ -77,7 +79,7 @@ public abstract class AbstractBalanceService {
                        .build();
         }
 
-        SpiResponse<List<SpiAccountBalance>> spiResponse = getSpiResponse(aisConsent, consentId, accountId);
+        SpiResponse<List<SpiAccountBalance>> spiResponse = getSpiResponse(consentAccess, consentId, accountId);
 
         if (spiResponse.hasError()) {
             return checkSpiResponse(consentId, accountId, spiResponse);
@@ -92,7 +94,7 @@ public abstract class AbstractBalanceService {
 
     protected abstract ValidationResult getValidationResultForCommonAccountBalanceRequest(String accountId, String requestUri, AisConsent accountConsent);
 
-    protected abstract SpiResponse<List<SpiAccountBalance>> getSpiResponse(AisConsent aisConsent, String consentId, String accountId);
+    protected abstract SpiResponse<List<SpiAccountBalance>> getSpiResponse(Xs2aAisConsentAccess consentAccess, String consentId, String accountId);
 
     protected abstract ResponseObject<Xs2aBalancesReport> checkSpiResponse(String consentId, String accountId, SpiResponse<List<SpiAccountBalance>> spiResponse);
 
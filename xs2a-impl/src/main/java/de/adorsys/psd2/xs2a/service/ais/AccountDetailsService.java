@@ -30,6 +30,7 @@ import de.adorsys.psd2.xs2a.core.service.validator.ValidationResult;
 import de.adorsys.psd2.xs2a.domain.ResponseObject;
 import de.adorsys.psd2.xs2a.domain.account.Xs2aAccountDetails;
 import de.adorsys.psd2.xs2a.domain.account.Xs2aAccountDetailsHolder;
+import de.adorsys.psd2.xs2a.domain.consent.Xs2aAisConsentAccess;
 import de.adorsys.psd2.xs2a.service.TppService;
 import de.adorsys.psd2.xs2a.service.consent.Xs2aAisConsentService;
 import de.adorsys.psd2.xs2a.service.event.Xs2aEventService;
@@ -87,9 +88,9 @@ public class AccountDetailsService {
                                                                       boolean withBalance, String requestUri) {
         xs2aEventService.recordConsentTppRequest(consentId, EventType.READ_ACCOUNT_DETAILS_REQUEST_RECEIVED);
 
-        Optional<AisConsent> aisConsentOptional = aisConsentService.getAccountConsentById(consentId);
+        Optional<Xs2aAisConsentAccess> consentAccessOptional = aisConsentService.getAccountConsentAccess(consentId);
 
-        if (aisConsentOptional.isEmpty()) {
+        if (consentAccessOptional.isEmpty()) {
             log.info("Account-ID [{}], Consent-ID [{}]. Get account details failed. Account consent not found by id",
                      accountId, consentId);
             return ResponseObject.<Xs2aAccountDetailsHolder>builder()
@@ -97,7 +98,8 @@ public class AccountDetailsService {
                        .build();
         }
 
-        AisConsent aisConsent = aisConsentOptional.get();
+        Xs2aAisConsentAccess consentAccess = consentAccessOptional.get();
+        AisConsent aisConsent = consentAccess.getAisConsent();
         ValidationResult validationResult = getValidationResultForCommonAccountRequest(accountId, withBalance, requestUri, aisConsent);
 
         if (validationResult.isNotValid()) {
@@ -108,7 +110,7 @@ public class AccountDetailsService {
                        .build();
         }
 
-        SpiResponse<SpiAccountDetails> spiResponse = getSpiResponse(aisConsent, consentId, accountId, withBalance);
+        SpiResponse<SpiAccountDetails> spiResponse = getSpiResponse(consentAccess, consentId, accountId, withBalance);
 
         if (spiResponse.hasError()) {
             return checkSpiResponse(consentId, accountId, spiResponse);
@@ -124,8 +126,9 @@ public class AccountDetailsService {
         return getAccountDetailsValidator.validate(validatorObject);
     }
 
-    private SpiResponse<SpiAccountDetails> getSpiResponse(AisConsent aisConsent, String consentId,
+    private SpiResponse<SpiAccountDetails> getSpiResponse(Xs2aAisConsentAccess consentAccess, String consentId,
                                                           String accountId, boolean withBalance) {
+        AisConsent aisConsent = consentAccess.getAisConsent();
         AccountAccess access = aisConsent.getAspspAccountAccesses();
         SpiAccountReference requestedAccountReference = aisConsent.isGlobalConsent() ?
                                                             SpiAccountReference.builder()
@@ -136,7 +139,7 @@ public class AccountDetailsService {
         return accountSpi.requestAccountDetailForAccount(accountHelperService.getSpiContextData(),
                                                          withBalance, requestedAccountReference,
                                                          consentMapper.mapToSpiAccountConsent(aisConsent),
-                                                         aspspConsentDataProviderFactory.getSpiAspspDataProviderFor(consentId));
+                                                         aspspConsentDataProviderFactory.getSpiAspspDataProviderFor(consentId, consentAccess.getAspspConsentData()));
     }
 
     private ResponseObject<Xs2aAccountDetailsHolder> checkSpiResponse(String consentId, String accountId, SpiResponse<SpiAccountDetails> spiResponse) {
@@ -32,6 +32,7 @@ import de.adorsys.psd2.xs2a.core.service.validator.ValidationResult;
 import de.adorsys.psd2.xs2a.domain.ResponseObject;
 import de.adorsys.psd2.xs2a.domain.account.Xs2aAccountDetails;
 import de.adorsys.psd2.xs2a.domain.account.Xs2aAccountListHolder;
+import de.adorsys.psd2.xs2a.domain.consent.Xs2aAisConsentAccess;
 import de.adorsys.psd2.xs2a.service.TppService;
 import de.adorsys.psd2.xs2a.service.consent.AccountReferenceInConsentUpdater;
 import de.adorsys.psd2.xs2a.service.consent.Xs2aAisConsentService;
@@ -90,16 +91,17 @@ public class AccountListService {
     public ResponseObject<Xs2aAccountListHolder> getAccountList(String consentId, boolean withBalance, String requestUri) {
         xs2aEventService.recordConsentTppRequest(consentId, EventType.READ_ACCOUNT_LIST_REQUEST_RECEIVED);
 
-        Optional<AisConsent> aisConsentOptional = aisConsentService.getAccountConsentById(consentId);
+        Optional<Xs2aAisConsentAccess> consentAccessOptional = aisConsentService.getAccountConsentAccess(consentId);
 
-        if (aisConsentOptional.isEmpty()) {
+        if (consentAccessOptional.isEmpty()) {
             log.info("Consent-ID [{}]. Get account list failed. Account consent not found by id", consentId);
             return ResponseObject.<Xs2aAccountListHolder>builder()
                        .fail(AIS_400, TppMessageInformation.of(CONSENT_UNKNOWN_400))
                        .build();
         }
 
-        AisConsent aisConsent = aisConsentOptional.get();
+        Xs2aAisConsentAccess consentAccess = consentAccessOptional.get();
+        AisConsent aisConsent = consentAccess.getAisConsent();
 
         ValidationResult validationResult = getValidationResultForGetAccountListConsent(withBalance, requestUri, aisConsent);
 
@@ -111,7 +113,7 @@ public class AccountListService {
                        .build();
         }
 
-        SpiResponse<List<SpiAccountDetails>> spiResponse = getSpiResponse(aisConsent, consentId, withBalance);
+        SpiResponse<List<SpiAccountDetails>> spiResponse = getSpiResponse(consentAccess, consentId, withBalance);
 
         if (spiResponse.hasError()) {
             ErrorHolder errorHolder = spiErrorMapper.mapToErrorHolder(spiResponse, ServiceType.AIS);
@@ -151,12 +153,12 @@ public class AccountListService {
         return getAccountListValidator.validate(validatorObject);
     }
 
-    private SpiResponse<List<SpiAccountDetails>> getSpiResponse(AisConsent aisConsent, String consentId,
+    private SpiResponse<List<SpiAccountDetails>> getSpiResponse(Xs2aAisConsentAccess consentAccess, String consentId,
                                                                 boolean withBalance) {
         return accountSpi.requestAccountList(accountHelperService.getSpiContextData(),
                                              withBalance,
-                                             consentMapper.mapToSpiAccountConsent(aisConsent),
-                                             aspspConsentDataProviderFactory.getSpiAspspDataProviderFor(consentId));
+                                             consentMapper.mapToSpiAccountConsent(consentAccess.getAisConsent()),
+                                             aspspConsentDataProviderFactory.getSpiAspspDataProviderFor(consentId, consentAccess.getAspspConsentData()));
     }
 
     @NotNull
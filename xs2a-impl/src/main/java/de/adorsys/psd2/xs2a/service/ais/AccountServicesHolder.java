@@ -23,6 +23,7 @@ import de.adorsys.psd2.consent.api.TypeAccess;
 import de.adorsys.psd2.core.data.ais.AisConsent;
 import de.adorsys.psd2.xs2a.core.profile.AccountReference;
 import de.adorsys.psd2.xs2a.domain.ResponseObject;
+import de.adorsys.psd2.xs2a.domain.consent.Xs2aAisConsentAccess;
 import de.adorsys.psd2.xs2a.service.TppService;
 import de.adorsys.psd2.xs2a.service.consent.CardAccountHandler;
 import de.adorsys.psd2.xs2a.service.consent.Xs2aAisConsentService;
@@ -42,8 +43,8 @@ public class AccountServicesHolder {
     private final AccountHelperService accountHelperService;
     private final CardAccountHandler cardAccountHandler;
 
-    public Optional<AisConsent> getAccountConsentById(String consentId) {
-        return aisConsentService.getAccountConsentById(consentId);
+    public Optional<Xs2aAisConsentAccess> getAccountConsentAccess(String consentId) {
+        return aisConsentService.getAccountConsentAccess(consentId);
     }
 
     public SpiAccountReference findAccountReference(List<AccountReference> accountReferences, String accountId) {
@@ -30,6 +30,7 @@ import de.adorsys.psd2.xs2a.core.profile.AccountReference;
 import de.adorsys.psd2.xs2a.core.service.validator.ValidationResult;
 import de.adorsys.psd2.xs2a.domain.ResponseObject;
 import de.adorsys.psd2.xs2a.domain.account.Xs2aBalancesReport;
+import de.adorsys.psd2.xs2a.domain.consent.Xs2aAisConsentAccess;
 import de.adorsys.psd2.xs2a.service.event.Xs2aEventService;
 import de.adorsys.psd2.xs2a.service.mapper.AccountMappersHolder;
 import de.adorsys.psd2.xs2a.service.spi.SpiAspspConsentDataProviderFactory;
@@ -84,14 +85,15 @@ public class BalanceService extends AbstractBalanceService {
     }
 
     @Override
-    protected SpiResponse<List<SpiAccountBalance>> getSpiResponse(AisConsent aisConsent, String consentId, String accountId) {
+    protected SpiResponse<List<SpiAccountBalance>> getSpiResponse(Xs2aAisConsentAccess consentAccess, String consentId, String accountId) {
+        AisConsent aisConsent = consentAccess.getAisConsent();
         AccountAccess access = aisConsent.getAspspAccountAccesses();
         SpiAccountReference requestedAccountReference = accountServicesHolder.findAccountReference(access.getBalances(), accountId);
 
         return accountSpi.requestBalancesForAccount(accountServicesHolder.getSpiContextData(),
                                                     requestedAccountReference,
                                                     accountMappersHolder.mapToSpiAccountConsent(aisConsent),
-                                                    aspspConsentDataProviderFactory.getSpiAspspDataProviderFor(consentId));
+                                                    aspspConsentDataProviderFactory.getSpiAspspDataProviderFor(consentId, consentAccess.getAspspConsentData()));
     }
 
     @Override
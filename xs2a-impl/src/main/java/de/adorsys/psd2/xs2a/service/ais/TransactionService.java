@@ -35,6 +35,7 @@ import de.adorsys.psd2.xs2a.domain.Links;
 import de.adorsys.psd2.xs2a.domain.ResponseObject;
 import de.adorsys.psd2.xs2a.domain.Transactions;
 import de.adorsys.psd2.xs2a.domain.account.*;
+import de.adorsys.psd2.xs2a.domain.consent.Xs2aAisConsentAccess;
 import de.adorsys.psd2.xs2a.service.TppService;
 import de.adorsys.psd2.xs2a.service.consent.Xs2aAccountService;
 import de.adorsys.psd2.xs2a.service.consent.Xs2aAisConsentService;
@@ -111,9 +112,9 @@ public class TransactionService {
     public ResponseObject<Xs2aTransactionsReport> getTransactionsReportByPeriod(Xs2aTransactionsReportByPeriodRequest request) {
         xs2aEventService.recordConsentTppRequest(request.getConsentId(), EventType.READ_TRANSACTION_LIST_REQUEST_RECEIVED);
 
-        Optional<AisConsent> aisConsentOptional = aisConsentService.getAccountConsentById(request.getConsentId());
+        Optional<Xs2aAisConsentAccess> consentAccessOptional = aisConsentService.getAccountConsentAccess(request.getConsentId());
 
-        if (aisConsentOptional.isEmpty()) {
+        if (consentAccessOptional.isEmpty()) {
             log.info("Account-ID [{}], Consent-ID [{}]. Get transactions report by period failed. Account consent not found by ID",
                      request.getAccountId(), request.getConsentId());
             return ResponseObject.<Xs2aTransactionsReport>builder()
@@ -121,7 +122,8 @@ public class TransactionService {
                        .build();
         }
 
-        AisConsent aisConsent = aisConsentOptional.get();
+        Xs2aAisConsentAccess consentAccess = consentAccessOptional.get();
+        AisConsent aisConsent = consentAccess.getAisConsent();
         ValidationResult validationResult = getValidationResultForTransactionsReportByPeriod(request, aisConsent);
 
         if (validationResult.isNotValid()) {
@@ -143,7 +145,7 @@ public class TransactionService {
                        .build();
         }
 
-        SpiResponse<SpiTransactionReport> spiResponse = getSpiResponseSpiTransactionReport(request, aisConsent, spiAccountReference);
+        SpiResponse<SpiTransactionReport> spiResponse = getSpiResponseSpiTransactionReport(request, consentAccess, spiAccountReference);
 
         if (spiResponse.hasError()) {
             return checkSpiResponseForTransactionsReport(request, spiResponse);
@@ -176,9 +178,9 @@ public class TransactionService {
     public ResponseObject<Transactions> getTransactionDetails(String consentId, String accountId, String transactionId, String requestUri) {
         xs2aEventService.recordConsentTppRequest(consentId, EventType.READ_TRANSACTION_DETAILS_REQUEST_RECEIVED);
 
-        Optional<AisConsent> aisConsentOptional = aisConsentService.getAccountConsentById(consentId);
+        Optional<Xs2aAisConsentAccess> consentAccessOptional = aisConsentService.getAccountConsentAccess(consentId);
 
-        if (aisConsentOptional.isEmpty()) {
+        if (consentAccessOptional.isEmpty()) {
             log.info("Account-ID [{}], Consent-ID [{}]. Get transaction details failed. Account consent not found by ID",
                      accountId, consentId);
             return ResponseObject.<Transactions>builder()
@@ -186,7 +188,8 @@ public class TransactionService {
                        .build();
         }
 
-        AisConsent accountConsent = aisConsentOptional.get();
+        Xs2aAisConsentAccess consentAccess = consentAccessOptional.get();
+        AisConsent accountConsent = consentAccess.getAisConsent();
         ValidationResult validationResult = getValidationResultForCommonAccountTransactions(accountId, requestUri, accountConsent);
 
         if (validationResult.isNotValid()) {
@@ -197,7 +200,7 @@ public class TransactionService {
                        .build();
         }
 
-        SpiResponse<SpiTransaction> spiResponse = getSpiResponseSpiTransaction(accountConsent, consentId, accountId, transactionId);
+        SpiResponse<SpiTransaction> spiResponse = getSpiResponseSpiTransaction(consentAccess, consentId, accountId, transactionId);
 
         if (spiResponse.hasError()) {
             return checkSpiResponseForTransactions(consentId, accountId, spiResponse);
@@ -219,9 +222,9 @@ public class TransactionService {
     public ResponseObject<Xs2aTransactionsDownloadResponse> downloadTransactions(String consentId, String accountId, String downloadId) {
         xs2aEventService.recordConsentTppRequest(consentId, EventType.DOWNLOAD_TRANSACTION_LIST_REQUEST_RECEIVED);
 
-        Optional<AisConsent> aisConsentOptional = aisConsentService.getAccountConsentById(consentId);
+        Optional<Xs2aAisConsentAccess> consentAccessOptional = aisConsentService.getAccountConsentAccess(consentId);
 
-        if (aisConsentOptional.isEmpty()) {
+        if (consentAccessOptional.isEmpty()) {
             log.info("Consent-ID [{}], Account-ID: [{}], Download-ID: [{}]. Download transactions failed. Account consent not found by ID",
                      consentId, accountId, downloadId);
             return ResponseObject.<Xs2aTransactionsDownloadResponse>builder()
@@ -229,7 +232,8 @@ public class TransactionService {
                        .build();
         }
 
-        AisConsent aisConsent = aisConsentOptional.get();
+        Xs2aAisConsentAccess consentAccess = consentAccessOptional.get();
+        AisConsent aisConsent = consentAccess.getAisConsent();
         ValidationResult validationResult = getValidationResultForDownloadTransactionRequest(aisConsent, accountId);
 
         if (validationResult.isNotValid()) {
@@ -240,7 +244,7 @@ public class TransactionService {
                        .build();
         }
 
-        SpiResponse<SpiTransactionsDownloadResponse> spiResponse = getSpiResponseSpiTransactionsDownloadResponse(aisConsent, consentId, downloadId);
+        SpiResponse<SpiTransactionsDownloadResponse> spiResponse = getSpiResponseSpiTransactionsDownloadResponse(consentAccess, consentId, downloadId);
 
         if (spiResponse.hasError()) {
             return checkSpiResponseForTransactionDownloadResponse(consentId, accountId, downloadId, spiResponse);
@@ -290,13 +294,14 @@ public class TransactionService {
     }
 
     private SpiResponse<SpiTransactionReport> getSpiResponseSpiTransactionReport(Xs2aTransactionsReportByPeriodRequest request,
-                                                                                 AisConsent aisConsent,
+                                                                                 Xs2aAisConsentAccess consentAccess,
                                                                                  SpiAccountReference spiAccountReference) {
         return accountSpi.requestTransactionsForAccount(accountHelperService.getSpiContextData(),
                                                         buildSpiTransactionReportParameters(request),
                                                         spiAccountReference,
-                                                        consentMapper.mapToSpiAccountConsent(aisConsent),
-                                                        aspspConsentDataProviderFactory.getSpiAspspDataProviderFor(request.getConsentId()));
+                                                        consentMapper.mapToSpiAccountConsent(consentAccess.getAisConsent()),
+                                                        aspspConsentDataProviderFactory.getSpiAspspDataProviderFor(request.getConsentId(),
+                                                                                                                   consentAccess.getAspspConsentData()));
     }
 
     private SpiTransactionReportParameters buildSpiTransactionReportParameters(Xs2aTransactionsReportByPeriodRequest request) {
@@ -333,15 +338,16 @@ public class TransactionService {
     }
 
     @NotNull
-    private SpiResponse<SpiTransaction> getSpiResponseSpiTransaction(AisConsent aisConsent, String consentId,
+    private SpiResponse<SpiTransaction> getSpiResponseSpiTransaction(Xs2aAisConsentAccess consentAccess, String consentId,
                                                                      String accountId, String transactionId) {
         validatorService.validateAccountIdTransactionId(accountId, transactionId);
 
+        AisConsent aisConsent = consentAccess.getAisConsent();
         return accountSpi.requestTransactionForAccountByTransactionId(accountHelperService.getSpiContextData(),
                                                                       transactionId,
                                                                       getRequestedAccountReference(aisConsent, accountId),
                                                                       consentMapper.mapToSpiAccountConsent(aisConsent),
-                                                                      aspspConsentDataProviderFactory.getSpiAspspDataProviderFor(consentId));
+                                                                      aspspConsentDataProviderFactory.getSpiAspspDataProviderFor(consentId, consentAccess.getAspspConsentData()));
     }
 
     private ResponseObject<Transactions> checkSpiResponseForTransactions(String consentId, String accountId,
@@ -355,14 +361,14 @@ public class TransactionService {
     }
 
     @NotNull
-    private SpiResponse<SpiTransactionsDownloadResponse> getSpiResponseSpiTransactionsDownloadResponse(AisConsent aisConsent,
+    private SpiResponse<SpiTransactionsDownloadResponse> getSpiResponseSpiTransactionsDownloadResponse(Xs2aAisConsentAccess consentAccess,
                                                                                                        String consentId,
                                                                                                        String downloadId) {
         String decodedDownloadId = new String(Base64.getUrlDecoder().decode(downloadId));
         return accountSpi.requestTransactionsByDownloadLink(accountHelperService.getSpiContextData(),
-                                                            consentMapper.mapToSpiAccountConsent(aisConsent),
+                                                            consentMapper.mapToSpiAccountConsent(consentAccess.getAisConsent()),
                                                             decodedDownloadId,
-                                                            aspspConsentDataProviderFactory.getSpiAspspDataProviderFor(consentId));
+                                                            aspspConsentDataProviderFactory.getSpiAspspDataProviderFor(consentId, consentAccess.getAspspConsentData()));
     }
 
     private ResponseObject<Xs2aTransactionsDownloadResponse> checkSpiResponseForTransactionDownloadResponse(String consentId,
@@ -22,6 +22,7 @@ import de.adorsys.psd2.consent.api.ActionStatus;
 import de.adorsys.psd2.consent.api.CmsError;
 import de.adorsys.psd2.consent.api.CmsResponse;
 import de.adorsys.psd2.consent.api.WrongChecksumException;
+import de.adorsys.psd2.consent.api.ais.AisConsentAccessResponse;
 import de.adorsys.psd2.consent.api.ais.AisConsentActionRequest;
 import de.adorsys.psd2.consent.api.ais.CmsConsent;
 import de.adorsys.psd2.consent.api.authorisation.UpdateAuthorisationRequest;
@@ -41,6 +42,7 @@ import de.adorsys.psd2.xs2a.domain.Xs2aResponse;
 import de.adorsys.psd2.xs2a.domain.account.Xs2aCreateAisConsentResponse;
 import de.adorsys.psd2.xs2a.domain.consent.ConsentAuthorisationsParameters;
 import de.adorsys.psd2.xs2a.domain.consent.CreateConsentReq;
+import de.adorsys.psd2.xs2a.domain.consent.Xs2aAisConsentAccess;
 import de.adorsys.psd2.xs2a.service.CmsCreateConsentResponseService;
 import de.adorsys.psd2.xs2a.service.authorization.Xs2aAuthorisationService;
 import de.adorsys.psd2.xs2a.service.mapper.cms_xs2a_mappers.Xs2aAisConsentMapper;
@@ -115,6 +117,30 @@ public class Xs2aAisConsentService {
         return Optional.empty();
     }
 
+    /**
+     * Requests CMS to retrieve AIS consent together with its ASPSP consent data in one call
+     *
+     * @param consentId String representation of identifier of stored consent
+     * @return AIS consent with its ASPSP consent data, if the consent was found and is of AIS type
+     */
+    public Optional<Xs2aAisConsentAccess> getAccountConsentAccess(String consentId) {
+        CmsResponse<AisConsentAccessResponse> consentAccess = aisConsentService.getConsentAccess(consentId);
+
+        if (consentAccess.hasError()) {
+            log.info("Get consent access by id failed due to CMS problems");
+            return Optional.empty();
+        }
+        AisConsentAccessResponse payload = consentAccess.getPayload();
+
+        if (payload.getConsent().getConsentType() == ConsentType.AIS) {
+            return Optional.ofNullable(aisConsentMapper.mapToAisConsent(payload.getConsent()))
+                       .map(aisConsent -> new Xs2aAisConsentAccess(aisConsent, payload.getAspspConsentData()));
+        }
+
+        log.info("Requested consent is not of ConsentType.AIS, consentId=" + consentId);
+        return Optional.empty();
+    }
+
     /**
      * Requests CMS to find old consents for current TPP and PSU and terminate them.
      *
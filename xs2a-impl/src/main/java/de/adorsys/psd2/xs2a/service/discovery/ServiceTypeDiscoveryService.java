@@ -19,24 +19,35 @@
 package de.adorsys.psd2.xs2a.service.discovery;
 
 import de.adorsys.psd2.xs2a.core.mapper.ServiceType;
+import de.adorsys.psd2.xs2a.web.request.RequestPathResolver;
+import de.adorsys.psd2.xs2a.web.request.Xs2aRoute;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.web.util.UrlPathHelper;
 
 import javax.servlet.http.HttpServletRequest;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class ServiceTypeDiscoveryService {
     private final HttpServletRequest request;
+    private final RequestPathResolver requestPathResolver;
 
     /**
-     * Gets service type from request URI by invoking ServiceTypeDiscovery
+     * Gets service type from the route of the current request, resolved by RequestPathResolver
      *
      * @return ServiceType value
+     * @throws IllegalArgumentException if the request path doesn't belong to any XS2A endpoint
      */
     public ServiceType getServiceType() {
-        return ServiceTypeDiscovery.getServiceType(new UrlPathHelper().getPathWithinApplication(request));
+        Xs2aRoute route = requestPathResolver.resolveRoute(request);
+        if (route.getServiceType() == null) {
+            log.warn("Can't get ServiceType because illegal path: [{}]", route.getRequestPath());
+            throw new IllegalArgumentException("Illegal path: " + route.getRequestPath());
+        }
+
+        return route.getServiceType();
     }
 }
 
@@ -20,7 +20,6 @@ package de.adorsys.psd2.xs2a.service.profile;
 
 import de.adorsys.psd2.aspsp.profile.domain.AspspSettings;
 import de.adorsys.psd2.aspsp.profile.domain.MulticurrencyAccountLevel;
-import de.adorsys.psd2.aspsp.profile.service.AspspProfileService;
 import de.adorsys.psd2.xs2a.core.ais.BookingStatus;
 import de.adorsys.psd2.xs2a.core.profile.*;
 import de.adorsys.psd2.xs2a.domain.account.SupportedAccountReferenceField;
@@ -37,7 +36,7 @@ import java.util.stream.Collectors;
 @SuppressWarnings("PMD.ExcessivePublicCount")
 @RequiredArgsConstructor
 public class AspspProfileServiceWrapper {
-    private final AspspProfileService aspspProfileService;
+    private final AspspProfileSnapshotCache aspspProfileSnapshotCache;
     private final RequestProviderService requestProviderService;
 
     /**
@@ -55,7 +54,7 @@ public class AspspProfileServiceWrapper {
      * @return List of Available SCA approaches for tpp
      */
     public List<ScaApproach> getScaApproaches() {
-        return aspspProfileService.getScaApproaches(requestProviderService.getInstanceId());
+        return aspspProfileSnapshotCache.getScaApproaches(requestProviderService.getInstanceId());
     }
 
     /**
@@ -350,7 +349,7 @@ public class AspspProfileServiceWrapper {
     }
 
     private AspspSettings readAspspSettings() {
-        return aspspProfileService.getAspspSettings(requestProviderService.getInstanceId());
+        return aspspProfileSnapshotCache.getAspspSettings(requestProviderService.getInstanceId());
     }
 
     /**
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2018-2024 adorsys GmbH & Co KG
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ *
+ * This project is also available under a separate commercial license. You can
+ * contact us at sales@adorsys.com.
+ */
+
+package de.adorsys.psd2.xs2a.service.profile;
+
+import de.adorsys.psd2.aspsp.profile.domain.AspspSettings;
+import de.adorsys.psd2.aspsp.profile.service.AspspProfileService;
+import de.adorsys.psd2.xs2a.core.profile.ScaApproach;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Local snapshots of ASPSP profile settings, stored by instance ID.
+ * <p>
+ * Snapshot is reused until refresh interval is elapsed. After that only the version of the profile is requested and
+ * the settings are read again only if the version was changed. Refresh interval of zero disables the cache, so that
+ * the settings are read from ASPSP profile on each call.
+ */
+@Slf4j
+@Component
+public class AspspProfileSnapshotCache {
+    private final AspspProfileService aspspProfileService;
+    private final long refreshIntervalMs;
+    private final Map<String, ProfileSnapshot> snapshots = new ConcurrentHashMap<>();
+
+    public AspspProfileSnapshotCache(AspspProfileService aspspProfileService,
+                                     @Value("${xs2a.aspsp-profile.cache.refresh-interval.ms:0}") long refreshIntervalMs) {
+        this.aspspProfileService = aspspProfileService;
+        this.refreshIntervalMs = refreshIntervalMs;
+    }
+
+    /**
+     * Returns ASPSP settings for given instance
+     *
+     * @param instanceId ID of the instance
+     * @return ASPSP settings
+     */
+    public AspspSettings getAspspSettings(String instanceId) {
+        if (!isEnabled()) {
+            return aspspProfileService.getAspspSettings(instanceId);
+        }
+        return getSnapshot(instanceId).aspspSettings;
+    }
+
+    /**
+     * Returns list of SCA approaches for given instance
+     *
+     * @param instanceId ID of the instance
+     * @return list of SCA approaches ordered by priority
+     */
+    public List<ScaApproach> getScaApproaches(String instanceId) {
+        if (!isEnabled()) {
+            return aspspProfileService.getScaApproaches(instanceId);
+        }
+        return getSnapshot(instanceId).scaApproaches;
+    }
+
+    public boolean isEnabled() {
+        return refreshIntervalMs > 0;
+    }
+
+    /**
+     * Removes all snapshots, so that the settings are read from ASPSP profile on next call
+     */
+    public void evictAll() {
+        snapshots.clear();
+    }
+
+    private ProfileSnapshot getSnapshot(String instanceId) {
+        String key = StringUtils.defaultString(instanceId);
+        long now = System.currentTimeMillis();
+
+        ProfileSnapshot snapshot = snapshots.get(key);
+        if (snapshot != null && now < snapshot.nextCheckAt) {
+            return snapshot;
+        }
+
+        // Version is read before the settings, so that changes made during loading are detected on the next check
+        long version = aspspProfileService.getProfileVersion();
+        if (snapshot != null && snapshot.version == version) {
+            snapshot = new ProfileSnapshot(version, snapshot.aspspSettings, snapshot.scaApproaches, now + refreshIntervalMs);
+        } else {
+            log.info("Instance ID: [{}]. Reading ASPSP profile settings of version [{}]", key, version);
+            snapshot = new ProfileSnapshot(version,
+                                           aspspProfileService.getAspspSettings(instanceId),
+                                           aspspProfileService.getScaApproaches(instanceId),
+                                           now + refreshIntervalMs);
+        }
+
+        snapshots.put(key, snapshot);
+        return snapshot;
+    }
+
+    private static final class ProfileSnapshot {
+        private final long version;
+        private final AspspSettings aspspSettings;
+        private final List<ScaApproach> scaApproaches;
+        private final long nextCheckAt;
+
+        private ProfileSnapshot(long version, AspspSettings aspspSettings, List<ScaApproach> scaApproaches, long nextCheckAt) {
+            this.version = version;
+            this.aspspSettings = aspspSettings;
+            this.scaApproaches = scaApproaches;
+            this.nextCheckAt = nextCheckAt;
+        }
+    }
+}
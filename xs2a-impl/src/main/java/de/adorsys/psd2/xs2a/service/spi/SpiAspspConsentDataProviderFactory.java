@@ -22,8 +22,11 @@ import de.adorsys.psd2.consent.api.AspspDataService;
 import de.adorsys.psd2.xs2a.spi.domain.SpiAspspConsentDataProvider;
 import lombok.RequiredArgsConstructor;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.springframework.stereotype.Component;
 
+import static org.apache.commons.lang3.ArrayUtils.nullToEmpty;
+
 /**
  * Allows to establish stateful AspspConsentDataProvider objects in Spring Context
  */
@@ -42,6 +45,18 @@ public class SpiAspspConsentDataProviderFactory {
         return new SpiAspspConsentDataProviderImpl(encryptedConsentId, aspspDataService);
     }
 
+    /**
+     * Establishes SpiAspspConsentDataProvider object that is linked to existing Consent ID and serves the first load
+     * from AspspConsentData array, that has already been read from CMS together with the consent
+     * @param encryptedConsentId Consent ID received from TPP
+     * @param aspspConsentData already read AspspConsentData array, <code>null</code> if there is no data for the consent
+     * @return stateful SpiAspspConsentDataProvider object
+     */
+    @NotNull
+    public SpiAspspConsentDataProvider getSpiAspspDataProviderFor(@NotNull String encryptedConsentId, @Nullable byte[] aspspConsentData) {
+        return new SpiAspspConsentDataProviderImpl(encryptedConsentId, aspspDataService, nullToEmpty(aspspConsentData));
+    }
+
     /**
      * Prrovides SpiAspspConsentDataProvider object to store AspspConsentData array if Consent/Payment ID is not yet set
      * @return stateful SpiAspspConsentDataProvider object
@@ -40,13 +40,26 @@ public class SpiAspspConsentDataProviderImpl implements SpiAspspConsentDataProvi
     private final AspspDataService aspspDataService;
 
     private byte[] lastKnownData = EMPTY_BYTE_ARRAY;
+    private byte[] preloadedData;
+
+    SpiAspspConsentDataProviderImpl(String encryptedConsentId, AspspDataService aspspDataService, @NotNull byte[] preloadedData) {
+        this(encryptedConsentId, aspspDataService);
+        this.preloadedData = preloadedData;
+    }
 
     @Override
     @NotNull
     public byte[] loadAspspConsentData() {
-        byte[] readData = aspspDataService.readAspspConsentData(encryptedConsentId)
-                                     .map(AspspConsentData::getAspspConsentDataBytes)
-                                     .orElse(EMPTY_BYTE_ARRAY);
+        byte[] readData;
+        if (preloadedData != null) {
+            // Data has been read from CMS together with the consent, only subsequent loads go to CMS
+            readData = preloadedData;
+            preloadedData = null;
+        } else {
+            readData = aspspDataService.readAspspConsentData(encryptedConsentId)
+                           .map(AspspConsentData::getAspspConsentDataBytes)
+                           .orElse(EMPTY_BYTE_ARRAY);
+        }
         lastKnownData = readData;
         return readData;
     }
@@ -22,6 +22,7 @@ import de.adorsys.psd2.mapper.Xs2aObjectMapper;
 import de.adorsys.psd2.model.BulkPaymentInitiationJson;
 import de.adorsys.psd2.model.PaymentInitiationJson;
 import de.adorsys.psd2.model.PeriodicPaymentInitiationJson;
+import de.adorsys.psd2.xs2a.component.ParsedRequestBody;
 import de.adorsys.psd2.xs2a.core.profile.AccountReference;
 import de.adorsys.psd2.xs2a.core.profile.PaymentType;
 import de.adorsys.psd2.xs2a.domain.AccountReferenceCollector;
@@ -30,6 +31,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import javax.servlet.http.HttpServletRequest;
 import java.io.IOException;
 import java.util.Collections;
 import java.util.Optional;
@@ -41,6 +43,7 @@ import java.util.Set;
 public class PaymentAccountReferenceExtractor {
     private final Xs2aObjectMapper xs2aObjectMapper;
     private final PaymentModelMapper paymentModelMapper;
+    private final HttpServletRequest httpServletRequest;
 
     /**
      * Extracts account references that are present in JSON payment body
@@ -60,13 +63,13 @@ public class PaymentAccountReferenceExtractor {
         try {
             switch (paymentType) {
                 case SINGLE:
-                    PaymentInitiationJson paymentInitiationJson = xs2aObjectMapper.readValue(paymentBody, PaymentInitiationJson.class);
+                    PaymentInitiationJson paymentInitiationJson = readPayment(paymentBody, PaymentInitiationJson.class);
                     return Optional.ofNullable(paymentModelMapper.mapToXs2aPayment(paymentInitiationJson));
                 case PERIODIC:
-                    PeriodicPaymentInitiationJson periodicPaymentInitiationJson = xs2aObjectMapper.readValue(paymentBody, PeriodicPaymentInitiationJson.class);
+                    PeriodicPaymentInitiationJson periodicPaymentInitiationJson = readPayment(paymentBody, PeriodicPaymentInitiationJson.class);
                     return Optional.ofNullable(paymentModelMapper.mapToXs2aPayment(periodicPaymentInitiationJson));
                 case BULK:
-                    BulkPaymentInitiationJson bulkPaymentInitiationJson = xs2aObjectMapper.readValue(paymentBody, BulkPaymentInitiationJson.class);
+                    BulkPaymentInitiationJson bulkPaymentInitiationJson = readPayment(paymentBody, BulkPaymentInitiationJson.class);
                     return Optional.ofNullable(paymentModelMapper.mapToXs2aPayment(bulkPaymentInitiationJson));
                 default:
                     throw new IllegalArgumentException("Unknown payment type: " + paymentType);
@@ -76,4 +79,14 @@ public class PaymentAccountReferenceExtractor {
             return Optional.empty();
         }
     }
+
+    private <T> T readPayment(byte[] paymentBody, Class<T> paymentClass) throws IOException {
+        Optional<ParsedRequestBody> requestBody = ParsedRequestBody.findInRequest(httpServletRequest)
+                                                      .filter(b -> b.hasSameContent(paymentBody));
+        if (requestBody.isPresent()) {
+            return requestBody.get().getTypedBody(xs2aObjectMapper, paymentClass);
+        }
+
+        return xs2aObjectMapper.readValue(paymentBody, paymentClass);
+    }
 }
@@ -18,25 +18,18 @@
 
 package de.adorsys.psd2.xs2a.web;
 
-import de.adorsys.psd2.xs2a.config.Xs2aEndpointPathConstant;
 import de.adorsys.psd2.xs2a.web.request.RequestPathResolver;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.util.AntPathMatcher;
 
 import javax.servlet.http.HttpServletRequest;
-import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class Xs2aEndpointChecker {
-    private static final AntPathMatcher matcher = new AntPathMatcher();
     private final RequestPathResolver requestPathResolver;
 
     public boolean isXs2aEndpoint(HttpServletRequest request) {
-        String requestPath = requestPathResolver.resolveRequestPath(request);
-
-        return Stream.of(Xs2aEndpointPathConstant.getAllXs2aEndpointPaths())
-                   .anyMatch(en -> matcher.match(en, requestPath));
+        return requestPathResolver.resolveRoute(request).isXs2aEndpoint();
     }
 }
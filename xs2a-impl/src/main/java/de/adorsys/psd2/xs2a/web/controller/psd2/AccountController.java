@@ -34,11 +34,11 @@ import de.adorsys.psd2.xs2a.service.mapper.ResponseMapper;
 import de.adorsys.psd2.xs2a.service.mapper.TransactionModelMapper;
 import de.adorsys.psd2.xs2a.service.mapper.psd2.ResponseErrorMapper;
 import de.adorsys.psd2.xs2a.web.controller.util.RequestUriHandler;
+import de.adorsys.psd2.xs2a.web.controller.util.StreamingResponseWriter;
 import de.adorsys.psd2.xs2a.web.error.TppErrorMessageWriter;
 import de.adorsys.psd2.xs2a.web.filter.TppErrorMessage;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.BooleanUtils;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -75,6 +75,7 @@ public class AccountController implements AccountApi {
     private final ResponseErrorMapper responseErrorMapper;
     private final TppErrorMessageWriter tppErrorMessageWriter;
     private final RequestUriHandler requestUriHandler;
+    private final StreamingResponseWriter streamingResponseWriter;
 
     @Override
     public ResponseEntity getAccountList(UUID xRequestID, String consentID, Boolean withBalance, String digest, String signature, byte[] tpPSignatureCertificate, String psUIPAddress, String psUIPPort, String psUAccept, String psUAcceptCharset, String psUAcceptEncoding, String psUAcceptLanguage, String psUUserAgent, String psUHttpMethod, UUID psUDeviceID, String psUGeoLocation) {
@@ -132,13 +133,8 @@ public class AccountController implements AccountApi {
         String dataFileName = responseBody.getDataFileName();
 
         try (InputStream transactions = responseBody.getTransactionStream()) {
-            IOUtils.copy(transactions, response.getOutputStream(), 4096);
-            response.setContentType(MediaType.APPLICATION_OCTET_STREAM_VALUE);
-            response.addHeader("Content-Disposition", resolveContentDisposition(dataFileName));
-            if (dataSizeBytes != null) {
-                response.setContentLength(dataSizeBytes);
-            }
-            response.flushBuffer();
+            streamingResponseWriter.write(response, transactions, MediaType.APPLICATION_OCTET_STREAM_VALUE,
+                                          resolveContentDisposition(dataFileName), dataSizeBytes);
         } catch (IOException e) {
             log.info("Consent-ID: [{}], Account-ID: [{}]. Download-ID [{}]. Download transactions failed: IOException occurred in downloadTransactions controller.",
                      consentId, accountId, downloadId);
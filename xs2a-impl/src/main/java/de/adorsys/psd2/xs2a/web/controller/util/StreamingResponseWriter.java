@@ -0,0 +1,133 @@
+/*
+ * Copyright 2018-2024 adorsys GmbH & Co KG
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ *
+ * This project is also available under a separate commercial license. You can
+ * contact us at sales@adorsys.com.
+ */
+
+package de.adorsys.psd2.xs2a.web.controller.util;
+
+import de.adorsys.psd2.xs2a.component.MultiReadHttpServletResponse;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.util.WebUtils;
+
+import javax.servlet.ServletResponse;
+import javax.servlet.http.HttpServletResponse;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Writes potentially large content (i.e. transaction downloads) directly to the client.
+ * <p>
+ * The content bypasses response caching of {@link MultiReadHttpServletResponse} and is copied with a bounded buffer,
+ * so heap consumption doesn't depend on the size of the content. Content of file streams is transferred via
+ * {@link FileChannel#transferTo(long, long, WritableByteChannel)}.
+ */
+@Service
+public class StreamingResponseWriter {
+    static final int BUFFER_SIZE = 8192;
+
+    /**
+     * Writes content with given headers to the response and flushes it
+     *
+     * @param response           response to write the content to
+     * @param content            content to be written, is not closed by this method
+     * @param contentType        content type of the response
+     * @param contentDisposition optional value of the <code>Content-Disposition</code> header
+     * @param contentLength      optional length of the content in bytes
+     * @return amount of written bytes
+     * @throws IOException if the content couldn't be read or written
+     */
+    public long write(@NotNull HttpServletResponse response, @NotNull InputStream content, @NotNull String contentType,
+                      @Nullable String contentDisposition, @Nullable Integer contentLength) throws IOException {
+        // Caching must be disabled before any headers are set, as the caching wrapper holds back the content length
+        disableContentCaching(response);
+
+        response.setContentType(contentType);
+        if (contentDisposition != null) {
+            response.addHeader("Content-Disposition", contentDisposition);
+        }
+        if (contentLength != null) {
+            response.setContentLength(contentLength);
+        }
+
+        OutputStream outputStream = response.getOutputStream();
+        long writtenBytes = content instanceof FileInputStream
+                                ? transfer(((FileInputStream) content).getChannel(), outputStream)
+                                : copy(content, outputStream);
+        response.flushBuffer();
+        return writtenBytes;
+    }
+
+    private long transfer(FileChannel fileChannel, OutputStream outputStream) throws IOException {
+        // The channel isn't closed, as it would close the underlying servlet output stream
+        WritableByteChannel targetChannel = Channels.newChannel(outputStream);
+        long position = fileChannel.position();
+        long size = fileChannel.size();
+        long writtenBytes = 0;
+        while (position + writtenBytes < size) {
+            long transferred = fileChannel.transferTo(position + writtenBytes, size - position - writtenBytes, targetChannel);
+            if (transferred <= 0) {
+                break;
+            }
+            writtenBytes += transferred;
+        }
+
+        fileChannel.position(position + writtenBytes);
+        return writtenBytes;
+    }
+
+    private long copy(InputStream content, OutputStream outputStream) throws IOException {
+        byte[] buffer = new byte[BUFFER_SIZE];
+        long writtenBytes = 0;
+        int read;
+        while ((read = content.read(buffer)) != -1) {
+            outputStream.write(buffer, 0, read);
+            writtenBytes += read;
+        }
+
+        return writtenBytes;
+    }
+
+    private void disableContentCaching(HttpServletResponse response) {
+        MultiReadHttpServletResponse multiReadResponse =
+            WebUtils.getNativeResponse(resolveCurrentResponse(response), MultiReadHttpServletResponse.class);
+        if (multiReadResponse != null) {
+            multiReadResponse.disableContentCaching();
+        }
+    }
+
+    private ServletResponse resolveCurrentResponse(HttpServletResponse response) {
+        // Response, injected into controllers, is a proxy, so the actual response is taken from the request context
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes instanceof ServletRequestAttributes) {
+            HttpServletResponse currentResponse = ((ServletRequestAttributes) requestAttributes).getResponse();
+            if (currentResponse != null) {
+                return currentResponse;
+            }
+        }
+
+        return response;
+    }
+}
@@ -20,6 +20,7 @@ package de.adorsys.psd2.xs2a.web.filter;
 
 import de.adorsys.psd2.validator.signature.DigestVerifier;
 import de.adorsys.psd2.validator.signature.SignatureVerifier;
+import de.adorsys.psd2.xs2a.component.ParsedRequestBody;
 import de.adorsys.psd2.xs2a.core.error.MessageErrorCode;
 import de.adorsys.psd2.xs2a.service.profile.AspspProfileServiceWrapper;
 import de.adorsys.psd2.xs2a.web.Xs2aEndpointChecker;
@@ -72,7 +73,7 @@ public class SignatureFilter extends AbstractXs2aFilter {
         }
 
         String digest = request.getHeader(DIGEST);
-        String body = request.getReader().lines().collect(Collectors.joining(System.lineSeparator()));
+        byte[] body = ParsedRequestBody.fromRequest(request).getRawBody();
 
         boolean digestValid = digestVerifier.verify(digest, body);
         if (!digestValid) {
@@ -18,8 +18,7 @@
 
 package de.adorsys.psd2.xs2a.web.filter.holder;
 
-import de.adorsys.psd2.consent.api.service.TppService;
-import de.adorsys.psd2.validator.certificate.util.CertificateExtractorUtil;
+import de.adorsys.psd2.validator.certificate.util.CertificateCache;
 import de.adorsys.psd2.validator.certificate.util.TppCertificateData;
 import de.adorsys.psd2.xs2a.core.error.MessageErrorCode;
 import de.adorsys.psd2.xs2a.core.tpp.TppInfo;
@@ -58,10 +57,11 @@ public class QwacCertificateService {
     private final TppInfoHolder tppInfoHolder;
     private final RequestProviderService requestProviderService;
     private final TppRoleValidationService tppRoleValidationService;
-    private final TppService tppService;
+    private final TppInfoUpdateService tppInfoUpdateService;
     private final AspspProfileServiceWrapper aspspProfileService;
     private final Xs2aTppInfoMapper xs2aTppInfoMapper;
     private final TppErrorMessageWriter tppErrorMessageWriter;
+    private final CertificateCache certificateCache;
 
     /**
      * Checks if certificate is applicable
@@ -75,7 +75,7 @@ public class QwacCertificateService {
     public boolean isApplicable(HttpServletRequest request, HttpServletResponse response,
                                 String encodedTppQwacCert) throws IOException {
         try {
-            TppCertificateData tppCertificateData = CertificateExtractorUtil.extract(encodedTppQwacCert);
+            TppCertificateData tppCertificateData = certificateCache.extractTppCertificateData(encodedTppQwacCert);
             if (isCertificateExpired(tppCertificateData.getNotAfter())) {
                 buildCertificateExpiredErrorResponse(response);
                 return false;
@@ -94,7 +94,7 @@ public class QwacCertificateService {
                 buildRoleInvalidErrorResponse(response, tppCertificateData);
                 return false;
             }
-            tppService.updateTppInfo(tppInfo);
+            tppInfoUpdateService.updateTppInfo(tppInfo);
             tppInfoHolder.setTppInfo(tppInfo);
             return true;
         } catch (CertificateValidationException e) {
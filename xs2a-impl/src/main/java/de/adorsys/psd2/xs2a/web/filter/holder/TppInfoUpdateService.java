@@ -0,0 +1,163 @@
+/*
+ * Copyright 2018-2024 adorsys GmbH & Co KG
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ *
+ * This project is also available under a separate commercial license. You can
+ * contact us at sales@adorsys.com.
+ */
+
+package de.adorsys.psd2.xs2a.web.filter.holder;
+
+import de.adorsys.psd2.consent.api.CmsResponse;
+import de.adorsys.psd2.consent.api.service.TppService;
+import de.adorsys.psd2.xs2a.core.tpp.TppInfo;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.BooleanUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Sends TPP information from the QWAC certificate to CMS only if it differs from the one, that was last sent for the
+ * same authorisation number.
+ * <p>
+ * Digest of the sent TPP information is remembered after CMS has confirmed the update and is considered stale after
+ * configured time to live, so that CMS is synchronised periodically even if the TPP information was changed in CMS by
+ * some other party. Time to live of zero disables the cache and sends the update on every request.
+ */
+@Slf4j
+@Service
+public class TppInfoUpdateService {
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+    private static final String FIELD_SEPARATOR = "\u0000";
+
+    private final TppService tppService;
+    private final long ttlMillis;
+    private final int maxSize;
+    private final Map<String, SentTppInfo> sentTppInfos = new ConcurrentHashMap<>();
+
+    private final LongAdder sentUpdateCount = new LongAdder();
+    private final LongAdder skippedUpdateCount = new LongAdder();
+
+    public TppInfoUpdateService(TppService tppService,
+                                @Value("${xs2a.tpp-info-update.cache.ttl-seconds:3600}") long ttlSeconds,
+                                @Value("${xs2a.tpp-info-update.cache.max-size:10000}") int maxSize) {
+        this.tppService = tppService;
+        this.ttlMillis = TimeUnit.SECONDS.toMillis(Math.max(ttlSeconds, 0));
+        this.maxSize = Math.max(maxSize, 0);
+    }
+
+    /**
+     * Updates TPP information in CMS, if it has changed since the last update
+     *
+     * @param tppInfo TPP information from the QWAC certificate
+     */
+    public void updateTppInfo(TppInfo tppInfo) {
+        String authorisationNumber = tppInfo.getAuthorisationNumber();
+        if (!isEnabled() || authorisationNumber == null) {
+            sendUpdate(tppInfo);
+            return;
+        }
+
+        String digest = digest(tppInfo);
+        long now = System.currentTimeMillis();
+        SentTppInfo sentTppInfo = sentTppInfos.get(authorisationNumber);
+        if (sentTppInfo != null && sentTppInfo.isUpToDate(digest, now)) {
+            skippedUpdateCount.increment();
+            return;
+        }
+
+        if (sendUpdate(tppInfo)) {
+            if (sentTppInfos.size() >= maxSize) {
+                log.debug("Maximum amount of remembered TPP information is reached, clearing: {}", this);
+                sentTppInfos.clear();
+            }
+            sentTppInfos.put(authorisationNumber, new SentTppInfo(digest, now + ttlMillis));
+        } else {
+            sentTppInfos.remove(authorisationNumber);
+        }
+    }
+
+    public boolean isEnabled() {
+        return ttlMillis > 0 && maxSize > 0;
+    }
+
+    public long getSentUpdateCount() {
+        return sentUpdateCount.sum();
+    }
+
+    public long getSkippedUpdateCount() {
+        return skippedUpdateCount.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "TppInfoUpdateService{ttlMillis=" + ttlMillis + ", maxSize=" + maxSize + ", size=" + sentTppInfos.size()
+                   + ", sent=" + getSentUpdateCount() + ", skipped=" + getSkippedUpdateCount() + "}";
+    }
+
+    private boolean sendUpdate(TppInfo tppInfo) {
+        sentUpdateCount.increment();
+        CmsResponse<Boolean> response = tppService.updateTppInfo(tppInfo);
+        return Optional.ofNullable(response)
+                   .filter(CmsResponse::isSuccessful)
+                   .map(CmsResponse::getPayload)
+                   .map(BooleanUtils::isTrue)
+                   .orElse(false);
+    }
+
+    private String digest(TppInfo tppInfo) {
+        // Only the fields, that are compared by CMS on update, are taken into account
+        String content = String.join(FIELD_SEPARATOR,
+                                     tppInfo.getAuthorisationNumber(),
+                                     tppInfo.getTppName(),
+                                     Objects.toString(tppInfo.getTppRoles()),
+                                     tppInfo.getAuthorityId(),
+                                     tppInfo.getAuthorityName(),
+                                     tppInfo.getCountry(),
+                                     tppInfo.getOrganisation(),
+                                     tppInfo.getOrganisationUnit(),
+                                     tppInfo.getCity(),
+                                     tppInfo.getState());
+        try {
+            byte[] digest = MessageDigest.getInstance(DIGEST_ALGORITHM).digest(content.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("No such hashing algorithm: " + DIGEST_ALGORITHM, e);
+        }
+    }
+
+    private static class SentTppInfo {
+        private final String digest;
+        private final long expirationTimeMillis;
+
+        SentTppInfo(String digest, long expirationTimeMillis) {
+            this.digest = digest;
+            this.expirationTimeMillis = expirationTimeMillis;
+        }
+
+        boolean isUpToDate(String digest, long now) {
+            return this.digest.equals(digest) && now < expirationTimeMillis;
+        }
+    }
+}
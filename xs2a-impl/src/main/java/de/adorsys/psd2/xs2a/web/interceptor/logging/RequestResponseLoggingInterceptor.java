@@ -19,6 +19,7 @@
 package de.adorsys.psd2.xs2a.web.interceptor.logging;
 
 import de.adorsys.psd2.xs2a.component.logger.request.RequestResponseLogMessage;
+import de.adorsys.psd2.xs2a.component.logger.request.RequestResponseLogPolicy;
 import de.adorsys.psd2.xs2a.component.logger.request.RequestResponseLogger;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.servlet.handler.HandlerInterceptorAdapter;
@@ -28,14 +29,21 @@ import javax.servlet.http.HttpServletResponse;
 
 /**
  * Interceptor for logging request and response information into the request-log
+ * <p>
+ * Only requests sampled by the {@link RequestResponseLogPolicy} are logged.
  */
 @RequiredArgsConstructor
 public class RequestResponseLoggingInterceptor extends HandlerInterceptorAdapter {
     private final RequestResponseLogger requestResponseLogger;
+    private final RequestResponseLogPolicy requestResponseLogPolicy;
 
     @Override
     public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
-        RequestResponseLogMessage message = RequestResponseLogMessage.builder(request, response)
+        if (!requestResponseLogPolicy.isSampled(request)) {
+            return;
+        }
+
+        RequestResponseLogMessage message = RequestResponseLogMessage.builder(request, response, requestResponseLogPolicy)
                                                 .withRequestUri()
                                                 .withRequestHeaders()
                                                 .withRequestPayload()
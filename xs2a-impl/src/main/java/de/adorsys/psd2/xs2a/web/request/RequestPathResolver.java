@@ -22,10 +22,13 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.util.UrlPathHelper;
 
 import javax.servlet.http.HttpServletRequest;
+import java.util.Objects;
 
 @Component
 public class RequestPathResolver {
+    static final String ROUTE_ATTRIBUTE = Xs2aRoute.class.getName();
     private static final UrlPathHelper URL_PATH_HELPER = new UrlPathHelper();
+    private static final Xs2aRouteMatcher XS2A_ROUTE_MATCHER = Xs2aRouteMatcher.forXs2aEndpoints();
 
     /**
      * Returns string representation of request path for the given request, without context path
@@ -34,6 +37,27 @@ public class RequestPathResolver {
      * @return request path
      */
     public String resolveRequestPath(HttpServletRequest httpServletRequest) {
-        return URL_PATH_HELPER.getPathWithinApplication(httpServletRequest);
+        return resolveRoute(httpServletRequest).getRequestPath();
+    }
+
+    /**
+     * Returns route of the given request.
+     * <p>
+     * The request is classified only once, the route is stored as request attribute and reused by subsequent calls
+     * as long as the request URI stays the same.
+     *
+     * @param httpServletRequest request to be classified
+     * @return route of the request
+     */
+    public Xs2aRoute resolveRoute(HttpServletRequest httpServletRequest) {
+        String requestUri = httpServletRequest.getRequestURI();
+        Object storedRoute = httpServletRequest.getAttribute(ROUTE_ATTRIBUTE);
+        if (storedRoute instanceof Xs2aRoute && Objects.equals(((Xs2aRoute) storedRoute).getRequestUri(), requestUri)) {
+            return (Xs2aRoute) storedRoute;
+        }
+
+        Xs2aRoute route = XS2A_ROUTE_MATCHER.match(requestUri, URL_PATH_HELPER.getPathWithinApplication(httpServletRequest));
+        httpServletRequest.setAttribute(ROUTE_ATTRIBUTE, route);
+        return route;
     }
 }
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2018-2024 adorsys GmbH & Co KG
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ *
+ * This project is also available under a separate commercial license. You can
+ * contact us at sales@adorsys.com.
+ */
+
+package de.adorsys.psd2.xs2a.web.request;
+
+import de.adorsys.psd2.xs2a.core.mapper.ServiceType;
+import lombok.Value;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Result of the classification of the incoming request, performed once per request and shared by filters,
+ * interceptors and services via request attribute.
+ */
+@Value
+public class Xs2aRoute {
+    /**
+     * Request URI the route was resolved for, used to detect forwarded and error dispatches with another path
+     */
+    @Nullable
+    String requestUri;
+    /**
+     * Request path without context path
+     */
+    String requestPath;
+    /**
+     * Pattern of the XS2A endpoint, matching the request path, <code>null</code> if the request isn't an XS2A request
+     */
+    @Nullable
+    String endpointPattern;
+    /**
+     * Service type of the XS2A endpoint, <code>null</code> if the request isn't an XS2A request
+     */
+    @Nullable
+    ServiceType serviceType;
+
+    public boolean isXs2aEndpoint() {
+        return endpointPattern != null;
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2018-2024 adorsys GmbH & Co KG
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ *
+ * This project is also available under a separate commercial license. You can
+ * contact us at sales@adorsys.com.
+ */
+
+package de.adorsys.psd2.xs2a.web.request;
+
+import de.adorsys.psd2.xs2a.core.mapper.ServiceType;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static de.adorsys.psd2.xs2a.config.Xs2aEndpointPathConstant.*;
+
+/**
+ * Matches request paths against XS2A endpoint patterns, precompiled into a trie of path segments.
+ * <p>
+ * Only literal segments and trailing <code>/**</code> wildcard are supported, which is enough for
+ * {@link de.adorsys.psd2.xs2a.config.Xs2aEndpointPathConstant}. Matching follows the semantics of
+ * {@link org.springframework.util.AntPathMatcher} for such patterns: empty segments are ignored, trailing wildcard
+ * matches zero or more segments and pattern without wildcard doesn't match the path with trailing slash.
+ */
+public class Xs2aRouteMatcher {
+    private static final char SEPARATOR = '/';
+    private static final String SEPARATOR_STRING = "/";
+    private static final String MULTI_SEGMENT_WILDCARD = "**";
+
+    private final Node root = new Node();
+
+    /**
+     * Creates matcher for all XS2A endpoints with their service types
+     *
+     * @return route matcher
+     */
+    public static Xs2aRouteMatcher forXs2aEndpoints() {
+        return new Xs2aRouteMatcher()
+                   .register(ACCOUNTS_PATH, ServiceType.AIS)
+                   .register(BENEFICIARIES_PATH, ServiceType.AIS)
+                   .register(CARD_ACCOUNTS_PATH, ServiceType.AIS)
+                   .register(CONSENTS_PATH, ServiceType.AIS)
+                   .register(SINGLE_PAYMENTS_PATH, ServiceType.PIS)
+                   .register(PERIODIC_PAYMENTS_PATH, ServiceType.PIS)
+                   .register(BULK_PAYMENTS_PATH, ServiceType.PIS)
+                   .register(FUNDS_CONFIRMATION_PATH, ServiceType.PIIS)
+                   .register(CONSENTS_V2_PATH, ServiceType.PIIS)
+                   .register(SIGNING_BASKETS_PATH, ServiceType.SB);
+    }
+
+    /**
+     * Adds endpoint pattern to the matcher
+     *
+     * @param pattern     endpoint pattern, consisting of literal segments and optional trailing <code>/**</code>
+     * @param serviceType service type of the endpoint
+     * @return this matcher
+     * @throws IllegalArgumentException if the pattern contains unsupported wildcards
+     */
+    public Xs2aRouteMatcher register(@NotNull String pattern, @NotNull ServiceType serviceType) {
+        Endpoint endpoint = new Endpoint(pattern, serviceType);
+        String[] segments = pattern.split(SEPARATOR_STRING);
+        Node node = root;
+        for (int i = 0; i < segments.length; i++) {
+            String segment = segments[i];
+            if (segment.isEmpty()) {
+                continue;
+            }
+            if (MULTI_SEGMENT_WILDCARD.equals(segment) && i == segments.length - 1) {
+                node.prefixEndpoint = endpoint;
+                return this;
+            }
+            if (segment.indexOf('*') >= 0 || segment.indexOf('?') >= 0 || segment.indexOf('{') >= 0) {
+                throw new IllegalArgumentException("Unsupported endpoint pattern: " + pattern);
+            }
+            node = node.children.computeIfAbsent(segment, s -> new Node());
+        }
+
+        node.exactEndpoint = endpoint;
+        return this;
+    }
+
+    /**
+     * Classifies the request path
+     *
+     * @param requestUri  URI of the request
+     * @param requestPath request path without context path
+     * @return route of the request, not an XS2A route if no pattern matches the path
+     */
+    public Xs2aRoute match(@Nullable String requestUri, @NotNull String requestPath) {
+        Endpoint endpoint = findEndpoint(requestPath);
+        return endpoint == null
+                   ? new Xs2aRoute(requestUri, requestPath, null, null)
+                   : new Xs2aRoute(requestUri, requestPath, endpoint.pattern, endpoint.serviceType);
+    }
+
+    private @Nullable Endpoint findEndpoint(String requestPath) {
+        if (requestPath.isEmpty() || requestPath.charAt(0) != SEPARATOR) {
+            return null;
+        }
+
+        Node node = root;
+        Endpoint longestPrefixMatch = root.prefixEndpoint;
+        int length = requestPath.length();
+        int segmentStart = 0;
+        while (segmentStart < length) {
+            int segmentEnd = requestPath.indexOf(SEPARATOR, segmentStart);
+            if (segmentEnd < 0) {
+                segmentEnd = length;
+            }
+            if (segmentEnd > segmentStart) {
+                node = node.children.get(requestPath.substring(segmentStart, segmentEnd));
+                if (node == null) {
+                    return longestPrefixMatch;
+                }
+                if (node.prefixEndpoint != null) {
+                    longestPrefixMatch = node.prefixEndpoint;
+                }
+            }
+            segmentStart = segmentEnd + 1;
+        }
+
+        boolean trailingSeparator = requestPath.charAt(length - 1) == SEPARATOR;
+        return node.exactEndpoint != null && !trailingSeparator
+                   ? node.exactEndpoint
+                   : longestPrefixMatch;
+    }
+
+    private static class Node {
+        private final Map<String, Node> children = new HashMap<>();
+        private Endpoint exactEndpoint;
+        private Endpoint prefixEndpoint;
+    }
+
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    private static class Endpoint {
+        private final String pattern;
+        private final ServiceType serviceType;
+    }
+}
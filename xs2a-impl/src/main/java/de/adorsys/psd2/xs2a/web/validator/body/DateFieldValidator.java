@@ -18,6 +18,7 @@
 
 package de.adorsys.psd2.xs2a.web.validator.body;
 
+import de.adorsys.psd2.mapper.JsonFieldQuery;
 import de.adorsys.psd2.xs2a.core.domain.TppMessageInformation;
 import de.adorsys.psd2.xs2a.core.error.MessageError;
 import de.adorsys.psd2.xs2a.web.converter.LocalDateConverter;
@@ -34,6 +35,7 @@ import java.time.format.DateTimeParseException;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import static de.adorsys.psd2.xs2a.core.error.MessageErrorCode.*;
 
@@ -65,6 +67,11 @@ public class DateFieldValidator {
     }
 
     public MessageError validateRawDataDates(HttpServletRequest request, Set<Xs2aRequestBodyDateField> fields, MessageError messageError) {
+        Set<String> fieldNames = fields.stream()
+                                     .map(Xs2aRequestBodyDateField::getFieldName)
+                                     .collect(Collectors.toSet());
+        fieldExtractor.prefetchFields(request, JsonFieldQuery.fields(fieldNames));
+
         for (Xs2aRequestBodyDateField field : fields) {
             fieldExtractor.extractField(request, field.getFieldName(), messageError)
                 .ifPresent(date -> convert(field.getFieldName(), date, field.getFormatter(), messageError));
@@ -19,6 +19,7 @@
 package de.adorsys.psd2.xs2a.web.validator.body.payment;
 
 import de.adorsys.psd2.core.payment.model.PurposeCode;
+import de.adorsys.psd2.mapper.JsonFieldQuery;
 import de.adorsys.psd2.mapper.Xs2aObjectMapper;
 import de.adorsys.psd2.model.ChargeBearer;
 import de.adorsys.psd2.model.FrequencyCode;
@@ -30,15 +31,14 @@ import de.adorsys.psd2.xs2a.web.PathParameterExtractor;
 import de.adorsys.psd2.xs2a.web.validator.ErrorBuildingService;
 import de.adorsys.psd2.xs2a.web.validator.body.*;
 import de.adorsys.psd2.xs2a.web.validator.body.raw.FieldExtractor;
+import de.adorsys.psd2.xs2a.web.validator.constants.Xs2aRequestBodyDateField;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.BooleanUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import javax.servlet.http.HttpServletRequest;
-import java.util.List;
-import java.util.Map;
-import java.util.Optional;
+import java.util.*;
 
 import static de.adorsys.psd2.xs2a.core.error.MessageErrorCode.*;
 import static de.adorsys.psd2.xs2a.web.validator.constants.Xs2aRequestBodyDateFields.PAYMENT_DATE_FIELDS;
@@ -55,6 +55,10 @@ public class PaymentBodyValidatorImpl extends AbstractBodyValidatorImpl implemen
     static final String CHARGE_BEARER_FIELD_NAME = "chargeBearer";
     static final String BATCH_BOOKING_PREFERRED_FIELD_NAME = "batchBookingPreferred";
     static final String CURRENCY_STRING = "currency";
+    private static final String DAY_OF_EXECUTION_FIELD_NAME = "dayOfExecution";
+    private static final String MONTHS_OF_EXECUTION_FIELD_NAME = "monthsOfExecution";
+    private static final JsonFieldQuery RAW_DATA_FIELDS = JsonFieldQuery.fields(getRawDataFieldNames())
+                                                              .withNestedFields(CURRENCY_STRING, CHARGE_BEARER_FIELD_NAME);
 
     private DateFieldValidator dateFieldValidator;
     private CurrencyValidator currencyValidator;
@@ -105,6 +109,9 @@ public class PaymentBodyValidatorImpl extends AbstractBodyValidatorImpl implemen
 
     @Override
     public MessageError validateRawData(HttpServletRequest request, MessageError messageError) {
+        // All raw fields are extracted in one pass over the body, as bulk payments may contain lots of payments
+        fieldExtractor.prefetchFields(request, RAW_DATA_FIELDS);
+
         dateFieldValidator.validateDayOfExecution(request, messageError);
         dateFieldValidator.validateDateFormat(request, PAYMENT_DATE_FIELDS.getDateFields(), messageError);
 
@@ -194,4 +201,17 @@ public class PaymentBodyValidatorImpl extends AbstractBodyValidatorImpl implemen
     private Map<String, String> getPathParameters(HttpServletRequest request) {
         return pathParameterExtractor.extractParameters(request);
     }
+
+    private static Set<String> getRawDataFieldNames() {
+        Set<String> fieldNames = new HashSet<>();
+        PAYMENT_DATE_FIELDS.getDateFields().stream()
+            .map(Xs2aRequestBodyDateField::getFieldName)
+            .forEach(fieldNames::add);
+        fieldNames.add(DAY_OF_EXECUTION_FIELD_NAME);
+        fieldNames.add(MONTHS_OF_EXECUTION_FIELD_NAME);
+        fieldNames.add(BATCH_BOOKING_PREFERRED_FIELD_NAME);
+        fieldNames.add(FREQUENCY_FIELD_NAME);
+        fieldNames.add(PURPOSE_CODE_FIELD_NAME);
+        return fieldNames;
+    }
 }
@@ -19,7 +19,10 @@
 package de.adorsys.psd2.xs2a.web.validator.body.raw;
 
 import com.fasterxml.jackson.core.type.TypeReference;
+import de.adorsys.psd2.mapper.JsonFieldQuery;
+import de.adorsys.psd2.mapper.JsonFieldValues;
 import de.adorsys.psd2.mapper.Xs2aObjectMapper;
+import de.adorsys.psd2.xs2a.component.ParsedRequestBody;
 import de.adorsys.psd2.xs2a.core.domain.TppMessageInformation;
 import de.adorsys.psd2.xs2a.core.error.MessageError;
 import de.adorsys.psd2.xs2a.web.validator.ErrorBuildingService;
@@ -36,20 +39,44 @@ import java.util.Optional;
 
 import static de.adorsys.psd2.xs2a.core.error.MessageErrorCode.FORMAT_ERROR_DESERIALIZATION_FAIL;
 
+/**
+ * Extracts raw fields from the JSON body of the request
+ * <p>
+ * Fields are extracted by streaming over the body without building the JSON tree. Components validating several fields
+ * should prefetch all of them with {@link #prefetchFields(HttpServletRequest, JsonFieldQuery)}, so that the body is
+ * scanned only once and the following extractions of these fields are served from the extracted values.
+ */
 @Component
 @Slf4j
 @RequiredArgsConstructor
 public class FieldExtractor {
     private static final String EXTRACT_ERROR_MESSAGE = "Couldn't extract field {} from json: {}";
+    private static final TypeReference<String> STRING_TYPE = new TypeReference<String>() {
+    };
 
     private final ErrorBuildingService errorBuildingService;
     private final Xs2aObjectMapper xs2aObjectMapper;
 
+    /**
+     * Extracts given fields from the request body in one pass and binds their values to the request
+     * <p>
+     * Body, that couldn't be parsed, is reported by the following extractions of the fields.
+     *
+     * @param request current HTTP request
+     * @param query   fields to be extracted
+     */
+    public void prefetchFields(HttpServletRequest request, JsonFieldQuery query) {
+        try {
+            getFieldValues(request, query);
+        } catch (IOException e) {
+            log.debug("Couldn't prefetch fields {} from json: {}", query, e.getMessage());
+        }
+    }
+
     public Optional<String> extractField(HttpServletRequest request, String fieldName, MessageError messageError) {
         Optional<String> fieldOptional = Optional.empty();
         try {
-            fieldOptional = xs2aObjectMapper.toJsonField(request.getInputStream(), fieldName, new TypeReference<String>() {
-            });
+            fieldOptional = getFieldValues(request, JsonFieldQuery.fields(fieldName)).getField(fieldName, STRING_TYPE);
         } catch (IOException e) {
             log.info(EXTRACT_ERROR_MESSAGE, fieldName, e.getMessage());
             errorBuildingService.enrichMessageError(messageError, TppMessageInformation.of(FORMAT_ERROR_DESERIALIZATION_FAIL));
@@ -60,8 +87,7 @@ public class FieldExtractor {
 
     public Optional<String> extractOptionalField(HttpServletRequest request, String fieldName) {
         try {
-            return xs2aObjectMapper.toJsonField(request.getInputStream(), fieldName, new TypeReference<String>() {
-            });
+            return getFieldValues(request, JsonFieldQuery.fields(fieldName)).getField(fieldName, STRING_TYPE);
         } catch (IOException e) {
             return Optional.empty();
         }
@@ -70,7 +96,7 @@ public class FieldExtractor {
     public List<String> extractList(HttpServletRequest request, String fieldName, MessageError messageError) {
         List<String> fieldList = new ArrayList<>();
         try {
-            fieldList.addAll(xs2aObjectMapper.toJsonGetListValuesForField(request.getInputStream(), fieldName));
+            fieldList.addAll(getFieldValues(request, JsonFieldQuery.fields(fieldName)).getListValues(fieldName));
         } catch (IOException e) {
             log.info(EXTRACT_ERROR_MESSAGE, fieldName, e.getMessage());
             errorBuildingService.enrichMessageError(messageError, TppMessageInformation.of(FORMAT_ERROR_DESERIALIZATION_FAIL));
@@ -80,7 +106,7 @@ public class FieldExtractor {
 
     public List<String> extractOptionalList(HttpServletRequest request, String fieldName) {
         try {
-            return xs2aObjectMapper.toJsonGetValuesForField(request.getInputStream(), fieldName);
+            return getFieldValues(request, JsonFieldQuery.nestedFields(fieldName)).getNestedValues(fieldName);
 
         } catch (IOException e) {
             return Collections.emptyList();
@@ -89,11 +115,15 @@ public class FieldExtractor {
 
     public <T> Optional<T> mapBodyToInstance(HttpServletRequest request, MessageError messageError, Class<T> clazz) {
         try {
-            return Optional.of(xs2aObjectMapper.readValue(request.getInputStream(), clazz));
+            return Optional.of(ParsedRequestBody.fromRequest(request).getTypedBody(xs2aObjectMapper, clazz));
         } catch (IOException e) {
             errorBuildingService.enrichMessageError(messageError, TppMessageInformation.of(FORMAT_ERROR_DESERIALIZATION_FAIL));
         }
 
         return Optional.empty();
     }
+
+    private JsonFieldValues getFieldValues(HttpServletRequest request, JsonFieldQuery query) throws IOException {
+        return ParsedRequestBody.fromRequest(request).getFieldValues(xs2aObjectMapper, query);
+    }
 }
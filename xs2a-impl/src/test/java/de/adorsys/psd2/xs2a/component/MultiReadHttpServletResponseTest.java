@@ -22,11 +22,12 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletResponse;
 
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
 
-import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.*;
 
 @ExtendWith(MockitoExtension.class)
 class MultiReadHttpServletResponseTest {
@@ -60,4 +61,35 @@ class MultiReadHttpServletResponseTest {
         // Then
         assertArrayEquals(CONTENT.getBytes(), cachedContent);
     }
+
+    @Test
+    void disableContentCaching_shouldWriteContentToOriginalResponse() throws IOException {
+        // Given
+        MockHttpServletResponse originalResponse = new MockHttpServletResponse();
+        MultiReadHttpServletResponse multiReadHttpServletResponse = new MultiReadHttpServletResponse(originalResponse);
+
+        // When
+        multiReadHttpServletResponse.disableContentCaching();
+        multiReadHttpServletResponse.setContentLength(CONTENT.length());
+        multiReadHttpServletResponse.getOutputStream().write(CONTENT.getBytes());
+        multiReadHttpServletResponse.copyBodyToResponse();
+
+        // Then
+        assertTrue(multiReadHttpServletResponse.isContentCachingDisabled());
+        assertEquals(0, multiReadHttpServletResponse.getCachedContent().length);
+        assertEquals(CONTENT.length(), multiReadHttpServletResponse.getStreamedContentSize());
+        assertEquals(CONTENT, originalResponse.getContentAsString());
+        assertEquals(CONTENT.length(), originalResponse.getContentLength());
+    }
+
+    @Test
+    void disableContentCaching_contentAlreadyCached() throws IOException {
+        // Given
+        MultiReadHttpServletResponse multiReadHttpServletResponse = new MultiReadHttpServletResponse(response);
+        multiReadHttpServletResponse.getOutputStream().write(CONTENT.getBytes());
+
+        // Then
+        assertThrows(IllegalStateException.class, multiReadHttpServletResponse::disableContentCaching);
+        assertFalse(multiReadHttpServletResponse.isContentCachingDisabled());
+    }
 }
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2018-2024 adorsys GmbH & Co KG
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ *
+ * This project is also available under a separate commercial license. You can
+ * contact us at sales@adorsys.com.
+ */
+
+package de.adorsys.psd2.xs2a.component;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import de.adorsys.psd2.mapper.JsonFieldQuery;
+import de.adorsys.psd2.mapper.JsonFieldValues;
+import de.adorsys.psd2.mapper.Xs2aObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParsedRequestBodyTest {
+    private static final byte[] BODY = "{\"endToEndIdentification\":\"RI-123456789\"}".getBytes(StandardCharsets.UTF_8);
+    private static final String END_TO_END_IDENTIFICATION_FIELD_NAME = "endToEndIdentification";
+    private static final byte[] MALFORMED_BODY = "{\"endToEndIdentification\":".getBytes(StandardCharsets.UTF_8);
+
+    private final Xs2aObjectMapper xs2aObjectMapper = new Xs2aObjectMapper();
+    private MockHttpServletRequest mockRequest;
+
+    @BeforeEach
+    void setUp() {
+        mockRequest = new MockHttpServletRequest();
+        mockRequest.setContent(BODY);
+    }
+
+    @Test
+    void fromRequest_multiReadRequest_shouldReuseCachedBody() throws IOException {
+        // Given
+        MultiReadHttpServletRequest multiReadRequest = new MultiReadHttpServletRequest(mockRequest);
+
+        // When
+        ParsedRequestBody parsedRequestBody = ParsedRequestBody.fromRequest(multiReadRequest);
+
+        // Then
+        assertSame(multiReadRequest.getCachedBody(), parsedRequestBody.getRawBody());
+        assertSame(parsedRequestBody, ParsedRequestBody.fromRequest(multiReadRequest));
+        assertArrayEquals(BODY, parsedRequestBody.getRawBody());
+    }
+
+    @Test
+    void findInRequest_bodyNotRead_shouldReturnEmpty() {
+        assertFalse(ParsedRequestBody.findInRequest(mockRequest).isPresent());
+    }
+
+    @Test
+    void getFieldValues_coveredQuery_shouldExtractOnce() throws IOException {
+        // Given
+        ParsedRequestBody parsedRequestBody = ParsedRequestBody.fromRequest(mockRequest);
+        JsonFieldQuery query = JsonFieldQuery.fields(END_TO_END_IDENTIFICATION_FIELD_NAME, "instructedAmount");
+
+        // When
+        JsonFieldValues fieldValues = parsedRequestBody.getFieldValues(xs2aObjectMapper, query);
+
+        // Then
+        assertEquals(Optional.of("RI-123456789"), fieldValues.getField(END_TO_END_IDENTIFICATION_FIELD_NAME, new TypeReference<String>() {
+        }));
+        assertSame(fieldValues, parsedRequestBody.getFieldValues(xs2aObjectMapper, JsonFieldQuery.fields(END_TO_END_IDENTIFICATION_FIELD_NAME)));
+    }
+
+    @Test
+    void getFieldValues_notCoveredQuery_shouldExtractAgain() throws IOException {
+        // Given
+        ParsedRequestBody parsedRequestBody = ParsedRequestBody.fromRequest(mockRequest);
+        JsonFieldValues fieldValues = parsedRequestBody.getFieldValues(xs2aObjectMapper, JsonFieldQuery.fields(END_TO_END_IDENTIFICATION_FIELD_NAME));
+
+        // When
+        JsonFieldValues nestedFieldValues = parsedRequestBody.getFieldValues(xs2aObjectMapper, JsonFieldQuery.nestedFields(END_TO_END_IDENTIFICATION_FIELD_NAME));
+
+        // Then
+        assertNotSame(fieldValues, nestedFieldValues);
+        assertEquals(List.of("RI-123456789"), nestedFieldValues.getNestedValues(END_TO_END_IDENTIFICATION_FIELD_NAME));
+    }
+
+    @Test
+    void getTypedBody_shouldMapOncePerClass() throws IOException {
+        // Given
+        ParsedRequestBody parsedRequestBody = ParsedRequestBody.fromRequest(mockRequest);
+
+        // When
+        Map<?, ?> typedBody = parsedRequestBody.getTypedBody(xs2aObjectMapper, Map.class);
+
+        // Then
+        assertEquals("RI-123456789", typedBody.get("endToEndIdentification"));
+        assertSame(typedBody, parsedRequestBody.getTypedBody(xs2aObjectMapper, Map.class));
+    }
+
+    @Test
+    void getFieldValues_malformedBody_shouldRethrowSameException() throws IOException {
+        // Given
+        mockRequest.setContent(MALFORMED_BODY);
+        ParsedRequestBody parsedRequestBody = ParsedRequestBody.fromRequest(mockRequest);
+        JsonFieldQuery query = JsonFieldQuery.fields(END_TO_END_IDENTIFICATION_FIELD_NAME);
+
+        // When
+        IOException firstException = assertThrows(IOException.class, () -> parsedRequestBody.getFieldValues(xs2aObjectMapper, query));
+        IOException secondException = assertThrows(IOException.class, () -> parsedRequestBody.getFieldValues(xs2aObjectMapper, query));
+
+        // Then
+        assertSame(firstException, secondException);
+    }
+
+    @Test
+    void hasSameContent() throws IOException {
+        ParsedRequestBody parsedRequestBody = ParsedRequestBody.fromRequest(mockRequest);
+
+        assertTrue(parsedRequestBody.hasSameContent(BODY.clone()));
+        assertFalse(parsedRequestBody.hasSameContent(MALFORMED_BODY));
+    }
+}
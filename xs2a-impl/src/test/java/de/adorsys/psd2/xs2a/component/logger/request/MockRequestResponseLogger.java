@@ -25,6 +25,11 @@ class MockRequestResponseLogger extends RequestResponseLogger {
     private Logger logger;
 
     MockRequestResponseLogger(Logger logger) {
+        this(logger, false);
+    }
+
+    MockRequestResponseLogger(Logger logger, boolean asyncEnabled) {
+        super(asyncEnabled, 10, 5000);
         this.logger = logger;
     }
 
@@ -29,8 +29,10 @@ import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @ExtendWith(MockitoExtension.class)
@@ -45,6 +47,7 @@ class RequestResponseLogMessageTest {
     private static final String RESPONSE_HEADERS_MESSAGE_FORMAT = "responseHeaders: [%s: %s, %s: %s]";
     private static final String EMPTY_RESPONSE_HEADERS_MESSAGE_FORMAT = "responseHeaders: [%s]";
     private static final String RESPONSE_BODY_MESSAGE_FORMAT = "responseBody: [%s]";
+    private static final String RESPONSE_BODY_SIZE_MESSAGE_FORMAT = "responseBodySize: [%s]";
     private static final String RESPONSE_BODY_JSON_PATH = "json/component/logger/request/message-response-payload.json";
     private static final String REQUEST_BODY_JSON_PATH = "json/component/logger/request/message-request-payload.json";
     private static final String JSON_CONTENT_TYPE = "application/json";
@@ -287,4 +290,137 @@ class RequestResponseLogMessageTest {
         // Then
         assertEquals(expectedMessage, logMessage.getMessage());
     }
+
+    @Test
+    void withResponseBody_streamedResponse_shouldAddOnlyBodySize() throws IOException {
+        // Given
+        MultiReadHttpServletResponse multiReadResponse = new MultiReadHttpServletResponse(response);
+        multiReadResponse.disableContentCaching();
+        byte[] jsonPayload = jsonReader.getBytesFromFile(RESPONSE_BODY_JSON_PATH);
+        multiReadResponse.getOutputStream().write(jsonPayload);
+
+        String expectedMessage = String.format(RESPONSE_BODY_SIZE_MESSAGE_FORMAT, jsonPayload.length);
+
+        // When
+        RequestResponseLogMessage logMessage = RequestResponseLogMessage.builder(request, multiReadResponse)
+                                                   .withResponseBody()
+                                                   .build();
+
+        // Then
+        assertEquals(expectedMessage, logMessage.getMessage());
+    }
+
+    @Test
+    void withRequestHeaders_withHeaderAllowList_shouldAddOnlyAllowedHeaders() {
+        // Given
+        request.addHeader("X-Request-ID", "some request id");
+        request.addHeader("PSU-ID", "some psu id");
+        RequestResponseLogPolicy policy = new RequestResponseLogPolicy(0, "x-request-id", 1.0, "");
+
+        // When
+        RequestResponseLogMessage logMessage = RequestResponseLogMessage.builder(request, response, policy)
+                                                   .withRequestHeaders()
+                                                   .build();
+
+        // Then
+        assertEquals("requestHeaders: [X-Request-ID: some request id]", logMessage.getMessage());
+    }
+
+    @Test
+    void withRequestPayload_exceedingMaxPayloadSize_shouldTruncatePayload() {
+        // Given
+        byte[] jsonPayload = jsonReader.getBytesFromFile(REQUEST_BODY_JSON_PATH);
+        request.setContent(jsonPayload);
+        request.setContentType(JSON_CONTENT_TYPE);
+        MultiReadHttpServletRequest multiReadRequest = new MultiReadHttpServletRequest(request);
+        RequestResponseLogPolicy policy = new RequestResponseLogPolicy(10, "", 1.0, "");
+
+        String expectedMessage = String.format(REQUEST_PAYLOAD_JSON_MESSAGE_FORMAT, new String(jsonPayload, 0, 10))
+                                     + ", requestPayloadSize: [" + jsonPayload.length + "]";
+
+        // When
+        RequestResponseLogMessage logMessage = RequestResponseLogMessage.builder(multiReadRequest, response, policy)
+                                                   .withRequestPayload()
+                                                   .build();
+
+        // Then
+        assertEquals(expectedMessage, logMessage.getMessage());
+        assertTrue(logMessage.isTruncated());
+    }
+
+    @Test
+    void withRequestPayload_truncatedInsideMultiByteCharacter_shouldCutWholeCharacter() {
+        // Given
+        request.setContent("ab\u00fc".getBytes(StandardCharsets.UTF_8));
+        request.setContentType(JSON_CONTENT_TYPE);
+        MultiReadHttpServletRequest multiReadRequest = new MultiReadHttpServletRequest(request);
+        RequestResponseLogPolicy policy = new RequestResponseLogPolicy(3, "", 1.0, "");
+
+        // When
+        RequestResponseLogMessage logMessage = RequestResponseLogMessage.builder(multiReadRequest, response, policy)
+                                                   .withRequestPayload()
+                                                   .build();
+
+        // Then
+        assertEquals("requestPayload: [ab], requestPayloadSize: [4]", logMessage.getMessage());
+    }
+
+    @Test
+    void withRequestPayload_multipartTruncatedInsideMultiByteCharacter_shouldCutWholeCharacter() {
+        // Given
+        request.setParameter(MULTIPART_XML_PART, "\u00fc\u00fc");
+        request.setContentType(MULTIPART_CONTENT_TYPE);
+        RequestResponseLogPolicy policy = new RequestResponseLogPolicy(11, "", 1.0, "");
+
+        // When
+        RequestResponseLogMessage logMessage = RequestResponseLogMessage.builder(request, response, policy)
+                                                   .withRequestPayload()
+                                                   .build();
+
+        // Then
+        assertEquals("requestPayload: [xml_sct=\u00fc], requestPayloadSize: [12]", logMessage.getMessage());
+        assertTrue(logMessage.isTruncated());
+    }
+
+    @Test
+    void withResponseBody_exceedingMaxPayloadSize_shouldTruncateBody() throws IOException {
+        // Given
+        MultiReadHttpServletResponse multiReadResponse = new MultiReadHttpServletResponse(response);
+        byte[] jsonPayload = jsonReader.getBytesFromFile(RESPONSE_BODY_JSON_PATH);
+        multiReadResponse.getOutputStream().write(jsonPayload);
+        RequestResponseLogPolicy policy = new RequestResponseLogPolicy(10, "", 1.0, "");
+
+        String expectedMessage = String.format(RESPONSE_BODY_MESSAGE_FORMAT, new String(jsonPayload, 0, 10))
+                                     + ", " + String.format(RESPONSE_BODY_SIZE_MESSAGE_FORMAT, jsonPayload.length);
+
+        // When
+        RequestResponseLogMessage logMessage = RequestResponseLogMessage.builder(request, multiReadResponse, policy)
+                                                   .withResponseBody()
+                                                   .build();
+
+        // Then
+        assertEquals(expectedMessage, logMessage.getMessage());
+        assertTrue(logMessage.isTruncated());
+        assertEquals(jsonPayload.length, multiReadResponse.getContentSize());
+    }
+
+    @Test
+    void withResponseBody_withinMaxPayloadSize_shouldAddFullBody() throws IOException {
+        // Given
+        MultiReadHttpServletResponse multiReadResponse = new MultiReadHttpServletResponse(response);
+        byte[] jsonPayload = jsonReader.getBytesFromFile(RESPONSE_BODY_JSON_PATH);
+        multiReadResponse.getOutputStream().write(jsonPayload);
+        RequestResponseLogPolicy policy = new RequestResponseLogPolicy(jsonPayload.length, "", 1.0, "");
+
+        String expectedMessage = String.format(RESPONSE_BODY_MESSAGE_FORMAT, new String(jsonPayload));
+
+        // When
+        RequestResponseLogMessage logMessage = RequestResponseLogMessage.builder(request, multiReadResponse, policy)
+                                                   .withResponseBody()
+                                                   .build();
+
+        // Then
+        assertEquals(expectedMessage, logMessage.getMessage());
+        assertFalse(logMessage.isTruncated());
+    }
 }
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2018-2024 adorsys GmbH & Co KG
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ *
+ * This project is also available under a separate commercial license. You can
+ * contact us at sales@adorsys.com.
+ */
+
+package de.adorsys.psd2.xs2a.component.logger.request;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestResponseLogPolicyTest {
+    private static final String ACCOUNTS_PATH = "/v1/accounts/11111-999999999/transactions";
+    private static final String PAYMENTS_PATH = "/v1/payments/sepa-credit-transfers";
+
+    @Test
+    void isSampled_withDefaultRate_shouldSampleAllRequests() {
+        // Given
+        RequestResponseLogPolicy policy = new RequestResponseLogPolicy(0, "", 1.0, "");
+
+        // When
+        boolean sampled = policy.isSampled(buildRequest(ACCOUNTS_PATH));
+
+        // Then
+        assertTrue(sampled);
+        assertEquals(0, policy.getSampledOutCount());
+    }
+
+    @Test
+    void isSampled_withEndpointRate_shouldUseRateOfMatchingEndpoint() {
+        // Given
+        RequestResponseLogPolicy policy = new RequestResponseLogPolicy(0, "", 1.0, "/v1/accounts/**=0, /v1/payments/**=1");
+
+        // When
+        boolean accountsSampled = policy.isSampled(buildRequest(ACCOUNTS_PATH));
+        boolean paymentsSampled = policy.isSampled(buildRequest(PAYMENTS_PATH));
+
+        // Then
+        assertFalse(accountsSampled);
+        assertTrue(paymentsSampled);
+        assertEquals(1, policy.getSampledOutCount());
+    }
+
+    @Test
+    void isSampled_withoutMatchingEndpoint_shouldUseDefaultRate() {
+        // Given
+        RequestResponseLogPolicy policy = new RequestResponseLogPolicy(0, "", 0, "/v1/accounts/**=1");
+
+        // When
+        boolean sampled = policy.isSampled(buildRequest(PAYMENTS_PATH));
+
+        // Then
+        assertFalse(sampled);
+        assertEquals(1, policy.getSampledOutCount());
+    }
+
+    @Test
+    void constructor_withInvalidEndpointRate_shouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> new RequestResponseLogPolicy(0, "", 1.0, "/v1/accounts/**"));
+    }
+
+    @Test
+    void isHeaderLogged_withEmptyAllowList_shouldLogAllHeaders() {
+        // Given
+        RequestResponseLogPolicy policy = new RequestResponseLogPolicy(0, "", 1.0, "");
+
+        // Then
+        assertTrue(policy.isHeaderLogged("PSU-ID"));
+    }
+
+    @Test
+    void isHeaderLogged_withAllowList_shouldLogOnlyAllowedHeadersIgnoringCase() {
+        // Given
+        RequestResponseLogPolicy policy = new RequestResponseLogPolicy(0, "X-Request-ID, Content-Type", 1.0, "");
+
+        // Then
+        assertTrue(policy.isHeaderLogged("x-request-id"));
+        assertTrue(policy.isHeaderLogged("Content-Type"));
+        assertFalse(policy.isHeaderLogged("PSU-ID"));
+    }
+
+    @Test
+    void getMaxPayloadSize_withNegativeSize_shouldReturnZero() {
+        // Given
+        RequestResponseLogPolicy policy = new RequestResponseLogPolicy(-1, "", 1.0, "");
+
+        // Then
+        assertEquals(0, policy.getMaxPayloadSize());
+    }
+
+    private MockHttpServletRequest buildRequest(String path) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRequestURI(path);
+        return request;
+    }
+}
@@ -18,34 +18,158 @@
 
 package de.adorsys.psd2.xs2a.component.logger.request;
 
-import de.adorsys.xs2a.reader.JsonReader;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.slf4j.Logger;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
 
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class RequestResponseLoggerTest {
-    private static final String LOG_MESSAGE_JSON_PATH = "json/component/logger/request/log-message.json";
-    private static final String MESSAGE = "some log message";
+    private static final String REQUEST_URI = "/v1/accounts";
+    private static final String MESSAGE = "uri: [/v1/accounts]";
+    private static final String X_REQUEST_ID_KEY = "x-request-id";
+    private static final String X_REQUEST_ID = "2f77a125-aa7a-45c0-b414-cea25a116035";
 
     @Mock
     private Logger logger;
-    private JsonReader jsonReader = new JsonReader();
 
     @Test
     void log_shouldWriteMessageToLogger() {
         // Given
         RequestResponseLogger requestResponseLogger = new MockRequestResponseLogger(logger);
-        RequestResponseLogMessage logMessage = jsonReader.getObjectFromFile(LOG_MESSAGE_JSON_PATH, RequestResponseLogMessage.class);
+
+        // When
+        requestResponseLogger.logMessage(buildLogMessage());
+
+        // Then
+        verify(logger).info(MESSAGE);
+        assertEquals(1, requestResponseLogger.getLoggedCount());
+        assertEquals(0, requestResponseLogger.getTruncatedCount());
+    }
+
+    @Test
+    void log_truncatedMessage_shouldCountTruncatedMessage() {
+        // Given
+        RequestResponseLogger requestResponseLogger = new MockRequestResponseLogger(logger);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setParameter("xml_sct", "some xml part");
+        request.setContentType("multipart/form-data");
+        RequestResponseLogPolicy policy = new RequestResponseLogPolicy(4, "", 1.0, "");
+        RequestResponseLogMessage logMessage = RequestResponseLogMessage.builder(request, new MockHttpServletResponse(), policy)
+                                                   .withRequestPayload()
+                                                   .build();
 
         // When
         requestResponseLogger.logMessage(logMessage);
 
+        // Then
+        verify(logger).info("requestPayload: [xml_], requestPayloadSize: [21]");
+        assertEquals(1, requestResponseLogger.getTruncatedCount());
+    }
+
+    @Test
+    void log_asyncEnabled_shouldWriteMessageInBackground() {
+        // Given
+        RequestResponseLogger requestResponseLogger = new MockRequestResponseLogger(logger, true);
+        requestResponseLogger.start();
+        assertTrue(requestResponseLogger.isRunning());
+
+        // When
+        requestResponseLogger.logMessage(buildLogMessage());
+        requestResponseLogger.stop();
+
         // Then
         verify(logger).info(MESSAGE);
+        assertFalse(requestResponseLogger.isRunning());
+        assertEquals(1, requestResponseLogger.getLoggedCount());
+        assertEquals(0, requestResponseLogger.getDroppedCount());
+        assertEquals(0, requestResponseLogger.getQueueDepth());
+    }
+
+    @Test
+    void log_asyncEnabled_shouldWriteMessageWithRequestContext() {
+        // Given
+        RequestResponseLogger requestResponseLogger = new MockRequestResponseLogger(logger, true);
+        AtomicReference<String> loggedRequestId = new AtomicReference<>();
+        AtomicReference<String> loggingThread = new AtomicReference<>();
+        doAnswer(invocation -> {
+            loggedRequestId.set(MDC.get(X_REQUEST_ID_KEY));
+            loggingThread.set(Thread.currentThread().getName());
+            return null;
+        }).when(logger).info(MESSAGE);
+        requestResponseLogger.start();
+
+        // When
+        MDC.put(X_REQUEST_ID_KEY, X_REQUEST_ID);
+        try {
+            requestResponseLogger.logMessage(buildLogMessage());
+        } finally {
+            MDC.clear();
+        }
+        requestResponseLogger.stop();
+
+        // Then
+        assertEquals(X_REQUEST_ID, loggedRequestId.get());
+        assertNotEquals(Thread.currentThread().getName(), loggingThread.get());
+    }
+
+    @Test
+    void log_asyncEnabled_bufferFull_shouldDropOldestMessages() throws InterruptedException {
+        // Given
+        RequestResponseLogger requestResponseLogger = new MockRequestResponseLogger(logger, true);
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            writing.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(logger).info(MESSAGE);
+        requestResponseLogger.start();
+        requestResponseLogger.logMessage(buildLogMessage());
+        assertTrue(writing.await(5, TimeUnit.SECONDS));
+
+        // When
+        for (int i = 0; i < 12; i++) {
+            requestResponseLogger.logMessage(buildLogMessage());
+        }
+        release.countDown();
+        requestResponseLogger.stop();
+
+        // Then
+        assertEquals(2, requestResponseLogger.getDroppedCount());
+        assertEquals(11, requestResponseLogger.getLoggedCount());
+    }
+
+    @Test
+    void start_asyncDisabled_shouldNotStartWriter() {
+        // Given
+        RequestResponseLogger requestResponseLogger = new MockRequestResponseLogger(logger);
+
+        // When
+        requestResponseLogger.start();
+
+        // Then
+        assertFalse(requestResponseLogger.isAutoStartup());
+        assertFalse(requestResponseLogger.isRunning());
+    }
+
+    private RequestResponseLogMessage buildLogMessage() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRequestURI(REQUEST_URI);
+        return RequestResponseLogMessage.builder(request, new MockHttpServletResponse())
+                   .withRequestUri()
+                   .build();
     }
 }
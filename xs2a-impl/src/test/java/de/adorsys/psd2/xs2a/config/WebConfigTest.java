@@ -35,7 +35,8 @@ class WebConfigTest {
                                             null, null, null,
                                             null, null, null,
                                             null, null, null,
-                                            null, null, null);
+                                            null, null, null,
+                                            null);
         List<HttpMessageConverter<?>> messageConverters = new ArrayList<>();
 
         webConfig.extendMessageConverters(messageConverters);
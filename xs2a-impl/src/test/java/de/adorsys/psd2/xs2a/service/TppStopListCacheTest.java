@@ -0,0 +1,119 @@
+/*
+ * Copyright 2018-2024 adorsys GmbH & Co KG
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ *
+ * This project is also available under a separate commercial license. You can
+ * contact us at sales@adorsys.com.
+ */
+
+package de.adorsys.psd2.xs2a.service;
+
+import de.adorsys.psd2.consent.api.CmsError;
+import de.adorsys.psd2.consent.api.CmsResponse;
+import de.adorsys.psd2.consent.api.service.TppStopListService;
+import de.adorsys.psd2.xs2a.core.tpp.TppStatus;
+import de.adorsys.psd2.xs2a.core.tpp.TppStopListChangedEvent;
+import de.adorsys.psd2.xs2a.core.tpp.TppStopListRecord;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TppStopListCacheTest {
+    private static final String INSTANCE_ID = "instance id";
+    private static final String BLOCKED_TPP = "blocked tpp";
+    private static final String EXPIRED_TPP = "expired tpp";
+    private static final String TEMPORARY_BLOCKED_TPP = "temporary blocked tpp";
+    private static final String ENABLED_TPP = "enabled tpp";
+    private static final long REFRESH_INTERVAL_MS = 60_000;
+
+    @Mock
+    private TppStopListService tppStopListService;
+
+    @Test
+    void isTppBlocked_disabled_checksInCms() {
+        TppStopListCache tppStopListCache = new TppStopListCache(tppStopListService, 0);
+        when(tppStopListService.checkIfTppBlocked(BLOCKED_TPP, INSTANCE_ID))
+            .thenReturn(CmsResponse.<Boolean>builder().payload(true).build());
+
+        assertTrue(tppStopListCache.isTppBlocked(BLOCKED_TPP, INSTANCE_ID));
+
+        verify(tppStopListService, never()).getBlockedTpps(any());
+    }
+
+    @Test
+    void isTppBlocked_enabled_usesSnapshot() {
+        TppStopListCache tppStopListCache = new TppStopListCache(tppStopListService, REFRESH_INTERVAL_MS);
+        OffsetDateTime now = OffsetDateTime.now();
+        when(tppStopListService.getBlockedTpps(INSTANCE_ID))
+            .thenReturn(CmsResponse.<List<TppStopListRecord>>builder()
+                            .payload(Arrays.asList(buildRecord(BLOCKED_TPP, null),
+                                                   buildRecord(EXPIRED_TPP, now.minusMinutes(1)),
+                                                   buildRecord(TEMPORARY_BLOCKED_TPP, now.plusHours(1))))
+                            .build());
+
+        assertTrue(tppStopListCache.isTppBlocked(BLOCKED_TPP, INSTANCE_ID));
+        assertTrue(tppStopListCache.isTppBlocked(TEMPORARY_BLOCKED_TPP, INSTANCE_ID));
+        assertFalse(tppStopListCache.isTppBlocked(EXPIRED_TPP, INSTANCE_ID));
+        assertFalse(tppStopListCache.isTppBlocked(ENABLED_TPP, INSTANCE_ID));
+
+        verify(tppStopListService, times(1)).getBlockedTpps(INSTANCE_ID);
+        verify(tppStopListService, never()).checkIfTppBlocked(any(), any());
+        assertEquals(1, tppStopListCache.getLoadCount());
+    }
+
+    @Test
+    void onTppStopListChanged_reloadsSnapshot() {
+        TppStopListCache tppStopListCache = new TppStopListCache(tppStopListService, REFRESH_INTERVAL_MS);
+        when(tppStopListService.getBlockedTpps(INSTANCE_ID))
+            .thenReturn(CmsResponse.<List<TppStopListRecord>>builder().payload(Collections.emptyList()).build())
+            .thenReturn(CmsResponse.<List<TppStopListRecord>>builder().payload(Collections.singletonList(buildRecord(BLOCKED_TPP, null))).build());
+
+        assertFalse(tppStopListCache.isTppBlocked(BLOCKED_TPP, INSTANCE_ID));
+
+        tppStopListCache.onTppStopListChanged(new TppStopListChangedEvent(BLOCKED_TPP, INSTANCE_ID));
+
+        assertTrue(tppStopListCache.isTppBlocked(BLOCKED_TPP, INSTANCE_ID));
+        assertEquals(2, tppStopListCache.getLoadCount());
+        assertEquals(1, tppStopListCache.getInvalidationCount());
+    }
+
+    @Test
+    void isTppBlocked_snapshotNotLoaded_checksInCms() {
+        TppStopListCache tppStopListCache = new TppStopListCache(tppStopListService, REFRESH_INTERVAL_MS);
+        when(tppStopListService.getBlockedTpps(INSTANCE_ID))
+            .thenReturn(CmsResponse.<List<TppStopListRecord>>builder().error(CmsError.TECHNICAL_ERROR).build());
+        when(tppStopListService.checkIfTppBlocked(BLOCKED_TPP, INSTANCE_ID))
+            .thenReturn(CmsResponse.<Boolean>builder().payload(true).build());
+
+        assertTrue(tppStopListCache.isTppBlocked(BLOCKED_TPP, INSTANCE_ID));
+    }
+
+    private TppStopListRecord buildRecord(String tppAuthorisationNumber, OffsetDateTime blockingExpirationTimestamp) {
+        TppStopListRecord tppStopListRecord = new TppStopListRecord();
+        tppStopListRecord.setTppAuthorisationNumber(tppAuthorisationNumber);
+        tppStopListRecord.setStatus(TppStatus.BLOCKED);
+        tppStopListRecord.setBlockingExpirationTimestamp(blockingExpirationTimestamp);
+        tppStopListRecord.setInstanceId(INSTANCE_ID);
+        return tppStopListRecord;
+    }
+}
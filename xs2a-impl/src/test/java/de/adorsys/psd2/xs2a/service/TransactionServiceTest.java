@@ -40,6 +40,7 @@ import de.adorsys.psd2.xs2a.domain.account.Xs2aAccountReport;
 import de.adorsys.psd2.xs2a.domain.account.Xs2aTransactionsDownloadResponse;
 import de.adorsys.psd2.xs2a.domain.account.Xs2aTransactionsReport;
 import de.adorsys.psd2.xs2a.domain.account.Xs2aTransactionsReportByPeriodRequest;
+import de.adorsys.psd2.xs2a.domain.consent.Xs2aAisConsentAccess;
 import de.adorsys.psd2.xs2a.service.ais.AccountHelperService;
 import de.adorsys.psd2.xs2a.service.ais.TransactionService;
 import de.adorsys.psd2.xs2a.service.consent.Xs2aAccountService;
@@ -200,10 +201,10 @@ class TransactionServiceTest {
     @Test
     void getTransactionsReportByPeriod_Failure_NoAccountConsent() {
         // Given
-        when(aisConsentService.getAccountConsentById(CONSENT_ID))
-            .thenReturn(Optional.of(aisConsent));
+        when(aisConsentService.getAccountConsentAccess(CONSENT_ID))
+            .thenReturn(Optional.of(new Xs2aAisConsentAccess(aisConsent, null)));
 
-        when(aisConsentService.getAccountConsentById(CONSENT_ID)).thenReturn(Optional.empty());
+        when(aisConsentService.getAccountConsentAccess(CONSENT_ID)).thenReturn(Optional.empty());
         // When
         ResponseObject<Xs2aTransactionsReport> actualResponse = transactionService.getTransactionsReportByPeriod(XS2A_TRANSACTIONS_REPORT_BY_PERIOD_REQUEST);
         // Then
@@ -215,8 +216,8 @@ class TransactionServiceTest {
         // Given
         when(getTransactionsReportValidator.validate(any(TransactionsReportByPeriodObject.class)))
             .thenReturn(ValidationResult.valid());
-        when(aisConsentService.getAccountConsentById(CONSENT_ID))
-            .thenReturn(Optional.of(aisConsent));
+        when(aisConsentService.getAccountConsentAccess(CONSENT_ID))
+            .thenReturn(Optional.of(new Xs2aAisConsentAccess(aisConsent, null)));
 
         when(getTransactionsReportValidator.validate(transactionsReportByPeriodObject))
             .thenReturn(ValidationResult.invalid(VALIDATION_ERROR));
@@ -233,8 +234,8 @@ class TransactionServiceTest {
         // Given
         when(getTransactionsReportValidator.validate(any(TransactionsReportByPeriodObject.class)))
             .thenReturn(ValidationResult.valid());
-        when(aisConsentService.getAccountConsentById(CONSENT_ID))
-            .thenReturn(Optional.of(aisConsent));
+        when(aisConsentService.getAccountConsentAccess(CONSENT_ID))
+            .thenReturn(Optional.of(new Xs2aAisConsentAccess(aisConsent, null)));
         when(accountHelperService.findAccountReference(any(), any()))
             .thenReturn(spiAccountReference);
         when(accountHelperService.getSpiContextData())
@@ -264,8 +265,8 @@ class TransactionServiceTest {
         // Given
         when(getTransactionsReportValidator.validate(any(TransactionsReportByPeriodObject.class)))
             .thenReturn(ValidationResult.valid());
-        when(aisConsentService.getAccountConsentById(CONSENT_ID))
-            .thenReturn(Optional.of(aisConsent));
+        when(aisConsentService.getAccountConsentAccess(CONSENT_ID))
+            .thenReturn(Optional.of(new Xs2aAisConsentAccess(aisConsent, null)));
         when(getTransactionsReportValidator.validate(transactionsReportByPeriodObject))
             .thenReturn(ValidationResult.invalid(VALIDATION_ERROR));
 
@@ -281,8 +282,8 @@ class TransactionServiceTest {
         // Given
         when(getTransactionsReportValidator.validate(any(TransactionsReportByPeriodObject.class)))
             .thenReturn(ValidationResult.valid());
-        when(aisConsentService.getAccountConsentById(CONSENT_ID))
-            .thenReturn(Optional.of(aisConsent));
+        when(aisConsentService.getAccountConsentAccess(CONSENT_ID))
+            .thenReturn(Optional.of(new Xs2aAisConsentAccess(aisConsent, null)));
         when(accountHelperService.findAccountReference(any(), any()))
             .thenReturn(spiAccountReference);
         when(accountHelperService.getSpiContextData())
@@ -307,8 +308,8 @@ class TransactionServiceTest {
         // Given
         when(getTransactionsReportValidator.validate(any(TransactionsReportByPeriodObject.class)))
             .thenReturn(ValidationResult.valid());
-        when(aisConsentService.getAccountConsentById(CONSENT_ID))
-            .thenReturn(Optional.of(aisConsent));
+        when(aisConsentService.getAccountConsentAccess(CONSENT_ID))
+            .thenReturn(Optional.of(new Xs2aAisConsentAccess(aisConsent, null)));
         when(accountHelperService.findAccountReference(any(), any()))
             .thenReturn(spiAccountReference);
         when(accountHelperService.getSpiContextData())
@@ -352,8 +353,8 @@ class TransactionServiceTest {
         // Given
         when(getTransactionsReportValidator.validate(any(TransactionsReportByPeriodObject.class)))
             .thenReturn(ValidationResult.valid());
-        when(aisConsentService.getAccountConsentById(CONSENT_ID))
-            .thenReturn(Optional.of(aisConsent));
+        when(aisConsentService.getAccountConsentAccess(CONSENT_ID))
+            .thenReturn(Optional.of(new Xs2aAisConsentAccess(aisConsent, null)));
         when(accountHelperService.findAccountReference(any(), any()))
             .thenReturn(spiAccountReference);
         when(accountHelperService.getSpiContextData())
@@ -397,8 +398,8 @@ class TransactionServiceTest {
         // Given
         when(getTransactionsReportValidator.validate(any(TransactionsReportByPeriodObject.class)))
             .thenReturn(ValidationResult.valid());
-        when(aisConsentService.getAccountConsentById(CONSENT_ID))
-            .thenReturn(Optional.of(aisConsent));
+        when(aisConsentService.getAccountConsentAccess(CONSENT_ID))
+            .thenReturn(Optional.of(new Xs2aAisConsentAccess(aisConsent, null)));
         when(accountHelperService.findAccountReference(any(), any()))
             .thenReturn(null);
 
@@ -419,8 +420,8 @@ class TransactionServiceTest {
         // Given
         when(getTransactionsReportValidator.validate(any(TransactionsReportByPeriodObject.class)))
             .thenReturn(ValidationResult.valid());
-        when(aisConsentService.getAccountConsentById(CONSENT_ID))
-            .thenReturn(Optional.of(aisConsent));
+        when(aisConsentService.getAccountConsentAccess(CONSENT_ID))
+            .thenReturn(Optional.of(new Xs2aAisConsentAccess(aisConsent, null)));
         when(accountHelperService.findAccountReference(any(), any()))
             .thenReturn(spiAccountReference);
         when(accountHelperService.getSpiContextData())
@@ -430,8 +431,8 @@ class TransactionServiceTest {
 
         AisConsent aisConsent = createConsent();
 
-        when(aisConsentService.getAccountConsentById(CONSENT_ID))
-            .thenReturn(Optional.of(aisConsent));
+        when(aisConsentService.getAccountConsentAccess(CONSENT_ID))
+            .thenReturn(Optional.of(new Xs2aAisConsentAccess(aisConsent, null)));
         when(aspspProfileService.isTransactionsWithoutBalancesSupported())
             .thenReturn(true);
         when(accountSpi.requestTransactionsForAccount(SPI_CONTEXT_DATA, buildSpiTransactionReportParameters(), SPI_ACCOUNT_REFERENCE_GLOBAL, SPI_ACCOUNT_CONSENT, spiAspspConsentDataProvider))
@@ -468,8 +469,8 @@ class TransactionServiceTest {
         // Given
         when(getTransactionsReportValidator.validate(any(TransactionsReportByPeriodObject.class)))
             .thenReturn(ValidationResult.valid());
-        when(aisConsentService.getAccountConsentById(CONSENT_ID))
-            .thenReturn(Optional.of(aisConsent));
+        when(aisConsentService.getAccountConsentAccess(CONSENT_ID))
+            .thenReturn(Optional.of(new Xs2aAisConsentAccess(aisConsent, null)));
         when(accountHelperService.findAccountReference(any(), any()))
             .thenReturn(spiAccountReference);
         when(accountHelperService.getSpiContextData())
@@ -508,8 +509,8 @@ class TransactionServiceTest {
         // Given
         when(getTransactionsReportValidator.validate(any(TransactionsReportByPeriodObject.class)))
             .thenReturn(ValidationResult.valid());
-        when(aisConsentService.getAccountConsentById(CONSENT_ID))
-            .thenReturn(Optional.of(aisConsent));
+        when(aisConsentService.getAccountConsentAccess(CONSENT_ID))
+            .thenReturn(Optional.of(new Xs2aAisConsentAccess(aisConsent, null)));
         when(accountHelperService.findAccountReference(any(), any()))
             .thenReturn(spiAccountReference);
         when(accountHelperService.getSpiContextData())
@@ -546,8 +547,8 @@ class TransactionServiceTest {
         // Given
         when(getTransactionsReportValidator.validate(any(TransactionsReportByPeriodObject.class)))
             .thenReturn(ValidationResult.valid());
-        when(aisConsentService.getAccountConsentById(CONSENT_ID))
-            .thenReturn(Optional.of(aisConsent));
+        when(aisConsentService.getAccountConsentAccess(CONSENT_ID))
+            .thenReturn(Optional.of(new Xs2aAisConsentAccess(aisConsent, null)));
         when(accountHelperService.findAccountReference(any(), any()))
             .thenReturn(spiAccountReference);
         when(accountHelperService.getSpiContextData())
@@ -580,8 +581,8 @@ class TransactionServiceTest {
     @Test
     void getTransactionsReportByPeriod_withInvalidConsent_shouldReturnValidationError() {
         // Given
-        when(aisConsentService.getAccountConsentById(CONSENT_ID))
-            .thenReturn(Optional.of(aisConsent));
+        when(aisConsentService.getAccountConsentAccess(CONSENT_ID))
+            .thenReturn(Optional.of(new Xs2aAisConsentAccess(aisConsent, null)));
         when(getTransactionsReportValidator.validate(any(TransactionsReportByPeriodObject.class)))
             .thenReturn(ValidationResult.invalid(VALIDATION_ERROR));
 
@@ -598,8 +599,8 @@ class TransactionServiceTest {
         // Given
         when(getTransactionsReportValidator.validate(any(TransactionsReportByPeriodObject.class)))
             .thenReturn(ValidationResult.valid());
-        when(aisConsentService.getAccountConsentById(CONSENT_ID))
-            .thenReturn(Optional.of(aisConsent));
+        when(aisConsentService.getAccountConsentAccess(CONSENT_ID))
+            .thenReturn(Optional.of(new Xs2aAisConsentAccess(aisConsent, null)));
         when(accountHelperService.findAccountReference(any(), any()))
             .thenReturn(spiAccountReference);
         when(accountHelperService.getSpiContextData())
@@ -634,8 +635,8 @@ class TransactionServiceTest {
         // Given
         ArgumentCaptor<EventType> argumentCaptor = ArgumentCaptor.forClass(EventType.class);
 
-        when(aisConsentService.getAccountConsentById(CONSENT_ID))
-            .thenReturn(Optional.of(aisConsent));
+        when(aisConsentService.getAccountConsentAccess(CONSENT_ID))
+            .thenReturn(Optional.of(new Xs2aAisConsentAccess(aisConsent, null)));
         when(accountHelperService.getSpiContextData())
             .thenReturn(SPI_CONTEXT_DATA);
         when(downloadTransactionsReportValidator.validate(any(DownloadTransactionListRequestObject.class)))
@@ -665,7 +666,7 @@ class TransactionServiceTest {
     @Test
     void downloadTransactions_Failure_no_consent_shouldReturn_400() {
         // Given
-        when(aisConsentService.getAccountConsentById(CONSENT_ID))
+        when(aisConsentService.getAccountConsentAccess(CONSENT_ID))
             .thenReturn(Optional.empty());
 
         // When
@@ -678,8 +679,8 @@ class TransactionServiceTest {
     @Test
     void downloadTransactions_Failure_validation_fails_shouldReturn_400() {
         // Given
-        when(aisConsentService.getAccountConsentById(CONSENT_ID))
-            .thenReturn(Optional.of(aisConsent));
+        when(aisConsentService.getAccountConsentAccess(CONSENT_ID))
+            .thenReturn(Optional.of(new Xs2aAisConsentAccess(aisConsent, null)));
         when(downloadTransactionsReportValidator.validate(any(DownloadTransactionListRequestObject.class)))
             .thenReturn(ValidationResult.invalid(AIS_401, CONSENT_EXPIRED));
 
@@ -695,8 +696,8 @@ class TransactionServiceTest {
         // Given
         SpiTransactionsDownloadResponse spiTransactionsDownloadResponse = new SpiTransactionsDownloadResponse(inputStream, FILENAME, DATA_SIZE_BYTES);
 
-        when(aisConsentService.getAccountConsentById(CONSENT_ID))
-            .thenReturn(Optional.of(aisConsent));
+        when(aisConsentService.getAccountConsentAccess(CONSENT_ID))
+            .thenReturn(Optional.of(new Xs2aAisConsentAccess(aisConsent, null)));
         when(accountHelperService.getSpiContextData())
             .thenReturn(SPI_CONTEXT_DATA);
         when(downloadTransactionsReportValidator.validate(any(DownloadTransactionListRequestObject.class)))
@@ -725,8 +726,8 @@ class TransactionServiceTest {
         // Given
         ArgumentCaptor<ConsentStatus> argumentCaptor = ArgumentCaptor.forClass(ConsentStatus.class);
 
-        when(aisConsentService.getAccountConsentById(CONSENT_ID))
-            .thenReturn(Optional.of(aisConsent));
+        when(aisConsentService.getAccountConsentAccess(CONSENT_ID))
+            .thenReturn(Optional.of(new Xs2aAisConsentAccess(aisConsent, null)));
         when(accountHelperService.getSpiContextData())
             .thenReturn(SPI_CONTEXT_DATA);
         when(downloadTransactionsReportValidator.validate(any(DownloadTransactionListRequestObject.class)))
@@ -749,7 +750,7 @@ class TransactionServiceTest {
     @Test
     void getTransactionDetails_Failure_NoAccountConsent() {
         // Given
-        when(aisConsentService.getAccountConsentById(CONSENT_ID))
+        when(aisConsentService.getAccountConsentAccess(CONSENT_ID))
             .thenReturn(Optional.empty());
         // When
         ResponseObject<Transactions> actualResponse = transactionService.getTransactionDetails(CONSENT_ID, ACCOUNT_ID, TRANSACTION_ID, REQUEST_URI);
@@ -762,8 +763,8 @@ class TransactionServiceTest {
         // Given
         when(getTransactionDetailsValidator.validate(any(CommonAccountTransactionsRequestObject.class)))
             .thenReturn(ValidationResult.valid());
-        when(aisConsentService.getAccountConsentById(CONSENT_ID))
-            .thenReturn(Optional.of(aisConsent));
+        when(aisConsentService.getAccountConsentAccess(CONSENT_ID))
+            .thenReturn(Optional.of(new Xs2aAisConsentAccess(aisConsent, null)));
         when(getTransactionDetailsValidator.validate(new CommonAccountTransactionsRequestObject(aisConsent, ACCOUNT_ID, REQUEST_URI)))
             .thenReturn(ValidationResult.invalid(VALIDATION_ERROR));
 
@@ -779,8 +780,8 @@ class TransactionServiceTest {
         // Given
         when(getTransactionDetailsValidator.validate(any(CommonAccountTransactionsRequestObject.class)))
             .thenReturn(ValidationResult.valid());
-        when(aisConsentService.getAccountConsentById(CONSENT_ID))
-            .thenReturn(Optional.of(aisConsent));
+        when(aisConsentService.getAccountConsentAccess(CONSENT_ID))
+            .thenReturn(Optional.of(new Xs2aAisConsentAccess(aisConsent, null)));
         when(accountHelperService.findAccountReference(any(), any()))
             .thenReturn(spiAccountReference);
         when(accountHelperService.getSpiContextData())
@@ -809,8 +810,8 @@ class TransactionServiceTest {
         // Given
         when(getTransactionDetailsValidator.validate(any(CommonAccountTransactionsRequestObject.class)))
             .thenReturn(ValidationResult.valid());
-        when(aisConsentService.getAccountConsentById(CONSENT_ID))
-            .thenReturn(Optional.of(aisConsent));
+        when(aisConsentService.getAccountConsentAccess(CONSENT_ID))
+            .thenReturn(Optional.of(new Xs2aAisConsentAccess(aisConsent, null)));
         when(getTransactionDetailsValidator.validate(new CommonAccountTransactionsRequestObject(aisConsent, ACCOUNT_ID, REQUEST_URI)))
             .thenReturn(ValidationResult.invalid(VALIDATION_ERROR));
 
@@ -826,8 +827,8 @@ class TransactionServiceTest {
         // Given
         when(getTransactionDetailsValidator.validate(any(CommonAccountTransactionsRequestObject.class)))
             .thenReturn(ValidationResult.valid());
-        when(aisConsentService.getAccountConsentById(CONSENT_ID))
-            .thenReturn(Optional.of(aisConsent));
+        when(aisConsentService.getAccountConsentAccess(CONSENT_ID))
+            .thenReturn(Optional.of(new Xs2aAisConsentAccess(aisConsent, null)));
         when(accountHelperService.findAccountReference(any(), any()))
             .thenReturn(spiAccountReference);
         when(accountHelperService.getSpiContextData()).thenReturn(SPI_CONTEXT_DATA);
@@ -856,8 +857,8 @@ class TransactionServiceTest {
         // Given
         when(getTransactionDetailsValidator.validate(any(CommonAccountTransactionsRequestObject.class)))
             .thenReturn(ValidationResult.valid());
-        when(aisConsentService.getAccountConsentById(CONSENT_ID))
-            .thenReturn(Optional.of(aisConsent));
+        when(aisConsentService.getAccountConsentAccess(CONSENT_ID))
+            .thenReturn(Optional.of(new Xs2aAisConsentAccess(aisConsent, null)));
         when(accountHelperService.findAccountReference(any(), any()))
             .thenReturn(spiAccountReference);
         when(accountHelperService.getSpiContextData()).thenReturn(SPI_CONTEXT_DATA);
@@ -883,8 +884,8 @@ class TransactionServiceTest {
     @Test
     void getTransactionDetails_withInvalidConsent_shouldReturnValidationError() {
         // Given
-        when(aisConsentService.getAccountConsentById(CONSENT_ID))
-            .thenReturn(Optional.of(aisConsent));
+        when(aisConsentService.getAccountConsentAccess(CONSENT_ID))
+            .thenReturn(Optional.of(new Xs2aAisConsentAccess(aisConsent, null)));
         when(getTransactionDetailsValidator.validate(any(CommonAccountTransactionsRequestObject.class)))
             .thenReturn(ValidationResult.invalid(VALIDATION_ERROR));
 
@@ -901,8 +902,8 @@ class TransactionServiceTest {
         // Given
         when(getTransactionDetailsValidator.validate(any(CommonAccountTransactionsRequestObject.class)))
             .thenReturn(ValidationResult.valid());
-        when(aisConsentService.getAccountConsentById(CONSENT_ID))
-            .thenReturn(Optional.of(aisConsent));
+        when(aisConsentService.getAccountConsentAccess(CONSENT_ID))
+            .thenReturn(Optional.of(new Xs2aAisConsentAccess(aisConsent, null)));
         when(accountHelperService.findAccountReference(any(), any()))
             .thenReturn(spiAccountReference);
         when(accountHelperService.getSpiContextData()).thenReturn(SPI_CONTEXT_DATA);
@@ -38,6 +38,7 @@ import de.adorsys.psd2.xs2a.core.service.validator.ValidationResult;
 import de.adorsys.psd2.xs2a.domain.ResponseObject;
 import de.adorsys.psd2.xs2a.domain.account.Xs2aAccountDetails;
 import de.adorsys.psd2.xs2a.domain.account.Xs2aAccountListHolder;
+import de.adorsys.psd2.xs2a.domain.consent.Xs2aAisConsentAccess;
 import de.adorsys.psd2.xs2a.service.TppService;
 import de.adorsys.psd2.xs2a.service.consent.AccountReferenceInConsentUpdater;
 import de.adorsys.psd2.xs2a.service.consent.Xs2aAisConsentService;
@@ -148,7 +149,7 @@ class AccountListServiceTest {
     @Test
     void getAccountDetailsList_Failure_NoAccountConsent() {
         // Given
-        when(aisConsentService.getAccountConsentById(CONSENT_ID))
+        when(aisConsentService.getAccountConsentAccess(CONSENT_ID))
             .thenReturn(Optional.empty());
 
         // When
@@ -161,8 +162,8 @@ class AccountListServiceTest {
     @Test
     void getAccountDetailsList_Failure_AllowedAccountDataHasError() {
         // Given
-        when(aisConsentService.getAccountConsentById(CONSENT_ID))
-            .thenReturn(Optional.of(aisConsent));
+        when(aisConsentService.getAccountConsentAccess(CONSENT_ID))
+            .thenReturn(Optional.of(new Xs2aAisConsentAccess(aisConsent, null)));
         when(getAccountListValidator.validate(getAccountListConsentObject))
             .thenReturn(ValidationResult.invalid(CONSENT_INVALID_401_ERROR));
 
@@ -174,8 +175,8 @@ class AccountListServiceTest {
     @Test
     void getAccountDetailsList_Failure_SpiResponseHasError() {
         // Given
-        when(aisConsentService.getAccountConsentById(CONSENT_ID))
-            .thenReturn(Optional.of(aisConsent));
+        when(aisConsentService.getAccountConsentAccess(CONSENT_ID))
+            .thenReturn(Optional.of(new Xs2aAisConsentAccess(aisConsent, null)));
         when(getAccountListValidator.validate(any(GetAccountListConsentObject.class)))
             .thenReturn(ValidationResult.valid());
         when(accountHelperService.getSpiContextData())
@@ -198,8 +199,8 @@ class AccountListServiceTest {
     @Test
     void getAccountDetailsList_Failure_AccountConsentUpdatedIsEmpty() {
         // Given
-        when(aisConsentService.getAccountConsentById(CONSENT_ID))
-            .thenReturn(Optional.of(aisConsent));
+        when(aisConsentService.getAccountConsentAccess(CONSENT_ID))
+            .thenReturn(Optional.of(new Xs2aAisConsentAccess(aisConsent, null)));
         when(getAccountListValidator.validate(any(GetAccountListConsentObject.class)))
             .thenReturn(ValidationResult.valid());
         when(accountHelperService.getSpiContextData()).thenReturn(SPI_CONTEXT_DATA);
@@ -227,8 +228,8 @@ class AccountListServiceTest {
     @Test
     void getAccountDetailsList_Success() {
         // Given
-        when(aisConsentService.getAccountConsentById(CONSENT_ID))
-            .thenReturn(Optional.of(aisConsent));
+        when(aisConsentService.getAccountConsentAccess(CONSENT_ID))
+            .thenReturn(Optional.of(new Xs2aAisConsentAccess(aisConsent, null)));
         when(getAccountListValidator.validate(any(GetAccountListConsentObject.class)))
             .thenReturn(ValidationResult.valid());
         when(accountHelperService.getSpiContextData())
@@ -275,8 +276,8 @@ class AccountListServiceTest {
 
         AisConsent aisConsent = createConsent(false);
 
-        when(aisConsentService.getAccountConsentById(CONSENT_ID))
-            .thenReturn(Optional.of(aisConsent));
+        when(aisConsentService.getAccountConsentAccess(CONSENT_ID))
+            .thenReturn(Optional.of(new Xs2aAisConsentAccess(aisConsent, null)));
 
         List<SpiAccountDetails> spiAccountDetailsList = Collections.singletonList(spiAccountDetails);
 
@@ -322,8 +323,8 @@ class AccountListServiceTest {
         // Given
         when(getAccountListValidator.validate(any(GetAccountListConsentObject.class)))
             .thenReturn(ValidationResult.invalid(CONSENT_INVALID_401_ERROR));
-        when(aisConsentService.getAccountConsentById(CONSENT_ID))
-            .thenReturn(Optional.of(aisConsent));
+        when(aisConsentService.getAccountConsentAccess(CONSENT_ID))
+            .thenReturn(Optional.of(new Xs2aAisConsentAccess(aisConsent, null)));
 
         // When
         ResponseObject<Xs2aAccountListHolder> actualResponse = accountListService.getAccountList(CONSENT_ID, WITH_BALANCE, REQUEST_URI);
@@ -339,8 +340,8 @@ class AccountListServiceTest {
         // Given
         when(getAccountListValidator.validate(any(GetAccountListConsentObject.class)))
             .thenReturn(ValidationResult.valid());
-        when(aisConsentService.getAccountConsentById(CONSENT_ID))
-            .thenReturn(Optional.of(aisConsent));
+        when(aisConsentService.getAccountConsentAccess(CONSENT_ID))
+            .thenReturn(Optional.of(new Xs2aAisConsentAccess(aisConsent, null)));
         when(accountHelperService.getSpiContextData())
             .thenReturn(SPI_CONTEXT_DATA);
         when(accountHelperService.createActionStatus(anyBoolean(), any(), any()))
@@ -378,8 +379,8 @@ class AccountListServiceTest {
         // Given
         when(getAccountListValidator.validate(any(GetAccountListConsentObject.class)))
             .thenReturn(ValidationResult.valid());
-        when(aisConsentService.getAccountConsentById(CONSENT_ID))
-            .thenReturn(Optional.of(aisConsent));
+        when(aisConsentService.getAccountConsentAccess(CONSENT_ID))
+            .thenReturn(Optional.of(new Xs2aAisConsentAccess(aisConsent, null)));
         when(accountHelperService.getSpiContextData())
             .thenReturn(SPI_CONTEXT_DATA);
         when(accountHelperService.createActionStatus(anyBoolean(), any(), any()))
@@ -35,6 +35,7 @@ import de.adorsys.psd2.xs2a.core.profile.AccountReference;
 import de.adorsys.psd2.xs2a.core.service.validator.ValidationResult;
 import de.adorsys.psd2.xs2a.domain.ResponseObject;
 import de.adorsys.psd2.xs2a.domain.account.Xs2aBalancesReport;
+import de.adorsys.psd2.xs2a.domain.consent.Xs2aAisConsentAccess;
 import de.adorsys.psd2.xs2a.service.event.Xs2aEventService;
 import de.adorsys.psd2.xs2a.service.mapper.AccountMappersHolder;
 import de.adorsys.psd2.xs2a.service.spi.SpiAspspConsentDataProviderFactory;
@@ -122,7 +123,7 @@ class BalanceServiceTest {
     @Test
     void getBalancesReport_Failure_NoAccountConsent() {
         // Given
-        when(accountServicesHolder.getAccountConsentById(CONSENT_ID))
+        when(accountServicesHolder.getAccountConsentAccess(CONSENT_ID))
             .thenReturn(Optional.empty());
 
         // When
@@ -135,8 +136,8 @@ class BalanceServiceTest {
     @Test
     void getBalancesReport_Failure_AllowedAccountDataHasError() {
         // Given
-        when(accountServicesHolder.getAccountConsentById(CONSENT_ID))
-            .thenReturn(Optional.of(aisConsent));
+        when(accountServicesHolder.getAccountConsentAccess(CONSENT_ID))
+            .thenReturn(Optional.of(new Xs2aAisConsentAccess(aisConsent, null)));
         when(getBalancesReportValidator.validate(getAccountBalanceRequestObject))
             .thenReturn(ValidationResult.invalid(CONSENT_INVALID_ERROR));
 
@@ -152,8 +153,8 @@ class BalanceServiceTest {
         // Given
         when(getBalancesReportValidator.validate(any(GetAccountBalanceRequestObject.class)))
             .thenReturn(ValidationResult.valid());
-        when(accountServicesHolder.getAccountConsentById(CONSENT_ID))
-            .thenReturn(Optional.of(aisConsent));
+        when(accountServicesHolder.getAccountConsentAccess(CONSENT_ID))
+            .thenReturn(Optional.of(new Xs2aAisConsentAccess(aisConsent, null)));
         when(accountServicesHolder.findAccountReference(any(), any()))
             .thenReturn(spiAccountReference);
         when(accountServicesHolder.getSpiContextData())
@@ -178,8 +179,8 @@ class BalanceServiceTest {
     @Test
     void getBalancesReport_Failure_ConsentNotContainsAccountReference() {
         // Given
-        when(accountServicesHolder.getAccountConsentById(CONSENT_ID))
-            .thenReturn(Optional.of(aisConsent));
+        when(accountServicesHolder.getAccountConsentAccess(CONSENT_ID))
+            .thenReturn(Optional.of(new Xs2aAisConsentAccess(aisConsent, null)));
         when(getBalancesReportValidator.validate(getAccountBalanceRequestObject))
             .thenReturn(ValidationResult.invalid(CONSENT_INVALID_ERROR));
 
@@ -195,8 +196,8 @@ class BalanceServiceTest {
         // Given
         when(getBalancesReportValidator.validate(any(GetAccountBalanceRequestObject.class)))
             .thenReturn(ValidationResult.valid());
-        when(accountServicesHolder.getAccountConsentById(CONSENT_ID))
-            .thenReturn(Optional.of(aisConsent));
+        when(accountServicesHolder.getAccountConsentAccess(CONSENT_ID))
+            .thenReturn(Optional.of(new Xs2aAisConsentAccess(aisConsent, null)));
         when(accountServicesHolder.findAccountReference(any(), any()))
             .thenReturn(spiAccountReference);
         when(accountServicesHolder.getSpiContextData())
@@ -228,8 +229,8 @@ class BalanceServiceTest {
         // Given
         when(getBalancesReportValidator.validate(any(GetAccountBalanceRequestObject.class)))
             .thenReturn(ValidationResult.valid());
-        when(accountServicesHolder.getAccountConsentById(CONSENT_ID))
-            .thenReturn(Optional.of(aisConsent));
+        when(accountServicesHolder.getAccountConsentAccess(CONSENT_ID))
+            .thenReturn(Optional.of(new Xs2aAisConsentAccess(aisConsent, null)));
         when(accountServicesHolder.findAccountReference(any(), any()))
             .thenReturn(spiAccountReference);
         when(accountServicesHolder.getSpiContextData())
@@ -256,8 +257,8 @@ class BalanceServiceTest {
     @Test
     void getBalancesReport_withInvalidConsent_shouldReturnValidationError() {
         // Given
-        when(accountServicesHolder.getAccountConsentById(CONSENT_ID))
-            .thenReturn(Optional.of(aisConsent));
+        when(accountServicesHolder.getAccountConsentAccess(CONSENT_ID))
+            .thenReturn(Optional.of(new Xs2aAisConsentAccess(aisConsent, null)));
         when(getBalancesReportValidator.validate(any(GetAccountBalanceRequestObject.class)))
             .thenReturn(ValidationResult.invalid(CONSENT_INVALID_ERROR));
 
@@ -274,8 +275,8 @@ class BalanceServiceTest {
         // Given
         when(getBalancesReportValidator.validate(any(GetAccountBalanceRequestObject.class)))
             .thenReturn(ValidationResult.valid());
-        when(accountServicesHolder.getAccountConsentById(CONSENT_ID))
-            .thenReturn(Optional.of(aisConsent));
+        when(accountServicesHolder.getAccountConsentAccess(CONSENT_ID))
+            .thenReturn(Optional.of(new Xs2aAisConsentAccess(aisConsent, null)));
         when(accountServicesHolder.findAccountReference(any(), any()))
             .thenReturn(spiAccountReference);
         when(accountServicesHolder.getSpiContextData())
@@ -23,6 +23,7 @@ import de.adorsys.psd2.consent.api.ActionStatus;
 import de.adorsys.psd2.consent.api.CmsError;
 import de.adorsys.psd2.consent.api.CmsResponse;
 import de.adorsys.psd2.consent.api.WrongChecksumException;
+import de.adorsys.psd2.consent.api.ais.AisConsentAccessResponse;
 import de.adorsys.psd2.consent.api.ais.AisConsentActionRequest;
 import de.adorsys.psd2.consent.api.ais.CmsConsent;
 import de.adorsys.psd2.consent.api.authorisation.UpdateAuthorisationRequest;
@@ -45,6 +46,7 @@ import de.adorsys.psd2.xs2a.domain.Xs2aResponse;
 import de.adorsys.psd2.xs2a.domain.account.Xs2aCreateAisConsentResponse;
 import de.adorsys.psd2.xs2a.domain.consent.ConsentAuthorisationsParameters;
 import de.adorsys.psd2.xs2a.domain.consent.CreateConsentReq;
+import de.adorsys.psd2.xs2a.domain.consent.Xs2aAisConsentAccess;
 import de.adorsys.psd2.xs2a.service.CmsCreateConsentResponseService;
 import de.adorsys.psd2.xs2a.service.authorization.Xs2aAuthorisationService;
 import de.adorsys.psd2.xs2a.service.mapper.cms_xs2a_mappers.Xs2aAisConsentMapper;
@@ -208,6 +210,54 @@ class Xs2aAisConsentServiceTest {
         assertThat(actualResponse).isEmpty();
     }
 
+    @Test
+    void getAccountConsentAccess_success() {
+        // Given
+        CMS_CONSENT.setConsentType(ConsentType.AIS);
+        byte[] aspspConsentData = "data".getBytes();
+        when(aisConsentServiceEncrypted.getConsentAccess(CONSENT_ID))
+            .thenReturn(CmsResponse.<AisConsentAccessResponse>builder().payload(new AisConsentAccessResponse(CMS_CONSENT, aspspConsentData)).build());
+        when(aisConsentMapper.mapToAisConsent(CMS_CONSENT))
+            .thenReturn(aisConsent);
+
+        // When
+        Optional<Xs2aAisConsentAccess> actualResponse = xs2aAisConsentService.getAccountConsentAccess(CONSENT_ID);
+
+        // Then
+        assertThat(actualResponse).isPresent();
+        assertThat(actualResponse.get().getAisConsent()).isEqualTo(aisConsent);
+        assertThat(actualResponse.get().getAspspConsentData()).isEqualTo(aspspConsentData);
+        verifyNoInteractions(consentServiceEncrypted);
+    }
+
+    @Test
+    void getAccountConsentAccess_wrongConsentType() {
+        // Given
+        CMS_CONSENT.setConsentType(ConsentType.PIIS_TPP);
+        when(aisConsentServiceEncrypted.getConsentAccess(CONSENT_ID))
+            .thenReturn(CmsResponse.<AisConsentAccessResponse>builder().payload(new AisConsentAccessResponse(CMS_CONSENT, null)).build());
+
+        // When
+        Optional<Xs2aAisConsentAccess> actualResponse = xs2aAisConsentService.getAccountConsentAccess(CONSENT_ID);
+
+        // Then
+        assertThat(actualResponse).isEmpty();
+        verifyNoInteractions(aisConsentMapper);
+    }
+
+    @Test
+    void getAccountConsentAccess_failed() {
+        // Given
+        when(aisConsentServiceEncrypted.getConsentAccess(CONSENT_ID))
+            .thenReturn(CmsResponse.<AisConsentAccessResponse>builder().error(CmsError.TECHNICAL_ERROR).build());
+
+        // When
+        Optional<Xs2aAisConsentAccess> actualResponse = xs2aAisConsentService.getAccountConsentAccess(CONSENT_ID);
+
+        // Then
+        assertThat(actualResponse).isEmpty();
+    }
+
     @Test
     void findAndTerminateOldConsentsByNewConsentId_success() {
         // Given
@@ -19,6 +19,7 @@
 package de.adorsys.psd2.xs2a.service.discovery;
 
 import de.adorsys.psd2.xs2a.core.mapper.ServiceType;
+import de.adorsys.psd2.xs2a.web.request.RequestPathResolver;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -26,6 +27,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mock.web.MockHttpServletRequest;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @ExtendWith(MockitoExtension.class)
 class ServiceTypeDiscoveryServiceTest {
@@ -37,7 +39,7 @@ class ServiceTypeDiscoveryServiceTest {
     @Test
     void getServiceType() {
         request = new MockHttpServletRequest("GET", "/v1/consents");
-        cut = new ServiceTypeDiscoveryService(request);
+        cut = new ServiceTypeDiscoveryService(request, new RequestPathResolver());
         ServiceType result = cut.getServiceType();
 
         assertEquals("AIS", result.name());
@@ -47,9 +49,17 @@ class ServiceTypeDiscoveryServiceTest {
     void getServiceTypeWithContextPath() {
         request = new MockHttpServletRequest("GET", "/xs2a/v1/consents");
         request.setContextPath("/xs2a");
-        cut = new ServiceTypeDiscoveryService(request);
+        cut = new ServiceTypeDiscoveryService(request, new RequestPathResolver());
         ServiceType result = cut.getServiceType();
 
         assertEquals("AIS", result.name());
     }
+
+    @Test
+    void getServiceType_illegalPath() {
+        request = new MockHttpServletRequest("GET", "/v1/gifts");
+        cut = new ServiceTypeDiscoveryService(request, new RequestPathResolver());
+
+        assertThrows(IllegalArgumentException.class, () -> cut.getServiceType());
+    }
 }
@@ -20,7 +20,6 @@ package de.adorsys.psd2.xs2a.service.profile;
 
 import de.adorsys.psd2.aspsp.profile.domain.AspspSettings;
 import de.adorsys.psd2.aspsp.profile.domain.MulticurrencyAccountLevel;
-import de.adorsys.psd2.aspsp.profile.service.AspspProfileService;
 import de.adorsys.psd2.xs2a.core.ais.BookingStatus;
 import de.adorsys.psd2.xs2a.core.profile.*;
 import de.adorsys.psd2.xs2a.domain.account.SupportedAccountReferenceField;
@@ -50,7 +49,7 @@ class AspspProfileServiceWrapperTest {
     private static final String INSTANCE_ID = "bank1";
 
     @Mock
-    private AspspProfileService aspspProfileService;
+    private AspspProfileSnapshotCache aspspProfileSnapshotCache;
     @Mock
     private RequestProviderService requestProviderService;
 
@@ -119,7 +118,7 @@ class AspspProfileServiceWrapperTest {
     void getScaApproaches() {
         // Given
         List<ScaApproach> expected = Collections.singletonList(ScaApproach.DECOUPLED);
-        when(aspspProfileService.getScaApproaches(INSTANCE_ID)).thenReturn(expected);
+        when(aspspProfileSnapshotCache.getScaApproaches(INSTANCE_ID)).thenReturn(expected);
 
         // When
         List<ScaApproach> actual = aspspProfileServiceWrapper.getScaApproaches();
@@ -634,7 +633,7 @@ class AspspProfileServiceWrapperTest {
     }
 
     private void mockProfile() {
-        when(aspspProfileService.getAspspSettings(INSTANCE_ID)).thenReturn(PROFILE);
+        when(aspspProfileSnapshotCache.getAspspSettings(INSTANCE_ID)).thenReturn(PROFILE);
     }
 
     private static AspspSettings getProfile() {
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2018-2024 adorsys GmbH & Co KG
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ *
+ * This project is also available under a separate commercial license. You can
+ * contact us at sales@adorsys.com.
+ */
+
+package de.adorsys.psd2.xs2a.service.profile;
+
+import de.adorsys.psd2.aspsp.profile.domain.AspspSettings;
+import de.adorsys.psd2.aspsp.profile.service.AspspProfileService;
+import de.adorsys.psd2.xs2a.core.profile.ScaApproach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AspspProfileSnapshotCacheTest {
+    private static final String INSTANCE_ID = "bank1";
+    private static final AspspSettings ASPSP_SETTINGS = AspspProfileServiceWrapperTest.PROFILE;
+    private static final List<ScaApproach> SCA_APPROACHES = Collections.singletonList(ScaApproach.REDIRECT);
+
+    @Mock
+    private AspspProfileService aspspProfileService;
+
+    @Test
+    void getAspspSettings_disabled_alwaysReadFromProfile() {
+        // Given
+        AspspProfileSnapshotCache aspspProfileSnapshotCache = new AspspProfileSnapshotCache(aspspProfileService, 0);
+        when(aspspProfileService.getAspspSettings(INSTANCE_ID)).thenReturn(ASPSP_SETTINGS);
+
+        // When
+        aspspProfileSnapshotCache.getAspspSettings(INSTANCE_ID);
+        aspspProfileSnapshotCache.getAspspSettings(INSTANCE_ID);
+
+        // Then
+        verify(aspspProfileService, times(2)).getAspspSettings(INSTANCE_ID);
+        verify(aspspProfileService, never()).getProfileVersion();
+    }
+
+    @Test
+    void getAspspSettings_withinRefreshInterval_readOnce() {
+        // Given
+        AspspProfileSnapshotCache aspspProfileSnapshotCache = new AspspProfileSnapshotCache(aspspProfileService, 60_000);
+        when(aspspProfileService.getProfileVersion()).thenReturn(1L);
+        when(aspspProfileService.getAspspSettings(INSTANCE_ID)).thenReturn(ASPSP_SETTINGS);
+        when(aspspProfileService.getScaApproaches(INSTANCE_ID)).thenReturn(SCA_APPROACHES);
+
+        // When
+        AspspSettings first = aspspProfileSnapshotCache.getAspspSettings(INSTANCE_ID);
+        AspspSettings second = aspspProfileSnapshotCache.getAspspSettings(INSTANCE_ID);
+        List<ScaApproach> scaApproaches = aspspProfileSnapshotCache.getScaApproaches(INSTANCE_ID);
+
+        // Then
+        assertSame(first, second);
+        assertEquals(SCA_APPROACHES, scaApproaches);
+        verify(aspspProfileService, times(1)).getProfileVersion();
+        verify(aspspProfileService, times(1)).getAspspSettings(INSTANCE_ID);
+        verify(aspspProfileService, times(1)).getScaApproaches(INSTANCE_ID);
+    }
+
+    @Test
+    void getAspspSettings_refreshWithSameVersion_settingsNotReadAgain() throws InterruptedException {
+        // Given
+        AspspProfileSnapshotCache aspspProfileSnapshotCache = new AspspProfileSnapshotCache(aspspProfileService, 1);
+        when(aspspProfileService.getProfileVersion()).thenReturn(1L);
+        when(aspspProfileService.getAspspSettings(INSTANCE_ID)).thenReturn(ASPSP_SETTINGS);
+        when(aspspProfileService.getScaApproaches(INSTANCE_ID)).thenReturn(SCA_APPROACHES);
+
+        // When
+        aspspProfileSnapshotCache.getAspspSettings(INSTANCE_ID);
+        Thread.sleep(5);
+        aspspProfileSnapshotCache.getAspspSettings(INSTANCE_ID);
+
+        // Then
+        verify(aspspProfileService, times(2)).getProfileVersion();
+        verify(aspspProfileService, times(1)).getAspspSettings(INSTANCE_ID);
+    }
+
+    @Test
+    void getAspspSettings_refreshWithNewVersion_settingsReadAgain() throws InterruptedException {
+        // Given
+        AspspProfileSnapshotCache aspspProfileSnapshotCache = new AspspProfileSnapshotCache(aspspProfileService, 1);
+        when(aspspProfileService.getProfileVersion()).thenReturn(1L, 2L);
+        when(aspspProfileService.getAspspSettings(INSTANCE_ID)).thenReturn(ASPSP_SETTINGS);
+        when(aspspProfileService.getScaApproaches(INSTANCE_ID)).thenReturn(SCA_APPROACHES);
+
+        // When
+        aspspProfileSnapshotCache.getAspspSettings(INSTANCE_ID);
+        Thread.sleep(5);
+        aspspProfileSnapshotCache.getAspspSettings(INSTANCE_ID);
+
+        // Then
+        verify(aspspProfileService, times(2)).getAspspSettings(INSTANCE_ID);
+    }
+}
@@ -106,4 +106,38 @@ class SpiAspspConsentDataProviderImplTest {
         verify(aspspDataService, never()).updateAspspConsentData(any(AspspConsentData.class));
         verify(aspspDataService).deleteAspspConsentData(SOME_CONSENT_ID);
     }
+
+    @Test
+    void loadPreloadedDataCallsAspspDataServiceOnlyOnSubsequentLoads() {
+        SpiAspspConsentDataProvider preloadedProvider =
+            spiAspspConsentDataProviderFactory.getSpiAspspDataProviderFor(SOME_CONSENT_ID, SOME_DATA);
+
+        assertArrayEquals(SOME_DATA, preloadedProvider.loadAspspConsentData());
+        verifyNoInteractions(aspspDataService);
+
+        when(aspspDataService.readAspspConsentData(anyString()))
+            .thenReturn(Optional.empty());
+        assertArrayEquals(new byte[0], preloadedProvider.loadAspspConsentData());
+        verify(aspspDataService).readAspspConsentData(SOME_CONSENT_ID);
+    }
+
+    @Test
+    void savingPreloadedDataCallsNoRealUpdate() {
+        SpiAspspConsentDataProvider preloadedProvider =
+            spiAspspConsentDataProviderFactory.getSpiAspspDataProviderFor(SOME_CONSENT_ID, SOME_DATA);
+
+        byte[] readData = preloadedProvider.loadAspspConsentData();
+        preloadedProvider.updateAspspConsentData(readData);
+
+        verifyNoInteractions(aspspDataService);
+    }
+
+    @Test
+    void loadPreloadedMissingDataReturnsEmptyArray() {
+        SpiAspspConsentDataProvider preloadedProvider =
+            spiAspspConsentDataProviderFactory.getSpiAspspDataProviderFor(SOME_CONSENT_ID, null);
+
+        assertArrayEquals(new byte[0], preloadedProvider.loadAspspConsentData());
+        verifyNoInteractions(aspspDataService);
+    }
 }
@@ -22,6 +22,7 @@ import de.adorsys.psd2.mapper.Xs2aObjectMapper;
 import de.adorsys.psd2.model.BulkPaymentInitiationJson;
 import de.adorsys.psd2.model.PaymentInitiationJson;
 import de.adorsys.psd2.model.PeriodicPaymentInitiationJson;
+import de.adorsys.psd2.xs2a.component.ParsedRequestBody;
 import de.adorsys.psd2.xs2a.core.profile.AccountReference;
 import de.adorsys.psd2.xs2a.core.profile.PaymentType;
 import de.adorsys.psd2.xs2a.domain.pis.BulkPayment;
@@ -35,13 +36,16 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
 
+import java.io.IOException;
 import java.util.Currency;
 import java.util.HashSet;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -61,13 +65,15 @@ class PaymentAccountReferenceExtractorTest {
     @Mock
     private RequestProviderService requestProviderService;
 
+    private MockHttpServletRequest httpServletRequest;
     private PaymentAccountReferenceExtractor paymentAccountReferenceExtractor;
 
     @BeforeEach
     void setUp() {
         xs2aObjectMapper.findAndRegisterModules();
+        httpServletRequest = new MockHttpServletRequest();
 
-        paymentAccountReferenceExtractor = new PaymentAccountReferenceExtractor(xs2aObjectMapper, paymentModelMapper);
+        paymentAccountReferenceExtractor = new PaymentAccountReferenceExtractor(xs2aObjectMapper, paymentModelMapper, httpServletRequest);
     }
 
     @Test
@@ -141,4 +147,22 @@ class PaymentAccountReferenceExtractorTest {
         // Then
         assertTrue(accountReferences.isEmpty());
     }
+
+    @Test
+    void extractAccountReferences_bodyAlreadyReadFromRequest_reusesParsedPayment() throws IOException {
+        // Given
+        byte[] rawBody = jsonReader.getBytesFromFile(SINGLE_PAYMENT_JSON_PATH);
+        httpServletRequest.setContent(rawBody);
+        ParsedRequestBody parsedRequestBody = ParsedRequestBody.fromRequest(httpServletRequest);
+        PaymentInitiationJson parsedPayment = parsedRequestBody.getTypedBody(xs2aObjectMapper, PaymentInitiationJson.class);
+        SinglePayment xs2aSinglePayment = jsonReader.getObjectFromFile(SINGLE_PAYMENT_XS2A_JSON_PATH, SinglePayment.class);
+
+        when(paymentModelMapper.mapToXs2aPayment(same(parsedPayment))).thenReturn(xs2aSinglePayment);
+
+        // When
+        Set<AccountReference> accountReferences = paymentAccountReferenceExtractor.extractAccountReferences(parsedRequestBody.getRawBody(), PaymentType.SINGLE);
+
+        // Then
+        assertEquals(xs2aSinglePayment.getAccountReferences(), accountReferences);
+    }
 }
@@ -18,7 +18,9 @@
 
 package de.adorsys.psd2.xs2a.web;
 
+import de.adorsys.psd2.xs2a.core.mapper.ServiceType;
 import de.adorsys.psd2.xs2a.web.request.RequestPathResolver;
+import de.adorsys.psd2.xs2a.web.request.Xs2aRoute;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -33,6 +35,7 @@ import static org.mockito.Mockito.when;
 @ExtendWith(MockitoExtension.class)
 class Xs2aEndpointCheckerTest {
     private static final String XS2A_ENDPOINT = "/v1/accounts";
+    private static final String XS2A_ENDPOINT_PATTERN = "/v1/accounts/**";
     private static final String NOT_XS2A_ENDPOINT = "/v1/gifts";
 
     @InjectMocks
@@ -45,7 +48,7 @@ class Xs2aEndpointCheckerTest {
     @Test
     void isXs2aEndpoint_true() {
         // Given
-        when(requestPathResolver.resolveRequestPath(request)).thenReturn(XS2A_ENDPOINT);
+        when(requestPathResolver.resolveRoute(request)).thenReturn(new Xs2aRoute(XS2A_ENDPOINT, XS2A_ENDPOINT, XS2A_ENDPOINT_PATTERN, ServiceType.AIS));
 
         // When
         boolean actual = xs2aEndpointChecker.isXs2aEndpoint(request);
@@ -57,7 +60,7 @@ class Xs2aEndpointCheckerTest {
     @Test
     void isXs2aEndpoint_false() {
         // Given
-        when(requestPathResolver.resolveRequestPath(request)).thenReturn(NOT_XS2A_ENDPOINT);
+        when(requestPathResolver.resolveRoute(request)).thenReturn(new Xs2aRoute(NOT_XS2A_ENDPOINT, NOT_XS2A_ENDPOINT, null, null));
 
         // When
         boolean actual = xs2aEndpointChecker.isXs2aEndpoint(request);
@@ -37,7 +37,9 @@ import de.adorsys.psd2.xs2a.service.mapper.TrustedBeneficiariesModelMapper;
 import de.adorsys.psd2.xs2a.service.mapper.psd2.ResponseErrorMapper;
 import de.adorsys.psd2.xs2a.web.controller.psd2.AccountController;
 import de.adorsys.psd2.xs2a.web.controller.util.RequestUriHandler;
+import de.adorsys.psd2.xs2a.web.controller.util.StreamingResponseWriter;
 import de.adorsys.psd2.xs2a.web.error.TppErrorMessageWriter;
+import de.adorsys.psd2.xs2a.web.filter.TppErrorMessage;
 import de.adorsys.xs2a.reader.JsonReader;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -46,9 +48,9 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 
-import javax.servlet.ServletOutputStream;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.ByteArrayInputStream;
@@ -111,8 +113,6 @@ class AccountControllerTest {
     @Mock
     private HttpServletResponse response;
     @Mock
-    private ServletOutputStream servletOutputStream;
-    @Mock
     private ResponseErrorMapper responseErrorMapper;
     @Mock
     private TppErrorMessageWriter tppErrorMessageWriter;
@@ -122,6 +122,8 @@ class AccountControllerTest {
     private TrustedBeneficiariesService trustedBeneficiariesService;
     @Mock
     private RequestUriHandler requestUriHandler;
+    @Mock
+    private StreamingResponseWriter streamingResponseWriter;
 
     private final JsonReader jsonReader = new JsonReader();
 
@@ -383,15 +385,33 @@ class AccountControllerTest {
     @Test
     void downloadTransactions_success() throws IOException {
         // Given
-        when(transactionService.downloadTransactions(CONSENT_ID, ACCOUNT_ID, DOWNLOAD_ID)).thenReturn(buildTransactionDownloadResponseOk());
-        when(response.getOutputStream()).thenReturn(servletOutputStream);
+        ResponseObject<Xs2aTransactionsDownloadResponse> downloadResponse = buildTransactionDownloadResponseOk();
+        when(transactionService.downloadTransactions(CONSENT_ID, ACCOUNT_ID, DOWNLOAD_ID)).thenReturn(downloadResponse);
 
         // When
         accountController.downloadTransactions(CONSENT_ID, ACCOUNT_ID, DOWNLOAD_ID);
 
         // Then
-        verify(response, times(1)).addHeader(anyString(), anyString());
-        assertEquals(0, response.getBufferSize());
+        verify(streamingResponseWriter, times(1)).write(response, downloadResponse.getBody().getTransactionStream(),
+                                                        MediaType.APPLICATION_OCTET_STREAM_VALUE,
+                                                        "attachment; filename=" + TEST_JSON_FILENAME, 10000);
+        verify(tppErrorMessageWriter, never()).writeError(any(HttpServletResponse.class), any(TppErrorMessage.class));
+    }
+
+    @Test
+    void downloadTransactions_streamingFailed() throws IOException {
+        // Given
+        ResponseObject<Xs2aTransactionsDownloadResponse> downloadResponse = buildTransactionDownloadResponseOk();
+        when(transactionService.downloadTransactions(CONSENT_ID, ACCOUNT_ID, DOWNLOAD_ID)).thenReturn(downloadResponse);
+        when(streamingResponseWriter.write(eq(response), any(InputStream.class), anyString(), anyString(), any()))
+            .thenThrow(new IOException("Connection reset"));
+
+        // When
+        accountController.downloadTransactions(CONSENT_ID, ACCOUNT_ID, DOWNLOAD_ID);
+
+        // Then
+        verify(tppErrorMessageWriter).writeError(eq(response), any(TppErrorMessage.class));
+        verify(response, times(1)).flushBuffer();
     }
 
     @Test
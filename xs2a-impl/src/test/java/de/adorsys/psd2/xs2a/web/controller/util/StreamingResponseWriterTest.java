@@ -0,0 +1,115 @@
+/*
+ * Copyright 2018-2024 adorsys GmbH & Co KG
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ *
+ * This project is also available under a separate commercial license. You can
+ * contact us at sales@adorsys.com.
+ */
+
+package de.adorsys.psd2.xs2a.web.controller.util;
+
+import de.adorsys.psd2.xs2a.component.MultiReadHttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.io.ByteArrayInputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StreamingResponseWriterTest {
+    private static final String CONTENT_TYPE = "application/octet-stream";
+    private static final String CONTENT_DISPOSITION = "attachment; filename=transactions.xml";
+
+    private final StreamingResponseWriter streamingResponseWriter = new StreamingResponseWriter();
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void write_inputStream() throws IOException {
+        // Given
+        byte[] content = buildContent(3 * StreamingResponseWriter.BUFFER_SIZE + 1);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        long writtenBytes = streamingResponseWriter.write(response, new ByteArrayInputStream(content), CONTENT_TYPE, CONTENT_DISPOSITION, content.length);
+
+        // Then
+        assertEquals(content.length, writtenBytes);
+        assertArrayEquals(content, response.getContentAsByteArray());
+        assertEquals(CONTENT_TYPE, response.getContentType());
+        assertEquals(CONTENT_DISPOSITION, response.getHeader("Content-Disposition"));
+        assertEquals(content.length, response.getContentLength());
+        assertTrue(response.isCommitted());
+    }
+
+    @Test
+    void write_fileInputStream(@TempDir Path tempDir) throws IOException {
+        // Given
+        byte[] content = buildContent(2 * StreamingResponseWriter.BUFFER_SIZE + 7);
+        Path file = Files.write(tempDir.resolve("transactions.xml"), content);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        long writtenBytes;
+        try (InputStream fileInputStream = new FileInputStream(file.toFile())) {
+            writtenBytes = streamingResponseWriter.write(response, fileInputStream, CONTENT_TYPE, null, null);
+        }
+
+        // Then
+        assertEquals(content.length, writtenBytes);
+        assertArrayEquals(content, response.getContentAsByteArray());
+        assertNull(response.getHeader("Content-Disposition"));
+    }
+
+    @Test
+    void write_multiReadResponse_shouldBypassContentCaching() throws IOException {
+        // Given
+        byte[] content = buildContent(StreamingResponseWriter.BUFFER_SIZE);
+        MockHttpServletResponse originalResponse = new MockHttpServletResponse();
+        MultiReadHttpServletResponse multiReadResponse = new MultiReadHttpServletResponse(originalResponse);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest(), multiReadResponse));
+
+        // When
+        streamingResponseWriter.write(multiReadResponse, new ByteArrayInputStream(content), CONTENT_TYPE, CONTENT_DISPOSITION, content.length);
+
+        // Then
+        assertTrue(multiReadResponse.isContentCachingDisabled());
+        assertEquals(0, multiReadResponse.getCachedContent().length);
+        assertEquals(content.length, multiReadResponse.getStreamedContentSize());
+        assertArrayEquals(content, originalResponse.getContentAsByteArray());
+        assertEquals(content.length, originalResponse.getContentLength());
+    }
+
+    private byte[] buildContent(int size) {
+        byte[] content = new byte[size];
+        byte[] pattern = "<Ntry>transaction</Ntry>".getBytes(StandardCharsets.UTF_8);
+        for (int i = 0; i < size; i++) {
+            content[i] = pattern[i % pattern.length];
+        }
+        return content;
+    }
+}
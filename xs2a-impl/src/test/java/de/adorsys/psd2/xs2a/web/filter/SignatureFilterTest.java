@@ -94,7 +94,7 @@ class SignatureFilterTest {
         MockHttpServletResponse mockResponse = new MockHttpServletResponse();
         String fullUrl = mockRequest.getRequestURL().toString();
 
-        when(digestVerifier.verify(headerMap.get("digest"), body)).thenReturn(true);
+        when(digestVerifier.verify(headerMap.get("digest"), body.getBytes())).thenReturn(true);
         when(signatureVerifier.verify(headerMap.get("signature"), headerMap.get("tpp-signature-certificate"), headerMap, POST_METHOD, fullUrl)).thenReturn(true);
 
         // when
@@ -114,7 +114,7 @@ class SignatureFilterTest {
         MockHttpServletResponse mockResponse = new MockHttpServletResponse();
         mockResponseCode(mockResponse, HttpServletResponse.SC_BAD_REQUEST);
 
-        when(digestVerifier.verify(headerMap.get("digest"), body)).thenReturn(false);
+        when(digestVerifier.verify(headerMap.get("digest"), body.getBytes())).thenReturn(false);
 
         // when
         signatureFilter.doFilter(mockRequest, mockResponse, chain);
@@ -134,7 +134,7 @@ class SignatureFilterTest {
         String fullUrl = mockRequest.getRequestURL().toString();
         mockResponseCode(mockResponse, HttpServletResponse.SC_UNAUTHORIZED);
 
-        when(digestVerifier.verify(headerMap.get("digest"), body)).thenReturn(true);
+        when(digestVerifier.verify(headerMap.get("digest"), body.getBytes())).thenReturn(true);
         when(signatureVerifier.verify(headerMap.get("signature"), headerMap.get("tpp-signature-certificate"), headerMap, POST_METHOD, fullUrl)).thenReturn(false);
 
         // when
@@ -160,7 +160,7 @@ class SignatureFilterTest {
         //Then
         assertThat(mockResponse.getStatus()).isEqualTo(HttpServletResponse.SC_OK);
         verify(chain).doFilter(any(), any());
-        verify(digestVerifier, times(0)).verify(any(), any());
+        verify(digestVerifier, times(0)).verify(any(), any(byte[].class));
         verify(signatureVerifier, times(0)).verify(any(), any(), any(), any(), any());
     }
 
@@ -180,7 +180,7 @@ class SignatureFilterTest {
 
         //Then
         verify(chain, times(0)).doFilter(any(), any());
-        verify(digestVerifier, times(0)).verify(any(), any());
+        verify(digestVerifier, times(0)).verify(any(), any(byte[].class));
         verify(signatureVerifier, times(0)).verify(any(), any(), any(), any(), any());
         assertThat(mockResponse.getStatus()).isEqualTo(HttpServletResponse.SC_BAD_REQUEST);
     }
@@ -200,7 +200,7 @@ class SignatureFilterTest {
 
         //Then
         verify(chain, times(0)).doFilter(any(), any());
-        verify(digestVerifier, times(0)).verify(any(), any());
+        verify(digestVerifier, times(0)).verify(any(), any(byte[].class));
         verify(signatureVerifier, times(0)).verify(any(), any(), any(), any(), any());
         assertThat(mockResponse.getStatus()).isEqualTo(HttpServletResponse.SC_UNAUTHORIZED);
     }
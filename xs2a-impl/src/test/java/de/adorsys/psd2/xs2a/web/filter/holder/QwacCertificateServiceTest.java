@@ -18,7 +18,7 @@
 
 package de.adorsys.psd2.xs2a.web.filter.holder;
 
-import de.adorsys.psd2.consent.api.service.TppService;
+import de.adorsys.psd2.validator.certificate.util.CertificateCache;
 import de.adorsys.psd2.validator.certificate.util.CertificateExtractorUtil;
 import de.adorsys.psd2.validator.certificate.util.TppCertificateData;
 import de.adorsys.psd2.xs2a.core.tpp.TppInfo;
@@ -78,9 +78,11 @@ class QwacCertificateServiceTest {
     @Mock
     private Xs2aTppInfoMapper xs2aTppInfoMapper;
     @Mock
-    private TppService tppService;
+    private TppInfoUpdateService tppInfoUpdateService;
     @Mock
     private TppRoleValidationService tppRoleValidationService;
+    @Spy
+    private CertificateCache certificateCache = new CertificateCache(10);
 
     @Test
     void doFilter_success() throws Exception {
@@ -123,7 +125,7 @@ class QwacCertificateServiceTest {
         //Then
         verify(tppInfoHolder).setTppInfo(tppInfoArgumentCaptor.capture());
         TppInfo tppInfo = tppInfoArgumentCaptor.getValue();
-        verify(tppService, times(1)).updateTppInfo(tppInfo);
+        verify(tppInfoUpdateService, times(1)).updateTppInfo(tppInfo);
         assertTrue(tppInfo.getTppRoles().containsAll(EnumSet.of(TppRole.AISP, TppRole.PISP, TppRole.PIISP)));
     }
 
@@ -144,7 +146,7 @@ class QwacCertificateServiceTest {
         //Then
         verify(tppInfoHolder).setTppInfo(tppInfoArgumentCaptor.capture());
         TppInfo tppInfo = tppInfoArgumentCaptor.getValue();
-        verify(tppService, times(1)).updateTppInfo(tppInfo);
+        verify(tppInfoUpdateService, times(1)).updateTppInfo(tppInfo);
         assertEquals(roles, tppInfo.getTppRoles());
     }
 
@@ -178,7 +180,7 @@ class QwacCertificateServiceTest {
         //Then
         verify(tppInfoHolder).setTppInfo(tppInfoArgumentCaptor.capture());
         TppInfo tppInfo = tppInfoArgumentCaptor.getValue();
-        verify(tppService, times(1)).updateTppInfo(tppInfo);
+        verify(tppInfoUpdateService, times(1)).updateTppInfo(tppInfo);
         assertNull(tppInfo.getTppRoles());
     }
 
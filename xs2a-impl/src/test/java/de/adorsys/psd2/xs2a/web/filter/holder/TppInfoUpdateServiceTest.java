@@ -0,0 +1,125 @@
+/*
+ * Copyright 2018-2024 adorsys GmbH & Co KG
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ *
+ * This project is also available under a separate commercial license. You can
+ * contact us at sales@adorsys.com.
+ */
+
+package de.adorsys.psd2.xs2a.web.filter.holder;
+
+import de.adorsys.psd2.consent.api.CmsError;
+import de.adorsys.psd2.consent.api.CmsResponse;
+import de.adorsys.psd2.consent.api.service.TppService;
+import de.adorsys.psd2.xs2a.core.tpp.TppInfo;
+import de.adorsys.psd2.xs2a.core.tpp.TppRole;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TppInfoUpdateServiceTest {
+    private static final String AUTHORISATION_NUMBER = "12345987";
+    private static final CmsResponse<Boolean> UPDATED_RESPONSE = CmsResponse.<Boolean>builder().payload(true).build();
+    private static final CmsResponse<Boolean> NOT_FOUND_RESPONSE = CmsResponse.<Boolean>builder().payload(false).build();
+
+    @Mock
+    private TppService tppService;
+
+    @Test
+    void updateTppInfo_sameTppInfo_shouldBeSentOnce() {
+        // Given
+        TppInfoUpdateService tppInfoUpdateService = new TppInfoUpdateService(tppService, 3600, 100);
+        when(tppService.updateTppInfo(any(TppInfo.class))).thenReturn(UPDATED_RESPONSE);
+
+        // When
+        tppInfoUpdateService.updateTppInfo(buildTppInfo("Tpp company"));
+        tppInfoUpdateService.updateTppInfo(buildTppInfo("Tpp company"));
+
+        // Then
+        verify(tppService, times(1)).updateTppInfo(any(TppInfo.class));
+        assertEquals(1, tppInfoUpdateService.getSkippedUpdateCount());
+    }
+
+    @Test
+    void updateTppInfo_changedTppInfo_shouldBeSentAgain() {
+        // Given
+        TppInfoUpdateService tppInfoUpdateService = new TppInfoUpdateService(tppService, 3600, 100);
+        when(tppService.updateTppInfo(any(TppInfo.class))).thenReturn(UPDATED_RESPONSE);
+
+        // When
+        tppInfoUpdateService.updateTppInfo(buildTppInfo("Tpp company"));
+        tppInfoUpdateService.updateTppInfo(buildTppInfo("Renamed Tpp company"));
+
+        // Then
+        verify(tppService, times(2)).updateTppInfo(any(TppInfo.class));
+    }
+
+    @Test
+    void updateTppInfo_tppNotFoundInCms_shouldBeSentAgain() {
+        // Given
+        TppInfoUpdateService tppInfoUpdateService = new TppInfoUpdateService(tppService, 3600, 100);
+        when(tppService.updateTppInfo(any(TppInfo.class))).thenReturn(NOT_FOUND_RESPONSE);
+
+        // When
+        tppInfoUpdateService.updateTppInfo(buildTppInfo("Tpp company"));
+        tppInfoUpdateService.updateTppInfo(buildTppInfo("Tpp company"));
+
+        // Then
+        verify(tppService, times(2)).updateTppInfo(any(TppInfo.class));
+    }
+
+    @Test
+    void updateTppInfo_cmsError_shouldBeSentAgain() {
+        // Given
+        TppInfoUpdateService tppInfoUpdateService = new TppInfoUpdateService(tppService, 3600, 100);
+        when(tppService.updateTppInfo(any(TppInfo.class)))
+            .thenReturn(CmsResponse.<Boolean>builder().error(CmsError.TECHNICAL_ERROR).build());
+
+        // When
+        tppInfoUpdateService.updateTppInfo(buildTppInfo("Tpp company"));
+        tppInfoUpdateService.updateTppInfo(buildTppInfo("Tpp company"));
+
+        // Then
+        verify(tppService, times(2)).updateTppInfo(any(TppInfo.class));
+    }
+
+    @Test
+    void updateTppInfo_disabled_shouldBeSentEveryTime() {
+        // Given
+        TppInfoUpdateService tppInfoUpdateService = new TppInfoUpdateService(tppService, 0, 100);
+        when(tppService.updateTppInfo(any(TppInfo.class))).thenReturn(UPDATED_RESPONSE);
+
+        // When
+        tppInfoUpdateService.updateTppInfo(buildTppInfo("Tpp company"));
+        tppInfoUpdateService.updateTppInfo(buildTppInfo("Tpp company"));
+
+        // Then
+        verify(tppService, times(2)).updateTppInfo(any(TppInfo.class));
+        assertEquals(2, tppInfoUpdateService.getSentUpdateCount());
+    }
+
+    private TppInfo buildTppInfo(String tppName) {
+        TppInfo tppInfo = new TppInfo();
+        tppInfo.setAuthorisationNumber(AUTHORISATION_NUMBER);
+        tppInfo.setTppName(tppName);
+        tppInfo.setTppRoles(Collections.singletonList(TppRole.AISP));
+        return tppInfo;
+    }
+}
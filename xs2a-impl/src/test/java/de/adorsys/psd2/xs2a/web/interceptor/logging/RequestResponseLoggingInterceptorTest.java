@@ -19,6 +19,7 @@
 package de.adorsys.psd2.xs2a.web.interceptor.logging;
 
 import de.adorsys.psd2.xs2a.component.logger.request.RequestResponseLogMessage;
+import de.adorsys.psd2.xs2a.component.logger.request.RequestResponseLogPolicy;
 import de.adorsys.psd2.xs2a.component.logger.request.RequestResponseLogger;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -31,6 +32,8 @@ import javax.servlet.http.HttpServletResponse;
 import java.util.UUID;
 
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class RequestResponseLoggingInterceptorTest {
@@ -40,6 +43,8 @@ class RequestResponseLoggingInterceptorTest {
     private HttpServletResponse httpServletResponse;
     @Mock
     private RequestResponseLogger requestResponseLogger;
+    @Mock
+    private RequestResponseLogPolicy requestResponseLogPolicy;
     @InjectMocks
     private RequestResponseLoggingInterceptor requestResponseLoggingInterceptor;
 
@@ -47,6 +52,7 @@ class RequestResponseLoggingInterceptorTest {
     void afterCompletion_shouldLogRequestAndResponse() {
         // Given
         UUID internalRequestId = UUID.fromString("b87028ad-6925-41fa-b892-88912606a2f4");
+        when(requestResponseLogPolicy.isSampled(httpServletRequest)).thenReturn(true);
 
         RequestResponseLogMessage message = RequestResponseLogMessage.builder(httpServletRequest, httpServletResponse)
                                                 .withRequestUri()
@@ -63,4 +69,16 @@ class RequestResponseLoggingInterceptorTest {
         // Then
         verify(requestResponseLogger).logMessage(message);
     }
+
+    @Test
+    void afterCompletion_notSampled_shouldSkipLogging() {
+        // Given
+        when(requestResponseLogPolicy.isSampled(httpServletRequest)).thenReturn(false);
+
+        // When
+        requestResponseLoggingInterceptor.afterCompletion(httpServletRequest, httpServletResponse, null, null);
+
+        // Then
+        verifyNoInteractions(requestResponseLogger, httpServletResponse);
+    }
 }
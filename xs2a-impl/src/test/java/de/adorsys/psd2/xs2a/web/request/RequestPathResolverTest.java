@@ -22,7 +22,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpMethod;
 import org.springframework.mock.web.MockHttpServletRequest;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
 
 class RequestPathResolverTest {
     private static final String HTTP_METHOD = HttpMethod.GET.name();
@@ -54,4 +54,33 @@ class RequestPathResolverTest {
         // Then
         assertEquals("/v1/consents", requestPath);
     }
+
+    @Test
+    void resolveRoute_shouldBeStoredInRequest() {
+        // Given
+        MockHttpServletRequest mockHttpServletRequest = new MockHttpServletRequest(HTTP_METHOD, "/v1/consents");
+
+        // When
+        Xs2aRoute route = requestPathResolver.resolveRoute(mockHttpServletRequest);
+
+        // Then
+        assertTrue(route.isXs2aEndpoint());
+        assertSame(route, mockHttpServletRequest.getAttribute(RequestPathResolver.ROUTE_ATTRIBUTE));
+        assertSame(route, requestPathResolver.resolveRoute(mockHttpServletRequest));
+    }
+
+    @Test
+    void resolveRoute_requestUriChanged_shouldResolveAgain() {
+        // Given
+        MockHttpServletRequest mockHttpServletRequest = new MockHttpServletRequest(HTTP_METHOD, "/v1/consents");
+        requestPathResolver.resolveRoute(mockHttpServletRequest);
+        mockHttpServletRequest.setRequestURI("/error");
+
+        // When
+        Xs2aRoute route = requestPathResolver.resolveRoute(mockHttpServletRequest);
+
+        // Then
+        assertFalse(route.isXs2aEndpoint());
+        assertEquals("/error", route.getRequestPath());
+    }
 }
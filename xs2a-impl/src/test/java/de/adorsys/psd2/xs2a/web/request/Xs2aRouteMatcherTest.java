@@ -0,0 +1,98 @@
+/*
+ * Copyright 2018-2024 adorsys GmbH & Co KG
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ *
+ * This project is also available under a separate commercial license. You can
+ * contact us at sales@adorsys.com.
+ */
+
+package de.adorsys.psd2.xs2a.web.request;
+
+import de.adorsys.psd2.xs2a.config.Xs2aEndpointPathConstant;
+import de.adorsys.psd2.xs2a.core.mapper.ServiceType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class Xs2aRouteMatcherTest {
+    private static final String REQUEST_URI = "/xs2a/v1/accounts";
+
+    private final Xs2aRouteMatcher xs2aRouteMatcher = Xs2aRouteMatcher.forXs2aEndpoints();
+
+    @Test
+    void match_xs2aEndpoint() {
+        // When
+        Xs2aRoute route = xs2aRouteMatcher.match(REQUEST_URI, "/v1/accounts/accountId/transactions");
+
+        // Then
+        assertTrue(route.isXs2aEndpoint());
+        assertEquals(REQUEST_URI, route.getRequestUri());
+        assertEquals("/v1/accounts/accountId/transactions", route.getRequestPath());
+        assertEquals(Xs2aEndpointPathConstant.ACCOUNTS_PATH, route.getEndpointPattern());
+        assertEquals(ServiceType.AIS, route.getServiceType());
+    }
+
+    @Test
+    void match_serviceTypes() {
+        assertEquals(ServiceType.AIS, xs2aRouteMatcher.match(null, "/v1/trusted-beneficiaries").getServiceType());
+        assertEquals(ServiceType.PIS, xs2aRouteMatcher.match(null, "/v1/periodic-payments/sepa-credit-transfers").getServiceType());
+        assertEquals(ServiceType.PIIS, xs2aRouteMatcher.match(null, "/v1/funds-confirmations").getServiceType());
+        assertEquals(ServiceType.PIIS, xs2aRouteMatcher.match(null, "/v2/consents/confirmation-of-funds").getServiceType());
+        assertEquals(ServiceType.SB, xs2aRouteMatcher.match(null, "/v1/signing-baskets/basketId/status").getServiceType());
+    }
+
+    @Test
+    void match_notXs2aEndpoint() {
+        // When
+        Xs2aRoute route = xs2aRouteMatcher.match(REQUEST_URI, "/v1/gifts");
+
+        // Then
+        assertFalse(route.isXs2aEndpoint());
+        assertEquals("/v1/gifts", route.getRequestPath());
+        assertNull(route.getEndpointPattern());
+        assertNull(route.getServiceType());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "/", "/v1", "/v1/", "/v1/accounts", "/v1/accounts/", "/v1/accounts/id/balances",
+        "//v1//accounts", "v1/accounts", "/v1/accountsx", "/V1/accounts", "/v1/trusted-beneficiaries",
+        "/v1/trusted-beneficiaries/", "/v1/trusted-beneficiaries/id", "/v2/consents", "/v2/accounts", "/v3/consents",
+        "/v1/payments/sepa-credit-transfers/id/authorisations/authId", "/custom/v1/consents"})
+    void match_sameAsAntPathMatcher(String requestPath) {
+        // Given
+        AntPathMatcher antPathMatcher = new AntPathMatcher();
+        String expectedPattern = Stream.of(Xs2aEndpointPathConstant.getAllXs2aEndpointPaths())
+                                     .filter(pattern -> antPathMatcher.match(pattern, requestPath))
+                                     .findFirst()
+                                     .orElse(null);
+
+        // When
+        Xs2aRoute route = xs2aRouteMatcher.match(null, requestPath);
+
+        // Then
+        assertEquals(expectedPattern, route.getEndpointPattern());
+    }
+
+    @Test
+    void register_unsupportedPattern() {
+        Xs2aRouteMatcher matcher = new Xs2aRouteMatcher();
+
+        assertThrows(IllegalArgumentException.class, () -> matcher.register("/v1/{paymentService}/**", ServiceType.PIS));
+        assertThrows(IllegalArgumentException.class, () -> matcher.register("/v1/**/status", ServiceType.PIS));
+    }
+}
@@ -18,7 +18,6 @@
 
 package de.adorsys.psd2.xs2a.web.validator.body;
 
-import com.fasterxml.jackson.core.type.TypeReference;
 import de.adorsys.psd2.mapper.Xs2aObjectMapper;
 import de.adorsys.psd2.xs2a.core.domain.TppMessageInformation;
 import de.adorsys.psd2.xs2a.core.error.ErrorType;
@@ -31,21 +30,14 @@ import de.adorsys.psd2.xs2a.web.validator.constants.Xs2aRequestBodyDateField;
 import de.adorsys.psd2.xs2a.web.validator.header.ErrorBuildingServiceMock;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.Mock;
-import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mock.web.MockHttpServletRequest;
 
-import java.io.IOException;
-import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
-import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-import static org.mockito.Mockito.*;
 
-@ExtendWith(MockitoExtension.class)
 class DateFieldValidatorImplTest {
     private static final String DAY_OF_EXECUTION_FIELD_NAME = "dayOfExecution";
     private static final String REQUESTED_EXECUTION_DATE_FIELD_NAME = "requestedExecutionDate";
@@ -67,24 +59,19 @@ class DateFieldValidatorImplTest {
     private DateFieldValidator validator;
     private MessageError messageError;
 
-    @Mock
-    private Xs2aObjectMapper xs2aObjectMapper;
-
     @BeforeEach
     void setUp() {
         messageError = new MessageError(ErrorType.PIS_400);
         ErrorBuildingService errorService = new ErrorBuildingServiceMock(ErrorType.PIS_400);
-        FieldExtractor fieldExtractor = new FieldExtractor(errorService, xs2aObjectMapper);
+        FieldExtractor fieldExtractor = new FieldExtractor(errorService, new Xs2aObjectMapper());
         validator = new DateFieldValidator(errorService, new LocalDateConverter(), fieldExtractor);
     }
 
     @Test
-    void validate_requestedExecutionDateWrongValue_wrongFormat_error() throws IOException {
+    void validate_requestedExecutionDateWrongValue_wrongFormat_error() {
         // Given
         MockHttpServletRequest mockRequest = new MockHttpServletRequest();
-
-        // noinspection unchecked
-        when(xs2aObjectMapper.toJsonField(any(InputStream.class), eq(REQUESTED_EXECUTION_DATE_FIELD_NAME), any(TypeReference.class))).thenReturn(Optional.of(WRONG_FORMAT_DATE));
+        mockRequest.setContent(buildBody(REQUESTED_EXECUTION_DATE_FIELD_NAME, WRONG_FORMAT_DATE));
 
         // When
         validator.validateDateFormat(mockRequest, Collections.singleton(Xs2aRequestBodyDateField.REQUESTED_EXECUTION_DATE), messageError);
@@ -94,14 +81,10 @@ class DateFieldValidatorImplTest {
     }
 
     @Test
-    void validate_requestedExecutionDateWrongValue_success() throws IOException {
+    void validate_requestedExecutionDateWrongValue_success() {
         // Given
         MockHttpServletRequest mockRequest = new MockHttpServletRequest();
-
-        // noinspection unchecked
-        when(xs2aObjectMapper.toJsonField(any(InputStream.class), eq(REQUESTED_EXECUTION_DATE_FIELD_NAME), any(TypeReference.class)))
-            .thenReturn(Optional.of(CORRECT_FORMAT_DATE));
-
+        mockRequest.setContent(buildBody(REQUESTED_EXECUTION_DATE_FIELD_NAME, CORRECT_FORMAT_DATE));
 
         // When
         validator.validateDateFormat(mockRequest, Collections.singleton(Xs2aRequestBodyDateField.REQUESTED_EXECUTION_DATE), messageError);
@@ -111,13 +94,10 @@ class DateFieldValidatorImplTest {
     }
 
     @Test
-    void validate_requestedExecutionTimeWrongValue_wrongFormat_error() throws IOException {
+    void validate_requestedExecutionTimeWrongValue_wrongFormat_error() {
         // Given
         MockHttpServletRequest mockRequest = new MockHttpServletRequest();
-
-        // noinspection unchecked
-        when(xs2aObjectMapper.toJsonField(any(InputStream.class), eq(REQUESTED_EXECUTION_TIME_FIELD_NAME), any(TypeReference.class)))
-            .thenReturn(Optional.of(WRONG_FORMAT_TIME));
+        mockRequest.setContent(buildBody(REQUESTED_EXECUTION_TIME_FIELD_NAME, WRONG_FORMAT_TIME));
 
         // When
         validator.validateDateFormat(mockRequest, Collections.singleton(Xs2aRequestBodyDateField.REQUESTED_EXECUTION_TIME), messageError);
@@ -127,12 +107,10 @@ class DateFieldValidatorImplTest {
     }
 
     @Test
-    void validate_requestedExecutionTimeWrongValue_success() throws IOException {
+    void validate_requestedExecutionTimeWrongValue_success() {
         // Given
         MockHttpServletRequest mockRequest = new MockHttpServletRequest();
-
-        // noinspection unchecked
-        when(xs2aObjectMapper.toJsonField(any(InputStream.class), eq(REQUESTED_EXECUTION_TIME_FIELD_NAME), any(TypeReference.class))).thenReturn(Optional.of(CORRECT_FORMAT_TIME));
+        mockRequest.setContent(buildBody(REQUESTED_EXECUTION_TIME_FIELD_NAME, CORRECT_FORMAT_TIME));
 
         // When
         validator.validateDateFormat(mockRequest, Collections.singleton(Xs2aRequestBodyDateField.REQUESTED_EXECUTION_TIME), messageError);
@@ -142,12 +120,10 @@ class DateFieldValidatorImplTest {
     }
 
     @Test
-    void validate_dayOfExecutionWrongValue_wrongFormat_error() throws IOException {
+    void validate_dayOfExecutionWrongValue_wrongFormat_error() {
         // Given
         MockHttpServletRequest mockRequest = new MockHttpServletRequest();
-
-        // noinspection unchecked
-        when(xs2aObjectMapper.toJsonField(any(InputStream.class), eq(DAY_OF_EXECUTION_FIELD_NAME), any(TypeReference.class))).thenReturn(Optional.of(WRONG_DAY_OF_MONTH));
+        mockRequest.setContent(buildBody(DAY_OF_EXECUTION_FIELD_NAME, WRONG_DAY_OF_MONTH));
 
         // When
         validator.validateDayOfExecution(mockRequest, messageError);
@@ -157,12 +133,10 @@ class DateFieldValidatorImplTest {
     }
 
     @Test
-    void validate_dayOfExecutionWrongValue_success() throws IOException {
+    void validate_dayOfExecutionWrongValue_success() {
         // Given
         MockHttpServletRequest mockRequest = new MockHttpServletRequest();
-
-        // noinspection unchecked
-        when(xs2aObjectMapper.toJsonField(any(InputStream.class), eq(DAY_OF_EXECUTION_FIELD_NAME), any(TypeReference.class))).thenReturn(Optional.of(CORRECT_DAY_OF_MONTH));
+        mockRequest.setContent(buildBody(DAY_OF_EXECUTION_FIELD_NAME, CORRECT_DAY_OF_MONTH));
 
         // When
         validator.validateDayOfExecution(mockRequest, messageError);
@@ -170,4 +144,8 @@ class DateFieldValidatorImplTest {
         // Then
         assertTrue(messageError.getTppMessages().isEmpty());
     }
+
+    private byte[] buildBody(String fieldName, String value) {
+        return String.format("{\"%s\":\"%s\"}", fieldName, value).getBytes(StandardCharsets.UTF_8);
+    }
 }
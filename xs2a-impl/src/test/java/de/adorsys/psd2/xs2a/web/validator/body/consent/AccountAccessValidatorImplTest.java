@@ -18,7 +18,6 @@
 
 package de.adorsys.psd2.xs2a.web.validator.body.consent;
 
-import com.fasterxml.jackson.core.type.TypeReference;
 import de.adorsys.psd2.mapper.Xs2aObjectMapper;
 import de.adorsys.psd2.model.Consents;
 import de.adorsys.psd2.xs2a.core.domain.TppMessageInformation;
@@ -40,16 +39,12 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mock.web.MockHttpServletRequest;
 
 import javax.servlet.http.HttpServletRequest;
-import java.io.IOException;
-import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Optional;
 
 import static de.adorsys.psd2.xs2a.core.error.MessageErrorCode.*;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class AccountAccessValidatorImplTest {
@@ -62,7 +57,7 @@ class AccountAccessValidatorImplTest {
     private static final MessageError VALID_UNTIL_DATE_WRONG_VALUE_ERROR =
         new MessageError(ErrorType.AIS_400, TppMessageInformation.of(MessageErrorCode.FORMAT_ERROR_WRONG_FORMAT_DATE_FIELD, "validUntil", "ISO_DATE", "YYYY-MM-DD"));
 
-    private HttpServletRequest request;
+    private MockHttpServletRequest request;
     private AccountAccessValidatorImpl validator;
     private DateFieldValidator dateFieldValidator;
     private Consents consents;
@@ -70,8 +65,6 @@ class AccountAccessValidatorImplTest {
     private JsonReader jsonReader;
     private AccountReferenceValidator accountReferenceValidator;
 
-    @Mock
-    private Xs2aObjectMapper xs2aObjectMapper;
     @Mock
     private AspspProfileServiceWrapper aspspProfileService;
 
@@ -82,7 +75,7 @@ class AccountAccessValidatorImplTest {
         messageError = new MessageError(ErrorType.AIS_400);
         request = new MockHttpServletRequest();
         ErrorBuildingService errorService = new ErrorBuildingServiceMock(ErrorType.AIS_400);
-        FieldExtractor fieldExtractor = new FieldExtractor(errorService, xs2aObjectMapper);
+        FieldExtractor fieldExtractor = new FieldExtractor(errorService, new Xs2aObjectMapper());
         dateFieldValidator = new DateFieldValidator(errorService, new LocalDateConverter(), fieldExtractor);
         CurrencyValidator currencyValidator = new CurrencyValidator(errorService);
         OptionalFieldMaxLengthValidator stringValidator = new OptionalFieldMaxLengthValidator(new StringMaxLengthValidator(errorService));
@@ -185,9 +178,9 @@ class AccountAccessValidatorImplTest {
     }
 
     @Test
-    void validate_validUntilDateWrongValue_wrongFormat_error() throws IOException {
+    void validate_validUntilDateWrongValue_wrongFormat_error() {
         // Given
-        when(xs2aObjectMapper.toJsonField(any(InputStream.class), eq(VALID_UNTIL_FIELD_NAME), any(TypeReference.class))).thenReturn(Optional.of(WRONG_FORMAT_DATE));
+        request.setContent(String.format("{\"%s\":\"%s\"}", VALID_UNTIL_FIELD_NAME, WRONG_FORMAT_DATE).getBytes(StandardCharsets.UTF_8));
 
         // When
         validator.validate(request, messageError);
@@ -197,9 +190,9 @@ class AccountAccessValidatorImplTest {
     }
 
     @Test
-    void validate_requestedExecutionDateCorrectValue_success() throws IOException {
+    void validate_requestedExecutionDateCorrectValue_success() {
         // Given
-        when(xs2aObjectMapper.toJsonField(any(InputStream.class), eq(VALID_UNTIL_FIELD_NAME), any(TypeReference.class))).thenReturn(Optional.of(CORRECT_FORMAT_DATE));
+        request.setContent(String.format("{\"%s\":\"%s\"}", VALID_UNTIL_FIELD_NAME, CORRECT_FORMAT_DATE).getBytes(StandardCharsets.UTF_8));
 
         // When
         validator.validate(request, messageError);
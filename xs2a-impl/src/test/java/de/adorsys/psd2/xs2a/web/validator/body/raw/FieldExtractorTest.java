@@ -18,7 +18,9 @@
 
 package de.adorsys.psd2.xs2a.web.validator.body.raw;
 
+import de.adorsys.psd2.mapper.JsonFieldQuery;
 import de.adorsys.psd2.mapper.Xs2aObjectMapper;
+import de.adorsys.psd2.xs2a.component.ParsedRequestBody;
 import de.adorsys.psd2.xs2a.core.domain.TppMessageInformation;
 import de.adorsys.psd2.xs2a.core.error.ErrorType;
 import de.adorsys.psd2.xs2a.core.error.MessageError;
@@ -50,6 +52,7 @@ class FieldExtractorTest {
     private static final MessageError DESERIALIZATION_ERROR =
         new MessageError(ErrorType.PIS_400, TppMessageInformation.of(MessageErrorCode.FORMAT_ERROR_DESERIALIZATION_FAIL));
 
+    private Xs2aObjectMapper xs2aObjectMapper;
     private FieldExtractor fieldExtractor;
     private MessageError messageError;
     private MockHttpServletRequest mockRequest;
@@ -58,7 +61,7 @@ class FieldExtractorTest {
 
     @BeforeEach
     void setUp() throws IOException {
-        Xs2aObjectMapper xs2aObjectMapper = new Xs2aObjectMapper();
+        xs2aObjectMapper = new Xs2aObjectMapper();
         ErrorBuildingService errorService = new ErrorBuildingServiceMock(ErrorType.PIS_400);
         messageError = new MessageError(ErrorType.PIS_400);
         fieldExtractor = new FieldExtractor(errorService, xs2aObjectMapper);
@@ -125,6 +128,32 @@ class FieldExtractorTest {
         assertTrue(actualResult.isEmpty());
     }
 
+    @Test
+    void prefetchFields_Success() throws IOException {
+        JsonFieldQuery query = JsonFieldQuery.fields(FIELD_NAME, MONTHS_OF_EXECUTION_FIELD_NAME)
+                                   .withNestedFields(CURRENCY_FIELD_NAME);
+
+        fieldExtractor.prefetchFields(mockRequest, query);
+
+        assertEquals(Optional.of(FIELD_VALUE), fieldExtractor.extractField(mockRequest, FIELD_NAME, messageError));
+        assertEquals(getMonthsOfExecutionList(), fieldExtractor.extractList(mockRequest, MONTHS_OF_EXECUTION_FIELD_NAME, messageError));
+        assertEquals(getCurrencyList(), fieldExtractor.extractOptionalList(mockRequest, CURRENCY_FIELD_NAME));
+        assertTrue(messageError.getTppMessages().isEmpty());
+
+        ParsedRequestBody parsedRequestBody = ParsedRequestBody.fromRequest(mockRequest);
+        assertSame(parsedRequestBody.getFieldValues(xs2aObjectMapper, query),
+                   parsedRequestBody.getFieldValues(xs2aObjectMapper, JsonFieldQuery.nestedFields(CURRENCY_FIELD_NAME)));
+    }
+
+    @Test
+    void prefetchFields_Exception() {
+        fieldExtractor.prefetchFields(mockedRequest, JsonFieldQuery.fields(FIELD_NAME));
+
+        Optional<String> actualResult = fieldExtractor.extractField(mockedRequest, FIELD_NAME, messageError);
+        assertFalse(actualResult.isPresent());
+        assertEquals(DESERIALIZATION_ERROR, messageError);
+    }
+
     private List<String> getCurrencyList() {
         List<String> currencyList = new ArrayList<>();
         currencyList.add("EUR");
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2018-2024 adorsys GmbH & Co KG
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ *
+ * This project is also available under a separate commercial license. You can
+ * contact us at sales@adorsys.com.
+ */
+
+package de.adorsys.psd2.mapper;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+
+import java.util.*;
+
+/**
+ * Names of JSON fields to be extracted by {@link Xs2aObjectMapper} in one pass over the JSON content
+ * <p>
+ * Fields are looked up among the properties of the root JSON object and their values are kept for typed reading.
+ * Nested fields are looked up at any depth and only their text values are collected.
+ */
+@Value
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class JsonFieldQuery {
+    Set<String> fieldNames;
+    Set<String> nestedFieldNames;
+
+    /**
+     * Creates query for the fields of the root JSON object
+     *
+     * @param fieldNames names of the fields
+     * @return new query
+     */
+    public static JsonFieldQuery fields(String... fieldNames) {
+        return fields(Arrays.asList(fieldNames));
+    }
+
+    /**
+     * Creates query for the fields of the root JSON object
+     *
+     * @param fieldNames names of the fields
+     * @return new query
+     */
+    public static JsonFieldQuery fields(Collection<String> fieldNames) {
+        return new JsonFieldQuery(toSet(fieldNames), Collections.emptySet());
+    }
+
+    /**
+     * Creates query for the fields at any depth of the JSON content
+     *
+     * @param nestedFieldNames names of the fields
+     * @return new query
+     */
+    public static JsonFieldQuery nestedFields(String... nestedFieldNames) {
+        return new JsonFieldQuery(Collections.emptySet(), toSet(Arrays.asList(nestedFieldNames)));
+    }
+
+    /**
+     * Creates query for the fields of this query and given fields at any depth of the JSON content
+     *
+     * @param nestedFieldNames names of the nested fields
+     * @return new query
+     */
+    public JsonFieldQuery withNestedFields(String... nestedFieldNames) {
+        Set<String> names = new HashSet<>(this.nestedFieldNames);
+        names.addAll(Arrays.asList(nestedFieldNames));
+        return new JsonFieldQuery(fieldNames, Collections.unmodifiableSet(names));
+    }
+
+    /**
+     * Checks whether all fields of given query are also extracted by this query
+     *
+     * @param query query to be checked
+     * @return <code>true</code> if values extracted by this query contain all values of given query
+     */
+    public boolean covers(JsonFieldQuery query) {
+        return fieldNames.containsAll(query.fieldNames)
+                   && nestedFieldNames.containsAll(query.nestedFieldNames);
+    }
+
+    private static Set<String> toSet(Collection<String> names) {
+        return Collections.unmodifiableSet(new HashSet<>(names));
+    }
+}
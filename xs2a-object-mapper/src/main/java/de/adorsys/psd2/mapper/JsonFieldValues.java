@@ -0,0 +1,116 @@
+/*
+ * Copyright 2018-2024 adorsys GmbH & Co KG
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ *
+ * This project is also available under a separate commercial license. You can
+ * contact us at sales@adorsys.com.
+ */
+
+package de.adorsys.psd2.mapper;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * Values of JSON fields, extracted by {@link Xs2aObjectMapper} for given {@link JsonFieldQuery}
+ * <p>
+ * Values of the root object fields are kept as token sequences and are mapped to the target type only on request.
+ */
+public class JsonFieldValues {
+    private final ObjectCodec codec;
+    private final JsonFieldQuery query;
+    private final Map<String, TokenBuffer> fields = new HashMap<>();
+    private final Map<String, List<String>> nestedValues = new HashMap<>();
+
+    JsonFieldValues(ObjectCodec codec, JsonFieldQuery query) {
+        this.codec = codec;
+        this.query = query;
+    }
+
+    public JsonFieldQuery getQuery() {
+        return query;
+    }
+
+    /**
+     * Maps value of the root object field to the given type
+     *
+     * @param fieldName     name of the field
+     * @param typeReference type reference of the field
+     * @param <T>           type of the field
+     * @return value of the field, if it is present and is not <code>null</code>
+     * @throws IOException if the value couldn't be mapped to the given type
+     */
+    public <T> Optional<T> getField(String fieldName, TypeReference<T> typeReference) throws IOException {
+        TokenBuffer value = fields.get(fieldName);
+        if (value == null) {
+            return Optional.empty();
+        }
+
+        try (JsonParser parser = value.asParser(codec)) {
+            T fieldValue = parser.readValueAs(typeReference);
+            return Optional.ofNullable(fieldValue);
+        }
+    }
+
+    /**
+     * Returns text values of the elements of the root object field
+     *
+     * @param fieldName name of the field
+     * @return text values of the array elements or empty list if the field is not present or is not an array
+     * @throws IOException if the value couldn't be read
+     */
+    public List<String> getListValues(String fieldName) throws IOException {
+        List<String> values = new ArrayList<>();
+        TokenBuffer value = fields.get(fieldName);
+        if (value == null) {
+            return values;
+        }
+
+        try (JsonParser parser = value.asParser(codec)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                return values;
+            }
+
+            JsonToken token;
+            while ((token = parser.nextToken()) != null && token != JsonToken.END_ARRAY) {
+                values.add(Xs2aObjectMapper.getTextValue(parser));
+            }
+        }
+
+        return values;
+    }
+
+    /**
+     * Returns text values of the field found at any depth in the order of their occurrence
+     *
+     * @param fieldName name of the nested field
+     * @return text values of the field, empty text for object and array values
+     */
+    public List<String> getNestedValues(String fieldName) {
+        return new ArrayList<>(nestedValues.getOrDefault(fieldName, Collections.emptyList()));
+    }
+
+    void putField(String fieldName, TokenBuffer value) {
+        fields.put(fieldName, value);
+    }
+
+    void addNestedValue(String fieldName, String value) {
+        nestedValues.computeIfAbsent(fieldName, k -> new ArrayList<>()).add(value);
+    }
+}
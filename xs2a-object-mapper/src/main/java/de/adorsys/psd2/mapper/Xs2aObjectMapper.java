@@ -18,21 +18,21 @@
 
 package de.adorsys.psd2.mapper;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 import lombok.AllArgsConstructor;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 
 @AllArgsConstructor
 public class Xs2aObjectMapper extends ObjectMapper {
+    private static final String CONTAINER_TEXT_VALUE = "";
 
     public Xs2aObjectMapper(Xs2aObjectMapper src) {
         super(src);
@@ -48,31 +48,46 @@ public class Xs2aObjectMapper extends ObjectMapper {
      * @return value of the extracted field, if it was found in the valid JSON
      */
     public <T> Optional<T> toJsonField(InputStream stream, String fieldName, TypeReference<T> typeReference) throws IOException {
-            JsonNode jsonNode = readTree(stream);
-            JsonNode fieldNode = jsonNode.get(fieldName);
-
-            if (fieldNode == null) {
-                return Optional.empty();
-            }
-            T value = readValue(treeAsTokens(fieldNode), typeReference);
-            return Optional.ofNullable(value);
+        return extractFields(stream, JsonFieldQuery.fields(fieldName))
+                   .getField(fieldName, typeReference);
     }
 
     public List<String> toJsonGetValuesForField(InputStream stream, String fieldName) throws IOException {
-        JsonNode jsonNode = readTree(stream);
-        return new ArrayList<>(jsonNode.findValuesAsText(fieldName));
+        return extractFields(stream, JsonFieldQuery.nestedFields(fieldName))
+                   .getNestedValues(fieldName);
     }
 
     public List<String> toJsonGetListValuesForField(InputStream stream, String fieldName) throws IOException {
-        List<String> values = new ArrayList<>();
-        ArrayNode arrayNode = (ArrayNode) readTree(stream).get(fieldName);
-            if(arrayNode != null) {
-                Iterator<JsonNode> elements = arrayNode.elements();
-                while(elements.hasNext()) {
-                    values.add(elements.next().asText());
-                }
-            }
-        return values;
+        return extractFields(stream, JsonFieldQuery.fields(fieldName))
+                   .getListValues(fieldName);
+    }
+
+    /**
+     * Extracts fields of the given query from the JSON content in one pass without building the JSON tree
+     *
+     * @param stream input stream used to read JSON content
+     * @param query  fields to be extracted
+     * @return values of the extracted fields
+     * @throws IOException if the content is not a valid JSON
+     */
+    public JsonFieldValues extractFields(InputStream stream, JsonFieldQuery query) throws IOException {
+        try (JsonParser parser = getFactory().createParser(stream)) {
+            return extractFields(parser, query);
+        }
+    }
+
+    /**
+     * Extracts fields of the given query from the JSON content in one pass without building the JSON tree
+     *
+     * @param content JSON content
+     * @param query   fields to be extracted
+     * @return values of the extracted fields
+     * @throws IOException if the content is not a valid JSON
+     */
+    public JsonFieldValues extractFields(byte[] content, JsonFieldQuery query) throws IOException {
+        try (JsonParser parser = getFactory().createParser(content)) {
+            return extractFields(parser, query);
+        }
     }
 
     @Override
@@ -80,4 +95,81 @@ public class Xs2aObjectMapper extends ObjectMapper {
         _checkInvalidCopy(Xs2aObjectMapper.class);
         return new Xs2aObjectMapper(this);
     }
+
+    /**
+     * Returns text of the current scalar value the same way as JSON tree nodes do, skipping objects and arrays
+     */
+    static String getTextValue(JsonParser parser) throws IOException {
+        if (parser.currentToken().isStructStart()) {
+            parser.skipChildren();
+            return CONTAINER_TEXT_VALUE;
+        }
+
+        return parser.getText();
+    }
+
+    private JsonFieldValues extractFields(JsonParser parser, JsonFieldQuery query) throws IOException {
+        JsonFieldValues values = new JsonFieldValues(this, query);
+        JsonToken rootToken = parser.nextToken();
+        if (rootToken == JsonToken.START_OBJECT) {
+            scanObject(parser, query, values, true);
+        } else if (rootToken == JsonToken.START_ARRAY) {
+            scanValue(parser, query, values);
+        }
+
+        return values;
+    }
+
+    private void scanObject(JsonParser parser, JsonFieldQuery query, JsonFieldValues values, boolean root) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.currentName();
+            JsonToken valueToken = parser.nextToken();
+            boolean nestedField = query.getNestedFieldNames().contains(fieldName);
+
+            if (root && query.getFieldNames().contains(fieldName)) {
+                if (nestedField) {
+                    values.addNestedValue(fieldName, valueToken.isStructStart() ? CONTAINER_TEXT_VALUE : parser.getText());
+                }
+                TokenBuffer value = new TokenBuffer(parser);
+                value.copyCurrentStructure(parser);
+                values.putField(fieldName, value);
+                if (!nestedField && valueToken.isStructStart()) {
+                    scanBufferedValue(value, query, values);
+                }
+            } else if (nestedField) {
+                values.addNestedValue(fieldName, getTextValue(parser));
+            } else {
+                scanValue(parser, query, values);
+            }
+        }
+    }
+
+    private void scanValue(JsonParser parser, JsonFieldQuery query, JsonFieldValues values) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (!token.isStructStart()) {
+            return;
+        }
+
+        // Subtrees can contain only nested fields, so they are skipped without allocations if none are requested
+        if (query.getNestedFieldNames().isEmpty()) {
+            parser.skipChildren();
+        } else if (token == JsonToken.START_OBJECT) {
+            scanObject(parser, query, values, false);
+        } else {
+            while ((token = parser.nextToken()) != null && token != JsonToken.END_ARRAY) {
+                scanValue(parser, query, values);
+            }
+        }
+    }
+
+    private void scanBufferedValue(TokenBuffer value, JsonFieldQuery query, JsonFieldValues values) throws IOException {
+        if (query.getNestedFieldNames().isEmpty()) {
+            return;
+        }
+
+        try (JsonParser parser = value.asParser(this)) {
+            parser.nextToken();
+            scanValue(parser, query, values);
+        }
+    }
 }
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2018-2024 adorsys GmbH & Co KG
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ *
+ * This project is also available under a separate commercial license. You can
+ * contact us at sales@adorsys.com.
+ */
+
+package de.adorsys.psd2.mapper;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonFieldQueryTest {
+    private static final String FIELD_NAME = "someField";
+    private static final String OTHER_FIELD_NAME = "someOtherField";
+    private static final String NESTED_FIELD_NAME = "nestedField";
+
+    @Test
+    void fields() {
+        // When
+        JsonFieldQuery query = JsonFieldQuery.fields(FIELD_NAME, OTHER_FIELD_NAME, FIELD_NAME);
+
+        // Then
+        assertEquals(new HashSet<>(Arrays.asList(FIELD_NAME, OTHER_FIELD_NAME)), query.getFieldNames());
+        assertTrue(query.getNestedFieldNames().isEmpty());
+        assertEquals(query, JsonFieldQuery.fields(Arrays.asList(OTHER_FIELD_NAME, FIELD_NAME)));
+    }
+
+    @Test
+    void withNestedFields() {
+        // Given
+        JsonFieldQuery query = JsonFieldQuery.fields(FIELD_NAME);
+
+        // When
+        JsonFieldQuery actualQuery = query.withNestedFields(NESTED_FIELD_NAME);
+
+        // Then
+        assertEquals(Collections.singleton(FIELD_NAME), actualQuery.getFieldNames());
+        assertEquals(Collections.singleton(NESTED_FIELD_NAME), actualQuery.getNestedFieldNames());
+        assertTrue(query.getNestedFieldNames().isEmpty());
+    }
+
+    @Test
+    void covers() {
+        // Given
+        JsonFieldQuery query = JsonFieldQuery.fields(FIELD_NAME, OTHER_FIELD_NAME)
+                                   .withNestedFields(NESTED_FIELD_NAME);
+
+        // Then
+        assertTrue(query.covers(query));
+        assertTrue(query.covers(JsonFieldQuery.fields(FIELD_NAME)));
+        assertTrue(query.covers(JsonFieldQuery.nestedFields(NESTED_FIELD_NAME)));
+        assertFalse(query.covers(JsonFieldQuery.fields(NESTED_FIELD_NAME)));
+        assertFalse(query.covers(JsonFieldQuery.nestedFields(FIELD_NAME)));
+        assertFalse(JsonFieldQuery.fields(FIELD_NAME).covers(query));
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright 2018-2024 adorsys GmbH & Co KG
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ *
+ * This project is also available under a separate commercial license. You can
+ * contact us at sales@adorsys.com.
+ */
+
+package de.adorsys.psd2.mapper;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class Xs2aObjectMapperExtractFieldsTest {
+    private static final String FIELD_NAME = "someField";
+    private static final String FIELD_VALUE = "some value";
+    private static final String OTHER_FIELD_NAME = "someOtherField";
+    private static final String OTHER_FIELD_VALUE = "another value";
+    private static final String NOT_EXISTING_FIELD_NAME = "unknownField";
+    private static final String NULL_FIELD_NAME = "nullField";
+    private static final String ARRAY_FIELD_NAME = "arrayField";
+    private static final String NESTED_FIELD_NAME = "nestedField";
+    private static final String NESTED_FIELD_VALUE_1 = "nested value 1";
+    private static final String NESTED_FIELD_VALUE_2 = "nested value 2";
+    private static final TypeReference<String> STRING_TYPE = new TypeReference<String>() {
+    };
+    private static final byte[] TEST_OBJECT = ("{"
+                                                   + "\"someField\":\"some value\","
+                                                   + "\"someOtherField\":\"another value\","
+                                                   + "\"nullField\":null,"
+                                                   + "\"arrayField\":[\"one\",2,{\"nestedField\":\"ignored\"}],"
+                                                   + "\"nestedObject\":{\"nestedField\":\"nested value 1\"},"
+                                                   + "\"anotherNestedObject\":{\"nestedField\":\"nested value 2\"}"
+                                                   + "}").getBytes(StandardCharsets.UTF_8);
+    private static final byte[] MALFORMED_OBJECT = "Some non-json file".getBytes(StandardCharsets.UTF_8);
+
+    private final Xs2aObjectMapper xs2aObjectMapper = new Xs2aObjectMapper();
+
+    @Test
+    void extractFields_severalFields() throws IOException {
+        // Given
+        JsonFieldQuery query = JsonFieldQuery.fields(FIELD_NAME, OTHER_FIELD_NAME, NULL_FIELD_NAME, NOT_EXISTING_FIELD_NAME);
+
+        // When
+        JsonFieldValues actualValues = xs2aObjectMapper.extractFields(TEST_OBJECT, query);
+
+        // Then
+        assertSame(query, actualValues.getQuery());
+        assertEquals(Optional.of(FIELD_VALUE), actualValues.getField(FIELD_NAME, STRING_TYPE));
+        assertEquals(Optional.of(OTHER_FIELD_VALUE), actualValues.getField(OTHER_FIELD_NAME, STRING_TYPE));
+        assertFalse(actualValues.getField(NULL_FIELD_NAME, STRING_TYPE).isPresent());
+        assertFalse(actualValues.getField(NOT_EXISTING_FIELD_NAME, STRING_TYPE).isPresent());
+    }
+
+    @Test
+    void extractFields_fieldNotInQuery_shouldNotBeExtracted() throws IOException {
+        // When
+        JsonFieldValues actualValues = xs2aObjectMapper.extractFields(TEST_OBJECT, JsonFieldQuery.fields(FIELD_NAME));
+
+        // Then
+        assertFalse(actualValues.getField(OTHER_FIELD_NAME, STRING_TYPE).isPresent());
+    }
+
+    @Test
+    void extractFields_listValues() throws IOException {
+        // When
+        JsonFieldValues actualValues = xs2aObjectMapper.extractFields(TEST_OBJECT, JsonFieldQuery.fields(ARRAY_FIELD_NAME, FIELD_NAME));
+
+        // Then
+        assertEquals(Arrays.asList("one", "2", ""), actualValues.getListValues(ARRAY_FIELD_NAME));
+        assertTrue(actualValues.getListValues(FIELD_NAME).isEmpty());
+        assertTrue(actualValues.getListValues(NOT_EXISTING_FIELD_NAME).isEmpty());
+    }
+
+    @Test
+    void extractFields_nestedValues() throws IOException {
+        // When
+        JsonFieldValues actualValues = xs2aObjectMapper.extractFields(TEST_OBJECT, JsonFieldQuery.nestedFields(NESTED_FIELD_NAME));
+
+        // Then
+        assertEquals(Arrays.asList("ignored", NESTED_FIELD_VALUE_1, NESTED_FIELD_VALUE_2), actualValues.getNestedValues(NESTED_FIELD_NAME));
+        assertTrue(actualValues.getNestedValues(NOT_EXISTING_FIELD_NAME).isEmpty());
+    }
+
+    @Test
+    void extractFields_nestedFieldsInArrays() throws IOException {
+        // Given
+        byte[] content = ("{\"payments\":[{\"amount\":{\"currency\":\"EUR\",\"value\":10}},"
+                              + "{\"amount\":{\"currency\":\"USD\",\"value\":20}}],"
+                              + "\"currency\":{\"code\":\"ignored\"}}").getBytes(StandardCharsets.UTF_8);
+
+        // When
+        JsonFieldValues actualValues = xs2aObjectMapper.extractFields(content, JsonFieldQuery.nestedFields("currency", "value"));
+
+        // Then
+        assertEquals(Arrays.asList("EUR", "USD", ""), actualValues.getNestedValues("currency"));
+        assertEquals(Arrays.asList("10", "20"), actualValues.getNestedValues("value"));
+    }
+
+    @Test
+    void extractFields_rootAndNestedFields() throws IOException {
+        // Given
+        JsonFieldQuery query = JsonFieldQuery.fields(ARRAY_FIELD_NAME)
+                                   .withNestedFields(NESTED_FIELD_NAME);
+
+        // When
+        JsonFieldValues actualValues = xs2aObjectMapper.extractFields(TEST_OBJECT, query);
+
+        // Then
+        assertEquals(Arrays.asList("one", "2", ""), actualValues.getListValues(ARRAY_FIELD_NAME));
+        assertEquals(Arrays.asList("ignored", NESTED_FIELD_VALUE_1, NESTED_FIELD_VALUE_2), actualValues.getNestedValues(NESTED_FIELD_NAME));
+    }
+
+    @Test
+    void extractFields_inputStream() throws IOException {
+        JsonFieldValues actualValues;
+        try (InputStream stream = new ByteArrayInputStream(TEST_OBJECT)) {
+            // When
+            actualValues = xs2aObjectMapper.extractFields(stream, JsonFieldQuery.fields(FIELD_NAME));
+        }
+
+        // Then
+        assertEquals(Optional.of(FIELD_VALUE), actualValues.getField(FIELD_NAME, STRING_TYPE));
+    }
+
+    @Test
+    void extractFields_emptyContent() throws IOException {
+        // When
+        JsonFieldValues actualValues = xs2aObjectMapper.extractFields(new byte[0], JsonFieldQuery.fields(FIELD_NAME));
+
+        // Then
+        assertFalse(actualValues.getField(FIELD_NAME, STRING_TYPE).isPresent());
+    }
+
+    @Test
+    void extractFields_malformedObject() {
+        // Given
+        JsonFieldQuery query = JsonFieldQuery.fields(FIELD_NAME);
+
+        // When
+        // Then
+        assertThrows(IOException.class, () -> xs2aObjectMapper.extractFields(MALFORMED_OBJECT, query));
+    }
+
+    @Test
+    void extractFields_malformedAfterExtractedField() {
+        // Given
+        byte[] content = "{\"someField\":\"some value\",\"someOtherField\":}".getBytes(StandardCharsets.UTF_8);
+        JsonFieldQuery query = JsonFieldQuery.fields(FIELD_NAME);
+
+        // When
+        // Then
+        assertThrows(IOException.class, () -> xs2aObjectMapper.extractFields(content, query));
+    }
+
+    @Test
+    void toJsonField() throws IOException {
+        Optional<String> actualValue;
+        try (InputStream stream = new ByteArrayInputStream(TEST_OBJECT)) {
+            // When
+            actualValue = xs2aObjectMapper.toJsonField(stream, FIELD_NAME, STRING_TYPE);
+        }
+
+        // Then
+        assertEquals(Optional.of(FIELD_VALUE), actualValue);
+    }
+
+    @Test
+    void toJsonGetValuesForField() throws IOException {
+        List<String> actualValue;
+        try (InputStream stream = new ByteArrayInputStream(TEST_OBJECT)) {
+            // When
+            actualValue = xs2aObjectMapper.toJsonGetValuesForField(stream, NESTED_FIELD_NAME);
+        }
+
+        // Then
+        assertEquals(Arrays.asList("ignored", NESTED_FIELD_VALUE_1, NESTED_FIELD_VALUE_2), actualValue);
+    }
+
+    @Test
+    void toJsonGetListValuesForField() throws IOException {
+        List<String> actualValue;
+        try (InputStream stream = new ByteArrayInputStream(TEST_OBJECT)) {
+            // When
+            actualValue = xs2aObjectMapper.toJsonGetListValuesForField(stream, ARRAY_FIELD_NAME);
+        }
+
+        // Then
+        assertEquals(Arrays.asList("one", "2", ""), actualValue);
+    }
+
+    @Test
+    void toJsonGetListValuesForField_unknownField() throws IOException {
+        List<String> actualValue;
+        try (InputStream stream = new ByteArrayInputStream(TEST_OBJECT)) {
+            // When
+            actualValue = xs2aObjectMapper.toJsonGetListValuesForField(stream, NOT_EXISTING_FIELD_NAME);
+        }
+
+        // Then
+        assertEquals(Collections.emptyList(), actualValue);
+    }
+}
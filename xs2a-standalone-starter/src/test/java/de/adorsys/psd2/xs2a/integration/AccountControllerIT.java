@@ -22,6 +22,7 @@ package de.adorsys.psd2.xs2a.integration;
 
 import de.adorsys.psd2.aspsp.profile.service.AspspProfileService;
 import de.adorsys.psd2.consent.api.CmsResponse;
+import de.adorsys.psd2.consent.api.ais.AisConsentAccessResponse;
 import de.adorsys.psd2.consent.api.ais.CmsConsent;
 import de.adorsys.psd2.consent.api.service.AisConsentServiceEncrypted;
 import de.adorsys.psd2.consent.api.service.ConsentServiceEncrypted;
@@ -159,9 +160,11 @@ class AccountControllerIT {
         given(consentServiceEncrypted.getConsentById(CONSENT_ID)).willReturn(CmsResponse.<CmsConsent>builder()
                                                                                  .payload(cmsConsent)
                                                                                  .build());
+        givenConsentAccess(cmsConsent);
         given(consentRestTemplate.postForEntity(anyString(), any(EventBO.class), eq(Boolean.class)))
             .willReturn(new ResponseEntity<>(true, HttpStatus.OK));
         given(aspspConsentDataProviderFactory.getSpiAspspDataProviderFor(CONSENT_ID)).willReturn(aspspConsentDataProvider);
+        given(aspspConsentDataProviderFactory.getSpiAspspDataProviderFor(CONSENT_ID, null)).willReturn(aspspConsentDataProvider);
         given(tppService.updateTppInfo(any(TppInfo.class)))
             .willReturn(CmsResponse.<Boolean>builder()
                             .payload(true)
@@ -243,6 +246,7 @@ class AccountControllerIT {
         given(consentServiceEncrypted.getConsentById(CONSENT_ID)).willReturn(CmsResponse.<CmsConsent>builder()
                                                                                  .payload(cmsConsent)
                                                                                  .build());
+        givenConsentAccess(cmsConsent);
         given(aisConsentServiceEncrypted.updateAspspAccountAccess(eq(CONSENT_ID), any()))
             .willReturn(CmsResponse.<CmsConsent>builder()
                             .payload(cmsConsent)
@@ -276,6 +280,7 @@ class AccountControllerIT {
         given(consentServiceEncrypted.getConsentById(CONSENT_ID)).willReturn(CmsResponse.<CmsConsent>builder()
                                                                                  .payload(cmsConsent)
                                                                                  .build());
+        givenConsentAccess(cmsConsent);
 
         given(aisConsentServiceEncrypted.updateAspspAccountAccess(eq(CONSENT_ID), any()))
             .willReturn(CmsResponse.<CmsConsent>builder()
@@ -313,6 +318,7 @@ class AccountControllerIT {
             given(consentServiceEncrypted.getConsentById(CONSENT_ID)).willReturn(CmsResponse.<CmsConsent>builder()
                                                                                      .payload(cmsConsent)
                                                                                      .build());
+            givenConsentAccess(cmsConsent);
             given(aisConsentServiceEncrypted.updateAspspAccountAccess(eq(CONSENT_ID), any()))
                 .willReturn(CmsResponse.<CmsConsent>builder()
                                 .payload(cmsConsent)
@@ -337,6 +343,12 @@ class AccountControllerIT {
         }
     }
 
+    private void givenConsentAccess(CmsConsent cmsConsent) {
+        given(aisConsentServiceEncrypted.getConsentAccess(CONSENT_ID)).willReturn(CmsResponse.<AisConsentAccessResponse>builder()
+                                                                                     .payload(new AisConsentAccessResponse(cmsConsent, null))
+                                                                                     .build());
+    }
+
     @NotNull
     private Xs2aAccountDetails buildXs2aAccountDetails() {
         return new Xs2aAccountDetails("accountDetail", "y1", "y2", "y3", "y4",